@@ -58,6 +58,10 @@ public class TestEnvironment extends OpenMetadataPerformanceTestCase
         addProperty("maxSearchResults", performanceWorkPad.getMaxSearchResults());
         addProperty("waitBetweenScenarios", performanceWorkPad.getWaitBetweenScenarios());
         addProperty("profilesToSkip", performanceWorkPad.getProfilesToSkip());
+        addProperty("loadConcurrency", performanceWorkPad.getLoadConcurrency());
+        addProperty("loadRampUpSeconds", performanceWorkPad.getLoadRampUpSeconds());
+        addProperty("loadDurationSeconds", performanceWorkPad.getLoadDurationSeconds());
+        addProperty("loadReadPercentage", performanceWorkPad.getLoadReadPercentage());
     }
 
 
@@ -0,0 +1,176 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.load;
+
+
+/**
+ * Records the latencies of the calls to one operation so that percentiles can be reported without keeping every
+ * latency.  Latencies are recorded in microseconds into log-linear buckets: values below 64 have their own bucket and
+ * larger values share a bucket with the values that differ only after their six most significant bits, which keeps
+ * the error of each percentile below about 3%.
+ * <p>
+ * A histogram is not thread safe.  Each load thread records into its own histograms and they are added
+ * together at the end of the run.
+ * </p>
+ */
+class LatencyHistogram
+{
+    private static final int subBucketBits  = 5;
+    private static final int subBucketCount = 1 << subBucketBits;       // 32
+    private static final int linearLimit    = subBucketCount * 2;       // 64
+    private static final int bucketCount    = linearLimit + (Long.SIZE - subBucketBits - 1) * subBucketCount;
+
+    private final long[] counts = new long[bucketCount];
+
+    private long totalCount = 0;
+    private long errorCount = 0;
+    private long maxValue   = 0;
+
+
+    /**
+     * Record the latency of a successful call.
+     *
+     * @param latencyNanos elapsed time of the call in nanoseconds
+     */
+    void recordLatency(long latencyNanos)
+    {
+        long micros = Math.max(latencyNanos / 1000, 0);
+
+        counts[getBucketIndex(micros)]++;
+        totalCount++;
+
+        if (micros > maxValue)
+        {
+            maxValue = micros;
+        }
+    }
+
+
+    /**
+     * Record a call that failed.  Failed calls are counted but their latency is not included in the percentiles.
+     */
+    void recordError()
+    {
+        errorCount++;
+    }
+
+
+    /**
+     * Add the values recorded in another histogram to this one.
+     *
+     * @param other histogram to add
+     */
+    void add(LatencyHistogram other)
+    {
+        for (int i = 0; i < bucketCount; i++)
+        {
+            counts[i] += other.counts[i];
+        }
+
+        totalCount += other.totalCount;
+        errorCount += other.errorCount;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+
+    /**
+     * Return the number of successful calls recorded.
+     *
+     * @return count
+     */
+    long getTotalCount()
+    {
+        return totalCount;
+    }
+
+
+    /**
+     * Return the number of failed calls recorded.
+     *
+     * @return count
+     */
+    long getErrorCount()
+    {
+        return errorCount;
+    }
+
+
+    /**
+     * Return the largest latency recorded.
+     *
+     * @return latency in microseconds
+     */
+    long getMaxValue()
+    {
+        return maxValue;
+    }
+
+
+    /**
+     * Return the latency that the requested percentage of the successful calls completed within.
+     *
+     * @param percentile percentile to return (0-100)
+     * @return latency in microseconds (the upper bound of the bucket that holds the percentile)
+     */
+    long getValueAtPercentile(double percentile)
+    {
+        if (totalCount == 0)
+        {
+            return 0;
+        }
+
+        long targetCount = Math.max((long) Math.ceil(percentile / 100.0 * totalCount), 1);
+        long runningCount = 0;
+
+        for (int i = 0; i < bucketCount; i++)
+        {
+            runningCount += counts[i];
+
+            if (runningCount >= targetCount)
+            {
+                return Math.min(getBucketUpperBound(i), maxValue);
+            }
+        }
+
+        return maxValue;
+    }
+
+
+    /**
+     * Return the bucket that a value is recorded in.
+     *
+     * @param value value in microseconds
+     * @return bucket index
+     */
+    private static int getBucketIndex(long value)
+    {
+        if (value < linearLimit)
+        {
+            return (int) value;
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - subBucketBits;
+
+        return linearLimit + (shift - 1) * subBucketCount + (int) ((value >>> shift) - subBucketCount);
+    }
+
+
+    /**
+     * Return the largest value that is recorded in a bucket.
+     *
+     * @param index bucket index
+     * @return value in microseconds
+     */
+    private static long getBucketUpperBound(int index)
+    {
+        if (index < linearLimit)
+        {
+            return index;
+        }
+
+        int  shift     = (index - linearLimit) / subBucketCount + 1;
+        long subBucket = (index - linearLimit) % subBucketCount + subBucketCount;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,425 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance.load;
+
+import org.odpi.openmetadata.conformance.tests.performance.OpenMetadataPerformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfile;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Test the throughput and latency of the repository when many requests are made at the same time.  A number of
+ * threads make a mix of read and update requests against the entities created by the earlier profiles for a fixed
+ * duration.  The threads are started gradually over the ramp-up time and only the requests made after the ramp-up
+ * are measured.  The latencies of each operation are gathered into a histogram so that the throughput and
+ * percentiles can be reported for each operation.
+ */
+public class TestConcurrentLoad extends OpenMetadataPerformanceTestCase
+{
+
+    private static final String TEST_CASE_ID   = "repository-concurrent-load-performance";
+    private static final String TEST_CASE_NAME = "Repository concurrent load performance test case";
+
+    private static final String A_FIND_ENTITIES     = TEST_CASE_ID + "-findEntities";
+    private static final String A_FIND_ENTITIES_MSG = "Repository performs search for unordered first instancesPerType instances of type: ";
+
+    private static final String A_LOAD     = TEST_CASE_ID + "-";
+    private static final String A_LOAD_MSG = "Repository completes requests under concurrent load for operation: ";
+
+    private static final String GET_ENTITY_DETAIL        = "getEntityDetail";
+    private static final String FIND_ENTITIES            = "findEntities";
+    private static final String UPDATE_ENTITY_PROPERTIES = "updateEntityProperties";
+
+    private final Collection<EntityDef> entityDefs;
+
+
+    /**
+     * An entity that the load threads can use.
+     */
+    private static class LoadTarget
+    {
+        private final EntityDef          entityDef;
+        private final String             guid;
+        private final InstanceProperties updateProperties;
+
+        LoadTarget(EntityDef          entityDef,
+                   String             guid,
+                   InstanceProperties updateProperties)
+        {
+            this.entityDef = entityDef;
+            this.guid = guid;
+            this.updateProperties = updateProperties;
+        }
+    }
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDefs types of valid entities
+     */
+    public TestConcurrentLoad(PerformanceWorkPad    workPad,
+                              Collection<EntityDef> entityDefs)
+    {
+        super(workPad, PerformanceProfile.CONCURRENT_LOAD.getProfileId());
+
+        this.entityDefs = entityDefs;
+
+        super.updateTestId(TEST_CASE_ID, TEST_CASE_ID, TEST_CASE_NAME);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+
+        int concurrency    = Math.max(performanceWorkPad.getLoadConcurrency(), 1);
+        int readPercentage = Math.min(Math.max(performanceWorkPad.getLoadReadPercentage(), 0), 100);
+
+        List<LoadTarget> readTargets   = new ArrayList<>();
+        List<LoadTarget> updateTargets = new ArrayList<>();
+
+        getLoadTargets(metadataCollection, readTargets, updateTargets);
+
+        List<String> methodsToSkip  = performanceWorkPad.getMethodsToSkip();
+        List<String> readOperations = new ArrayList<>();
+
+        if (!methodsToSkip.contains(GET_ENTITY_DETAIL)) {
+            readOperations.add(GET_ENTITY_DETAIL);
+        }
+        if (!methodsToSkip.contains(FIND_ENTITIES)) {
+            readOperations.add(FIND_ENTITIES);
+        }
+        if (methodsToSkip.contains(UPDATE_ENTITY_PROPERTIES)) {
+            updateTargets.clear();
+        }
+
+        if (readTargets.isEmpty() || (readOperations.isEmpty() && updateTargets.isEmpty())) {
+            super.setSuccessMessage("No entities available for the concurrent load performance tests");
+            return;
+        }
+
+        long rampUpNanos   = TimeUnit.SECONDS.toNanos(Math.max(performanceWorkPad.getLoadRampUpSeconds(), 0));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Math.max(performanceWorkPad.getLoadDurationSeconds(), 1));
+        long loadStart     = System.nanoTime();
+        long measureStart  = loadStart + rampUpNanos;
+        long measureEnd    = measureStart + durationNanos;
+
+        List<LoadWorker> workers = new ArrayList<>();
+        List<Thread>     threads = new ArrayList<>();
+
+        for (int i = 0; i < concurrency; i++) {
+            LoadWorker worker = new LoadWorker(metadataCollection,
+                    readTargets,
+                    updateTargets,
+                    readOperations,
+                    readPercentage,
+                    loadStart + (rampUpNanos * i / concurrency),
+                    measureStart,
+                    measureEnd);
+            Thread thread = new Thread(worker, TEST_CASE_ID + "-" + i);
+            thread.setDaemon(true);
+            workers.add(worker);
+            threads.add(thread);
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        reportResults(workers, concurrency, readPercentage, durationNanos);
+
+        super.setSuccessMessage("Concurrent load performance tests complete with " + concurrency + " threads");
+    }
+
+
+    /**
+     * Find the entities for the load threads to use.  Every entity found can be read; those homed in the technology
+     * under test with properties that can be generated can also be updated.
+     *
+     * @param metadataCollection through which to call findEntities
+     * @param readTargets entities to read
+     * @param updateTargets entities to update
+     * @throws Exception on any errors
+     */
+    private void getLoadTargets(OMRSMetadataCollection metadataCollection,
+                                List<LoadTarget>       readTargets,
+                                List<LoadTarget>       updateTargets) throws Exception
+    {
+        int    numInstances            = super.getInstancesPerType();
+        String tutMetadataCollectionId = performanceWorkPad.getTutMetadataCollectionId();
+
+        for (EntityDef entityDef : entityDefs) {
+            try {
+                long start = System.nanoTime();
+                List<EntityDetail> entities = metadataCollection.findEntities(workPad.getLocalServerUserId(),
+                        entityDef.getGUID(),
+                        null,
+                        null,
+                        0,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        numInstances);
+                long elapsedTime = (System.nanoTime() - start) / 1000000;
+                assertCondition(true,
+                        A_FIND_ENTITIES,
+                        A_FIND_ENTITIES_MSG + entityDef.getName(),
+                        PerformanceProfile.ENTITY_SEARCH.getProfileId(),
+                        null,
+                        FIND_ENTITIES,
+                        elapsedTime);
+                if (entities != null) {
+                    for (int i = 0; i < entities.size(); i++) {
+                        EntityDetail entity = entities.get(i);
+                        InstanceProperties updateProperties = null;
+                        if (Objects.equals(tutMetadataCollectionId, entity.getMetadataCollectionId())) {
+                            updateProperties = super.getAllPropertiesForInstance(workPad.getLocalServerUserId(), entityDef, i);
+                        }
+                        LoadTarget target = new LoadTarget(entityDef, entity.getGUID(), updateProperties);
+                        readTargets.add(target);
+                        if (updateProperties != null) {
+                            updateTargets.add(target);
+                        }
+                    }
+                }
+            } catch (FunctionNotSupportedException exception) {
+                super.addNotSupportedAssertion(A_FIND_ENTITIES,
+                        A_FIND_ENTITIES_MSG + entityDef.getName(),
+                        PerformanceProfile.ENTITY_SEARCH.getProfileId(),
+                        null);
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Combine the histograms from the load threads and record the throughput and latency percentiles of each
+     * operation as discovered properties.
+     *
+     * @param workers load threads
+     * @param concurrency number of load threads
+     * @param readPercentage percentage of requests that were reads
+     * @param durationNanos length of the measured period
+     * @throws Exception an operation had no successful requests
+     */
+    private void reportResults(List<LoadWorker> workers,
+                               int              concurrency,
+                               int              readPercentage,
+                               long             durationNanos) throws Exception
+    {
+        Map<String, LatencyHistogram> results = new TreeMap<>();
+        LatencyHistogram              total   = new LatencyHistogram();
+        double                        seconds = durationNanos / 1000000000.0;
+
+        for (LoadWorker worker : workers) {
+            for (Map.Entry<String, LatencyHistogram> entry : worker.histograms.entrySet()) {
+                results.computeIfAbsent(entry.getKey(), operation -> new LatencyHistogram()).add(entry.getValue());
+                total.add(entry.getValue());
+            }
+        }
+
+        addDiscoveredProperty("loadConcurrency", concurrency, PerformanceProfile.CONCURRENT_LOAD.getProfileId(), null);
+        addDiscoveredProperty("loadReadPercentage", readPercentage, PerformanceProfile.CONCURRENT_LOAD.getProfileId(), null);
+        addDiscoveredProperty("loadDurationSeconds", seconds, PerformanceProfile.CONCURRENT_LOAD.getProfileId(), null);
+        addDiscoveredProperty("allOperations", getStatistics(total, seconds), PerformanceProfile.CONCURRENT_LOAD.getProfileId(), null);
+
+        for (Map.Entry<String, LatencyHistogram> entry : results.entrySet()) {
+            addDiscoveredProperty(entry.getKey(), getStatistics(entry.getValue(), seconds), PerformanceProfile.CONCURRENT_LOAD.getProfileId(), null);
+        }
+
+        for (Map.Entry<String, LatencyHistogram> entry : results.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            assertCondition(histogram.getTotalCount() > 0,
+                    A_LOAD + entry.getKey(),
+                    A_LOAD_MSG + entry.getKey() + " (" + histogram.getTotalCount() + " requests, " + histogram.getErrorCount() + " errors)",
+                    PerformanceProfile.CONCURRENT_LOAD.getProfileId(),
+                    null);
+        }
+    }
+
+
+    /**
+     * Return the statistics for an operation.  Latencies are in milliseconds.
+     *
+     * @param histogram latencies of the operation
+     * @param seconds length of the measured period
+     * @return map of statistic name to value
+     */
+    private Map<String, Object> getStatistics(LatencyHistogram histogram,
+                                              double           seconds)
+    {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+
+        statistics.put("requests", histogram.getTotalCount());
+        statistics.put("errors", histogram.getErrorCount());
+        statistics.put("throughputPerSecond", Math.round(histogram.getTotalCount() / seconds * 100) / 100.0);
+        statistics.put("p50", toMillis(histogram.getValueAtPercentile(50)));
+        statistics.put("p95", toMillis(histogram.getValueAtPercentile(95)));
+        statistics.put("p99", toMillis(histogram.getValueAtPercentile(99)));
+        statistics.put("max", toMillis(histogram.getMaxValue()));
+
+        return statistics;
+    }
+
+
+    /**
+     * Convert a latency from microseconds to milliseconds.
+     *
+     * @param micros latency in microseconds
+     * @return latency in milliseconds
+     */
+    private static double toMillis(long micros)
+    {
+        return micros / 1000.0;
+    }
+
+
+    /**
+     * A load thread.  It waits for its start time and then makes requests until the end of the measured period.
+     * Only the requests that start within the measured period are recorded.
+     */
+    private class LoadWorker implements Runnable
+    {
+        private final OMRSMetadataCollection        metadataCollection;
+        private final List<LoadTarget>              readTargets;
+        private final List<LoadTarget>              updateTargets;
+        private final List<String>                  readOperations;
+        private final int                           readPercentage;
+        private final long                          startTime;
+        private final long                          measureStart;
+        private final long                          measureEnd;
+        private final Map<String, LatencyHistogram> histograms = new HashMap<>();
+
+
+        LoadWorker(OMRSMetadataCollection metadataCollection,
+                   List<LoadTarget>       readTargets,
+                   List<LoadTarget>       updateTargets,
+                   List<String>           readOperations,
+                   int                    readPercentage,
+                   long                   startTime,
+                   long                   measureStart,
+                   long                   measureEnd)
+        {
+            this.metadataCollection = metadataCollection;
+            this.readTargets = readTargets;
+            this.updateTargets = updateTargets;
+            this.readOperations = readOperations;
+            this.readPercentage = readPercentage;
+            this.startTime = startTime;
+            this.measureStart = measureStart;
+            this.measureEnd = measureEnd;
+        }
+
+
+        /**
+         * Make requests until the end of the measured period.
+         */
+        @Override
+        public void run()
+        {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            try {
+                long delay = startTime - System.nanoTime();
+                if (delay > 0) {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                }
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            while (!Thread.currentThread().isInterrupted()) {
+                long start = System.nanoTime();
+                if (start >= measureEnd) {
+                    return;
+                }
+
+                boolean read = updateTargets.isEmpty()
+                        || (!readOperations.isEmpty() && random.nextInt(100) < readPercentage);
+                String operation;
+                LoadTarget target;
+                if (read) {
+                    operation = readOperations.get(random.nextInt(readOperations.size()));
+                    target = readTargets.get(random.nextInt(readTargets.size()));
+                } else {
+                    operation = UPDATE_ENTITY_PROPERTIES;
+                    target = updateTargets.get(random.nextInt(updateTargets.size()));
+                }
+
+                boolean succeeded = callOperation(operation, target);
+                long elapsedTime = System.nanoTime() - start;
+
+                if (start >= measureStart) {
+                    LatencyHistogram histogram = histograms.computeIfAbsent(operation, name -> new LatencyHistogram());
+                    if (succeeded) {
+                        histogram.recordLatency(elapsedTime);
+                    } else {
+                        histogram.recordError();
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Make a single request.  Errors are counted rather than stopping the load since they are part of the
+         * behaviour of the repository under contention.
+         *
+         * @param operation name of the operation to call
+         * @param target entity to use
+         * @return whether the request succeeded
+         */
+        private boolean callOperation(String     operation,
+                                      LoadTarget target)
+        {
+            String userId = workPad.getLocalServerUserId();
+
+            try {
+                switch (operation) {
+                    case GET_ENTITY_DETAIL:
+                        return metadataCollection.getEntityDetail(userId, target.guid) != null;
+                    case FIND_ENTITIES:
+                        metadataCollection.findEntities(userId,
+                                target.entityDef.getGUID(),
+                                null,
+                                null,
+                                0,
+                                null,
+                                null,
+                                null,
+                                null,
+                                null,
+                                performanceWorkPad.getMaxSearchResults());
+                        return true;
+                    default:
+                        return metadataCollection.updateEntityProperties(userId,
+                                target.guid,
+                                target.updateProperties) != null;
+                }
+            } catch (Exception error) {
+                return false;
+            }
+        }
+    }
+}
@@ -149,6 +149,10 @@ public enum PerformanceProfile implements Serializable
             "Performance tests for the technology under test's ability to purge entities.",
             "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/entity-purge",
             OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    CONCURRENT_LOAD      (33, "Concurrent load",
+            "Performance tests for the technology under test's throughput and latency when many requests are made at the same time.",
+            "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/concurrent-load",
+            OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
     ENVIRONMENT          (999, "Environment",
             "Information about the environment in which the performance tests were executed.",
             "https://odpi.github.io/egeria-docs/guides/cts/performance-profiles/environment",
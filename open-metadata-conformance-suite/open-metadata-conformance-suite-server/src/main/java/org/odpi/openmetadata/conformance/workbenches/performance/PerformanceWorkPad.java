@@ -32,6 +32,10 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
     private int                     waitBetweenScenarios        = 0;
     private List<String>            profilesToSkip              = Collections.emptyList();
     private List<String>            methodsToSkip               = Collections.emptyList();
+    private int                     loadConcurrency             = 0;
+    private int                     loadRampUpSeconds           = 0;
+    private int                     loadDurationSeconds         = 60;
+    private int                     loadReadPercentage          = 80;
 
     private OMRSRepositoryConnector tutRepositoryConnector      = null;
 
@@ -80,6 +84,10 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
             this.waitBetweenScenarios = configuration.getWaitBetweenScenarios();
             this.profilesToSkip = configuration.getProfilesToSkip();
             this.methodsToSkip  = configuration.getMethodsToSkip();
+            this.loadConcurrency = configuration.getLoadConcurrency();
+            this.loadRampUpSeconds = configuration.getLoadRampUpSeconds();
+            this.loadDurationSeconds = configuration.getLoadDurationSeconds();
+            this.loadReadPercentage = configuration.getLoadReadPercentage();
             super.tutName = this.tutServerName;
         }
     }
@@ -158,6 +166,47 @@ public class PerformanceWorkPad extends OpenMetadataConformanceWorkbenchWorkPad
         return methodsToSkip;
     }
 
+    /**
+     * Return the number of threads that send requests at the same time during the concurrent load profile.
+     * Zero means the concurrent load profile is not run.
+     *
+     * @return number of threads
+     */
+    public int getLoadConcurrency()
+    {
+        return loadConcurrency;
+    }
+
+    /**
+     * Return the amount of time (in seconds) over which the threads of the concurrent load profile are started.
+     *
+     * @return ramp-up time in seconds
+     */
+    public int getLoadRampUpSeconds()
+    {
+        return loadRampUpSeconds;
+    }
+
+    /**
+     * Return the amount of time (in seconds), after the ramp-up, for which the concurrent load is measured.
+     *
+     * @return duration in seconds
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+    /**
+     * Return the percentage of the requests in the concurrent load that are reads.  The rest are updates.
+     *
+     * @return percentage (0-100)
+     */
+    public int getLoadReadPercentage()
+    {
+        return loadReadPercentage;
+    }
+
     /**
      * Return the server type of the technology under test.  This is extracted from the registration
      * events.
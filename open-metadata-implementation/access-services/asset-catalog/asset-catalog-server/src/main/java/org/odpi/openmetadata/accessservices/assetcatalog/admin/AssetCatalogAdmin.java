@@ -122,6 +122,7 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
                 serverName,
                 enterpriseOMRSTopicConnector,
                 omrsTopicListener,
+                omrsTopicListener.getSubscription(),
                 auditLog);
     }
 
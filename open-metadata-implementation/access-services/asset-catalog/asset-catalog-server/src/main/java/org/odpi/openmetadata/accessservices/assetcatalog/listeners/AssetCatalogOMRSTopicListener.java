@@ -11,6 +11,7 @@ import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.converters.As
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
@@ -23,6 +24,8 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 /**
@@ -61,6 +64,30 @@ public class AssetCatalogOMRSTopicListener extends OMRSTopicListenerBase
             this.supportedTypesForSearch = supportedTypesForSearch;
     }
 
+    /**
+     * Returns the instance events that this listener processes so that the other events are not passed to it.
+     * These are the entity events for assets (including their subtypes) and the types supported for search.
+     *
+     * @return subscription for the enterprise topic
+     */
+    public OMRSTopicListenerSubscription getSubscription() {
+        List<String> typeNames = new ArrayList<>();
+
+        typeNames.add(ASSET_TYPE);
+
+        if (supportedTypesForSearch != null) {
+            typeNames.addAll(supportedTypesForSearch);
+        }
+
+        return new OMRSTopicListenerSubscription(serviceName, repositoryHelper, typeNames,
+                EnumSet.of(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                        OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                        OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                        OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                        OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                        OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT));
+    }
+
     /**
      * Unpack and deliver an instance event to the InstanceEventProcessor
      *
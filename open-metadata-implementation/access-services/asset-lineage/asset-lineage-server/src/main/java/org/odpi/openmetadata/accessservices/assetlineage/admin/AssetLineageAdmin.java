@@ -83,7 +83,7 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
                         assetLineageTypesValidator, auditLog);
 
                 super.registerWithEnterpriseTopic(accessServiceConfigurationProperties.getAccessServiceName(), serverName,
-                        enterpriseOMRSTopicConnector, omrsTopicListener, auditLog);
+                        enterpriseOMRSTopicConnector, omrsTopicListener, omrsTopicListener.getSubscription(), auditLog);
                 this.instance.setAssetLineagePublisher(omrsTopicListener.getPublisher());
             }
 
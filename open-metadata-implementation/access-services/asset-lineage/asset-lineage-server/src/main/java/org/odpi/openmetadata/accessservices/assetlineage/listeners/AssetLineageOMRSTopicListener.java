@@ -14,6 +14,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerSubscription;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
@@ -24,6 +25,8 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.EnumSet;
+
 import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants.LINEAGE_MAPPING;
 import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants.PROCESS;
 import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants.PROCESS_HIERARCHY;
@@ -67,6 +70,23 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         this.assetLineageTypesValidator = assetLineageTypesValidator;
     }
 
+    /**
+     * Returns the instance events that this listener processes so that the other events are not passed to it.
+     *
+     * @return subscription for the enterprise topic
+     */
+    public OMRSTopicListenerSubscription getSubscription() {
+        return new OMRSTopicListenerSubscription(serverName, null, null,
+                EnumSet.of(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                        OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                        OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                        OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                        OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                        OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                        OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                        OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT));
+    }
+
     /**
      * Returns the Asset Lineage Publisher
      *
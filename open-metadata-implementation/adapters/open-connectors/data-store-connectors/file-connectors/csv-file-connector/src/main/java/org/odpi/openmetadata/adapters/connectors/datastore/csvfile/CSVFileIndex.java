@@ -0,0 +1,248 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.datastore.csvfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+
+/**
+ * CSVFileIndex holds the offset of the start of each line in a CSV file so that any line can be read without
+ * reading the lines before it.  The file is memory-mapped and the index is built with a single pass over it.
+ * The index describes the file as it was when the index was built - isCurrent() detects that the file has been
+ * changed since.
+ * <p>
+ * Lines are ended by a new line, a carriage return or a carriage return followed by a new line.  In the same way
+ * as a java.util.Scanner reading the file line by line, any lines at the end of the file that only contain white
+ * space are not counted.
+ * </p>
+ */
+class CSVFileIndex
+{
+    /*
+     * Files are mapped in chunks since a single mapping is limited to 2GB.
+     */
+    private static final long chunkSize = 1L << 30;
+
+    private final long               lastModified;
+    private final long               fileLength;
+    private final Charset            charset;
+    private final MappedByteBuffer[] chunks;
+
+    /*
+     * Offset of the start of each line followed by the offset of the end of the last line.
+     */
+    private long[] lineOffsets;
+    private int    lineCount = 0;
+
+
+    /**
+     * Build the index for a file.
+     *
+     * @param file file to index
+     * @param charset character set used to decode the lines
+     * @throws IOException the file can not be read
+     */
+    CSVFileIndex(File    file,
+                 Charset charset) throws IOException
+    {
+        this.lastModified = file.lastModified();
+        this.fileLength   = file.length();
+        this.charset      = charset;
+
+        int chunkCount = (int)((fileLength + chunkSize - 1) / chunkSize);
+
+        this.chunks = new MappedByteBuffer[chunkCount];
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+        {
+            for (int chunk = 0; chunk < chunkCount; chunk++)
+            {
+                long chunkStart = chunk * chunkSize;
+
+                chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, Math.min(chunkSize, fileLength - chunkStart));
+            }
+        }
+
+        this.buildIndex();
+    }
+
+
+    /**
+     * Step through the file recording the start of each line.
+     */
+    private void buildIndex()
+    {
+        long[]  offsets             = new long[1024];
+        int     lines               = 0;
+        int     linesWithContent    = 0;
+        long    lineStart           = 0;
+        long    position            = 0;
+        boolean lineHasContent      = false;
+        boolean afterCarriageReturn = false;
+
+        for (MappedByteBuffer chunk : chunks)
+        {
+            ByteBuffer bytes = chunk.duplicate();
+
+            while (bytes.hasRemaining())
+            {
+                byte character = bytes.get();
+
+                position++;
+
+                if ((character == '\n') && (afterCarriageReturn))
+                {
+                    /*
+                     * The line was ended by the carriage return.
+                     */
+                    lineStart           = position;
+                    afterCarriageReturn = false;
+                }
+                else if ((character == '\n') || (character == '\r'))
+                {
+                    if (lines + 1 >= offsets.length)
+                    {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                    }
+
+                    offsets[lines] = lineStart;
+                    lines++;
+
+                    if (lineHasContent)
+                    {
+                        linesWithContent = lines;
+                        lineHasContent   = false;
+                    }
+
+                    lineStart           = position;
+                    afterCarriageReturn = (character == '\r');
+                }
+                else
+                {
+                    afterCarriageReturn = false;
+
+                    if (! isWhiteSpace(character))
+                    {
+                        lineHasContent = true;
+                    }
+                }
+            }
+        }
+
+        if (lineHasContent)
+        {
+            /*
+             * The last line does not have a line ending.
+             */
+            if (lines + 1 >= offsets.length)
+            {
+                offsets = Arrays.copyOf(offsets, offsets.length + 1);
+            }
+
+            offsets[lines] = lineStart;
+            lines++;
+            linesWithContent = lines;
+            lineStart        = fileLength;
+        }
+
+        if (linesWithContent == lines)
+        {
+            offsets[lines] = lineStart;
+        }
+
+        this.lineOffsets = offsets;
+        this.lineCount   = linesWithContent;
+    }
+
+
+    /**
+     * Test for the white space characters that Scanner skips.
+     *
+     * @param character byte from the file
+     * @return boolean flag
+     */
+    private static boolean isWhiteSpace(byte character)
+    {
+        return (character == ' ') || (character == '\t') || (character == 0x0B) || (character == '\f') ||
+               ((character >= 0x1C) && (character <= 0x1F));
+    }
+
+
+    /**
+     * Return the byte at an offset in the file.
+     *
+     * @param offset offset in the file
+     * @return byte
+     */
+    private byte getByte(long offset)
+    {
+        return chunks[(int)(offset / chunkSize)].get((int)(offset % chunkSize));
+    }
+
+
+    /**
+     * Determine whether the index still describes the file.
+     *
+     * @param file file that was indexed
+     * @return boolean flag
+     */
+    boolean isCurrent(File file)
+    {
+        return (file.lastModified() == lastModified) && (file.length() == fileLength);
+    }
+
+
+    /**
+     * Return the number of lines in the file.
+     *
+     * @return count
+     */
+    int getLineCount()
+    {
+        return lineCount;
+    }
+
+
+    /**
+     * Return a line from the file without its line ending.
+     *
+     * @param lineNumber number of the line - the first line is 0
+     * @return line contents
+     */
+    String getLine(int lineNumber)
+    {
+        long lineStart = lineOffsets[lineNumber];
+        long lineEnd   = lineOffsets[lineNumber + 1];
+
+        while ((lineEnd > lineStart) && ((getByte(lineEnd - 1) == '\n') || (getByte(lineEnd - 1) == '\r')))
+        {
+            lineEnd--;
+        }
+
+        byte[] lineBytes = new byte[(int)(lineEnd - lineStart)];
+        int    copied    = 0;
+
+        while (copied < lineBytes.length)
+        {
+            long       offset = lineStart + copied;
+            ByteBuffer chunk  = chunks[(int)(offset / chunkSize)].duplicate();
+
+            chunk.position((int)(offset % chunkSize));
+
+            int length = Math.min(chunk.remaining(), lineBytes.length - copied);
+
+            chunk.get(lineBytes, copied, length);
+            copied = copied + length;
+        }
+
+        return new String(lineBytes, charset);
+    }
+}
@@ -42,8 +42,7 @@ public interface CSVFileStore extends BasicFileStore
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.
      *
      * @return count
      * @throws FileException there is a problem accessing the file
@@ -74,4 +73,20 @@ public interface CSVFileStore extends BasicFileStore
      * @throws FileReadException unable to find, open or read the file, or the file does not include the requested record.
      */
     List<String>      readRecord(int  rowNumber) throws FileException, FileReadException;
+
+
+    /**
+     * Return a range of data records.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.  Fewer records than requested are returned if
+     * the end of the file is reached.
+     *
+     * @param startingRecordNumber number of the first record to return
+     * @param maximumRecords maximum number of records to return (0 means all the remaining records)
+     * @return list of records, each record is a list of column values.  The list is empty if the file does not
+     *         include the starting record.
+     * @throws FileException there is a problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the starting record number is negative.
+     */
+    List<List<String>> readRecords(int  startingRecordNumber,
+                                   int  maximumRecords) throws FileException, FileReadException;
 }
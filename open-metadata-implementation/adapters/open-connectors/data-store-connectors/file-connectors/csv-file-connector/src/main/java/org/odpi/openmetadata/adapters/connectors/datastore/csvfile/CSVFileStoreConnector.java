@@ -14,11 +14,14 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.util.*;
 
 
 /**
  * CSVFileStoreConnector works with structured files to retrieve simple tables of data.
+ * The first time the records are accessed, the connector builds an index of the start of each line in the file
+ * so that any record can be read directly.  The index is rebuilt if the file changes.
  */
 public class CSVFileStoreConnector extends BasicFileStoreConnector implements CSVFileStore
 {
@@ -28,6 +31,7 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>   columnNames       = null;
     private char           delimiterChar     = ',';
     private char           quoteChar         = '"';
+    private CSVFileIndex   fileIndex         = null;
 
     /*
      * Variables used for logging and debug.
@@ -127,8 +131,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
 
 
     /**
-     * Return the number of records in the file.  This is achieved by scanning the file and counting the records -
-     * not recommended for very large files.
+     * Return the number of records in the file.  This is taken from the index of the file, which is built
+     * by scanning the file the first time it is needed.
      *
      * @return count
      * @throws FileException problem accessing the file
@@ -138,31 +142,11 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     {
         final String  methodName = "getRecordCount";
 
-        long    rowCount = 0;
+        long    rowCount = getFileIndex(methodName).getLineCount();
 
-        File fileStore = getFile(methodName);
-
-        try (Scanner scanner  = new Scanner(fileStore))
-        {
-            while (scanner.hasNext())
-            {
-                scanner.nextLine();
-                rowCount ++;
-            }
-
-            if ((rowCount > 0) && (columnNames == null))
-            {
-                rowCount = rowCount - 1;
-            }
-        }
-        catch (IOException  error)
+        if ((rowCount > 0) && (columnNames == null))
         {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
+            rowCount = rowCount - 1;
         }
 
         return rowCount;
@@ -220,6 +204,49 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     }
 
 
+    /**
+     * Return a range of data records.  The first record is record 0.  If the first line of the file is the column
+     * names then record 0 is the line following the column names.  Fewer records than requested are returned if
+     * the end of the file is reached.
+     *
+     * @param startingRecordNumber number of the first record to return
+     * @param maximumRecords maximum number of records to return (0 means all the remaining records)
+     * @return list of records, each record is a list of column values.  The list is empty if the file does not
+     *         include the starting record.
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to find, open or read the file, or the starting record number is negative.
+     */
+    public List<List<String>> readRecords(int  startingRecordNumber,
+                                          int  maximumRecords) throws FileException, FileReadException
+    {
+        final String  methodName = "readRecords";
+
+        CSVFileIndex index    = getFileIndex(methodName);
+        int          firstRow = (columnNames == null) ? startingRecordNumber + 1 : startingRecordNumber;
+
+        if (startingRecordNumber < 0)
+        {
+            throwFileTooShort(startingRecordNumber, methodName);
+        }
+
+        int lastRow = index.getLineCount();
+
+        if ((maximumRecords > 0) && ((long)firstRow + maximumRecords < lastRow))
+        {
+            lastRow = firstRow + maximumRecords;
+        }
+
+        List<List<String>> records = new ArrayList<>();
+
+        for (int row = firstRow; row < lastRow; row++)
+        {
+            records.add(parseRecord(index.getLine(row)));
+        }
+
+        return records;
+    }
+
+
     /**
      * Return the requested row in the file.  The first record is record 0.
      *
@@ -232,42 +259,68 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
     private List<String>      readRow(int     recordLocation,
                                       String  methodName) throws FileException, FileReadException
     {
+        CSVFileIndex index = getFileIndex(methodName);
+
+        if ((recordLocation < 0) || (recordLocation >= index.getLineCount()))
+        {
+            throwFileTooShort(recordLocation, methodName);
+        }
+
+        return parseRecord(index.getLine(recordLocation));
+    }
 
+
+    /**
+     * Return the index of the lines in the file.  It is built the first time it is needed and rebuilt
+     * whenever the file changes.
+     *
+     * @param methodName name of calling method
+     * @return index
+     * @throws FileException problem accessing the file
+     * @throws FileReadException unable to read the file.
+     */
+    private synchronized CSVFileIndex getFileIndex(String  methodName) throws FileException, FileReadException
+    {
         File fileStore = super.getFile(methodName);
 
-        try (Scanner scanner = new Scanner(fileStore))
+        if ((fileIndex == null) || (! fileIndex.isCurrent(fileStore)))
         {
-
-            int rowCounter = 0;
-            while (scanner.hasNext())
+            try
             {
-                if (rowCounter == recordLocation)
-                {
-                    return parseRecord(scanner.nextLine());
-                }
-                else
-                {
-                    scanner.nextLine();
-                }
-                rowCounter ++;
+                fileIndex = new CSVFileIndex(fileStore, Charset.defaultCharset());
+            }
+            catch (IOException  error)
+            {
+                fileIndex = null;
+
+                throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
+                                                                                                                   error.getMessage()),
+                                            this.getClass().getName(),
+                                            methodName,
+                                            error,
+                                            fileStoreName);
             }
+        }
 
-            throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
-                                                                                                      Integer.toString(recordLocation)),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        fileStoreName);
+        return fileIndex;
+    }
 
-        }
-        catch (IOException  error)
-        {
-            throw new FileReadException(CSVFileConnectorErrorCode.UNEXPECTED_IO_EXCEPTION.getMessageDefinition(fileStoreName,
-                                                                                                               error.getMessage()),
-                                        this.getClass().getName(),
-                                        methodName,
-                                        error,
-                                        fileStoreName);
-        }
+
+    /**
+     * Throw an exception to indicate that the file does not include the requested record.
+     *
+     * @param recordLocation requested row
+     * @param methodName name of calling method
+     * @throws FileReadException the file is too short
+     */
+    private void throwFileTooShort(int     recordLocation,
+                                   String  methodName) throws FileReadException
+    {
+        throw new FileReadException(CSVFileConnectorErrorCode.FILE_TOO_SHORT.getMessageDefinition(fileStoreName,
+                                                                                                  Integer.toString(recordLocation)),
+                                    this.getClass().getName(),
+                                    methodName,
+                                    fileStoreName);
     }
 
 
@@ -369,6 +422,8 @@ public class CSVFileStoreConnector extends BasicFileStoreConnector implements CS
      */
     public void disconnect()
     {
+        fileIndex = null;
+
         try
         {
             super.disconnect();
@@ -10,8 +10,12 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -358,4 +362,72 @@ public class CSVFileStoreConnectorTest
             assertTrue(false);
         }
     }
+
+
+    @Test public void testReadRecords()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(resourcesDirectory + simpleColumnsWithColumnNamesFile));
+            connector.start();
+
+            int                recordCount = (int)connector.getRecordCount();
+            List<List<String>> allRecords  = connector.readRecords(0, 0);
+
+            assertEquals(allRecords.size(), recordCount);
+
+            for (int i=0; i<recordCount; i++)
+            {
+                assertEquals(allRecords.get(i), connector.readRecord(i));
+            }
+
+            List<List<String>> someRecords = connector.readRecords(5, 3);
+
+            assertEquals(someRecords.size(), 3);
+            assertEquals(someRecords.get(0), connector.readRecord(5));
+            assertEquals(someRecords.get(2), connector.readRecord(7));
+
+            assertEquals(connector.readRecords(recordCount - 1, 10).size(), 1);
+            assertTrue(connector.readRecords(recordCount, 10).isEmpty());
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false);
+        }
+    }
+
+
+    @Test public void testFileChange()
+    {
+        CSVFileStoreConnector connector = new CSVFileStoreConnector();
+
+        try
+        {
+            File testFile = File.createTempFile("CSVFileStoreConnectorTest", ".csv");
+
+            testFile.deleteOnExit();
+            Files.write(testFile.toPath(), "Name,Value\r\nA,1\r\nB,2\r\n".getBytes(StandardCharsets.UTF_8));
+
+            connector.initialize(UUID.randomUUID().toString(), getConnectionProperties(testFile.getPath()));
+            connector.start();
+
+            assertEquals(connector.getRecordCount(), 2);
+            assertEquals(connector.readRecord(1), Arrays.asList("B", "2"));
+
+            Files.write(testFile.toPath(), "Name,Value\nA,1\nB,2\nC,3".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(connector.getRecordCount(), 3);
+            assertEquals(connector.readRecord(2), Arrays.asList("C", "3"));
+
+            connector.disconnect();
+        }
+        catch (Throwable  error)
+        {
+            assertTrue(false);
+        }
+    }
 }
@@ -30,6 +30,11 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
     private final static String BOOLEAN_UC_FALSE  = "FALSE";
     private final static String BOOLEAN_LC_FALSE  = "false";
 
+    /*
+     * Number of records read from the file at a time.
+     */
+    private final static int    RECORD_BATCH_SIZE = 1000;
+
 
 
     /**
@@ -192,31 +197,32 @@ public class CSVDiscoveryService extends AuditableDiscoveryService
 
                 size = size + delimiterCount;
 
-                for (int recordNumber=0; recordNumber < recordCount ; recordNumber++)
+                for (int recordNumber=0; recordNumber < recordCount ; recordNumber = recordNumber + RECORD_BATCH_SIZE)
                 {
-                    List<String>  recordValues = assetConnector.readRecord(recordNumber);
-
-                    if ((recordValues != null) && (! recordValues.isEmpty()))
+                    for (List<String>  recordValues : assetConnector.readRecords(recordNumber, RECORD_BATCH_SIZE))
                     {
-                        int columnPosition = 0;
-                        int recordLength = 0;
-
-                        for (String fieldValue : recordValues)
+                        if ((recordValues != null) && (! recordValues.isEmpty()))
                         {
-                            DataField             dataField   = dataFields.get(columnPosition);
-                            DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
+                            int columnPosition = 0;
+                            int recordLength = 0;
 
-                            dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
+                            for (String fieldValue : recordValues)
+                            {
+                                DataField             dataField   = dataFields.get(columnPosition);
+                                DataProfileAnnotation dataProfile = dataProfiles.get(columnPosition);
 
-                            dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
-                            dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
+                                dataField.setDataFieldType(this.getDataFieldType(dataField.getDataFieldType(), fieldValue));
 
-                            recordLength = recordLength + fieldValue.length();
+                                dataProfile.setValueCount(this.getValueCount(dataProfile.getValueCount(), fieldValue));
+                                dataProfile.setValueList(this.getValueList(dataProfile.getValueList(), fieldValue));
 
-                            columnPosition++;
-                        }
+                                recordLength = recordLength + fieldValue.length();
+
+                                columnPosition++;
+                            }
 
-                        size = size + recordLength + delimiterCount;
+                            size = size + recordLength + delimiterCount;
+                        }
                     }
                 }
 
@@ -3,12 +3,15 @@
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
@@ -164,6 +167,10 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             	
             	}
 
+            	//Stop fetching events for the partitions whose worker threads have
+            	//a backlog.  They are still polled so the consumer stays alive.
+            	pauseBusyPartitions();
+
             	updateNextMaxPollTimestamp();
 
                 final Duration pollDuration = Duration.ofMillis(pollTimeout);
@@ -180,7 +187,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                         try
                         {
                             addUnprocessedEvent(record.partition(), record.topic(), event);
-                            connector.distributeToListeners(event);
+                            connector.distributeToListeners(record.partition(), event);
                         }
                         catch (Exception error)
                         {
@@ -308,6 +315,34 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         queue.add(event);
     }
 
+    /**
+     * Pauses the partitions whose events are waiting for a busy worker thread and
+     * resumes them once the worker has caught up.  Paused partitions return no
+     * events from a poll, so the events wait in Kafka rather than in memory.
+     */
+    private void pauseBusyPartitions() {
+        final Set<TopicPartition> pausedPartitions = consumer.paused();
+        final List<TopicPartition> partitionsToPause = new ArrayList<>();
+        final List<TopicPartition> partitionsToResume = new ArrayList<>();
+        for (TopicPartition partition : consumer.assignment()) {
+            final boolean busy = connector.isPartitionBusy(partition.partition());
+            if (busy && ! pausedPartitions.contains(partition)) {
+                partitionsToPause.add(partition);
+            }
+            else if (! busy && pausedPartitions.contains(partition)) {
+                partitionsToResume.add(partition);
+            }
+        }
+        if (! partitionsToPause.isEmpty()) {
+            log.debug("Pausing partitions {} until their workers catch up", partitionsToPause);
+            consumer.pause(partitionsToPause);
+        }
+        if (! partitionsToResume.isEmpty()) {
+            log.debug("Resuming partitions {}", partitionsToResume);
+            consumer.resume(partitionsToResume);
+        }
+    }
+
     /**
      * Checks the unprocessed message queues to see if there are any
      * messages whose processing has completed, but only if auto commit
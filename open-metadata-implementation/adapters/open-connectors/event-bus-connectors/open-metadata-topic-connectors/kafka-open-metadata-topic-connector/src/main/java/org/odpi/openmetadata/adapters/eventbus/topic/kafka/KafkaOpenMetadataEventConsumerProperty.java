@@ -54,7 +54,37 @@ public enum KafkaOpenMetadataEventConsumerProperty
      * used if auto commit is disabled in the Kafka consumer. 
      * 
      */
-    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000");
+    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000"),
+
+    /**
+     * Controls whether received events are distributed to the topic listeners by a pool of
+     * worker threads rather than the single listener thread.  The value is one of the names from
+     * KafkaOpenMetadataEventWorkerPool.Mode: NONE, PARTITION (one worker per Kafka partition)
+     * or SHARD (events are assigned to a worker by the hash of their shard key).
+     *
+     * When workers are used, auto commit is disabled in the Kafka consumer so that offsets are only
+     * committed once all of the earlier events in the partition have been processed.
+     */
+    PARALLEL_MODE("consumer_parallel_mode", "NONE"),
+
+    /**
+     * The number of worker threads used when the parallel mode is PARTITION or SHARD.
+     */
+    WORKER_COUNT("consumer_worker_count", "4"),
+
+    /**
+     * The maximum number of events waiting for each worker thread.  The partitions that feed a worker
+     * are paused once half of this number of events are waiting, and resumed when the worker catches up.
+     */
+    WORKER_QUEUE_SIZE("consumer_worker_queue_size", "100"),
+
+    /**
+     * The path of the JSON property in each event whose value is used to assign the event to a worker
+     * in SHARD mode.  The names of nested properties are separated by dots.  The default is the unique
+     * identifier of the instance in an OMRS instance event.  Events with the same value are processed in the
+     * order they were received.  Events without the property are assigned to a worker by their partition.
+     */
+    SHARD_KEY_PROPERTY("consumer_shard_key_property", "instanceEventSection.instanceGUID");
 
 	private final String propertyName;
 	private final String defaultValue;
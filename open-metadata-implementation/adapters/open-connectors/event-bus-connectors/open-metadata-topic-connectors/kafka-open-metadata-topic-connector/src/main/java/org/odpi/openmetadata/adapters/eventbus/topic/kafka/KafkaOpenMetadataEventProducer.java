@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.RetriableException;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -13,8 +14,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -23,10 +29,14 @@ import java.util.concurrent.TimeUnit;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * Events are queued in a bounded queue.  The sending thread wakes as soon as an event is queued and passes all
+ * of the waiting events (up to the batch size) to Kafka before waiting for their acknowledgements.  When the
+ * queue is full, new events are handled according to the configured overflow policy.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private final List<String> sendBuffer = Collections.synchronizedList(new ArrayList<>());
+    private final BlockingQueue<QueuedEvent> sendQueue;
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
@@ -37,16 +47,35 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     private final AuditLog auditLog;
     private final String   listenerThreadName;
     private final String   topicName;
-    private final int sleepTime = 1000;
+    private final int pollTimeout = 1000;
     private static final long recoverySleepTimeSec = 10L;
 
+    private final int                                          maxQueueSize;
+    private final int                                          maxBatchSize;
+    private final KafkaOpenMetadataEventProducerOverflowPolicy overflowPolicy;
+    private final long                                         metricsInterval;
+
     private final String                          localServerId;
     private final Properties                      producerProperties;
     private Producer<String, String>        producer = null;
 
     private KafkaOpenMetadataTopicConnector connector;
 
-    private long    messageSendCount = 0;
+    private volatile long messageSendCount = 0;
+
+    private final AtomicLong    droppedEventCount = new AtomicLong(0);
+    private final AtomicBoolean queueFullReported = new AtomicBoolean(false);
+
+    /*
+     * The latency statistics are only updated by the sending thread.
+     */
+    private long lastMetricsReportTime      = System.nanoTime();
+    private long lastReportedDroppedCount   = 0;
+    private long intervalSendCount          = 0;
+    private long intervalTotalLatency       = 0;
+    private long intervalMaxLatency         = 0;
+    private volatile long totalLatency      = 0;
+    private volatile long maxLatency        = 0;
 
 
     /**
@@ -56,14 +85,16 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
      * @param producerProperties properties for the consumer.
+     * @param producerConfig configuration of the send queue.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
      */
-    KafkaOpenMetadataEventProducer(String                          topicName,
-                                   String                          localServerId,
-                                   Properties                      producerProperties,
-                                   KafkaOpenMetadataTopicConnector connector,
-                                   AuditLog                        auditLog)
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataEventProducerConfiguration producerConfig,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
     {
         this.auditLog = auditLog;
         this.topicName = topicName;
@@ -72,6 +103,12 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         this.producerProperties = producerProperties;
         this.listenerThreadName = defaultThreadName + topicName;
 
+        this.maxQueueSize    = Math.max(1, producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_QUEUE_SIZE));
+        this.maxBatchSize    = Math.max(1, producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_BATCH_SIZE));
+        this.overflowPolicy  = producerConfig.getOverflowPolicy();
+        this.metricsInterval = TimeUnit.SECONDS.toNanos(producerConfig.getIntProperty(KafkaOpenMetadataEventProducerProperty.METRICS_INTERVAL));
+        this.sendQueue       = new LinkedBlockingQueue<>(maxQueueSize);
+
         final String           actionDescription = "new producer";
 
         if (auditLog != null)
@@ -86,23 +123,25 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
 
     /**
-     * Sends the supplied event to the topic.  It retries if Kafka is not responding.
+     * Sends the supplied batch of events to the topic.  All of the events are passed to the Kafka producer
+     * before waiting for their acknowledgements so that Kafka can group them into requests.
+     * The events that fail with a retryable error are resent (in their original order) if Kafka is not responding.
      *
-     * @param event object containing the event properties.
+     * @param batch events to send
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
-    private void publishEvent(String event) throws ConnectorCheckedException
+    private void publishEvents(List<QueuedEvent> batch) throws ConnectorCheckedException
     {
-        final String methodName = "publishEvent";
+        final String methodName = "publishEvents";
 
-        boolean                  eventSent = false;
+        List<QueuedEvent>        unsentEvents = batch;
         long                     eventRetryCount = 0;
 
         if (producer == null)
         {
             try
             {
-                producer = new KafkaProducer<>(producerProperties);
+                producer = this.createProducer();
             }
             catch ( Exception error )
             {
@@ -117,67 +156,95 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                                                     error);
             }
         }
-        while (!eventSent)
+        while (!unsentEvents.isEmpty())
         {
             try
             {
-                log.debug("Sending message {0}" + event);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
-                producer.send(record).get();
-                eventSent = true;
-                messageSendCount++;
-            }
-            catch (ExecutionException error)
-            {
-                /*
-                 * This may be a simple timeout or something else more
-                 */
-                log.debug("Kafka had trouble sending event: " + event + "exception message is " + error.getMessage());
+                List<Future<RecordMetadata>> results = new ArrayList<>(unsentEvents.size());
 
-                if (!isExceptionRetryable(error))
+                for (QueuedEvent queuedEvent : unsentEvents)
                 {
-                    /* kafka thinks this isn't a retryable problem */
-                    /* so let the caller try */
-
-                    producer.close();
-                    producer = null;
-
-                    throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                          topicName,
-                                                                                                                                          error.getMessage()),
-                                                                                                                                          this.getClass().getName(),
-                                                                                                                                          methodName,
-                                                                                                                                          error);
+                    log.debug("Sending message {}", queuedEvent.event);
+                    ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, queuedEvent.event);
+                    results.add(producer.send(record));
                 }
-                if (eventRetryCount == 10)
+
+                List<QueuedEvent>  failedEvents = new ArrayList<>();
+                ExecutionException lastError    = null;
+
+                for (int i = 0; i < results.size(); i++)
                 {
-                    /* we've retried now let the caller retry */
-                    producer.close();
-                    producer = null;
-                    log.error("Retryable Exception closed producer ");
-                    break;
+                    try
+                    {
+                        results.get(i).get();
+                        this.recordEventSent(unsentEvents.get(i));
+                    }
+                    catch (ExecutionException error)
+                    {
+                        /*
+                         * This may be a simple timeout or something else more
+                         */
+                        log.debug("Kafka had trouble sending event: " + unsentEvents.get(i).event + "exception message is " + error.getMessage());
+
+                        if (!isExceptionRetryable(error))
+                        {
+                            /* kafka thinks this isn't a retryable problem */
+                            /* so let the caller try */
+
+                            producer.close();
+                            producer = null;
+
+                            throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                                  topicName,
+                                                                                                                                                  error.getMessage()),
+                                                                                                                                                  this.getClass().getName(),
+                                                                                                                                                  methodName,
+                                                                                                                                                  error);
+                        }
+
+                        failedEvents.add(unsentEvents.get(i));
+                        lastError = error;
+                    }
                 }
-                else
+
+                unsentEvents = failedEvents;
+
+                if (lastError != null)
                 {
-                    if (eventRetryCount == 0)
+                    if (eventRetryCount == 10)
+                    {
+                        /* we've retried now let the caller retry */
+                        producer.close();
+                        producer = null;
+                        log.error("Retryable Exception closed producer; " + unsentEvents.size() + " events not sent");
+                        break;
+                    }
+                    else
                     {
-                        if (auditLog != null)
+                        if (eventRetryCount == 0)
                         {
-                            auditLog.logMessage(methodName,
-                                                KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
-                                                                                                                                       Long.toString(messageSendCount),
-                                                                                                                                       Long.toString(this.getSendBufferSize()),
-                                                                                                                                       error.getMessage()));
+                            if (auditLog != null)
+                            {
+                                auditLog.logMessage(methodName,
+                                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
+                                                                                                                                           Long.toString(messageSendCount),
+                                                                                                                                           Long.toString(this.getSendBufferSize() + unsentEvents.size()),
+                                                                                                                                           lastError.getMessage()));
+                            }
                         }
-                    }
 
-                    eventRetryCount++;
+                        eventRetryCount++;
+                    }
                 }
             }
             catch (WakeupException error)
             {
                 log.error("Wake up for shut down " + error.toString());
             }
+            catch (ConnectorCheckedException error)
+            {
+                throw error;
+            }
             catch (Exception error)
             {
                 producer.close();
@@ -209,35 +276,47 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         {
             auditLog.logMessage(actionDescription,
                                 KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_START.getMessageDefinition(topicName,
-                                                                                                                   String.valueOf(sendBuffer.size())),
+                                                                                                                   String.valueOf(sendQueue.size())),
                                 this.producerProperties.toString());
         }
 
 
+        List<QueuedEvent> batch = new ArrayList<>(maxBatchSize);
+
         while (isRunning())
         {
             try
             {
-                String bufferedEvent = this.getEvent();
-
                 /*
-                 * If there are no events waiting then sleep
+                 * Wait for the next event - the timeout allows the thread to notice that it has been stopped.
                  */
-                if (bufferedEvent == null)
-                {
-                    TimeUnit.MILLISECONDS.sleep(sleepTime);
-                }
-                else
+                QueuedEvent bufferedEvent = sendQueue.poll(pollTimeout, TimeUnit.MILLISECONDS);
+
+                if (bufferedEvent != null)
                 {
                     /*
-                     * Send all waiting events
+                     * Send the event along with any others that are waiting
                      */
-                    while (bufferedEvent != null)
+                    batch.add(bufferedEvent);
+                    sendQueue.drainTo(batch, maxBatchSize - 1);
+
+                    long sendCountBeforeBatch = messageSendCount;
+
+                    try
+                    {
+                        publishEvents(batch);
+                    }
+                    finally
                     {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
+                        /*
+                         * Any event in the batch that Kafka has not acknowledged by now is lost.
+                         */
+                        this.discardEvents(batch.size() - (int)(messageSendCount - sendCountBeforeBatch), "unacknowledged events in the send batch");
+                        batch.clear();
                     }
                 }
+
+                this.reportMetrics(false);
             }
             catch (InterruptedException   error)
             {
@@ -258,18 +337,32 @@ public class KafkaOpenMetadataEventProducer implements Runnable
             }
         }
 
-        /* producer may have already closed by exception handler in publishEvent */
+        /*
+         * Stop putEvent from queuing more events and release any callers waiting for space in the queue.
+         * The events still in the queue will never be sent.
+         */
+        this.stopRunning();
+
+        List<QueuedEvent> unsentEvents = new ArrayList<>();
+
+        sendQueue.drainTo(unsentEvents);
+
+        int unsentCount = this.discardEvents(unsentEvents.size(), "events still in the send queue");
+
+        /* producer may have already closed by exception handler in publishEvents */
         if(producer != null) {
             log.debug("");
             producer.close();
             producer = null;
         }
 
+        this.reportMetrics(true);
+
         if (auditLog != null)
         {
             auditLog.logMessage(actionDescription,
                                 KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN.getMessageDefinition(topicName,
-                                                                                                                      Integer.toString(getSendBufferSize()),
+                                                                                                                      Integer.toString(unsentCount),
                                                                                                                       Long.toString(messageSendCount)),
                                 this.producerProperties.toString());
         }
@@ -277,13 +370,125 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
 
     /**
-     * Supports putting events to the in memory OMRS Topic
+     * Supports putting events to the in memory OMRS Topic.  If the queue is full, the event is handled
+     * according to the overflow policy.
      *
      * @param newEvent  event to publish
+     * @throws ConnectorCheckedException the event was rejected because the queue is full
+     */
+    private void putEvent(String  newEvent) throws ConnectorCheckedException
+    {
+        final String methodName = "putEvent";
+
+        QueuedEvent queuedEvent = new QueuedEvent(newEvent);
+
+        if (! isRunning())
+        {
+            /*
+             * The sending thread has stopped so the event would never be sent.
+             */
+            droppedEventCount.incrementAndGet();
+
+            throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.SEND_QUEUE_FULL.getMessageDefinition(topicName,
+                                                                                                                             Integer.toString(getSendBufferSize())),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
+
+        if (sendQueue.offer(queuedEvent))
+        {
+            this.checkStillRunning(queuedEvent);
+            return;
+        }
+
+        this.reportQueueFull();
+
+        switch (overflowPolicy)
+        {
+            case BLOCK:
+                try
+                {
+                    /*
+                     * Wait for space, checking periodically that the sending thread is still running.
+                     */
+                    while (! sendQueue.offer(queuedEvent, pollTimeout, TimeUnit.MILLISECONDS))
+                    {
+                        if (! isRunning())
+                        {
+                            droppedEventCount.incrementAndGet();
+
+                            throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.SEND_QUEUE_FULL.getMessageDefinition(topicName,
+                                                                                                                                             Integer.toString(getSendBufferSize())),
+                                                                this.getClass().getName(),
+                                                                methodName);
+                        }
+                    }
+
+                    this.checkStillRunning(queuedEvent);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+
+                    throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.SEND_QUEUE_FULL.getMessageDefinition(topicName,
+                                                                                                                                     Integer.toString(getSendBufferSize())),
+                                                        this.getClass().getName(),
+                                                        methodName,
+                                                        error);
+                }
+                break;
+
+            case DROP_NEWEST:
+                droppedEventCount.incrementAndGet();
+                log.debug("Send queue full; discarding event {}", newEvent);
+                break;
+
+            case DROP_OLDEST:
+                while (! sendQueue.offer(queuedEvent))
+                {
+                    QueuedEvent discardedEvent = sendQueue.poll();
+
+                    if (discardedEvent != null)
+                    {
+                        droppedEventCount.incrementAndGet();
+                        log.debug("Send queue full; discarding event {}", discardedEvent.event);
+                    }
+                }
+
+                this.checkStillRunning(queuedEvent);
+                break;
+
+            case FAIL:
+                droppedEventCount.incrementAndGet();
+
+                throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.SEND_QUEUE_FULL.getMessageDefinition(topicName,
+                                                                                                                                 Integer.toString(getSendBufferSize())),
+                                                    this.getClass().getName(),
+                                                    methodName);
+        }
+    }
+
+
+    /**
+     * Remove a newly queued event if the sending thread stopped while it was being queued, since
+     * the event would never be sent.
+     *
+     * @param queuedEvent event that has been added to the send queue
+     * @throws ConnectorCheckedException the sending thread has stopped
      */
-    private void putEvent(String  newEvent)
+    private void checkStillRunning(QueuedEvent queuedEvent) throws ConnectorCheckedException
     {
-        sendBuffer.add(newEvent);
+        final String methodName = "putEvent";
+
+        if ((! isRunning()) && (sendQueue.remove(queuedEvent)))
+        {
+            droppedEventCount.incrementAndGet();
+
+            throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.SEND_QUEUE_FULL.getMessageDefinition(topicName,
+                                                                                                                             Integer.toString(getSendBufferSize())),
+                                                this.getClass().getName(),
+                                                methodName);
+        }
     }
 
 
@@ -294,34 +499,214 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      */
     private int getSendBufferSize()
     {
-        return sendBuffer.size();
+        return sendQueue.size();
     }
 
 
     /**
-     * Returns all of the events found on the in memory OMRS Topic.
+     * Sends the supplied event to the topic.
      *
-     * @return list of received events.
+     * @param event  OMRSEvent object containing the event properties.
+     * @throws ConnectorCheckedException the event was rejected because the send queue is full
      */
-    private String getEvent()
+    public void sendEvent(String event) throws ConnectorCheckedException
     {
-        if (sendBuffer.isEmpty())
+        this.putEvent(event);
+    }
+
+
+    /**
+     * Return the number of events waiting to be sent.
+     *
+     * @return queue depth
+     */
+    int getSendQueueDepth()
+    {
+        return sendQueue.size();
+    }
+
+
+    /**
+     * Return the number of events that have been acknowledged by Kafka.
+     *
+     * @return count of sent events
+     */
+    long getMessageSendCount()
+    {
+        return messageSendCount;
+    }
+
+
+    /**
+     * Return the number of events that were discarded or rejected because the send queue was full.
+     *
+     * @return count of dropped events
+     */
+    long getDroppedEventCount()
+    {
+        return droppedEventCount.get();
+    }
+
+
+    /**
+     * Return the average time between an event being queued and Kafka acknowledging it.
+     *
+     * @return latency in milliseconds
+     */
+    double getAverageSendLatency()
+    {
+        long sendCount = messageSendCount;
+
+        if (sendCount == 0)
         {
-            return null;
+            return 0;
         }
 
-        return sendBuffer.remove(0);
+        return TimeUnit.NANOSECONDS.toMicros(totalLatency) / (sendCount * 1000.0);
     }
 
 
     /**
-     * Sends the supplied event to the topic.
+     * Return the longest time between an event being queued and Kafka acknowledging it.
      *
-     * @param event  OMRSEvent object containing the event properties.
+     * @return latency in milliseconds
      */
-    public void sendEvent(String event)
+    long getMaxSendLatency()
     {
-        this.putEvent(event);
+        return TimeUnit.NANOSECONDS.toMillis(maxLatency);
+    }
+
+
+    /**
+     * Update the counts and latency statistics for an event that Kafka has acknowledged.
+     *
+     * @param queuedEvent event that has been sent
+     */
+    private void recordEventSent(QueuedEvent queuedEvent)
+    {
+        long latency = System.nanoTime() - queuedEvent.queueTime;
+
+        messageSendCount++;
+        intervalSendCount++;
+        intervalTotalLatency += latency;
+        totalLatency += latency;
+
+        if (latency > intervalMaxLatency)
+        {
+            intervalMaxLatency = latency;
+        }
+
+        if (latency > maxLatency)
+        {
+            maxLatency = latency;
+        }
+    }
+
+
+    /**
+     * Record that events will never be sent.  The events are counted as dropped and the loss is logged.
+     *
+     * @param count number of events to discard
+     * @param reason description of the events for the audit log
+     * @return number of events discarded
+     */
+    private int discardEvents(int    count,
+                              String reason)
+    {
+        final String methodName = "discardEvents";
+
+        if (count <= 0)
+        {
+            return 0;
+        }
+
+        droppedEventCount.addAndGet(count);
+
+        log.error("Discarding " + count + " " + reason + " for topic " + topicName);
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                KafkaOpenMetadataTopicConnectorAuditCode.PRODUCER_EVENTS_DISCARDED.getMessageDefinition(topicName,
+                                                                                                                        Integer.toString(count),
+                                                                                                                        reason));
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Log the first overflow of the send queue since the last metrics report.
+     */
+    private void reportQueueFull()
+    {
+        final String methodName = "putEvent";
+
+        if ((auditLog != null) && (queueFullReported.compareAndSet(false, true)))
+        {
+            auditLog.logMessage(methodName,
+                                KafkaOpenMetadataTopicConnectorAuditCode.SEND_QUEUE_FULL.getMessageDefinition(topicName,
+                                                                                                              Integer.toString(getSendBufferSize()),
+                                                                                                              overflowPolicy.name()));
+        }
+    }
+
+
+    /**
+     * Log the queue depth and the send latency since the last report if the metrics interval has passed.
+     *
+     * @param force log the report even if the interval has not passed
+     */
+    private void reportMetrics(boolean force)
+    {
+        final String methodName = "reportMetrics";
+
+        long now = System.nanoTime();
+
+        if ((metricsInterval <= 0) || ((! force) && (now - lastMetricsReportTime < metricsInterval)))
+        {
+            return;
+        }
+
+        long droppedCount = droppedEventCount.get();
+
+        if (auditLog != null)
+        {
+            long averageLatency = 0;
+
+            if (intervalSendCount > 0)
+            {
+                averageLatency = TimeUnit.NANOSECONDS.toMillis(intervalTotalLatency / intervalSendCount);
+            }
+
+            auditLog.logMessage(methodName,
+                                KafkaOpenMetadataTopicConnectorAuditCode.PRODUCER_SEND_METRICS.getMessageDefinition(topicName,
+                                                                                                                    Integer.toString(getSendBufferSize()),
+                                                                                                                    Long.toString(intervalSendCount),
+                                                                                                                    Long.toString(averageLatency),
+                                                                                                                    Long.toString(TimeUnit.NANOSECONDS.toMillis(intervalMaxLatency)),
+                                                                                                                    Long.toString(droppedCount - lastReportedDroppedCount)));
+        }
+
+        lastMetricsReportTime    = now;
+        lastReportedDroppedCount = droppedCount;
+        intervalSendCount        = 0;
+        intervalTotalLatency     = 0;
+        intervalMaxLatency       = 0;
+
+        queueFullReported.set(false);
+    }
+
+
+    /**
+     * Create the Kafka producer that sends the events.
+     *
+     * @return producer
+     */
+    Producer<String, String> createProducer()
+    {
+        return new KafkaProducer<>(producerProperties);
     }
 
 
@@ -371,21 +756,48 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         running = false;
     }
 
-    private boolean isExceptionRetryable( Exception error)
+    /**
+     * Determine whether Kafka has reported that the error is temporary, by looking for a RetriableException
+     * in the chain of causes.
+     *
+     * @param error error from sending events
+     * @return boolean
+     */
+    private boolean isExceptionRetryable(Exception error)
     {
+        Throwable nested = error.getCause();
+
+        while (nested != null)
+        {
+            if (nested instanceof RetriableException)
+            {
+                return true;
+            }
+
+            nested = nested.getCause();
+        }
 
-        /*
-        This code would probably be more elegant if it used Throwables
-        however I don't want to add Throwabales to the search and I didn't want to cast
-         */
-        Throwable nested = null;
-        while ((nested =  error.getCause()) != null) {
-             if( nested instanceof RetriableException) {
-                 return true;
-             }
-
-           error = new Exception(error.getCause());
-       }
         return false;
     }
+
+
+    /**
+     * QueuedEvent is an event waiting in the send queue along with the time it was queued.
+     */
+    private static class QueuedEvent
+    {
+        private final String event;
+        private final long   queueTime = System.nanoTime();
+
+
+        /**
+         * Constructor
+         *
+         * @param event event to send
+         */
+        QueuedEvent(String event)
+        {
+            this.event = event;
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.Properties;
+
+
+/**
+ * Configuration for the {@link KafkaOpenMetadataEventProducer}
+ *
+ */
+public class KafkaOpenMetadataEventProducerConfiguration
+{
+	private final Properties properties;
+	private final AuditLog   auditLog;
+
+	KafkaOpenMetadataEventProducerConfiguration(Properties properties,
+												AuditLog   auditLog)
+	{
+		this.properties = properties;
+		this.auditLog = auditLog;
+	}
+
+
+	/**
+	 * Gets the value of property whose value is an integer
+	 *
+	 * @param property property object
+	 * @return property value
+	 */
+	int getIntProperty(KafkaOpenMetadataEventProducerProperty property)
+	{
+		return Integer.parseInt(getProperty(property));
+	}
+
+
+	/**
+	 * Gets the overflow policy for the send queue.  The default policy is used if the configured
+	 * value is not recognized.
+	 *
+	 * @return overflow policy
+	 */
+	KafkaOpenMetadataEventProducerOverflowPolicy getOverflowPolicy()
+	{
+		KafkaOpenMetadataEventProducerProperty property = KafkaOpenMetadataEventProducerProperty.OVERFLOW_POLICY;
+
+		try
+		{
+			return KafkaOpenMetadataEventProducerOverflowPolicy.valueOf(getProperty(property).trim().toUpperCase());
+		}
+		catch (IllegalArgumentException error)
+		{
+			return KafkaOpenMetadataEventProducerOverflowPolicy.valueOf(property.getDefaultValue());
+		}
+	}
+
+
+	/**
+	 * Gets the value of a property whose value is a String.
+	 *
+	 * @param property property object
+	 * @return property value
+	 */
+	public String getProperty(KafkaOpenMetadataEventProducerProperty property)
+	{
+		String value = properties.getProperty(property.getPropertyName(), property.getDefaultValue());
+
+		if (value == null || value.trim().length() == 0)
+		{
+			final String actionDescription = "getProperty";
+
+			if (auditLog != null)
+			{
+				auditLog.logMessage(actionDescription,
+									KafkaOpenMetadataTopicConnectorAuditCode.MISSING_PROPERTY.getMessageDefinition(property.getPropertyName()));
+			}
+
+			return property.getDefaultValue();
+		}
+
+		return value;
+	}
+}
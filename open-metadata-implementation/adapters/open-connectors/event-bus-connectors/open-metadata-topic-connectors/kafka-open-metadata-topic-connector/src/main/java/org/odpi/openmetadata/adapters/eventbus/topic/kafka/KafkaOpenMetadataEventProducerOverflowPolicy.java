@@ -0,0 +1,31 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * KafkaOpenMetadataEventProducerOverflowPolicy defines what the KafkaOpenMetadataEventProducer does with a new
+ * event when its send queue is full.
+ */
+public enum KafkaOpenMetadataEventProducerOverflowPolicy
+{
+    /**
+     * The caller waits until there is space in the queue.  This slows the components that are producing
+     * events down to the rate that Kafka is accepting them.
+     */
+    BLOCK,
+
+    /**
+     * The new event is discarded.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The oldest waiting event is discarded to make room for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new event is rejected with an exception.
+     */
+    FAIL
+}
@@ -0,0 +1,51 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer
+ *
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+	/*
+	 * Controls the maximum number of events waiting to be sent to Kafka.  When this
+	 * size is reached, new events are handled according to the overflow policy.
+	 */
+	MAX_QUEUE_SIZE("event_bus_max_send_queue_size", "10000"),
+
+	/*
+	 * The maximum number of events that are passed to the Kafka producer before
+	 * waiting for their acknowledgements.
+	 */
+	MAX_BATCH_SIZE("send_batch_size", "500"),
+
+	/*
+	 * What to do with a new event when the send queue is full.  The value is one of the
+	 * names from KafkaOpenMetadataEventProducerOverflowPolicy.
+	 */
+	OVERFLOW_POLICY("send_queue_overflow_policy", "BLOCK"),
+
+	/*
+	 * The interval (in seconds) between the audit log messages that report the depth of
+	 * the send queue and the send latency.  Zero or a negative value turns the reports off.
+	 */
+	METRICS_INTERVAL("send_metrics_interval_sec", "300");
+
+	private final String propertyName;
+	private final String defaultValue;
+
+	KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+	{
+		this.propertyName = name;
+		this.defaultValue = defaultValue;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public String getDefaultValue() {
+		return defaultValue;
+	}
+}
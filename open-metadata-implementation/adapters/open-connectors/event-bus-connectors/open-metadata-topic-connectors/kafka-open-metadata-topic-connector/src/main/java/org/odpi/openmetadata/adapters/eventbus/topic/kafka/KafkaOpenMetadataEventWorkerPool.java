@@ -0,0 +1,358 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * KafkaOpenMetadataEventWorkerPool distributes the events received by the KafkaOpenMetadataEventConsumer to the
+ * topic listeners using a fixed set of worker threads.  Each event is assigned to a worker either by its Kafka
+ * partition or by the hash of a key extracted from the event.  Each worker processes its events one at a time in
+ * the order they were received, so the events for a partition (or for a key) keep their order.  The shard key is
+ * found by following a path of property names from the top of the event, so a property with the same name
+ * elsewhere in the event (such as the guid of a type or super type) is not mistaken for the key.
+ *
+ * The consumer records each event against its partition before it is passed to the pool.  Since the workers
+ * complete events in a different order to the order they were received, the consumer only commits the offset
+ * of a partition once all of the earlier events in the partition have been processed.
+ *
+ * Each worker's queue is bounded.  The consumer pauses the partitions that feed a worker once its queue is half full
+ * and resumes them when it drains, so the other half of the queue absorbs the events returned by a poll that was
+ * already in progress.  If a queue does fill up, the consumer thread waits for space rather than dropping the event.
+ */
+class KafkaOpenMetadataEventWorkerPool
+{
+    private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventWorkerPool.class);
+
+    private static final long shutdownTimeoutSec = 30L;
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Mode defines how events are assigned to workers.
+     */
+    enum Mode
+    {
+        /**
+         * Events are distributed by the connector's listener thread.
+         */
+        NONE,
+
+        /**
+         * Events are assigned to a worker by their Kafka partition.
+         */
+        PARTITION,
+
+        /**
+         * Events are assigned to a worker by the hash of their shard key.
+         */
+        SHARD
+    }
+
+    private final String                          topicName;
+    private final Mode                            mode;
+    private final int                             busyQueueSize;
+    private final String[]                        shardKeyPath;
+    private final KafkaOpenMetadataTopicConnector connector;
+    private final AuditLog                        auditLog;
+    private final List<ThreadPoolExecutor>        workers = new ArrayList<>();
+
+
+    /**
+     * Constructor starts the worker threads.
+     *
+     * @param topicName name of the topic
+     * @param mode how events are assigned to workers
+     * @param workerCount number of worker threads
+     * @param workerQueueSize maximum number of events waiting for each worker
+     * @param shardKeyProperty path of the JSON property used as the shard key, with nested names separated by dots
+     * @param connector connector that distributes the events to the topic listeners
+     * @param auditLog audit log for this component
+     */
+    KafkaOpenMetadataEventWorkerPool(String                          topicName,
+                                     Mode                            mode,
+                                     int                             workerCount,
+                                     int                             workerQueueSize,
+                                     String                          shardKeyProperty,
+                                     KafkaOpenMetadataTopicConnector connector,
+                                     AuditLog                        auditLog)
+    {
+        this.topicName       = topicName;
+        this.mode            = mode;
+        this.busyQueueSize   = Math.max(1, workerQueueSize / 2);
+        this.shardKeyPath    = shardKeyProperty.split("\\.");
+        this.connector       = connector;
+        this.auditLog        = auditLog;
+
+        for (int i = 0; i < Math.max(1, workerCount); i++)
+        {
+            final String threadName = "Kafka-Worker-" + i + "-" + topicName;
+
+            workers.add(new ThreadPoolExecutor(1,
+                                               1,
+                                               0L,
+                                               TimeUnit.MILLISECONDS,
+                                               new LinkedBlockingQueue<>(Math.max(2, workerQueueSize)),
+                                               runnable -> new Thread(runnable, threadName),
+                                               this::waitForQueueSpace));
+        }
+    }
+
+
+    /**
+     * Queue an event for the worker that owns its partition or shard key.
+     *
+     * @param partition Kafka partition that the event was received from
+     * @param event event to distribute
+     */
+    void submit(int                partition,
+                KafkaIncomingEvent event)
+    {
+        ThreadPoolExecutor worker = workers.get(this.getWorkerIndex(partition, event));
+
+        worker.execute(() -> this.processEvent(event));
+    }
+
+
+    /**
+     * Return the index of the worker that processes an event.
+     *
+     * @param partition Kafka partition that the event was received from
+     * @param event event to distribute
+     * @return index of the worker
+     */
+    int getWorkerIndex(int                partition,
+                       KafkaIncomingEvent event)
+    {
+        return Math.floorMod(this.getRoutingHash(partition, event), workers.size());
+    }
+
+
+    /**
+     * Return whether the partition should be paused because the queue of the worker that receives its events is
+     * at least half full.  In SHARD mode the events of any partition may go to any worker, so every partition is
+     * busy while any of the workers is busy.
+     *
+     * @param partition Kafka partition
+     * @return true if no more events should be fetched from the partition
+     */
+    boolean isPartitionBusy(int partition)
+    {
+        if (mode == Mode.PARTITION)
+        {
+            return workers.get(Math.floorMod(partition, workers.size())).getQueue().size() >= busyQueueSize;
+        }
+
+        for (ThreadPoolExecutor worker : workers)
+        {
+            if (worker.getQueue().size() >= busyQueueSize)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the number of events waiting for a worker.
+     *
+     * @return count of queued events
+     */
+    int getNumberOfQueuedEvents()
+    {
+        int result = 0;
+
+        for (ThreadPoolExecutor worker : workers)
+        {
+            result += worker.getQueue().size();
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Stop the workers once they have processed the events already queued.
+     */
+    void shutdown()
+    {
+        for (ThreadPoolExecutor worker : workers)
+        {
+            worker.shutdown();
+        }
+
+        for (ThreadPoolExecutor worker : workers)
+        {
+            try
+            {
+                if (! worker.awaitTermination(shutdownTimeoutSec, TimeUnit.SECONDS))
+                {
+                    log.warn("Worker for topic {} did not finish processing {} events before shutdown", topicName, worker.getQueue().size());
+                    worker.shutdownNow();
+                }
+            }
+            catch (InterruptedException error)
+            {
+                worker.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Called when a worker's queue is full.  The consumer thread waits for space in the queue since dropping the
+     * event would lose it.  Only events from a poll that returned more events than the space left in the queue
+     * reach this point, because the consumer pauses the partitions of a worker once its queue is half full.
+     *
+     * @param request request to process an event
+     * @param worker worker whose queue is full
+     */
+    private void waitForQueueSpace(Runnable           request,
+                                   ThreadPoolExecutor worker)
+    {
+        try
+        {
+            while (! worker.isShutdown())
+            {
+                if (worker.getQueue().offer(request, 1L, TimeUnit.SECONDS))
+                {
+                    return;
+                }
+            }
+
+            log.warn("Discarding event for topic {} since its worker is shutting down", topicName);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Return the value used to choose the worker for an event.  Events without a shard key are assigned
+     * to a worker by their partition so they are spread over the workers in the same way as PARTITION mode.
+     *
+     * @param partition Kafka partition that the event was received from
+     * @param event event to distribute
+     * @return hash value
+     */
+    private int getRoutingHash(int                partition,
+                               KafkaIncomingEvent event)
+    {
+        if (mode == Mode.PARTITION)
+        {
+            return partition;
+        }
+
+        String shardKey = this.getShardKey(event.getJson());
+
+        if (shardKey != null)
+        {
+            return shardKey.hashCode();
+        }
+
+        return partition;
+    }
+
+
+    /**
+     * Follow the shard key path through the JSON of an event.  Only the objects on the path are
+     * read; the other values are skipped without being parsed into objects.
+     *
+     * @param json event contents
+     * @return value of the shard key or null if the event does not have one
+     */
+    private String getShardKey(String json)
+    {
+        if (json == null)
+        {
+            return null;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(json))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                return null;
+            }
+
+            int pathIndex = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                boolean   onPath = shardKeyPath[pathIndex].equals(parser.getCurrentName());
+                JsonToken value  = parser.nextToken();
+
+                if (onPath && (pathIndex == shardKeyPath.length - 1))
+                {
+                    return value.isScalarValue() && (value != JsonToken.VALUE_NULL) ? parser.getText() : null;
+                }
+                else if (onPath && (value == JsonToken.START_OBJECT))
+                {
+                    pathIndex++;
+                }
+                else if (onPath)
+                {
+                    return null;
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to read shard key from event for topic {}: {}", topicName, error.getMessage());
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Distribute an event to the topic listeners on the worker thread.
+     *
+     * @param event event to distribute
+     */
+    private void processEvent(KafkaIncomingEvent event)
+    {
+        final String actionDescription = "processEvent";
+
+        try
+        {
+            connector.distributeEventOnWorker(event);
+        }
+        catch (Exception error)
+        {
+            log.error(String.format("Error distributing inbound event: %s", error.getMessage()), error);
+
+            if (auditLog != null)
+            {
+                auditLog.logException(actionDescription,
+                                      KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_DISTRIBUTING_EVENT.getMessageDefinition(topicName,
+                                                                                                                                 error.getClass().getName(),
+                                                                                                                                 event.getJson(),
+                                                                                                                                 error.getMessage()),
+                                      error);
+            }
+        }
+    }
+}
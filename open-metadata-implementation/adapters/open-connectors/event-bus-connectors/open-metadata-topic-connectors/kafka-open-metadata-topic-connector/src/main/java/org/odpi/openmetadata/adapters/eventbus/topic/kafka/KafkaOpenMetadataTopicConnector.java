@@ -37,6 +37,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     
     private final Properties producerProperties = new Properties();
+    private final Properties producerEgeriaProperties = new Properties();
     private final Properties consumerEgeriaProperties = new Properties();
     private final Properties consumerProperties = new Properties();
 
@@ -53,6 +54,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     private KafkaConsumerExecutor consumerExecutor = null;
     private KafkaProducerExecutor producerExecutor = null;
 
+    /* only used if the consumer is configured to distribute events on worker threads */
+    private KafkaOpenMetadataEventWorkerPool workerPool = null;
+
     final String                   threadHeader = "Kafka-";
     Thread                         consumerThread;
     Thread                         producerThread;
@@ -213,6 +217,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaConsumerPropertyName);
             copyProperties(propertiesObject, consumerEgeriaProperties);
+
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
         }
         catch (Exception   error)
         {
@@ -290,6 +297,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
                     kafkaStatus.getLastException());
         }
 
+        initializeWorkerPool();
+
         initializeConsumerAndConsumerThread();
         consumerExecutor = new KafkaConsumerExecutor();
         consumerExecutor.execute(consumerThread);
@@ -302,6 +311,60 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Start the worker threads if the consumer is configured to distribute events in parallel.  Auto commit
+     * is turned off in this case because the Kafka consumer would otherwise commit the offsets of events that
+     * are still waiting for a worker.
+     */
+    private void initializeWorkerPool()
+    {
+        final String actionDescription = "initializeWorkerPool";
+
+        KafkaOpenMetadataEventConsumerConfiguration consumerConfig = new KafkaOpenMetadataEventConsumerConfiguration(consumerEgeriaProperties, auditLog);
+        KafkaOpenMetadataEventWorkerPool.Mode       mode;
+
+        try
+        {
+            mode = KafkaOpenMetadataEventWorkerPool.Mode.valueOf(consumerConfig.getProperty(KafkaOpenMetadataEventConsumerProperty.PARALLEL_MODE).trim().toUpperCase());
+        }
+        catch (IllegalArgumentException error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(actionDescription,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.UNABLE_TO_PARSE_CONFIG_PROPERTIES.getMessageDefinition(topicName,
+                                                                                                                                    error.getClass().getName(),
+                                                                                                                                    error.getMessage()));
+            }
+
+            mode = KafkaOpenMetadataEventWorkerPool.Mode.NONE;
+        }
+
+        if (mode != KafkaOpenMetadataEventWorkerPool.Mode.NONE)
+        {
+            int workerCount = consumerConfig.getIntProperty(KafkaOpenMetadataEventConsumerProperty.WORKER_COUNT);
+
+            consumerProperties.put(ENABLE_AUTO_COMMIT_PROPERTY, "false");
+
+            workerPool = new KafkaOpenMetadataEventWorkerPool(topicName,
+                                                              mode,
+                                                              workerCount,
+                                                              consumerConfig.getIntProperty(KafkaOpenMetadataEventConsumerProperty.WORKER_QUEUE_SIZE),
+                                                              consumerConfig.getProperty(KafkaOpenMetadataEventConsumerProperty.SHARD_KEY_PROPERTY),
+                                                              this,
+                                                              auditLog);
+
+            if (auditLog != null)
+            {
+                auditLog.logMessage(actionDescription,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_CONSUMER_WORKERS_START.getMessageDefinition(topicName,
+                                                                                                                               Integer.toString(Math.max(1, workerCount)),
+                                                                                                                               mode.name()));
+            }
+        }
+    }
+
+
     private void initializeConsumerAndConsumerThread() {
 
         KafkaOpenMetadataEventConsumerConfiguration consumerConfig = new KafkaOpenMetadataEventConsumerConfiguration(consumerEgeriaProperties, auditLog);
@@ -312,7 +375,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     private void initializeProducerAndProducerThread() {
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        KafkaOpenMetadataEventProducerConfiguration producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerConfig, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
     }
 
@@ -370,6 +434,51 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Distribute events to other listeners, using the worker threads if they are configured.
+     *
+     * @param partition Kafka partition that the event was received from.
+     * @param event object containing the event properties.
+     */
+    void distributeToListeners(int                partition,
+                               KafkaIncomingEvent event)
+    {
+        if (workerPool != null)
+        {
+            log.debug("distribute event to worker" + event);
+            workerPool.submit(partition, event);
+        }
+        else
+        {
+            this.distributeToListeners(event);
+        }
+    }
+
+
+    /**
+     * Return whether the consumer should stop fetching events from a partition because the worker that
+     * processes them has a backlog.  This is always false if workers are not configured.
+     *
+     * @param partition Kafka partition
+     * @return true if the partition should be paused
+     */
+    boolean isPartitionBusy(int partition)
+    {
+        return (workerPool != null) && (workerPool.isPartitionBusy(partition));
+    }
+
+
+    /**
+     * Pass an event to the listeners on the calling worker thread.
+     *
+     * @param event object containing the event properties.
+     */
+    void distributeEventOnWorker(IncomingEvent event)
+    {
+        super.distributeEvent(event);
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
@@ -428,6 +537,10 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             }
         }
 
+        if (workerPool != null) {
+            workerPool.shutdown();
+        }
+
         super.disconnect();
 
         if (auditLog != null)
@@ -442,6 +555,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
      * @return int
      */
     int getNumberOfUnprocessedEvents() {
+        if (workerPool != null) {
+            return incomingEventsList.size() + workerPool.getNumberOfQueuedEvents();
+        }
     	return incomingEventsList.size();
     }
 
@@ -141,6 +141,36 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode implements AuditLogMessageS
             "Check the  Kafka error logs for related messages that could " +
                     "indicate the cause of this error.  Work to clear the underlying error.  " +
                     "Once fixed, it may be necessary to restart the server to cause a reconnect to Kafka."),
+
+    SEND_QUEUE_FULL("OCF-KAFKA-TOPIC-CONNECTOR-0020",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The send queue for topic {0} is full with {1} events waiting.  New events are being handled with the {2} overflow policy",
+            "The server is producing events faster than Apache Kafka is accepting them.  Depending on the overflow policy, " +
+                    "the components sending events are made to wait, or events are discarded or rejected.",
+            "Review the operational status of Apache Kafka and the send latency reported by this connector.  If Kafka is healthy, " +
+                    "consider increasing the send queue size or the send batch size in the egeria_kafka_producer properties."),
+
+    PRODUCER_SEND_METRICS("OCF-KAFKA-TOPIC-CONNECTOR-0021",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Apache Kafka producer for topic {0} has {1} events waiting to be sent.  {2} events were sent since the last report with an average latency of {3} ms and a maximum latency of {4} ms; {5} events were discarded",
+            "The local server is reporting the activity of the Apache Kafka producer.  The latency is measured from when " +
+                    "the event is queued to when Apache Kafka acknowledges it.",
+            "No action is required.  This is part of the normal operation of the server."),
+
+    KAFKA_CONSUMER_WORKERS_START("OCF-KAFKA-TOPIC-CONNECTOR-0022",
+            OMRSAuditLogRecordSeverity.STARTUP,
+            "The Apache Kafka consumer for topic {0} is distributing events to {1} worker threads by {2}",
+            "The local server processes events from different partitions or shards in parallel.  Automatic offset commit " +
+                    "is disabled so that the offset of a partition is only committed once all of its earlier events are processed.",
+            "No action is required.  This is part of the normal operation of the server."),
+
+    PRODUCER_EVENTS_DISCARDED("OCF-KAFKA-TOPIC-CONNECTOR-0023",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The Apache Kafka producer for topic {0} discarded {1} {2}",
+            "The events could not be sent because Apache Kafka did not acknowledge them or because the sending thread " +
+                    "has stopped.  These events are lost.",
+            "Review the earlier messages from this connector and the Apache Kafka error logs for the cause of the failure.  " +
+                    "Once it is fixed, it may be necessary to restart the server to reconnect to Kafka."),
     ;
 
     private final AuditLogMessageDefinition messageDefinition;
@@ -40,7 +40,12 @@ public enum KafkaOpenMetadataTopicConnectorErrorCode implements ExceptionMessage
     ERROR_CONNECTING_KAFKA_PRODUCER(400, "OCF-KAFKA-TOPIC-CONNECTOR-400-003 ",
             "Egeria encountered an exception while attempting to connect a message producer to a Kafka.  The message in the exception was: {0}",
             "Egeria is unable to produce events",
-            "Ensure that the Kafka service is available and that the connection properties are valid.")
+            "Ensure that the Kafka service is available and that the connection properties are valid."),
+
+    SEND_QUEUE_FULL(500, "OCF-KAFKA-TOPIC-CONNECTOR-500-004 ",
+            "The event could not be sent to topic {0} because the send queue is full with {1} events waiting",
+            "The system is unable to accept the event.",
+            "Ensure that the Kafka service is available.  If it is, consider increasing the send queue size or changing the overflow policy.")
         ;
         private final ExceptionMessageDefinition messageDefinition;
 
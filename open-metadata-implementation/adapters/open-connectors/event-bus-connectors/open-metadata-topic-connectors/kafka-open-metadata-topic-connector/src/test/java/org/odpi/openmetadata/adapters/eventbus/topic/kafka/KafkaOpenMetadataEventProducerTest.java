@@ -0,0 +1,329 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the handling of the send queue by the KafkaOpenMetadataEventProducer.  The Kafka producer is
+ * replaced by a MockProducer that only acknowledges an event when the test completes it, so the
+ * sending thread is held on its first event while the queue fills.
+ */
+public class KafkaOpenMetadataEventProducerTest
+{
+    private static final long waitTimeout = 10000;
+
+    private MockProducer<String, String>   mockProducer   = null;
+    private KafkaOpenMetadataEventProducer eventProducer  = null;
+    private Thread                         producerThread = null;
+    private ExecutorService                senders        = null;
+
+
+    @AfterMethod
+    void tearDown() throws Exception
+    {
+        if (eventProducer != null)
+        {
+            eventProducer.safeCloseProducer();
+
+            while (producerThread.isAlive() && mockProducer.completeNext())
+            {
+                producerThread.join(10);
+            }
+
+            producerThread.join(waitTimeout);
+            assertFalse(producerThread.isAlive());
+        }
+
+        if (senders != null)
+        {
+            senders.shutdownNow();
+        }
+
+        mockProducer   = null;
+        eventProducer  = null;
+        producerThread = null;
+        senders        = null;
+    }
+
+
+    @Test
+    void testBlockPolicy() throws Exception
+    {
+        startProducer(KafkaOpenMetadataEventProducerOverflowPolicy.BLOCK);
+        fillQueue();
+
+        Future<?> blockedSend = sendInBackground("event-4");
+
+        try
+        {
+            blockedSend.get(500, TimeUnit.MILLISECONDS);
+            fail("Send did not wait for space in the queue");
+        }
+        catch (TimeoutException expected)
+        {
+            /* still waiting */
+        }
+
+        completeSends(4);
+        blockedSend.get(waitTimeout, TimeUnit.MILLISECONDS);
+
+        assertEquals(getSentEvents(), Arrays.asList("event-1", "event-2", "event-3", "event-4"));
+        assertEquals(eventProducer.getDroppedEventCount(), 0);
+    }
+
+
+    @Test
+    void testDropNewestPolicy() throws Exception
+    {
+        startProducer(KafkaOpenMetadataEventProducerOverflowPolicy.DROP_NEWEST);
+        fillQueue();
+
+        eventProducer.sendEvent("event-4");
+
+        assertEquals(eventProducer.getDroppedEventCount(), 1);
+
+        completeSends(3);
+
+        assertEquals(getSentEvents(), Arrays.asList("event-1", "event-2", "event-3"));
+    }
+
+
+    @Test
+    void testDropOldestPolicy() throws Exception
+    {
+        startProducer(KafkaOpenMetadataEventProducerOverflowPolicy.DROP_OLDEST);
+        fillQueue();
+
+        eventProducer.sendEvent("event-4");
+
+        assertEquals(eventProducer.getDroppedEventCount(), 1);
+        assertEquals(eventProducer.getSendQueueDepth(), 2);
+
+        completeSends(3);
+
+        assertEquals(getSentEvents(), Arrays.asList("event-1", "event-3", "event-4"));
+    }
+
+
+    @Test
+    void testFailPolicy() throws Exception
+    {
+        startProducer(KafkaOpenMetadataEventProducerOverflowPolicy.FAIL);
+        fillQueue();
+
+        assertThrows(ConnectorCheckedException.class, () -> eventProducer.sendEvent("event-4"));
+        assertEquals(eventProducer.getDroppedEventCount(), 1);
+
+        completeSends(3);
+
+        assertEquals(getSentEvents(), Arrays.asList("event-1", "event-2", "event-3"));
+    }
+
+
+    @Test
+    void testSenderDeath() throws Exception
+    {
+        startProducer(KafkaOpenMetadataEventProducerOverflowPolicy.BLOCK);
+        fillQueue();
+
+        Future<?> blockedSend = sendInBackground("event-4");
+
+        /*
+         * A non-retryable error stops the sending thread.  The caller waiting for space is released
+         * and the events in the batch and the queue are counted as dropped.
+         */
+        assertTrue(mockProducer.errorNext(new IllegalStateException("Test failure")));
+
+        producerThread.join(waitTimeout);
+        assertFalse(producerThread.isAlive());
+
+        try
+        {
+            blockedSend.get(waitTimeout, TimeUnit.MILLISECONDS);
+            fail("Send waiting for space in the queue was not rejected");
+        }
+        catch (ExecutionException expected)
+        {
+            assertTrue(expected.getCause() instanceof ConnectorCheckedException);
+        }
+
+        assertEquals(eventProducer.getSendQueueDepth(), 0);
+        assertEquals(eventProducer.getMessageSendCount(), 0);
+        assertEquals(eventProducer.getDroppedEventCount(), 4);
+
+        /*
+         * New events fail straight away rather than waiting or being left in the queue.
+         */
+        assertThrows(ConnectorCheckedException.class, () -> eventProducer.sendEvent("event-5"));
+        assertEquals(eventProducer.getSendQueueDepth(), 0);
+        assertEquals(eventProducer.getDroppedEventCount(), 5);
+    }
+
+
+    /**
+     * Start a producer with a send queue of two events that sends one event at a time.
+     *
+     * @param overflowPolicy what to do when the queue is full
+     */
+    private void startProducer(KafkaOpenMetadataEventProducerOverflowPolicy overflowPolicy)
+    {
+        Properties properties = new Properties();
+
+        properties.setProperty(KafkaOpenMetadataEventProducerProperty.MAX_QUEUE_SIZE.getPropertyName(), "2");
+        properties.setProperty(KafkaOpenMetadataEventProducerProperty.MAX_BATCH_SIZE.getPropertyName(), "1");
+        properties.setProperty(KafkaOpenMetadataEventProducerProperty.OVERFLOW_POLICY.getPropertyName(), overflowPolicy.name());
+        properties.setProperty(KafkaOpenMetadataEventProducerProperty.METRICS_INTERVAL.getPropertyName(), "0");
+
+        mockProducer  = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+        eventProducer = new KafkaOpenMetadataEventProducer("testTopic",
+                                                           "testServer",
+                                                           new Properties(),
+                                                           new KafkaOpenMetadataEventProducerConfiguration(properties, null),
+                                                           null,
+                                                           null)
+        {
+            @Override
+            Producer<String, String> createProducer()
+            {
+                return mockProducer;
+            }
+        };
+
+        producerThread = new Thread(eventProducer, "TestProducer");
+        producerThread.start();
+    }
+
+
+    /**
+     * Send the first event and wait for the sending thread to pass it to Kafka, then fill the queue
+     * with two more events.
+     *
+     * @throws Exception the events are not accepted
+     */
+    private void fillQueue() throws Exception
+    {
+        eventProducer.sendEvent("event-1");
+        waitFor(() -> mockProducer.history().size() == 1);
+
+        eventProducer.sendEvent("event-2");
+        eventProducer.sendEvent("event-3");
+
+        assertEquals(eventProducer.getSendQueueDepth(), 2);
+    }
+
+
+    /**
+     * Send an event from another thread.
+     *
+     * @param event event to send
+     * @return result of the send
+     */
+    private Future<?> sendInBackground(String event)
+    {
+        if (senders == null)
+        {
+            senders = Executors.newSingleThreadExecutor();
+        }
+
+        return senders.submit(() ->
+                              {
+                                  eventProducer.sendEvent(event);
+                                  return null;
+                              });
+    }
+
+
+    /**
+     * Acknowledge the events as the sending thread passes them to Kafka.
+     *
+     * @param count number of events to acknowledge
+     * @throws Exception the events are not sent in time
+     */
+    private void completeSends(int count) throws Exception
+    {
+        int completedCount = 0;
+
+        long endTime = System.currentTimeMillis() + waitTimeout;
+
+        while ((completedCount < count) && (System.currentTimeMillis() < endTime))
+        {
+            if (mockProducer.completeNext())
+            {
+                completedCount++;
+            }
+            else
+            {
+                Thread.sleep(10);
+            }
+        }
+
+        assertEquals(completedCount, count);
+        waitFor(() -> eventProducer.getMessageSendCount() == count);
+    }
+
+
+    /**
+     * Return the events that have been passed to Kafka.
+     *
+     * @return event contents in the order they were sent
+     */
+    private List<String> getSentEvents()
+    {
+        List<String> sentEvents = new ArrayList<>();
+
+        for (ProducerRecord<String, String> record : mockProducer.history())
+        {
+            sentEvents.add(record.value());
+        }
+
+        return sentEvents;
+    }
+
+
+    /**
+     * Wait for a condition to become true.
+     *
+     * @param condition condition to test
+     * @throws InterruptedException interrupted while waiting
+     */
+    private void waitFor(Condition condition) throws InterruptedException
+    {
+        long endTime = System.currentTimeMillis() + waitTimeout;
+
+        while ((! condition.isTrue()) && (System.currentTimeMillis() < endTime))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.isTrue());
+    }
+
+
+    /**
+     * A condition the test waits for.
+     */
+    private interface Condition
+    {
+        boolean isTrue();
+    }
+}
@@ -0,0 +1,238 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEvent;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the assignment of events to workers by the KafkaOpenMetadataEventWorkerPool.
+ */
+public class KafkaOpenMetadataEventWorkerPoolTest
+{
+    private static final int    workerCount  = 4;
+    private static final String shardKeyPath = KafkaOpenMetadataEventConsumerProperty.SHARD_KEY_PROPERTY.getDefaultValue();
+
+    private KafkaOpenMetadataEventWorkerPool workerPool = null;
+
+
+    @AfterMethod
+    void tearDown()
+    {
+        if (workerPool != null)
+        {
+            workerPool.shutdown();
+            workerPool = null;
+        }
+    }
+
+
+    @Test
+    void testShardKeyIsInstanceGUID()
+    {
+        workerPool = createWorkerPool(KafkaOpenMetadataEventWorkerPool.Mode.SHARD, new RecordingConnector(0));
+
+        Set<Integer> usedWorkers = new HashSet<>();
+
+        for (int i = 0; i < 20; i++)
+        {
+            String instanceGUID = "instance-" + i;
+            int    workerIndex  = workerPool.getWorkerIndex(0, createInstanceEvent(instanceGUID, "super-type-1", 0));
+
+            /*
+             * The guids of the type and its super types appear before the instance guid in the event
+             * but do not change the worker, and nor does the partition.
+             */
+            assertEquals(workerIndex, Math.floorMod(instanceGUID.hashCode(), workerCount));
+            assertEquals(workerPool.getWorkerIndex(3, createInstanceEvent(instanceGUID, "super-type-2", 1)), workerIndex);
+
+            usedWorkers.add(workerIndex);
+        }
+
+        assertEquals(usedWorkers.size(), workerCount);
+    }
+
+
+    @Test
+    void testEventsWithoutShardKeyUsePartition()
+    {
+        workerPool = createWorkerPool(KafkaOpenMetadataEventWorkerPool.Mode.SHARD, new RecordingConnector(0));
+
+        for (int partition = 0; partition < workerCount * 2; partition++)
+        {
+            int expectedIndex = partition % workerCount;
+
+            assertEquals(workerPool.getWorkerIndex(partition, createTypeDefEvent(partition)), expectedIndex);
+            assertEquals(workerPool.getWorkerIndex(partition, new KafkaIncomingEvent("{\"instanceEventSection\":{\"instanceGUID\":null}}", partition)), expectedIndex);
+            assertEquals(workerPool.getWorkerIndex(partition, new KafkaIncomingEvent("not json", partition)), expectedIndex);
+            assertEquals(workerPool.getWorkerIndex(partition, new KafkaIncomingEvent(null, partition)), expectedIndex);
+        }
+    }
+
+
+    @Test
+    void testPartitionMode()
+    {
+        workerPool = createWorkerPool(KafkaOpenMetadataEventWorkerPool.Mode.PARTITION, new RecordingConnector(0));
+
+        for (int partition = 0; partition < workerCount * 2; partition++)
+        {
+            assertEquals(workerPool.getWorkerIndex(partition, createInstanceEvent("instance-1", "super-type-1", 0)), partition % workerCount);
+        }
+    }
+
+
+    @Test
+    void testEventsForInstanceKeepOrder() throws Exception
+    {
+        final int instanceCount = 10;
+        final int eventCount    = 500;
+
+        RecordingConnector connector = new RecordingConnector(eventCount);
+        Map<Long, String>  instances = new HashMap<>();
+
+        workerPool = createWorkerPool(KafkaOpenMetadataEventWorkerPool.Mode.SHARD, connector);
+
+        for (long offset = 0; offset < eventCount; offset++)
+        {
+            String instanceGUID = "instance-" + (offset % instanceCount);
+
+            instances.put(offset, instanceGUID);
+            workerPool.submit((int)(offset % 3), createInstanceEvent(instanceGUID, "super-type-" + (offset % 7), offset));
+        }
+
+        assertTrue(connector.waitForEvents());
+
+        Map<String, Long> lastOffsets = new HashMap<>();
+
+        for (long offset : connector.getProcessedOffsets())
+        {
+            Long lastOffset = lastOffsets.put(instances.get(offset), offset);
+
+            assertTrue((lastOffset == null) || (lastOffset < offset), "Event " + offset + " processed after " + lastOffset);
+        }
+
+        assertEquals(lastOffsets.size(), instanceCount);
+    }
+
+
+    /**
+     * Create a worker pool using the default shard key.
+     *
+     * @param mode how events are assigned to workers
+     * @param connector connector that receives the events
+     * @return worker pool
+     */
+    private KafkaOpenMetadataEventWorkerPool createWorkerPool(KafkaOpenMetadataEventWorkerPool.Mode mode,
+                                                              RecordingConnector                    connector)
+    {
+        return new KafkaOpenMetadataEventWorkerPool("testTopic", mode, workerCount, 100, shardKeyPath, connector, null);
+    }
+
+
+    /**
+     * Create an OMRS instance event for an entity.  The properties are in the order Jackson writes them,
+     * so the guids of the entity's type and super type come before the guid of the entity.
+     *
+     * @param instanceGUID unique identifier of the entity
+     * @param superTypeGUID unique identifier of the entity's super type
+     * @param offset offset of the event
+     * @return event
+     */
+    private KafkaIncomingEvent createInstanceEvent(String instanceGUID,
+                                                   String superTypeGUID,
+                                                   long   offset)
+    {
+        String json = "{\"class\":\"OMRSEventV1\",\"eventCategory\":\"INSTANCE\","
+                    + "\"originator\":{\"metadataCollectionId\":\"collection-1\"},"
+                    + "\"instanceEventSection\":{\"eventType\":\"UPDATED_ENTITY_EVENT\",\"typeDefGUID\":\"type-1\","
+                    + "\"entity\":{\"class\":\"EntityDetail\",\"type\":{\"typeDefGUID\":\"type-1\",\"typeDefSuperTypes\":[{\"guid\":\""
+                    + superTypeGUID + "\",\"name\":\"Referenceable\"}]},\"guid\":\"" + instanceGUID + "\"},"
+                    + "\"instanceGUID\":\"" + instanceGUID + "\"}}";
+
+        return new KafkaIncomingEvent(json, offset);
+    }
+
+
+    /**
+     * Create an OMRS type definition event.
+     *
+     * @param offset offset of the event
+     * @return event
+     */
+    private KafkaIncomingEvent createTypeDefEvent(long offset)
+    {
+        String json = "{\"class\":\"OMRSEventV1\",\"eventCategory\":\"TYPEDEF\","
+                    + "\"typeDefEventSection\":{\"eventType\":\"NEW_TYPEDEF_EVENT\",\"typeDef\":{\"guid\":\"type-" + offset + "\"}}}";
+
+        return new KafkaIncomingEvent(json, offset);
+    }
+
+
+    /**
+     * Connector that records the offsets of the events in the order they are processed.
+     */
+    private static class RecordingConnector extends KafkaOpenMetadataTopicConnector
+    {
+        private final List<Long>     processedOffsets = new ArrayList<>();
+        private final CountDownLatch processed;
+
+
+        /**
+         * Constructor.
+         *
+         * @param eventCount number of events to wait for
+         */
+        RecordingConnector(int eventCount)
+        {
+            processed = new CountDownLatch(eventCount);
+        }
+
+
+        /**
+         * Wait for all of the events to be processed.
+         *
+         * @return true if all of the events were processed
+         * @throws InterruptedException interrupted while waiting
+         */
+        boolean waitForEvents() throws InterruptedException
+        {
+            return processed.await(10, TimeUnit.SECONDS);
+        }
+
+
+        /**
+         * Return the offsets of the processed events.
+         *
+         * @return offsets in the order the events were processed
+         */
+        synchronized List<Long> getProcessedOffsets()
+        {
+            return new ArrayList<>(processedOffsets);
+        }
+
+
+        @Override
+        void distributeEventOnWorker(IncomingEvent event)
+        {
+            synchronized (this)
+            {
+                processedOffsets.add(((KafkaIncomingEvent)event).getOffset());
+            }
+
+            processed.countDown();
+        }
+    }
+}
@@ -19,7 +19,9 @@ import org.odpi.openmetadata.integrationservices.files.connector.FilesIntegrator
 
 import java.io.File;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -30,12 +32,14 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 {
     String  templateQualifiedName = null;
     boolean allowCatalogDelete    = false;
+    String  manifestFileName      = null;
 
     private String            fileDirectoryName = null;
     private FileFolderElement dataFolderElement = null;
     private File              dataFolderFile    = null;
 
 
+    private Map<String, DirectoryWatcher>      watchers = new HashMap<>();
     private Map<String, FileAlterationMonitor> monitors = new HashMap<>();
 
     private static int POLL_INTERVAL = 500; // milliseconds
@@ -73,7 +77,19 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                 allowCatalogDelete = true;
             }
 
-            templateQualifiedName = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY).toString();
+            Object templateProperty = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
+
+            if (templateProperty != null)
+            {
+                templateQualifiedName = templateProperty.toString();
+            }
+
+            Object manifestProperty = configurationProperties.get(BasicFilesMonitorIntegrationProviderBase.MANIFEST_FILE_NAME_CONFIGURATION_PROPERTY);
+
+            if (manifestProperty != null)
+            {
+                manifestFileName = manifestProperty.toString();
+            }
         }
 
         /*
@@ -286,7 +302,9 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
 
     /**
      * Register a listener for a particular directory (folder).  This results in events whenever there are changes to the files and
-     * folders immediately in this directory.
+     * folders immediately in this directory.  The file system's watch service is used where the file system supports it.
+     * Otherwise the directory is polled by the Apache Commons FileAlterationMonitor.  A watch service registration covers
+     * the subdirectories too, so nothing is done for a directory that is already watched.
      *
      * @param directory directory to monitor
      * @param methodName calling method
@@ -294,14 +312,15 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     synchronized void initiateDirectoryMonitoring(File   directory,
                                                   String methodName)
     {
-        FileAlterationObserver observer = new FileAlterationObserver(fileDirectoryName);
-        FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
-        FileAlterationListener listener = this.getListener();
-
-        observer.addListener(listener);
-        monitor.addObserver(observer);
+        for (DirectoryWatcher watcher : watchers.values())
+        {
+            if (watcher.isWatching(directory))
+            {
+                return;
+            }
+        }
 
-        monitors.put(directory.getName(), monitor);
+        FileAlterationListener listener = this.getListener();
 
         if (auditLog != null)
         {
@@ -310,6 +329,35 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
                                                                                                                             directory.getAbsolutePath()));
         }
 
+        try
+        {
+            DirectoryWatcher watcher = new DirectoryWatcher(connectorName, directory, listener);
+
+            watchers.put(directory.getName(), watcher);
+            watcher.start();
+
+            return;
+        }
+        catch (Exception error)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    BasicFilesIntegrationConnectorsAuditCode.POLLING_DIRECTORY.getMessageDefinition(connectorName,
+                                                                                                                    directory.getAbsolutePath(),
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage()));
+            }
+        }
+
+        FileAlterationObserver observer = new FileAlterationObserver(fileDirectoryName);
+        FileAlterationMonitor  monitor  = new FileAlterationMonitor(POLL_INTERVAL);
+
+        observer.addListener(listener);
+        monitor.addObserver(observer);
+
+        monitors.put(directory.getName(), monitor);
+
         try
         {
             monitor.start();
@@ -340,6 +388,35 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     synchronized void stopDirectoryMonitoring(String fileName,
                                               String methodName)
     {
+        DirectoryWatcher watcher = watchers.remove(fileName);
+
+        if (watcher != null)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    BasicFilesIntegrationConnectorsAuditCode.DIRECTORY_MONITORING_STOPPING.getMessageDefinition(connectorName,
+                                                                                                                                fileName));
+            }
+
+            try
+            {
+                watcher.stop(POLL_INTERVAL * 2);
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          BasicFilesIntegrationConnectorsAuditCode.UNEXPECTED_EXC_MONITOR_STOP.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                    connectorName,
+                                                                                                                                    fileName,
+                                                                                                                                    error.getMessage()),
+                                          error);
+                }
+            }
+        }
+
         FileAlterationMonitor monitor = monitors.get(fileName);
 
         if (monitor != null)
@@ -383,7 +460,15 @@ public abstract class BasicFilesMonitorIntegrationConnectorBase extends FilesInt
     {
         final String methodName = "disconnect";
 
-        for (String fileName : monitors.keySet())
+        Set<String> fileNames = new HashSet<>();
+
+        synchronized (this)
+        {
+            fileNames.addAll(watchers.keySet());
+            fileNames.addAll(monitors.keySet());
+        }
+
+        for (String fileName : fileNames)
         {
             this.stopDirectoryMonitoring(fileName, methodName);
         }
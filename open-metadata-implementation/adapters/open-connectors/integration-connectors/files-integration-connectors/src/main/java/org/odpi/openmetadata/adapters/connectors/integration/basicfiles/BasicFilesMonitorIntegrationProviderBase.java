@@ -20,6 +20,7 @@ class BasicFilesMonitorIntegrationProviderBase extends IntegrationConnectorProvi
 {
     static final String TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY = "templateQualifiedName";
     static final String ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY    = "allowCatalogDelete";
+    static final String MANIFEST_FILE_NAME_CONFIGURATION_PROPERTY      = "manifestFileName";
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -62,6 +63,7 @@ class BasicFilesMonitorIntegrationProviderBase extends IntegrationConnectorProvi
         List<String> recognizedConfigurationProperties = new ArrayList<>();
         recognizedConfigurationProperties.add(TEMPLATE_QUALIFIED_NAME_CONFIGURATION_PROPERTY);
         recognizedConfigurationProperties.add(ALLOW_CATALOG_DELETE_CONFIGURATION_PROPERTY);
+        recognizedConfigurationProperties.add(MANIFEST_FILE_NAME_CONFIGURATION_PROPERTY);
 
         connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
 
@@ -0,0 +1,264 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * DataFilesManifest is the local record of the files that the DataFilesMonitorIntegrationConnector has catalogued.
+ * For each file it holds the size and last modified time that was catalogued along with the unique identifier (guid)
+ * of its DataFile asset.  It allows the refresh to send only the new, changed and removed files to the
+ * Files Integrator OMIS rather than checking every file in the directory.
+ * <p>
+ * The manifest is saved as a text file with one line per file: guid, size, last modified time and absolute path,
+ * separated by tabs.  It is written to a temporary file and then moved into place so that a failure part way through
+ * does not leave a damaged manifest.
+ * </p>
+ */
+class DataFilesManifest
+{
+    private static final String separator = "\t";
+
+    private final File                       manifestFile;
+    private final Map<String, ManifestEntry> entries = new ConcurrentHashMap<>();
+    private volatile boolean                 loaded  = false;
+
+
+    /**
+     * The values recorded for a catalogued file.
+     */
+    static class ManifestEntry
+    {
+        private final String guid;
+        private final long   size;
+        private final long   lastModified;
+
+
+        /**
+         * Constructor
+         *
+         * @param guid unique identifier of the DataFile asset
+         * @param size size of the file when it was catalogued
+         * @param lastModified last modified time of the file when it was catalogued
+         */
+        ManifestEntry(String guid,
+                      long   size,
+                      long   lastModified)
+        {
+            this.guid         = guid;
+            this.size         = size;
+            this.lastModified = lastModified;
+        }
+
+
+        /**
+         * Return the unique identifier of the DataFile asset.
+         *
+         * @return guid
+         */
+        String getGUID()
+        {
+            return guid;
+        }
+
+
+        /**
+         * Return whether the file has changed since it was catalogued.
+         *
+         * @param file file on the file system
+         * @return boolean
+         */
+        boolean isChanged(File file)
+        {
+            return (size != file.length()) || (lastModified != file.lastModified());
+        }
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param manifestFile location of the saved manifest
+     */
+    DataFilesManifest(File manifestFile)
+    {
+        this.manifestFile = manifestFile;
+    }
+
+
+    /**
+     * Return the location of the saved manifest.
+     *
+     * @return file
+     */
+    File getManifestFile()
+    {
+        return manifestFile;
+    }
+
+
+    /**
+     * Return whether the manifest reflects the catalog - that is, it has been read from a saved manifest
+     * or built by a full refresh.
+     *
+     * @return boolean
+     */
+    boolean isLoaded()
+    {
+        return loaded;
+    }
+
+
+    /**
+     * Record that the manifest has been built by a full refresh.
+     */
+    void setLoaded()
+    {
+        loaded = true;
+    }
+
+
+    /**
+     * Read the saved manifest.  If there is no saved manifest, or it can not be read, the manifest is left empty
+     * and is not marked as loaded.
+     *
+     * @throws IOException the saved manifest can not be read
+     */
+    void load() throws IOException
+    {
+        entries.clear();
+        loaded = false;
+
+        if (! manifestFile.exists())
+        {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8))
+        {
+            String line;
+
+            while ((line = reader.readLine()) != null)
+            {
+                if (! line.isEmpty())
+                {
+                    String[] fields = line.split(separator, 4);
+
+                    if (fields.length != 4)
+                    {
+                        throw new IOException("Badly formatted manifest line: " + line);
+                    }
+
+                    try
+                    {
+                        entries.put(fields[3], new ManifestEntry(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2])));
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        throw new IOException("Badly formatted manifest line: " + line, error);
+                    }
+                }
+            }
+        }
+        catch (IOException error)
+        {
+            entries.clear();
+            throw error;
+        }
+
+        loaded = true;
+    }
+
+
+    /**
+     * Write the manifest to its file.
+     *
+     * @throws IOException the manifest can not be written
+     */
+    void save() throws IOException
+    {
+        File directory = manifestFile.getAbsoluteFile().getParentFile();
+
+        if ((directory != null) && (! directory.exists()))
+        {
+            Files.createDirectories(directory.toPath());
+        }
+
+        File tempFile = new File(manifestFile.getAbsolutePath() + ".tmp");
+
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8))
+        {
+            for (Map.Entry<String, ManifestEntry> entry : entries.entrySet())
+            {
+                ManifestEntry manifestEntry = entry.getValue();
+
+                writer.write(manifestEntry.guid + separator + manifestEntry.size + separator + manifestEntry.lastModified + separator + entry.getKey());
+                writer.newLine();
+            }
+        }
+
+        Files.move(tempFile.toPath(), manifestFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+
+    /**
+     * Return the entry for a file.
+     *
+     * @param file file on the file system
+     * @return entry or null if the file is not in the manifest
+     */
+    ManifestEntry getEntry(File file)
+    {
+        return entries.get(file.getAbsolutePath());
+    }
+
+
+    /**
+     * Record the catalogued values for a file.
+     *
+     * @param file file on the file system
+     * @param guid unique identifier of its DataFile asset
+     */
+    void putEntry(File   file,
+                  String guid)
+    {
+        if (guid != null)
+        {
+            entries.put(file.getAbsolutePath(), new ManifestEntry(guid, file.length(), file.lastModified()));
+        }
+    }
+
+
+    /**
+     * Remove a file from the manifest.
+     *
+     * @param file file that is no longer on the file system
+     */
+    void removeEntry(File file)
+    {
+        entries.remove(file.getAbsolutePath());
+    }
+
+
+    /**
+     * Return the absolute path names of the files in the manifest.
+     *
+     * @return set of path names
+     */
+    Set<String> getPathNames()
+    {
+        return new HashSet<>(entries.keySet());
+    }
+}
@@ -23,12 +23,54 @@ import java.util.*;
 
 /**
  * DataFilesMonitorIntegrationConnector monitors a file directory and catalogues the files it finds.
+ * If the manifestFileName configuration property is set, the connector keeps a local manifest of the files it has
+ * catalogued so that its refresh only needs to send the new, changed and removed files to the Files Integrator OMIS.
  */
 public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorIntegrationConnectorBase
 {
     private static final Logger log = LoggerFactory.getLogger(DataFilesMonitorIntegrationConnector.class);
 
-    private String templateGUID = null;
+    private String            templateGUID = null;
+    private DataFilesManifest manifest     = null;
+
+
+    /**
+     * Indicates that the connector is completely configured and can begin processing.
+     * This call can be used to register with non-blocking services.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        final String methodName = "start";
+
+        if (manifestFileName != null)
+        {
+            DataFilesManifest newManifest = new DataFilesManifest(new File(manifestFileName));
+
+            try
+            {
+                newManifest.load();
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          BasicFilesIntegrationConnectorsAuditCode.MANIFEST_NOT_LOADED.getMessageDefinition(connectorName,
+                                                                                                                            manifestFileName,
+                                                                                                                            error.getClass().getName(),
+                                                                                                                            error.getMessage()),
+                                          error);
+                }
+            }
+
+            manifest = newManifest;
+        }
+    }
 
     /**
      * Set up the file listener class - this is implemented by the subclasses
@@ -108,6 +150,10 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
      * catalog - adding or updating them if necessary.  The second sweep is to ensure that all of the assets catalogued
      * in this directory actually exist on the file system.
      *
+     * If the connector has a manifest of the files it has catalogued, the directory is compared with the manifest
+     * instead and only the differences are sent to the Files Integrator OMIS.  The two sweeps are used to build the
+     * manifest the first time.
+     *
      * @throws ConnectorCheckedException there is a problem with the connector.  It is not able to refresh the metadata.
      */
     @Override
@@ -117,7 +163,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
         File directory = this.getRootDirectoryFile();
 
-        if (directory != null)
+        if ((directory != null) && (manifest != null) && (manifest.isLoaded()))
+        {
+            this.refreshFromManifest(directory, methodName);
+        }
+        else if (directory != null)
         {
             /*
              * Sweep one - cataloguing all files
@@ -206,6 +256,149 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
                         error,
                         directory.getAbsolutePath());
             }
+
+            if (manifest != null)
+            {
+                manifest.setLoaded();
+                this.saveManifest(methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Compare the files in the directory with the manifest and send only the new, changed and removed files to
+     * the Files Integrator OMIS.  Files in the manifest that are not in the directory listing are checked
+     * individually since they may be in a monitored subdirectory.
+     *
+     * @param directory root directory
+     * @param methodName calling method
+     */
+    private void refreshFromManifest(File   directory,
+                                     String methodName)
+    {
+        int newFiles       = 0;
+        int changedFiles   = 0;
+        int removedFiles   = 0;
+        int unchangedFiles = 0;
+
+        Set<String> missingPathNames = manifest.getPathNames();
+        File[]      filesArray       = directory.listFiles();
+
+        if (filesArray != null)
+        {
+            for (File file : filesArray)
+            {
+                if (file != null)
+                {
+                    missingPathNames.remove(file.getAbsolutePath());
+
+                    DataFilesManifest.ManifestEntry manifestEntry = manifest.getEntry(file);
+
+                    if (manifestEntry == null)
+                    {
+                        this.catalogFile(file, methodName);
+                        newFiles ++;
+                    }
+                    else if (manifestEntry.isChanged(file))
+                    {
+                        this.updateFileInCatalog(file);
+                        changedFiles ++;
+                    }
+                    else
+                    {
+                        unchangedFiles ++;
+                    }
+                }
+            }
+        }
+
+        for (String pathName : missingPathNames)
+        {
+            File file = new File(pathName);
+
+            if (! file.exists())
+            {
+                this.archiveFileInCatalog(file, null, methodName);
+                removedFiles ++;
+            }
+        }
+
+        this.saveManifest(methodName);
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(methodName,
+                                BasicFilesIntegrationConnectorsAuditCode.INCREMENTAL_REFRESH.getMessageDefinition(connectorName,
+                                                                                                                  directory.getAbsolutePath(),
+                                                                                                                  Integer.toString(newFiles),
+                                                                                                                  Integer.toString(changedFiles),
+                                                                                                                  Integer.toString(removedFiles),
+                                                                                                                  Integer.toString(unchangedFiles)));
+        }
+    }
+
+
+    /**
+     * Write the manifest to its file.  A failure is logged and the manifest in memory continues to be used.
+     *
+     * @param methodName calling method
+     */
+    private void saveManifest(String methodName)
+    {
+        if (manifest != null)
+        {
+            try
+            {
+                manifest.save();
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          BasicFilesIntegrationConnectorsAuditCode.MANIFEST_NOT_SAVED.getMessageDefinition(connectorName,
+                                                                                                                           manifest.getManifestFile().getAbsolutePath(),
+                                                                                                                           error.getClass().getName(),
+                                                                                                                           error.getMessage()),
+                                          error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Record a catalogued file in the manifest.
+     *
+     * @param file catalogued file
+     * @param guid unique identifier of its DataFile asset
+     */
+    private void recordInManifest(File   file,
+                                  String guid)
+    {
+        if (manifest != null)
+        {
+            manifest.putEntry(file, guid);
+        }
+    }
+
+
+    /**
+     * Save the manifest and shutdown file monitoring.
+     *
+     * @throws ConnectorCheckedException something failed in the super class
+     */
+    @Override
+    public void disconnect() throws ConnectorCheckedException
+    {
+        final String methodName = "disconnect";
+
+        super.disconnect();
+
+        if ((manifest != null) && (manifest.isLoaded()))
+        {
+            this.saveManifest(methodName);
         }
     }
 
@@ -225,7 +418,14 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
             {
                 DataFileElement cataloguedElement = this.getContext().getFileByPathName(file.getAbsolutePath());
 
-                if (cataloguedElement == null)
+                if (cataloguedElement != null)
+                {
+                    if (cataloguedElement.getElementHeader() != null)
+                    {
+                        this.recordInManifest(file, cataloguedElement.getElementHeader().getGUID());
+                    }
+                }
+                else
                 {
                     if (templateQualifiedName == null)
                     {
@@ -240,6 +440,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
                         List<String> guids = this.getContext().addDataFileToCatalog(properties, null);
 
+                        if ((guids != null) && (!guids.isEmpty()))
+                        {
+                            this.recordInManifest(file, guids.get(guids.size() - 1));
+                        }
+
                         if ((guids != null) && (!guids.isEmpty()) && (auditLog != null))
                         {
                             auditLog.logMessage(methodName,
@@ -293,6 +498,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
                             List<String> guids = this.getContext().addDataFileToCatalogFromTemplate(templateGUID, properties);
 
+                            if ((guids != null) && (!guids.isEmpty()))
+                            {
+                                this.recordInManifest(file, guids.get(guids.size() - 1));
+                            }
+
                             if ((guids != null) && (!guids.isEmpty()) && (auditLog != null))
                             {
                                 auditLog.logMessage(methodName,
@@ -402,6 +612,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
                 if (cataloguedElement == null)
                 {
+                    if (manifest != null)
+                    {
+                        manifest.removeEntry(file);
+                    }
+
                     return;
                 }
 
@@ -413,6 +628,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
                         this.getContext().deleteDataFileFromCatalog(cataloguedElement.getElementHeader().getGUID(),
                                                                     cataloguedElement.getDataFileProperties().getQualifiedName());
 
+                        if (manifest != null)
+                        {
+                            manifest.removeEntry(file);
+                        }
+
                         if (auditLog != null)
                         {
                             auditLog.logMessage(methodName,
@@ -430,6 +650,11 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
                         this.getContext().archiveDataFileInCatalog(cataloguedElement.getElementHeader().getGUID(), archiveProperties);
 
+                        if (manifest != null)
+                        {
+                            manifest.removeEntry(file);
+                        }
+
                         if (auditLog != null)
                         {
                             auditLog.logMessage(methodName,
@@ -492,6 +717,8 @@ public class DataFilesMonitorIntegrationConnector extends BasicFilesMonitorInteg
 
                         this.getContext().updateDataFileInCatalog(dataFileInCatalog.getElementHeader().getGUID(), true, properties);
 
+                        this.recordInManifest(file, dataFileInCatalog.getElementHeader().getGUID());
+
                         if (auditLog != null)
                         {
                             auditLog.logMessage(methodName,
@@ -0,0 +1,294 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.monitor.FileAlterationListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+
+/**
+ * DirectoryWatcher uses the Java NIO WatchService to receive notifications of changes to the files and directories
+ * within a directory and all of its subdirectories.  The notifications are passed to the same FileAlterationListener
+ * that is used with the Apache Commons FileAlterationMonitor, so the connectors do not need to know which mechanism is
+ * in use.  Unlike the FileAlterationMonitor, the directory is not scanned at intervals - the operating system reports
+ * the changes.
+ * <p>
+ * The WatchService only reports changes immediately within a registered directory so each subdirectory is registered
+ * too.  A new subdirectory is registered when it is reported and then its contents are reported as created, since
+ * files may be added to it before it is registered.  This is the same order of events as the FileAlterationMonitor.
+ * </p>
+ * <p>
+ * The events received together are combined so that a file that is written in several steps is reported once.
+ * </p>
+ */
+class DirectoryWatcher implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private final File                   directory;
+    private final FileAlterationListener listener;
+    private final WatchService           watchService;
+    private final Thread                 watcherThread;
+    private final Map<WatchKey, File>    watchedDirectories = new HashMap<>();
+    private final Set<String>            knownDirectories   = ConcurrentHashMap.newKeySet();
+
+
+    /**
+     * Register the directory and its subdirectories with the file system's watch service.
+     *
+     * @param connectorName name of the connector - used to name the watcher thread
+     * @param directory directory to watch
+     * @param listener listener to notify of changes
+     * @throws IOException the file system does not support watching this directory
+     * @throws UnsupportedOperationException the file system does not support a watch service
+     */
+    DirectoryWatcher(String                 connectorName,
+                     File                   directory,
+                     FileAlterationListener listener) throws IOException
+    {
+        this.directory    = directory;
+        this.listener     = listener;
+        this.watchService = directory.toPath().getFileSystem().newWatchService();
+
+        try
+        {
+            this.watchDirectoryTree(directory, false);
+        }
+        catch (IOException | RuntimeException error)
+        {
+            watchService.close();
+            throw error;
+        }
+
+        this.watcherThread = new Thread(this, connectorName + "::DirectoryWatcher-" + directory.getName());
+        this.watcherThread.setDaemon(true);
+    }
+
+
+    /**
+     * Register a directory and its subdirectories with the watch service.  Called from the constructor and
+     * then only from the watcher thread.
+     *
+     * @param newDirectory directory to register
+     * @param notify whether to report the directory and its contents to the listener as created
+     * @throws IOException the directory can not be registered
+     */
+    private void watchDirectoryTree(File    newDirectory,
+                                    boolean notify) throws IOException
+    {
+        WatchKey watchKey = newDirectory.toPath().register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+
+        watchedDirectories.put(watchKey, newDirectory);
+        knownDirectories.add(newDirectory.getAbsolutePath());
+
+        if (notify)
+        {
+            listener.onDirectoryCreate(newDirectory);
+        }
+
+        File[] children = newDirectory.listFiles();
+
+        if (children != null)
+        {
+            for (File child : children)
+            {
+                if (child.isDirectory())
+                {
+                    this.watchDirectoryTree(child, notify);
+                }
+                else if (notify)
+                {
+                    listener.onFileCreate(child);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return whether changes to a directory are reported by this watcher.
+     *
+     * @param otherDirectory directory to test
+     * @return boolean
+     */
+    boolean isWatching(File otherDirectory)
+    {
+        return knownDirectories.contains(otherDirectory.getAbsolutePath());
+    }
+
+
+    /**
+     * Start the thread that receives the notifications.
+     */
+    void start()
+    {
+        watcherThread.start();
+    }
+
+
+    /**
+     * Stop receiving notifications.
+     *
+     * @param timeout maximum time in milliseconds to wait for the watcher thread to finish
+     * @throws IOException problem closing the watch service
+     * @throws InterruptedException interrupted while waiting for the watcher thread
+     */
+    void stop(long timeout) throws IOException, InterruptedException
+    {
+        watchService.close();
+        watcherThread.join(timeout);
+    }
+
+
+    /**
+     * Watcher thread: wait for notifications and pass them to the listener.
+     */
+    @Override
+    public void run()
+    {
+        while (true)
+        {
+            WatchKey watchKey;
+
+            try
+            {
+                watchKey = watchService.take();
+            }
+            catch (ClosedWatchServiceException | InterruptedException stopped)
+            {
+                return;
+            }
+
+            File changedDirectory = watchedDirectories.get(watchKey);
+
+            if (changedDirectory == null)
+            {
+                watchKey.cancel();
+                continue;
+            }
+
+            /*
+             * Combine the events for each file - the last kind of event wins except that a create followed
+             * by modifications is still a create.
+             */
+            Map<String, WatchEvent.Kind<?>> changes = new LinkedHashMap<>();
+
+            for (WatchEvent<?> watchEvent : watchKey.pollEvents())
+            {
+                if (watchEvent.kind() == OVERFLOW)
+                {
+                    log.debug("Events lost for directory " + changedDirectory.getAbsolutePath() + "; they will be picked up by the next refresh");
+                    continue;
+                }
+
+                String             fileName     = ((Path) watchEvent.context()).toString();
+                WatchEvent.Kind<?> previousKind = changes.get(fileName);
+
+                if ((previousKind == ENTRY_CREATE) && (watchEvent.kind() == ENTRY_MODIFY))
+                {
+                    continue;
+                }
+
+                changes.remove(fileName);
+                changes.put(fileName, watchEvent.kind());
+            }
+
+            for (Map.Entry<String, WatchEvent.Kind<?>> change : changes.entrySet())
+            {
+                try
+                {
+                    this.notifyListener(new File(changedDirectory, change.getKey()), change.getValue());
+                }
+                catch (Exception error)
+                {
+                    log.error("Unexpected error processing change to " + change.getKey() + " in directory " + changedDirectory.getAbsolutePath(), error);
+                }
+            }
+
+            if (! watchKey.reset())
+            {
+                /*
+                 * The directory is no longer accessible.  A subdirectory has been removed and is reported
+                 * through its parent.  If it is the top-level directory, the watcher stops.
+                 */
+                watchedDirectories.remove(watchKey);
+
+                if (changedDirectory.equals(directory))
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Pass a change to the listener.
+     *
+     * @param file file or directory that changed
+     * @param kind kind of change
+     */
+    private void notifyListener(File               file,
+                                WatchEvent.Kind<?> kind)
+    {
+        if (kind == ENTRY_CREATE)
+        {
+            if (file.isDirectory())
+            {
+                if (! knownDirectories.contains(file.getAbsolutePath()))
+                {
+                    try
+                    {
+                        this.watchDirectoryTree(file, true);
+                    }
+                    catch (IOException error)
+                    {
+                        log.error("Unable to watch directory " + file.getAbsolutePath() + "; changes to it will be picked up by the next refresh", error);
+                    }
+                }
+            }
+            else
+            {
+                listener.onFileCreate(file);
+            }
+        }
+        else if (kind == ENTRY_DELETE)
+        {
+            if (knownDirectories.remove(file.getAbsolutePath()))
+            {
+                String subdirectoryPrefix = file.getAbsolutePath() + File.separator;
+
+                knownDirectories.removeIf(knownDirectory -> knownDirectory.startsWith(subdirectoryPrefix));
+                listener.onDirectoryDelete(file);
+            }
+            else
+            {
+                listener.onFileDelete(file);
+            }
+        }
+        else if ((kind == ENTRY_MODIFY) && (! file.isDirectory()))
+        {
+            listener.onFileChange(file);
+        }
+    }
+}
@@ -62,7 +62,8 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
     DIRECTORY_MONITORING_STARTING("BASIC-FILES-INTEGRATION-CONNECTORS-0005",
                               OMRSAuditLogRecordSeverity.INFO,
                               "The {0} integration connector is initiating the monitoring of file directory {1}",
-                              "The connector is calling the monitoring library from Apache Commons. " +
+                              "The connector is registering the directory with the file system watch service, or if that is not " +
+                                      "available, the monitoring library from Apache Commons.  " +
                                       "This will start a background thread to monitor the file directory.  Any changes to the files in the " +
                                       "directory will be reported to this integration connector.",
                               "No action is required unless there are errors that follow indicating that the monitoring of the directory failed to start."),
@@ -80,7 +81,7 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
     DIRECTORY_MONITORING_STOPPING("BASIC-FILES-INTEGRATION-CONNECTORS-0007",
                                   OMRSAuditLogRecordSeverity.INFO,
                                   "The {0} integration connector is stopping the monitoring of file directory {1}",
-                                  "The connector is calling the monitoring library from Apache Commons to stop the monitoring of the directory.  " +
+                                  "The connector is stopping the monitoring of the directory.  " +
                                           "This will stop the background thread monitoring the file directory.  Any changes to the files in the " +
                                           "directory will be ignored by the connector.",
                                   "No action is required unless there are errors that follow indicating that the monitoring failed to stop."),
@@ -179,6 +180,35 @@ public enum BasicFilesIntegrationConnectorsAuditCode implements AuditLogMessageS
                               "Its presence is still needed in the metadata repository for lineage reporting.",
                       "No action is required.  This message is to record the reason why the DataFile was archived."),
 
+    MANIFEST_NOT_LOADED("BASIC-FILES-INTEGRATION-CONNECTORS-0021",
+                        OMRSAuditLogRecordSeverity.ERROR,
+                        "The {0} integration connector is unable to read its file manifest {1}.  The {2} exception was returned with message {3}",
+                        "The connector ignores the manifest and performs a full refresh of the directory.  This rebuilds the manifest.",
+                        "Use the message in the exception to determine why the manifest could not be read.  No action is needed " +
+                                "if the manifest was removed or damaged since it will be rebuilt."),
+
+    MANIFEST_NOT_SAVED("BASIC-FILES-INTEGRATION-CONNECTORS-0022",
+                       OMRSAuditLogRecordSeverity.ERROR,
+                       "The {0} integration connector is unable to write its file manifest {1}.  The {2} exception was returned with message {3}",
+                       "The connector continues to use the manifest in memory.  If the connector restarts before the manifest " +
+                               "is saved, it performs a full refresh of the directory.",
+                       "Use the message in the exception to determine why the manifest could not be written and correct the " +
+                               "manifestFileName configuration property or the permissions of its directory."),
+
+    INCREMENTAL_REFRESH("BASIC-FILES-INTEGRATION-CONNECTORS-0023",
+                        OMRSAuditLogRecordSeverity.INFO,
+                        "The {0} integration connector has refreshed directory {1} using its file manifest: {2} new files, {3} changed files, " +
+                                "{4} removed files and {5} unchanged files",
+                        "Only the new, changed and removed files were passed to the Files Integrator OMIS.",
+                        "No action is required.  This message is to record the result of the refresh."),
+
+    POLLING_DIRECTORY("BASIC-FILES-INTEGRATION-CONNECTORS-0024",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The {0} integration connector is unable to use the file system watch service for directory {1} and is polling it instead.  " +
+                              "The {2} exception was returned with message {3}",
+                      "The connector uses the Apache Commons FileAlterationMonitor to check the directory for changes at regular intervals.",
+                      "No action is required.  Some file systems, such as network file systems, do not support change notifications."),
+
 
     ;
 
@@ -0,0 +1,151 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the saving and loading of the DataFilesManifest.
+ */
+public class DataFilesManifestTest
+{
+    private File testDirectory = null;
+
+
+    @BeforeMethod
+    void setUp() throws Exception
+    {
+        testDirectory = Files.createTempDirectory("data-files-manifest").toFile();
+    }
+
+
+    @AfterMethod
+    void tearDown() throws Exception
+    {
+        FileUtils.deleteDirectory(testDirectory);
+    }
+
+
+    @Test
+    void testSaveAndLoad() throws Exception
+    {
+        File fileOne = createFile("one.csv", "a,b,c");
+        File fileTwo = createFile("name with spaces.csv", "d,e,f");
+
+        DataFilesManifest manifest = new DataFilesManifest(new File(testDirectory, "manifest" + File.separator + "files.manifest"));
+
+        manifest.putEntry(fileOne, "guid-1");
+        manifest.putEntry(fileTwo, "guid-2");
+        manifest.putEntry(createFile("not-catalogued.csv", "g"), null);
+        manifest.save();
+
+        DataFilesManifest loadedManifest = new DataFilesManifest(manifest.getManifestFile());
+
+        loadedManifest.load();
+
+        assertTrue(loadedManifest.isLoaded());
+        assertEquals(loadedManifest.getPathNames(), new HashSet<>(Arrays.asList(fileOne.getAbsolutePath(), fileTwo.getAbsolutePath())));
+        assertEquals(loadedManifest.getEntry(fileOne).getGUID(), "guid-1");
+        assertEquals(loadedManifest.getEntry(fileTwo).getGUID(), "guid-2");
+        assertFalse(loadedManifest.getEntry(fileOne).isChanged(fileOne));
+        assertFalse(new File(manifest.getManifestFile().getAbsolutePath() + ".tmp").exists());
+
+        loadedManifest.removeEntry(fileTwo);
+
+        assertNull(loadedManifest.getEntry(fileTwo));
+        assertEquals(loadedManifest.getPathNames().size(), 1);
+    }
+
+
+    @Test
+    void testChangedFile() throws Exception
+    {
+        File file = createFile("one.csv", "a,b,c");
+
+        DataFilesManifest manifest = new DataFilesManifest(new File(testDirectory, "files.manifest"));
+
+        manifest.putEntry(file, "guid-1");
+
+        FileUtils.writeStringToFile(file, "d,e,f", StandardCharsets.UTF_8, true);
+
+        assertTrue(manifest.getEntry(file).isChanged(file));
+
+        assertTrue(file.setLastModified(file.lastModified() - 60000));
+        manifest.putEntry(file, "guid-1");
+        assertTrue(file.setLastModified(file.lastModified() + 1000));
+
+        assertTrue(manifest.getEntry(file).isChanged(file));
+    }
+
+
+    @Test
+    void testMissingManifest() throws Exception
+    {
+        DataFilesManifest manifest = new DataFilesManifest(new File(testDirectory, "files.manifest"));
+
+        manifest.load();
+
+        assertFalse(manifest.isLoaded());
+        assertTrue(manifest.getPathNames().isEmpty());
+
+        manifest.setLoaded();
+
+        assertTrue(manifest.isLoaded());
+    }
+
+
+    @Test
+    void testCorruptManifest() throws Exception
+    {
+        File manifestFile = new File(testDirectory, "files.manifest");
+
+        for (String content : new String[]{"guid-1\t12\n", "guid-1\t5\t12\t/data/one.csv\nguid-2\tnot-a-size\t12\t/data/two.csv\n"})
+        {
+            FileUtils.writeStringToFile(manifestFile, content, StandardCharsets.UTF_8);
+
+            DataFilesManifest manifest = new DataFilesManifest(manifestFile);
+
+            try
+            {
+                manifest.load();
+                fail("Corrupt manifest loaded: " + content);
+            }
+            catch (IOException expected)
+            {
+                assertFalse(manifest.isLoaded());
+                assertTrue(manifest.getPathNames().isEmpty());
+            }
+        }
+    }
+
+
+    /**
+     * Create a file in the test directory.
+     *
+     * @param fileName name of the file
+     * @param content content of the file
+     * @return file
+     * @throws IOException problem writing the file
+     */
+    private File createFile(String fileName,
+                            String content) throws IOException
+    {
+        File file = new File(testDirectory, fileName);
+
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+
+        return file;
+    }
+}
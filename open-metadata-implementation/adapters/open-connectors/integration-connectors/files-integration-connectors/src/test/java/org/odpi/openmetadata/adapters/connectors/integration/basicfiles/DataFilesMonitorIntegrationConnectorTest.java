@@ -0,0 +1,446 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.DataFileElement;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.ElementHeader;
+import org.odpi.openmetadata.accessservices.datamanager.metadataelements.FileFolderElement;
+import org.odpi.openmetadata.accessservices.datamanager.properties.ArchiveProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.DataFileProperties;
+import org.odpi.openmetadata.accessservices.datamanager.properties.FileFolderProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.integrationservices.files.connector.FilesIntegratorContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the refresh of the DataFilesMonitorIntegrationConnector when it keeps a manifest of the catalogued files.
+ */
+public class DataFilesMonitorIntegrationConnectorTest
+{
+    private File                                 dataDirectory     = null;
+    private File                                 manifestDirectory = null;
+    private File                                 manifestFile      = null;
+    private TestContext                          context           = null;
+    private DataFilesMonitorIntegrationConnector connector         = null;
+
+
+    @BeforeMethod
+    void setUp() throws Exception
+    {
+        dataDirectory     = Files.createTempDirectory("data-files").toFile();
+        manifestDirectory = Files.createTempDirectory("data-files-manifest").toFile();
+        manifestFile      = new File(manifestDirectory, "files.manifest");
+        context           = new TestContext(dataDirectory);
+    }
+
+
+    @AfterMethod
+    void tearDown() throws Exception
+    {
+        if (connector != null)
+        {
+            connector.disconnect();
+            connector = null;
+        }
+
+        FileUtils.deleteDirectory(dataDirectory);
+        FileUtils.deleteDirectory(manifestDirectory);
+    }
+
+
+    @Test
+    void testRefreshFromManifest() throws Exception
+    {
+        File fileA = createFile("a.csv", "a");
+        File fileB = createFile("b.csv", "b");
+        File fileC = createFile("c.csv", "c");
+
+        /*
+         * There is no manifest so the first refresh is a full sweep and builds the manifest.
+         */
+        connector = startConnector();
+        connector.refresh();
+
+        assertEquals(context.added, getPathNames(fileA, fileB, fileC));
+        assertEquals(context.folderQueries, 1);
+
+        connector.disconnect();
+        connector = null;
+
+        assertTrue(manifestFile.exists());
+
+        /*
+         * The files are changed while the connector is not running.
+         */
+        File fileD = createFile("d.csv", "d");
+
+        FileUtils.writeStringToFile(fileB, "more", StandardCharsets.UTF_8, true);
+        assertTrue(fileC.delete());
+
+        context.reset();
+
+        /*
+         * The restarted connector loads the manifest and only sends the differences.  The unchanged file and
+         * the catalogued files in the folder are not retrieved.
+         */
+        connector = startConnector();
+        connector.refresh();
+
+        assertEquals(context.added, getPathNames(fileD));
+        assertEquals(context.updated, getPathNames(fileB));
+        assertEquals(context.archived, getPathNames(fileC));
+        assertFalse(context.retrieved.contains(fileA.getAbsolutePath()));
+        assertEquals(context.folderQueries, 0);
+
+        DataFilesManifest savedManifest = new DataFilesManifest(manifestFile);
+
+        savedManifest.load();
+
+        assertEquals(savedManifest.getPathNames(), new HashSet<>(getPathNames(fileA, fileB, fileD)));
+
+        /*
+         * Nothing has changed so the next refresh does not call the Files Integrator OMIS.
+         */
+        context.reset();
+        connector.refresh();
+
+        assertTrue(context.added.isEmpty());
+        assertTrue(context.updated.isEmpty());
+        assertTrue(context.archived.isEmpty());
+        assertTrue(context.retrieved.isEmpty());
+        assertEquals(context.folderQueries, 0);
+    }
+
+
+    @Test
+    void testCorruptManifestFallsBackToFullSweep() throws Exception
+    {
+        File fileA = createFile("a.csv", "a");
+        File fileB = createFile("b.csv", "b");
+        File fileX = new File(dataDirectory, "x.csv");
+
+        /*
+         * File a is already catalogued.  File x is catalogued but has been removed.
+         */
+        context.addToCatalog(fileA.getAbsolutePath());
+        context.addToCatalog(fileX.getAbsolutePath());
+
+        FileUtils.writeStringToFile(manifestFile, "not a manifest\n", StandardCharsets.UTF_8);
+
+        connector = startConnector();
+        connector.refresh();
+
+        assertEquals(context.folderQueries, 1);
+        assertEquals(context.added, getPathNames(fileB));
+        assertEquals(context.archived, getPathNames(fileX));
+
+        /*
+         * The manifest is rebuilt so the next refresh is incremental.
+         */
+        DataFilesManifest savedManifest = new DataFilesManifest(manifestFile);
+
+        savedManifest.load();
+
+        assertEquals(savedManifest.getPathNames(), new HashSet<>(getPathNames(fileA, fileB)));
+        assertEquals(savedManifest.getEntry(fileA).getGUID(), context.catalog.get(fileA.getAbsolutePath()).getElementHeader().getGUID());
+
+        context.reset();
+        connector.refresh();
+
+        assertEquals(context.folderQueries, 0);
+        assertTrue(context.retrieved.isEmpty());
+    }
+
+
+    @Test
+    void testRefreshWithoutManifest() throws Exception
+    {
+        File fileA = createFile("a.csv", "a");
+
+        connector = startConnector(Collections.emptyMap());
+        connector.refresh();
+        connector.refresh();
+
+        /*
+         * Every refresh is a full sweep.
+         */
+        assertEquals(context.added, getPathNames(fileA));
+        assertEquals(context.folderQueries, 2);
+        assertEquals(context.retrieved, Arrays.asList(fileA.getAbsolutePath(), fileA.getAbsolutePath()));
+        assertFalse(manifestFile.exists());
+    }
+
+
+    /**
+     * Create and start a connector for the test directory that keeps its manifest in the test manifest file.
+     *
+     * @return started connector
+     * @throws Exception problem starting the connector
+     */
+    private DataFilesMonitorIntegrationConnector startConnector() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(BasicFilesMonitorIntegrationProviderBase.MANIFEST_FILE_NAME_CONFIGURATION_PROPERTY, manifestFile.getAbsolutePath());
+
+        return startConnector(configurationProperties);
+    }
+
+
+    /**
+     * Create and start a connector for the test directory.
+     *
+     * @param configurationProperties configuration properties for the connection
+     * @return started connector
+     * @throws Exception problem starting the connector
+     */
+    private DataFilesMonitorIntegrationConnector startConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress(dataDirectory.getAbsolutePath());
+
+        Connection connection = new Connection();
+
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        DataFilesMonitorIntegrationConnector newConnector = new DataFilesMonitorIntegrationConnector();
+
+        newConnector.initialize("test-connector", new ConnectionProperties(connection));
+        newConnector.setConnectorName("TestConnector");
+        newConnector.setContext(context);
+        newConnector.start();
+
+        return newConnector;
+    }
+
+
+    /**
+     * Create a file in the test directory.
+     *
+     * @param fileName name of the file
+     * @param content content of the file
+     * @return file
+     * @throws IOException problem writing the file
+     */
+    private File createFile(String fileName,
+                            String content) throws IOException
+    {
+        File file = new File(dataDirectory, fileName);
+
+        FileUtils.writeStringToFile(file, content, StandardCharsets.UTF_8);
+
+        return file;
+    }
+
+
+    /**
+     * Return the absolute path names of files.
+     *
+     * @param files files
+     * @return list of path names
+     */
+    private static List<String> getPathNames(File... files)
+    {
+        List<String> pathNames = new ArrayList<>();
+
+        for (File file : files)
+        {
+            pathNames.add(file.getAbsolutePath());
+        }
+
+        return pathNames;
+    }
+
+
+    /**
+     * Context that keeps the catalog in memory and records the requests from the connector.
+     */
+    private static class TestContext extends FilesIntegratorContext
+    {
+        private final String                       folderPathName;
+        private final Map<String, DataFileElement> catalog       = new LinkedHashMap<>();
+        private final List<String>                 added         = new ArrayList<>();
+        private final List<String>                 updated       = new ArrayList<>();
+        private final List<String>                 archived      = new ArrayList<>();
+        private final List<String>                 retrieved     = new ArrayList<>();
+        private int                                folderQueries = 0;
+        private int                                guidCount     = 0;
+
+
+        TestContext(File folder)
+        {
+            super(null, null, null, "testUser", null, null);
+
+            this.folderPathName = folder.getAbsolutePath();
+        }
+
+
+        /**
+         * Clear the recorded requests.
+         */
+        synchronized void reset()
+        {
+            added.clear();
+            updated.clear();
+            archived.clear();
+            retrieved.clear();
+            folderQueries = 0;
+        }
+
+
+        /**
+         * Add a DataFile asset to the catalog.
+         *
+         * @param pathName path name of the file
+         * @return unique identifier of the asset
+         */
+        synchronized String addToCatalog(String pathName)
+        {
+            ElementHeader elementHeader = new ElementHeader();
+
+            guidCount++;
+            elementHeader.setGUID("data-file-" + guidCount);
+
+            DataFileProperties properties = new DataFileProperties();
+
+            properties.setQualifiedName(pathName);
+
+            DataFileElement element = new DataFileElement();
+
+            element.setElementHeader(elementHeader);
+            element.setDataFileProperties(properties);
+
+            catalog.put(pathName, element);
+
+            return elementHeader.getGUID();
+        }
+
+
+        /**
+         * Return the path name of a catalogued asset.
+         *
+         * @param guid unique identifier of the asset
+         * @return path name or null
+         */
+        private String getPathName(String guid)
+        {
+            for (DataFileElement element : catalog.values())
+            {
+                if (element.getElementHeader().getGUID().equals(guid))
+                {
+                    return element.getDataFileProperties().getQualifiedName();
+                }
+            }
+
+            return null;
+        }
+
+
+        @Override
+        public synchronized List<String> addDataFileToCatalog(DataFileProperties dataFileProperties,
+                                                              String             connectorProviderName)
+        {
+            added.add(dataFileProperties.getQualifiedName());
+
+            return Collections.singletonList(addToCatalog(dataFileProperties.getQualifiedName()));
+        }
+
+
+        @Override
+        public synchronized void updateDataFileInCatalog(String             dataFileGUID,
+                                                         boolean            isMergeUpdate,
+                                                         DataFileProperties dataFileProperties)
+        {
+            updated.add(getPathName(dataFileGUID));
+        }
+
+
+        @Override
+        public synchronized void archiveDataFileInCatalog(String            dataFileGUID,
+                                                          ArchiveProperties archiveProperties)
+        {
+            String pathName = getPathName(dataFileGUID);
+
+            archived.add(pathName);
+            catalog.remove(pathName);
+        }
+
+
+        @Override
+        public synchronized DataFileElement getFileByPathName(String pathName)
+        {
+            retrieved.add(pathName);
+
+            return catalog.get(pathName);
+        }
+
+
+        @Override
+        public synchronized FileFolderElement getFolderByPathName(String pathName)
+        {
+            if (! folderPathName.equals(pathName))
+            {
+                return null;
+            }
+
+            ElementHeader elementHeader = new ElementHeader();
+
+            elementHeader.setGUID("data-folder");
+
+            FileFolderProperties properties = new FileFolderProperties();
+
+            properties.setQualifiedName(pathName);
+
+            FileFolderElement element = new FileFolderElement();
+
+            element.setElementHeader(elementHeader);
+            element.setFileFolderProperties(properties);
+
+            return element;
+        }
+
+
+        @Override
+        public synchronized List<DataFileElement> getFolderFiles(String folderGUID,
+                                                                 int    startFrom,
+                                                                 int    pageSize)
+        {
+            if (startFrom == 0)
+            {
+                folderQueries++;
+            }
+
+            List<DataFileElement> elements = new ArrayList<>(catalog.values());
+
+            if (startFrom >= elements.size())
+            {
+                return null;
+            }
+
+            return new ArrayList<>(elements.subList(startFrom, Math.min(elements.size(), startFrom + pageSize)));
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.integration.basicfiles;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.monitor.FileAlterationListenerAdaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the DirectoryWatcher reports the changes to a directory and its subdirectories.
+ */
+public class DirectoryWatcherTest
+{
+    private static final long eventTimeout = 15000;
+
+    private File              rootDirectory = null;
+    private RecordingListener listener      = null;
+    private DirectoryWatcher  watcher       = null;
+
+
+    @BeforeMethod
+    void setUp() throws Exception
+    {
+        rootDirectory = Files.createTempDirectory("directory-watcher").toFile();
+        listener      = new RecordingListener();
+    }
+
+
+    @AfterMethod
+    void tearDown() throws Exception
+    {
+        if (watcher != null)
+        {
+            watcher.stop(1000);
+            watcher = null;
+        }
+
+        FileUtils.deleteDirectory(rootDirectory);
+    }
+
+
+    @Test
+    void testFileChanges() throws Exception
+    {
+        startWatcher();
+
+        File file = new File(rootDirectory, "file.csv");
+
+        FileUtils.writeStringToFile(file, "a,b,c", StandardCharsets.UTF_8);
+        listener.waitForEvent("fileCreate:file.csv");
+
+        FileUtils.writeStringToFile(file, "d,e,f", StandardCharsets.UTF_8, true);
+        listener.waitForEvent("fileChange:file.csv");
+
+        assertTrue(file.delete());
+        listener.waitForEvent("fileDelete:file.csv");
+    }
+
+
+    @Test
+    void testExistingSubdirectoriesWatched() throws Exception
+    {
+        File nestedDirectory = new File(rootDirectory, "level1" + File.separator + "level2");
+
+        assertTrue(nestedDirectory.mkdirs());
+
+        startWatcher();
+
+        assertTrue(watcher.isWatching(rootDirectory));
+        assertTrue(watcher.isWatching(nestedDirectory));
+        assertFalse(watcher.isWatching(new File(rootDirectory, "unknown")));
+
+        File file = new File(nestedDirectory, "file.csv");
+
+        FileUtils.writeStringToFile(file, "a,b,c", StandardCharsets.UTF_8);
+        listener.waitForEvent("fileCreate:level1/level2/file.csv");
+
+        assertTrue(file.delete());
+        listener.waitForEvent("fileDelete:level1/level2/file.csv");
+    }
+
+
+    @Test
+    void testNewSubdirectoriesWatched() throws Exception
+    {
+        startWatcher();
+
+        /*
+         * The files created before the new directories are registered are reported when they are registered.
+         */
+        File nestedDirectory = new File(rootDirectory, "new1" + File.separator + "new2");
+
+        assertTrue(nestedDirectory.mkdirs());
+        FileUtils.writeStringToFile(new File(nestedDirectory, "early.csv"), "a,b,c", StandardCharsets.UTF_8);
+
+        listener.waitForEvent("directoryCreate:new1");
+        listener.waitForEvent("directoryCreate:new1/new2");
+        listener.waitForEvent("fileCreate:new1/new2/early.csv");
+
+        assertTrue(watcher.isWatching(nestedDirectory));
+
+        /*
+         * Files created later are reported by the new directory's registration.
+         */
+        FileUtils.writeStringToFile(new File(nestedDirectory, "late.csv"), "a,b,c", StandardCharsets.UTF_8);
+        listener.waitForEvent("fileCreate:new1/new2/late.csv");
+
+        FileUtils.deleteDirectory(new File(rootDirectory, "new1"));
+        listener.waitForEvent("directoryDelete:new1");
+
+        assertFalse(watcher.isWatching(nestedDirectory));
+    }
+
+
+    /**
+     * Create and start the watcher for the test directory.
+     *
+     * @throws Exception the file system does not support a watch service
+     */
+    private void startWatcher() throws Exception
+    {
+        watcher = new DirectoryWatcher("TestConnector", rootDirectory, listener);
+        watcher.start();
+    }
+
+
+    /**
+     * Listener that records the changes reported with the path relative to the test directory.
+     */
+    private class RecordingListener extends FileAlterationListenerAdaptor
+    {
+        private final List<String> events = new ArrayList<>();
+
+
+        /**
+         * Wait for a change to be reported.
+         *
+         * @param event kind of change and relative path
+         * @throws InterruptedException interrupted while waiting
+         */
+        synchronized void waitForEvent(String event) throws InterruptedException
+        {
+            long endTime = System.currentTimeMillis() + eventTimeout;
+
+            while ((! events.contains(event)) && (System.currentTimeMillis() < endTime))
+            {
+                this.wait(100);
+            }
+
+            assertTrue(events.contains(event), "No " + event + " event in " + events);
+        }
+
+
+        /**
+         * Record a change.
+         *
+         * @param kind kind of change
+         * @param file file or directory that changed
+         */
+        private synchronized void record(String kind,
+                                         File   file)
+        {
+            String relativePath = rootDirectory.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+
+            events.add(kind + ":" + relativePath);
+            this.notifyAll();
+        }
+
+
+        @Override
+        public void onDirectoryCreate(File directory)
+        {
+            record("directoryCreate", directory);
+        }
+
+
+        @Override
+        public void onDirectoryDelete(File directory)
+        {
+            record("directoryDelete", directory);
+        }
+
+
+        @Override
+        public void onFileCreate(File file)
+        {
+            record("fileCreate", file);
+        }
+
+
+        @Override
+        public void onFileChange(File file)
+        {
+            record("fileChange", file);
+        }
+
+
+        @Override
+        public void onFileDelete(File file)
+        {
+            record("fileDelete", file);
+        }
+    }
+}
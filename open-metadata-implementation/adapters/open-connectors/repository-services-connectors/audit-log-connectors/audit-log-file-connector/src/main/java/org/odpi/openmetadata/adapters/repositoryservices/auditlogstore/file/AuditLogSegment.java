@@ -0,0 +1,517 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AuditLogSegment describes one of the segment files of the SegmentedFileAuditLogStoreConnector.
+ * A segment file holds one JSON formatted log record per line.  Alongside it is a small index that records
+ * the range of time stamps, the severities and the reporting components of the log records in the segment.
+ * The index is used to skip the segments that can not contain any of the log records requested by a query.
+ * It is kept in memory for all segments and written to an index file when the segment is closed so
+ * that it does not need to be rebuilt from the segment file when the server restarts.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+class AuditLogSegment
+{
+    static final String SEGMENT_FILE_PREFIX    = "segment-";
+    static final String SEGMENT_FILE_EXTENSION = ".log";
+    static final String INDEX_FILE_EXTENSION   = ".index";
+
+    private long        segmentNumber       = 0;
+    private long        segmentSize         = 0;
+    private long        recordCount         = 0;
+    private long        firstTimeStamp      = Long.MAX_VALUE;
+    private long        lastTimeStamp       = Long.MIN_VALUE;
+    private Set<String> severities          = new HashSet<>();
+    private Set<String> reportingComponents = new HashSet<>();
+
+
+    /**
+     * Default constructor used when the index is read from its file.
+     */
+    public AuditLogSegment()
+    {
+    }
+
+
+    /**
+     * Constructor for a new segment.
+     *
+     * @param segmentNumber sequence number of the segment
+     */
+    AuditLogSegment(long segmentNumber)
+    {
+        this.segmentNumber = segmentNumber;
+    }
+
+
+    /**
+     * Return the name of the segment file for a segment number.
+     *
+     * @param segmentNumber sequence number of the segment
+     * @return file name
+     */
+    static String getSegmentFileName(long segmentNumber)
+    {
+        return String.format("%s%012d%s", SEGMENT_FILE_PREFIX, segmentNumber, SEGMENT_FILE_EXTENSION);
+    }
+
+
+    /**
+     * Return the segment number encoded in the name of a segment file.
+     *
+     * @param fileName name of a file in the audit log directory
+     * @return segment number or -1 if this is not a segment file
+     */
+    static long getSegmentNumber(String fileName)
+    {
+        if ((fileName != null) && (fileName.startsWith(SEGMENT_FILE_PREFIX)) && (fileName.endsWith(SEGMENT_FILE_EXTENSION)))
+        {
+            try
+            {
+                return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(), fileName.length() - SEGMENT_FILE_EXTENSION.length()));
+            }
+            catch (NumberFormatException notSegment)
+            {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Return the segment file.
+     *
+     * @param directory audit log directory
+     * @return file
+     */
+    File getSegmentFile(File directory)
+    {
+        return new File(directory, getSegmentFileName(segmentNumber));
+    }
+
+
+    /**
+     * Return the index file.
+     *
+     * @param directory audit log directory
+     * @return file
+     */
+    File getIndexFile(File directory)
+    {
+        return new File(directory, String.format("%s%012d%s", SEGMENT_FILE_PREFIX, segmentNumber, INDEX_FILE_EXTENSION));
+    }
+
+
+    /**
+     * Read the index of a segment from its index file.  The index is only used if it describes the whole of the
+     * segment file; otherwise it is rebuilt by reading the segment file.
+     *
+     * @param directory audit log directory
+     * @param segmentNumber sequence number of the segment
+     * @param objectMapper mapper for the index and the log records
+     * @param recordReader reader for the log records
+     * @return segment
+     * @throws IOException problem reading the segment
+     */
+    static AuditLogSegment loadSegment(File         directory,
+                                       long         segmentNumber,
+                                       ObjectMapper objectMapper,
+                                       ObjectReader recordReader) throws IOException
+    {
+        AuditLogSegment segment     = new AuditLogSegment(segmentNumber);
+        File            segmentFile = segment.getSegmentFile(directory);
+        File            indexFile   = segment.getIndexFile(directory);
+
+        if (indexFile.exists())
+        {
+            try
+            {
+                AuditLogSegment savedSegment = objectMapper.readValue(indexFile, AuditLogSegment.class);
+
+                if ((savedSegment.getSegmentNumber() == segmentNumber) && (savedSegment.getSegmentSize() == segmentFile.length()))
+                {
+                    return savedSegment;
+                }
+            }
+            catch (IOException badIndex)
+            {
+                /*
+                 * The index is rebuilt below.
+                 */
+            }
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(segmentFile), StandardCharsets.UTF_8)))
+        {
+            String line;
+
+            while ((line = reader.readLine()) != null)
+            {
+                OMRSAuditLogRecord logRecord = parseLogRecord(recordReader, line);
+
+                if (logRecord != null)
+                {
+                    segment.addLogRecord(logRecord, 0);
+                }
+            }
+        }
+
+        segment.segmentSize = segmentFile.length();
+
+        return segment;
+    }
+
+
+    /**
+     * Write the index to its index file.
+     *
+     * @param directory audit log directory
+     * @param objectMapper mapper for the index
+     * @throws IOException problem writing the index
+     */
+    synchronized void saveIndex(File         directory,
+                                ObjectMapper objectMapper) throws IOException
+    {
+        objectMapper.writeValue(getIndexFile(directory), this);
+    }
+
+
+    /**
+     * Delete the segment file and its index.
+     *
+     * @param directory audit log directory
+     * @return whether the segment file was deleted
+     */
+    boolean delete(File directory)
+    {
+        File indexFile = getIndexFile(directory);
+
+        if (indexFile.exists())
+        {
+            indexFile.delete();
+        }
+
+        return getSegmentFile(directory).delete();
+    }
+
+
+    /**
+     * Parse one line of a segment file.  Lines that are not valid log records (for example a partial line
+     * written before a crash) are skipped.
+     *
+     * @param recordReader reader for the log records
+     * @param line line from the segment file
+     * @return log record or null
+     */
+    static OMRSAuditLogRecord parseLogRecord(ObjectReader recordReader,
+                                             String       line)
+    {
+        if ((line == null) || (line.isEmpty()))
+        {
+            return null;
+        }
+
+        try
+        {
+            return recordReader.readValue(line);
+        }
+        catch (IOException badRecord)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Return the name of the component that reported a log record.
+     *
+     * @param logRecord log record
+     * @return component name or null
+     */
+    static String getReportingComponentName(OMRSAuditLogRecord logRecord)
+    {
+        AuditLogReportingComponent reportingComponent = logRecord.getOriginatorComponent();
+
+        if (reportingComponent != null)
+        {
+            return reportingComponent.getComponentName();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add a log record that has been written to the segment file to the index.
+     *
+     * @param logRecord log record
+     * @param recordSize number of bytes written for the record
+     */
+    synchronized void addLogRecord(OMRSAuditLogRecord logRecord,
+                                   long               recordSize)
+    {
+        Date timeStamp = logRecord.getTimeStamp();
+
+        if (timeStamp != null)
+        {
+            firstTimeStamp = Math.min(firstTimeStamp, timeStamp.getTime());
+            lastTimeStamp  = Math.max(lastTimeStamp, timeStamp.getTime());
+        }
+
+        if (logRecord.getSeverity() != null)
+        {
+            severities.add(logRecord.getSeverity());
+        }
+
+        String componentName = getReportingComponentName(logRecord);
+
+        if (componentName != null)
+        {
+            reportingComponents.add(componentName);
+        }
+
+        recordCount = recordCount + 1;
+        segmentSize = segmentSize + recordSize;
+    }
+
+
+    /**
+     * Determine whether the segment may contain log records that match a query.
+     *
+     * @param severity requested severity or null for any severity
+     * @param reportingComponent requested component name or null for any component
+     * @param startTime start of the time period
+     * @param endTime end of the time period
+     * @return boolean flag
+     */
+    synchronized boolean mayContain(String severity,
+                                    String reportingComponent,
+                                    long   startTime,
+                                    long   endTime)
+    {
+        if (recordCount == 0)
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severities.contains(severity)))
+        {
+            return false;
+        }
+
+        if ((reportingComponent != null) && (! reportingComponents.contains(reportingComponent)))
+        {
+            return false;
+        }
+
+        /*
+         * Records without a time stamp leave the time range empty so the segment is always read.
+         */
+        if (firstTimeStamp > lastTimeStamp)
+        {
+            return true;
+        }
+
+        return (firstTimeStamp <= endTime) && (lastTimeStamp >= startTime);
+    }
+
+
+    /**
+     * Return the sequence number of the segment.
+     *
+     * @return long
+     */
+    public long getSegmentNumber()
+    {
+        return segmentNumber;
+    }
+
+
+    /**
+     * Set up the sequence number of the segment.
+     *
+     * @param segmentNumber long
+     */
+    public void setSegmentNumber(long segmentNumber)
+    {
+        this.segmentNumber = segmentNumber;
+    }
+
+
+    /**
+     * Return the number of bytes in the segment file.
+     *
+     * @return long
+     */
+    public synchronized long getSegmentSize()
+    {
+        return segmentSize;
+    }
+
+
+    /**
+     * Set up the number of bytes in the segment file.
+     *
+     * @param segmentSize long
+     */
+    public synchronized void setSegmentSize(long segmentSize)
+    {
+        this.segmentSize = segmentSize;
+    }
+
+
+    /**
+     * Return the number of log records in the segment.
+     *
+     * @return long
+     */
+    public synchronized long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of log records in the segment.
+     *
+     * @param recordCount long
+     */
+    public synchronized void setRecordCount(long recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the earliest time stamp of the log records in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    public synchronized long getFirstTimeStamp()
+    {
+        return firstTimeStamp;
+    }
+
+
+    /**
+     * Set up the earliest time stamp of the log records in the segment.
+     *
+     * @param firstTimeStamp milliseconds since the epoch
+     */
+    public synchronized void setFirstTimeStamp(long firstTimeStamp)
+    {
+        this.firstTimeStamp = firstTimeStamp;
+    }
+
+
+    /**
+     * Return the latest time stamp of the log records in the segment.
+     *
+     * @return milliseconds since the epoch
+     */
+    public synchronized long getLastTimeStamp()
+    {
+        return lastTimeStamp;
+    }
+
+
+    /**
+     * Set up the latest time stamp of the log records in the segment.
+     *
+     * @param lastTimeStamp milliseconds since the epoch
+     */
+    public synchronized void setLastTimeStamp(long lastTimeStamp)
+    {
+        this.lastTimeStamp = lastTimeStamp;
+    }
+
+
+    /**
+     * Return the severities of the log records in the segment.
+     *
+     * @return set of severity names
+     */
+    public synchronized Set<String> getSeverities()
+    {
+        return new HashSet<>(severities);
+    }
+
+
+    /**
+     * Set up the severities of the log records in the segment.
+     *
+     * @param severities set of severity names
+     */
+    public synchronized void setSeverities(Set<String> severities)
+    {
+        this.severities = (severities == null) ? new HashSet<>() : new HashSet<>(severities);
+    }
+
+
+    /**
+     * Return the names of the components that reported the log records in the segment.
+     *
+     * @return set of component names
+     */
+    public synchronized Set<String> getReportingComponents()
+    {
+        return new HashSet<>(reportingComponents);
+    }
+
+
+    /**
+     * Set up the names of the components that reported the log records in the segment.
+     *
+     * @param reportingComponents set of component names
+     */
+    public synchronized void setReportingComponents(Set<String> reportingComponents)
+    {
+        this.reportingComponents = (reportingComponents == null) ? new HashSet<>() : new HashSet<>(reportingComponents);
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public synchronized String toString()
+    {
+        return "AuditLogSegment{" +
+                       "segmentNumber=" + segmentNumber +
+                       ", segmentSize=" + segmentSize +
+                       ", recordCount=" + recordCount +
+                       ", firstTimeStamp=" + firstTimeStamp +
+                       ", lastTimeStamp=" + lastTimeStamp +
+                       ", severities=" + severities +
+                       ", reportingComponents=" + reportingComponents +
+                       '}';
+    }
+}
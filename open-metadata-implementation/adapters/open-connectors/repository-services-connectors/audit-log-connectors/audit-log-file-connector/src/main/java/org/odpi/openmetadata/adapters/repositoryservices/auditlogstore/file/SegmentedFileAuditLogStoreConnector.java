@@ -0,0 +1,1050 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SegmentedFileAuditLogStoreConnector provides a connector implementation for a file based audit log that
+ * supports queries.  The audit log records are appended, one JSON formatted record per line, to segment files
+ * in the audit log directory.  When a segment file reaches its maximum size, it is closed and a new segment
+ * is started.  Each segment has a small index (range of time stamps, severities and reporting components) that
+ * allows the queries to read only the segments that may contain matching log records.
+ * <p>
+ * The segment files are forced to disk by a background thread every syncInterval milliseconds so that many log
+ * records share the cost of each sync (group commit).  If waitForSync is set, storeLogRecord only returns once
+ * its log record is on disk.  A syncInterval of 0 syncs every log record as it is written.
+ * </p>
+ * <p>
+ * Old segments are removed when a new segment is started (and when the connector starts) if they are older than
+ * retentionDays or there are more than maxSegments segments.  A value of 0 means there is no limit.
+ * </p>
+ */
+public class SegmentedFileAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
+{
+    private static final String defaultDirectoryTemplate = "omag.server.auditlog";
+    private static final long   defaultMaxSegmentSize    = 10 * 1024 * 1024;
+    private static final long   defaultSyncInterval      = 1000;
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedFileAuditLogStoreConnector.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectWriter recordWriter = objectMapper.writerFor(OMRSAuditLogRecord.class);
+    private final ObjectReader recordReader = objectMapper.readerFor(OMRSAuditLogRecord.class)
+                                                          .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private File    auditLogStoreDirectory = null;
+    private long    maxSegmentSize         = defaultMaxSegmentSize;
+    private long    syncInterval           = defaultSyncInterval;
+    private boolean waitForSync            = false;
+    private long    retentionDays          = 0;
+    private long    maxSegments            = 0;
+
+    /*
+     * The segments are listed oldest first.  The last segment is the one being written to.
+     */
+    private final List<AuditLogSegment> segments      = new CopyOnWriteArrayList<>();
+    private final Object                writeLock     = new Object();
+    private AuditLogSegment             activeSegment = null;
+    private FileChannel                 activeChannel = null;
+
+    /*
+     * Sequence numbers of the last log record written and the last log record synced to disk.
+     */
+    private final Object     syncLock        = new Object();
+    private long             writtenSequence = 0;
+    private long             syncedSequence  = 0;
+    private boolean          syncRequested   = false;
+    private volatile boolean running         = false;
+    private Thread           syncThread      = null;
+
+
+    /**
+     * Default constructor used by the connector provider.
+     */
+    public SegmentedFileAuditLogStoreConnector()
+    {
+    }
+
+
+    /**
+     * Set up the audit log directory, reload the indexes of the existing segments and start the sync thread.
+     *
+     * @throws ConnectorCheckedException something went wrong
+     */
+    @Override
+    public void start() throws ConnectorCheckedException
+    {
+        super.start();
+
+        String logStoreTemplateName = null;
+
+        EndpointProperties endpoint = connectionProperties.getEndpoint();
+
+        if (endpoint != null)
+        {
+            logStoreTemplateName = endpoint.getAddress();
+        }
+
+        if (logStoreTemplateName == null)
+        {
+            logStoreTemplateName = defaultDirectoryTemplate;
+        }
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            maxSegmentSize = getLongProperty(configurationProperties, SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, maxSegmentSize);
+            syncInterval   = getLongProperty(configurationProperties, SegmentedFileAuditLogStoreProvider.syncIntervalProperty, syncInterval);
+            retentionDays  = getLongProperty(configurationProperties, SegmentedFileAuditLogStoreProvider.retentionDaysProperty, retentionDays);
+            maxSegments    = getLongProperty(configurationProperties, SegmentedFileAuditLogStoreProvider.maxSegmentsProperty, maxSegments);
+            waitForSync    = Boolean.parseBoolean(String.valueOf(configurationProperties.get(SegmentedFileAuditLogStoreProvider.waitForSyncProperty)));
+        }
+
+        try
+        {
+            auditLogStoreDirectory = new File(logStoreTemplateName);
+
+            FileUtils.forceMkdir(auditLogStoreDirectory);
+
+            loadSegments();
+
+            synchronized (writeLock)
+            {
+                AuditLogSegment lastSegment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+
+                if ((lastSegment == null) || (lastSegment.getSegmentSize() >= maxSegmentSize))
+                {
+                    openSegment(new AuditLogSegment((lastSegment == null) ? 1 : lastSegment.getSegmentNumber() + 1));
+                }
+                else
+                {
+                    openSegment(lastSegment);
+                }
+
+                removeExpiredSegments();
+            }
+        }
+        catch (IOException ioException)
+        {
+            log.error("Unusable Server Audit Log Store :(", ioException);
+            return;
+        }
+
+        running = true;
+
+        if (syncInterval > 0)
+        {
+            syncThread = new Thread(this::syncSegments, super.getDestinationName() + " Sync");
+            syncThread.setDaemon(true);
+            syncThread.start();
+        }
+
+        log.debug("Audit log store {} started with {} segments in {}", super.getDestinationName(), segments.size(), auditLogStoreDirectory);
+    }
+
+
+    /**
+     * Return a numeric configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or not a number
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).longValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString());
+            }
+            catch (NumberFormatException error)
+            {
+                log.debug("Ignored invalid value {} for property {}", propertyValue, propertyName);
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Build the list of segments from the segment files in the audit log directory.
+     *
+     * @throws IOException problem reading the segments
+     */
+    private void loadSegments() throws IOException
+    {
+        List<Long> segmentNumbers = new ArrayList<>();
+        String[]   fileNames      = auditLogStoreDirectory.list();
+
+        if (fileNames != null)
+        {
+            for (String fileName : fileNames)
+            {
+                long segmentNumber = AuditLogSegment.getSegmentNumber(fileName);
+
+                if (segmentNumber >= 0)
+                {
+                    segmentNumbers.add(segmentNumber);
+                }
+            }
+        }
+
+        Collections.sort(segmentNumbers);
+
+        segments.clear();
+
+        for (long segmentNumber : segmentNumbers)
+        {
+            segments.add(AuditLogSegment.loadSegment(auditLogStoreDirectory, segmentNumber, objectMapper, recordReader));
+        }
+    }
+
+
+    /**
+     * Make a segment the one that new log records are appended to.  Called with the write lock held.
+     *
+     * @param segment segment to write to
+     * @throws IOException problem opening the segment file
+     */
+    private void openSegment(AuditLogSegment segment) throws IOException
+    {
+        File    segmentFile      = segment.getSegmentFile(auditLogStoreDirectory);
+        boolean endPartialRecord = false;
+
+        /*
+         * A log record that was only partly written before the server stopped is ended so that
+         * the next log record starts on a new line.
+         */
+        if (segmentFile.length() > 0)
+        {
+            try (RandomAccessFile file = new RandomAccessFile(segmentFile, "r"))
+            {
+                file.seek(segmentFile.length() - 1);
+                endPartialRecord = (file.read() != '\n');
+            }
+        }
+
+        activeChannel = FileChannel.open(segmentFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSegment = segment;
+
+        if (endPartialRecord)
+        {
+            writeBytes(new byte[]{'\n'});
+            segment.setSegmentSize(segmentFile.length());
+        }
+
+        if (! segments.contains(segment))
+        {
+            segments.add(segment);
+        }
+    }
+
+
+    /**
+     * Write a buffer to the active segment file.  Called with the write lock held.
+     *
+     * @param bytes bytes to write
+     * @throws IOException problem writing the file
+     */
+    private void writeBytes(byte[] bytes) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        while (buffer.hasRemaining())
+        {
+            activeChannel.write(buffer);
+        }
+    }
+
+
+    /**
+     * Close the active segment, save its index and start a new segment.  Called with the write lock held.
+     *
+     * @throws IOException problem closing or opening a segment file
+     */
+    private void rollSegment() throws IOException
+    {
+        closeActiveSegment();
+        openSegment(new AuditLogSegment(activeSegment.getSegmentNumber() + 1));
+        removeExpiredSegments();
+    }
+
+
+    /**
+     * Sync and close the active segment file and save its index.  Called with the write lock held.
+     *
+     * @throws IOException problem closing the segment file
+     */
+    private void closeActiveSegment() throws IOException
+    {
+        if (activeChannel != null)
+        {
+            activeChannel.force(true);
+            activeChannel.close();
+            activeChannel = null;
+
+            synchronized (syncLock)
+            {
+                syncedSequence = writtenSequence;
+                syncLock.notifyAll();
+            }
+
+            activeSegment.saveIndex(auditLogStoreDirectory, objectMapper);
+        }
+    }
+
+
+    /**
+     * Remove the oldest segments if they are beyond the retention limits.  The active segment is never removed.
+     * Called with the write lock held.
+     */
+    private void removeExpiredSegments()
+    {
+        long expiryTime = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+
+        while ((segments.size() > 1) && (segments.get(0) != activeSegment))
+        {
+            AuditLogSegment oldestSegment = segments.get(0);
+
+            boolean tooMany = (maxSegments > 0) && (segments.size() > maxSegments);
+            boolean tooOld  = (retentionDays > 0) && (oldestSegment.getLastTimeStamp() < expiryTime);
+
+            if ((! tooMany) && (! tooOld))
+            {
+                break;
+            }
+
+            segments.remove(0);
+
+            if (! oldestSegment.delete(auditLogStoreDirectory))
+            {
+                log.error("Unable to remove audit log segment {}", oldestSegment.getSegmentFile(auditLogStoreDirectory));
+            }
+        }
+    }
+
+
+    /**
+     * Force the log records written to the active segment to disk.  This runs in the sync thread until the
+     * connector disconnects.  Each sync covers all the log records written since the previous one.
+     */
+    private void syncSegments()
+    {
+        while (running)
+        {
+            long sequenceToSync;
+
+            synchronized (syncLock)
+            {
+                if ((! syncRequested) && (writtenSequence == syncedSequence))
+                {
+                    try
+                    {
+                        syncLock.wait(syncInterval);
+                    }
+                    catch (InterruptedException interrupted)
+                    {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+
+                syncRequested  = false;
+                sequenceToSync = writtenSequence;
+
+                if (sequenceToSync == syncedSequence)
+                {
+                    continue;
+                }
+            }
+
+            this.syncActiveSegment(sequenceToSync);
+        }
+    }
+
+
+    /**
+     * Force the active segment to disk and record that the log records up to the supplied sequence number
+     * have been synced.
+     *
+     * @param sequenceToSync sequence number of the latest log record written
+     */
+    private void syncActiveSegment(long sequenceToSync)
+    {
+        FileChannel channel;
+
+        synchronized (writeLock)
+        {
+            channel = activeChannel;
+        }
+
+        try
+        {
+            if (channel != null)
+            {
+                channel.force(false);
+            }
+        }
+        catch (IOException ioException)
+        {
+            /*
+             * The channel may have been closed by a new segment being started - in which case it has already
+             * been synced.
+             */
+            if (channel.isOpen())
+            {
+                log.error("Unable to sync Server Audit Log Store :(", ioException);
+            }
+        }
+
+        synchronized (syncLock)
+        {
+            if (sequenceToSync > syncedSequence)
+            {
+                syncedSequence = sequenceToSync;
+            }
+
+            syncLock.notifyAll();
+        }
+    }
+
+
+    /**
+     * Wait for a log record to be synced to disk.
+     *
+     * @param sequence sequence number of the log record
+     */
+    private void waitForSync(long sequence)
+    {
+        synchronized (syncLock)
+        {
+            syncRequested = true;
+            syncLock.notifyAll();
+
+            while ((running) && (syncedSequence < sequence))
+            {
+                try
+                {
+                    syncLock.wait(syncInterval);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Store the audit log record in the audit log store.
+     *
+     * @param logRecord  log record to store
+     * @return unique identifier assigned to the log record
+     * @throws InvalidParameterException indicates that the logRecord parameter is invalid.
+     */
+    @Override
+    public String storeLogRecord(OMRSAuditLogRecord logRecord) throws InvalidParameterException
+    {
+        final String   methodName = "storeLogRecord";
+
+        super.validateLogRecord(logRecord, methodName);
+
+        if (isSupportedSeverity(logRecord))
+        {
+            byte[] recordBytes = getRecordBytes(logRecord, methodName);
+            long   sequence    = 0;
+
+            synchronized (writeLock)
+            {
+                if (activeChannel != null)
+                {
+                    try
+                    {
+                        if ((activeSegment.getSegmentSize() > 0) && (activeSegment.getSegmentSize() + recordBytes.length > maxSegmentSize))
+                        {
+                            rollSegment();
+                        }
+
+                        writeBytes(recordBytes);
+                        activeSegment.addLogRecord(logRecord, recordBytes.length);
+
+                        if (syncInterval <= 0)
+                        {
+                            activeChannel.force(false);
+                        }
+                        else
+                        {
+                            synchronized (syncLock)
+                            {
+                                writtenSequence = writtenSequence + 1;
+                                sequence        = writtenSequence;
+                            }
+                        }
+                    }
+                    catch (IOException ioException)
+                    {
+                        log.error("Unusable Server Audit Log Store :(", ioException);
+                    }
+                }
+            }
+
+            if ((waitForSync) && (sequence > 0))
+            {
+                this.waitForSync(sequence);
+            }
+        }
+
+        return logRecord.getGUID();
+    }
+
+
+    /**
+     * Store a batch of audit log records in the audit log store.  The records are written under a single
+     * acquisition of the write lock and the segment file is synchronized once for the whole batch.
+     *
+     * @param logRecords  log records to store
+     * @return unique identifiers assigned to the log records
+     * @throws InvalidParameterException indicates that one of the logRecords is invalid.
+     */
+    @Override
+    public List<String> storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException
+    {
+        final String   methodName = "storeLogRecords";
+
+        List<String>             logRecordIds   = new ArrayList<>();
+        List<OMRSAuditLogRecord> recordsToWrite = new ArrayList<>();
+        List<byte[]>             recordBytes    = new ArrayList<>();
+
+        if (logRecords == null)
+        {
+            return logRecordIds;
+        }
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            super.validateLogRecord(logRecord, methodName);
+
+            if (isSupportedSeverity(logRecord))
+            {
+                recordsToWrite.add(logRecord);
+                recordBytes.add(getRecordBytes(logRecord, methodName));
+            }
+
+            logRecordIds.add(logRecord.getGUID());
+        }
+
+        if (recordsToWrite.isEmpty())
+        {
+            return logRecordIds;
+        }
+
+        long sequence = 0;
+
+        synchronized (writeLock)
+        {
+            if (activeChannel != null)
+            {
+                try
+                {
+                    for (int i = 0; i < recordsToWrite.size(); i++)
+                    {
+                        byte[] bytes = recordBytes.get(i);
+
+                        if ((activeSegment.getSegmentSize() > 0) && (activeSegment.getSegmentSize() + bytes.length > maxSegmentSize))
+                        {
+                            rollSegment();
+                        }
+
+                        writeBytes(bytes);
+                        activeSegment.addLogRecord(recordsToWrite.get(i), bytes.length);
+                    }
+
+                    if (syncInterval <= 0)
+                    {
+                        activeChannel.force(false);
+                    }
+                    else
+                    {
+                        synchronized (syncLock)
+                        {
+                            writtenSequence = writtenSequence + 1;
+                            sequence        = writtenSequence;
+                        }
+                    }
+                }
+                catch (IOException ioException)
+                {
+                    log.error("Unusable Server Audit Log Store :(", ioException);
+                }
+            }
+        }
+
+        if ((waitForSync) && (sequence > 0))
+        {
+            this.waitForSync(sequence);
+        }
+
+        return logRecordIds;
+    }
+
+
+    /**
+     * Convert a log record into a line for the segment file.
+     *
+     * @param logRecord log record
+     * @param methodName calling method
+     * @return UTF-8 bytes of the JSON log record followed by a new line
+     * @throws InvalidParameterException unable to convert the log record.
+     */
+    private byte[] getRecordBytes(OMRSAuditLogRecord logRecord,
+                                  String             methodName) throws InvalidParameterException
+    {
+        final String parameterName = "logRecord";
+
+        try
+        {
+            return (recordWriter.writeValueAsString(logRecord) + "\n").getBytes(StandardCharsets.UTF_8);
+        }
+        catch (Exception  exc)
+        {
+            throw new InvalidParameterException(OMRSErrorCode.AUDIT_LOG_RECORD_NOT_JSON_ENABLED.getMessageDefinition(super.getDestinationName()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                exc,
+                                                parameterName);
+        }
+    }
+
+
+    /**
+     * Retrieve a specific audit log record.  The segments are searched newest first.
+     *
+     * @param logRecordId unique identifier for the log record
+     * @return requested audit log record or null if it is not in the audit log store
+     * @throws InvalidParameterException     indicates that the logRecordId parameter is invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public OMRSAuditLogRecord getAuditLogRecord(String logRecordId) throws InvalidParameterException,
+                                                                           RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecord";
+
+        if (logRecordId == null)
+        {
+            return null;
+        }
+
+        List<AuditLogSegment> segmentsToSearch = new ArrayList<>(segments);
+
+        Collections.reverse(segmentsToSearch);
+
+        for (AuditLogSegment segment : segmentsToSearch)
+        {
+            try (BufferedReader reader = openSegmentFile(segment))
+            {
+                if (reader != null)
+                {
+                    String line;
+
+                    while ((line = reader.readLine()) != null)
+                    {
+                        /*
+                         * The identifier is checked in the text before the line is parsed.
+                         */
+                        if (line.contains(logRecordId))
+                        {
+                            OMRSAuditLogRecord logRecord = AuditLogSegment.parseLogRecord(recordReader, line);
+
+                            if ((logRecord != null) && (logRecordId.equals(logRecord.getGUID())))
+                            {
+                                return logRecord;
+                            }
+                        }
+                    }
+                }
+            }
+            catch (IOException ioException)
+            {
+                throwStoreNotAvailable(ioException, methodName);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve a list of log records written in a specified time period.  The offset and maximumRecords
+     * parameters support a paging
+     *
+     * @param startDate      start of time period
+     * @param endDate        end of time period
+     * @param offset         offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException     indicates that the start and/or end date parameters are invalid.
+     * @throws PagingErrorException          indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsByTimeStamp(Date startDate,
+                                                                  Date endDate,
+                                                                  int offset,
+                                                                  int maximumRecords) throws InvalidParameterException,
+                                                                                             PagingErrorException,
+                                                                                             RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsByTimeStamp";
+
+        return findLogRecords(null, null, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve a list of log records that have specific severity.  The offset and maximumRecords
+     * parameters support a paging model.
+     *
+     * @param severity       the severity value of messages to return
+     * @param startDate      start of time period
+     * @param endDate        end of time period
+     * @param offset         offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException     indicates that the severity, start and/or end date parameters are invalid.
+     * @throws PagingErrorException          indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException      indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsBySeverity(String severity,
+                                                                 Date startDate,
+                                                                 Date endDate,
+                                                                 int offset,
+                                                                 int maximumRecords) throws InvalidParameterException,
+                                                                                            PagingErrorException,
+                                                                                            RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsBySeverity";
+
+        return findLogRecords(severity, null, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve a list of log records written by a specific component.  The offset and maximumRecords
+     * parameters support a paging model.
+     *
+     * @param component  name of the component to retrieve events from
+     * @param startDate  start of time period
+     * @param endDate  end of time period
+     * @param offset  offset of full collection to begin the return results
+     * @param maximumRecords  maximum number of log records to return
+     * @return list of log records from the specified time period
+     * @throws InvalidParameterException indicates that the component, start and/or end date parameters are invalid.
+     * @throws PagingErrorException indicates that the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    @Override
+    public List<OMRSAuditLogRecord> getAuditLogRecordsByComponent(String component,
+                                                                  Date   startDate,
+                                                                  Date   endDate,
+                                                                  int    offset,
+                                                                  int    maximumRecords) throws InvalidParameterException,
+                                                                                                PagingErrorException,
+                                                                                                RepositoryErrorException
+    {
+        final String methodName = "getAuditLogRecordsByComponent";
+
+        return findLogRecords(null, component, startDate, endDate, offset, maximumRecords, methodName);
+    }
+
+
+    /**
+     * Retrieve the log records that match the query.  Only the segments whose index shows they may contain
+     * matching log records are read.  The log records are returned in the order they were written.
+     *
+     * @param severity requested severity or null for all severities
+     * @param component requested component name or null for all components
+     * @param startDate start of time period or null for no lower limit
+     * @param endDate end of time period or null for no upper limit
+     * @param offset offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return (0 means no limit)
+     * @param methodName calling method
+     * @return list of log records or null if there are none
+     * @throws InvalidParameterException the time period is invalid.
+     * @throws PagingErrorException the offset or the maximumRecords parameters are invalid.
+     * @throws RepositoryErrorException the audit log store is not available.
+     */
+    private List<OMRSAuditLogRecord> findLogRecords(String severity,
+                                                    String component,
+                                                    Date   startDate,
+                                                    Date   endDate,
+                                                    int    offset,
+                                                    int    maximumRecords,
+                                                    String methodName) throws InvalidParameterException,
+                                                                              PagingErrorException,
+                                                                              RepositoryErrorException
+    {
+        validatePaging("offset", offset, methodName);
+        validatePaging("maximumRecords", maximumRecords, methodName);
+
+        if ((startDate != null) && (endDate != null) && (startDate.after(endDate)))
+        {
+            throw new InvalidParameterException(OMRSErrorCode.INVALID_TIME_RANGE.getMessageDefinition(methodName,
+                                                                                                      startDate.toString(),
+                                                                                                      endDate.toString()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                "startDate");
+        }
+
+        long startTime = (startDate == null) ? Long.MIN_VALUE : startDate.getTime();
+        long endTime   = (endDate == null) ? Long.MAX_VALUE : endDate.getTime();
+
+        List<OMRSAuditLogRecord> results       = new ArrayList<>();
+        int                      recordsToSkip = offset;
+
+        for (AuditLogSegment segment : segments)
+        {
+            if (segment.mayContain(severity, component, startTime, endTime))
+            {
+                try (BufferedReader reader = openSegmentFile(segment))
+                {
+                    if (reader != null)
+                    {
+                        String line;
+
+                        while ((line = reader.readLine()) != null)
+                        {
+                            OMRSAuditLogRecord logRecord = AuditLogSegment.parseLogRecord(recordReader, line);
+
+                            if (isMatchingLogRecord(logRecord, severity, component, startDate, endDate))
+                            {
+                                if (recordsToSkip > 0)
+                                {
+                                    recordsToSkip--;
+                                }
+                                else
+                                {
+                                    results.add(logRecord);
+
+                                    if ((maximumRecords > 0) && (results.size() >= maximumRecords))
+                                    {
+                                        return results;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+                catch (IOException ioException)
+                {
+                    throwStoreNotAvailable(ioException, methodName);
+                }
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Determine whether a log record matches a query.
+     *
+     * @param logRecord log record read from a segment
+     * @param severity requested severity or null for all severities
+     * @param component requested component name or null for all components
+     * @param startDate start of time period or null for no lower limit
+     * @param endDate end of time period or null for no upper limit
+     * @return boolean flag
+     */
+    private boolean isMatchingLogRecord(OMRSAuditLogRecord logRecord,
+                                        String             severity,
+                                        String             component,
+                                        Date               startDate,
+                                        Date               endDate)
+    {
+        if (logRecord == null)
+        {
+            return false;
+        }
+
+        if ((severity != null) && (! severity.equals(logRecord.getSeverity())))
+        {
+            return false;
+        }
+
+        if ((component != null) && (! component.equals(AuditLogSegment.getReportingComponentName(logRecord))))
+        {
+            return false;
+        }
+
+        Date timeStamp = logRecord.getTimeStamp();
+
+        if (timeStamp == null)
+        {
+            return (startDate == null) && (endDate == null);
+        }
+
+        return ((startDate == null) || (! timeStamp.before(startDate))) && ((endDate == null) || (! timeStamp.after(endDate)));
+    }
+
+
+    /**
+     * Open a segment file for reading.
+     *
+     * @param segment segment to read
+     * @return reader or null if the segment has been removed
+     */
+    private BufferedReader openSegmentFile(AuditLogSegment segment)
+    {
+        try
+        {
+            return new BufferedReader(new InputStreamReader(new FileInputStream(segment.getSegmentFile(auditLogStoreDirectory)),
+                                                            StandardCharsets.UTF_8));
+        }
+        catch (FileNotFoundException removed)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Validate that a paging parameter is not negative.
+     *
+     * @param parameterName name of the parameter
+     * @param value value of the parameter
+     * @param methodName calling method
+     * @throws PagingErrorException the value is negative
+     */
+    private void validatePaging(String parameterName,
+                                int    value,
+                                String methodName) throws PagingErrorException
+    {
+        if (value < 0)
+        {
+            throw new PagingErrorException(OMRSErrorCode.NEGATIVE_PAGE_SIZE.getMessageDefinition(Integer.toString(value),
+                                                                                                 parameterName,
+                                                                                                 methodName,
+                                                                                                 super.getDestinationName()),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+    }
+
+
+    /**
+     * Throw an exception to indicate that the audit log store could not be read.
+     *
+     * @param error exception from reading the segment files
+     * @param methodName calling method
+     * @throws RepositoryErrorException the audit log store is not available
+     */
+    private void throwStoreNotAvailable(IOException error,
+                                        String      methodName) throws RepositoryErrorException
+    {
+        throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                            error.getMessage()),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           error);
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  The active segment is synced and its
+     * index saved.
+     *
+     * @throws ConnectorCheckedException there is a problem within the connector.
+     */
+    @Override
+    public  void disconnect() throws ConnectorCheckedException
+    {
+        running = false;
+
+        synchronized (syncLock)
+        {
+            syncLock.notifyAll();
+        }
+
+        if (syncThread != null)
+        {
+            try
+            {
+                syncThread.join(syncInterval * 2);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (writeLock)
+        {
+            try
+            {
+                closeActiveSegment();
+            }
+            catch (IOException ioException)
+            {
+                log.error("Unable to close Server Audit Log Store :(", ioException);
+            }
+        }
+
+        super.disconnect();
+    }
+}
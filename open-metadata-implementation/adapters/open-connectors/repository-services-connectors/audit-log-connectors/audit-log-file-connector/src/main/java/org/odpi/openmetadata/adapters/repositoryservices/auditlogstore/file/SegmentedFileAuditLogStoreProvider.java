@@ -0,0 +1,79 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+
+import java.util.List;
+
+/**
+ * SegmentedFileAuditLogStoreProvider is the OCF connector provider for the segmented file audit log store.
+ */
+public class SegmentedFileAuditLogStoreProvider extends OMRSAuditLogStoreProviderBase
+{
+    /*
+     * Unique identifier for the connector type.
+     */
+    private static final String connectorTypeGUID      = "6b1e3c3a-7d0a-4c3e-9b1f-2f5a8d4c6e71";
+
+    /*
+     * Descriptive information about the connector for the connector type and audit log.
+     */
+    private static final String connectorQualifiedName = "Egeria:AuditLogDestinationConnector:SegmentedFiles";
+    private static final String connectorDisplayName   = "Segmented File Audit Log Destination Connector";
+    private static final String connectorDescription   = "Connector supports the distribution of audit log records to a directory of rolling segment files " +
+                                                                 "where each line is a JSON formatted log record.  It supports queries on the audit log.";
+
+    /*
+     * Configuration properties recognized by the connector.
+     */
+    public static final String maxSegmentSizeProperty = "maxSegmentSize";
+    public static final String syncIntervalProperty   = "syncInterval";
+    public static final String waitForSyncProperty    = "waitForSync";
+    public static final String retentionDaysProperty  = "retentionDays";
+    public static final String maxSegmentsProperty    = "maxSegments";
+
+    /*
+     * Class of the connector.
+     */
+    private static final Class<?> connectorClass       = SegmentedFileAuditLogStoreConnector.class;
+
+
+    /**
+     * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
+     * audit log store implementation.
+     */
+    public SegmentedFileAuditLogStoreProvider()
+    {
+        super();
+
+        /*
+         * Set up the class name of the connector that this provider creates.
+         */
+        super.setConnectorClassName(connectorClass.getName());
+
+        /*
+         * Set up the connector type that should be included in a connection used to configure this connector.
+         */
+        ConnectorType connectorType = new ConnectorType();
+        connectorType.setType(ConnectorType.getConnectorTypeType());
+        connectorType.setGUID(connectorTypeGUID);
+        connectorType.setQualifiedName(connectorQualifiedName);
+        connectorType.setDisplayName(connectorDisplayName);
+        connectorType.setDescription(connectorDescription);
+        connectorType.setConnectorProviderClassName(this.getClass().getName());
+
+        List<String> recognizedConfigurationProperties = super.getRecognizedConfigurationProperties();
+
+        recognizedConfigurationProperties.add(maxSegmentSizeProperty);
+        recognizedConfigurationProperties.add(syncIntervalProperty);
+        recognizedConfigurationProperties.add(waitForSyncProperty);
+        recognizedConfigurationProperties.add(retentionDaysProperty);
+        recognizedConfigurationProperties.add(maxSegmentsProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
+        super.connectorTypeBean = connectorType;
+    }
+}
@@ -0,0 +1,679 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreProviderBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the segment files, indexes, queries and retention of the SegmentedFileAuditLogStoreConnector.
+ */
+public class SegmentedFileAuditLogStoreConnectorTest
+{
+    private static final String informationSeverity = "Information";
+    private static final String errorSeverity       = "Error";
+    private static final String componentA          = "ComponentA";
+    private static final String componentB          = "ComponentB";
+    private static final String componentC          = "ComponentC";
+
+    /*
+     * Log records are written one second apart from this time.
+     */
+    private static final long baseTime = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1);
+
+    private File                                auditLogDirectory = null;
+    private SegmentedFileAuditLogStoreConnector connector         = null;
+
+
+    @BeforeMethod
+    void setUp() throws Exception
+    {
+        auditLogDirectory = Files.createTempDirectory("segmented-audit-log").toFile();
+    }
+
+
+    @AfterMethod
+    void tearDown() throws Exception
+    {
+        if (connector != null)
+        {
+            connector.disconnect();
+            connector = null;
+        }
+
+        FileUtils.deleteDirectory(auditLogDirectory);
+    }
+
+
+    @Test
+    void testSegmentRollOver() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+
+        connector = startConnector(configurationProperties);
+
+        /*
+         * Each log record is bigger than the maximum segment size so each one starts a new segment.
+         */
+        for (int i = 0; i < 5; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i));
+        }
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION), Arrays.asList("segment-000000000001.log",
+                                                                                         "segment-000000000002.log",
+                                                                                         "segment-000000000003.log",
+                                                                                         "segment-000000000004.log",
+                                                                                         "segment-000000000005.log"));
+
+        /*
+         * The index of a segment is saved when the segment is closed.
+         */
+        assertEquals(getFileNames(AuditLogSegment.INDEX_FILE_EXTENSION).size(), 4);
+
+        connector.disconnect();
+        connector = null;
+
+        assertEquals(getFileNames(AuditLogSegment.INDEX_FILE_EXTENSION).size(), 5);
+
+        /*
+         * The last segment is full so a restart starts a new segment.
+         */
+        connector = startConnector(configurationProperties);
+        connector.storeLogRecord(getLogRecord(5));
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION).size(), 6);
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(0, 1, 2, 3, 4, 5));
+    }
+
+
+    @Test
+    void testSegmentNotRolledBelowMaxSize() throws Exception
+    {
+        connector = startConnector(new HashMap<>());
+
+        for (int i = 0; i < 10; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i));
+        }
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION), Collections.singletonList("segment-000000000001.log"));
+        assertEquals(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0).size(), 10);
+    }
+
+
+    @Test
+    void testQueriesAcrossSegments() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, "1500");
+
+        connector = startConnector(configurationProperties);
+
+        for (int i = 0; i < 12; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i));
+        }
+
+        assertTrue(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION).size() > 2);
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(getTime(2), getTime(7), 0, 0)), getGUIDs(2, 3, 4, 5, 6, 7));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(getTime(2), getTime(7), 1, 3)), getGUIDs(3, 4, 5));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(getTime(2), null, 8, 5)), getGUIDs(10, 11));
+        assertNull(connector.getAuditLogRecordsByTimeStamp(getTime(2), getTime(7), 6, 0));
+        assertNull(connector.getAuditLogRecordsByTimeStamp(getTime(20), null, 0, 0));
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsBySeverity(errorSeverity, null, null, 0, 0)), getGUIDs(1, 3, 5, 7, 9, 11));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsBySeverity(errorSeverity, null, null, 2, 2)), getGUIDs(5, 7));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsBySeverity(informationSeverity, getTime(5), getTime(9), 0, 0)), getGUIDs(6, 8));
+        assertNull(connector.getAuditLogRecordsBySeverity("Unknown", null, null, 0, 0));
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent(componentA, null, null, 0, 0)), getGUIDs(0, 3, 6, 9));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent(componentC, null, null, 1, 2)), getGUIDs(5, 8));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent(componentB, getTime(0), getTime(4), 0, 0)), getGUIDs(1, 4));
+        assertNull(connector.getAuditLogRecordsByComponent("Unknown", null, null, 0, 0));
+
+        try
+        {
+            connector.getAuditLogRecordsByTimeStamp(null, null, -1, 0);
+            fail("Negative offset accepted");
+        }
+        catch (PagingErrorException expected)
+        {
+            // Expected
+        }
+
+        try
+        {
+            connector.getAuditLogRecordsByTimeStamp(getTime(7), getTime(2), 0, 0);
+            fail("Start date after end date accepted");
+        }
+        catch (InvalidParameterException expected)
+        {
+            // Expected
+        }
+    }
+
+
+    @Test
+    void testGetAuditLogRecord() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+
+        connector = startConnector(configurationProperties);
+
+        for (int i = 0; i < 5; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i));
+        }
+
+        OMRSAuditLogRecord logRecord = connector.getAuditLogRecord(getGUID(1));
+
+        assertNotNull(logRecord);
+        assertEquals(logRecord.getGUID(), getGUID(1));
+        assertEquals(logRecord.getSeverity(), errorSeverity);
+        assertEquals(logRecord.getTimeStamp(), getTime(1));
+        assertEquals(logRecord.getOriginatorComponent().getComponentName(), componentB);
+        assertEquals(logRecord.getMessageText(), "Test message 1");
+
+        /*
+         * Every log record contains this text but it is not the GUID of any of them.
+         */
+        assertNull(connector.getAuditLogRecord("test-log-record-"));
+        assertNull(connector.getAuditLogRecord("unknown-guid"));
+        assertNull(connector.getAuditLogRecord(null));
+
+        connector.disconnect();
+        connector = startConnector(configurationProperties);
+
+        assertEquals(connector.getAuditLogRecord(getGUID(4)).getGUID(), getGUID(4));
+    }
+
+
+    @Test
+    void testMissingAndCorruptIndexesRebuilt() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+
+        connector = startConnector(configurationProperties);
+
+        for (int i = 0; i < 4; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i));
+        }
+
+        connector.disconnect();
+        connector = null;
+
+        assertTrue(new File(auditLogDirectory, "segment-000000000001.index").delete());
+        FileUtils.writeStringToFile(new File(auditLogDirectory, "segment-000000000002.index"), "not an index", StandardCharsets.UTF_8);
+
+        connector = startConnector(configurationProperties);
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent(componentA, null, null, 0, 0)), getGUIDs(0, 3));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent(componentB, null, null, 0, 0)), getGUIDs(1));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsBySeverity(errorSeverity, null, null, 0, 0)), getGUIDs(1, 3));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(getTime(0), getTime(1), 0, 0)), getGUIDs(0, 1));
+    }
+
+
+    @Test
+    void testStaleIndexRebuilt() throws Exception
+    {
+        connector = startConnector(new HashMap<>());
+
+        connector.storeLogRecord(getLogRecord(0));
+        connector.storeLogRecord(getLogRecord(3));
+
+        connector.disconnect();
+        connector = null;
+
+        /*
+         * A log record is added to the segment after its index was saved (for example the server stopped
+         * before the index was saved).  The saved index does not include its component, time stamp or severity.
+         */
+        File segmentFile = new File(auditLogDirectory, "segment-000000000001.log");
+
+        FileUtils.writeStringToFile(segmentFile,
+                                    new ObjectMapper().writeValueAsString(getLogRecord(7)) + "\n",
+                                    StandardCharsets.UTF_8,
+                                    true);
+
+        connector = startConnector(new HashMap<>());
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent(componentB, null, null, 0, 0)), getGUIDs(7));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsBySeverity(errorSeverity, null, null, 0, 0)), getGUIDs(3, 7));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(getTime(5), null, 0, 0)), getGUIDs(7));
+
+        /*
+         * A partly written log record is skipped and the next log record starts on a new line.
+         */
+        connector.disconnect();
+        connector = null;
+
+        FileUtils.writeStringToFile(segmentFile, "{\"guid\":\"partial", StandardCharsets.UTF_8, true);
+
+        connector = startConnector(new HashMap<>());
+        connector.storeLogRecord(getLogRecord(8));
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(0, 3, 7, 8));
+    }
+
+
+    @Test
+    void testRetentionBySegmentCount() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentsProperty, 3);
+
+        connector = startConnector(configurationProperties);
+
+        for (int i = 0; i < 6; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i));
+        }
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION), Arrays.asList("segment-000000000004.log",
+                                                                                         "segment-000000000005.log",
+                                                                                         "segment-000000000006.log"));
+        assertEquals(getFileNames(AuditLogSegment.INDEX_FILE_EXTENSION), Arrays.asList("segment-000000000004.index",
+                                                                                       "segment-000000000005.index"));
+
+        assertNull(connector.getAuditLogRecord(getGUID(2)));
+        assertNotNull(connector.getAuditLogRecord(getGUID(3)));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(3, 4, 5));
+    }
+
+
+    @Test
+    void testRetentionByAge() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.retentionDaysProperty, 1);
+
+        connector = startConnector(configurationProperties);
+
+        for (int i = 0; i < 3; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10)));
+        }
+
+        /*
+         * The active segment is not removed even though its log record has expired.
+         */
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION), Collections.singletonList("segment-000000000003.log"));
+
+        connector.storeLogRecord(getLogRecord(3));
+        connector.storeLogRecord(getLogRecord(4));
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION), Arrays.asList("segment-000000000004.log",
+                                                                                         "segment-000000000005.log"));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(3, 4));
+    }
+
+
+    @Test
+    void testRetentionByAgeOnStart() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+
+        connector = startConnector(configurationProperties);
+
+        for (int i = 0; i < 3; i++)
+        {
+            connector.storeLogRecord(getLogRecord(i, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10)));
+        }
+
+        connector.disconnect();
+        connector = null;
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION).size(), 3);
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.retentionDaysProperty, 1);
+
+        connector = startConnector(configurationProperties);
+
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION), Collections.singletonList("segment-000000000004.log"));
+        assertTrue(getFileNames(AuditLogSegment.INDEX_FILE_EXTENSION).isEmpty());
+        assertNull(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0));
+    }
+
+
+    @Test
+    void testStoreLogRecords() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.maxSegmentSizeProperty, 1);
+        configurationProperties.put(OMRSAuditLogStoreProviderBase.supportedSeveritiesProperty, Collections.singletonList(errorSeverity));
+
+        connector = startConnector(configurationProperties);
+
+        List<OMRSAuditLogRecord> logRecords = new ArrayList<>();
+
+        for (int i = 0; i < 6; i++)
+        {
+            logRecords.add(getLogRecord(i));
+        }
+
+        /*
+         * All of the identifiers are returned but only the log records with a supported severity are stored.
+         */
+        assertEquals(connector.storeLogRecords(logRecords), getGUIDs(0, 1, 2, 3, 4, 5));
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION).size(), 3);
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(1, 3, 5));
+
+        /*
+         * A batch with an invalid log record is rejected before any of its log records are stored.
+         */
+        OMRSAuditLogRecord invalidRecord = getLogRecord(9);
+
+        invalidRecord.setOriginatorComponent(null);
+
+        try
+        {
+            connector.storeLogRecords(Arrays.asList(getLogRecord(7), invalidRecord));
+            fail("Invalid log record accepted");
+        }
+        catch (InvalidParameterException expected)
+        {
+            // Expected
+        }
+
+        assertNull(connector.getAuditLogRecord(getGUID(7)));
+
+        assertTrue(connector.storeLogRecords(null).isEmpty());
+        assertTrue(connector.storeLogRecords(Collections.singletonList(getLogRecord(8))).contains(getGUID(8)));
+        assertEquals(getFileNames(AuditLogSegment.SEGMENT_FILE_EXTENSION).size(), 3);
+    }
+
+
+    @Test
+    void testWaitForSync() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.syncIntervalProperty, 10000);
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.waitForSyncProperty, true);
+
+        connector = startConnector(configurationProperties);
+
+        /*
+         * The writer asks for a sync rather than waiting for the next sync interval.
+         */
+        long startTime = System.currentTimeMillis();
+
+        connector.storeLogRecord(getLogRecord(0));
+        connector.storeLogRecords(Arrays.asList(getLogRecord(1), getLogRecord(2)));
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        assertTrue(elapsedTime < 5000, "Writer waited for the sync interval: " + elapsedTime + "ms");
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(0, 1, 2));
+
+        /*
+         * Many writers share the syncs.
+         */
+        List<Thread> writers = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++)
+        {
+            final int writer = i;
+
+            writers.add(new Thread(() -> {
+                try
+                {
+                    for (int j = 0; j < 10; j++)
+                    {
+                        connector.storeLogRecord(getLogRecord(100 + (writer * 10) + j));
+                    }
+                }
+                catch (InvalidParameterException error)
+                {
+                    fail(error.getMessage());
+                }
+            }));
+        }
+
+        startTime = System.currentTimeMillis();
+
+        for (Thread writer : writers)
+        {
+            writer.start();
+        }
+
+        for (Thread writer : writers)
+        {
+            writer.join(10000);
+            assertFalse(writer.isAlive());
+        }
+
+        elapsedTime = System.currentTimeMillis() - startTime;
+
+        assertTrue(elapsedTime < 5000, "Writers waited for the sync interval: " + elapsedTime + "ms");
+        assertEquals(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0).size(), 83);
+    }
+
+
+    @Test
+    void testSyncEveryRecord() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.syncIntervalProperty, 0);
+        configurationProperties.put(SegmentedFileAuditLogStoreProvider.waitForSyncProperty, "true");
+
+        connector = startConnector(configurationProperties);
+
+        connector.storeLogRecord(getLogRecord(0));
+        connector.storeLogRecords(Arrays.asList(getLogRecord(1), getLogRecord(2)));
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(0, 1, 2));
+    }
+
+
+    /**
+     * Create and start a connector that writes to the test directory.
+     *
+     * @param configurationProperties configuration properties for the connection
+     * @return started connector
+     * @throws Exception problem starting the connector
+     */
+    private SegmentedFileAuditLogStoreConnector startConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+
+        endpoint.setAddress(auditLogDirectory.getAbsolutePath());
+
+        Connection connection = new Connection();
+
+        connection.setDisplayName("Test Audit Log");
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        SegmentedFileAuditLogStoreConnector newConnector = new SegmentedFileAuditLogStoreConnector();
+
+        newConnector.initialize("test-connector", new ConnectionProperties(connection));
+        newConnector.start();
+
+        return newConnector;
+    }
+
+
+    /**
+     * Return the sorted names of the files in the test directory with the supplied extension.
+     *
+     * @param fileExtension extension of the files
+     * @return file names
+     */
+    private List<String> getFileNames(String fileExtension)
+    {
+        List<String> fileNames = new ArrayList<>();
+        String[]     allFiles  = auditLogDirectory.list();
+
+        if (allFiles != null)
+        {
+            for (String fileName : allFiles)
+            {
+                if (fileName.endsWith(fileExtension))
+                {
+                    fileNames.add(fileName);
+                }
+            }
+        }
+
+        Collections.sort(fileNames);
+
+        return fileNames;
+    }
+
+
+    /**
+     * Create a test log record.  The severity alternates between information and error and the
+     * reporting component cycles through components A, B and C.
+     *
+     * @param recordNumber number of the log record
+     * @return log record
+     */
+    private static OMRSAuditLogRecord getLogRecord(int recordNumber)
+    {
+        return getLogRecord(recordNumber, getTime(recordNumber).getTime());
+    }
+
+
+    /**
+     * Create a test log record with a specific time stamp.
+     *
+     * @param recordNumber number of the log record
+     * @param timeStamp time stamp of the log record
+     * @return log record
+     */
+    private static OMRSAuditLogRecord getLogRecord(int  recordNumber,
+                                                   long timeStamp)
+    {
+        final String[] components = new String[]{componentA, componentB, componentC};
+
+        AuditLogReportingComponent reportingComponent = new AuditLogReportingComponent();
+
+        reportingComponent.setComponentName(components[recordNumber % 3]);
+
+        Map<String, String> originatorProperties = new HashMap<>();
+
+        originatorProperties.put("serverName", "testServer");
+
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setGUID(getGUID(recordNumber));
+        logRecord.setTimeStamp(new Date(timeStamp));
+        logRecord.setSeverity((recordNumber % 2 == 0) ? informationSeverity : errorSeverity);
+        logRecord.setOriginatorComponent(reportingComponent);
+        logRecord.setOriginatorProperties(originatorProperties);
+        logRecord.setMessageId("TEST-0001");
+        logRecord.setMessageText("Test message " + recordNumber);
+
+        return logRecord;
+    }
+
+
+    /**
+     * Return the time stamp of a test log record.
+     *
+     * @param recordNumber number of the log record
+     * @return time stamp
+     */
+    private static Date getTime(int recordNumber)
+    {
+        return new Date(baseTime + TimeUnit.SECONDS.toMillis(recordNumber));
+    }
+
+
+    /**
+     * Return the unique identifier of a test log record.
+     *
+     * @param recordNumber number of the log record
+     * @return unique identifier
+     */
+    private static String getGUID(int recordNumber)
+    {
+        return "test-log-record-" + recordNumber;
+    }
+
+
+    /**
+     * Return the unique identifiers of a list of test log records.
+     *
+     * @param recordNumbers numbers of the log records
+     * @return unique identifiers
+     */
+    private static List<String> getGUIDs(int... recordNumbers)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (int recordNumber : recordNumbers)
+        {
+            guids.add(getGUID(recordNumber));
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the unique identifiers of the log records returned by a query.
+     *
+     * @param logRecords log records or null
+     * @return unique identifiers
+     */
+    private static List<String> getGUIDs(List<OMRSAuditLogRecord> logRecords)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (logRecords != null)
+        {
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                guids.add(logRecord.getGUID());
+            }
+        }
+
+        return guids;
+    }
+}
@@ -8,13 +8,22 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
 import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamReader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArchiveStoreConnector
 {
@@ -23,6 +32,15 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
      */
     private static final String defaultFilename = "open.metadata.archive";
 
+    /*
+     * Archives are written compressed when the file name ends with this suffix.  Compressed archives are recognized
+     * by the first two bytes of the file whatever their name.
+     */
+    private static final String compressedFileSuffix = ".gz";
+    private static final int    gzipMagicFirstByte   = 0x1f;
+    private static final int    gzipMagicSecondByte  = 0x8b;
+    private static final int    bufferSize           = 64 * 1024;
+
     /*
      * Variables used in writing to the file.
      */
@@ -75,43 +93,27 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     @Override
     public OpenMetadataArchive getArchiveContents()
     {
-        File                archiveStoreFile     = new File(archiveStoreName);
         OpenMetadataArchive newOpenMetadataArchive;
 
         try
         {
             log.debug("Retrieving open metadata archive from file");
 
-            if (auditLog != null)
-            {
-                final String actionDescription = "Opening open metadata archive";
-
-                auditLog.logMessage(actionDescription,
-                                    FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
-            }
-
-            String configStoreFileContents = FileUtils.readFileToString(archiveStoreFile, "UTF-8");
+            this.logOpeningFile();
 
             ObjectMapper objectMapper = new ObjectMapper();
 
-            newOpenMetadataArchive = objectMapper.readValue(configStoreFileContents, OpenMetadataArchive.class);
+            try (InputStream archiveStream = this.openArchiveFile())
+            {
+                newOpenMetadataArchive = objectMapper.readValue(archiveStream, OpenMetadataArchive.class);
+            }
         }
         catch (IOException ioException)
         {
             /*
              * The archive file is not found, create an empty one ...
              */
-            if (auditLog != null)
-            {
-                final String actionDescription = "Unable to open file";
-
-                auditLog.logException(actionDescription,
-                                      FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
-                                                                                                                        ioException.getClass().getName(),
-                                                                                                                        ioException.getMessage()),
-                                      ioException);
-            }
-
+            this.logBadFile(ioException);
 
             log.debug("Create empty archive", ioException);
 
@@ -122,6 +124,106 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
     }
 
 
+    /**
+     * Pass the contents of the archive to a handler one piece at a time.  The file is read with a JSON token
+     * stream so that large archives are not held in memory.
+     *
+     * @param contentHandler receiver of the archive contents
+     * @return false if the archive has no content
+     */
+    @Override
+    public boolean processArchiveContents(OpenMetadataArchiveContentHandler contentHandler)
+    {
+        try
+        {
+            log.debug("Streaming open metadata archive from file");
+
+            this.logOpeningFile();
+
+            return OpenMetadataArchiveStreamReader.readArchive(this::openArchiveFile, contentHandler);
+        }
+        catch (IOException ioException)
+        {
+            this.logBadFile(ioException);
+
+            log.debug("Unable to stream archive", ioException);
+
+            return false;
+        }
+    }
+
+
+    /**
+     * Open the archive file for reading.  If the file is compressed with gzip, the returned stream
+     * decompresses it.
+     *
+     * @return input stream
+     * @throws IOException the file can not be opened
+     */
+    private InputStream openArchiveFile() throws IOException
+    {
+        InputStream archiveStream = new BufferedInputStream(new FileInputStream(archiveStoreName), bufferSize);
+
+        try
+        {
+            archiveStream.mark(2);
+
+            int firstByte  = archiveStream.read();
+            int secondByte = archiveStream.read();
+
+            archiveStream.reset();
+
+            if ((firstByte == gzipMagicFirstByte) && (secondByte == gzipMagicSecondByte))
+            {
+                return new GZIPInputStream(archiveStream, bufferSize);
+            }
+
+            return archiveStream;
+        }
+        catch (IOException ioException)
+        {
+            archiveStream.close();
+
+            throw ioException;
+        }
+    }
+
+
+    /**
+     * Log that the archive file is being opened.
+     */
+    private void logOpeningFile()
+    {
+        if (auditLog != null)
+        {
+            final String actionDescription = "Opening open metadata archive";
+
+            auditLog.logMessage(actionDescription,
+                                FileBasedOpenMetadataArchiveStoreConnectorAuditCode.OPENING_FILE.getMessageDefinition(archiveStoreName));
+        }
+    }
+
+
+    /**
+     * Log that the archive file could not be read.
+     *
+     * @param ioException exception from reading the file
+     */
+    private void logBadFile(IOException ioException)
+    {
+        if (auditLog != null)
+        {
+            final String actionDescription = "Unable to open file";
+
+            auditLog.logException(actionDescription,
+                                  FileBasedOpenMetadataArchiveStoreConnectorAuditCode.BAD_FILE.getMessageDefinition(archiveStoreName,
+                                                                                                                    ioException.getClass().getName(),
+                                                                                                                    ioException.getMessage()),
+                                  ioException);
+        }
+    }
+
+
     /**
      * Set new contents into the archive.  This overrides any content previously stored.
      *
@@ -140,6 +242,15 @@ public class FileBasedOpenMetadataArchiveStoreConnector extends OpenMetadataArch
             {
                 archiveStoreFile.delete();
             }
+            else if (archiveStoreName.endsWith(compressedFileSuffix))
+            {
+                ObjectMapper objectMapper = new ObjectMapper();
+
+                try (OutputStream archiveStream = new GZIPOutputStream(new FileOutputStream(archiveStoreFile), bufferSize))
+                {
+                    objectMapper.writeValue(archiveStream, archiveContents);
+                }
+            }
             else
             {
                 ObjectMapper objectMapper = new ObjectMapper();
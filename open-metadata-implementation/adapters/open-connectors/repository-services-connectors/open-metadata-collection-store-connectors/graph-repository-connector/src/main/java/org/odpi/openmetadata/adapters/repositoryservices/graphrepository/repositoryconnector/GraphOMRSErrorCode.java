@@ -146,6 +146,21 @@ public enum GraphOMRSErrorCode implements ExceptionMessageSet
             "The search properties contains a values that do not match the type of property {0} - reported by the {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because the provided values do not match the type of the property.",
             "Correct the caller's code and retry the request."),
+    ENTITY_VERSION_CONFLICT(
+            409, "OMRS-GRAPH-REPOSITORY-409-001",
+            "The attempt to update an entity with GUID {0} in {1} method of class {2} to open metadata repository {3} was rejected because the stored version {4} is not the version {5} that the update was based on",
+            "The system did not perform the update because another request changed the entity after the caller retrieved it.",
+            "Retrieve the latest version of the entity and retry the update request."),
+    RELATIONSHIP_VERSION_CONFLICT(
+            409, "OMRS-GRAPH-REPOSITORY-409-002",
+            "The attempt to update a relationship with GUID {0} in {1} method of class {2} to open metadata repository {3} was rejected because the stored version {4} is not the version {5} that the update was based on",
+            "The system did not perform the update because another request changed the relationship after the caller retrieved it.",
+            "Retrieve the latest version of the relationship and retry the update request."),
+    ENTITY_CLASSIFICATION_CONFLICT(
+            409, "OMRS-GRAPH-REPOSITORY-409-003",
+            "The attempt to update an entity with GUID {0} in {1} method of class {2} to open metadata repository {3} was rejected because the stored classifications {4} are not the classifications {5} that the update was based on",
+            "The system did not perform the update because another request changed the classifications of the entity after the caller retrieved it.",
+            "Retrieve the latest version of the entity and retry the update request."),
 
     ;
 
@@ -253,6 +253,9 @@ public class GraphOMRSGraphFactory {
         Map<String, Object> berkleyStorageProperties = new HashMap<>();
         berkleyStorageProperties.put("storage.backend", "berkeleyje");
         berkleyStorageProperties.put("storage.directory", "./data/servers/" + thisRepositoryName + "/repository/graph/berkeley");
+        // BerkeleyDB locks natively rather than through JanusGraph's lock on the unique GUID index, so a read that
+        // finds no entity must lock the gap it read - otherwise concurrent creates of the same GUID all succeed.
+        berkleyStorageProperties.put("storage.berkeleyje.isolation-level", "SERIALIZABLE");
         berkleyStorageProperties.put("index.search.backend", "lucene");
         berkleyStorageProperties.put("index.search.directory", "./data/servers/" + thisRepositoryName + "/repository/graph/searchindex");
         return berkleyStorageProperties;
@@ -290,6 +293,13 @@ public class GraphOMRSGraphFactory {
                 management.makeEdgeLabel("Classifier").make();
             management.commit();
 
+            /*
+             * The version of an entity or relationship is locked so that two transactions that check and update the
+             * version of the same instance conflict at commit rather than one silently overwriting the other.
+             */
+            createLockedPropertyKey(PROPERTY_KEY_ENTITY_VERSION,       Long.class);
+            createLockedPropertyKey(PROPERTY_KEY_RELATIONSHIP_VERSION, Long.class);
+
             /*
              * There is no reindexing of newly created indexes, either here or in the creation of an index as the result of verifying a TypeDef. The
              * rationale for this is that each property is qualified by the name of the type in which it is defined - the indexes on those properties
@@ -412,6 +422,34 @@ public class GraphOMRSGraphFactory {
 
 
 
+    private void createLockedPropertyKey(String propertyKeyName, Class<?> clazz)
+    {
+        final String methodName = "createLockedPropertyKey";
+
+        JanusGraphManagement management = graph.openManagement();
+
+        try {
+            PropertyKey propertyKey = management.getPropertyKey(propertyKeyName);
+            if (propertyKey == null) {
+                log.debug("{} make property key for property {}", methodName, propertyKeyName);
+                propertyKey = management.makePropertyKey(propertyKeyName).dataType(clazz).make();
+            }
+
+            if (management.getConsistency(propertyKey) != ConsistencyModifier.LOCK) {
+                log.info("{} set LOCK consistency for property {}", methodName, propertyKeyName);
+                management.setConsistency(propertyKey, ConsistencyModifier.LOCK);
+            }
+
+            management.commit();
+        }
+        catch (RuntimeException e) {
+            management.rollback();
+            throw e;
+        }
+    }
+
+
+
     // Note that this map is not a complete list of the graph indexes. It only contains mappings for the MIXED indexes.
 
     static final Map<String,MixedIndexMapping> corePropertyMixedIndexMappings = new HashMap<String,MixedIndexMapping>() {{
@@ -70,7 +70,10 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataCollection.class);
 
+    private static final int defaultInstanceBatchSize = 500;
+
     private GraphOMRSMetadataStore graphStore = null;
+    private int                    instanceBatchSize = defaultInstanceBatchSize;
 
     /**
      * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection Id.
@@ -82,6 +85,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
      * @param repositoryValidator  - class used to validate type definitions and instances.
      * @param metadataCollectionId - unique Identifier of the metadata collection Id.
      * @param auditLog             - logging destination
+     * @param storageProperties    - properties for the graph DB and the instance batch size
      */
     GraphOMRSMetadataCollection(GraphOMRSRepositoryConnector parentConnector,
                                 String                       repositoryName,
@@ -103,9 +107,36 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
          */
         this.parentConnector = parentConnector;
 
+        /*
+         * The instance batch size is used by this metadata collection - the remaining properties configure the graph DB.
+         */
+        Map<String, Object> graphProperties = storageProperties;
+
+        if ((storageProperties != null) && (storageProperties.containsKey(GraphOMRSRepositoryConnectorProvider.instanceBatchSizeProperty)))
+        {
+            graphProperties = new HashMap<>(storageProperties);
+            Object batchSize = graphProperties.remove(GraphOMRSRepositoryConnectorProvider.instanceBatchSizeProperty);
+
+            if (batchSize instanceof Number)
+            {
+                this.instanceBatchSize = ((Number) batchSize).intValue();
+            }
+            else if (batchSize != null)
+            {
+                try
+                {
+                    this.instanceBatchSize = Integer.parseInt(batchSize.toString().trim());
+                }
+                catch (NumberFormatException e)
+                {
+                    log.warn("{} ignoring invalid {} {}", methodName, GraphOMRSRepositoryConnectorProvider.instanceBatchSizeProperty, batchSize);
+                }
+            }
+        }
+
         try {
             this.graphStore = new GraphOMRSMetadataStore(metadataCollectionId, repositoryName, repositoryHelper, auditLog,
-                    storageProperties);
+                    graphProperties);
         }
         catch(RepositoryErrorException e) {
             /*
@@ -701,7 +732,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
 
         return updatedEntity;
@@ -792,7 +823,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
         ///*
         // * The repository store maintains an entity proxy for use with relationships.
@@ -869,7 +900,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        graphStore.updateRelationshipInStore(updatedRelationship);
+        graphStore.updateRelationshipInStore(updatedRelationship, relationship.getVersion());
 
         return updatedRelationship;
     }
@@ -952,7 +983,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         updatedRelationship.setProperties(properties);
         updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        graphStore.updateRelationshipInStore(updatedRelationship);
+        graphStore.updateRelationshipInStore(updatedRelationship, relationship.getVersion());
 
         return updatedRelationship;
     }
@@ -2338,7 +2369,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         EntityDetail updatedEntity = repositoryHelper.addClassificationToEntity(repositoryName, entity, newClassification, methodName);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
         return updatedEntity;
     }
@@ -2456,13 +2487,13 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                                                                                     (EntityDetail) entity,
                                                                                     newClassification,
                                                                                     methodName);
-            graphStore.updateEntityInStore(updatedEntity);
+            graphStore.updateEntityInStore(updatedEntity, entity);
         }else{
             EntityProxy updatedProxy = repositoryHelper.addClassificationToEntity(repositoryName,
                                                                                   (EntityProxy) entity,
                                                                                   newClassification,
                                                                                   methodName);
-            graphStore.updateEntityInStore(updatedProxy);
+            graphStore.updateEntityInStore(updatedProxy, entity);
         }
 
         return newClassification;
@@ -2591,7 +2622,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         EntityDetail updatedEntity = repositoryHelper.addClassificationToEntity(repositoryName, entity, newClassification, methodName);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
         return updatedEntity;
     }
@@ -2732,13 +2763,13 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     (EntityDetail) entity,
                     newClassification,
                     methodName);
-            graphStore.updateEntityInStore(updatedEntity);
+            graphStore.updateEntityInStore(updatedEntity, entity);
         }else{
             EntityProxy updatedProxy = repositoryHelper.addClassificationToEntity(repositoryName,
                     (EntityProxy) entity,
                     newClassification,
                     methodName);
-            graphStore.updateEntityInStore(updatedProxy);
+            graphStore.updateEntityInStore(updatedProxy, entity);
         }
 
         return newClassification;
@@ -2796,7 +2827,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         EntityDetail updatedEntity = repositoryHelper.deleteClassificationFromEntity(repositoryName, entity, classificationName, methodName);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
         return updatedEntity;
     }
@@ -2865,13 +2896,13 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                                                                                          (EntityDetail) entity,
                                                                                          classificationName,
                                                                                          methodName);
-            graphStore.updateEntityInStore(updatedEntity);
+            graphStore.updateEntityInStore(updatedEntity, entity);
         }else{
             EntityProxy updatedEntity = repositoryHelper.deleteClassificationFromEntity(repositoryName,
                     (EntityProxy) entity,
                     classificationName,
                     methodName);
-            graphStore.updateEntityInStore(updatedEntity);
+            graphStore.updateEntityInStore(updatedEntity, entity);
         }
 
         return toBeRemoved;
@@ -3156,7 +3187,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedEntity = repositoryHelper.incrementVersion(userId, entityDetail, updatedEntity);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entityDetail);
 
         return updatedEntity;
 
@@ -3213,7 +3244,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         restoredEntity = repositoryHelper.incrementVersion(userId, entity, restoredEntity);
 
-        graphStore.updateEntityInStore(restoredEntity);
+        graphStore.updateEntityInStore(restoredEntity, entity);
 
         return restoredEntity;
     }
@@ -3257,7 +3288,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        graphStore.updateRelationshipInStore(updatedRelationship);
+        graphStore.updateRelationshipInStore(updatedRelationship, relationship.getVersion());
 
         return updatedRelationship;
     }
@@ -3300,7 +3331,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         restoredRelationship = repositoryHelper.incrementVersion(userId, relationship, restoredRelationship);
 
-        graphStore.updateRelationshipInStore(restoredRelationship);
+        graphStore.updateRelationshipInStore(restoredRelationship, relationship.getVersion());
 
         return restoredRelationship;
 
@@ -3402,7 +3433,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                         {
                             relationship.setEntityTwoProxy(newEntityProxy);
                         }
-                        graphStore.updateRelationshipInStore(relationship);
+                        graphStore.updateRelationshipInStore(relationship, relationship.getVersion());
                     }
                 }
             }
@@ -3412,7 +3443,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             log.error("{} entity wth GUID {} caused throwable", methodName, entityGUID, error);
         }
 
-        graphStore.updateEntityInStore(deletedEntity);
+        graphStore.updateEntityInStore(deletedEntity, entity);
         graphStore.createEntityInStore(updatedEntity);
 
         return updatedEntity;
@@ -3484,7 +3515,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
         return updatedEntity;
     }
@@ -3570,7 +3601,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedEntity = repositoryHelper.incrementVersion(userId, entity, updatedEntity);
 
-        graphStore.updateEntityInStore(entity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
         return updatedEntity;
     }
@@ -3626,7 +3657,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         updatedRelationship.setReIdentifiedFromGUID(relationshipGUID);
         updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        graphStore.updateRelationshipInStore(deletedRelationship);
+        graphStore.updateRelationshipInStore(deletedRelationship, relationship.getVersion());
         graphStore.createRelationshipInStore(updatedRelationship);
 
         return updatedRelationship;
@@ -3696,7 +3727,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        graphStore.updateRelationshipInStore(updatedRelationship);
+        graphStore.updateRelationshipInStore(updatedRelationship, relationship.getVersion());
 
         return updatedRelationship;
     }
@@ -3750,7 +3781,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
         updatedRelationship = repositoryHelper.incrementVersion(userId, relationship, updatedRelationship);
 
-        graphStore.updateRelationshipInStore(updatedRelationship);
+        graphStore.updateRelationshipInStore(updatedRelationship, relationship.getVersion());
 
         return updatedRelationship;
     }
@@ -3816,7 +3847,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                 newClassification,
                 methodName);
 
-        graphStore.updateEntityInStore(updatedEntity);
+        graphStore.updateEntityInStore(updatedEntity, entity);
 
 
         return updatedEntity;
@@ -3879,14 +3910,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                                                                                        (EntityDetail) entity,
                                                                                        newClassification,
                                                                                        methodName);
-            graphStore.updateEntityInStore(updatedEntity);
+            graphStore.updateEntityInStore(updatedEntity, entity);
         }else{
             EntityProxy updatedProxy = repositoryHelper.updateClassificationInEntity(repositoryName,
                                                                                      userId,
                                                                                      (EntityProxy) entity,
                                                                                      newClassification,
                                                                                      methodName);
-            graphStore.updateEntityInStore(updatedProxy);
+            graphStore.updateEntityInStore(updatedProxy, entity);
         }
 
         return newClassification;
@@ -4118,7 +4149,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                                                                                         methodName);
 
                 if (metadataCollectionId.equals(entity.getMetadataCollectionId())) {
-                    graphStore.updateEntityInStore(updatedEntity);
+                    graphStore.updateEntityInStore(updatedEntity, retrievedEntity);
                 }
                 else {
                     graphStore.saveEntityReferenceCopyToStore(updatedEntity);
@@ -4196,7 +4227,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                                                                                         methodName);
 
                 if (metadataCollectionId.equals(entity.getMetadataCollectionId())) {
-                    graphStore.updateEntityInStore(updatedEntity);
+                    graphStore.updateEntityInStore(updatedEntity, retrievedEntity);
                 }
                 else {
                     graphStore.saveEntityReferenceCopyToStore(updatedEntity);
@@ -4255,7 +4286,7 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
 
                 if (metadataCollectionId.equals(entity.getMetadataCollectionId())) {
                     updatedEntity = repositoryHelper.incrementVersion(userId, retrievedEntity, updatedEntity);
-                    graphStore.updateEntityInStore(updatedEntity);
+                    graphStore.updateEntityInStore(updatedEntity, retrievedEntity);
                 }
                 else {
                     graphStore.saveEntityReferenceCopyToStore(entity);
@@ -4301,6 +4332,90 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /**
+     * Save the entities and relationships supplied in the instance graph as reference copies.  Instances that belong
+     * to the local metadata collection are skipped.  The instances are saved in batches, each batch in a single
+     * graph transaction, which is much faster than saving them one at a time when a large set of instances arrives
+     * together (such as from an open metadata archive).
+     *
+     * @param userId unique identifier for requesting server.
+     * @param instances instances to save
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String         userId,
+                                            InstanceGraph  instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            EntityConflictException,
+            RelationshipConflictException,
+            InvalidEntityException,
+            InvalidRelationshipException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "saveInstanceReferenceCopies";
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, entity, "entity", methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, "relationship", methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        /*
+         * Save instances
+         */
+        graphStore.saveInstanceReferenceCopiesToStore(entities, relationships, instanceBatchSize);
+    }
+
+
     @Override
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
@@ -13,6 +13,8 @@ import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
 import org.janusgraph.core.attribute.Text;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
@@ -58,7 +60,10 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.P.eq;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.gt;
@@ -72,7 +77,9 @@ import static org.apache.tinkerpop.gremlin.process.traversal.P.without;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
 
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_CLASSIFICATION_VERSION;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_GUID;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_VERSION;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_IS_PROXY;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_CURRENT_STATUS;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_TYPE_NAME;
@@ -82,6 +89,7 @@ import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_GUID;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_CURRENT_STATUS;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_TYPE_NAME;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_RELATIONSHIP_VERSION;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_NAME_TYPE_NAME;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.corePropertiesClassification;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.corePropertiesEntity;
@@ -100,11 +108,29 @@ import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadat
  * GraphOMRSMetadataStore provides the graph store for the GraphRepositoryConnector
  * The Graph Store is implemented using JanusGraph and is used to store instances.
  * There is no type graph because the RCM is used to get any information about TypeDefs and AttributeTypeDefs.
+ *
+ * Each thread works in its own (thread-bound) JanusGraph transaction so requests are not serialized by the store.
+ * Conflicting writes are detected by the locks JanusGraph takes on the unique GUID indexes when a transaction
+ * commits, or by the storage backend's own locks when it provides them (as BerkeleyDB does).  A write that fails
+ * to obtain its locks is rolled back and run again after a short random pause.  Writes to the same instance from
+ * this JVM are also run one at a time, so that they do not repeatedly abort each other in the backend.
  */
 class GraphOMRSMetadataStore {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataStore.class);
 
+    // Number of times a write is attempted before a locking failure is returned to the caller, and the
+    // upper limit of the (random) pause before the first retry - the limit doubles with each retry.
+    private static final int  MAX_WRITE_ATTEMPTS  = 5;
+    private static final long RETRY_PAUSE_MILLIS  = 20;
+
+    private static final String BERKELEY_LOCK_CONFLICT_CLASS = "com.sleepycat.je.LockConflictException";
+
+    // Writes to an instance hold the stripe selected by the hash of its GUID.
+    private static final int  INSTANCE_LOCK_STRIPES = 64;
+
+    private final Object[] instanceLocks = new Object[INSTANCE_LOCK_STRIPES];
+
     private String repositoryName;
     private String metadataCollectionId;
 
@@ -145,6 +171,11 @@ class GraphOMRSMetadataStore {
         this.repositoryName = repositoryName;
         this.repositoryHelper = repositoryHelper;
 
+        for (int stripe = 0; stripe < INSTANCE_LOCK_STRIPES; stripe++)
+        {
+            instanceLocks[stripe] = new Object();
+        }
+
 
         try
         {
@@ -167,13 +198,159 @@ class GraphOMRSMetadataStore {
     }
 
 
+    // A write to the graph that runs in the calling thread's transaction and commits it.  The exception type E
+    // lets each write declare the checked exceptions it throws in addition to RepositoryErrorException.
+    @FunctionalInterface
+    private interface GraphWriteOperation<T, E extends Exception>
+    {
+        T execute() throws E, RepositoryErrorException;
+    }
+
+
+    // Run a write, retrying it from the start if its transaction could not obtain the locks it needs because a
+    // concurrent transaction was changing the same vertices or edges.  Any other failure is returned unchanged.
+    private <T, E extends Exception> T executeWithRetry(String                     methodName,
+                                                         GraphWriteOperation<T, E>  operation)
+
+    throws E,
+           RepositoryErrorException
+    {
+        int attempt = 1;
+
+        while (true)
+        {
+            try
+            {
+                return operation.execute();
+            }
+            catch (RepositoryErrorException | RuntimeException e)
+            {
+                if ((attempt >= MAX_WRITE_ATTEMPTS) || (!isLockingFailure(e)))
+                {
+                    throw e;
+                }
+
+                if (instanceGraph.tx().isOpen())
+                {
+                    instanceGraph.tx().rollback();
+                }
+
+                long pause = ThreadLocalRandom.current().nextLong(1, (RETRY_PAUSE_MILLIS << (attempt - 1)) + 1);
+
+                log.debug("{} locking conflict on attempt {} - retrying in {} ms", methodName, attempt, pause);
+
+                try
+                {
+                    Thread.sleep(pause);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+
+                attempt++;
+            }
+        }
+    }
+
+
+    // Run a write to a single instance, holding the instance's lock stripe so that concurrent writes to the instance
+    // from this JVM take turns.  Without it, two transactions that both read the instance before either writes it
+    // deadlock in BerkeleyDB, and the lock timeout aborts both of them - typically on every retry.
+    private <T, E extends Exception> T executeWithRetry(String                     methodName,
+                                                         String                     guid,
+                                                         GraphWriteOperation<T, E>  operation)
+
+    throws E,
+           RepositoryErrorException
+    {
+        synchronized (instanceLocks[Math.floorMod(Objects.hashCode(guid), INSTANCE_LOCK_STRIPES)])
+        {
+            return executeWithRetry(methodName, operation);
+        }
+    }
+
+
+    // A locking failure may be wrapped in several layers of exception by JanusGraph and by the store methods.
+    private boolean isLockingFailure(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            if ((cause instanceof PermanentLockingException) || (cause instanceof TemporaryBackendException) || (isBerkeleyLockConflict(cause)))
+            {
+                return true;
+            }
+
+            if (cause.getCause() == cause)
+            {
+                break;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
+    // BerkeleyDB reports a deadlock or lock timeout between transactions as a LockConflictException (or one of its
+    // subclasses), which JanusGraph wraps in a PermanentBackendException.  The class is matched by name because the
+    // BerkeleyDB classes are only present when that storage backend is configured.
+    private boolean isBerkeleyLockConflict(Throwable error)
+    {
+        for (Class<?> errorClass = error.getClass(); errorClass != null; errorClass = errorClass.getSuperclass())
+        {
+            if (BERKELEY_LOCK_CONFLICT_CLASS.equals(errorClass.getName()))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    // Find the vertex for an entity.  Vertices found or created earlier in the same transaction are taken from
+    // the cache so that a batch of instances that share entities does not repeat the index lookups.
+    private Vertex getEntityVertex(GraphTraversalSource g,
+                                   String               guid,
+                                   Map<String, Vertex>  vertexCache)
+    {
+        Vertex vertex = vertexCache.get(guid);
+
+        if (vertex == null)
+        {
+            Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
+
+            if (vertexIt.hasNext())
+            {
+                vertex = vertexIt.next();
+                vertexCache.put(guid, vertex);
+            }
+        }
+
+        return vertex;
+    }
+
+
     // A note on existence checking:
     // The MDC will NOT have already checked that there is not already an entity or entity proxy wth the same GUID.
     // Although we KNOW that this is an attempt to create a new entity and that the GUID has just been generated,
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        return executeWithRetry("createEntityInStore", entity.getGUID(), () -> createEntityInTransaction(entity));
+    }
+
+    private EntityDetail createEntityInTransaction(EntityDetail entity)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -292,7 +469,22 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        executeWithRetry("createEntityProxyInStore", entityProxy.getGUID(), () ->
+        {
+            createEntityProxyInTransaction(entityProxy, new HashMap<>());
+            instanceGraph.tx().commit();
+            return null;
+        });
+    }
+
+    // Create the proxy in the calling thread's transaction - the caller commits
+    private Vertex createEntityProxyInTransaction(EntityProxy         entityProxy,
+                                                  Map<String, Vertex> vertexCache)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -300,11 +492,10 @@ class GraphOMRSMetadataStore {
         final String methodName = "createEntityProxyInStore";
 
         GraphTraversalSource g = instanceGraph.traversal();
-        Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityProxy.getGUID());
-        if (vertexIt.hasNext())
+        Vertex existingVertex = getEntityVertex(g, entityProxy.getGUID(), vertexCache);
+        if (existingVertex != null)
         {
-            Vertex vertex = vertexIt.next();
-            log.error("{} createEntityProxyInStore found existing vertex {}", methodName, vertex);
+            log.error("{} createEntityProxyInStore found existing vertex {}", methodName, existingVertex);
             g.tx().rollback();
 
             throw new InvalidParameterException(
@@ -318,6 +509,7 @@ class GraphOMRSMetadataStore {
         }
 
         Vertex vertex = g.addV("Entity").next();
+        vertexCache.put(entityProxy.getGUID(), vertex);
 
         try
         {
@@ -351,8 +543,7 @@ class GraphOMRSMetadataStore {
                     methodName, e);
         }
 
-        g.tx().commit();
-
+        return vertex;
     }
 
 
@@ -392,7 +583,22 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
+    void saveEntityReferenceCopyToStore(EntityDetail entity)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+    {
+        executeWithRetry("saveEntityReferenceCopyToStore", entity.getGUID(), () ->
+        {
+            saveEntityReferenceCopyInTransaction(entity, new HashMap<>());
+            instanceGraph.tx().commit();
+            return null;
+        });
+    }
+
+    // Save the reference copy in the calling thread's transaction - the caller commits
+    private void saveEntityReferenceCopyInTransaction(EntityDetail        entity,
+                                                      Map<String, Vertex> vertexCache)
 
     throws InvalidParameterException,
            RepositoryErrorException
@@ -404,12 +610,12 @@ class GraphOMRSMetadataStore {
         Vertex vertex;
 
         GraphTraversalSource g = instanceGraph.traversal();
-        Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entity.getGUID());
+        Vertex existingVertex = getEntityVertex(g, entity.getGUID(), vertexCache);
 
-        if (vertexIt.hasNext())
+        if (existingVertex != null)
         {
 
-            vertex = vertexIt.next();
+            vertex = existingVertex;
             log.debug("{} found existing vertex {}", methodName, vertex);
 
             /*
@@ -449,6 +655,7 @@ class GraphOMRSMetadataStore {
             // No existing vertex found - create one
             log.debug("{} create vertex for entity {}", methodName, entity.getGUID());
             vertex = g.addV("Entity").next();
+            vertexCache.put(entity.getGUID(), vertex);
         }
 
         /*
@@ -489,9 +696,6 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
-
-
-        g.tx().commit();
     }
 
 
@@ -531,7 +735,19 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityProxy entity)
+    void saveEntityReferenceCopyToStore(EntityProxy entity)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+    {
+        executeWithRetry("saveEntityReferenceCopyToStore", entity.getGUID(), () ->
+        {
+            saveEntityReferenceCopyInTransaction(entity);
+            return null;
+        });
+    }
+
+    private void saveEntityReferenceCopyInTransaction(EntityProxy entity)
 
             throws InvalidParameterException,
                    RepositoryErrorException
@@ -634,7 +850,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
 
     throws EntityNotKnownException,
            EntityProxyOnlyException,
@@ -731,7 +947,7 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    EntitySummary getEntitySummaryFromStore(String guid)
 
     throws EntityNotKnownException,
            RepositoryErrorException
@@ -801,7 +1017,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
 
     throws RepositoryErrorException
 
@@ -860,7 +1076,19 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
+
+    throws RepositoryErrorException,
+           InvalidParameterException
+    {
+        executeWithRetry("createRelationshipInStore", relationship.getGUID(), () ->
+        {
+            createRelationshipInTransaction(relationship);
+            return null;
+        });
+    }
+
+    private void createRelationshipInTransaction(Relationship relationship)
 
     throws RepositoryErrorException,
            InvalidParameterException
@@ -1001,7 +1229,22 @@ class GraphOMRSMetadataStore {
      *       - else metadataCollectionId is not local and values match
      *             update existing edge by mapping relationship
      */
-    synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
+    void saveRelationshipReferenceCopyToStore(Relationship relationship)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+    {
+        executeWithRetry("saveRelationshipReferenceCopyToStore", relationship.getGUID(), () ->
+        {
+            saveRelationshipReferenceCopyInTransaction(relationship, new HashMap<>());
+            instanceGraph.tx().commit();
+            return null;
+        });
+    }
+
+    // Save the reference copy, and any proxies it needs, in the calling thread's transaction - the caller commits
+    private void saveRelationshipReferenceCopyInTransaction(Relationship        relationship,
+                                                            Map<String, Vertex> vertexCache)
 
     throws InvalidParameterException,
            RepositoryErrorException
@@ -1012,80 +1255,41 @@ class GraphOMRSMetadataStore {
 
         GraphTraversalSource g = instanceGraph.traversal();
 
-        Vertex vertex;
+        /*
+         * If there is a vertex for an entity it could be the master, a ref copy or a proxy. In any of these
+         * cases it will be reused.
+         * There is no point performing validation checks on type, home metadataCollection, etc
+         * because there could be pending events that this repository has not seen yet. Any
+         * updates to the entity will be handled via entity instance events.
+         * If the entity does not exist a proxy is created in the same transaction.
+         */
 
         // Process end 1
         EntityProxy entityOne = relationship.getEntityOneProxy();
+        Vertex      vertexOne = getEntityVertex(g, entityOne.getGUID(), vertexCache);
 
-        Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityOne.getGUID());
-
-        if (vertexIt.hasNext())
+        if (vertexOne != null)
         {
-
-            /*
-             * There is a vertex for the entity.
-             * It could be the master, a ref copy or a proxy. In any of these cases
-             * it will be reused.
-             * There is no point performing validation checks on type, home metadataCollection, etc
-             * because there could be pending events that this repository has not seen yet. Any
-             * updates to the entity will be handled via entity instance events.
-             */
-
-            vertex = vertexIt.next();
-            log.debug("{} found existing vertex for end1 {}", methodName, vertex);
-
+            log.debug("{} found existing vertex for end1 {}", methodName, vertexOne);
         }
         else
         {
-            // Entity does not exist, create proxy
-            createEntityProxyInStore(entityOne);
+            vertexOne = createEntityProxyInTransaction(entityOne, vertexCache);
         }
 
         // Process end 2
         EntityProxy entityTwo = relationship.getEntityTwoProxy();
-        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityTwo.getGUID());
+        Vertex      vertexTwo = getEntityVertex(g, entityTwo.getGUID(), vertexCache);
 
-        if (vertexIt.hasNext())
+        if (vertexTwo != null)
         {
-
-            /*
-             * There is a vertex for the entity.
-             * It could be the master, a ref copy or a proxy. In any of these cases
-             * it will be reused.
-             * There is no point performing validation checks on type, home metadataCollection, etc
-             * because there could be pending events that this repository has not seen yet. Any
-             * updates to the entity will be handled via entity instance events.
-             */
-
-            vertex = vertexIt.next();
-            log.debug("{} found existing vertex for end2 {}", methodName, vertex);
+            log.debug("{} found existing vertex for end2 {}", methodName, vertexTwo);
         }
         else
         {
-            // Entity does not exist, create proxy
-            createEntityProxyInStore(entityTwo);
+            vertexTwo = createEntityProxyInTransaction(entityTwo, vertexCache);
         }
 
-
-        /*
-         * Both ends have been checked and there are vertices for both.
-         * Because we might have either created or retrieved the vertices for the entities, re-fetch them here
-         * and throw an exception on any error.
-         */
-
-        Vertex vertexOne = null;
-        Vertex vertexTwo = null;
-
-        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityOne.getGUID());
-        if (vertexIt.hasNext())
-        {
-            vertexOne = vertexIt.next();
-        }
-        vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, entityTwo.getGUID());
-        if (vertexIt.hasNext())
-        {
-            vertexTwo = vertexIt.next();
-        }
         if (vertexOne == null || vertexTwo == null)
         {
 
@@ -1176,13 +1380,112 @@ class GraphOMRSMetadataStore {
                     this.getClass().getName(),
                     methodName, e);
         }
+    }
 
-        log.debug("{} Commit tx containing creation or update of edge", methodName);
-        g.tx().commit();
+
+    /*
+     * Save a set of reference copies.  The entities are saved first so that the relationships reuse their vertices
+     * rather than creating proxies.  Each batch of batchSize instances (all of them if batchSize is not positive) is
+     * saved in a single transaction, with the entity vertices cached for the life of the transaction.
+     *
+     * If an instance in a batch is rejected the whole batch is rolled back, so the instances in that batch are then
+     * saved one at a time and the first rejection is returned once the rest have been saved.  This gives the same
+     * outcome as saving each instance separately.
+     */
+    void saveInstanceReferenceCopiesToStore(List<EntityDetail> entities,
+                                            List<Relationship> relationships,
+                                            int                batchSize)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+    {
+        final String methodName = "saveInstanceReferenceCopiesToStore";
+
+        List<Object> instances = new ArrayList<>();
+
+        if (entities != null)
+        {
+            instances.addAll(entities);
+        }
+        if (relationships != null)
+        {
+            instances.addAll(relationships);
+        }
+
+        int batchLength = (batchSize > 0) ? batchSize : Math.max(instances.size(), 1);
+
+        InvalidParameterException firstRejection = null;
+
+        for (int start = 0; start < instances.size(); start += batchLength)
+        {
+            List<Object> batch = instances.subList(start, Math.min(start + batchLength, instances.size()));
+
+            try
+            {
+                executeWithRetry(methodName, () ->
+                {
+                    Map<String, Vertex> vertexCache = new HashMap<>();
+
+                    for (Object instance : batch)
+                    {
+                        saveReferenceCopyInTransaction(instance, vertexCache);
+                    }
+
+                    log.debug("{} Commit tx containing batch of {} instances", methodName, batch.size());
+                    instanceGraph.tx().commit();
+                    return null;
+                });
+            }
+            catch (InvalidParameterException e)
+            {
+                log.debug("{} batch rejected - saving its instances individually", methodName);
+
+                for (Object instance : batch)
+                {
+                    try
+                    {
+                        executeWithRetry(methodName, () ->
+                        {
+                            saveReferenceCopyInTransaction(instance, new HashMap<>());
+                            instanceGraph.tx().commit();
+                            return null;
+                        });
+                    }
+                    catch (InvalidParameterException rejection)
+                    {
+                        if (firstRejection == null)
+                        {
+                            firstRejection = rejection;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (firstRejection != null)
+        {
+            throw firstRejection;
+        }
+    }
+
+    private void saveReferenceCopyInTransaction(Object              instance,
+                                                Map<String, Vertex> vertexCache)
+
+    throws InvalidParameterException,
+           RepositoryErrorException
+    {
+        if (instance instanceof EntityDetail)
+        {
+            saveEntityReferenceCopyInTransaction((EntityDetail) instance, vertexCache);
+        }
+        else
+        {
+            saveRelationshipReferenceCopyInTransaction((Relationship) instance, vertexCache);
+        }
     }
 
 
-    synchronized Relationship getRelationshipFromStore(String guid)
+    Relationship getRelationshipFromStore(String guid)
 
     throws RepositoryErrorException
 
@@ -1257,7 +1560,26 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized void updateEntityInStore(EntityDetail entity)
+    // Update an entity that the caller built from retrievedEntity.  The whole entity is written, including its
+    // classifications, so the stored version and classifications are checked against retrievedEntity in the same
+    // transaction as the update.  Classification changes do not change the entity version, which is why both are
+    // checked.  Concurrent updates from this JVM take turns on the entity's lock stripe, and those from other JVMs
+    // conflict on the version, which is rewritten by every update and has LOCK consistency - either way the later
+    // update based on the same entity is rejected by the check rather than overwriting the other.
+    void updateEntityInStore(EntityDetail  entity,
+                             EntitySummary retrievedEntity)
+
+    throws RepositoryErrorException
+    {
+        executeWithRetry("updateEntityInStore", entity.getGUID(), () ->
+        {
+            updateEntityInTransaction(entity, retrievedEntity);
+            return null;
+        });
+    }
+
+    private void updateEntityInTransaction(EntityDetail  entity,
+                                           EntitySummary retrievedEntity)
 
     throws RepositoryErrorException
 
@@ -1280,6 +1602,8 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found entity vertex {}", methodName, vertex);
 
+            checkEntityUnchanged(vertex, retrievedEntity, g, methodName);
+
             try
             {
 
@@ -1315,7 +1639,21 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized void updateEntityInStore(EntityProxy entity)
+    // Update an entity proxy that the caller built from retrievedEntity - see updateEntityInStore.
+    void updateEntityInStore(EntityProxy   entity,
+                             EntitySummary retrievedEntity)
+
+    throws RepositoryErrorException
+    {
+        executeWithRetry("updateEntityInStore", entity.getGUID(), () ->
+        {
+            updateEntityInTransaction(entity, retrievedEntity);
+            return null;
+        });
+    }
+
+    private void updateEntityInTransaction(EntityProxy   entity,
+                                           EntitySummary retrievedEntity)
 
             throws RepositoryErrorException
 
@@ -1338,6 +1676,8 @@ class GraphOMRSMetadataStore {
             Vertex vertex = gt.next();
             log.debug("{} found entity vertex {}", methodName, vertex);
 
+            checkEntityUnchanged(vertex, retrievedEntity, g, methodName);
+
             try
             {
 
@@ -1373,6 +1713,73 @@ class GraphOMRSMetadataStore {
     }
 
 
+    // Reject an update if the version or the classifications of the stored entity are not those of the entity the
+    // update was built from.  The transaction is rolled back before the exception is thrown.
+    private void checkEntityUnchanged(Vertex               vertex,
+                                      EntitySummary        retrievedEntity,
+                                      GraphTraversalSource g,
+                                      String               methodName)
+
+    throws RepositoryErrorException
+
+    {
+        String guid            = retrievedEntity.getGUID();
+        Long   storedVersion   = vertex.<Long>property(PROPERTY_KEY_ENTITY_VERSION).orElse(null);
+        long   expectedVersion = retrievedEntity.getVersion();
+
+        if ((storedVersion == null) || (storedVersion != expectedVersion))
+        {
+            log.debug("{} entity {} is at version {} not {}", methodName, guid, storedVersion, expectedVersion);
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.ENTITY_VERSION_CONFLICT.getMessageDefinition(
+                            guid, methodName,
+                            this.getClass().getName(),
+                            repositoryName,
+                            String.valueOf(storedVersion),
+                            String.valueOf(expectedVersion)),
+                    this.getClass().getName(),
+                    methodName);
+        }
+
+        // Compare the name and version of each classification
+        Map<String, Long> storedClassifications = new TreeMap<>();
+        Iterator<Edge> classifierEdges = vertex.edges(Direction.OUT, "Classifier");
+        while (classifierEdges.hasNext())
+        {
+            Vertex classificationVertex = classifierEdges.next().inVertex();
+            storedClassifications.put(classificationVertex.<String>property(PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME).orElse(null),
+                                      classificationVertex.<Long>property(PROPERTY_KEY_CLASSIFICATION_VERSION).orElse(null));
+        }
+
+        Map<String, Long> expectedClassifications = new TreeMap<>();
+        if (retrievedEntity.getClassifications() != null)
+        {
+            for (Classification classification : retrievedEntity.getClassifications())
+            {
+                expectedClassifications.put(classification.getName(), classification.getVersion());
+            }
+        }
+
+        if (!expectedClassifications.equals(storedClassifications))
+        {
+            log.debug("{} entity {} has classifications {} not {}", methodName, guid, storedClassifications, expectedClassifications);
+            g.tx().rollback();
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.ENTITY_CLASSIFICATION_CONFLICT.getMessageDefinition(
+                            guid, methodName,
+                            this.getClass().getName(),
+                            repositoryName,
+                            storedClassifications.toString(),
+                            expectedClassifications.toString()),
+                    this.getClass().getName(),
+                    methodName);
+        }
+    }
+
+
     // updateEntityClassifications
     private void updateEntityClassifications(EntitySummary         entity,
                                              Vertex                vertex,
@@ -1467,8 +1874,21 @@ class GraphOMRSMetadataStore {
     }
 
 
-    // updateRelationshipInStore
-    synchronized void updateRelationshipInStore(Relationship relationship)
+    // Update a relationship that the caller retrieved at expectedVersion - see updateEntityInStore.
+    void updateRelationshipInStore(Relationship relationship,
+                                   long         expectedVersion)
+
+    throws RepositoryErrorException
+    {
+        executeWithRetry("updateRelationshipInStore", relationship.getGUID(), () ->
+        {
+            updateRelationshipInTransaction(relationship, expectedVersion);
+            return null;
+        });
+    }
+
+    private void updateRelationshipInTransaction(Relationship relationship,
+                                                 long         expectedVersion)
 
     throws RepositoryErrorException
 
@@ -1486,6 +1906,24 @@ class GraphOMRSMetadataStore {
             Edge edge = edgeIt.next();
             log.debug("{} found existing edge {}", methodName, edge);
 
+            Long storedVersion = edge.<Long>property(PROPERTY_KEY_RELATIONSHIP_VERSION).orElse(null);
+
+            if ((storedVersion == null) || (storedVersion != expectedVersion))
+            {
+                log.debug("{} relationship {} is at version {} not {}", methodName, guid, storedVersion, expectedVersion);
+                g.tx().rollback();
+
+                throw new RepositoryErrorException(
+                        GraphOMRSErrorCode.RELATIONSHIP_VERSION_CONFLICT.getMessageDefinition(
+                                guid, methodName,
+                                this.getClass().getName(),
+                                repositoryName,
+                                String.valueOf(storedVersion),
+                                String.valueOf(expectedVersion)),
+                        this.getClass().getName(),
+                        methodName);
+            }
+
             try
             {
 
@@ -1514,7 +1952,18 @@ class GraphOMRSMetadataStore {
     //
     // This method will remove the entity vertex and any classifier edges and classification vertices linked off it
 
-    synchronized void removeEntityFromStore(String entityGUID)
+    void removeEntityFromStore(String entityGUID)
+
+    throws RepositoryErrorException
+    {
+        executeWithRetry("removeEntityFromStore", entityGUID, () ->
+        {
+            removeEntityInTransaction(entityGUID);
+            return null;
+        });
+    }
+
+    private void removeEntityInTransaction(String entityGUID)
     {
         final String methodName = "removeEntityFromStore";
 
@@ -1570,7 +2019,18 @@ class GraphOMRSMetadataStore {
 
 
     // removeRelationshipFromStore
-    synchronized void removeRelationshipFromStore(String relationshipGUID)
+    void removeRelationshipFromStore(String relationshipGUID)
+
+    throws RepositoryErrorException
+    {
+        executeWithRetry("removeRelationshipFromStore", relationshipGUID, () ->
+        {
+            removeRelationshipInTransaction(relationshipGUID);
+            return null;
+        });
+    }
+
+    private void removeRelationshipInTransaction(String relationshipGUID)
     {
         final String methodName = "removeRelationshipFromStore";
 
@@ -1590,7 +2050,7 @@ class GraphOMRSMetadataStore {
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
     throws RepositoryErrorException
 
@@ -1960,28 +2420,7 @@ class GraphOMRSMetadataStore {
 
                                 // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                {
-                                    t = t.has(propNameToSearch, Text.textContainsRegex(searchString));     // for a field indexed using Text mapping use textContains or textContainsRegex
-                                }
-                                else
-                                {
-                                    if (!fullMatch)
-                                    {
-                                        // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                        String ANYCHARS = ".*";
-                                        t = t.has(propNameToSearch, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                    }
-                                    else
-                                    {
-                                        // Must be a full match...
-                                        t = t.has(propNameToSearch, Text.textRegex(searchString));
-                                    }
-                                }
+                                t = applyStringMatch(t, propNameToSearch, (String) primValue, mapping, fullMatch, methodName);
                                 break;
 
                             case OM_PRIMITIVE_TYPE_DATE:
@@ -2383,34 +2822,7 @@ class GraphOMRSMetadataStore {
 
                                     // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                    String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                    log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                    // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                    if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                    {
-                                        t = t.has(thisMatchedPropName, Text.textContainsRegex(searchString));     // for a field indexed using Text mapping use textContains or textContainsRegex
-                                    }
-                                    else
-                                    {
-                                        /*
-                                         * I know this looks weird - hard-coding the value of fullMatch immediately before testing it and never
-                                         * using the 'false' case - but hopefully it is instructive as to the effect on the graph traversal if
-                                         * in future, it becomes necessary to perform a graph traversal that does NOT perform a full match.
-                                         */
-                                        boolean fullMatch = true;
-                                        if (!fullMatch)
-                                        {
-                                            // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                            String ANYCHARS = ".*";
-                                            t = t.has(thisMatchedPropName, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                        }
-                                        else
-                                        {
-                                            // Must be a full match...
-                                            t = t.has(thisMatchedPropName, Text.textRegex(searchString));
-                                        }
-                                    }
+                                    t = applyStringMatch(t, thisMatchedPropName, (String) primValue, mapping, true, methodName);
                                     break;
 
                                 case OM_PRIMITIVE_TYPE_DATE:
@@ -2844,34 +3256,7 @@ class GraphOMRSMetadataStore {
 
                                     // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                    String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                    log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                    // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                    if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                    {
-                                        t = t.has(thisMatchedPropName, Text.textContainsRegex(searchString));     // for a field indexed using Text mapping use textContains or textContainsRegex
-                                    }
-                                    else
-                                    {
-                                        /*
-                                         * I know this looks weird - hard-coding the value of fullMatch immediately before testing it and never
-                                         * using the 'false' case - but hopefully it is instructive as to the effect on the graph traversal if
-                                         * in future, it becomes necessary to perform a graph traversal that does NOT perform a full match.
-                                         */
-                                        boolean fullMatch = true;
-                                        if (!fullMatch)
-                                        {
-                                            // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                            String ANYCHARS = ".*";
-                                            t = t.has(thisMatchedPropName, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                        }
-                                        else
-                                        {
-                                            // Must be a full match...
-                                            t = t.has(thisMatchedPropName, Text.textRegex(searchString));
-                                        }
-                                    }
+                                    t = applyStringMatch(t, thisMatchedPropName, (String) primValue, mapping, true, methodName);
                                     break;
 
                                 case OM_PRIMITIVE_TYPE_DATE:
@@ -3277,28 +3662,7 @@ class GraphOMRSMetadataStore {
 
                                 // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                {
-                                    t = t.has(propNameToSearch, Text.textContainsRegex(searchString));     // for a field indexed using Text mapping use textContains or textContainsRegex
-                                }
-                                else
-                                {
-                                    if (!fullMatch)
-                                    {
-                                        // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                        String ANYCHARS = ".*";
-                                        t = t.has(propNameToSearch, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                    }
-                                    else
-                                    {
-                                        // Must be a full match...
-                                        t = t.has(propNameToSearch, Text.textRegex(searchString));
-                                    }
-                                }
+                                t = applyStringMatch(t, propNameToSearch, (String) primValue, mapping, fullMatch, methodName);
                                 break;
 
                             case OM_PRIMITIVE_TYPE_DATE:
@@ -3724,34 +4088,7 @@ class GraphOMRSMetadataStore {
 
                                     // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                    String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                    log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                    // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                    if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                    {
-                                        t = t.has(thisMatchedPropName, Text.textContainsRegex(searchString));     // for a field indexed using Text mapping use textContains or textContainsRegex
-                                    }
-                                    else
-                                    {
-                                        /*
-                                         * I know this looks weird - hard-coding the value of fullMatch immediately before testing it and never
-                                         * using the 'false' case - but hopefully it is instructive as to the effect on the graph traversal if
-                                         * in future, it becomes necessary to perform a graph traversal that does NOT perform a full match.
-                                         */
-                                        boolean fullMatch = true;
-                                        if (!fullMatch)
-                                        {
-                                            // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                            String ANYCHARS = ".*";
-                                            t = t.has(thisMatchedPropName, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                        }
-                                        else
-                                        {
-                                            // Must be a full match...
-                                            t = t.has(thisMatchedPropName, Text.textRegex(searchString));
-                                        }
-                                    }
+                                    t = applyStringMatch(t, thisMatchedPropName, (String) primValue, mapping, true, methodName);
                                     break;
 
                                 case OM_PRIMITIVE_TYPE_DATE:
@@ -4195,34 +4532,7 @@ class GraphOMRSMetadataStore {
 
                                     // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                    String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                    log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                    // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                    if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                    {
-                                        t = t.has(thisMatchedPropName, Text.textContainsRegex(searchString));     // for a field indexed using Text mapping use textContains or textContainsRegex
-                                    }
-                                    else
-                                    {
-                                        /*
-                                         * I know this looks weird - hard-coding the value of fullMatch immediately before testing it and never
-                                         * using the 'false' case - but hopefully it is instructive as to the effect on the graph traversal if
-                                         * in future, it becomes necessary to perform a graph traversal that does NOT perform a full match.
-                                         */
-                                        boolean fullMatch = true;
-                                        if (!fullMatch)
-                                        {
-                                            // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                            String ANYCHARS = ".*";
-                                            t = t.has(thisMatchedPropName, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                        }
-                                        else
-                                        {
-                                            // Must be a full match...
-                                            t = t.has(thisMatchedPropName, Text.textRegex(searchString));
-                                        }
-                                    }
+                                    t = applyStringMatch(t, thisMatchedPropName, (String) primValue, mapping, true, methodName);
                                     break;
 
                                 case OM_PRIMITIVE_TYPE_DATE:
@@ -4393,6 +4703,44 @@ class GraphOMRSMetadataStore {
 
 
 
+    /*
+     * Add a string match to a traversal using the predicate chosen by the query plan.  Exact and prefix matches on
+     * properties with String mapping are pushed down to the mixed index as term and prefix lookups; other matches use
+     * the JanusGraph text predicates with a regular expression.
+     */
+    private <S, E> GraphTraversal<S, E> applyStringMatch(GraphTraversal<S, E>                    t,
+                                                         String                                  propNameInGraph,
+                                                         String                                  searchValue,
+                                                         GraphOMRSGraphFactory.MixedIndexMapping mapping,
+                                                         boolean                                 fullMatch,
+                                                         String                                  methodName)
+    {
+        GraphOMRSQueryPlan.StringMatch stringMatch = GraphOMRSQueryPlan.planStringMatch(searchValue,
+                                                                                        convertSearchStringToJanusRegex(searchValue),
+                                                                                        mapping,
+                                                                                        fullMatch,
+                                                                                        repositoryHelper);
+
+        log.debug("{} EXPLAIN {} {}", methodName, propNameInGraph, stringMatch);
+
+        // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
+        switch (stringMatch.getStrategy())
+        {
+            case Equals:
+                return t.has(propNameInGraph, stringMatch.getSearchValue());
+
+            case Prefix:
+                return t.has(propNameInGraph, Text.textPrefix(stringMatch.getSearchValue()));
+
+            case TextContainsRegex:
+                return t.has(propNameInGraph, Text.textContainsRegex(stringMatch.getSearchValue()));     // for a field indexed using Text mapping use textContains or textContainsRegex
+
+            default:
+                return t.has(propNameInGraph, Text.textRegex(stringMatch.getSearchValue()));             // for a field indexed using String mapping use textRegex
+        }
+    }
+
+
     /*
      * This method converts an Egeria regex into an expression that can be used with the JanusGraph
      * text predicates.
@@ -5174,28 +5522,7 @@ class GraphOMRSMetadataStore {
 
                                     // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
 
-                                    String searchString = convertSearchStringToJanusRegex((String) primValue);
-                                    log.debug("{} primitive match property search string {}", methodName, searchString);
-
-                                    // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-                                    if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-                                    {
-                                        t = t.has(propNameToSearch, Text.textContainsRegex(searchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
-                                    }
-                                    else
-                                    {
-                                        if (!fullMatch)
-                                        {
-                                            // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                                            String ANYCHARS = ".*";
-                                            t = t.has(propNameToSearch, Text.textRegex(ANYCHARS + searchString + ANYCHARS));         // for a field indexed using String mapping use textRegex
-                                        }
-                                        else
-                                        {
-                                            // Must be a full match...
-                                            t =t.has(propNameToSearch, Text.textRegex(searchString));
-                                        }
-                                    }
+                                    t = applyStringMatch(t, propNameToSearch, (String) primValue, mapping, fullMatch, methodName);
                                     break;
 
                                 case OM_PRIMITIVE_TYPE_DATE:
@@ -9450,27 +9777,7 @@ class GraphOMRSMetadataStore {
          */
         if (operator == LIKE)
         {
-            String searchString = convertSearchStringToJanusRegex((String) primValue);
-            log.debug("{} primitive match property search string {}", methodName, searchString);
-
-            // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-            if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-            {
-                t = t.has(propNameInGraph, Text.textContainsRegex(searchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
-            }
-            else
-            {
-                if (!fullMatch)
-                {
-                    // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                    String ANYCHARS = ".*";
-                    t = t.has(propNameInGraph, Text.textRegex(ANYCHARS + searchString + ANYCHARS));   // for a field indexed using String mapping use textRegex
-                }
-                else // Must be a full match...
-                {
-                    t = t.has(propNameInGraph, Text.textRegex(searchString));
-                }
-            }
+            t = applyStringMatch(t, propNameInGraph, (String) primValue, mapping, fullMatch, methodName);
         }
         else
         {
@@ -9600,27 +9907,7 @@ class GraphOMRSMetadataStore {
          */
         if (operator == LIKE)
         {
-            String searchString = convertSearchStringToJanusRegex((String) primValue);
-            log.debug("{} primitive match property search string {}", methodName, searchString);
-
-            // NB This is using a JG specific approach to text predicates - see the static import above. From TP 3.4.0 try to use the TP text predicates.
-            if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
-            {
-                t = t.has(propNameInGraph, Text.textContainsRegex(searchString)); // for a field indexed using Text mapping use textContains or textContainsRegex
-            }
-            else
-            {
-                if (!fullMatch)
-                {
-                    // A partial match is sufficient...i.e. a value containing the search value as a substring will match
-                    String ANYCHARS = ".*";
-                    t = t.has(propNameInGraph, Text.textRegex(ANYCHARS + searchString + ANYCHARS));   // for a field indexed using String mapping use textRegex
-                }
-                else // Must be a full match...
-                {
-                    t = t.has(propNameInGraph, Text.textRegex(searchString));
-                }
-            }
+            t = applyStringMatch(t, propNameInGraph, (String) primValue, mapping, fullMatch, methodName);
         }
         else
         {
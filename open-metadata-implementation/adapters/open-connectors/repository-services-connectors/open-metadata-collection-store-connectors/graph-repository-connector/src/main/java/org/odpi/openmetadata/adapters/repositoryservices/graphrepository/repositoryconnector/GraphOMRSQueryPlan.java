@@ -40,6 +40,54 @@ public class GraphOMRSQueryPlan {
     }
 
 
+    /*
+     * The predicate used to evaluate a string match in the mixed index.  Exact and prefix matches on a property
+     * indexed with String mapping are evaluated as term and prefix lookups.  Any other match on a String mapped
+     * property needs a regular expression query, which has to scan the index terms.  A property indexed with
+     * Text mapping is matched token by token.
+     */
+    public enum StringMatchStrategy
+    {
+        Equals,
+        Prefix,
+        Regex,
+        TextContainsRegex
+    }
+
+
+    /*
+     * The chosen predicate for a string match and the value it is given.
+     */
+    public static class StringMatch
+    {
+        private final StringMatchStrategy strategy;
+        private final String              searchValue;
+
+        StringMatch(StringMatchStrategy strategy,
+                    String              searchValue)
+        {
+            this.strategy    = strategy;
+            this.searchValue = searchValue;
+        }
+
+        public StringMatchStrategy getStrategy()
+        {
+            return strategy;
+        }
+
+        public String getSearchValue()
+        {
+            return searchValue;
+        }
+
+        @Override
+        public String toString()
+        {
+            return strategy + "(" + searchValue + ")";
+        }
+    }
+
+
     private QueryStrategy                 queryStrategy;
     private Map<String, TypeDefAttribute> qualifiedPropertyNameToTypeDefinedAttribute;
     private Map<String, List<String>>     shortPropertyNameToQualifiedPropertyNames;
@@ -372,7 +420,82 @@ public class GraphOMRSQueryPlan {
         {
             queryStrategy = QueryStrategy.Delegate;
         }
-        return;
+
+        if (log.isDebugEnabled())
+        {
+            log.debug("{} EXPLAIN {}", methodName, this.explain());
+        }
+    }
+
+
+    /*
+     * Describe the plan for debug logging - the strategy, the types it covers and the graph property keys that each
+     * query property is mapped to.
+     */
+    public String explain()
+    {
+        StringBuilder explanation = new StringBuilder();
+
+        explanation.append("strategy=").append(queryStrategy);
+        explanation.append(", filterType=").append(filterTypeName);
+        explanation.append(", validTypes=").append(validTypeNames == null ? 0 : validTypeNames.size());
+
+        if (shortPropertyNameToQualifiedPropertyNames != null)
+        {
+            for (Map.Entry<String, List<String>> property : shortPropertyNameToQualifiedPropertyNames.entrySet())
+            {
+                explanation.append(", ").append(property.getKey()).append("->").append(property.getValue());
+            }
+        }
+
+        return explanation.toString();
+    }
+
+
+    /*
+     * Choose the predicate for a string match.  The search value is an Egeria regular expression - if it was built
+     * by OMRSRepositoryHelper.getExactMatchRegex or getStartsWithRegex (without the case-insensitive option) the
+     * literal it contains can be looked up directly in a String mapped index.  Otherwise the JanusGraph form of the
+     * regular expression is used, wrapped to match anywhere in the value if a full match is not needed.
+     *
+     * This method is package private - it is used by the GraphOMRSMetadataStore when it builds the traversals.
+     */
+    static StringMatch planStringMatch(String                                  searchValue,
+                                       String                                  janusRegex,
+                                       GraphOMRSGraphFactory.MixedIndexMapping mapping,
+                                       boolean                                 fullMatch,
+                                       OMRSRepositoryHelper                    repositoryHelper)
+    {
+        if (mapping == GraphOMRSGraphFactory.MixedIndexMapping.Text)
+        {
+            return new StringMatch(StringMatchStrategy.TextContainsRegex, janusRegex);
+        }
+
+        if ((fullMatch) && (searchValue != null))
+        {
+            if (repositoryHelper.isExactMatchRegex(searchValue, false))
+            {
+                return new StringMatch(StringMatchStrategy.Equals, repositoryHelper.getUnqualifiedLiteralString(searchValue));
+            }
+
+            if (repositoryHelper.isStartsWithRegex(searchValue, false))
+            {
+                String prefix = repositoryHelper.getUnqualifiedLiteralString(searchValue);
+
+                /*
+                 * An empty prefix matches every value so it is left to the regular expression.
+                 */
+                if ((prefix != null) && (! prefix.isEmpty()))
+                {
+                    return new StringMatch(StringMatchStrategy.Prefix, prefix);
+                }
+            }
+
+            return new StringMatch(StringMatchStrategy.Regex, janusRegex);
+        }
+
+        // A partial match is sufficient...i.e. a value containing the search value as a substring will match
+        return new StringMatch(StringMatchStrategy.Regex, ".*" + janusRegex + ".*");
     }
 
 
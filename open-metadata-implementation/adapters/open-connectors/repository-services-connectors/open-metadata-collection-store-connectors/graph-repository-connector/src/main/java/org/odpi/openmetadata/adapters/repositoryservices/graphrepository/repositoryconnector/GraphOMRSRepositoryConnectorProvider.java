@@ -8,6 +8,9 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorTyp
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnectorProviderBase;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * In the Open Connector Framework (OCF), a ConnectorProvider is a factory for a specific type of connector.
  * The GraphOMRSRepositoryConnectorProvider is the connector provider for the GraphOMRSRepositoryConnector.
@@ -44,6 +47,12 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
      */
     private static final Class<?> connectorClass       = GraphOMRSRepositoryConnector.class;
 
+    /*
+     * Number of instances saved in each graph transaction when a set of reference copies is saved together
+     * (for example, when an open metadata archive is loaded).  This property is not passed to the graph database.
+     */
+    public static final String instanceBatchSizeProperty = "instanceBatchSize";
+
 
     /**
      * Constructor used to initialize the ConnectorProviderBase with the Java class name of the specific
@@ -69,6 +78,11 @@ public class GraphOMRSRepositoryConnectorProvider extends OMRSRepositoryConnecto
         connectorType.setDescription(connectorDescription);
         connectorType.setConnectorProviderClassName(this.getClass().getName());
 
+        List<String> recognizedConfigurationProperties = new ArrayList<>();
+        recognizedConfigurationProperties.add(instanceBatchSizeProperty);
+
+        connectorType.setRecognizedConfigurationProperties(recognizedConfigurationProperties);
+
         super.connectorTypeBean = connectorType;
 
         /*
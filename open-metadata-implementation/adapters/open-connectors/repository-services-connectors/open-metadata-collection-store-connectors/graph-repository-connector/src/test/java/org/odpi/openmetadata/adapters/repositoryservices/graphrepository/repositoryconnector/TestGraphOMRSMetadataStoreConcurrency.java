@@ -0,0 +1,482 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.Reporter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Runs a mixed read/write workload against a GraphOMRSMetadataStore that uses the default BerkeleyDB/Lucene
+ * configuration from GraphOMRSGraphFactory.  The test checks that concurrent writes are neither lost nor
+ * duplicated, and reports the throughput with one thread and with several threads.
+ */
+public class TestGraphOMRSMetadataStoreConcurrency
+{
+    private static final String METADATA_COLLECTION_ID = "c8d76a26-3c5e-4f3e-8b0a-concurrency";
+    private static final String ENTITY_TYPE_NAME       = "TestEntity";
+    private static final int    ENTITY_COUNT           = 200;
+    private static final int    OPERATIONS_PER_THREAD  = 500;
+    private static final int    THREAD_COUNT           = 4;
+
+    private File                   graphDirectory;
+    private GraphOMRSMetadataStore graphStore;
+
+
+    @BeforeClass
+    public void setUp() throws Exception
+    {
+        graphDirectory = Files.createTempDirectory("graph-store-concurrency").toFile();
+
+        Map<String, Object> storageProperties = new HashMap<>();
+
+        storageProperties.put("storage.backend", "berkeleyje");
+        storageProperties.put("storage.directory", new File(graphDirectory, "berkeley").getAbsolutePath());
+        storageProperties.put("storage.berkeleyje.isolation-level", "SERIALIZABLE");
+        storageProperties.put("index.search.backend", "lucene");
+        storageProperties.put("index.search.directory", new File(graphDirectory, "searchindex").getAbsolutePath());
+
+        EntityDef    entityDef    = new EntityDef();
+        InstanceType instanceType = new InstanceType();
+
+        entityDef.setName(ENTITY_TYPE_NAME);
+        instanceType.setTypeDefName(ENTITY_TYPE_NAME);
+
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.getTypeDefByName(anyString(), anyString())).thenReturn(entityDef);
+        when(repositoryHelper.getNewInstanceType(anyString(), any(TypeDefSummary.class))).thenReturn(instanceType);
+
+        graphStore = new GraphOMRSMetadataStore(METADATA_COLLECTION_ID,
+                                                "ConcurrencyTestRepository",
+                                                repositoryHelper,
+                                                mock(AuditLog.class),
+                                                storageProperties);
+    }
+
+
+    @AfterClass
+    public void tearDown()
+    {
+        deleteDirectory(graphDirectory);
+    }
+
+
+    @Test
+    public void testMixedWorkload() throws Exception
+    {
+        /*
+         * The first run warms up the JIT and the graph caches so that the single thread result is not penalized.
+         */
+        this.runWorkload(1);
+
+        double singleThreadRate = this.runWorkload(1);
+        double multiThreadRate  = this.runWorkload(THREAD_COUNT);
+
+        Reporter.log("GraphOMRSMetadataStore mixed workload: 1 thread = " + Math.round(singleThreadRate) +
+                             " ops/s; " + THREAD_COUNT + " threads = " + Math.round(multiThreadRate) +
+                             " ops/s; speed up = " + String.format("%.2f", multiThreadRate / singleThreadRate), true);
+    }
+
+
+    @Test
+    public void testConflictingCreates() throws Exception
+    {
+        /*
+         * Every thread tries to create the same entity.  Exactly one must succeed - the others either see the
+         * entity when their transaction starts or lose the lock on the GUID index and see it when they retry.
+         */
+        String          guid          = UUID.randomUUID().toString();
+        ExecutorService executor      = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch  startSignal   = new CountDownLatch(1);
+        AtomicInteger   createCount   = new AtomicInteger();
+        AtomicInteger   rejectCount   = new AtomicInteger();
+        List<Future<?>> threadResults = new ArrayList<>();
+
+        for (int thread = 0; thread < THREAD_COUNT; thread++)
+        {
+            threadResults.add(executor.submit(() ->
+            {
+                startSignal.await();
+
+                try
+                {
+                    graphStore.createEntityInStore(getEntity(guid, 1));
+                    createCount.incrementAndGet();
+                }
+                catch (InvalidParameterException alreadyExists)
+                {
+                    rejectCount.incrementAndGet();
+                }
+
+                return null;
+            }));
+        }
+
+        startSignal.countDown();
+
+        for (Future<?> threadResult : threadResults)
+        {
+            threadResult.get();
+        }
+
+        executor.shutdown();
+
+        assertEquals(createCount.get(), 1);
+        assertEquals(rejectCount.get(), THREAD_COUNT - 1);
+        assertNotNull(graphStore.getEntityDetailFromStore(guid));
+    }
+
+
+    @Test
+    public void testConflictingUpdatesOfOneEntity() throws Exception
+    {
+        /*
+         * Two threads read the same version of an entity and then both update it.  Exactly one update must be
+         * stored - the other is rejected by the version check rather than overwriting the first.
+         */
+        String          guid     = graphStore.createEntityInStore(getEntity(UUID.randomUUID().toString(), 1)).getGUID();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        for (int round = 0; round < 20; round++)
+        {
+            CyclicBarrier     bothRead      = new CyclicBarrier(2);
+            AtomicInteger     updateCount   = new AtomicInteger();
+            AtomicInteger     conflictCount = new AtomicInteger();
+            List<Future<?>>   threadResults = new ArrayList<>();
+
+            for (int thread = 0; thread < 2; thread++)
+            {
+                final String updatedBy = "thread-" + thread;
+
+                threadResults.add(executor.submit(() ->
+                {
+                    EntityDetail current = graphStore.getEntityDetailFromStore(guid);
+                    EntityDetail updated = getEntity(guid, current.getVersion() + 1);
+
+                    updated.setUpdatedBy(updatedBy);
+
+                    bothRead.await();
+
+                    try
+                    {
+                        graphStore.updateEntityInStore(updated, current);
+                        updateCount.incrementAndGet();
+                    }
+                    catch (RepositoryErrorException conflict)
+                    {
+                        assertEquals(conflict.getReportedErrorMessageId(), "OMRS-GRAPH-REPOSITORY-409-001");
+                        conflictCount.incrementAndGet();
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> threadResult : threadResults)
+            {
+                threadResult.get();
+            }
+
+            assertEquals(updateCount.get(), 1);
+            assertEquals(conflictCount.get(), 1);
+            assertEquals(graphStore.getEntityDetailFromStore(guid).getVersion(), 2L + round);
+        }
+
+        executor.shutdown();
+    }
+
+
+    @Test
+    public void testConflictingClassificationsOfOneEntity() throws Exception
+    {
+        /*
+         * Two threads read the same entity and then each adds a different classification.  Classifying an entity
+         * does not change its version, so the classifications are checked as well - otherwise the second update
+         * would remove the classification added by the first.
+         */
+        String          guid     = graphStore.createEntityInStore(getEntity(UUID.randomUUID().toString(), 1)).getGUID();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        for (int round = 0; round < 10; round++)
+        {
+            CyclicBarrier     bothRead      = new CyclicBarrier(2);
+            AtomicInteger     updateCount   = new AtomicInteger();
+            AtomicInteger     conflictCount = new AtomicInteger();
+            List<Future<?>>   threadResults = new ArrayList<>();
+
+            for (int thread = 0; thread < 2; thread++)
+            {
+                final String classificationName = "Classification-" + round + "-" + thread;
+
+                threadResults.add(executor.submit(() ->
+                {
+                    EntityDetail current = graphStore.getEntityDetailFromStore(guid);
+                    EntityDetail updated = addClassification(current, classificationName);
+
+                    bothRead.await();
+
+                    try
+                    {
+                        graphStore.updateEntityInStore(updated, current);
+                        updateCount.incrementAndGet();
+                    }
+                    catch (RepositoryErrorException conflict)
+                    {
+                        assertEquals(conflict.getReportedErrorMessageId(), "OMRS-GRAPH-REPOSITORY-409-003");
+                        conflictCount.incrementAndGet();
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> threadResult : threadResults)
+            {
+                threadResult.get();
+            }
+
+            assertEquals(updateCount.get(), 1);
+            assertEquals(conflictCount.get(), 1);
+            assertEquals(graphStore.getEntityDetailFromStore(guid).getClassifications().size(), round + 1);
+        }
+
+        executor.shutdown();
+    }
+
+
+    @Test
+    public void testStaleUpdateAfterClassification() throws Exception
+    {
+        /*
+         * An update built from an entity read before it was classified is rejected, even though the
+         * classification did not change the version of the entity.
+         */
+        EntityDetail current = graphStore.createEntityInStore(getEntity(UUID.randomUUID().toString(), 1));
+
+        graphStore.updateEntityInStore(addClassification(current, "Classification"), current);
+
+        try
+        {
+            graphStore.updateEntityInStore(getEntity(current.getGUID(), current.getVersion() + 1), current);
+            fail("Update based on the unclassified entity was stored");
+        }
+        catch (RepositoryErrorException conflict)
+        {
+            assertEquals(conflict.getReportedErrorMessageId(), "OMRS-GRAPH-REPOSITORY-409-003");
+        }
+
+        EntityDetail stored = graphStore.getEntityDetailFromStore(current.getGUID());
+
+        assertEquals(stored.getVersion(), current.getVersion());
+        assertEquals(stored.getClassifications().size(), 1);
+    }
+
+
+    /**
+     * Run the workload against a new set of entities.  Each thread owns the entities whose index is congruent with
+     * its thread number so that the expected final version of each entity is known.  All threads read all of the
+     * entities and create new ones.
+     *
+     * @param threadCount number of threads
+     * @return operations per second
+     * @throws Exception the workload failed
+     */
+    private double runWorkload(int threadCount) throws Exception
+    {
+        List<String> entityGUIDs = new ArrayList<>();
+
+        for (int i = 0; i < ENTITY_COUNT; i++)
+        {
+            EntityDetail entity = graphStore.createEntityInStore(getEntity(UUID.randomUUID().toString(), 1));
+
+            entityGUIDs.add(entity.getGUID());
+        }
+
+        ExecutorService     executor      = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch      startSignal   = new CountDownLatch(1);
+        List<Future<int[]>> threadResults = new ArrayList<>();
+
+        for (int thread = 0; thread < threadCount; thread++)
+        {
+            final int threadNumber = thread;
+
+            threadResults.add(executor.submit(() ->
+            {
+                Random random       = new Random(threadNumber);
+                int[]  updateCounts = new int[ENTITY_COUNT];
+
+                startSignal.await();
+
+                for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++)
+                {
+                    int entityNumber = random.nextInt(ENTITY_COUNT);
+                    int choice       = random.nextInt(10);
+
+                    if ((choice < 2) && (entityNumber % threadCount == threadNumber))
+                    {
+                        EntityDetail current = graphStore.getEntityDetailFromStore(entityGUIDs.get(entityNumber));
+
+                        graphStore.updateEntityInStore(getEntity(current.getGUID(), current.getVersion() + 1), current);
+                        updateCounts[entityNumber]++;
+                    }
+                    else if (choice < 3)
+                    {
+                        graphStore.createEntityInStore(getEntity(UUID.randomUUID().toString(), 1));
+                    }
+                    else if (choice < 7)
+                    {
+                        assertNotNull(graphStore.getEntityDetailFromStore(entityGUIDs.get(entityNumber)));
+                    }
+                    else
+                    {
+                        assertNotNull(graphStore.getEntitySummaryFromStore(entityGUIDs.get(entityNumber)));
+                    }
+                }
+
+                return updateCounts;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+
+        startSignal.countDown();
+
+        int[] totalUpdateCounts = new int[ENTITY_COUNT];
+
+        for (Future<int[]> threadResult : threadResults)
+        {
+            int[] updateCounts = threadResult.get();
+
+            for (int i = 0; i < ENTITY_COUNT; i++)
+            {
+                totalUpdateCounts[i] += updateCounts[i];
+            }
+        }
+
+        long elapsedTime = System.nanoTime() - startTime;
+
+        executor.shutdown();
+
+        /*
+         * Check that no updates were lost.
+         */
+        for (int i = 0; i < ENTITY_COUNT; i++)
+        {
+            assertEquals(graphStore.getEntityDetailFromStore(entityGUIDs.get(i)).getVersion(), 1L + totalUpdateCounts[i]);
+        }
+
+        return (threadCount * (double) OPERATIONS_PER_THREAD) / (elapsedTime / 1000000000.0);
+    }
+
+
+    /**
+     * Build an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefName(ENTITY_TYPE_NAME);
+
+        entity.setGUID(guid);
+        entity.setMetadataCollectionId(METADATA_COLLECTION_ID);
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setCreateTime(new Date());
+        entity.setUpdateTime(new Date());
+
+        return entity;
+    }
+
+
+    /**
+     * Return a copy of an entity with an extra classification.
+     *
+     * @param entity entity to copy
+     * @param classificationName name of the new classification
+     * @return updated copy of the entity
+     */
+    private EntityDetail addClassification(EntityDetail entity,
+                                           String       classificationName)
+    {
+        EntityDetail         updatedEntity   = new EntityDetail(entity);
+        List<Classification> classifications = new ArrayList<>();
+        Classification       classification  = new Classification();
+        InstanceType         type            = new InstanceType();
+
+        if (entity.getClassifications() != null)
+        {
+            classifications.addAll(entity.getClassifications());
+        }
+
+        type.setTypeDefName(classificationName);
+
+        classification.setName(classificationName);
+        classification.setType(type);
+        classification.setVersion(1L);
+        classification.setCreateTime(new Date());
+        classifications.add(classification);
+
+        updatedEntity.setClassifications(classifications);
+
+        return updatedEntity;
+    }
+
+
+    /**
+     * Remove a directory and its contents.
+     *
+     * @param directory directory to remove
+     */
+    private void deleteDirectory(File directory)
+    {
+        if (directory != null)
+        {
+            File[] files = directory.listFiles();
+
+            if (files != null)
+            {
+                for (File file : files)
+                {
+                    deleteDirectory(file);
+                }
+            }
+
+            directory.delete();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InMemoryInstanceIndex is a secondary index for the InMemoryOMRSMetadataStore.  It maps a key (such as a type name,
+ * a classification name or the GUID of an entity at the end of a relationship) to the unique identifiers of the
+ * instances that carry that key.  The keys indexed for each instance are remembered so that the index can be
+ * maintained as the instance is updated or removed.
+ *
+ * The index can be read while it is being updated.  Updates for different instances may run concurrently but
+ * the metadata store that owns the index must serialize the updates to any one instance.
+ */
+class InMemoryInstanceIndex
+{
+    private final Map<String, Set<String>> instancesByKey = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> keysByInstance = new ConcurrentHashMap<>();
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryInstanceIndex()
+    {
+    }
+
+
+    /**
+     * Set up the keys for an instance.  Any keys previously indexed for this instance are replaced.  The new keys
+     * are added before the stale keys are removed, and the keys the instance keeps are not touched, so a
+     * concurrent reader always finds the instance under the keys it has before and after the update.
+     *
+     * @param guid unique identifier of the instance
+     * @param keys keys to index the instance under (null means none)
+     */
+    void indexInstance(String      guid,
+                       Set<String> keys)
+    {
+        if (guid != null)
+        {
+            Set<String> oldKeys = keysByInstance.get(guid);
+            Set<String> newKeys = keys;
+
+            if (oldKeys == null)
+            {
+                oldKeys = Collections.emptySet();
+            }
+
+            if (newKeys == null)
+            {
+                newKeys = Collections.emptySet();
+            }
+
+            for (String key : newKeys)
+            {
+                if (! oldKeys.contains(key))
+                {
+                    this.addKey(key, guid);
+                }
+            }
+
+            for (String key : oldKeys)
+            {
+                if (! newKeys.contains(key))
+                {
+                    this.removeKey(key, guid);
+                }
+            }
+
+            if (newKeys.isEmpty())
+            {
+                keysByInstance.remove(guid);
+            }
+            else
+            {
+                keysByInstance.put(guid, newKeys);
+            }
+        }
+    }
+
+
+    /**
+     * Remove all of the keys for an instance.
+     *
+     * @param guid unique identifier of the instance
+     */
+    void removeInstance(String guid)
+    {
+        if (guid != null)
+        {
+            Set<String> oldKeys = keysByInstance.remove(guid);
+
+            if (oldKeys != null)
+            {
+                for (String key : oldKeys)
+                {
+                    this.removeKey(key, guid);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add an instance to the set for a key.
+     *
+     * @param key key to index the instance under
+     * @param guid unique identifier of the instance
+     */
+    private void addKey(String key,
+                        String guid)
+    {
+        instancesByKey.compute(key, (k, instances) ->
+        {
+            Set<String> updatedInstances = instances;
+
+            if (updatedInstances == null)
+            {
+                updatedInstances = ConcurrentHashMap.newKeySet();
+            }
+
+            updatedInstances.add(guid);
+
+            return updatedInstances;
+        });
+    }
+
+
+    /**
+     * Remove an instance from the set for a key.
+     *
+     * @param key key the instance is indexed under
+     * @param guid unique identifier of the instance
+     */
+    private void removeKey(String key,
+                           String guid)
+    {
+        /*
+         * The set is removed in the same atomic step as the last instance so that a concurrent
+         * update for another instance does not add itself to a discarded set.
+         */
+        instancesByKey.computeIfPresent(key, (k, instances) ->
+        {
+            instances.remove(guid);
+
+            if (instances.isEmpty())
+            {
+                return null;
+            }
+
+            return instances;
+        });
+    }
+
+
+    /**
+     * Return the unique identifiers of the instances indexed under the key.
+     *
+     * @param key key to look up
+     * @return set of unique identifiers - empty if none (the set is live and must not be modified by the caller)
+     */
+    Set<String> getInstances(String key)
+    {
+        Set<String> instances = instancesByKey.get(key);
+
+        if (instances == null)
+        {
+            return Collections.emptySet();
+        }
+
+        return instances;
+    }
+
+
+    /**
+     * Return the unique identifiers of the instances indexed under any of the keys.
+     *
+     * @param keys keys to look up
+     * @return set of unique identifiers - empty if none
+     */
+    Set<String> getInstances(Collection<String> keys)
+    {
+        Set<String> instances = new HashSet<>();
+
+        for (String key : keys)
+        {
+            instances.addAll(this.getInstances(key));
+        }
+
+        return instances;
+    }
+}
@@ -0,0 +1,199 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+
+import java.util.Date;
+
+/**
+ * InMemoryInstanceVersions is the chain of previous versions of a single instance in the InMemoryOMRSMetadataStore.
+ * The versions are ordered by the time they were stored (their update time, or create time if they have not been
+ * updated) so that the version that was current at a particular time can be located with a binary search.
+ *
+ * The chain is copied each time a version is added so that it can be read without locking.  The metadata store
+ * must serialize the updates to the chain.
+ *
+ * @param <T> type of instance
+ */
+class InMemoryInstanceVersions<T extends InstanceAuditHeader>
+{
+    /**
+     * Time used for versions that have neither an update time nor a create time.  These versions are never
+     * returned from an as-of-time lookup.
+     */
+    static final long UNKNOWN_TIME = Long.MAX_VALUE;
+
+    private volatile Chain chain = new Chain(new long[0], new InstanceAuditHeader[0]);
+
+
+    /**
+     * Default constructor
+     */
+    InMemoryInstanceVersions()
+    {
+    }
+
+
+    /**
+     * Add a version to the chain.  Versions with the same time are ordered by when they are added.
+     *
+     * @param version previous version of the instance
+     */
+    void addVersion(T   version)
+    {
+        Chain  currentChain = this.chain;
+        long   versionTime  = getVersionTime(version);
+        int    position     = currentChain.getFirstLaterVersion(versionTime);
+        int    length       = currentChain.versionTimes.length;
+
+        long[]                versionTimes = new long[length + 1];
+        InstanceAuditHeader[] versions     = new InstanceAuditHeader[length + 1];
+
+        System.arraycopy(currentChain.versionTimes, 0, versionTimes, 0, position);
+        System.arraycopy(currentChain.versions, 0, versions, 0, position);
+
+        versionTimes[position] = versionTime;
+        versions[position]     = version;
+
+        System.arraycopy(currentChain.versionTimes, position, versionTimes, position + 1, length - position);
+        System.arraycopy(currentChain.versions, position, versions, position + 1, length - position);
+
+        this.chain = new Chain(versionTimes, versions);
+    }
+
+
+    /**
+     * Return the version that was current at the requested time.
+     *
+     * @param asOfTime time of interest
+     * @return version or null if the instance had not been stored by this time
+     */
+    @SuppressWarnings(value = "unchecked")
+    T getVersionAsOf(Date   asOfTime)
+    {
+        Chain  currentChain = this.chain;
+        int    position     = currentChain.getFirstLaterVersion(asOfTime.getTime()) - 1;
+
+        if ((position < 0) || (currentChain.versionTimes[position] == UNKNOWN_TIME))
+        {
+            return null;
+        }
+
+        return (T) currentChain.versions[position];
+    }
+
+
+    /**
+     * Return the most recent version in the chain.
+     *
+     * @return version or null if the chain is empty
+     */
+    @SuppressWarnings(value = "unchecked")
+    T getLatestVersion()
+    {
+        Chain currentChain = this.chain;
+
+        if (currentChain.versions.length == 0)
+        {
+            return null;
+        }
+
+        return (T) currentChain.versions[currentChain.versions.length - 1];
+    }
+
+
+    /**
+     * Return the time of the earliest version in the chain.
+     *
+     * @return time in milliseconds or UNKNOWN_TIME if the chain is empty
+     */
+    long getEarliestVersionTime()
+    {
+        Chain currentChain = this.chain;
+
+        if (currentChain.versionTimes.length == 0)
+        {
+            return UNKNOWN_TIME;
+        }
+
+        return currentChain.versionTimes[0];
+    }
+
+
+    /**
+     * Return the time that a version was stored.
+     *
+     * @param version version of an instance
+     * @return time in milliseconds or UNKNOWN_TIME if the version has no time
+     */
+    static long getVersionTime(InstanceAuditHeader   version)
+    {
+        if (version != null)
+        {
+            if (version.getUpdateTime() != null)
+            {
+                return version.getUpdateTime().getTime();
+            }
+            else if (version.getCreateTime() != null)
+            {
+                return version.getCreateTime().getTime();
+            }
+        }
+
+        return UNKNOWN_TIME;
+    }
+
+
+    /**
+     * Chain is an immutable snapshot of the versions and their times.
+     */
+    private static class Chain
+    {
+        private final long[]                versionTimes;
+        private final InstanceAuditHeader[] versions;
+
+
+        /**
+         * Constructor
+         *
+         * @param versionTimes times of the versions in ascending order
+         * @param versions versions in the same order as their times
+         */
+        Chain(long[]                versionTimes,
+              InstanceAuditHeader[] versions)
+        {
+            this.versionTimes = versionTimes;
+            this.versions     = versions;
+        }
+
+
+        /**
+         * Return the position of the first version that was stored after the requested time.
+         *
+         * @param time time in milliseconds
+         * @return position (equal to the length of the chain if all versions were stored at or before this time)
+         */
+        int getFirstLaterVersion(long   time)
+        {
+            int low  = 0;
+            int high = versionTimes.length;
+
+            while (low < high)
+            {
+                int middle = (low + high) >>> 1;
+
+                if (versionTimes[middle] <= time)
+                {
+                    low = middle + 1;
+                }
+                else
+                {
+                    high = middle;
+                }
+            }
+
+            return low;
+        }
+    }
+}
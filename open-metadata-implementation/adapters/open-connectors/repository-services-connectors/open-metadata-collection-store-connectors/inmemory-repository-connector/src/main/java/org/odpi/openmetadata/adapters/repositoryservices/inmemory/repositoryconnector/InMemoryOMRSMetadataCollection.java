@@ -6,6 +6,9 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
@@ -22,7 +25,22 @@ import java.util.*;
  */
 public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
 {
-    private InMemoryOMRSMetadataStore  repositoryStore = new InMemoryOMRSMetadataStore();
+    private final InMemoryOMRSMetadataStore  repositoryStore;
+
+    /*
+     * These property names are matched against the instance header as well as the instance's properties
+     * so they can not be used to narrow a search through the store's property index.
+     */
+    private static final List<String> headerPropertyNames = Arrays.asList("metadataCollectionId",
+                                                                           "metadataCollectionName",
+                                                                           "typeName",
+                                                                           "typeGUID",
+                                                                           "createdBy",
+                                                                           "updatedBy",
+                                                                           "createTime",
+                                                                           "updateTime",
+                                                                           "effectiveFrom",
+                                                                           "effectiveTo");
 
 
     /**
@@ -40,12 +58,37 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                              OMRSRepositoryHelper            repositoryHelper,
                                              OMRSRepositoryValidator         repositoryValidator,
                                              String                          metadataCollectionId)
+    {
+        this(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId, 0);
+    }
+
+
+    /**
+     * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection Id.
+     * It also sets up the width of the time buckets used to narrow historical (asOfTime) queries.
+     *
+     * @param parentConnector connector that this metadata collection supports.  The connector has the information
+     *                        to call the metadata repository.
+     * @param repositoryName name of the repository - used for logging.
+     * @param repositoryHelper class used to build type definitions and instances.
+     * @param repositoryValidator class used to validate type definitions and instances.
+     * @param metadataCollectionId unique Identifier of the metadata collection Id.
+     * @param historyBucketInterval width of each time bucket in milliseconds - zero or less means no time buckets.
+     */
+    protected InMemoryOMRSMetadataCollection(InMemoryOMRSRepositoryConnector parentConnector,
+                                             String                          repositoryName,
+                                             OMRSRepositoryHelper            repositoryHelper,
+                                             OMRSRepositoryValidator         repositoryValidator,
+                                             String                          metadataCollectionId,
+                                             long                            historyBucketInterval)
     {
         /*
          * The metadata collection Id is the unique identifier for the metadata collection.  It is managed by the super class.
          */
         super(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId);
 
+        this.repositoryStore = new InMemoryOMRSMetadataStore(historyBucketInterval);
+
         /*
          * Set up the repository name in the repository store
          */
@@ -216,7 +259,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.getEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -298,44 +341,11 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntitySummary  entity = this.getEntitySummary(userId, entityGUID);
-
-        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
-        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
-
-        List<Relationship> entityRelationships = new ArrayList<>();
-
-        Map<String, Relationship>   relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  storedRelationship : relationshipStore.values())
-        {
-            if (storedRelationship != null)
-            {
-                if (storedRelationship.getStatus() != InstanceStatus.DELETED)
-                {
-                    repositoryValidator.validRelationship(repositoryName, storedRelationship);
-
-                    if (repositoryHelper.relatedEntity(repositoryName,
-                                                       entityGUID,
-                                                       storedRelationship))
-                    {
-                        if (relationshipTypeGUID == null)
-                        {
-                            entityRelationships.add(storedRelationship);
-                        }
-                        else if (relationshipTypeGUID.equals(storedRelationship.getType().getTypeDefGUID()))
-                        {
-                            entityRelationships.add(storedRelationship);
-                        }
-                    }
-                }
-            }
-        }
-
-        if (entityRelationships.isEmpty())
-        {
-            return null;
-        }
+        List<Relationship> entityRelationships = this.getMatchingRelationshipsForEntity(userId,
+                                                                                       entityGUID,
+                                                                                       relationshipTypeGUID,
+                                                                                       asOfTime,
+                                                                                       methodName);
 
         return repositoryHelper.formatRelationshipResults(entityRelationships,
                                                           fromRelationshipElement,
@@ -345,6 +355,85 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return a page of the relationships for a specific entity.  The relationships are selected from the
+     * store and then the page following the continuation token is picked out without sorting all of them.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param continuationToken token returned with the previous page; null means start from the first relationship.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships and the token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public RelationshipPage getRelationshipsForEntityPage(String                     userId,
+                                                          String                     entityGUID,
+                                                          String                     relationshipTypeGUID,
+                                                          String                     continuationToken,
+                                                          List<InstanceStatus>       limitResultsByStatus,
+                                                          Date                       asOfTime,
+                                                          String                     sequencingProperty,
+                                                          SequencingOrder            sequencingOrder,
+                                                          int                        pageSize) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      EntityNotKnownException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationshipsForEntityPage";
+
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                                                           entityGUID,
+                                                           relationshipTypeGUID,
+                                                           0,
+                                                           limitResultsByStatus,
+                                                           asOfTime,
+                                                           sequencingProperty,
+                                                           sequencingOrder,
+                                                           pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<Relationship> entityRelationships = this.getMatchingRelationshipsForEntity(userId,
+                                                                                       entityGUID,
+                                                                                       relationshipTypeGUID,
+                                                                                       asOfTime,
+                                                                                       methodName);
+
+        return repositoryHelper.formatRelationshipPage(repositoryName,
+                                                       methodName,
+                                                       entityRelationships,
+                                                       continuationToken,
+                                                       sequencingProperty,
+                                                       sequencingOrder,
+                                                       pageSize);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -398,6 +487,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                 PagingErrorException,
                                                                                                 UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByProperty";
+
         /*
          * Validate parameters
          */
@@ -416,13 +507,24 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The current store is narrowed using its indexes.  Historical queries iterate through all of
+         * the stored entities.  Either way, each candidate is fully validated against the search criteria.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
+        List<EntityDetail>        foundEntities = new ArrayList<>();
+        Collection<EntityDetail>  candidateEntities;
 
-        for (EntityDetail  entity : entityStore.values())
+        if (asOfTime == null)
+        {
+            candidateEntities = repositoryStore.getEntities(this.getTypeNamesForIndex(entityTypeGUID, methodName),
+                                                            limitResultsByClassification,
+                                                            this.getExactMatchStringProperties(matchProperties, matchCriteria));
+        }
+        else
+        {
+            candidateEntities = repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -495,6 +597,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                       PagingErrorException,
                                                                                       UserNotAuthorizedException
     {
+        final String  methodName = "findEntities";
+
         /*
          * Validate parameters
          */
@@ -512,31 +616,106 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         /*
          * Perform operation
-         *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
          */
-        List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if ((repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entitySubtypeGUIDs, entity)) &&
-                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
-                    (repositoryValidator.verifyMatchingClassifications(matchClassifications, entity)) &&
-                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, entity, entity.getProperties())))
-                {
-                    foundEntities.add(entity);
-                }
-            }
-        }
+        List<EntityDetail> foundEntities = this.getMatchingEntities(entityTypeGUID,
+                                                                    entitySubtypeGUIDs,
+                                                                    matchProperties,
+                                                                    limitResultsByStatus,
+                                                                    matchClassifications,
+                                                                    asOfTime,
+                                                                    methodName);
 
         return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied criteria.  The entities are selected from the
+     * store and then the page following the continuation token is picked out without sorting all of them.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param continuationToken token returned with the previous page; null means start from the first entity.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities and the token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesParameterValidation(userId,
+                                              entityTypeGUID,
+                                              entitySubtypeGUIDs,
+                                              matchProperties,
+                                              0,
+                                              limitResultsByStatus,
+                                              matchClassifications,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder,
+                                              pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> foundEntities = this.getMatchingEntities(entityTypeGUID,
+                                                                    entitySubtypeGUIDs,
+                                                                    matchProperties,
+                                                                    limitResultsByStatus,
+                                                                    matchClassifications,
+                                                                    asOfTime,
+                                                                    methodName);
+
+        return repositoryHelper.formatEntityPage(repositoryName,
+                                                 methodName,
+                                                 foundEntities,
+                                                 continuationToken,
+                                                 sequencingProperty,
+                                                 sequencingOrder,
+                                                 pageSize);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -593,6 +772,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                        PagingErrorException,
                                                                                                        UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByClassification";
+
         /*
          * Validate parameters
          */
@@ -611,16 +792,28 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The current store is narrowed using its indexes.  Historical queries iterate through all of
+         * the stored entities.  Either way, each candidate is fully validated against the search criteria.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        Collection<EntityDetail>    candidateEntities;
+
+        if (asOfTime == null)
+        {
+            candidateEntities = repositoryStore.getEntities(this.getTypeNamesForIndex(entityTypeGUID, methodName),
+                                                            classificationList,
+                                                            null);
+        }
+        else
+        {
+            candidateEntities = repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        for (EntityDetail  entity : candidateEntities)
         {
             if (entity != null)
             {
@@ -865,7 +1058,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.getRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -945,25 +1138,12 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         /*
          * Perform operation
-         *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
          */
-        List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
-
-        for (Relationship  relationship : relationshipStore.values())
-        {
-            if (relationship != null)
-            {
-                if ((repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationshipSubtypeGUIDs, relationship)) &&
-                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
-                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, relationship, relationship.getProperties())))
-                {
-                    foundRelationships.add(relationship);
-                }
-            }
-        }
+        List<Relationship> foundRelationships = this.getMatchingRelationships(relationshipTypeGUID,
+                                                                              relationshipSubtypeGUIDs,
+                                                                              matchProperties,
+                                                                              limitResultsByStatus,
+                                                                              asOfTime);
 
         return repositoryHelper.formatRelationshipResults(foundRelationships,
                 fromRelationshipElement,
@@ -973,6 +1153,92 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The relationships are selected
+     * from the store and then the page following the continuation token is picked out without sorting all of them.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param continuationToken token returned with the previous page; null means start from the first relationship.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships and the token for the next page.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public RelationshipPage findRelationshipsPage(String                    userId,
+                                                  String                    relationshipTypeGUID,
+                                                  List<String>              relationshipSubtypeGUIDs,
+                                                  SearchProperties          matchProperties,
+                                                  String                    continuationToken,
+                                                  List<InstanceStatus>      limitResultsByStatus,
+                                                  Date                      asOfTime,
+                                                  String                    sequencingProperty,
+                                                  SequencingOrder           sequencingOrder,
+                                                  int                       pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipsPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsParameterValidation(userId,
+                                                   relationshipTypeGUID,
+                                                   relationshipSubtypeGUIDs,
+                                                   matchProperties,
+                                                   0,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<Relationship> foundRelationships = this.getMatchingRelationships(relationshipTypeGUID,
+                                                                              relationshipSubtypeGUIDs,
+                                                                              matchProperties,
+                                                                              limitResultsByStatus,
+                                                                              asOfTime);
+
+        return repositoryHelper.formatRelationshipPage(repositoryName,
+                                                       methodName,
+                                                       foundRelationships,
+                                                       continuationToken,
+                                                       sequencingProperty,
+                                                       sequencingOrder,
+                                                       pageSize);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -4614,4 +4880,400 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             super.reportRelationshipNotKnown(relationshipGUID, methodName);
         }
     }
+
+
+    /**
+     * Return the relationships for a specific entity, in no particular order.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param methodName calling method
+     * @return list of relationships (may be empty)
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    private List<Relationship> getMatchingRelationshipsForEntity(String userId,
+                                                                 String entityGUID,
+                                                                 String relationshipTypeGUID,
+                                                                 Date   asOfTime,
+                                                                 String methodName) throws InvalidParameterException,
+                                                                                           RepositoryErrorException,
+                                                                                           EntityNotKnownException,
+                                                                                           UserNotAuthorizedException
+    {
+        EntitySummary  entity = this.getEntitySummary(userId, entityGUID);
+
+        repositoryValidator.validateEntityFromStore(repositoryName, entityGUID, entity, methodName);
+        repositoryValidator.validateEntityIsNotDeleted(repositoryName, entity, methodName);
+
+        List<Relationship> entityRelationships = new ArrayList<>();
+        Collection<Relationship> storedRelationships;
+
+        if (asOfTime == null)
+        {
+            storedRelationships = repositoryStore.getRelationshipsForEntity(entityGUID);
+        }
+        else
+        {
+            storedRelationships = repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        for (Relationship  storedRelationship : storedRelationships)
+        {
+            if (storedRelationship != null)
+            {
+                if (storedRelationship.getStatus() != InstanceStatus.DELETED)
+                {
+                    repositoryValidator.validRelationship(repositoryName, storedRelationship);
+
+                    if (repositoryHelper.relatedEntity(repositoryName,
+                                                       entityGUID,
+                                                       storedRelationship))
+                    {
+                        if (relationshipTypeGUID == null)
+                        {
+                            entityRelationships.add(storedRelationship);
+                        }
+                        else if (relationshipTypeGUID.equals(storedRelationship.getType().getTypeDefGUID()))
+                        {
+                            entityRelationships.add(storedRelationship);
+                        }
+                    }
+                }
+            }
+        }
+
+        return entityRelationships;
+    }
+
+
+    /**
+     * Return the entities that match the supplied criteria, in no particular order.
+     *
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param methodName calling method
+     * @return list of entities (may be empty)
+     * @throws InvalidParameterException one of the search conditions is invalid.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     */
+    private List<EntityDetail> getMatchingEntities(String                    entityTypeGUID,
+                                                   List<String>              entitySubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   SearchClassifications     matchClassifications,
+                                                   Date                      asOfTime,
+                                                   String                    methodName) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException
+    {
+        /*
+         * The current store is narrowed using its indexes.  Historical queries iterate through all of
+         * the stored entities.  Either way, each candidate is fully validated against the search criteria.
+         */
+        List<EntityDetail>        foundEntities = new ArrayList<>();
+        Collection<EntityDetail>  candidateEntities;
+
+        if (asOfTime == null)
+        {
+            candidateEntities = repositoryStore.getEntities(this.getTypeNamesForIndex(entityTypeGUID, methodName),
+                                                            this.getRequiredClassificationNames(matchClassifications),
+                                                            this.getExactMatchStringProperties(matchProperties));
+        }
+        else
+        {
+            candidateEntities = repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        for (EntityDetail  entity : candidateEntities)
+        {
+            if (entity != null)
+            {
+                if ((repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entitySubtypeGUIDs, entity)) &&
+                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, entity)) &&
+                    (repositoryValidator.verifyMatchingClassifications(matchClassifications, entity)) &&
+                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, entity, entity.getProperties())))
+                {
+                    foundEntities.add(entity);
+                }
+            }
+        }
+
+        return foundEntities;
+    }
+
+
+    /**
+     * Return the relationships that match the requested conditions, in no particular order.
+     *
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types.
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships.  Null means return the
+     *                 present values.
+     * @return list of relationships (may be empty)
+     * @throws InvalidParameterException one of the search conditions is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     */
+    private List<Relationship> getMatchingRelationships(String                    relationshipTypeGUID,
+                                                        List<String>              relationshipSubtypeGUIDs,
+                                                        SearchProperties          matchProperties,
+                                                        List<InstanceStatus>      limitResultsByStatus,
+                                                        Date                      asOfTime) throws InvalidParameterException,
+                                                                                                   RepositoryErrorException
+    {
+        /*
+         * This is a brute force implementation of locating a relationship since it iterates through all of
+         * the stored entities.
+         */
+        List<Relationship>         foundRelationships = new ArrayList<>();
+        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+
+        for (Relationship  relationship : relationshipStore.values())
+        {
+            if (relationship != null)
+            {
+                if ((repositoryValidator.verifyInstanceType(repositoryName, relationshipTypeGUID, relationshipSubtypeGUIDs, relationship)) &&
+                    (repositoryValidator.verifyInstanceHasRightStatus(limitResultsByStatus, relationship)) &&
+                    (repositoryValidator.verifyMatchingInstancePropertyValues(matchProperties, relationship, relationship.getProperties())))
+                {
+                    foundRelationships.add(relationship);
+                }
+            }
+        }
+
+        return foundRelationships;
+    }
+
+
+    /**
+     * Return the names of the type and all of its subtypes.  This is used to select candidate instances from the
+     * type index of the repository store.
+     *
+     * @param typeGUID unique identifier of the type (null means any type)
+     * @param methodName calling method
+     * @return list of type names or null if any type is acceptable
+     * @throws TypeErrorException the type is not known
+     */
+    private List<String> getTypeNamesForIndex(String  typeGUID,
+                                              String  methodName) throws TypeErrorException
+    {
+        final String  guidParameterName = "typeGUID";
+
+        if (typeGUID == null)
+        {
+            return null;
+        }
+
+        TypeDef      typeDef   = repositoryHelper.getTypeDef(repositoryName, guidParameterName, typeGUID, methodName);
+        List<String> typeNames = new ArrayList<>();
+
+        typeNames.add(typeDef.getName());
+
+        List<String> subTypeNames = repositoryHelper.getSubTypesOf(repositoryName, typeDef.getName());
+
+        if (subTypeNames != null)
+        {
+            typeNames.addAll(subTypeNames);
+        }
+
+        return typeNames;
+    }
+
+
+    /**
+     * Extract the string properties that must exactly match a value for an entity to be returned from a search
+     * by properties.  These are used to select candidate entities from the property index of the repository store.
+     *
+     * @param matchProperties properties to match (string values are regular expressions)
+     * @param matchCriteria rule on how the match should occur
+     * @return map of property name to the exact value required, or null if there are none
+     */
+    private Map<String, String> getExactMatchStringProperties(InstanceProperties   matchProperties,
+                                                              MatchCriteria        matchCriteria)
+    {
+        if ((matchProperties == null) || (matchProperties.getInstanceProperties() == null))
+        {
+            return null;
+        }
+
+        /*
+         * Every property must match for the index to be used - which is the case with ALL
+         * or with ANY when there is only one property.
+         */
+        if ((matchCriteria != MatchCriteria.ALL) &&
+            ((matchCriteria != MatchCriteria.ANY) || (matchProperties.getPropertyCount() != 1)))
+        {
+            return null;
+        }
+
+        Map<String, String> exactMatchProperties = new HashMap<>();
+
+        for (Map.Entry<String, InstancePropertyValue> matchProperty : matchProperties.getInstanceProperties().entrySet())
+        {
+            String exactValue = this.getExactMatchString(matchProperty.getKey(), matchProperty.getValue(), true);
+
+            if (exactValue != null)
+            {
+                exactMatchProperties.put(matchProperty.getKey(), exactValue);
+            }
+        }
+
+        if (exactMatchProperties.isEmpty())
+        {
+            return null;
+        }
+
+        return exactMatchProperties;
+    }
+
+
+    /**
+     * Extract the string properties that must exactly match a value for an entity to be returned from a search
+     * with search properties.  Only the top-level equality conditions are considered.
+     *
+     * @param matchProperties search conditions
+     * @return map of property name to the exact value required, or null if there are none
+     */
+    private Map<String, String> getExactMatchStringProperties(SearchProperties   matchProperties)
+    {
+        if ((matchProperties == null) || (matchProperties.getConditions() == null))
+        {
+            return null;
+        }
+
+        List<PropertyCondition> conditions = matchProperties.getConditions();
+
+        if ((matchProperties.getMatchCriteria() != MatchCriteria.ALL) &&
+            ((matchProperties.getMatchCriteria() != MatchCriteria.ANY) || (conditions.size() != 1)))
+        {
+            return null;
+        }
+
+        Map<String, String> exactMatchProperties = new HashMap<>();
+
+        for (PropertyCondition condition : conditions)
+        {
+            if ((condition != null) &&
+                (condition.getNestedConditions() == null) &&
+                (condition.getOperator() == PropertyComparisonOperator.EQ))
+            {
+                String exactValue = this.getExactMatchString(condition.getProperty(), condition.getValue(), false);
+
+                if (exactValue != null)
+                {
+                    exactMatchProperties.put(condition.getProperty(), exactValue);
+                }
+            }
+        }
+
+        if (exactMatchProperties.isEmpty())
+        {
+            return null;
+        }
+
+        return exactMatchProperties;
+    }
+
+
+    /**
+     * Return the exact string that a property must have if the supplied value is a string that can only match
+     * one value.
+     *
+     * @param propertyName name of the property
+     * @param propertyValue value to match
+     * @param isRegex is the value a regular expression
+     * @return exact value or null if the value may match many values
+     */
+    private String getExactMatchString(String                 propertyName,
+                                       InstancePropertyValue  propertyValue,
+                                       boolean                isRegex)
+    {
+        if ((propertyName == null) || (headerPropertyNames.contains(propertyName)))
+        {
+            return null;
+        }
+
+        if (propertyValue instanceof PrimitivePropertyValue)
+        {
+            PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) propertyValue;
+
+            if ((primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                (primitivePropertyValue.getPrimitiveValue() != null))
+            {
+                String value = primitivePropertyValue.getPrimitiveValue().toString();
+
+                if (! isRegex)
+                {
+                    return value;
+                }
+
+                if (repositoryHelper.isExactMatchRegex(value, false))
+                {
+                    return repositoryHelper.getUnqualifiedLiteralString(value);
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Extract the names of the classifications that must all be present for an entity to be returned.
+     *
+     * @param matchClassifications classification conditions
+     * @return list of classification names or null if there are none
+     */
+    private List<String> getRequiredClassificationNames(SearchClassifications   matchClassifications)
+    {
+        if ((matchClassifications == null) || (matchClassifications.getConditions() == null))
+        {
+            return null;
+        }
+
+        List<ClassificationCondition> conditions = matchClassifications.getConditions();
+
+        if ((matchClassifications.getMatchCriteria() != MatchCriteria.ALL) &&
+            ((matchClassifications.getMatchCriteria() != MatchCriteria.ANY) || (conditions.size() != 1)))
+        {
+            return null;
+        }
+
+        List<String> classificationNames = new ArrayList<>();
+
+        for (ClassificationCondition condition : conditions)
+        {
+            if ((condition != null) && (condition.getName() != null))
+            {
+                classificationNames.add(condition.getName());
+            }
+        }
+
+        if (classificationNames.isEmpty())
+        {
+            return null;
+        }
+
+        return classificationNames;
+    }
 }
@@ -3,30 +3,88 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ *
+ * The current versions of the instances are also indexed by type name, classification name, the values of their
+ * string properties and (for relationships) the entities at each end.  These indexes are used to narrow the set of
+ * instances that need to be examined when searching the current store.
+ *
+ * The stores are concurrent maps so that reads never block.  Changes to an instance are serialized by a lock
+ * that is selected from a fixed set of locks using the instance's GUID.  This means that updates to different
+ * instances rarely contend with one another.  The previous versions of each instance are kept in a version chain
+ * for that instance that is ordered by time so that the version that was current at a particular time can be
+ * located quickly.  Optionally, the instances can also be grouped into time buckets by the time of their earliest
+ * version so that historical queries only examine the instances that existed at the requested time.
  */
 class InMemoryOMRSMetadataStore
 {
-    private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private static final int LOCK_STRIPES = 64;
+
+    private String                                    repositoryName           = null;
+    private final Map<String, EntityDetail>           entityStore              = new ConcurrentHashMap<>();
+    private final Map<String, EntityProxy>            entityProxyStore         = new ConcurrentHashMap<>();
+    private final Map<String, InMemoryInstanceVersions<EntityDetail>> entityHistoryStore       = new ConcurrentHashMap<>();
+    private final Map<String, Relationship>           relationshipStore        = new ConcurrentHashMap<>();
+    private final Map<String, InMemoryInstanceVersions<Relationship>> relationshipHistoryStore = new ConcurrentHashMap<>();
+
+    private final InMemoryInstanceIndex               entityTypeIndex           = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex               entityClassificationIndex = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex               entityPropertyIndex       = new InMemoryInstanceIndex();
+    private final InMemoryInstanceIndex               relationshipEndIndex      = new InMemoryInstanceIndex();
+
+    private final InMemoryTimeBucketIndex             entityTimeIndex;
+    private final InMemoryTimeBucketIndex             relationshipTimeIndex;
+
+    private final ReentrantLock[]                     instanceLocks             = new ReentrantLock[LOCK_STRIPES];
 
 
     /**
-     * Default constructor
+     * Default constructor - the time bucket indexes are not used.
      */
     InMemoryOMRSMetadataStore()
     {
+        this(0);
+    }
+
+
+    /**
+     * Constructor that optionally sets up the time bucket indexes used to narrow historical queries.
+     *
+     * @param historyBucketInterval width of each time bucket in milliseconds - zero or less means no time bucket indexes
+     */
+    InMemoryOMRSMetadataStore(long   historyBucketInterval)
+    {
+        for (int i = 0; i < LOCK_STRIPES; i++)
+        {
+            instanceLocks[i] = new ReentrantLock();
+        }
+
+        if (historyBucketInterval > 0)
+        {
+            entityTimeIndex       = new InMemoryTimeBucketIndex(historyBucketInterval);
+            relationshipTimeIndex = new InMemoryTimeBucketIndex(historyBucketInterval);
+        }
+        else
+        {
+            entityTimeIndex       = null;
+            relationshipTimeIndex = null;
+        }
     }
 
 
@@ -46,7 +104,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of EntityDetail objects
      */
-    synchronized List<EntityDetail>   getEntities()
+    List<EntityDetail>   getEntities()
     {
         return new ArrayList<>(entityStore.values());
     }
@@ -58,105 +116,152 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
         return entityStore.get(guid);
     }
 
 
+    /**
+     * Return the version of the entity identified by the guid that was current at the requested time.
+     *
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time of interest (or null means now)
+     * @return entity object or null if the entity was not stored at that time
+     */
+    EntityDetail  getEntity(String   guid,
+                            Date     asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return entityStore.get(guid);
+        }
+
+        return getVersionAsOf(entityStore, entityHistoryStore, guid, asOfTime);
+    }
+
+
     /**
      * Return the entity proxy identified by the guid.
      *
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
         return entityProxyStore.get(guid);
     }
 
 
     /**
-     * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the current versions of the entities that could match a search.  The indexes are used to select
+     * the entities that are of one of the requested types, have all of the requested classifications and have
+     * string properties with exactly the requested values.  A null parameter means no restriction on that aspect.
+     * The caller is still responsible for validating the returned entities against its full search criteria.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return entity store for the requested time
+     * @param typeNames names of the acceptable types (typically a type and all of its subtypes)
+     * @param classificationNames names of the classifications that must all be present
+     * @param stringPropertyValues map of property name to the exact value of string properties that must all be present
+     * @return list of candidate EntityDetail objects
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    List<EntityDetail>  getEntities(List<String>         typeNames,
+                                    List<String>         classificationNames,
+                                    Map<String, String>  stringPropertyValues)
     {
-        if (asOfTime == null)
+        List<Set<String>> restrictions = new ArrayList<>();
+
+        if (typeNames != null)
         {
-            return new HashMap<>(entityStore);
+            restrictions.add(entityTypeIndex.getInstances(typeNames));
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
+        if (classificationNames != null)
+        {
+            for (String classificationName : classificationNames)
+            {
+                restrictions.add(entityClassificationIndex.getInstances(classificationName));
+            }
+        }
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
+        if (stringPropertyValues != null)
         {
-            if (entity != null)
+            for (String propertyName : stringPropertyValues.keySet())
             {
-                if (entity.getUpdateTime() != null)
+                /*
+                 * Collection properties (arrays, maps and structs) are matched by searching within their string form
+                 * so entities with a collection property of this name are always candidates.
+                 */
+                Set<String> matchingValues = entityPropertyIndex.getInstances(getPropertyIndexKey(propertyName,
+                                                                                                  stringPropertyValues.get(propertyName)));
+                Set<String> collectionValues = entityPropertyIndex.getInstances(getPropertyIndexKey(propertyName, null));
+
+                if (collectionValues.isEmpty())
                 {
-                    String entityGUID = entity.getGUID();
-
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
+                    restrictions.add(matchingValues);
                 }
-                else if (entity.getCreateTime() != null)
+                else
                 {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
+                    Set<String> candidateValues = new HashSet<>(matchingValues);
+
+                    candidateValues.addAll(collectionValues);
+                    restrictions.add(candidateValues);
                 }
             }
         }
 
+        if (restrictions.isEmpty())
+        {
+            return new ArrayList<>(entityStore.values());
+        }
+
         /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
+         * Drive the selection from the smallest set of candidates.
          */
-        for (EntityDetail oldEntity : entityHistoryStore)
+        Set<String> smallestRestriction = restrictions.get(0);
+
+        for (Set<String> restriction : restrictions)
         {
-            if (oldEntity != null)
+            if (restriction.size() < smallestRestriction.size())
             {
-                String entityGUID = oldEntity.getGUID();
+                smallestRestriction = restriction;
+            }
+        }
 
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
+        List<EntityDetail> candidateEntities = new ArrayList<>();
 
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
+        for (String entityGUID : smallestRestriction)
+        {
+            if (isInAllRestrictions(entityGUID, restrictions))
+            {
+                EntityDetail entity = entityStore.get(entityGUID);
+
+                if (entity != null)
                 {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
+                    candidateEntities.add(entity);
                 }
             }
         }
 
-        return timeWarpedEntityStore;
+        return candidateEntities;
+    }
+
+
+    /**
+     * Return an entity store that contains entities as they were at the time supplied in the asOfTime
+     * parameter.  The current store is returned as a read-only view rather than a copy, so it reflects
+     * the changes made while the caller is iterating through it.
+     *
+     * @param asOfTime - time for the store (or null means now)
+     * @return entity store for the requested time
+     */
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return Collections.unmodifiableMap(entityStore);
+        }
+
+        return timeWarpStore(entityStore, entityHistoryStore, entityTimeIndex, asOfTime);
     }
 
 
@@ -165,7 +270,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of relationships
      */
-    synchronized List<Relationship>   getRelationships()
+    List<Relationship>   getRelationships()
     {
         return new ArrayList<>(relationshipStore.values());
     }
@@ -177,117 +282,108 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    protected Relationship  getRelationship(String   guid)
     {
         return relationshipStore.get(guid);
     }
 
+
     /**
-     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the version of the relationship identified by the guid that was current at the requested time.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return relationship store for the requested time
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time of interest (or null means now)
+     * @return relationship object or null if the relationship was not stored at that time
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Relationship  getRelationship(String   guid,
+                                  Date     asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(relationshipStore);
+            return relationshipStore.get(guid);
         }
 
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
+        return getVersionAsOf(relationshipStore, relationshipHistoryStore, guid, asOfTime);
+    }
 
 
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
+    /**
+     * Return the current versions of the relationships that have the requested entity at either end.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @return list of relationships
+     */
+    List<Relationship>   getRelationshipsForEntity(String   entityGUID)
+    {
+        List<Relationship> entityRelationships = new ArrayList<>();
+
+        for (String relationshipGUID : relationshipEndIndex.getInstances(entityGUID))
         {
+            Relationship relationship = relationshipStore.get(relationshipGUID);
+
             if (relationship != null)
             {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
-
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
+                entityRelationships.add(relationship);
             }
         }
 
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
-        {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
+        return entityRelationships;
+    }
 
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
 
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
-            }
+    /**
+     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
+     * parameter.  The current store is returned as a read-only view rather than a copy, so it reflects
+     * the changes made while the caller is iterating through it.
+     *
+     * @param asOfTime - time for the store (or null means now)
+     * @return relationship store for the requested time
+     */
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    {
+        if (asOfTime == null)
+        {
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
-        return timeWarpedRelationshipStore;
+        return timeWarpStore(relationshipStore, relationshipHistoryStore, relationshipTimeIndex, asOfTime);
     }
 
+
     /**
      * Create a new entity in the entity store.
      *
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    synchronized EntityDetail createEntityInStore(EntityDetail    entity)
+    EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (true)
         {
-            entityStore.put(entity.getGUID(), existingEntity);
+            ReentrantLock lock = this.getInstanceLock(entity.getGUID());
+
+            lock.lock();
+            try
+            {
+                if (entityStore.putIfAbsent(entity.getGUID(), entity) == null)
+                {
+                    this.indexEntity(entity);
+                    indexVersionTime(entityTimeIndex, entity);
+
+                    return entity;
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
-
-        return entity;
     }
 
 
@@ -297,22 +393,34 @@ class InMemoryOMRSMetadataStore
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    synchronized Relationship createRelationshipInStore(Relationship    relationship)
+    Relationship createRelationshipInStore(Relationship    relationship)
     {
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (true)
         {
-            relationshipStore.put(relationship.getGUID(), existingRelationship);
+            ReentrantLock lock = this.getInstanceLock(relationship.getGUID());
+
+            lock.lock();
+            try
+            {
+                if (relationshipStore.putIfAbsent(relationship.getGUID(), relationship) == null)
+                {
+                    this.indexRelationship(relationship);
+                    indexVersionTime(relationshipTimeIndex, relationship);
+
+                    return relationship;
+                }
+            }
+            finally
+            {
+                lock.unlock();
+            }
+
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
-
-        return relationship;
     }
 
 
@@ -321,7 +429,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
+    void addEntityProxyToStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -329,17 +437,30 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Maintain a history of entities as they are stored into the entity store to ensure old version can be restored.
-     * The history is maintained with the latest changes first in the list.
+     * The history is maintained as a version chain ordered by time.
      *
      * @param entity - new version of the entity
      */
-    synchronized void updateEntityInStore(EntityDetail entity)
+    void updateEntityInStore(EntityDetail entity)
     {
-        EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
+        ReentrantLock lock = this.getInstanceLock(entity.getGUID());
 
-        if (oldEntity != null)
+        lock.lock();
+        try
         {
-            entityHistoryStore.add(0, oldEntity);
+            EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
+
+            if (oldEntity != null)
+            {
+                addToHistory(entityHistoryStore, entity.getGUID(), oldEntity);
+            }
+
+            this.indexEntity(entity);
+            indexVersionTime(entityTimeIndex, entity);
+        }
+        finally
+        {
+            lock.unlock();
         }
     }
 
@@ -349,7 +470,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void updateEntityProxyInStore(EntityProxy entityProxy)
+    void updateEntityProxyInStore(EntityProxy entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -357,17 +478,30 @@ class InMemoryOMRSMetadataStore
 
     /**
      * Maintain a history of relationships as they are stored into the relationship store to ensure old version
-     * can be restored.  The history is maintained with the latest changes first in the list.
+     * can be restored.  The history is maintained as a version chain ordered by time.
      *
      * @param relationship - new version of the relationship
      */
-    synchronized void updateRelationshipInStore(Relationship    relationship)
+    void updateRelationshipInStore(Relationship    relationship)
     {
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+        ReentrantLock lock = this.getInstanceLock(relationship.getGUID());
 
-        if (oldRelationship != null)
+        lock.lock();
+        try
         {
-            relationshipHistoryStore.add(0, oldRelationship);
+            Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+
+            if (oldRelationship != null)
+            {
+                addToHistory(relationshipHistoryStore, relationship.getGUID(), oldRelationship);
+            }
+
+            this.indexRelationship(relationship);
+            indexVersionTime(relationshipTimeIndex, relationship);
+        }
+        finally
+        {
+            lock.unlock();
         }
     }
 
@@ -378,9 +512,21 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    synchronized void saveReferenceEntityToStore(EntityDetail    entity)
+    void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        ReentrantLock lock = this.getInstanceLock(entity.getGUID());
+
+        lock.lock();
+        try
+        {
+            entityStore.put(entity.getGUID(), entity);
+            this.indexEntity(entity);
+            indexVersionTime(entityTimeIndex, entity);
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
 
@@ -390,9 +536,21 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
+    void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        ReentrantLock lock = this.getInstanceLock(relationship.getGUID());
+
+        lock.lock();
+        try
+        {
+            relationshipStore.put(relationship.getGUID(), relationship);
+            this.indexRelationship(relationship);
+            indexVersionTime(relationshipTimeIndex, relationship);
+        }
+        finally
+        {
+            lock.unlock();
+        }
     }
 
 
@@ -403,48 +561,56 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         if (guid != null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
-
-            long versionNumber = 0;
+            ReentrantLock lock = this.getInstanceLock(guid);
 
-            if (currentVersionOfRelationship != null)
+            lock.lock();
+            try
             {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
-            }
+                InMemoryInstanceVersions<Relationship> history = relationshipHistoryStore.get(guid);
 
-
-            for (Relationship relationship : relationshipHistoryStore)
-            {
-                if (relationship != null)
+                if ((history != null) && (history.getLatestVersion() != null))
                 {
-                    if (guid.equals(relationship.getGUID()))
+                    Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
+                    Relationship  relationship = history.getLatestVersion();
+
+                    long versionNumber = relationship.getVersion() + 1;
+
+                    if (currentVersionOfRelationship != null)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         */
-                        Relationship newRelationship = new Relationship(relationship);
-                        newRelationship.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newRelationship.setUpdateTime(restoreTime);
-                        relationshipStore.put(guid, newRelationship);
-                        relationshipHistoryStore.add(0, currentVersionOfRelationship);
-                        return newRelationship;
+                        versionNumber = currentVersionOfRelationship.getVersion() + 1;
+                    }
 
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     */
+                    Relationship newRelationship = new Relationship(relationship);
+                    newRelationship.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newRelationship.setUpdateTime(restoreTime);
+                    relationshipStore.put(guid, newRelationship);
+                    this.indexRelationship(newRelationship);
+                    indexVersionTime(relationshipTimeIndex, newRelationship);
+
+                    if (currentVersionOfRelationship != null)
+                    {
+                        addToHistory(relationshipHistoryStore, guid, currentVersionOfRelationship);
                     }
+
+                    return newRelationship;
                 }
             }
+            finally
+            {
+                lock.unlock();
+            }
         }
 
         return null;
@@ -458,49 +624,57 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         if (guid != null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
-
-            long versionNumber = 0;
+            ReentrantLock lock = this.getInstanceLock(guid);
 
-            if (currentVersionOfEntity != null)
+            lock.lock();
+            try
             {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
-            }
+                InMemoryInstanceVersions<EntityDetail> history = entityHistoryStore.get(guid);
 
-            for (EntityDetail entity : entityHistoryStore)
-            {
-                if (entity != null)
+                if ((history != null) && (history.getLatestVersion() != null))
                 {
-                    if (guid.equals(entity.getGUID()))
+                    EntityDetail  currentVersionOfEntity = entityStore.get(guid);
+                    EntityDetail  entity = history.getLatestVersion();
+
+                    long versionNumber = entity.getVersion() + 1;
+
+                    if (currentVersionOfEntity != null)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
-
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         *
-                         */
-                        EntityDetail newEntity = new EntityDetail(entity);
-                        newEntity.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
-                        entityHistoryStore.add(0, currentVersionOfEntity);
-                        return newEntity;
+                        versionNumber = currentVersionOfEntity.getVersion() + 1;
+                    }
 
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     *
+                     */
+                    EntityDetail newEntity = new EntityDetail(entity);
+                    newEntity.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newEntity.setUpdateTime(restoreTime);
+                    entityStore.put(guid, newEntity);
+                    this.indexEntity(newEntity);
+                    indexVersionTime(entityTimeIndex, newEntity);
+
+                    if (currentVersionOfEntity != null)
+                    {
+                        addToHistory(entityHistoryStore, guid, currentVersionOfEntity);
                     }
+
+                    return newEntity;
                 }
             }
+            finally
+            {
+                lock.unlock();
+            }
         }
 
         return null;
@@ -512,19 +686,23 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    synchronized void removeEntityFromStore(EntityDetail     entity)
+    void removeEntityFromStore(EntityDetail     entity)
     {
         String entityGUID = entity.getGUID();
-        entityStore.remove(entityGUID);
-        List<EntityDetail> purgedHistory = new ArrayList<>();
-        for (EntityDetail history : entityHistoryStore)
+        ReentrantLock lock = this.getInstanceLock(entityGUID);
+
+        lock.lock();
+        try
         {
-            if (history != null && !entityGUID.equals(history.getGUID()))
-            {
-                purgedHistory.add(history);
-            }
+            entityStore.remove(entityGUID);
+            this.removeEntityFromIndexes(entityGUID);
+            entityHistoryStore.remove(entityGUID);
+            removeFromTimeIndex(entityTimeIndex, entityGUID);
+        }
+        finally
+        {
+            lock.unlock();
         }
-        entityHistoryStore = purgedHistory;
     }
 
 
@@ -533,21 +711,25 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    synchronized void removeReferenceEntityFromStore(String     guid)
+    void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
+        ReentrantLock lock = this.getInstanceLock(guid);
 
-        if (entity != null)
+        lock.lock();
+        try
         {
-            List<EntityDetail> purgedHistory = new ArrayList<>();
-            for (EntityDetail history : entityHistoryStore)
+            EntityDetail entity = entityStore.remove(guid);
+
+            if (entity != null)
             {
-                if (history != null && !guid.equals(history.getGUID()))
-                {
-                    purgedHistory.add(history);
-                }
+                this.removeEntityFromIndexes(guid);
+                entityHistoryStore.remove(guid);
+                removeFromTimeIndex(entityTimeIndex, guid);
             }
-            entityHistoryStore = purgedHistory;
+        }
+        finally
+        {
+            lock.unlock();
         }
     }
 
@@ -557,7 +739,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    synchronized void removeEntityProxyFromStore(String     guid)
+    void removeEntityProxyFromStore(String     guid)
     {
         entityProxyStore.remove(guid);
     }
@@ -568,19 +750,23 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    synchronized void removeRelationshipFromStore(Relationship     relationship)
+    void removeRelationshipFromStore(Relationship     relationship)
     {
         String relationshipGUID = relationship.getGUID();
-        relationshipStore.remove(relationshipGUID);
-        List<Relationship> purgedHistory = new ArrayList<>();
-        for (Relationship history : relationshipHistoryStore)
+        ReentrantLock lock = this.getInstanceLock(relationshipGUID);
+
+        lock.lock();
+        try
         {
-            if (history != null && !relationshipGUID.equals(history.getGUID()))
-            {
-                purgedHistory.add(history);
-            }
+            relationshipStore.remove(relationshipGUID);
+            relationshipEndIndex.removeInstance(relationshipGUID);
+            relationshipHistoryStore.remove(relationshipGUID);
+            removeFromTimeIndex(relationshipTimeIndex, relationshipGUID);
+        }
+        finally
+        {
+            lock.unlock();
         }
-        relationshipHistoryStore = purgedHistory;
     }
 
 
@@ -589,22 +775,309 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    synchronized void removeReferenceRelationshipFromStore(String     guid)
+    void removeReferenceRelationshipFromStore(String     guid)
+    {
+        ReentrantLock lock = this.getInstanceLock(guid);
+
+        lock.lock();
+        try
+        {
+            Relationship  relationship = relationshipStore.remove(guid);
+
+            if (relationship != null)
+            {
+                relationshipEndIndex.removeInstance(guid);
+                relationshipHistoryStore.remove(guid);
+                removeFromTimeIndex(relationshipTimeIndex, guid);
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Return the lock that serializes changes to the instance with the supplied GUID.
+     *
+     * @param guid unique identifier of the instance
+     * @return lock
+     */
+    private ReentrantLock getInstanceLock(String   guid)
+    {
+        return instanceLocks[Math.floorMod(Objects.hashCode(guid), LOCK_STRIPES)];
+    }
+
+
+    /**
+     * Add an old version of an instance to its version chain.  The caller must hold the instance's lock.
+     *
+     * @param historyStore version chains for each instance
+     * @param guid unique identifier of the instance
+     * @param oldInstance version of the instance that has been replaced
+     * @param <T> type of instance
+     */
+    private static <T extends InstanceAuditHeader> void addToHistory(Map<String, InMemoryInstanceVersions<T>>  historyStore,
+                                                                     String                                    guid,
+                                                                     T                                         oldInstance)
+    {
+        historyStore.computeIfAbsent(guid, k -> new InMemoryInstanceVersions<>()).addVersion(oldInstance);
+    }
+
+
+    /**
+     * Record the time of a new version of an instance in a time bucket index (if in use).  The caller must hold
+     * the instance's lock.
+     *
+     * @param timeIndex time bucket index or null
+     * @param instance new version of the instance
+     */
+    private static void indexVersionTime(InMemoryTimeBucketIndex  timeIndex,
+                                         InstanceHeader           instance)
+    {
+        if (timeIndex != null)
+        {
+            timeIndex.indexVersion(instance.getGUID(), InMemoryInstanceVersions.getVersionTime(instance));
+        }
+    }
+
+
+    /**
+     * Remove an instance from a time bucket index (if in use).  The caller must hold the instance's lock.
+     *
+     * @param timeIndex time bucket index or null
+     * @param guid unique identifier of the instance
+     */
+    private static void removeFromTimeIndex(InMemoryTimeBucketIndex  timeIndex,
+                                            String                   guid)
+    {
+        if (timeIndex != null)
+        {
+            timeIndex.removeInstance(guid);
+        }
+    }
+
+
+    /**
+     * Return the version of an instance that was current at the asOfTime.  The current version is used if it was
+     * stored by the asOfTime, otherwise the version chain is searched.
+     *
+     * @param currentStore store of the latest versions of the instances
+     * @param historyStore version chains for each instance
+     * @param guid unique identifier of the instance
+     * @param asOfTime time of interest
+     * @param <T> type of instance
+     * @return version of the instance or null if it had not been stored by the asOfTime
+     */
+    private static <T extends InstanceAuditHeader> T getVersionAsOf(Map<String, T>                            currentStore,
+                                                                    Map<String, InMemoryInstanceVersions<T>>  historyStore,
+                                                                    String                                    guid,
+                                                                    Date                                      asOfTime)
+    {
+        T currentInstance = currentStore.get(guid);
+
+        if ((currentInstance != null) &&
+            (InMemoryInstanceVersions.getVersionTime(currentInstance) <= asOfTime.getTime()))
+        {
+            return currentInstance;
+        }
+
+        InMemoryInstanceVersions<T> history = historyStore.get(guid);
+
+        if (history != null)
+        {
+            return history.getVersionAsOf(asOfTime);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Build a store that contains the version of each instance that was current at the asOfTime.
+     *
+     * @param currentStore store of the latest versions of the instances
+     * @param historyStore version chains for each instance
+     * @param timeIndex time bucket index used to skip instances stored after the asOfTime (or null to check all instances)
+     * @param asOfTime time for the store
+     * @param <T> type of instance
+     * @return store for the requested time
+     */
+    private static <T extends InstanceAuditHeader> Map<String, T> timeWarpStore(Map<String, T>                            currentStore,
+                                                                               Map<String, InMemoryInstanceVersions<T>>  historyStore,
+                                                                               InMemoryTimeBucketIndex                   timeIndex,
+                                                                               Date                                      asOfTime)
+    {
+        Collection<String> candidateGUIDs;
+
+        if (timeIndex != null)
+        {
+            candidateGUIDs = timeIndex.getInstancesStoredBy(asOfTime);
+        }
+        else
+        {
+            Set<String> allGUIDs = new HashSet<>(currentStore.keySet());
+
+            allGUIDs.addAll(historyStore.keySet());
+            candidateGUIDs = allGUIDs;
+        }
+
+        Map<String, T>  timeWarpedStore = new HashMap<>();
+
+        for (String guid : candidateGUIDs)
+        {
+            T instance = getVersionAsOf(currentStore, historyStore, guid, asOfTime);
+
+            if (instance != null)
+            {
+                timeWarpedStore.put(guid, instance);
+            }
+        }
+
+        return timeWarpedStore;
+    }
+
+
+    /**
+     * Update the indexes with the keys from the latest version of an entity.  The caller must hold the entity's lock.
+     *
+     * @param entity entity to index
+     */
+    private void indexEntity(EntityDetail   entity)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        String entityGUID = entity.getGUID();
+
+        Set<String> typeNames = new HashSet<>();
+
+        if ((entity.getType() != null) && (entity.getType().getTypeDefName() != null))
+        {
+            typeNames.add(entity.getType().getTypeDefName());
+        }
+
+        entityTypeIndex.indexInstance(entityGUID, typeNames);
+
+        Set<String> classificationNames = new HashSet<>();
 
-        if (relationship != null)
+        if (entity.getClassifications() != null)
         {
-            List<Relationship> purgedHistory = new ArrayList<>();
-            for (Relationship history : relationshipHistoryStore)
+            for (Classification classification : entity.getClassifications())
             {
-                if (history != null && !guid.equals(history.getGUID()))
+                if ((classification != null) && (classification.getName() != null))
                 {
-                    purgedHistory.add(history);
+                    classificationNames.add(classification.getName());
                 }
             }
-            relationshipHistoryStore = purgedHistory;
         }
+
+        entityClassificationIndex.indexInstance(entityGUID, classificationNames);
+
+        Set<String> propertyKeys = new HashSet<>();
+
+        if ((entity.getProperties() != null) && (entity.getProperties().getInstanceProperties() != null))
+        {
+            Map<String, InstancePropertyValue> properties = entity.getProperties().getInstanceProperties();
+
+            for (String propertyName : properties.keySet())
+            {
+                InstancePropertyValue propertyValue = properties.get(propertyName);
+
+                if (propertyValue instanceof PrimitivePropertyValue)
+                {
+                    PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) propertyValue;
+
+                    if ((primitivePropertyValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                        (primitivePropertyValue.getPrimitiveValue() != null))
+                    {
+                        propertyKeys.add(getPropertyIndexKey(propertyName, primitivePropertyValue.getPrimitiveValue().toString()));
+                    }
+                }
+                else if ((propertyValue != null) && (! (propertyValue instanceof EnumPropertyValue)))
+                {
+                    propertyKeys.add(getPropertyIndexKey(propertyName, null));
+                }
+            }
+        }
+
+        entityPropertyIndex.indexInstance(entityGUID, propertyKeys);
+    }
+
+
+    /**
+     * Remove an entity from all of the indexes.  The caller must hold the entity's lock.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void removeEntityFromIndexes(String   entityGUID)
+    {
+        entityTypeIndex.removeInstance(entityGUID);
+        entityClassificationIndex.removeInstance(entityGUID);
+        entityPropertyIndex.removeInstance(entityGUID);
     }
 
+
+    /**
+     * Update the indexes with the entities at each end of the latest version of a relationship.  The caller must
+     * hold the relationship's lock.
+     *
+     * @param relationship relationship to index
+     */
+    private void indexRelationship(Relationship   relationship)
+    {
+        Set<String> entityGUIDs = new HashSet<>();
+
+        if ((relationship.getEntityOneProxy() != null) && (relationship.getEntityOneProxy().getGUID() != null))
+        {
+            entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+        }
+
+        if ((relationship.getEntityTwoProxy() != null) && (relationship.getEntityTwoProxy().getGUID() != null))
+        {
+            entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+        }
+
+        relationshipEndIndex.indexInstance(relationship.getGUID(), entityGUIDs);
+    }
+
+
+    /**
+     * Build the key used in the property index.  The name's length is included so that names and values
+     * containing the separator can not clash.
+     *
+     * @param propertyName name of the property
+     * @param propertyValue string value of the property - null means the property is a collection
+     * @return index key
+     */
+    private static String getPropertyIndexKey(String   propertyName,
+                                              String   propertyValue)
+    {
+        if (propertyValue == null)
+        {
+            return propertyName.length() + ":" + propertyName + "*";
+        }
+
+        return propertyName.length() + ":" + propertyName + "=" + propertyValue;
+    }
+
+
+    /**
+     * Test whether an instance is present in all of the restrictions.
+     *
+     * @param guid unique identifier of the instance
+     * @param restrictions sets of unique identifiers
+     * @return boolean flag
+     */
+    private static boolean isInAllRestrictions(String             guid,
+                                               List<Set<String>>  restrictions)
+    {
+        for (Set<String> restriction : restrictions)
+        {
+            if (! restriction.contains(guid))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
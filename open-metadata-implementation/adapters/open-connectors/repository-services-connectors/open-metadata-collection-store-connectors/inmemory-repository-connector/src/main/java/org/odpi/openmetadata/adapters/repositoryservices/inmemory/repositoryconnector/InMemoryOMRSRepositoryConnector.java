@@ -5,6 +5,8 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Map;
+
 /**
  * The InMemoryOMRSRepositoryConnector is a connector to a local in memory repository.  It is used for test,
  * small scale fixed or temporary repositories where the initial content comes from open metadata archives and
@@ -42,7 +44,47 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                           super.serverName,
                                                                           repositoryHelper,
                                                                           repositoryValidator,
-                                                                          metadataCollectionId);
+                                                                          metadataCollectionId,
+                                                                          this.getHistoryBucketInterval());
         }
     }
+
+
+    /**
+     * Return the width of the time buckets used to narrow historical queries from the configuration properties.
+     *
+     * @return interval in milliseconds - zero means no time buckets
+     */
+    private long getHistoryBucketInterval()
+    {
+        if (connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                Object historyBucketInterval = configurationProperties.get(InMemoryOMRSRepositoryConnectorProvider.historyBucketIntervalProperty);
+
+                if (historyBucketInterval instanceof Number)
+                {
+                    return ((Number) historyBucketInterval).longValue();
+                }
+                else if (historyBucketInterval != null)
+                {
+                    try
+                    {
+                        return Long.parseLong(historyBucketInterval.toString().trim());
+                    }
+                    catch (NumberFormatException error)
+                    {
+                        /*
+                         * Ignore an invalid value - the time buckets are not used.
+                         */
+                    }
+                }
+            }
+        }
+
+        return 0;
+    }
 }
\ No newline at end of file
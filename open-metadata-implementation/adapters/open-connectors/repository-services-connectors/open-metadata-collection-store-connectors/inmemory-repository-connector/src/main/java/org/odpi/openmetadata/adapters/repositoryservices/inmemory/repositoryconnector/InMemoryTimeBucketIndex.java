@@ -0,0 +1,140 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * InMemoryTimeBucketIndex groups the instances in the InMemoryOMRSMetadataStore into buckets of a fixed time
+ * interval according to the time of their earliest known version.  It allows a historical (asOfTime) query to
+ * skip the instances that were stored after the requested time.
+ *
+ * The index can be read while it is being updated.  The metadata store that owns the index must serialize the
+ * updates to any one instance.
+ */
+class InMemoryTimeBucketIndex
+{
+    private final long                                       bucketInterval;
+    private final ConcurrentNavigableMap<Long, Set<String>>  instancesByBucket = new ConcurrentSkipListMap<>();
+    private final Map<String, Long>                          bucketByInstance  = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param bucketInterval width of each bucket in milliseconds
+     */
+    InMemoryTimeBucketIndex(long   bucketInterval)
+    {
+        this.bucketInterval = bucketInterval;
+    }
+
+
+    /**
+     * Record a version of an instance.  The instance is moved to an earlier bucket if the version is
+     * earlier than any previously recorded version.
+     *
+     * @param guid unique identifier of the instance
+     * @param versionTime time of the version in milliseconds
+     */
+    void indexVersion(String   guid,
+                      long     versionTime)
+    {
+        if ((guid == null) || (versionTime == InMemoryInstanceVersions.UNKNOWN_TIME))
+        {
+            return;
+        }
+
+        long bucket    = Math.floorDiv(versionTime, bucketInterval);
+        Long oldBucket = bucketByInstance.get(guid);
+
+        if ((oldBucket == null) || (bucket < oldBucket))
+        {
+            instancesByBucket.compute(bucket, (k, instances) ->
+            {
+                Set<String> updatedInstances = instances;
+
+                if (updatedInstances == null)
+                {
+                    updatedInstances = ConcurrentHashMap.newKeySet();
+                }
+
+                updatedInstances.add(guid);
+
+                return updatedInstances;
+            });
+
+            bucketByInstance.put(guid, bucket);
+
+            if (oldBucket != null)
+            {
+                this.removeFromBucket(guid, oldBucket);
+            }
+        }
+    }
+
+
+    /**
+     * Remove an instance from the index.
+     *
+     * @param guid unique identifier of the instance
+     */
+    void removeInstance(String   guid)
+    {
+        if (guid != null)
+        {
+            Long bucket = bucketByInstance.remove(guid);
+
+            if (bucket != null)
+            {
+                this.removeFromBucket(guid, bucket);
+            }
+        }
+    }
+
+
+    /**
+     * Return the unique identifiers of the instances that may have been stored by the requested time.  This
+     * includes all of the instances from the bucket containing the time so the caller must still check each instance.
+     *
+     * @param asOfTime time of interest
+     * @return set of unique identifiers
+     */
+    Set<String> getInstancesStoredBy(Date   asOfTime)
+    {
+        Set<String> instances = new HashSet<>();
+
+        for (Set<String> bucketInstances : instancesByBucket.headMap(Math.floorDiv(asOfTime.getTime(), bucketInterval), true).values())
+        {
+            instances.addAll(bucketInstances);
+        }
+
+        return instances;
+    }
+
+
+    /**
+     * Remove an instance from a bucket, discarding the bucket if it is empty.
+     *
+     * @param guid unique identifier of the instance
+     * @param bucket bucket number
+     */
+    private void removeFromBucket(String   guid,
+                                  long     bucket)
+    {
+        instancesByBucket.computeIfPresent(bucket, (k, instances) ->
+        {
+            instances.remove(guid);
+
+            if (instances.isEmpty())
+            {
+                return null;
+            }
+
+            return instances;
+        });
+    }
+}
@@ -0,0 +1,88 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Checks that the InMemoryInstanceIndex replaces the keys of an instance without hiding the instance from
+ * readers of the keys that it keeps.
+ */
+public class TestInMemoryInstanceIndex
+{
+    private static final int UPDATE_COUNT = 200000;
+
+
+    @Test
+    public void testReindexReplacesKeys()
+    {
+        InMemoryInstanceIndex index = new InMemoryInstanceIndex();
+
+        index.indexInstance("guid1", new HashSet<>(Arrays.asList("type", "classA")));
+        index.indexInstance("guid2", new HashSet<>(Collections.singletonList("classA")));
+        index.indexInstance("guid1", new HashSet<>(Arrays.asList("type", "classB")));
+
+        assertEquals(index.getInstances("type"), Collections.singleton("guid1"));
+        assertEquals(index.getInstances("classA"), Collections.singleton("guid2"));
+        assertEquals(index.getInstances("classB"), Collections.singleton("guid1"));
+
+        index.indexInstance("guid1", null);
+        index.removeInstance("guid2");
+
+        assertTrue(index.getInstances("type").isEmpty());
+        assertTrue(index.getInstances("classA").isEmpty());
+        assertTrue(index.getInstances("classB").isEmpty());
+    }
+
+
+    @Test
+    public void testReaderSeesKeptKeys() throws Exception
+    {
+        InMemoryInstanceIndex index      = new InMemoryInstanceIndex();
+        Set<String>           keysWithA  = new HashSet<>(Arrays.asList("type", "classA"));
+        Set<String>           keysWithB  = new HashSet<>(Arrays.asList("type", "classB"));
+        AtomicBoolean         writerDone = new AtomicBoolean(false);
+        ExecutorService       executor   = Executors.newSingleThreadExecutor();
+
+        index.indexInstance("guid1", keysWithA);
+
+        /*
+         * The writer moves the instance between two classifications while its type stays the same.
+         */
+        Future<?> writer = executor.submit(() ->
+        {
+            for (int i = 0; i < UPDATE_COUNT; i++)
+            {
+                index.indexInstance("guid1", (i % 2 == 0) ? keysWithB : keysWithA);
+            }
+
+            writerDone.set(true);
+        });
+
+        int missedCount = 0;
+
+        while (! writerDone.get())
+        {
+            if (! index.getInstances("type").contains("guid1"))
+            {
+                missedCount++;
+            }
+        }
+
+        writer.get();
+        executor.shutdown();
+
+        assertEquals(missedCount, 0);
+        assertTrue(index.getInstances("type").contains("guid1"));
+        assertFalse(index.getInstances("classA").contains("guid1") && index.getInstances("classB").contains("guid1"));
+    }
+}
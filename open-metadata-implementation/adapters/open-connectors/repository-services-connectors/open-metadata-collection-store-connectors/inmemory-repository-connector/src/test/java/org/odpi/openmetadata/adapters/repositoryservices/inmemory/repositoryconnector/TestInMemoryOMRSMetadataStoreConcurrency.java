@@ -0,0 +1,231 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+
+/**
+ * Runs a mixed read/write workload against the InMemoryOMRSMetadataStore from many threads.  The test checks that
+ * no updates are lost and that the indexes agree with the store once the workload is complete.  The throughput
+ * with one thread and with one thread per core is reported so that the scaling can be seen in the test output.
+ */
+public class TestInMemoryOMRSMetadataStoreConcurrency
+{
+    private static final String ENTITY_TYPE_NAME       = "TestEntity";
+    private static final String RELATIONSHIP_TYPE_NAME = "TestRelationship";
+    private static final String CLASSIFICATION_NAME    = "TestClassification";
+    private static final int    ENTITY_COUNT           = 2000;
+    private static final int    OPERATIONS_PER_THREAD  = 20000;
+
+
+    @Test
+    public void testMixedWorkload() throws Exception
+    {
+        int coreCount = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+
+        /*
+         * The first run warms up the JIT so that the single thread result is not penalized.
+         */
+        this.runWorkload(1);
+
+        double singleThreadRate = this.runWorkload(1);
+        double multiThreadRate  = this.runWorkload(coreCount);
+
+        Reporter.log("InMemoryOMRSMetadataStore mixed workload: 1 thread = " + Math.round(singleThreadRate) +
+                             " ops/s; " + coreCount + " threads = " + Math.round(multiThreadRate) +
+                             " ops/s; speed up = " + String.format("%.2f", multiThreadRate / singleThreadRate), true);
+    }
+
+
+    /**
+     * Run the workload against a new store.  Each thread owns the entities whose index is congruent with its
+     * thread number so that the expected final state of each entity is known.  All threads read all of the entities.
+     *
+     * @param threadCount number of threads
+     * @return operations per second
+     * @throws Exception the workload failed
+     */
+    private double runWorkload(int threadCount) throws Exception
+    {
+        InMemoryOMRSMetadataStore store       = new InMemoryOMRSMetadataStore();
+        List<String>              entityGUIDs = new ArrayList<>();
+
+        for (int i = 0; i < ENTITY_COUNT; i++)
+        {
+            EntityDetail entity = store.createEntityInStore(getEntity(UUID.randomUUID().toString(), 1, false));
+
+            entityGUIDs.add(entity.getGUID());
+
+            if (i > 0)
+            {
+                store.createRelationshipInStore(getRelationship(UUID.randomUUID().toString(),
+                                                                entityGUIDs.get(i - 1),
+                                                                entity.getGUID()));
+            }
+        }
+
+        ExecutorService     executor      = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch      startSignal   = new CountDownLatch(1);
+        List<Future<int[]>> threadResults = new ArrayList<>();
+
+        for (int thread = 0; thread < threadCount; thread++)
+        {
+            final int threadNumber = thread;
+
+            threadResults.add(executor.submit(() ->
+            {
+                Random random       = new Random(threadNumber);
+                int[]  updateCounts = new int[ENTITY_COUNT];
+
+                startSignal.await();
+
+                for (int operation = 0; operation < OPERATIONS_PER_THREAD; operation++)
+                {
+                    int entityNumber = random.nextInt(ENTITY_COUNT);
+                    int choice       = random.nextInt(10);
+
+                    if ((choice < 3) && (entityNumber % threadCount == threadNumber))
+                    {
+                        EntityDetail current = store.getEntity(entityGUIDs.get(entityNumber));
+
+                        store.updateEntityInStore(getEntity(current.getGUID(),
+                                                            current.getVersion() + 1,
+                                                            current.getClassifications() == null));
+                        updateCounts[entityNumber]++;
+                    }
+                    else if (choice < 6)
+                    {
+                        assertNotNull(store.getEntity(entityGUIDs.get(entityNumber)));
+                    }
+                    else if (choice < 9)
+                    {
+                        store.getRelationshipsForEntity(entityGUIDs.get(entityNumber));
+                    }
+                    else
+                    {
+                        store.getEntities(null, Collections.singletonList(CLASSIFICATION_NAME), null);
+                    }
+                }
+
+                return updateCounts;
+            }));
+        }
+
+        long startTime = System.nanoTime();
+
+        startSignal.countDown();
+
+        int[] totalUpdateCounts = new int[ENTITY_COUNT];
+
+        for (Future<int[]> threadResult : threadResults)
+        {
+            int[] updateCounts = threadResult.get();
+
+            for (int i = 0; i < ENTITY_COUNT; i++)
+            {
+                totalUpdateCounts[i] += updateCounts[i];
+            }
+        }
+
+        long elapsedTime = System.nanoTime() - startTime;
+
+        executor.shutdown();
+
+        /*
+         * Check that no updates were lost and the indexes match the store.
+         */
+        int classifiedCount = 0;
+
+        for (int i = 0; i < ENTITY_COUNT; i++)
+        {
+            EntityDetail entity = store.getEntity(entityGUIDs.get(i));
+
+            assertEquals(entity.getVersion(), 1L + totalUpdateCounts[i]);
+
+            if (entity.getClassifications() != null)
+            {
+                classifiedCount++;
+            }
+
+            assertEquals(store.getRelationshipsForEntity(entity.getGUID()).size(), ((i == 0) || (i == ENTITY_COUNT - 1)) ? 1 : 2);
+        }
+
+        assertEquals(store.getEntities(Collections.singletonList(ENTITY_TYPE_NAME), null, null).size(), ENTITY_COUNT);
+        assertEquals(store.getEntities(null, Collections.singletonList(CLASSIFICATION_NAME), null).size(), classifiedCount);
+
+        return (threadCount * (double) OPERATIONS_PER_THREAD) / (elapsedTime / 1000000000.0);
+    }
+
+
+    /**
+     * Build an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @param isClassified should the entity have a classification
+     * @return entity
+     */
+    private EntityDetail getEntity(String  guid,
+                                   long    version,
+                                   boolean isClassified)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefName(ENTITY_TYPE_NAME);
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setUpdateTime(new Date());
+
+        if (isClassified)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(CLASSIFICATION_NAME);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+
+        return entity;
+    }
+
+
+    /**
+     * Build a relationship between two entities.
+     *
+     * @param guid unique identifier
+     * @param entityOneGUID unique identifier of the entity at end one
+     * @param entityTwoGUID unique identifier of the entity at end two
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid,
+                                         String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+        InstanceType type         = new InstanceType();
+        EntityProxy  entityOne    = new EntityProxy();
+        EntityProxy  entityTwo    = new EntityProxy();
+
+        type.setTypeDefName(RELATIONSHIP_TYPE_NAME);
+        entityOne.setGUID(entityOneGUID);
+        entityTwo.setGUID(entityTwoGUID);
+
+        relationship.setGUID(guid);
+        relationship.setType(type);
+        relationship.setEntityOneProxy(entityOne);
+        relationship.setEntityTwoProxy(entityTwo);
+
+        return relationship;
+    }
+}
@@ -0,0 +1,145 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Checks that the InMemoryOMRSMetadataStore returns the version of each entity that was current at the
+ * requested time, both with and without the time bucket index.
+ */
+public class TestInMemoryOMRSMetadataStoreHistory
+{
+    private static final long BASE_TIME = 1000000L;
+
+
+    @Test
+    public void testAsOfTimeWithoutTimeBuckets()
+    {
+        this.checkAsOfTime(new InMemoryOMRSMetadataStore());
+    }
+
+
+    @Test
+    public void testAsOfTimeWithTimeBuckets()
+    {
+        this.checkAsOfTime(new InMemoryOMRSMetadataStore(50));
+    }
+
+
+    @Test
+    public void testVersionChainOrdering()
+    {
+        InMemoryInstanceVersions<EntityDetail> versions = new InMemoryInstanceVersions<>();
+
+        /*
+         * Versions are added out of time order to check the chain sorts them.
+         */
+        versions.addVersion(getEntity("guid", 3, 300));
+        versions.addVersion(getEntity("guid", 1, 100));
+        versions.addVersion(getEntity("guid", 2, 200));
+
+        assertNull(versions.getVersionAsOf(new Date(BASE_TIME + 99)));
+        assertEquals(versions.getVersionAsOf(new Date(BASE_TIME + 100)).getVersion(), 1L);
+        assertEquals(versions.getVersionAsOf(new Date(BASE_TIME + 250)).getVersion(), 2L);
+        assertEquals(versions.getVersionAsOf(new Date(BASE_TIME + 1000)).getVersion(), 3L);
+        assertEquals(versions.getLatestVersion().getVersion(), 3L);
+        assertEquals(versions.getEarliestVersionTime(), BASE_TIME + 100);
+    }
+
+
+    @Test
+    public void testCurrentStoreIsNotCopied()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("entity1", 1, 100));
+
+        /*
+         * The current store is a view of the live store so it sees later changes and cannot be updated.
+         */
+        Map<String, EntityDetail> currentStore = store.timeWarpEntityStore(null);
+
+        store.createEntityInStore(getEntity("entity2", 1, 200));
+        store.updateEntityInStore(getEntity("entity1", 2, 300));
+
+        assertEquals(currentStore.size(), 2);
+        assertEquals(currentStore.get("entity1").getVersion(), 2L);
+        assertThrows(UnsupportedOperationException.class, () -> currentStore.remove("entity1"));
+        assertThrows(UnsupportedOperationException.class, () -> store.timeWarpRelationshipStore(null).clear());
+    }
+
+
+    /**
+     * Store an entity with three versions and a second entity created later, then check the lookups at
+     * several points in time.
+     *
+     * @param store store to test
+     */
+    private void checkAsOfTime(InMemoryOMRSMetadataStore store)
+    {
+        store.createEntityInStore(getEntity("entity1", 1, 100));
+        store.updateEntityInStore(getEntity("entity1", 2, 200));
+        store.updateEntityInStore(getEntity("entity1", 3, 300));
+        store.createEntityInStore(getEntity("entity2", 1, 400));
+
+        assertNull(store.getEntity("entity1", new Date(BASE_TIME + 50)));
+        assertEquals(store.getEntity("entity1", new Date(BASE_TIME + 150)).getVersion(), 1L);
+        assertEquals(store.getEntity("entity1", new Date(BASE_TIME + 200)).getVersion(), 2L);
+        assertEquals(store.getEntity("entity1", new Date(BASE_TIME + 350)).getVersion(), 3L);
+        assertEquals(store.getEntity("entity1", null).getVersion(), 3L);
+
+        Map<String, EntityDetail> timeWarpedStore = store.timeWarpEntityStore(new Date(BASE_TIME + 250));
+
+        assertEquals(timeWarpedStore.size(), 1);
+        assertEquals(timeWarpedStore.get("entity1").getVersion(), 2L);
+
+        timeWarpedStore = store.timeWarpEntityStore(new Date(BASE_TIME + 500));
+
+        assertEquals(timeWarpedStore.size(), 2);
+        assertTrue(timeWarpedStore.containsKey("entity2"));
+
+        store.removeEntityFromStore(getEntity("entity2", 1, 400));
+
+        assertNull(store.getEntity("entity2", new Date(BASE_TIME + 500)));
+        assertEquals(store.timeWarpEntityStore(new Date(BASE_TIME + 500)).size(), 1);
+    }
+
+
+    /**
+     * Build an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @param offset time of the version relative to the base time
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version,
+                                   long   offset)
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefName("TestEntity");
+
+        entity.setGUID(guid);
+        entity.setType(type);
+        entity.setVersion(version);
+        entity.setCreateTime(new Date(BASE_TIME + 100));
+        entity.setUpdateTime(new Date(BASE_TIME + offset));
+
+        return entity;
+    }
+}
@@ -37,6 +37,9 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
 
     private boolean getHomeClassificationsSupported = true;
     private boolean getHomeClassificationsWithHistorySupported = true;
+    private boolean getRelationshipsForEntityPageSupported = true;
+    private boolean findEntitiesPageSupported = true;
+    private boolean findRelationshipsPageSupported = true;
 
 
     /**
@@ -134,6 +137,39 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Determine whether a request to the remote server failed because the server does not have the
+     * requested operation.  This is the case when the server is at a level that does not support continuation
+     * tokens - it either rejects the request as not supported or does not recognize the URL at all.
+     *
+     * @param error exception from the client
+     * @return boolean flag
+     */
+    private boolean isOperationNotAvailable(Exception error)
+    {
+        if (error instanceof FunctionNotSupportedException)
+        {
+            return true;
+        }
+
+        Throwable cause = error.getCause();
+
+        while (cause != null)
+        {
+            String causeMessage = cause.getMessage();
+
+            if ((causeMessage != null) && ((causeMessage.startsWith("404")) || (causeMessage.startsWith("405"))))
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     /**
      * Validate that the metadata collection id from the remote server matches the one expected
      * locally.
@@ -1062,6 +1098,97 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships for a specific entity.  The continuation token returned with the page
+     * is passed on the request for the next page.  A null continuation token means there are no more results.
+     *
+     * @param userId                  unique identifier for requesting user.
+     * @param entityGUID              String unique identifier for the entity.
+     * @param relationshipTypeGUID    String GUID of the the type of relationship required (null for all).
+     * @param continuationToken       token returned with the previous page - null for the first page.
+     * @param limitResultsByStatus    By default, relationships in all statuses are returned.  However, it is possible
+     *                                to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                                status values.
+     * @param asOfTime                Requests a historical query of the relationships for the entity.  Null means return the
+     *                                present values.
+     * @param sequencingProperty      String name of the property that is to be used to sequence the results.
+     *                                Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder         Enum defining how the results should be ordered.
+     * @param pageSize                the maximum number of result relationships that can be returned on this request.
+     * @return page of relationships and the continuation token for the next page.
+     * @throws InvalidParameterException     a parameter is invalid or null.
+     * @throws TypeErrorException            the type guid passed on the request is not known by the
+     *                                       metadata collection.
+     * @throws RepositoryErrorException      there is a problem communicating with the metadata repository where
+     *                                       the metadata collection is stored.
+     * @throws EntityNotKnownException       the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException        the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException          the paging/sequencing parameters or continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException    the userId is not permitted to perform this operation.
+     */
+    @Override
+    public RelationshipPage getRelationshipsForEntityPage(String               userId,
+                                                          String               entityGUID,
+                                                          String               relationshipTypeGUID,
+                                                          String               continuationToken,
+                                                          List<InstanceStatus> limitResultsByStatus,
+                                                          Date                 asOfTime,
+                                                          String               sequencingProperty,
+                                                          SequencingOrder      sequencingOrder,
+                                                          int                  pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                EntityNotKnownException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String methodName = "getRelationshipsForEntityPage";
+
+        validateClient(methodName);
+
+        if (getRelationshipsForEntityPageSupported)
+        {
+            try
+            {
+                return omrsClient.getRelationshipsForEntityPage(userId,
+                                                                entityGUID,
+                                                                relationshipTypeGUID,
+                                                                continuationToken,
+                                                                limitResultsByStatus,
+                                                                asOfTime,
+                                                                sequencingProperty,
+                                                                sequencingOrder,
+                                                                pageSize);
+            }
+            catch (FunctionNotSupportedException | RepositoryErrorException error)
+            {
+                if (! isOperationNotAvailable(error))
+                {
+                    throw error;
+                }
+
+                getRelationshipsForEntityPageSupported = false;
+            }
+        }
+
+        /*
+         * The remote server is at an earlier level - page through the results by offset.
+         */
+        return super.getRelationshipsForEntityPage(userId,
+                                                   entityGUID,
+                                                   relationshipTypeGUID,
+                                                   continuationToken,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -1132,6 +1259,104 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied criteria.  The continuation token returned with the page
+     * is passed on the request for the next page.  A null continuation token means there are no more results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param continuationToken token returned with the previous page - null for the first page.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return page of entities and the continuation token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesPage";
+
+        validateClient(methodName);
+
+        if (findEntitiesPageSupported)
+        {
+            try
+            {
+                return omrsClient.findEntitiesPage(userId,
+                                                   entityTypeGUID,
+                                                   entitySubtypeGUIDs,
+                                                   matchProperties,
+                                                   continuationToken,
+                                                   limitResultsByStatus,
+                                                   matchClassifications,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+            }
+            catch (FunctionNotSupportedException | RepositoryErrorException error)
+            {
+                if (! isOperationNotAvailable(error))
+                {
+                    throw error;
+                }
+
+                findEntitiesPageSupported = false;
+            }
+        }
+
+        /*
+         * The remote server is at an earlier level - page through the results by offset.
+         */
+        return super.findEntitiesPage(userId,
+                                      entityTypeGUID,
+                                      entitySubtypeGUIDs,
+                                      matchProperties,
+                                      continuationToken,
+                                      limitResultsByStatus,
+                                      matchClassifications,
+                                      asOfTime,
+                                      sequencingProperty,
+                                      sequencingOrder,
+                                      pageSize);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1545,6 +1770,103 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token returned
+     * with the page is passed on the request for the next page.  A null continuation token means there are no
+     * more results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param continuationToken token returned with the previous page - null for the first page.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.
+     * @return page of relationships and the continuation token for the next page.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  RelationshipPage findRelationshipsPage(String                    userId,
+                                                   String                    relationshipTypeGUID,
+                                                   List<String>              relationshipSubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   String                    continuationToken,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   Date                      asOfTime,
+                                                   String                    sequencingProperty,
+                                                   SequencingOrder           sequencingOrder,
+                                                   int                       pageSize) throws InvalidParameterException,
+                                                                                              TypeErrorException,
+                                                                                              RepositoryErrorException,
+                                                                                              PropertyErrorException,
+                                                                                              PagingErrorException,
+                                                                                              FunctionNotSupportedException,
+                                                                                              UserNotAuthorizedException
+    {
+        final String methodName = "findRelationshipsPage";
+
+        validateClient(methodName);
+
+        if (findRelationshipsPageSupported)
+        {
+            try
+            {
+                return omrsClient.findRelationshipsPage(userId,
+                                                        relationshipTypeGUID,
+                                                        relationshipSubtypeGUIDs,
+                                                        matchProperties,
+                                                        continuationToken,
+                                                        limitResultsByStatus,
+                                                        asOfTime,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        pageSize);
+            }
+            catch (FunctionNotSupportedException | RepositoryErrorException error)
+            {
+                if (! isOperationNotAvailable(error))
+                {
+                    throw error;
+                }
+
+                findRelationshipsPageSupported = false;
+            }
+        }
+
+        /*
+         * The remote server is at an earlier level - page through the results by offset.
+         */
+        return super.findRelationshipsPage(userId,
+                                           relationshipTypeGUID,
+                                           relationshipSubtypeGUIDs,
+                                           matchProperties,
+                                           continuationToken,
+                                           limitResultsByStatus,
+                                           asOfTime,
+                                           sequencingProperty,
+                                           sequencingOrder,
+                                           pageSize);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -0,0 +1,302 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.HttpsURLConnection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * HTTPConnectionPool holds a pooled Apache HTTP client that keeps connections to remote platforms open between
+ * REST calls.  Each connector is created for a single client object so the pools are shared between all connectors
+ * with the same pool settings.  This means the TCP and TLS handshakes to a platform are reused by every client that
+ * calls it.
+ * <p>
+ * TLS connections use the JVM's default HTTPS socket factory and host name verifier so that they follow the
+ * strict.ssl setting of the platform.
+ * </p>
+ */
+class HTTPConnectionPool
+{
+    private static final Map<Settings, HTTPConnectionPool> pools = new HashMap<>();
+
+    private final Settings                           settings;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient                httpClient;
+
+
+    /**
+     * Settings for a pool.  They are used as the key to the shared pools.
+     */
+    static class Settings
+    {
+        private final int  maxConnectionsPerRoute;
+        private final int  maxConnectionsTotal;
+        private final int  connectTimeout;
+        private final int  readTimeout;
+        private final int  connectionRequestTimeout;
+        private final long keepAliveTime;
+
+
+        /**
+         * Constructor takes the settings.  Timeouts are in milliseconds and 0 means no limit.
+         *
+         * @param maxConnectionsPerRoute maximum open connections to a single platform
+         * @param maxConnectionsTotal maximum open connections across all platforms
+         * @param connectTimeout time allowed to open a connection
+         * @param readTimeout time allowed between packets of a response
+         * @param connectionRequestTimeout time to wait for a free connection from the pool
+         * @param keepAliveTime time an idle connection is kept open if the server does not say
+         */
+        Settings(int  maxConnectionsPerRoute,
+                 int  maxConnectionsTotal,
+                 int  connectTimeout,
+                 int  readTimeout,
+                 int  connectionRequestTimeout,
+                 long keepAliveTime)
+        {
+            this.maxConnectionsPerRoute   = maxConnectionsPerRoute;
+            this.maxConnectionsTotal      = maxConnectionsTotal;
+            this.connectTimeout           = connectTimeout;
+            this.readTimeout              = readTimeout;
+            this.connectionRequestTimeout = connectionRequestTimeout;
+            this.keepAliveTime            = keepAliveTime;
+        }
+
+
+        /**
+         * Compare the values of the supplied object with those stored in the current object.
+         *
+         * @param objectToCompare supplied object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            Settings that = (Settings) objectToCompare;
+            return maxConnectionsPerRoute == that.maxConnectionsPerRoute &&
+                           maxConnectionsTotal == that.maxConnectionsTotal &&
+                           connectTimeout == that.connectTimeout &&
+                           readTimeout == that.readTimeout &&
+                           connectionRequestTimeout == that.connectionRequestTimeout &&
+                           keepAliveTime == that.keepAliveTime;
+        }
+
+
+        /**
+         * Return hash code based on properties.
+         *
+         * @return int
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(maxConnectionsPerRoute, maxConnectionsTotal, connectTimeout, readTimeout, connectionRequestTimeout, keepAliveTime);
+        }
+
+
+        /**
+         * Standard toString method.
+         *
+         * @return print out of variables in a JSON-style
+         */
+        @Override
+        public String toString()
+        {
+            return "Settings{" +
+                           "maxConnectionsPerRoute=" + maxConnectionsPerRoute +
+                           ", maxConnectionsTotal=" + maxConnectionsTotal +
+                           ", connectTimeout=" + connectTimeout +
+                           ", readTimeout=" + readTimeout +
+                           ", connectionRequestTimeout=" + connectionRequestTimeout +
+                           ", keepAliveTime=" + keepAliveTime +
+                           '}';
+        }
+    }
+
+
+    /**
+     * Return the pool for the requested settings, creating it if this is the first request.
+     *
+     * @param settings pool settings
+     * @return pool
+     */
+    static synchronized HTTPConnectionPool getPool(Settings settings)
+    {
+        return pools.computeIfAbsent(settings, HTTPConnectionPool::new);
+    }
+
+
+    /**
+     * Create the connection manager and client for a new pool.
+     *
+     * @param settings pool settings
+     */
+    private HTTPConnectionPool(Settings settings)
+    {
+        this.settings = settings;
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory(),
+                                                                  HttpsURLConnection.getDefaultHostnameVerifier()))
+                .build();
+
+        this.connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        this.connectionManager.setDefaultMaxPerRoute(settings.maxConnectionsPerRoute);
+        this.connectionManager.setMaxTotal(settings.maxConnectionsTotal);
+
+        /*
+         * Connections that have been idle for a while are checked before they are reused since the server
+         * may have closed them.
+         */
+        this.connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectTimeout(settings.connectTimeout)
+                                                   .setSocketTimeout(settings.readTimeout)
+                                                   .setConnectionRequestTimeout(settings.connectionRequestTimeout)
+                                                   .build();
+
+        this.httpClient = HttpClients.custom()
+                                     .setConnectionManager(connectionManager)
+                                     .setDefaultRequestConfig(requestConfig)
+                                     .setKeepAliveStrategy(new KeepAliveStrategy(settings.keepAliveTime))
+                                     .evictExpiredConnections()
+                                     .evictIdleConnections(settings.keepAliveTime, TimeUnit.MILLISECONDS)
+                                     .disableCookieManagement()
+                                     .useSystemProperties()
+                                     .build();
+    }
+
+
+    /**
+     * Return the HTTP client that uses the pool.
+     *
+     * @return HTTP client
+     */
+    CloseableHttpClient getHttpClient()
+    {
+        return httpClient;
+    }
+
+
+    /**
+     * Return the current statistics for the pool.
+     *
+     * @return map of statistic name to value
+     */
+    Map<String, Integer> getStatistics()
+    {
+        PoolStats            poolStats  = connectionManager.getTotalStats();
+        Map<String, Integer> statistics = new HashMap<>();
+
+        statistics.put("leased", poolStats.getLeased());
+        statistics.put("available", poolStats.getAvailable());
+        statistics.put("pending", poolStats.getPending());
+        statistics.put("max", poolStats.getMax());
+        statistics.put("routes", connectionManager.getRoutes().size());
+
+        return statistics;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "HTTPConnectionPool{" +
+                       "settings=" + settings +
+                       ", statistics=" + getStatistics() +
+                       '}';
+    }
+
+
+    /**
+     * KeepAliveStrategy keeps a connection open for as long as the server's Keep-Alive header allows.  If
+     * the server does not say, the pool's keep alive time is used.
+     */
+    private static class KeepAliveStrategy implements ConnectionKeepAliveStrategy
+    {
+        private final long defaultKeepAliveTime;
+
+
+        /**
+         * Constructor takes the keep alive time used when the server does not supply one.
+         *
+         * @param defaultKeepAliveTime time in milliseconds
+         */
+        KeepAliveStrategy(long defaultKeepAliveTime)
+        {
+            this.defaultKeepAliveTime = defaultKeepAliveTime;
+        }
+
+
+        /**
+         * Return how long a connection can be idle before it is closed.
+         *
+         * @param response response from the server
+         * @param context context of the request
+         * @return time in milliseconds
+         */
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context)
+        {
+            HeaderElementIterator iterator = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+
+            while (iterator.hasNext())
+            {
+                HeaderElement headerElement = iterator.nextElement();
+
+                if (("timeout".equalsIgnoreCase(headerElement.getName())) && (headerElement.getValue() != null))
+                {
+                    try
+                    {
+                        return Math.min(Long.parseLong(headerElement.getValue()) * 1000, defaultKeepAliveTime);
+                    }
+                    catch (NumberFormatException badValue)
+                    {
+                        /*
+                         * Use the default.
+                         */
+                    }
+                }
+            }
+
+            return defaultKeepAliveTime;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
@@ -25,6 +26,7 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -39,6 +41,18 @@ public class SpringRESTClientConnector extends RESTClientConnector
     private String       serverPlatformURLRoot    = null;
     private HttpHeaders  basicAuthorizationHeader = null;
 
+    /*
+     * Default settings for the pool of HTTP connections.  Times are in milliseconds.
+     */
+    private static final int  defaultMaxConnectionsPerRoute   = 20;
+    private static final int  defaultMaxConnectionsTotal      = 200;
+    private static final int  defaultConnectTimeout           = 30000;
+    private static final int  defaultReadTimeout              = 0;
+    private static final int  defaultConnectionRequestTimeout = 60000;
+    private static final long defaultKeepAliveTime            = 60000;
+
+    private HTTPConnectionPool connectionPool = null;
+
     private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnector.class);
 
 
@@ -114,6 +128,80 @@ public class SpringRESTClientConnector extends RESTClientConnector
             log.debug("Using no authentication to call server " + this.serverName + " on platform " + this.serverPlatformURLRoot + ".");
 
         }
+
+        /*
+         * The REST calls are made through a shared pool of keep-alive connections rather than opening a new
+         * connection for each call.
+         */
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        HTTPConnectionPool.Settings poolSettings = new HTTPConnectionPool.Settings(
+                (int)getLongProperty(configurationProperties, SpringRESTClientConnectorProvider.maxConnectionsPerRouteProperty, defaultMaxConnectionsPerRoute),
+                (int)getLongProperty(configurationProperties, SpringRESTClientConnectorProvider.maxConnectionsTotalProperty, defaultMaxConnectionsTotal),
+                (int)getLongProperty(configurationProperties, SpringRESTClientConnectorProvider.connectTimeoutProperty, defaultConnectTimeout),
+                (int)getLongProperty(configurationProperties, SpringRESTClientConnectorProvider.readTimeoutProperty, defaultReadTimeout),
+                (int)getLongProperty(configurationProperties, SpringRESTClientConnectorProvider.connectionRequestTimeoutProperty, defaultConnectionRequestTimeout),
+                getLongProperty(configurationProperties, SpringRESTClientConnectorProvider.keepAliveTimeProperty, defaultKeepAliveTime));
+
+        connectionPool = HTTPConnectionPool.getPool(poolSettings);
+
+        restTemplate.setRequestFactory(new HttpComponentsClientHttpRequestFactory(connectionPool.getHttpClient()));
+    }
+
+
+    /**
+     * Return a numeric configuration property.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or not a number
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        if (configurationProperties != null)
+        {
+            Object propertyValue = configurationProperties.get(propertyName);
+
+            if (propertyValue instanceof Number)
+            {
+                return ((Number)propertyValue).longValue();
+            }
+            else if (propertyValue != null)
+            {
+                try
+                {
+                    return Long.parseLong(propertyValue.toString());
+                }
+                catch (NumberFormatException error)
+                {
+                    log.debug("Ignored invalid value " + propertyValue + " for property " + propertyName + ".");
+                }
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Return the statistics of the pool of HTTP connections used by this connector.  The pool is shared with
+     * other connectors that have the same pool settings.  The statistics are the number of connections in use
+     * (leased), idle (available) and waited for (pending), the maximum number of connections (max) and the number
+     * of platforms connected to (routes).
+     *
+     * @return map of statistic name to value or null if the connector is not initialized
+     */
+    public Map<String, Integer> getConnectionPoolStatistics()
+    {
+        if (connectionPool != null)
+        {
+            return connectionPool.getStatistics();
+        }
+
+        return null;
     }
 
 
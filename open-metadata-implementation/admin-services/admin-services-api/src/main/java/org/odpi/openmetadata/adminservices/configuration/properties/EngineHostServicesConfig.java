@@ -25,6 +25,10 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *
  *     <li>An array of EngineServiceConfig properties, one for each engine service to run.</li>
  * </ul>
+ *
+ * The governance services run by the governance engines share a pool of threads.  The size of the pool, the number of
+ * governance services that can wait for a thread and the number that a single governance engine can run at the same
+ * time can be changed from their defaults.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -33,8 +37,14 @@ public class EngineHostServicesConfig extends OMAGServerClientConfig
 {
     private static final long    serialVersionUID = 1L;
 
-    
-    private List<EngineServiceConfig> engineServiceConfigs = null;
+    private static final int defaultMaxGovernanceServiceThreads    = 20;
+    private static final int defaultMaxQueuedGovernanceServices    = 1000;
+    private static final int defaultMaxGovernanceServicesPerEngine = 10;
+
+    private List<EngineServiceConfig> engineServiceConfigs           = null;
+    private int                       maxGovernanceServiceThreads    = defaultMaxGovernanceServiceThreads;
+    private int                       maxQueuedGovernanceServices    = defaultMaxQueuedGovernanceServices;
+    private int                       maxGovernanceServicesPerEngine = defaultMaxGovernanceServicesPerEngine;
 
 
     /**
@@ -58,6 +68,9 @@ public class EngineHostServicesConfig extends OMAGServerClientConfig
         if (template != null)
         {
             engineServiceConfigs = template.getEngineServiceConfigs();
+            maxGovernanceServiceThreads = template.getMaxGovernanceServiceThreads();
+            maxQueuedGovernanceServices = template.getMaxQueuedGovernanceServices();
+            maxGovernanceServicesPerEngine = template.getMaxGovernanceServicesPerEngine();
         }
     }
 
@@ -84,6 +97,73 @@ public class EngineHostServicesConfig extends OMAGServerClientConfig
     }
 
 
+    /**
+     * Return the maximum number of governance services that can run at the same time in this server.
+     *
+     * @return thread count
+     */
+    public int getMaxGovernanceServiceThreads()
+    {
+        return maxGovernanceServiceThreads;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that can run at the same time in this server.
+     *
+     * @param maxGovernanceServiceThreads thread count
+     */
+    public void setMaxGovernanceServiceThreads(int maxGovernanceServiceThreads)
+    {
+        this.maxGovernanceServiceThreads = maxGovernanceServiceThreads;
+    }
+
+
+    /**
+     * Return the maximum number of governance services that can wait for a thread.  Requests that arrive
+     * when the queue is full are rejected.
+     *
+     * @return queue size
+     */
+    public int getMaxQueuedGovernanceServices()
+    {
+        return maxQueuedGovernanceServices;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that can wait for a thread.
+     *
+     * @param maxQueuedGovernanceServices queue size
+     */
+    public void setMaxQueuedGovernanceServices(int maxQueuedGovernanceServices)
+    {
+        this.maxQueuedGovernanceServices = maxQueuedGovernanceServices;
+    }
+
+
+    /**
+     * Return the maximum number of governance services that a single governance engine can run at the same time.
+     *
+     * @return count
+     */
+    public int getMaxGovernanceServicesPerEngine()
+    {
+        return maxGovernanceServicesPerEngine;
+    }
+
+
+    /**
+     * Set up the maximum number of governance services that a single governance engine can run at the same time.
+     *
+     * @param maxGovernanceServicesPerEngine count
+     */
+    public void setMaxGovernanceServicesPerEngine(int maxGovernanceServicesPerEngine)
+    {
+        this.maxGovernanceServicesPerEngine = maxGovernanceServicesPerEngine;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -94,6 +174,9 @@ public class EngineHostServicesConfig extends OMAGServerClientConfig
     {
         return "EngineHostServicesConfig{" +
                        "engineServiceConfigs=" + engineServiceConfigs +
+                       ", maxGovernanceServiceThreads=" + maxGovernanceServiceThreads +
+                       ", maxQueuedGovernanceServices=" + maxQueuedGovernanceServices +
+                       ", maxGovernanceServicesPerEngine=" + maxGovernanceServicesPerEngine +
                        ", OMAGServerPlatformRootURL='" + getOMAGServerPlatformRootURL() + '\'' +
                        ", OMAGServerName='" + getOMAGServerName() + '\'' +
                        '}';
@@ -122,7 +205,10 @@ public class EngineHostServicesConfig extends OMAGServerClientConfig
             return false;
         }
         EngineHostServicesConfig that = (EngineHostServicesConfig) objectToCompare;
-        return Objects.equals(engineServiceConfigs, that.engineServiceConfigs);
+        return maxGovernanceServiceThreads == that.maxGovernanceServiceThreads &&
+                       maxQueuedGovernanceServices == that.maxQueuedGovernanceServices &&
+                       maxGovernanceServicesPerEngine == that.maxGovernanceServicesPerEngine &&
+                       Objects.equals(engineServiceConfigs, that.engineServiceConfigs);
     }
 
 
@@ -134,6 +220,7 @@ public class EngineHostServicesConfig extends OMAGServerClientConfig
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), engineServiceConfigs);
+        return Objects.hash(super.hashCode(), engineServiceConfigs, maxGovernanceServiceThreads,
+                            maxQueuedGovernanceServices, maxGovernanceServicesPerEngine);
     }
 }
@@ -35,6 +35,14 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *     <li>
  *         remoteEnterpriseOMRSTopicConnection - connection for the remote (external) enterprise OMRS Topic connector.
  *     </li>
+ *     <li>
+ *         maxFederationThreads - maximum number of worker threads used to issue federated queries to the members
+ *                                of the cohorts in parallel.  Zero means use the default.
+ *     </li>
+ *     <li>
+ *         federationMemberTimeout - number of milliseconds to wait for a cohort member to respond to a federated
+ *                                   query before its results are abandoned.  Zero means use the default.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -49,6 +57,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private Connection                       enterpriseOMRSTopicConnection       = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion  = null;
     private Connection                       remoteEnterpriseOMRSTopicConnection = null;
+    private int                              maxFederationThreads                = 0;
+    private long                             federationMemberTimeout             = 0L;
 
 
     /**
@@ -76,6 +86,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
             this.enterpriseOMRSTopicConnection = template.getEnterpriseOMRSTopicConnection();
             this.enterpriseOMRSTopicProtocolVersion = template.getEnterpriseOMRSTopicProtocolVersion();
             this.remoteEnterpriseOMRSTopicConnection = template.getRemoteEnterpriseOMRSTopicConnection();
+            this.maxFederationThreads = template.getMaxFederationThreads();
+            this.federationMemberTimeout = template.getFederationMemberTimeout();
         }
     }
 
@@ -219,6 +231,54 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of worker threads used to issue federated queries to the members of the cohorts
+     * in parallel.  Zero means use the default.
+     *
+     * @return thread count
+     */
+    public int getMaxFederationThreads()
+    {
+        return maxFederationThreads;
+    }
+
+
+    /**
+     * Set up the maximum number of worker threads used to issue federated queries to the members of the cohorts
+     * in parallel.  Zero means use the default.
+     *
+     * @param maxFederationThreads thread count
+     */
+    public void setMaxFederationThreads(int maxFederationThreads)
+    {
+        this.maxFederationThreads = maxFederationThreads;
+    }
+
+
+    /**
+     * Return the number of milliseconds to wait for a cohort member to respond to a federated query before
+     * its results are abandoned.  Zero means use the default.
+     *
+     * @return timeout in milliseconds
+     */
+    public long getFederationMemberTimeout()
+    {
+        return federationMemberTimeout;
+    }
+
+
+    /**
+     * Set up the number of milliseconds to wait for a cohort member to respond to a federated query before
+     * its results are abandoned.  Zero means use the default.
+     *
+     * @param federationMemberTimeout timeout in milliseconds
+     */
+    public void setFederationMemberTimeout(long federationMemberTimeout)
+    {
+        this.federationMemberTimeout = federationMemberTimeout;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -233,6 +293,8 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
                        ", enterpriseOMRSTopicConnection=" + enterpriseOMRSTopicConnection +
                        ", enterpriseOMRSTopicProtocolVersion=" + enterpriseOMRSTopicProtocolVersion +
                        ", remoteEnterpriseOMRSTopicConnection=" + remoteEnterpriseOMRSTopicConnection +
+                       ", maxFederationThreads=" + maxFederationThreads +
+                       ", federationMemberTimeout=" + federationMemberTimeout +
                        '}';
     }
 
@@ -255,7 +317,9 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
             return false;
         }
         EnterpriseAccessConfig that = (EnterpriseAccessConfig) objectToCompare;
-        return Objects.equals(enterpriseMetadataCollectionName, that.enterpriseMetadataCollectionName) &&
+        return maxFederationThreads == that.maxFederationThreads &&
+                       federationMemberTimeout == that.federationMemberTimeout &&
+                       Objects.equals(enterpriseMetadataCollectionName, that.enterpriseMetadataCollectionName) &&
                        Objects.equals(enterpriseMetadataCollectionId, that.enterpriseMetadataCollectionId) &&
                        Objects.equals(enterpriseOMRSTopicConnection, that.enterpriseOMRSTopicConnection) &&
                        enterpriseOMRSTopicProtocolVersion == that.enterpriseOMRSTopicProtocolVersion &&
@@ -273,6 +337,7 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     public int hashCode()
     {
         return Objects.hash(enterpriseMetadataCollectionName, enterpriseMetadataCollectionId, enterpriseOMRSTopicConnection,
-                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection);
+                            enterpriseOMRSTopicProtocolVersion, remoteEnterpriseOMRSTopicConnection, maxFederationThreads,
+                            federationMemberTimeout);
     }
 }
@@ -31,6 +31,10 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     private int      waitBetweenScenarios = 60;
     private List<String> profilesToSkip = Collections.emptyList();
     private List<String> methodsToSkip  = Collections.emptyList();
+    private int      loadConcurrency = 0;
+    private int      loadRampUpSeconds = 0;
+    private int      loadDurationSeconds = 60;
+    private int      loadReadPercentage = 80;
 
 
     /**
@@ -54,10 +58,15 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
         if (template != null)
         {
             tutRepositoryServerName = template.getTutRepositoryServerName();
+            instancesPerType = template.getInstancesPerType();
             maxSearchResults = template.getMaxSearchResults();
             waitBetweenScenarios = template.getWaitBetweenScenarios();
             profilesToSkip = template.getProfilesToSkip();
             methodsToSkip  = template.getMethodsToSkip();
+            loadConcurrency = template.getLoadConcurrency();
+            loadRampUpSeconds = template.getLoadRampUpSeconds();
+            loadDurationSeconds = template.getLoadDurationSeconds();
+            loadReadPercentage = template.getLoadReadPercentage();
         }
     }
 
@@ -198,6 +207,98 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     }
 
 
+    /**
+     * Return the number of threads that send requests to the server under test at the same time during the
+     * concurrent load profile.  Zero means the concurrent load profile is not run.
+     *
+     * @return number of threads
+     */
+    public int getLoadConcurrency()
+    {
+        return loadConcurrency;
+    }
+
+
+    /**
+     * Set up the number of threads that send requests to the server under test at the same time during the
+     * concurrent load profile.  Zero means the concurrent load profile is not run.
+     *
+     * @param loadConcurrency number of threads
+     */
+    public void setLoadConcurrency(int loadConcurrency)
+    {
+        this.loadConcurrency = loadConcurrency;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds) over which the threads of the concurrent load profile are started.
+     * Requests made during the ramp-up are not included in the results.
+     *
+     * @return ramp-up time in seconds
+     */
+    public int getLoadRampUpSeconds()
+    {
+        return loadRampUpSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds) over which the threads of the concurrent load profile are started.
+     * Requests made during the ramp-up are not included in the results.
+     *
+     * @param loadRampUpSeconds ramp-up time in seconds
+     */
+    public void setLoadRampUpSeconds(int loadRampUpSeconds)
+    {
+        this.loadRampUpSeconds = loadRampUpSeconds;
+    }
+
+
+    /**
+     * Return the amount of time (in seconds), after the ramp-up, for which the concurrent load is measured.
+     *
+     * @return duration in seconds
+     */
+    public int getLoadDurationSeconds()
+    {
+        return loadDurationSeconds;
+    }
+
+
+    /**
+     * Set up the amount of time (in seconds), after the ramp-up, for which the concurrent load is measured.
+     *
+     * @param loadDurationSeconds duration in seconds
+     */
+    public void setLoadDurationSeconds(int loadDurationSeconds)
+    {
+        this.loadDurationSeconds = loadDurationSeconds;
+    }
+
+
+    /**
+     * Return the percentage of the requests in the concurrent load that are reads.  The rest are updates.
+     *
+     * @return percentage (0-100)
+     */
+    public int getLoadReadPercentage()
+    {
+        return loadReadPercentage;
+    }
+
+
+    /**
+     * Set up the percentage of the requests in the concurrent load that are reads.  The rest are updates.
+     *
+     * @param loadReadPercentage percentage (0-100)
+     */
+    public void setLoadReadPercentage(int loadReadPercentage)
+    {
+        this.loadReadPercentage = loadReadPercentage;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -213,6 +314,10 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 "waitBetweenScenarios='" + waitBetweenScenarios + '\'' +
                 "profilesToSkip=" + profilesToSkip +
                 "methodsToSkip=" + methodsToSkip +
+                "loadConcurrency=" + loadConcurrency +
+                "loadRampUpSeconds=" + loadRampUpSeconds +
+                "loadDurationSeconds=" + loadDurationSeconds +
+                "loadReadPercentage=" + loadReadPercentage +
                 '}';
     }
 
@@ -240,7 +345,11 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
                 && Objects.equals(getMaxSearchResults(), that.getMaxSearchResults())
                 && Objects.equals(getWaitBetweenScenarios(), that.getWaitBetweenScenarios())
                 && Objects.equals(getProfilesToSkip(), that.getProfilesToSkip())
-                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip());
+                && Objects.equals(getMethodsToSkip(), that.getMethodsToSkip())
+                && getLoadConcurrency() == that.getLoadConcurrency()
+                && getLoadRampUpSeconds() == that.getLoadRampUpSeconds()
+                && getLoadDurationSeconds() == that.getLoadDurationSeconds()
+                && getLoadReadPercentage() == that.getLoadReadPercentage();
     }
 
 
@@ -252,6 +361,7 @@ public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHea
     @Override
     public int hashCode()
     {
-        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip());
+        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getWaitBetweenScenarios(), getProfilesToSkip(), getMethodsToSkip(),
+                            getLoadConcurrency(), getLoadRampUpSeconds(), getLoadDurationSeconds(), getLoadReadPercentage());
     }
 }
@@ -10,6 +10,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogQueueFullPolicy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -27,6 +28,11 @@ import java.util.Objects;
  *         component should use.
  *     </li>
  *     <li>
+ *         auditLogQueueSize, auditLogBatchSize and auditLogQueueFullPolicy control whether the audit log records
+ *         are written to the audit log destinations asynchronously.  A queue size of zero (the default) means
+ *         the records are written by the thread that logs them.
+ *     </li>
+ *     <li>
  *         openMetadataArchiveConnections is a list of Open Metadata Archive Connections.
  *         An open metadata archive connection provides properties needed to create a connector to manage
  *         an open metadata archive.  This contains pre-built TypeDefs and metadata instance.
@@ -52,11 +58,18 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
 {
     private static final long    serialVersionUID = 1L;
 
-    private List<Connection>       auditLogConnections            = new ArrayList<>();
-    private List<Connection>       openMetadataArchiveConnections = new ArrayList<>();
-    private LocalRepositoryConfig  localRepositoryConfig          = null;
-    private EnterpriseAccessConfig enterpriseAccessConfig         = null;
-    private List<CohortConfig>     cohortConfigList               = new ArrayList<>();
+    private static final int                         defaultAuditLogQueueSize       = 0;
+    private static final int                         defaultAuditLogBatchSize       = 100;
+    private static final OMRSAuditLogQueueFullPolicy defaultAuditLogQueueFullPolicy = OMRSAuditLogQueueFullPolicy.DISCARD_NEWEST;
+
+    private List<Connection>            auditLogConnections            = new ArrayList<>();
+    private int                         auditLogQueueSize              = defaultAuditLogQueueSize;
+    private int                         auditLogBatchSize              = defaultAuditLogBatchSize;
+    private OMRSAuditLogQueueFullPolicy auditLogQueueFullPolicy        = defaultAuditLogQueueFullPolicy;
+    private List<Connection>            openMetadataArchiveConnections = new ArrayList<>();
+    private LocalRepositoryConfig       localRepositoryConfig          = null;
+    private EnterpriseAccessConfig      enterpriseAccessConfig         = null;
+    private List<CohortConfig>          cohortConfigList               = new ArrayList<>();
 
 
     /**
@@ -80,6 +93,9 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
         if (template != null)
         {
             this.auditLogConnections = template.getAuditLogConnections();
+            this.auditLogQueueSize = template.getAuditLogQueueSize();
+            this.auditLogBatchSize = template.getAuditLogBatchSize();
+            this.auditLogQueueFullPolicy = template.getAuditLogQueueFullPolicy();
             this.openMetadataArchiveConnections = template.getOpenMetadataArchiveConnections();
             this.localRepositoryConfig = template.getLocalRepositoryConfig();
             this.enterpriseAccessConfig = template.getEnterpriseAccessConfig();
@@ -121,6 +137,74 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of audit log records that can wait to be written to each audit log destination.
+     * Zero means the audit log records are written by the thread that logs them.
+     *
+     * @return queue size
+     */
+    public int getAuditLogQueueSize()
+    {
+        return auditLogQueueSize;
+    }
+
+
+    /**
+     * Set up the maximum number of audit log records that can wait to be written to each audit log destination.
+     * Zero means the audit log records are written by the thread that logs them.
+     *
+     * @param auditLogQueueSize queue size
+     */
+    public void setAuditLogQueueSize(int auditLogQueueSize)
+    {
+        this.auditLogQueueSize = auditLogQueueSize;
+    }
+
+
+    /**
+     * Return the maximum number of queued audit log records that are passed to an audit log destination at once.
+     *
+     * @return batch size
+     */
+    public int getAuditLogBatchSize()
+    {
+        return auditLogBatchSize;
+    }
+
+
+    /**
+     * Set up the maximum number of queued audit log records that are passed to an audit log destination at once.
+     *
+     * @param auditLogBatchSize batch size
+     */
+    public void setAuditLogBatchSize(int auditLogBatchSize)
+    {
+        this.auditLogBatchSize = auditLogBatchSize;
+    }
+
+
+    /**
+     * Return what happens to a new audit log record when the queue for an audit log destination is full.
+     *
+     * @return policy
+     */
+    public OMRSAuditLogQueueFullPolicy getAuditLogQueueFullPolicy()
+    {
+        return auditLogQueueFullPolicy;
+    }
+
+
+    /**
+     * Set up what happens to a new audit log record when the queue for an audit log destination is full.
+     *
+     * @param auditLogQueueFullPolicy policy
+     */
+    public void setAuditLogQueueFullPolicy(OMRSAuditLogQueueFullPolicy auditLogQueueFullPolicy)
+    {
+        this.auditLogQueueFullPolicy = auditLogQueueFullPolicy;
+    }
+
+
     /**
      * Return the list of Connection object, each of which is used to create the Connector to an Open Metadata
      * Archive.  Open Metadata Archive contains pre-built metadata types and instances.
@@ -247,6 +331,9 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
     {
         return "RepositoryServicesConfig{" +
                 "auditLogConnections=" + auditLogConnections +
+                ", auditLogQueueSize=" + auditLogQueueSize +
+                ", auditLogBatchSize=" + auditLogBatchSize +
+                ", auditLogQueueFullPolicy=" + auditLogQueueFullPolicy +
                 ", openMetadataArchiveConnections=" + openMetadataArchiveConnections +
                 ", localRepositoryConfig=" + localRepositoryConfig +
                 ", enterpriseAccessConfig=" + enterpriseAccessConfig +
@@ -273,7 +360,10 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
             return false;
         }
         RepositoryServicesConfig that = (RepositoryServicesConfig) objectToCompare;
-        return Objects.equals(getAuditLogConnections(), that.getAuditLogConnections()) &&
+        return getAuditLogQueueSize() == that.getAuditLogQueueSize() &&
+                getAuditLogBatchSize() == that.getAuditLogBatchSize() &&
+                getAuditLogQueueFullPolicy() == that.getAuditLogQueueFullPolicy() &&
+                Objects.equals(getAuditLogConnections(), that.getAuditLogConnections()) &&
                 Objects.equals(getOpenMetadataArchiveConnections(), that.getOpenMetadataArchiveConnections()) &&
                 Objects.equals(getLocalRepositoryConfig(), that.getLocalRepositoryConfig()) &&
                 Objects.equals(getEnterpriseAccessConfig(), that.getEnterpriseAccessConfig()) &&
@@ -289,7 +379,8 @@ public class RepositoryServicesConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getAuditLogConnections(), getOpenMetadataArchiveConnections(), getLocalRepositoryConfig(),
+        return Objects.hash(getAuditLogConnections(), getAuditLogQueueSize(), getAuditLogBatchSize(), getAuditLogQueueFullPolicy(),
+                            getOpenMetadataArchiveConnections(), getLocalRepositoryConfig(),
                             getEnterpriseAccessConfig(), getCohortConfigList());
     }
 }
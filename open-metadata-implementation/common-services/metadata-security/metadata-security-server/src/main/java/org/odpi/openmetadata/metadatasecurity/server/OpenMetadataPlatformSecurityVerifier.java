@@ -12,12 +12,14 @@ import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode
 
 
 /**
- * OpenMetadataPlatformSecurityVerifier provides the plug-in point for the open metadata platform connector
+ * OpenMetadataPlatformSecurityVerifier provides the plug-in point for the open metadata platform connector.
+ * The validate methods are called on every request to the platform so they do not lock - they use
+ * whichever connector was last started.
  */
 public class OpenMetadataPlatformSecurityVerifier
 {
-    private static Connection                            platformSecurityConnection = null;
-    private static OpenMetadataPlatformSecurityConnector platformSecurityConnector  = null;
+    private static          Connection                            platformSecurityConnection = null;
+    private static volatile OpenMetadataPlatformSecurityConnector platformSecurityConnector  = null;
 
     /**
      * Override the default location of the configuration documents.
@@ -47,13 +49,16 @@ public class OpenMetadataPlatformSecurityVerifier
 
         try
         {
-            ConnectorBroker connectorBroker = new ConnectorBroker();
-            Connector       newConnector    = connectorBroker.getConnector(connection);
+            ConnectorBroker                       connectorBroker   = new ConnectorBroker();
+            Connector                             newConnector      = connectorBroker.getConnector(connection);
+            OpenMetadataPlatformSecurityConnector securityConnector = (OpenMetadataPlatformSecurityConnector)newConnector;
 
-            platformSecurityConnector = (OpenMetadataPlatformSecurityConnector)newConnector;
-
-            platformSecurityConnector.setServerPlatformURL(serverPlatformURL);
-            platformSecurityConnector.start();
+            /*
+             * The connector is only used by the validate methods once it has started.
+             */
+            securityConnector.setServerPlatformURL(serverPlatformURL);
+            securityConnector.start();
+            platformSecurityConnector  = securityConnector;
             platformSecurityConnection = connection;
         }
         catch (Throwable error)
@@ -122,11 +127,13 @@ public class OpenMetadataPlatformSecurityVerifier
      *
      * @throws UserNotAuthorizedException the user is not authorized to access this platform
      */
-    public static synchronized void  validateUserForNewServer(String   userId) throws UserNotAuthorizedException
+    public static void  validateUserForNewServer(String   userId) throws UserNotAuthorizedException
     {
-        if (platformSecurityConnector != null)
+        OpenMetadataPlatformSecurityConnector securityConnector = platformSecurityConnector;
+
+        if (securityConnector != null)
         {
-            platformSecurityConnector.validateUserForNewServer(userId);
+            securityConnector.validateUserForNewServer(userId);
         }
     }
 
@@ -138,11 +145,13 @@ public class OpenMetadataPlatformSecurityVerifier
      *
      * @throws UserNotAuthorizedException the user is not authorized to issue operator commands to this platform
      */
-    public static synchronized void  validateUserAsOperatorForPlatform(String   userId) throws UserNotAuthorizedException
+    public static void  validateUserAsOperatorForPlatform(String   userId) throws UserNotAuthorizedException
     {
-        if (platformSecurityConnector != null)
+        OpenMetadataPlatformSecurityConnector securityConnector = platformSecurityConnector;
+
+        if (securityConnector != null)
         {
-            platformSecurityConnector.validateUserAsOperatorForPlatform(userId);
+            securityConnector.validateUserAsOperatorForPlatform(userId);
         }
     }
 
@@ -154,11 +163,13 @@ public class OpenMetadataPlatformSecurityVerifier
      *
      * @throws UserNotAuthorizedException the user is not authorized to issue diagnostic commands to this platform
      */
-    public static synchronized void  validateUserAsInvestigatorForPlatform(String   userId) throws UserNotAuthorizedException
+    public static void  validateUserAsInvestigatorForPlatform(String   userId) throws UserNotAuthorizedException
     {
-        if (platformSecurityConnector != null)
+        OpenMetadataPlatformSecurityConnector securityConnector = platformSecurityConnector;
+
+        if (securityConnector != null)
         {
-            platformSecurityConnector.validateUserAsInvestigatorForPlatform(userId);
+            securityConnector.validateUserAsInvestigatorForPlatform(userId);
         }
     }
 }
@@ -12,6 +12,7 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
@@ -19,12 +20,12 @@ import java.util.*;
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private String                                 serverType;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private          String                                 serverName;
+    private volatile String                                 serverType;
+    private          List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
+    private volatile Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private          Date                                   serverStartTime    = new Date();
+    private final    OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -181,7 +182,7 @@ class OMAGServerInstance
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -196,7 +197,7 @@ class OMAGServerInstance
     synchronized  void registerService(String                    serviceName,
                                        OMAGServerServiceInstance serviceInstance)
     {
-        if (serviceInstance != null)
+        if ((serviceName != null) && (serviceInstance != null))
         {
             serviceInstanceMap.put(serviceName, serviceInstance);
             serviceInstance.setSecurityVerifier(securityVerifier);
@@ -206,6 +207,7 @@ class OMAGServerInstance
 
     /**
      * Return the properties for this running service or exceptions if there are problems.
+     * This is called for every request to the server so it does not lock the server instance.
      *
      * @param userId calling user
      * @param serviceName server name
@@ -215,10 +217,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -230,7 +232,12 @@ class OMAGServerInstance
             throw new UserNotAuthorizedException(error);
         }
 
-        OMAGServerServiceInstance serverServiceInstance = serviceInstanceMap.get(serviceName);
+        OMAGServerServiceInstance serverServiceInstance = null;
+
+        if (serviceName != null)
+        {
+            serverServiceInstance = serviceInstanceMap.get(serviceName);
+        }
 
         if (serverServiceInstance == null)
         {
@@ -252,7 +259,10 @@ class OMAGServerInstance
      */
     synchronized  void unRegisterService(String   serviceName)
     {
-        serviceInstanceMap.remove(serviceName);
+        if (serviceName != null)
+        {
+            serviceInstanceMap.remove(serviceName);
+        }
     }
 
 
@@ -269,7 +279,7 @@ class OMAGServerInstance
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            this.serviceInstanceMap = new ConcurrentHashMap<>();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
                                                                                                                      serviceInstanceMap.keySet().toString()),
                                               this.getClass().getName(),
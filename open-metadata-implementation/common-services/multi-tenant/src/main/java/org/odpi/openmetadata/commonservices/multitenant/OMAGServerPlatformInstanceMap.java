@@ -26,12 +26,57 @@ import java.util.*;
  * service instances for the requested server.  It manages the server name to server instance mapping.
  * The map is maintained in a static so it is scoped to the class loader.
  *
- * Instances of this class call the synchronized static methods to work with the map.
+ * Instances of this class call the static methods to work with the map.  Every inbound REST request looks up
+ * its server in the map, so the lookups do not take a lock.  They read an immutable snapshot of the map that is
+ * replaced (under the class monitor) when a server starts or stops.
  */
 public class OMAGServerPlatformInstanceMap
 {
-    private static Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>();
-    private static Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>();
+    private static volatile ServerInstanceMaps serverInstanceMaps = new ServerInstanceMaps(new HashMap<>(), new HashMap<>());
+
+
+    /**
+     * ServerInstanceMaps is an immutable snapshot of the active and inactive servers.  Both maps are held
+     * together so a reader sees a consistent view when a server moves from one to the other.
+     */
+    private static class ServerInstanceMaps
+    {
+        private final Map<String, OMAGServerInstance> activeServerInstanceMap;
+        private final Map<String, OMAGServerInstance> inActiveServerInstanceMap;
+
+
+        /**
+         * Constructor takes ownership of the maps - they must not be changed afterwards.
+         *
+         * @param activeServerInstanceMap servers that are running
+         * @param inActiveServerInstanceMap servers that have run in the past
+         */
+        ServerInstanceMaps(Map<String, OMAGServerInstance> activeServerInstanceMap,
+                           Map<String, OMAGServerInstance> inActiveServerInstanceMap)
+        {
+            this.activeServerInstanceMap   = Collections.unmodifiableMap(activeServerInstanceMap);
+            this.inActiveServerInstanceMap = Collections.unmodifiableMap(inActiveServerInstanceMap);
+        }
+
+
+        /**
+         * Return the instance for a server whether it is active or inactive.
+         *
+         * @param serverName name of the server
+         * @return server instance or null
+         */
+        OMAGServerInstance getKnownServerInstance(String serverName)
+        {
+            OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
+
+            if (serverInstance == null)
+            {
+                serverInstance = inActiveServerInstanceMap.get(serverName);
+            }
+
+            return serverInstance;
+        }
+    }
 
 
     /**
@@ -398,42 +443,50 @@ public class OMAGServerPlatformInstanceMap
 
 
     /**
-     * Return an active server instance object for the requested service.  The server instance
-     * may be new, already active, or known but inactive.
+     * Mark a server instance as active.  A new snapshot of the map is published if the server was not already
+     * active.  The caller must hold the class monitor.
+     *
+     * @param serverInstance instance of the server
+     */
+    private static void setServerInstanceActive(OMAGServerInstance serverInstance)
+    {
+        ServerInstanceMaps currentMaps = serverInstanceMaps;
+        String             serverName  = serverInstance.getServerName();
+
+        if (currentMaps.activeServerInstanceMap.get(serverName) != serverInstance)
+        {
+            Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>(currentMaps.activeServerInstanceMap);
+            Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>(currentMaps.inActiveServerInstanceMap);
+
+            activeServerInstanceMap.put(serverName, serverInstance);
+            inActiveServerInstanceMap.remove(serverName);
+
+            serverInstanceMaps = new ServerInstanceMaps(activeServerInstanceMap, inActiveServerInstanceMap);
+        }
+    }
+
+
+    /**
+     * Return the server instance object for the requested server.  The server instance
+     * may be new, already active, or known but inactive.  It is not moved to the active map.
+     * The caller must hold the class monitor.
      *
      * @param serverName name of the server
-     * @return active OMAGServerInstance object
+     * @return OMAGServerInstance object
      */
-    private static synchronized OMAGServerInstance getActiveServerInstance(String serverName)
+    private static OMAGServerInstance getServerInstanceForUpdate(String serverName)
     {
         /*
-         * Is this a server that is currently running?
+         * Is this a server that is currently running or a known server that is currently inactive?
          */
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.getKnownServerInstance(serverName);
 
         if (serverInstance == null)
         {
             /*
-             * Is this a known server that is currently inactive?
+             * New server for this platform
              */
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-
-            if (serverInstance == null)
-            {
-                /*
-                 * New server for this platform
-                 */
-                serverInstance = new OMAGServerInstance(serverName);
-                activeServerInstanceMap.put(serverName, serverInstance);
-            }
-            else
-            {
-                /*
-                 * Move the inactive server to active
-                 */
-                activeServerInstanceMap.put(serverName, serverInstance);
-                inActiveServerInstanceMap.remove(serverName);
-            }
+            serverInstance = new OMAGServerInstance(serverName);
         }
 
         return serverInstance;
@@ -453,13 +506,15 @@ public class OMAGServerPlatformInstanceMap
                                                              String                    serviceName,
                                                              OMAGServerServiceInstance instance)
     {
-        OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
+        OMAGServerInstance  serverInstance = getServerInstanceForUpdate(serverName);
 
         serverInstance.registerService(serviceName, instance);
         if (serverType != null)
         {
             serverInstance.setServerType(serverType);
         }
+
+        setServerInstanceActive(serverInstance);
     }
 
 
@@ -478,10 +533,18 @@ public class OMAGServerPlatformInstanceMap
                                                                                                AuditLog     auditLog,
                                                                                                Connection   connection) throws InvalidParameterException
     {
-        OMAGServerInstance  serverInstance = getActiveServerInstance(serverName);
+        OMAGServerInstance  serverInstance = getServerInstanceForUpdate(serverName);
 
+        /*
+         * The server is only visible to requests once its security is in place.
+         */
         serverInstance.initialize();
-        return serverInstance.registerSecurityValidator(localServerUserId, auditLog, connection);
+
+        OpenMetadataServerSecurityVerifier securityVerifier = serverInstance.registerSecurityValidator(localServerUserId, auditLog, connection);
+
+        setServerInstanceActive(serverInstance);
+
+        return securityVerifier;
     }
 
 
@@ -496,14 +559,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized String getServerInstanceType(String  userId,
-                                                             String  serverName,
-                                                             String  serviceOperationName) throws InvalidParameterException,
-                                                                                                  UserNotAuthorizedException
+    private static String getServerInstanceType(String  userId,
+                                                String  serverName,
+                                                String  serviceOperationName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        OMAGServerInstance serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance serverInstance = serverInstanceMaps.activeServerInstanceMap.get(serverName);
 
         if (serverInstance != null)
         {
@@ -531,12 +594,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceActive(String  userId,
-                                                               String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceActive(String  userId,
+                                                  String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return (activeServerInstanceMap.get(serverName) != null);
+        return (serverInstanceMaps.activeServerInstanceMap.get(serverName) != null);
     }
 
 
@@ -551,13 +614,12 @@ public class OMAGServerPlatformInstanceMap
      * @return boolean
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized boolean isServerInstanceKnown(String  userId,
-                                                              String  serverName) throws UserNotAuthorizedException
+    private static boolean isServerInstanceKnown(String  userId,
+                                                 String  serverName) throws UserNotAuthorizedException
     {
         validateUserAsInvestigatorForPlatform(userId);
 
-        return ((activeServerInstanceMap.get(serverName) != null) ||
-                (inActiveServerInstanceMap.get(serverName) != null));
+        return (serverInstanceMaps.getKnownServerInstance(serverName) != null);
     }
 
 
@@ -574,14 +636,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      * @throws PropertyServerException the service name is not know - indicating a logic error
      */
-    private static synchronized OMAGServerServiceInstance getInstanceForPlatform(String  userId,
-                                                                                 String  serverName,
-                                                                                 String  serviceName,
-                                                                                 String  serviceOperationName) throws InvalidParameterException,
-                                                                                                                      UserNotAuthorizedException,
-                                                                                                                      PropertyServerException
+    private static OMAGServerServiceInstance getInstanceForPlatform(String  userId,
+                                                                    String  serverName,
+                                                                    String  serviceName,
+                                                                    String  serviceOperationName) throws InvalidParameterException,
+                                                                                                         UserNotAuthorizedException,
+                                                                                                         PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.activeServerInstanceMap.get(serverName);
 
         if (serverInstance != null)
         {
@@ -619,7 +681,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getActiveServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -630,7 +692,7 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        Set<String>  activeServerSet = activeServerInstanceMap.keySet();
+        Set<String>  activeServerSet = serverInstanceMaps.activeServerInstanceMap.keySet();
 
         if (activeServerSet.isEmpty())
         {
@@ -650,7 +712,7 @@ public class OMAGServerPlatformInstanceMap
      * @return list of OMAG server names
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
+    private static List<String> getKnownServerListForPlatform(String userId) throws UserNotAuthorizedException
     {
         try
         {
@@ -661,8 +723,10 @@ public class OMAGServerPlatformInstanceMap
             throw new UserNotAuthorizedException(error);
         }
 
-        List<String> knownServerList = new ArrayList<>(activeServerInstanceMap.keySet());
-        knownServerList.addAll(inActiveServerInstanceMap.keySet());
+        ServerInstanceMaps currentMaps     = serverInstanceMaps;
+        List<String>       knownServerList = new ArrayList<>(currentMaps.activeServerInstanceMap.keySet());
+
+        knownServerList.addAll(currentMaps.inActiveServerInstanceMap.keySet());
 
         if (knownServerList.isEmpty())
         {
@@ -682,8 +746,8 @@ public class OMAGServerPlatformInstanceMap
      * @param serverInstance instance for the server
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized void validateUserAsServerInvestigator(String              userId,
-                                                                      OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
+    private static void validateUserAsServerInvestigator(String              userId,
+                                                         OMAGServerInstance  serverInstance) throws UserNotAuthorizedException
     {
         if (serverInstance != null)
         {
@@ -711,18 +775,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerStartTimeFromPlatform(String  userId,
-                                                                     String  serverName) throws InvalidParameterException,
-                                                                                                UserNotAuthorizedException
+    private static  Date getServerStartTimeFromPlatform(String  userId,
+                                                        String  serverName) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException
     {
         final String  methodName = "getServerStartTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstanceMaps.getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -748,18 +807,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  Date getServerEndTimeFromPlatform(String  userId,
-                                                                   String  serverName) throws InvalidParameterException,
-                                                                                              UserNotAuthorizedException
+    private static  Date getServerEndTimeFromPlatform(String  userId,
+                                                      String  serverName) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException
     {
         final String  methodName = "getServerEndTimeFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstanceMaps.getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -785,18 +839,13 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the serverName is not known.
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
-                                                                                              String  serverName) throws InvalidParameterException,
-                                                                                                                         UserNotAuthorizedException
+    private static  List<OMAGServerInstanceHistory> getServerHistoryFromPlatform(String  userId,
+                                                                                 String  serverName) throws InvalidParameterException,
+                                                                                                            UserNotAuthorizedException
     {
         final String  methodName = "getServerHistoryFromPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
-
-        if (serverInstance == null)
-        {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
-        }
+        OMAGServerInstance  serverInstance = serverInstanceMaps.getKnownServerInstance(serverName);
 
         if (serverInstance != null)
         {
@@ -821,13 +870,14 @@ public class OMAGServerPlatformInstanceMap
      * @throws InvalidParameterException the server name is not known
      * @throws UserNotAuthorizedException the user is not authorized to issue the request.
      */
-    private static synchronized List<String>   getActiveServiceListForServerOnPlatform(String userId,
-                                                                                       String serverName) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException
+    private static List<String>   getActiveServiceListForServerOnPlatform(String userId,
+                                                                          String serverName) throws InvalidParameterException,
+                                                                                                    UserNotAuthorizedException
     {
         final String  methodName = "getActiveServiceListForServerOnPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        ServerInstanceMaps  currentMaps    = serverInstanceMaps;
+        OMAGServerInstance  serverInstance = currentMaps.activeServerInstanceMap.get(serverName);
 
         if (serverInstance != null)
         {
@@ -837,7 +887,7 @@ public class OMAGServerPlatformInstanceMap
         }
         else /* server is not active */
         {
-            serverInstance = inActiveServerInstanceMap.get(serverName);
+            serverInstance = currentMaps.inActiveServerInstanceMap.get(serverName);
 
             if (serverInstance != null)
             {
@@ -859,10 +909,10 @@ public class OMAGServerPlatformInstanceMap
      * @param serverName name of the server
      * @param serviceName name of the service running on the server
      */
-    private static synchronized void removeInstanceForPlatform(String   serverName,
-                                                               String   serviceName)
+    private static void removeInstanceForPlatform(String   serverName,
+                                                  String   serviceName)
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.activeServerInstanceMap.get(serverName);
 
         if (serverInstance != null)
         {
@@ -885,7 +935,7 @@ public class OMAGServerPlatformInstanceMap
                                                        String   methodName) throws InvalidParameterException,
                                                                                    PropertyServerException
     {
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.activeServerInstanceMap.get(serverName);
 
         if (serverInstance == null)
         {
@@ -903,8 +953,14 @@ public class OMAGServerPlatformInstanceMap
             }
             finally
             {
+                ServerInstanceMaps              currentMaps               = serverInstanceMaps;
+                Map<String, OMAGServerInstance> activeServerInstanceMap   = new HashMap<>(currentMaps.activeServerInstanceMap);
+                Map<String, OMAGServerInstance> inActiveServerInstanceMap = new HashMap<>(currentMaps.inActiveServerInstanceMap);
+
                 inActiveServerInstanceMap.put(serverName, serverInstance);
                 activeServerInstanceMap.remove(serverName);
+
+                serverInstanceMaps = new ServerInstanceMaps(activeServerInstanceMap, inActiveServerInstanceMap);
             }
         }
     }
@@ -919,12 +975,12 @@ public class OMAGServerPlatformInstanceMap
      * @return OpenMetadataServerSecurityVerifier object - never null
      * @throws InvalidParameterException the server name is not known
      */
-    private static synchronized OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
-                                                                                                        String    serverName) throws InvalidParameterException
+    private static OpenMetadataServerSecurityVerifier getServerSecurityVerifierForPlatform(String    userId,
+                                                                                           String    serverName) throws InvalidParameterException
     {
         final String  methodName = "getServerSecurityVerifierForPlatform";
 
-        OMAGServerInstance  serverInstance = activeServerInstanceMap.get(serverName);
+        OMAGServerInstance  serverInstance = serverInstanceMaps.activeServerInstanceMap.get(serverName);
 
         if (serverInstance != null)
         {
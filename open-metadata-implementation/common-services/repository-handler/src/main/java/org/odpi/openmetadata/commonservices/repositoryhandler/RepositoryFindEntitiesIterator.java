@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetailPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
@@ -122,23 +123,60 @@ public class RepositoryFindEntitiesIterator extends RepositoryIteratorForEntitie
              */
             while ((entitiesCache != null) && (entitiesCache.isEmpty()))
             {
-                entitiesCache = repositoryHandler.findEntities(userId,
-                                                               entityTypeGUID,
-                                                               entitySubtypeGUIDs,
-                                                               searchProperties,
-                                                               limitResultsByStatus,
-                                                               searchClassifications,
-                                                               asOfTime,
-                                                               sequencingProperty,
-                                                               sequencingOrder,
-                                                               forLineage,
-                                                               forDuplicateProcessing,
-                                                               startingFrom,
-                                                               pageSize,
-                                                               effectiveTime,
-                                                               methodName);
+                if (useContinuationToken)
+                {
+                    if (lastPageReceived)
+                    {
+                        entitiesCache = null;
+                    }
+                    else
+                    {
+                        EntityDetailPage page = repositoryHandler.findEntitiesPage(userId,
+                                                                                   entityTypeGUID,
+                                                                                   entitySubtypeGUIDs,
+                                                                                   searchProperties,
+                                                                                   limitResultsByStatus,
+                                                                                   searchClassifications,
+                                                                                   asOfTime,
+                                                                                   sequencingProperty,
+                                                                                   sequencingOrder,
+                                                                                   forLineage,
+                                                                                   forDuplicateProcessing,
+                                                                                   continuationToken,
+                                                                                   pageSize,
+                                                                                   effectiveTime,
+                                                                                   methodName);
 
-                startingFrom = startingFrom + pageSize;
+                        if (page == null)
+                        {
+                            entitiesCache = this.receivePage(null, null);
+                        }
+                        else
+                        {
+                            entitiesCache = this.receivePage(page.getEntities(), page.getContinuationToken());
+                        }
+                    }
+                }
+                else
+                {
+                    entitiesCache = repositoryHandler.findEntities(userId,
+                                                                   entityTypeGUID,
+                                                                   entitySubtypeGUIDs,
+                                                                   searchProperties,
+                                                                   limitResultsByStatus,
+                                                                   searchClassifications,
+                                                                   asOfTime,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   forLineage,
+                                                                   forDuplicateProcessing,
+                                                                   startingFrom,
+                                                                   pageSize,
+                                                                   effectiveTime,
+                                                                   methodName);
+
+                    startingFrom = startingFrom + pageSize;
+                }
             }
         }
 
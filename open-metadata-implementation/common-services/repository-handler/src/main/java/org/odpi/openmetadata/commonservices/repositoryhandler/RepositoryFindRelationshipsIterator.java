@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 
 import java.util.ArrayList;
@@ -114,21 +115,56 @@ public class RepositoryFindRelationshipsIterator extends RepositoryIterator
              */
             while ((relationshipsCache != null) && (relationshipsCache.isEmpty()))
             {
-                relationshipsCache = repositoryHandler.findRelationships(userId,
-                                                                         relationshipTypeGUID,
-                                                                         relationshipSubtypeGUIDs,
-                                                                         searchProperties,
-                                                                         limitResultsByStatus,
-                                                                         asOfTime,
-                                                                         sequencingProperty,
-                                                                         sequencingOrder,
-                                                                         forDuplicateProcessing,
-                                                                         startingFrom,
-                                                                         pageSize,
-                                                                         effectiveTime,
-                                                                         methodName);
+                if (useContinuationToken)
+                {
+                    if (lastPageReceived)
+                    {
+                        relationshipsCache = null;
+                    }
+                    else
+                    {
+                        RelationshipPage page = repositoryHandler.findRelationshipsPage(userId,
+                                                                                        relationshipTypeGUID,
+                                                                                        relationshipSubtypeGUIDs,
+                                                                                        searchProperties,
+                                                                                        limitResultsByStatus,
+                                                                                        asOfTime,
+                                                                                        sequencingProperty,
+                                                                                        sequencingOrder,
+                                                                                        forDuplicateProcessing,
+                                                                                        continuationToken,
+                                                                                        pageSize,
+                                                                                        effectiveTime,
+                                                                                        methodName);
 
-                startingFrom = startingFrom + pageSize;
+                        if (page == null)
+                        {
+                            relationshipsCache = this.receivePage(null, null);
+                        }
+                        else
+                        {
+                            relationshipsCache = this.receivePage(page.getRelationships(), page.getContinuationToken());
+                        }
+                    }
+                }
+                else
+                {
+                    relationshipsCache = repositoryHandler.findRelationships(userId,
+                                                                             relationshipTypeGUID,
+                                                                             relationshipSubtypeGUIDs,
+                                                                             searchProperties,
+                                                                             limitResultsByStatus,
+                                                                             asOfTime,
+                                                                             sequencingProperty,
+                                                                             sequencingOrder,
+                                                                             forDuplicateProcessing,
+                                                                             startingFrom,
+                                                                             pageSize,
+                                                                             effectiveTime,
+                                                                             methodName);
+
+                    startingFrom = startingFrom + pageSize;
+                }
             }
         }
 
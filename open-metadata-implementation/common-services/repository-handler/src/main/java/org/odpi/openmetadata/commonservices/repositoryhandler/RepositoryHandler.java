@@ -4446,6 +4446,96 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied criteria.  The continuation token returned with the page
+     * is passed on the next call to retrieve the following page.  This avoids the repositories having to skip over
+     * the elements that have already been returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param searchProperties Optional list of entity property conditions to match.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param searchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param forLineage the request is to support lineage retrieval this means entities with the Memento classification can be returned
+     * @param forDuplicateProcessing the request is for duplicate processing and so must not deduplicate
+     * @param continuationToken token returned with the previous page - null for the first page
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return page of entities matching the supplied criteria (the list may be empty if all of the entities were
+     * filtered out) and the token for the next page; null means no matching entities in the metadata collection
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    public EntityDetailPage findEntitiesPage(String                userId,
+                                             String                entityTypeGUID,
+                                             List<String>          entitySubtypeGUIDs,
+                                             SearchProperties      searchProperties,
+                                             List<InstanceStatus>  limitResultsByStatus,
+                                             SearchClassifications searchClassifications,
+                                             Date                  asOfTime,
+                                             String                sequencingProperty,
+                                             SequencingOrder       sequencingOrder,
+                                             boolean               forLineage,
+                                             boolean               forDuplicateProcessing,
+                                             String                continuationToken,
+                                             int                   pageSize,
+                                             Date                  effectiveTime,
+                                             String                methodName) throws UserNotAuthorizedException,
+                                                                                      PropertyServerException
+    {
+        final String localMethodName = "findEntitiesPage";
+
+        try
+        {
+            EntityDetailPage retrievedPage = metadataCollection.findEntitiesPage(userId,
+                                                                                 entityTypeGUID,
+                                                                                 entitySubtypeGUIDs,
+                                                                                 searchProperties,
+                                                                                 continuationToken,
+                                                                                 limitResultsByStatus,
+                                                                                 searchClassifications,
+                                                                                 asOfTime,
+                                                                                 sequencingProperty,
+                                                                                 sequencingOrder,
+                                                                                 pageSize);
+
+            if ((retrievedPage == null) ||
+                ((retrievedPage.getEntities() == null) && (retrievedPage.getContinuationToken() == null)))
+            {
+                return null;
+            }
+
+            return new EntityDetailPage(this.validateEntities(userId,
+                                                              retrievedPage.getEntities(),
+                                                              null,
+                                                              forLineage,
+                                                              forDuplicateProcessing,
+                                                              effectiveTime,
+                                                              methodName),
+                                        retrievedPage.getContinuationToken());
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
@@ -4530,6 +4620,91 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token returned with
+     * the page is passed on the next call to retrieve the following page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the relationshipTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param searchProperties Optional list of entity property conditions to match.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param forDuplicateProcessing       the request is for duplicate processing and so must not deduplicate
+     * @param continuationToken token returned with the previous page - null for the first page
+     * @param pageSize the maximum number of result relationships that can be returned on this request.
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName calling method
+     * @return page of relationships (the list may be empty if all of the relationships were filtered out) and the token
+     * for the next page.  Null means no matching relationships.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    public RelationshipPage findRelationshipsPage(String                userId,
+                                                  String                relationshipTypeGUID,
+                                                  List<String>          relationshipSubtypeGUIDs,
+                                                  SearchProperties      searchProperties,
+                                                  List<InstanceStatus>  limitResultsByStatus,
+                                                  Date                  asOfTime,
+                                                  String                sequencingProperty,
+                                                  SequencingOrder       sequencingOrder,
+                                                  boolean               forDuplicateProcessing,
+                                                  String                continuationToken,
+                                                  int                   pageSize,
+                                                  Date                  effectiveTime,
+                                                  String                methodName) throws UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        final String localMethodName = "findRelationshipsPage";
+
+        try
+        {
+            RelationshipPage retrievedPage = metadataCollection.findRelationshipsPage(userId,
+                                                                                      relationshipTypeGUID,
+                                                                                      relationshipSubtypeGUIDs,
+                                                                                      searchProperties,
+                                                                                      continuationToken,
+                                                                                      limitResultsByStatus,
+                                                                                      asOfTime,
+                                                                                      sequencingProperty,
+                                                                                      sequencingOrder,
+                                                                                      pageSize);
+
+            if ((retrievedPage == null) ||
+                ((retrievedPage.getRelationships() == null) && (retrievedPage.getContinuationToken() == null)))
+            {
+                return null;
+            }
+
+            RelationshipAccumulator accumulator = new RelationshipAccumulator(repositoryHelper,
+                                                                              this,
+                                                                              forDuplicateProcessing,
+                                                                              effectiveTime,
+                                                                              methodName);
+
+            accumulator.addRelationships(retrievedPage.getRelationships());
+
+            return new RelationshipPage(accumulator.getRelationships(), retrievedPage.getContinuationToken());
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the current version of a requested relationship.
      *
@@ -4741,6 +4916,123 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return a page of the relationships of the requested type connected to the starting entity.  The continuation
+     * token returned with the page is passed on the next call to retrieve the following page.
+     *
+     * @param userId  user making the request
+     * @param startingEntityGUID  starting entity's GUID
+     * @param startingEntityTypeName  starting entity's type name
+     * @param relationshipTypeGUID  identifier for the relationship to follow
+     * @param relationshipTypeName  type name for the relationship to follow
+     * @param forDuplicateProcessing is this call part of duplicate processing?
+     * @param continuationToken token returned with the previous page - null for the first page
+     * @param pageSize maximum number of definitions to return on this call.
+     * @param effectiveTime the time that the retrieved elements must be effective for (null for any time, new Date() for now)
+     * @param methodName  name of calling method
+     *
+     * @return page of retrieved relationships (the list may be empty if all of the relationships were filtered out)
+     * and the token for the next page or null if there are no relationships
+     *
+     * @throws UserNotAuthorizedException security access problem
+     * @throws PropertyServerException problem accessing the property server
+     */
+    public RelationshipPage getRelationshipsByTypePage(String  userId,
+                                                       String  startingEntityGUID,
+                                                       String  startingEntityTypeName,
+                                                       String  relationshipTypeGUID,
+                                                       String  relationshipTypeName,
+                                                       boolean forDuplicateProcessing,
+                                                       String  continuationToken,
+                                                       int     pageSize,
+                                                       Date    effectiveTime,
+                                                       String  methodName) throws UserNotAuthorizedException,
+                                                                                  PropertyServerException
+    {
+        final String localMethodName = "getRelationshipsByTypePage";
+
+        final String typeGUIDParameterName = "relationshipTypeGUID";
+        final String typeNameParameterName = "relationshipTypeName";
+
+        errorHandler.validateTypeIdentifiers(relationshipTypeGUID,
+                                             typeGUIDParameterName,
+                                             relationshipTypeName,
+                                             typeNameParameterName,
+                                             methodName,
+                                             localMethodName);
+
+        try
+        {
+            RelationshipPage retrievedPage = metadataCollection.getRelationshipsForEntityPage(userId,
+                                                                                              startingEntityGUID,
+                                                                                              relationshipTypeGUID,
+                                                                                              continuationToken,
+                                                                                              null,
+                                                                                              null,
+                                                                                              null,
+                                                                                              SequencingOrder.GUID,
+                                                                                              pageSize);
+
+            if ((retrievedPage == null) ||
+                ((retrievedPage.getRelationships() == null) && (retrievedPage.getContinuationToken() == null)))
+            {
+                if (log.isDebugEnabled())
+                {
+                    log.debug("No relationships of type " + relationshipTypeGUID + " found for entity " + startingEntityGUID);
+                }
+
+                return null;
+            }
+
+            /*
+             * Validate the types of the element returned and filter out those relationships that are not effective.
+             */
+            List<Relationship>  results = new ArrayList<>();
+
+            if (retrievedPage.getRelationships() != null)
+            {
+                for (Relationship relationship : retrievedPage.getRelationships())
+                {
+                    if (relationship != null)
+                    {
+                        errorHandler.validateInstanceType(relationship, relationshipTypeName, methodName, localMethodName);
+
+                        this.getOtherEnd(startingEntityGUID, startingEntityTypeName, relationship, methodName);
+
+                        if (this.isCorrectEffectiveTime(relationship.getProperties(), effectiveTime))
+                        {
+                            results.add(relationship);
+                        }
+                    }
+                }
+            }
+
+            /*
+             * This is further filtering for duplicates.
+             */
+            RelationshipAccumulator accumulator = new RelationshipAccumulator(repositoryHelper,
+                                                                              this,
+                                                                              forDuplicateProcessing,
+                                                                              effectiveTime,
+                                                                              methodName);
+
+            accumulator.addRelationships(results);
+
+            return new RelationshipPage(accumulator.getRelationships(), retrievedPage.getContinuationToken());
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the list of relationships of the requested type connected to the starting entity.
      * The list is expected to be small.
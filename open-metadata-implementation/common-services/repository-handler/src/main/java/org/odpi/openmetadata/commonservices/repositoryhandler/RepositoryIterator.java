@@ -6,11 +6,15 @@ package org.odpi.openmetadata.commonservices.repositoryhandler;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * RepositoryIterator is the shared interface of all repository helper iterators that retrieve entity or relationship
- * details from the repository.
+ * details from the repository.  When the iterator starts from the first element, it retrieves each page using the
+ * continuation token returned with the previous page rather than an offset so that the repositories do not need to
+ * skip over the elements that have already been returned.
  */
 public class RepositoryIterator
 {
@@ -24,6 +28,9 @@ public class RepositoryIterator
     protected String                  methodName;
     protected boolean                 forDuplicateProcessing;
     protected Date                    effectiveTime;
+    protected boolean                 useContinuationToken;
+    protected String                  continuationToken = null;
+    protected boolean                 lastPageReceived  = false;
 
     /**
      * Constructor takes the parameters used to call the repository handler.
@@ -54,10 +61,40 @@ public class RepositoryIterator
         this.forDuplicateProcessing = forDuplicateProcessing;
         this.effectiveTime = effectiveTime;
         this.pageSize = invalidParameterHandler.validatePaging(startingFrom, pageSize, methodName);
+        this.useContinuationToken = (startingFrom == 0);
 
         if (this.pageSize == 0)
         {
             this.pageSize = MAX_PAGE_SIZE;
         }
     }
+
+
+    /**
+     * Save the continuation token returned with a page of results and return the results in a form that
+     * can be used as the iterator's cache.
+     *
+     * @param results results from the page - null if they were all filtered out
+     * @param nextContinuationToken token for the following page - null if this was the last page
+     * @param <T> type of element
+     * @return list of results - empty if the caller should retrieve the next page; null if there are no more results
+     */
+    protected <T> List<T> receivePage(List<T> results,
+                                      String  nextContinuationToken)
+    {
+        continuationToken = nextContinuationToken;
+        lastPageReceived  = (nextContinuationToken == null);
+
+        if ((results == null) || (results.isEmpty()))
+        {
+            if (lastPageReceived)
+            {
+                return null;
+            }
+
+            return new ArrayList<>();
+        }
+
+        return new ArrayList<>(results);
+    }
 }
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,18 +106,50 @@ public class RepositoryRelationshipsIterator extends RepositoryIterator
              */
             while ((relationshipsCache != null) && (relationshipsCache.isEmpty()))
             {
-                relationshipsCache = repositoryHandler.getRelationshipsByType(userId,
-                                                                              startingEntityGUID,
-                                                                              startingEntityTypeName,
-                                                                              relationshipTypeGUID,
-                                                                              relationshipTypeName,
-                                                                              forDuplicateProcessing,
-                                                                              startingFrom,
-                                                                              pageSize,
-                                                                              effectiveTime,
-                                                                              methodName);
-
-                startingFrom = startingFrom + pageSize;
+                if (useContinuationToken)
+                {
+                    if (lastPageReceived)
+                    {
+                        relationshipsCache = null;
+                    }
+                    else
+                    {
+                        RelationshipPage page = repositoryHandler.getRelationshipsByTypePage(userId,
+                                                                                             startingEntityGUID,
+                                                                                             startingEntityTypeName,
+                                                                                             relationshipTypeGUID,
+                                                                                             relationshipTypeName,
+                                                                                             forDuplicateProcessing,
+                                                                                             continuationToken,
+                                                                                             pageSize,
+                                                                                             effectiveTime,
+                                                                                             methodName);
+
+                        if (page == null)
+                        {
+                            relationshipsCache = this.receivePage(null, null);
+                        }
+                        else
+                        {
+                            relationshipsCache = this.receivePage(page.getRelationships(), page.getContinuationToken());
+                        }
+                    }
+                }
+                else
+                {
+                    relationshipsCache = repositoryHandler.getRelationshipsByType(userId,
+                                                                                  startingEntityGUID,
+                                                                                  startingEntityTypeName,
+                                                                                  relationshipTypeGUID,
+                                                                                  relationshipTypeName,
+                                                                                  forDuplicateProcessing,
+                                                                                  startingFrom,
+                                                                                  pageSize,
+                                                                                  effectiveTime,
+                                                                                  methodName);
+
+                    startingFrom = startingFrom + pageSize;
+                }
             }
 
             if (relationshipsCache != null)
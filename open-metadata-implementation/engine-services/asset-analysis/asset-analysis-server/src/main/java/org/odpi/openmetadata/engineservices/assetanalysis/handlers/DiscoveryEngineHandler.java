@@ -95,7 +95,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
         if (discoveryServiceCache != null)
         {
-            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache);
+            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache, false);
         }
 
         return null;
@@ -146,7 +146,8 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                 discoveryRequestType,
                                                 analysisParameters,
                                                 annotationTypes,
-                                                discoveryServiceCache);
+                                                discoveryServiceCache,
+                                                true);
                         }
                     }
 
@@ -169,13 +170,14 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run and return the handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param requestType unique identifier of the asset that the annotations should be attached to
      * @param requestParameters name-value properties to control the governance action service
      * @param requestSourceElements metadata elements associated with the request to the governance action service
      * @param actionTargetElements metadata elements that need to be worked on by the governance action service
+     * @param startTime time the governance service may start or null for as soon as possible
      *
      * @return service handler for this request
      *
@@ -188,9 +190,10 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                          String                     requestType,
                                                          Map<String, String>        requestParameters,
                                                          List<RequestSourceElement> requestSourceElements,
-                                                         List<ActionTargetElement>  actionTargetElements) throws InvalidParameterException,
-                                                                                                                 UserNotAuthorizedException,
-                                                                                                                 PropertyServerException
+                                                         List<ActionTargetElement>  actionTargetElements,
+                                                         Date                       startTime) throws InvalidParameterException,
+                                                                                                      UserNotAuthorizedException,
+                                                                                                      PropertyServerException
     {
         final String methodName = "runGovernanceService";
 
@@ -225,8 +228,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                               governanceActionGUID,
                                                                                               governanceServiceCache);
 
-            Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString());
-            thread.start();
+            super.startGovernanceService(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName(), startTime, false);
 
             return discoveryServiceHandler;
         }
@@ -236,13 +238,14 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Queue an instance of a discovery service to run.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
      * @param suppliedAnalysisParameters parameters for the discovery
      * @param annotationTypes types of annotations that can be returned
      * @param governanceServiceCache factory for discovery services.
+     * @param waitForQueueSpace should the caller wait for space in the queue rather than have the request rejected?
      *
      * @return unique identifier for this request.
      *
@@ -254,9 +257,10 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                        String                 discoveryRequestType,
                                        Map<String, String>    suppliedAnalysisParameters,
                                        List<String>           annotationTypes,
-                                       GovernanceServiceCache governanceServiceCache) throws InvalidParameterException,
-                                                                                             UserNotAuthorizedException,
-                                                                                             PropertyServerException
+                                       GovernanceServiceCache governanceServiceCache,
+                                       boolean                waitForQueueSpace) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException
     {
         DiscoveryServiceHandler discoveryServiceHandler = this.getDiscoveryServiceHandler(assetGUID,
                                                                                           discoveryRequestType,
@@ -265,8 +269,7 @@ public class DiscoveryEngineHandler extends GovernanceEngineHandler
                                                                                           null,
                                                                                           governanceServiceCache);
 
-        Thread thread = new Thread(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName() + assetGUID + new Date().toString());
-        thread.start();
+        super.startGovernanceService(discoveryServiceHandler, governanceServiceCache.getGovernanceServiceName(), null, waitForQueueSpace);
 
         return discoveryServiceHandler.getDiscoveryReportGUID();
     }
@@ -63,13 +63,14 @@ public class RepositoryGovernanceEngineHandler extends GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run and return the handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param requestType unique identifier of the asset that the annotations should be attached to
      * @param requestParameters name-value properties to control the governance action service
      * @param requestSourceElements metadata elements associated with the request to the governance action service
      * @param actionTargetElements metadata elements that need to be worked on by the governance action service
+     * @param startTime time the governance service may start or null for as soon as possible
      *
      * @return service handler for this request
      *
@@ -81,8 +82,9 @@ public class RepositoryGovernanceEngineHandler extends GovernanceEngineHandler
                                                          String                     requestType,
                                                          Map<String, String>        requestParameters,
                                                          List<RequestSourceElement> requestSourceElements,
-                                                         List<ActionTargetElement>  actionTargetElements) throws InvalidParameterException,
-                                                                                                                 PropertyServerException
+                                                         List<ActionTargetElement>  actionTargetElements,
+                                                         Date                       startTime) throws InvalidParameterException,
+                                                                                                      PropertyServerException
     {
         final String methodName = "runGovernanceService";
 
@@ -100,8 +102,7 @@ public class RepositoryGovernanceEngineHandler extends GovernanceEngineHandler
                                                                                                                                governanceActionGUID,
                                                                                                                                governanceServiceCache);
 
-            Thread thread = new Thread(repositoryGovernanceServiceHandler, governanceServiceCache.getGovernanceServiceName() + new Date().toString());
-            thread.start();
+            super.startGovernanceService(repositoryGovernanceServiceHandler, governanceServiceCache.getGovernanceServiceName(), startTime, false);
 
             return repositoryGovernanceServiceHandler;
         }
@@ -311,6 +311,30 @@ public enum EngineHostServicesAuditCode implements AuditLogMessageSet
                              "Review the error messages and resolve the cause of the problem.  Once resolved, it is possible to " +
                                      "retry the governance action by updating its status back to REQUESTED status."),
 
+    GOVERNANCE_SERVICE_FAILED("ENGINE-HOST-SERVICES-0035",
+                              OMRSAuditLogRecordSeverity.EXCEPTION,
+                              "Governance service {0} running in governance engine {1} returned exception {2} with error message {3}",
+                              "The governance service has failed.  The worker thread that was running it is returned to the pool " +
+                                      "and continues with the next queued governance service.",
+                              "Review the error messages and resolve the cause of the problem."),
+
+    GOVERNANCE_SERVICE_EXECUTOR_STARTED("ENGINE-HOST-SERVICES-0036",
+                                        OMRSAuditLogRecordSeverity.STARTUP,
+                                        "The engine host server {0} will run up to {1} governance services at the same time, with up to {2} " +
+                                                "for each governance engine and up to {3} waiting in the queue",
+                                        "Governance services are run on a pool of worker threads.  Requests that arrive when all of the threads " +
+                                                "are busy, or the governance engine has reached its limit, wait in a queue ordered by their start time.",
+                                        "Check that the limits are appropriate for the workload and resources of the server.  They are set in " +
+                                                "the engine host services section of the server's configuration document."),
+
+    GOVERNANCE_SERVICE_DISCARDED("ENGINE-HOST-SERVICES-0037",
+                                 OMRSAuditLogRecordSeverity.ERROR,
+                                 "Governance service {0} for governance engine {1} was discarded from the queue because engine host server {2} is shutting down",
+                                 "The governance service did not run.  If it was requested by a governance action, the governance action " +
+                                         "is marked as FAILED.",
+                                 "Once the server has restarted, it is possible to retry the governance action by updating its " +
+                                         "status back to REQUESTED status."),
+
     NO_OMAS_SERVER_URL("ENGINE-HOST-SERVICES-0150",
                        OMRSAuditLogRecordSeverity.ERROR,
                        "{0} in server {1} is not configured with the platform URL root for the {2}",
@@ -264,6 +264,13 @@ public enum EngineHostServicesErrorCode implements ExceptionMessageSet
                        "the server to fail too.",
                "Add the qualified name for at least one engine to the engine service in this server's configuration document " +
                        "and then restart the server."),
+
+    GOVERNANCE_SERVICE_QUEUE_FULL(503, "ENGINE-HOST-SERVICES-503-001",
+                                  "Governance service {0} for governance engine {1} can not be queued in server {2} because {3} governance services are already waiting to run or the server is shutting down",
+                                  "The request to run the governance service is rejected.",
+                                  "Wait for the queued governance services to complete and retry the request.  If the queue is regularly full, " +
+                                          "increase the number of governance service threads or the size of the queue in the engine host " +
+                                          "services configuration and restart the server."),
  ;
 
 
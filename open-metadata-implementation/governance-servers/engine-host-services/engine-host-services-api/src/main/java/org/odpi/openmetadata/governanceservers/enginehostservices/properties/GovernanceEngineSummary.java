@@ -31,6 +31,11 @@ public class GovernanceEngineSummary implements Serializable
     private String                 governanceEngineDescription = null;
     private GovernanceEngineStatus governanceEngineStatus      = null;
     private List<String>           governanceRequestTypes      = null;
+    private int                    queuedGovernanceServices    = 0;
+    private int                    runningGovernanceServices   = 0;
+    private long                   rejectedGovernanceServices  = 0L;
+    private long                   averageQueueWaitTime        = 0L;
+    private long                   maxQueueWaitTime            = 0L;
 
 
     /**
@@ -57,6 +62,11 @@ public class GovernanceEngineSummary implements Serializable
             governanceEngineDescription = template.getGovernanceEngineDescription();
             governanceEngineStatus = template.getGovernanceEngineStatus();
             governanceRequestTypes = template.getGovernanceRequestTypes();
+            queuedGovernanceServices = template.getQueuedGovernanceServices();
+            runningGovernanceServices = template.getRunningGovernanceServices();
+            rejectedGovernanceServices = template.getRejectedGovernanceServices();
+            averageQueueWaitTime = template.getAverageQueueWaitTime();
+            maxQueueWaitTime = template.getMaxQueueWaitTime();
         }
     }
 
@@ -224,6 +234,116 @@ public class GovernanceEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the number of governance services for this governance engine that are waiting to run.
+     *
+     * @return count
+     */
+    public int getQueuedGovernanceServices()
+    {
+        return queuedGovernanceServices;
+    }
+
+
+    /**
+     * Set up the number of governance services for this governance engine that are waiting to run.
+     *
+     * @param queuedGovernanceServices count
+     */
+    public void setQueuedGovernanceServices(int queuedGovernanceServices)
+    {
+        this.queuedGovernanceServices = queuedGovernanceServices;
+    }
+
+
+    /**
+     * Return the number of governance services for this governance engine that are running.
+     *
+     * @return count
+     */
+    public int getRunningGovernanceServices()
+    {
+        return runningGovernanceServices;
+    }
+
+
+    /**
+     * Set up the number of governance services for this governance engine that are running.
+     *
+     * @param runningGovernanceServices count
+     */
+    public void setRunningGovernanceServices(int runningGovernanceServices)
+    {
+        this.runningGovernanceServices = runningGovernanceServices;
+    }
+
+
+    /**
+     * Return the number of requests to run a governance service that were rejected because the queue was full.
+     *
+     * @return count
+     */
+    public long getRejectedGovernanceServices()
+    {
+        return rejectedGovernanceServices;
+    }
+
+
+    /**
+     * Set up the number of requests to run a governance service that were rejected because the queue was full.
+     *
+     * @param rejectedGovernanceServices count
+     */
+    public void setRejectedGovernanceServices(long rejectedGovernanceServices)
+    {
+        this.rejectedGovernanceServices = rejectedGovernanceServices;
+    }
+
+
+    /**
+     * Return the average time (in milliseconds) that a governance service waited in the queue after its start time.
+     *
+     * @return milliseconds
+     */
+    public long getAverageQueueWaitTime()
+    {
+        return averageQueueWaitTime;
+    }
+
+
+    /**
+     * Set up the average time (in milliseconds) that a governance service waited in the queue after its start time.
+     *
+     * @param averageQueueWaitTime milliseconds
+     */
+    public void setAverageQueueWaitTime(long averageQueueWaitTime)
+    {
+        this.averageQueueWaitTime = averageQueueWaitTime;
+    }
+
+
+    /**
+     * Return the longest time (in milliseconds) that a governance service waited in the queue after its start time.
+     *
+     * @return milliseconds
+     */
+    public long getMaxQueueWaitTime()
+    {
+        return maxQueueWaitTime;
+    }
+
+
+    /**
+     * Set up the longest time (in milliseconds) that a governance service waited in the queue after its start time.
+     *
+     * @param maxQueueWaitTime milliseconds
+     */
+    public void setMaxQueueWaitTime(long maxQueueWaitTime)
+    {
+        this.maxQueueWaitTime = maxQueueWaitTime;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -240,6 +360,11 @@ public class GovernanceEngineSummary implements Serializable
                        ", governanceEngineDescription='" + governanceEngineDescription + '\'' +
                        ", governanceEngineStatus=" + governanceEngineStatus +
                        ", governanceRequestTypes=" + governanceRequestTypes +
+                       ", queuedGovernanceServices=" + queuedGovernanceServices +
+                       ", runningGovernanceServices=" + runningGovernanceServices +
+                       ", rejectedGovernanceServices=" + rejectedGovernanceServices +
+                       ", averageQueueWaitTime=" + averageQueueWaitTime +
+                       ", maxQueueWaitTime=" + maxQueueWaitTime +
                        '}';
     }
 
@@ -268,7 +393,12 @@ public class GovernanceEngineSummary implements Serializable
                        Objects.equals(governanceEngineGUID, that.governanceEngineGUID) &&
                 Objects.equals(governanceEngineDescription, that.governanceEngineDescription) &&
                 governanceEngineStatus == that.governanceEngineStatus &&
-                Objects.equals(governanceRequestTypes, that.governanceRequestTypes);
+                Objects.equals(governanceRequestTypes, that.governanceRequestTypes) &&
+                queuedGovernanceServices == that.queuedGovernanceServices &&
+                runningGovernanceServices == that.runningGovernanceServices &&
+                rejectedGovernanceServices == that.rejectedGovernanceServices &&
+                averageQueueWaitTime == that.averageQueueWaitTime &&
+                maxQueueWaitTime == that.maxQueueWaitTime;
     }
 
 
@@ -281,6 +411,8 @@ public class GovernanceEngineSummary implements Serializable
    public int hashCode()
    {
        return Objects.hash(governanceEngineName, governanceEngineTypeName, governanceEngineService,
-                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes);
+                           governanceEngineGUID, governanceEngineDescription, governanceEngineStatus, governanceRequestTypes,
+                           queuedGovernanceServices, runningGovernanceServices, rejectedGovernanceServices,
+                           averageQueueWaitTime, maxQueueWaitTime);
    }
 }
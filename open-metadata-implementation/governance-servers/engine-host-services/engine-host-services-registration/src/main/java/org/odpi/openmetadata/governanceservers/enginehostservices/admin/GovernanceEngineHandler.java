@@ -55,6 +55,8 @@ public abstract class GovernanceEngineHandler
 
     private GovernanceServiceCacheMap  governanceServiceLookupTable = new GovernanceServiceCacheMap();
 
+    private volatile GovernanceServiceExecutor governanceServiceExecutor = null;
+
 
     /**
      * Create a client-side object for calling a governance engine.
@@ -95,6 +97,47 @@ public abstract class GovernanceEngineHandler
 
 
 
+    /**
+     * Set up the executor that runs the governance services for all of the governance engines in the server.
+     * If it is not set, each governance service runs in a new thread.
+     *
+     * @param governanceServiceExecutor shared executor
+     */
+    public void setGovernanceServiceExecutor(GovernanceServiceExecutor governanceServiceExecutor)
+    {
+        this.governanceServiceExecutor = governanceServiceExecutor;
+    }
+
+
+    /**
+     * Run a governance service.  It is queued with the server's governance service executor, which starts
+     * it on or after its start time when a worker thread is free.
+     *
+     * @param governanceServiceHandler handler that runs the governance service
+     * @param governanceServiceName name of the governance service - used for the thread name and messages
+     * @param startTime time the governance service may start or null for as soon as possible
+     * @param waitForQueueSpace should the caller wait for space in the queue rather than have the request rejected?
+     * @throws PropertyServerException the queue is full or the server is shutting down
+     */
+    protected void startGovernanceService(Runnable governanceServiceHandler,
+                                          String   governanceServiceName,
+                                          Date     startTime,
+                                          boolean  waitForQueueSpace) throws PropertyServerException
+    {
+        GovernanceServiceExecutor executor = governanceServiceExecutor;
+
+        if (executor != null)
+        {
+            executor.submit(governanceEngineName, governanceServiceName, governanceServiceHandler, startTime, waitForQueueSpace);
+        }
+        else
+        {
+            Thread thread = new Thread(governanceServiceHandler, governanceServiceName);
+            thread.start();
+        }
+    }
+
+
     /**
      * Return the governance Engine name - used for error logging.
      *
@@ -126,6 +169,14 @@ public abstract class GovernanceEngineHandler
         }
 
         mySummary.setGovernanceRequestTypes(governanceServiceLookupTable.getGovernanceRequestTypes());
+
+        GovernanceServiceExecutor executor = governanceServiceExecutor;
+
+        if (executor != null)
+        {
+            executor.fillSummary(governanceEngineName, mySummary);
+        }
+
         mySummary.setGovernanceEngineStatus(GovernanceEngineStatus.ASSIGNED);
 
         if (governanceEngineGUID != null)
@@ -439,15 +490,35 @@ public abstract class GovernanceEngineHandler
             {
                 serverClient.claimGovernanceAction(serverUserId, governanceActionGUID);
 
-                // todo if the start date is in the future then the governance action should be given to the scheduler
-
+                /*
+                 * If the start time is in the future, the governance service waits in the executor's queue until it is reached.
+                 */
                 serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.IN_PROGRESS);
 
-                runGovernanceService(governanceActionGUID,
-                                     properties.getRequestType(),
-                                     properties.getRequestParameters(),
-                                     properties.getRequestSourceElements(),
-                                     properties.getActionTargetElements());
+                try
+                {
+                    runGovernanceService(governanceActionGUID,
+                                         properties.getRequestType(),
+                                         properties.getRequestParameters(),
+                                         properties.getRequestSourceElements(),
+                                         properties.getActionTargetElements(),
+                                         properties.getStartTime());
+                }
+                catch (Exception error)
+                {
+                    /*
+                     * The governance service is not going to run - for example, because the executor's queue is full.
+                     * The governance action has been claimed by this server so it can not go back to APPROVED.
+                     * Instead, it is marked as FAILED rather than being left IN_PROGRESS.
+                     */
+                    auditLog.logException(methodName,
+                                          EngineHostServicesAuditCode.GOVERNANCE_ACTION_FAILED.getMessageDefinition(governanceEngineName,
+                                                                                                                    error.getClass().getName(),
+                                                                                                                    error.getMessage()),
+                                          error);
+
+                    serverClient.updateGovernanceActionStatus(serverUserId, governanceActionGUID, GovernanceActionStatus.FAILED);
+                }
             }
         }
         catch (Exception error)
@@ -463,13 +534,14 @@ public abstract class GovernanceEngineHandler
 
 
     /**
-     * Run an instance of a governance action service in its own thread and return the handler (for disconnect processing).
+     * Queue an instance of a governance action service to run and return the handler (for disconnect processing).
      *
      * @param governanceActionGUID unique identifier of the asset to analyse
      * @param requestType unique identifier of the asset that the annotations should be attached to
      * @param requestParameters name-value properties to control the governance action service
      * @param requestSourceElements metadata elements associated with the request to the governance action service
      * @param actionTargetElements metadata elements that need to be worked on by the governance action service
+     * @param startTime time the governance service may start or null for as soon as possible
      *
      * @return service handler for this request
      *
@@ -481,9 +553,10 @@ public abstract class GovernanceEngineHandler
                                                                   String                     requestType,
                                                                   Map<String, String>        requestParameters,
                                                                   List<RequestSourceElement> requestSourceElements,
-                                                                  List<ActionTargetElement>  actionTargetElements) throws InvalidParameterException,
-                                                                                                                          UserNotAuthorizedException,
-                                                                                                                          PropertyServerException;
+                                                                  List<ActionTargetElement>  actionTargetElements,
+                                                                  Date                       startTime) throws InvalidParameterException,
+                                                                                                               UserNotAuthorizedException,
+                                                                                                               PropertyServerException;
 
 
     /**
@@ -0,0 +1,439 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesAuditCode;
+import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesErrorCode;
+import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineSummary;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * GovernanceServiceExecutor runs the governance services for all of the governance engines in an engine host server
+ * on a bounded pool of threads.  Requests to run a governance service are queued until a thread is free and
+ * the governance engine is running fewer than its maximum number of governance services.
+ * <p>
+ * The queue is ordered by the start time of the request - this is the start time of the governance action, or
+ * the time the request was queued if it does not have one.  A request with a start time in the future is not run
+ * until its start time is reached.  The number of queued requests is limited - when the queue is full, new requests
+ * are rejected, unless the caller has asked to wait for space.
+ * </p>
+ */
+public class GovernanceServiceExecutor
+{
+    private final String   serverName;
+    private final int      maxThreads;
+    private final int      maxQueuedServices;
+    private final int      maxServicesPerEngine;
+    private final AuditLog auditLog;
+
+    /*
+     * These values are protected by the executor's monitor.
+     */
+    private final TreeSet<QueuedService>        queue            = new TreeSet<>();
+    private final Map<String, EngineStatistics> engineStatistics = new HashMap<>();
+    private       int                           workerCount      = 0;
+    private       int                           idleWorkerCount  = 0;
+    private       long                          nextSequence     = 0L;
+    private       boolean                       running          = true;
+
+
+    /**
+     * Constructor sets up the limits of the executor.  The worker threads are started as they are needed.
+     *
+     * @param serverName name of the engine host server
+     * @param maxThreads maximum number of governance services running at the same time in the server
+     * @param maxQueuedServices maximum number of governance services waiting to run
+     * @param maxServicesPerEngine maximum number of governance services running at the same time in a single governance engine
+     * @param auditLog logging destination
+     */
+    public GovernanceServiceExecutor(String   serverName,
+                                     int      maxThreads,
+                                     int      maxQueuedServices,
+                                     int      maxServicesPerEngine,
+                                     AuditLog auditLog)
+    {
+        this.serverName           = serverName;
+        this.maxThreads           = Math.max(1, maxThreads);
+        this.maxQueuedServices    = Math.max(1, maxQueuedServices);
+        this.maxServicesPerEngine = Math.max(1, maxServicesPerEngine);
+        this.auditLog             = auditLog;
+
+        final String actionDescription = "Initialize governance service executor";
+
+        auditLog.logMessage(actionDescription,
+                            EngineHostServicesAuditCode.GOVERNANCE_SERVICE_EXECUTOR_STARTED.getMessageDefinition(serverName,
+                                                                                                                 Integer.toString(this.maxThreads),
+                                                                                                                 Integer.toString(this.maxServicesPerEngine),
+                                                                                                                 Integer.toString(this.maxQueuedServices)));
+    }
+
+
+    /**
+     * QueuedService is a request to run a governance service.
+     */
+    private static class QueuedService implements Comparable<QueuedService>
+    {
+        private final String   governanceEngineName;
+        private final String   governanceServiceName;
+        private final Runnable governanceService;
+        private final long     queuedTime;
+        private final long     startTime;
+        private final long     sequence;
+
+
+        /**
+         * Constructor takes the details of the request.
+         *
+         * @param governanceEngineName name of the governance engine running the service
+         * @param governanceServiceName name of the governance service - used for messages
+         * @param governanceService handler that runs the governance service
+         * @param queuedTime time the request was queued
+         * @param startTime time the request may start
+         * @param sequence order the request was queued in
+         */
+        QueuedService(String   governanceEngineName,
+                      String   governanceServiceName,
+                      Runnable governanceService,
+                      long     queuedTime,
+                      long     startTime,
+                      long     sequence)
+        {
+            this.governanceEngineName  = governanceEngineName;
+            this.governanceServiceName = governanceServiceName;
+            this.governanceService     = governanceService;
+            this.queuedTime            = queuedTime;
+            this.startTime             = startTime;
+            this.sequence              = sequence;
+        }
+
+
+        /**
+         * Order the requests by start time and then by the order they were queued.
+         *
+         * @param other request to compare with
+         * @return comparison result
+         */
+        @Override
+        public int compareTo(QueuedService other)
+        {
+            int result = Long.compare(startTime, other.startTime);
+
+            if (result == 0)
+            {
+                result = Long.compare(sequence, other.sequence);
+            }
+
+            return result;
+        }
+    }
+
+
+    /**
+     * EngineStatistics records the activity of a single governance engine.
+     */
+    private static class EngineStatistics
+    {
+        private int  queuedCount    = 0;
+        private int  runningCount   = 0;
+        private long startedCount   = 0L;
+        private long rejectedCount  = 0L;
+        private long totalWaitTime  = 0L;
+        private long maxWaitTime    = 0L;
+    }
+
+
+    /**
+     * Queue a governance service to run.
+     *
+     * @param governanceEngineName name of the governance engine running the service
+     * @param governanceServiceName name of the governance service - used for messages
+     * @param governanceService handler that runs the governance service
+     * @param startTime time the service may start or null for as soon as possible
+     * @param waitForQueueSpace should the caller wait for space in the queue rather than have the request rejected?
+     * @throws PropertyServerException the queue is full or the executor has been shutdown
+     */
+    public synchronized void submit(String   governanceEngineName,
+                                    String   governanceServiceName,
+                                    Runnable governanceService,
+                                    Date     startTime,
+                                    boolean  waitForQueueSpace) throws PropertyServerException
+    {
+        final String methodName = "submit";
+
+        EngineStatistics statistics = this.getEngineStatistics(governanceEngineName);
+
+        while ((running) && (waitForQueueSpace) && (queue.size() >= maxQueuedServices))
+        {
+            try
+            {
+                this.wait();
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if ((! running) || (queue.size() >= maxQueuedServices))
+        {
+            statistics.rejectedCount++;
+
+            throw new PropertyServerException(EngineHostServicesErrorCode.GOVERNANCE_SERVICE_QUEUE_FULL.getMessageDefinition(governanceServiceName,
+                                                                                                                              governanceEngineName,
+                                                                                                                              serverName,
+                                                                                                                              Integer.toString(maxQueuedServices)),
+                                              this.getClass().getName(),
+                                              methodName);
+        }
+
+        long now = System.currentTimeMillis();
+
+        long serviceStartTime = now;
+
+        if ((startTime != null) && (startTime.getTime() > now))
+        {
+            serviceStartTime = startTime.getTime();
+        }
+
+        queue.add(new QueuedService(governanceEngineName, governanceServiceName, governanceService, now, serviceStartTime, nextSequence++));
+        statistics.queuedCount++;
+
+        /*
+         * Idle workers that have been notified but have not yet woken up are still counted as idle, so a burst
+         * of requests needs a worker for each queued request that no idle worker is available for.
+         */
+        while ((queue.size() > idleWorkerCount) && (workerCount < maxThreads))
+        {
+            this.startWorker();
+        }
+
+        this.notifyAll();
+    }
+
+
+    /**
+     * Add the statistics for a governance engine to its summary.
+     *
+     * @param governanceEngineName name of the governance engine
+     * @param summary summary to update
+     */
+    synchronized void fillSummary(String                  governanceEngineName,
+                                  GovernanceEngineSummary summary)
+    {
+        EngineStatistics statistics = engineStatistics.get(governanceEngineName);
+
+        if (statistics != null)
+        {
+            summary.setQueuedGovernanceServices(statistics.queuedCount);
+            summary.setRunningGovernanceServices(statistics.runningCount);
+            summary.setRejectedGovernanceServices(statistics.rejectedCount);
+            summary.setMaxQueueWaitTime(statistics.maxWaitTime);
+
+            if (statistics.startedCount > 0)
+            {
+                summary.setAverageQueueWaitTime(statistics.totalWaitTime / statistics.startedCount);
+            }
+        }
+    }
+
+
+    /**
+     * Stop the worker threads.  Governance services that are running are allowed to complete, but those that
+     * are queued are discarded.  The governance actions that requested the discarded governance services are
+     * marked as FAILED.
+     */
+    public void shutdown()
+    {
+        final String actionDescription = "Shutdown governance service executor";
+
+        List<QueuedService> discardedServices;
+
+        synchronized (this)
+        {
+            running = false;
+
+            discardedServices = new ArrayList<>(queue);
+            queue.clear();
+
+            for (EngineStatistics statistics : engineStatistics.values())
+            {
+                statistics.queuedCount = 0;
+            }
+
+            this.notifyAll();
+        }
+
+        /*
+         * The governance actions are updated once the executor is unlocked since this calls the metadata server.
+         */
+        for (QueuedService discardedService : discardedServices)
+        {
+            auditLog.logMessage(actionDescription,
+                                EngineHostServicesAuditCode.GOVERNANCE_SERVICE_DISCARDED.getMessageDefinition(discardedService.governanceServiceName,
+                                                                                                              discardedService.governanceEngineName,
+                                                                                                              serverName));
+
+            if (discardedService.governanceService instanceof GovernanceServiceHandler)
+            {
+                ((GovernanceServiceHandler) discardedService.governanceService).failQueuedGovernanceAction();
+            }
+        }
+    }
+
+
+    /**
+     * Return the statistics for a governance engine, creating them if this is the first request for the engine.
+     *
+     * @param governanceEngineName name of the governance engine
+     * @return statistics
+     */
+    private EngineStatistics getEngineStatistics(String governanceEngineName)
+    {
+        return engineStatistics.computeIfAbsent(governanceEngineName, name -> new EngineStatistics());
+    }
+
+
+    /**
+     * Start a new worker thread.  This is called while the executor is locked.
+     */
+    private void startWorker()
+    {
+        final String threadName = "::GovernanceServiceWorker-";
+
+        workerCount++;
+
+        Thread worker = new Thread(this::runWorker, serverName + threadName + workerCount);
+        worker.start();
+    }
+
+
+    /**
+     * Wait for the next governance service that is ready to run.  It must have reached its start time and
+     * its governance engine must be running fewer than the maximum number of governance services.
+     *
+     * @return governance service or null if the executor is shutting down
+     */
+    private synchronized QueuedService takeNextService()
+    {
+        while (running)
+        {
+            long now      = System.currentTimeMillis();
+            long waitTime = 0L;
+
+            for (QueuedService queuedService : queue)
+            {
+                if (queuedService.startTime > now)
+                {
+                    /*
+                     * The rest of the queue starts later still.
+                     */
+                    waitTime = queuedService.startTime - now;
+                    break;
+                }
+
+                EngineStatistics statistics = this.getEngineStatistics(queuedService.governanceEngineName);
+
+                if (statistics.runningCount < maxServicesPerEngine)
+                {
+                    long queueWaitTime = now - Math.max(queuedService.queuedTime, queuedService.startTime);
+
+                    queue.remove(queuedService);
+
+                    statistics.queuedCount--;
+                    statistics.runningCount++;
+                    statistics.startedCount++;
+                    statistics.totalWaitTime = statistics.totalWaitTime + queueWaitTime;
+
+                    if (queueWaitTime > statistics.maxWaitTime)
+                    {
+                        statistics.maxWaitTime = queueWaitTime;
+                    }
+
+                    /*
+                     * There is now space in the queue.
+                     */
+                    this.notifyAll();
+
+                    return queuedService;
+                }
+            }
+
+            idleWorkerCount++;
+
+            try
+            {
+                this.wait(waitTime);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+
+            idleWorkerCount--;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record that a governance service has returned so that its governance engine can run another.
+     *
+     * @param queuedService governance service that has returned
+     */
+    private synchronized void completeService(QueuedService queuedService)
+    {
+        this.getEngineStatistics(queuedService.governanceEngineName).runningCount--;
+
+        this.notifyAll();
+    }
+
+
+    /**
+     * This is the method that runs in each worker thread.
+     */
+    private void runWorker()
+    {
+        final String actionDescription = "Run governance service";
+
+        QueuedService queuedService = this.takeNextService();
+
+        while (queuedService != null)
+        {
+            try
+            {
+                queuedService.governanceService.run();
+            }
+            catch (Exception error)
+            {
+                auditLog.logException(actionDescription,
+                                      EngineHostServicesAuditCode.GOVERNANCE_SERVICE_FAILED.getMessageDefinition(queuedService.governanceServiceName,
+                                                                                                                 queuedService.governanceEngineName,
+                                                                                                                 error.getClass().getName(),
+                                                                                                                 error.getMessage()),
+                                      error);
+            }
+            finally
+            {
+                this.completeService(queuedService);
+            }
+
+            queuedService = this.takeNextService();
+        }
+
+        synchronized (this)
+        {
+            workerCount--;
+        }
+    }
+}
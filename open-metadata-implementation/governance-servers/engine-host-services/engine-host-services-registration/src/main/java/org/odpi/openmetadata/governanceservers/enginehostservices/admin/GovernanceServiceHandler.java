@@ -238,6 +238,36 @@ public abstract class GovernanceServiceHandler implements Runnable
     }
 
 
+    /**
+     * Mark the governance action that requested this governance service as FAILED because the governance service
+     * was discarded from the governance service executor's queue before it could run.
+     */
+    void failQueuedGovernanceAction()
+    {
+        final String methodName = "failQueuedGovernanceAction";
+
+        if (governanceActionGUID != null)
+        {
+            try
+            {
+                governanceActionClient.updateGovernanceActionStatus(engineHostUserId, governanceActionGUID, GovernanceActionStatus.FAILED);
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                                          EngineHostServicesAuditCode.ACTION_PROCESSING_ERROR.getMessageDefinition(methodName,
+                                                                                                                   error.getClass().getName(),
+                                                                                                                   governanceActionGUID,
+                                                                                                                   error.getMessage()),
+                                          error);
+                }
+            }
+        }
+    }
+
+
     /**
      * Disconnect the governance action service.  Called because the governance action service had set a completion status or
      * the server is shutting down.
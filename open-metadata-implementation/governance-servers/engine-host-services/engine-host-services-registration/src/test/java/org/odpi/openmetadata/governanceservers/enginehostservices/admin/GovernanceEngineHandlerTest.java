@@ -0,0 +1,273 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.accessservices.governanceengine.client.GovernanceEngineClient;
+import org.odpi.openmetadata.accessservices.governanceengine.metadataelements.GovernanceActionElement;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.GovernanceActionProperties;
+import org.odpi.openmetadata.accessservices.governanceengine.properties.GovernanceEngineProperties;
+import org.odpi.openmetadata.adminservices.configuration.properties.EngineConfig;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.ActionTargetElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.GovernanceActionStatus;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RequestSourceElement;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test that the GovernanceEngineHandler does not leave a governance action in progress when its governance
+ * service does not run.
+ */
+public class GovernanceEngineHandlerTest
+{
+    private static final String serverName   = "testServer";
+    private static final String serverUserId = "testUser";
+    private static final String engineName   = "testEngine";
+
+    private TestGovernanceEngineClient  serverClient  = null;
+    private GovernanceServiceExecutor   executor      = null;
+    private TestGovernanceEngineHandler engineHandler = null;
+    private CountDownLatch              started       = null;
+    private CountDownLatch              release       = null;
+
+
+    @BeforeMethod
+    void setUp() throws Exception
+    {
+        EngineConfig engineConfig = new EngineConfig();
+
+        engineConfig.setEngineQualifiedName(engineName);
+
+        serverClient  = new TestGovernanceEngineClient();
+        started       = new CountDownLatch(1);
+        release       = new CountDownLatch(1);
+        engineHandler = new TestGovernanceEngineHandler(engineConfig, serverClient);
+
+        /*
+         * One governance service runs and one more may wait in the queue.
+         */
+        executor = new GovernanceServiceExecutor(serverName, 1, 1, 1, new TestAuditLog());
+        engineHandler.setGovernanceServiceExecutor(executor);
+    }
+
+
+    @AfterMethod
+    void tearDown()
+    {
+        release.countDown();
+        executor.shutdown();
+    }
+
+
+    @Test
+    void testQueueFullFailsGovernanceAction() throws Exception
+    {
+        runGovernanceActions();
+
+        engineHandler.executeGovernanceAction(serverClient.addGovernanceAction("action-3"));
+
+        assertEquals(serverClient.getStatus("action-1"), GovernanceActionStatus.IN_PROGRESS);
+        assertEquals(serverClient.getStatus("action-2"), GovernanceActionStatus.IN_PROGRESS);
+        assertEquals(serverClient.getStatus("action-3"), GovernanceActionStatus.FAILED);
+    }
+
+
+    @Test
+    void testShutdownFailsQueuedGovernanceActions() throws Exception
+    {
+        runGovernanceActions();
+
+        executor.shutdown();
+
+        assertEquals(serverClient.getStatus("action-1"), GovernanceActionStatus.IN_PROGRESS);
+        assertEquals(serverClient.getStatus("action-2"), GovernanceActionStatus.FAILED);
+    }
+
+
+    /**
+     * Start one governance action and queue a second one behind it.
+     *
+     * @throws Exception the first governance service did not start
+     */
+    private void runGovernanceActions() throws Exception
+    {
+        engineHandler.executeGovernanceAction(serverClient.addGovernanceAction("action-1"));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        engineHandler.executeGovernanceAction(serverClient.addGovernanceAction("action-2"));
+    }
+
+
+    /**
+     * Governance engine handler that runs a governance service that waits for the test to release it.
+     */
+    private class TestGovernanceEngineHandler extends GovernanceEngineHandler
+    {
+        TestGovernanceEngineHandler(EngineConfig           engineConfig,
+                                    GovernanceEngineClient serverClient)
+        {
+            super(engineConfig, GovernanceEngineHandlerTest.serverName, GovernanceEngineHandlerTest.serverUserId, "Test OMES", null, serverClient, new TestAuditLog(), 100);
+        }
+
+
+        @Override
+        public GovernanceServiceHandler runGovernanceService(String                     governanceActionGUID,
+                                                             String                     requestType,
+                                                             Map<String, String>        requestParameters,
+                                                             List<RequestSourceElement> requestSourceElements,
+                                                             List<ActionTargetElement>  actionTargetElements,
+                                                             Date                       startTime) throws PropertyServerException
+        {
+            GovernanceEngineProperties engineProperties = new GovernanceEngineProperties();
+
+            engineProperties.setQualifiedName(engineName);
+
+            GovernanceServiceHandler serviceHandler = new GovernanceServiceHandler(engineProperties,
+                                                                                   "testEngineGUID",
+                                                                                   serverUserId,
+                                                                                   governanceActionGUID,
+                                                                                   serverClient,
+                                                                                   requestType,
+                                                                                   "testServiceGUID",
+                                                                                   "testService",
+                                                                                   null,
+                                                                                   new TestAuditLog())
+            {
+                @Override
+                public void run()
+                {
+                    started.countDown();
+
+                    try
+                    {
+                        release.await(10, TimeUnit.SECONDS);
+                    }
+                    catch (InterruptedException interrupted)
+                    {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+
+            super.startGovernanceService(serviceHandler, "testService", startTime, false);
+
+            return serviceHandler;
+        }
+    }
+
+
+    /**
+     * Client that keeps the governance actions in memory.
+     */
+    private static class TestGovernanceEngineClient extends GovernanceEngineClient
+    {
+        private final Map<String, GovernanceActionStatus> statuses = new ConcurrentHashMap<>();
+
+
+        TestGovernanceEngineClient() throws InvalidParameterException
+        {
+            super(serverName, "https://localhost:9443");
+        }
+
+
+        /**
+         * Create an approved governance action.
+         *
+         * @param governanceActionGUID unique identifier of the governance action
+         * @return unique identifier of the governance action
+         */
+        String addGovernanceAction(String governanceActionGUID)
+        {
+            statuses.put(governanceActionGUID, GovernanceActionStatus.APPROVED);
+
+            return governanceActionGUID;
+        }
+
+
+        /**
+         * Return the current status of a governance action.
+         *
+         * @param governanceActionGUID unique identifier of the governance action
+         * @return status
+         */
+        GovernanceActionStatus getStatus(String governanceActionGUID)
+        {
+            return statuses.get(governanceActionGUID);
+        }
+
+
+        @Override
+        public GovernanceActionElement getGovernanceAction(String userId,
+                                                           String governanceActionGUID)
+        {
+            GovernanceActionProperties properties = new GovernanceActionProperties();
+
+            properties.setActionStatus(statuses.get(governanceActionGUID));
+            properties.setRequestType("testRequest");
+
+            GovernanceActionElement element = new GovernanceActionElement();
+
+            element.setProperties(properties);
+
+            return element;
+        }
+
+
+        @Override
+        public void claimGovernanceAction(String userId,
+                                          String governanceActionGUID)
+        {
+            statuses.put(governanceActionGUID, GovernanceActionStatus.WAITING);
+        }
+
+
+        @Override
+        public void updateGovernanceActionStatus(String                 userId,
+                                                 String                 governanceActionGUID,
+                                                 GovernanceActionStatus governanceActionStatus)
+        {
+            statuses.put(governanceActionGUID, governanceActionStatus);
+        }
+    }
+
+
+    /**
+     * Audit log that discards the messages.
+     */
+    private static class TestAuditLog extends AuditLog
+    {
+        TestAuditLog()
+        {
+            super(null, 0, ComponentDevelopmentStatus.STABLE, "Test", "Test", null);
+        }
+
+
+        @Override
+        public void logMessage(String                    actionDescription,
+                               AuditLogMessageDefinition messageDefinition)
+        {
+        }
+
+
+        @Override
+        public void logException(String                    actionDescription,
+                                 AuditLogMessageDefinition messageDefinition,
+                                 Throwable                 caughtException)
+        {
+        }
+    }
+}
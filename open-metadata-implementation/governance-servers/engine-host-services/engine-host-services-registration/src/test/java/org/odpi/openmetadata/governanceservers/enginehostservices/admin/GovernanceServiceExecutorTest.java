@@ -0,0 +1,247 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.enginehostservices.admin;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.governanceservers.enginehostservices.properties.GovernanceEngineSummary;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the scheduling of governance services by the GovernanceServiceExecutor.
+ */
+public class GovernanceServiceExecutorTest
+{
+    private static final String serverName  = "testServer";
+    private static final String engineOne   = "engine-1";
+    private static final String engineTwo   = "engine-2";
+    private static final String serviceName = "testService";
+
+    private GovernanceServiceExecutor executor = null;
+    private CountDownLatch            release  = null;
+
+
+    @BeforeMethod
+    void setUp()
+    {
+        release = new CountDownLatch(1);
+    }
+
+
+    @AfterMethod
+    void tearDown()
+    {
+        release.countDown();
+
+        if (executor != null)
+        {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+
+    @Test
+    void testBurstSubmissionStartsWorkers() throws Exception
+    {
+        executor = new GovernanceServiceExecutor(serverName, 4, 10, 10, new TestAuditLog());
+
+        /*
+         * Run one service so that there is an idle worker when the burst arrives.
+         */
+        CountDownLatch firstService = new CountDownLatch(1);
+
+        executor.submit(engineOne, serviceName, firstService::countDown, null, false);
+
+        assertTrue(firstService.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        CountDownLatch started = new CountDownLatch(4);
+
+        /*
+         * Holding the executor's lock means the idle worker can not wake up until all of the requests are queued.
+         */
+        synchronized (executor)
+        {
+            for (int i = 0; i < 4; i++)
+            {
+                executor.submit(engineOne, serviceName, () -> block(started), null, false);
+            }
+        }
+
+        /*
+         * Every request gets its own worker even though one worker was idle when the requests were queued.
+         */
+        assertTrue(started.await(2, TimeUnit.SECONDS), "Only " + (4 - started.getCount()) + " services started");
+
+        GovernanceEngineSummary summary = new GovernanceEngineSummary();
+
+        executor.fillSummary(engineOne, summary);
+
+        assertEquals(summary.getRunningGovernanceServices(), 4);
+        assertEquals(summary.getQueuedGovernanceServices(), 0);
+    }
+
+
+    @Test
+    void testServicesPerEngineLimit() throws Exception
+    {
+        executor = new GovernanceServiceExecutor(serverName, 4, 10, 2, new TestAuditLog());
+
+        AtomicInteger  running    = new AtomicInteger(0);
+        AtomicInteger  maxRunning = new AtomicInteger(0);
+        CountDownLatch completed  = new CountDownLatch(4);
+
+        for (int i = 0; i < 4; i++)
+        {
+            executor.submit(engineOne, serviceName, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                block(null);
+                running.decrementAndGet();
+                completed.countDown();
+            }, null, false);
+        }
+
+        /*
+         * A service for another engine is not held up by the first engine's queued services.
+         */
+        CountDownLatch otherEngine = new CountDownLatch(1);
+
+        executor.submit(engineTwo, serviceName, otherEngine::countDown, null, false);
+
+        assertTrue(otherEngine.await(2, TimeUnit.SECONDS));
+
+        Thread.sleep(200);
+
+        GovernanceEngineSummary summary = new GovernanceEngineSummary();
+
+        executor.fillSummary(engineOne, summary);
+
+        assertEquals(summary.getRunningGovernanceServices(), 2);
+        assertEquals(summary.getQueuedGovernanceServices(), 2);
+
+        release.countDown();
+
+        assertTrue(completed.await(2, TimeUnit.SECONDS));
+        assertEquals(maxRunning.get(), 2);
+    }
+
+
+    @Test
+    void testFutureStartTime() throws Exception
+    {
+        executor = new GovernanceServiceExecutor(serverName, 2, 10, 2, new TestAuditLog());
+
+        AtomicLong     laterStartTime = new AtomicLong(0L);
+        CountDownLatch laterService   = new CountDownLatch(1);
+        CountDownLatch soonerService  = new CountDownLatch(1);
+        Date           startTime      = new Date(System.currentTimeMillis() + 500);
+
+        executor.submit(engineOne, serviceName, () -> {
+            laterStartTime.set(System.currentTimeMillis());
+            laterService.countDown();
+        }, startTime, false);
+
+        /*
+         * A request queued later with no start time runs first.
+         */
+        executor.submit(engineOne, serviceName, soonerService::countDown, null, false);
+
+        assertTrue(soonerService.await(1, TimeUnit.SECONDS));
+        assertEquals(laterService.getCount(), 1L);
+
+        assertTrue(laterService.await(2, TimeUnit.SECONDS));
+        assertTrue(laterStartTime.get() >= startTime.getTime());
+    }
+
+
+    @Test
+    void testQueueFull() throws Exception
+    {
+        executor = new GovernanceServiceExecutor(serverName, 1, 1, 1, new TestAuditLog());
+
+        CountDownLatch started = new CountDownLatch(1);
+
+        executor.submit(engineOne, serviceName, () -> block(started), null, false);
+
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        executor.submit(engineOne, serviceName, () -> block(null), null, false);
+
+        try
+        {
+            executor.submit(engineOne, serviceName, () -> block(null), null, false);
+            fail("Request accepted when the queue is full");
+        }
+        catch (PropertyServerException error)
+        {
+            GovernanceEngineSummary summary = new GovernanceEngineSummary();
+
+            executor.fillSummary(engineOne, summary);
+
+            assertEquals(summary.getRejectedGovernanceServices(), 1L);
+        }
+    }
+
+
+    /**
+     * Record that the service has started and wait until the test releases it.
+     *
+     * @param started latch to count down when the service starts
+     */
+    private void block(CountDownLatch started)
+    {
+        if (started != null)
+        {
+            started.countDown();
+        }
+
+        try
+        {
+            release.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Audit log that discards the messages.
+     */
+    private static class TestAuditLog extends AuditLog
+    {
+        TestAuditLog()
+        {
+            super(null, 0, ComponentDevelopmentStatus.STABLE, "Test", "Test", null);
+        }
+
+
+        @Override
+        public void logMessage(String                    actionDescription,
+                               AuditLogMessageDefinition messageDefinition)
+        {
+        }
+
+
+        @Override
+        public void logException(String                    actionDescription,
+                                 AuditLogMessageDefinition messageDefinition,
+                                 Throwable                 caughtException)
+        {
+        }
+    }
+}
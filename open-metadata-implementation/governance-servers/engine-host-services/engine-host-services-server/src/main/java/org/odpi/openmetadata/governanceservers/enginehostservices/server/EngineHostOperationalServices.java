@@ -20,6 +20,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.EngineServiceAdmin;
 import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceEngineHandler;
+import org.odpi.openmetadata.governanceservers.enginehostservices.admin.GovernanceServiceExecutor;
 import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesAuditCode;
 import org.odpi.openmetadata.governanceservers.enginehostservices.ffdc.EngineHostServicesErrorCode;
 import org.odpi.openmetadata.governanceservers.enginehostservices.threads.EngineConfigurationRefreshThread;
@@ -52,6 +53,8 @@ public class EngineHostOperationalServices
 
     private List<EngineServiceAdmin> engineServiceAdminList = null;
 
+    private GovernanceServiceExecutor governanceServiceExecutor = null;
+
     /**
      * Constructor used at server startup.
      *
@@ -177,6 +180,23 @@ public class EngineHostOperationalServices
                                                                          serviceEngineLists,
                                                                          governanceEngineHandlers);
 
+            /*
+             * The governance services for all of the governance engines share a bounded pool of worker threads.
+             */
+            governanceServiceExecutor = new GovernanceServiceExecutor(localServerName,
+                                                                      configuration.getMaxGovernanceServiceThreads(),
+                                                                      configuration.getMaxQueuedGovernanceServices(),
+                                                                      configuration.getMaxGovernanceServicesPerEngine(),
+                                                                      auditLog);
+
+            for (GovernanceEngineHandler governanceEngineHandler : governanceEngineHandlers.values())
+            {
+                if (governanceEngineHandler != null)
+                {
+                    governanceEngineHandler.setGovernanceServiceExecutor(governanceServiceExecutor);
+                }
+            }
+
             /*
              * Register a listener for the Governance Engine OMAS out topic.  This call will fail if
              * the metadata server is not running so a separate thread is created to retry the registration request at
@@ -415,6 +435,11 @@ public class EngineHostOperationalServices
 
         engineHostInstance.shutdown();
 
+        if (governanceServiceExecutor != null)
+        {
+            governanceServiceExecutor.shutdown();
+        }
+
         /*
          * Shutdown the engine services
          */
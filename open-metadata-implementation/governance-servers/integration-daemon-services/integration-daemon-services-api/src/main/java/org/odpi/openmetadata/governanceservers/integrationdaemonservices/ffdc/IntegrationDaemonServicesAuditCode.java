@@ -307,6 +307,14 @@ public enum IntegrationDaemonServicesAuditCode implements AuditLogMessageSet
                     "Use the message from the exception and knowledge of the integration connector's behavior to " +
                             "track down and resolve the cause of the error and then restart the connector.  The integration daemon thread will then continue to call the connector."),
 
+    DAEMON_CONNECTOR_REFRESH_OVERRUN("INTEGRATION-DAEMON-SERVICES-0046",
+                    OMRSAuditLogRecordSeverity.INFO,
+                    "The refresh of integration connector {0} in integration daemon {1} has run for {2} milliseconds, which is longer than its refresh interval of {3} minutes",
+                    "The integration daemon thread does not start another refresh of the connector until the current one completes.  " +
+                            "The refresh overrun count in the connector's report is increased.",
+                    "Check the connector's refresh durations in its report.  If refresh regularly takes longer than the refresh " +
+                            "interval, increase the refresh interval in the connector's configuration."),
+
     SERVER_NOT_AUTHORIZED("INTEGRATION-DAEMON-SERVICES-0050",
                           OMRSAuditLogRecordSeverity.SECURITY,
                           "Integration service {0} is not authorized to call its partner " +
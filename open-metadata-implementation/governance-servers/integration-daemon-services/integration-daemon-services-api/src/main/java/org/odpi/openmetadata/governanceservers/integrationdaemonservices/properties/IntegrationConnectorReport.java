@@ -34,6 +34,11 @@ public class IntegrationConnectorReport implements Serializable
     private Date                       lastStatusChange         = null;
     private Date                       lastRefreshTime          = null;
     private long                       minMinutesBetweenRefresh = 0L;
+    private long                       refreshCount             = 0L;
+    private long                       lastRefreshDuration      = 0L;
+    private long                       averageRefreshDuration   = 0L;
+    private long                       maxRefreshDuration       = 0L;
+    private long                       refreshOverrunCount      = 0L;
     private String                     failingExceptionMessage  = null;
     private Map<String, Object>        statistics               = null;
 
@@ -63,6 +68,11 @@ public class IntegrationConnectorReport implements Serializable
             lastStatusChange         = template.getLastStatusChange();
             lastRefreshTime          = template.getLastRefreshTime();
             minMinutesBetweenRefresh = template.getMinMinutesBetweenRefresh();
+            refreshCount             = template.getRefreshCount();
+            lastRefreshDuration      = template.getLastRefreshDuration();
+            averageRefreshDuration   = template.getAverageRefreshDuration();
+            maxRefreshDuration       = template.getMaxRefreshDuration();
+            refreshOverrunCount      = template.getRefreshOverrunCount();
             failingExceptionMessage  = template.getFailingExceptionMessage();
             statistics               = template.getStatistics();
         }
@@ -250,6 +260,118 @@ public class IntegrationConnectorReport implements Serializable
     }
 
 
+    /**
+     * Return the number of calls to refresh that the connector has completed since the integration daemon started.
+     *
+     * @return count
+     */
+    public long getRefreshCount()
+    {
+        return refreshCount;
+    }
+
+
+    /**
+     * Set up the number of calls to refresh that the connector has completed since the integration daemon started.
+     *
+     * @param refreshCount count
+     */
+    public void setRefreshCount(long refreshCount)
+    {
+        this.refreshCount = refreshCount;
+    }
+
+
+    /**
+     * Return the time taken by the last completed call to refresh.
+     *
+     * @return duration in milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Set up the time taken by the last completed call to refresh.
+     *
+     * @param lastRefreshDuration duration in milliseconds
+     */
+    public void setLastRefreshDuration(long lastRefreshDuration)
+    {
+        this.lastRefreshDuration = lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the average time taken by the calls to refresh.
+     *
+     * @return duration in milliseconds
+     */
+    public long getAverageRefreshDuration()
+    {
+        return averageRefreshDuration;
+    }
+
+
+    /**
+     * Set up the average time taken by the calls to refresh.
+     *
+     * @param averageRefreshDuration duration in milliseconds
+     */
+    public void setAverageRefreshDuration(long averageRefreshDuration)
+    {
+        this.averageRefreshDuration = averageRefreshDuration;
+    }
+
+
+    /**
+     * Return the longest time taken by a call to refresh.
+     *
+     * @return duration in milliseconds
+     */
+    public long getMaxRefreshDuration()
+    {
+        return maxRefreshDuration;
+    }
+
+
+    /**
+     * Set up the longest time taken by a call to refresh.
+     *
+     * @param maxRefreshDuration duration in milliseconds
+     */
+    public void setMaxRefreshDuration(long maxRefreshDuration)
+    {
+        this.maxRefreshDuration = maxRefreshDuration;
+    }
+
+
+    /**
+     * Return the number of times that a scheduled refresh was due while the previous refresh was still running.
+     * A growing count means the refresh takes longer than the configured time between refreshes.
+     *
+     * @return count
+     */
+    public long getRefreshOverrunCount()
+    {
+        return refreshOverrunCount;
+    }
+
+
+    /**
+     * Set up the number of times that a scheduled refresh was due while the previous refresh was still running.
+     * A growing count means the refresh takes longer than the configured time between refreshes.
+     *
+     * @param refreshOverrunCount count
+     */
+    public void setRefreshOverrunCount(long refreshOverrunCount)
+    {
+        this.refreshOverrunCount = refreshOverrunCount;
+    }
+
+
     /**
      * Return the message extracted from an exception returned by the connector.  This is only set if the connectorStatus
      * is FAILED.  The full exception is logged in the server's audit log.
@@ -313,6 +435,11 @@ public class IntegrationConnectorReport implements Serializable
                        ", lastStatusChange=" + lastStatusChange +
                        ", lastRefreshTime=" + lastRefreshTime +
                        ", minMinutesBetweenRefresh=" + minMinutesBetweenRefresh +
+                       ", refreshCount=" + refreshCount +
+                       ", lastRefreshDuration=" + lastRefreshDuration +
+                       ", averageRefreshDuration=" + averageRefreshDuration +
+                       ", maxRefreshDuration=" + maxRefreshDuration +
+                       ", refreshOverrunCount=" + refreshOverrunCount +
                        ", failingExceptionMessage='" + failingExceptionMessage + '\'' +
                        ", statistics=" + statistics +
                        '}';
@@ -338,6 +465,11 @@ public class IntegrationConnectorReport implements Serializable
         }
         IntegrationConnectorReport that = (IntegrationConnectorReport) objectToCompare;
         return minMinutesBetweenRefresh == that.minMinutesBetweenRefresh &&
+                       refreshCount == that.refreshCount &&
+                       lastRefreshDuration == that.lastRefreshDuration &&
+                       averageRefreshDuration == that.averageRefreshDuration &&
+                       maxRefreshDuration == that.maxRefreshDuration &&
+                       refreshOverrunCount == that.refreshOverrunCount &&
                        Objects.equals(connectorId, that.connectorId) &&
                        Objects.equals(connectorName, that.connectorName) &&
                        Objects.equals(connection, that.connection) &&
@@ -359,6 +491,7 @@ public class IntegrationConnectorReport implements Serializable
     public int hashCode()
     {
         return Objects.hash(connectorId, connectorName, connection, connectorInstanceId, connectorStatus, lastStatusChange,
-                            lastRefreshTime, minMinutesBetweenRefresh, failingExceptionMessage, statistics);
+                            lastRefreshTime, minMinutesBetweenRefresh, refreshCount, lastRefreshDuration, averageRefreshDuration,
+                            maxRefreshDuration, refreshOverrunCount, failingExceptionMessage, statistics);
     }
 }
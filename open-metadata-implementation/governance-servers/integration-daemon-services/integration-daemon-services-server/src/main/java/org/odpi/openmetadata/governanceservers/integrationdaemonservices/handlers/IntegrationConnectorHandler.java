@@ -21,6 +21,7 @@ import org.odpi.openmetadata.governanceservers.integrationdaemonservices.threads
 import java.io.Serializable;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -59,6 +60,16 @@ public class IntegrationConnectorHandler implements Serializable
     private String                              failingExceptionMessage             = null;
     private Date                                lastRefreshTime                     = null;
 
+    /*
+     * Metrics for the calls to refresh.  They are read without locking the handler so that the status of the
+     * connector can be reported while it is refreshing.
+     */
+    private volatile long                       refreshCount                        = 0L;
+    private volatile long                       lastRefreshDuration                 = 0L;
+    private volatile long                       maxRefreshDuration                  = 0L;
+    private volatile long                       totalRefreshDuration                = 0L;
+    private final    AtomicLong                 refreshOverrunCount                 = new AtomicLong(0L);
+
 
     /**
      * Constructor creates the integration connector and manages it state.
@@ -218,6 +229,98 @@ public class IntegrationConnectorHandler implements Serializable
     }
 
 
+    /**
+     * Return the number of calls to refresh that the connector has completed since the integration daemon started.
+     *
+     * @return count
+     */
+    public long getRefreshCount()
+    {
+        return refreshCount;
+    }
+
+
+    /**
+     * Return the time taken by the last completed call to refresh.
+     *
+     * @return duration in milliseconds
+     */
+    public long getLastRefreshDuration()
+    {
+        return lastRefreshDuration;
+    }
+
+
+    /**
+     * Return the average time taken by the calls to refresh.
+     *
+     * @return duration in milliseconds
+     */
+    public long getAverageRefreshDuration()
+    {
+        long count = refreshCount;
+
+        if (count == 0)
+        {
+            return 0L;
+        }
+
+        return totalRefreshDuration / count;
+    }
+
+
+    /**
+     * Return the longest time taken by a call to refresh.
+     *
+     * @return duration in milliseconds
+     */
+    public long getMaxRefreshDuration()
+    {
+        return maxRefreshDuration;
+    }
+
+
+    /**
+     * Return the number of times that a scheduled refresh was due while the previous refresh was still running.
+     *
+     * @return count
+     */
+    public long getRefreshOverrunCount()
+    {
+        return refreshOverrunCount.get();
+    }
+
+
+    /**
+     * Record that a scheduled refresh was due while the previous refresh was still running.
+     *
+     * @return new count of overruns
+     */
+    public long recordRefreshOverrun()
+    {
+        return refreshOverrunCount.incrementAndGet();
+    }
+
+
+    /**
+     * Update the refresh metrics with the time taken by a completed call to refresh.  This is called while the
+     * handler is locked.
+     *
+     * @param refreshDuration duration in milliseconds
+     */
+    private void recordRefreshDuration(long refreshDuration)
+    {
+        lastRefreshDuration  = refreshDuration;
+        totalRefreshDuration = totalRefreshDuration + refreshDuration;
+        refreshCount         = refreshCount + 1;
+
+        if (refreshDuration > maxRefreshDuration)
+        {
+            maxRefreshDuration = refreshDuration;
+        }
+    }
+
+
     /**
      * Return the connector described in the connection object.
      *
@@ -486,14 +589,16 @@ public class IntegrationConnectorHandler implements Serializable
 
                 integrationConnector.refresh();
 
+                long refreshDuration = new Date().getTime() - refreshStart.getTime();
+
+                this.recordRefreshDuration(refreshDuration);
+
                 if (auditLog != null)
                 {
-                    Date refreshEnd = new Date();
-
                     auditLog.logMessage(actionDescription,
                                         IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_COMPLETE.getMessageDefinition(integrationConnectorName,
                                                                                                                                   integrationDaemonName,
-                                                                                                                                  Long.toString(refreshEnd.getTime() - refreshStart.getTime())));
+                                                                                                                                  Long.toString(refreshDuration)));
                 }
             }
 
@@ -149,6 +149,11 @@ public class IntegrationServiceHandler
                     connectorReport.setLastStatusChange(connectorHandler.getLastStatusChange());
                     connectorReport.setLastRefreshTime(connectorHandler.getLastRefreshTime());
                     connectorReport.setMinMinutesBetweenRefresh(connectorHandler.getMinMinutesBetweenRefresh());
+                    connectorReport.setRefreshCount(connectorHandler.getRefreshCount());
+                    connectorReport.setLastRefreshDuration(connectorHandler.getLastRefreshDuration());
+                    connectorReport.setAverageRefreshDuration(connectorHandler.getAverageRefreshDuration());
+                    connectorReport.setMaxRefreshDuration(connectorHandler.getMaxRefreshDuration());
+                    connectorReport.setRefreshOverrunCount(connectorHandler.getRefreshOverrunCount());
 
                     connectorReports.add(connectorReport);
                 }
@@ -10,26 +10,64 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * IntegrationDaemonThread is the class responsible for managing executing integration connectors
  * within an integration daemon.  It manages the automated refresh of the connectors.
  * The connectors are also being refreshed through the REST API.
+ * <p>
+ * Each connector is refreshed on its own schedule, set by the refresh interval in its configuration.
+ * The refreshes run on a bounded pool of worker threads so that a connector with a long refresh does not delay
+ * the refresh of the other connectors.  A small random delay is added to each refresh interval to spread out
+ * the refreshes of connectors with the same interval.  A connector is not refreshed again while its previous
+ * refresh is still running - this is reported as an overrun.
+ * </p>
  */
 public class IntegrationDaemonThread implements Runnable
 {
     private static final Logger log = LoggerFactory.getLogger(IntegrationDaemonThread.class);
 
+    /*
+     * Upper limit on the number of connectors that are refreshed at the same time.
+     */
+    private static final int  maxRefreshThreads = 10;
+
+    /*
+     * Upper limit on the random delay added to a connector's refresh interval.
+     */
+    private static final long maxRefreshJitter  = 60000;
+
     private String                            integrationDaemonName;
     private List<IntegrationConnectorHandler> connectorHandlers;
     private AuditLog                          auditLog;
 
+    private final Map<IntegrationConnectorHandler, ConnectorSchedule> connectorSchedules = new HashMap<>();
 
     private final AtomicBoolean running = new AtomicBoolean(false);
 
 
+    /**
+     * ConnectorSchedule records the progress of the scheduled refreshes of a single connector.  It is only
+     * changed by the integration daemon thread, apart from the refreshing flag and jitter which are set
+     * by the worker thread when the refresh completes.
+     */
+    private static class ConnectorSchedule
+    {
+        private volatile boolean refreshing       = false;
+        private volatile long    jitter           = 0L;
+        private          long    refreshStartTime = 0L;
+        private          boolean overrunReported  = false;
+    }
+
+
     /**
      * Constructor provides access to the variables needed to run the connector.
      *
@@ -44,6 +82,14 @@ public class IntegrationDaemonThread implements Runnable
         this.integrationDaemonName = integrationDaemonName;
         this.connectorHandlers     = connectorHandlers;
         this.auditLog              = auditLog;
+
+        for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
+        {
+            if (connectorHandler != null)
+            {
+                connectorSchedules.put(connectorHandler, new ConnectorSchedule());
+            }
+        }
     }
 
 
@@ -81,38 +127,47 @@ public class IntegrationDaemonThread implements Runnable
         auditLog.logMessage(actionDescription,
                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_STARTING.getMessageDefinition(integrationDaemonName));
 
+        ExecutorService refreshPool = this.createRefreshPool();
+
         while (running.get())
         {
-            Date now = new Date();
+            long now = new Date().getTime();
 
             for (IntegrationConnectorHandler connectorHandler : connectorHandlers)
             {
                 if (connectorHandler != null)
                 {
-                    try
+                    ConnectorSchedule connectorSchedule = connectorSchedules.get(connectorHandler);
+                    long              refreshInterval   = connectorHandler.getMinMinutesBetweenRefresh() * 60000;
+
+                    if (connectorSchedule.refreshing)
                     {
-                        if (connectorHandler.getLastRefreshTime() == null)
-                        {
-                            connectorHandler.refreshConnector(actionDescription, true);
-                        }
-                        else if (connectorHandler.getMinMinutesBetweenRefresh() > 0)
+                        if ((refreshInterval > 0) &&
+                            (! connectorSchedule.overrunReported) &&
+                            (now - connectorSchedule.refreshStartTime > refreshInterval))
                         {
-                            long nextRefreshTime =
-                                    connectorHandler.getLastRefreshTime().getTime() +
-                                            (connectorHandler.getMinMinutesBetweenRefresh() * 60000);
-
-                            if (nextRefreshTime < now.getTime())
-                            {
-                                connectorHandler.refreshConnector(actionDescription, false);
-                            }
+                            connectorSchedule.overrunReported = true;
+                            connectorHandler.recordRefreshOverrun();
+
+                            auditLog.logMessage(actionDescription,
+                                                IntegrationDaemonServicesAuditCode.DAEMON_CONNECTOR_REFRESH_OVERRUN.getMessageDefinition(connectorHandler.getIntegrationConnectorName(),
+                                                                                                                                         integrationDaemonName,
+                                                                                                                                         Long.toString(now - connectorSchedule.refreshStartTime),
+                                                                                                                                         Long.toString(connectorHandler.getMinMinutesBetweenRefresh())));
                         }
                     }
-                    catch (Exception error)
+                    else if (connectorHandler.getLastRefreshTime() == null)
                     {
-                        auditLog.logMessage(actionDescription,
-                                            IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
-                                                                                                                                  error.getClass().getName(),
-                                                                                                                                  error.getMessage()));
+                        this.scheduleRefresh(refreshPool, connectorHandler, connectorSchedule, now, actionDescription, true);
+                    }
+                    else if (refreshInterval > 0)
+                    {
+                        long nextRefreshTime = connectorHandler.getLastRefreshTime().getTime() + refreshInterval + connectorSchedule.jitter;
+
+                        if (nextRefreshTime < now)
+                        {
+                            this.scheduleRefresh(refreshPool, connectorHandler, connectorSchedule, now, actionDescription, false);
+                        }
                     }
                 }
             }
@@ -120,12 +175,98 @@ public class IntegrationDaemonThread implements Runnable
             waitToRetry();
         }
 
+        /*
+         * Refreshes that are in progress are allowed to complete.
+         */
+        refreshPool.shutdown();
+
         auditLog.logMessage(actionDescription,
                             IntegrationDaemonServicesAuditCode.DAEMON_THREAD_TERMINATING.getMessageDefinition(integrationDaemonName));
 
     }
 
 
+    /**
+     * Create the pool of threads that run the refreshes.  There is no point in having more threads than connectors.
+     *
+     * @return thread pool
+     */
+    private ExecutorService createRefreshPool()
+    {
+        final String threadName = "::IntegrationDaemonRefresh-";
+
+        AtomicInteger threadCount = new AtomicInteger(0);
+        int           poolSize    = Math.max(1, Math.min(maxRefreshThreads, connectorSchedules.size()));
+
+        return Executors.newFixedThreadPool(poolSize,
+                                            runnable -> new Thread(runnable,
+                                                                   integrationDaemonName + threadName + threadCount.incrementAndGet()));
+    }
+
+
+    /**
+     * Pass a refresh of a connector to the pool of worker threads.
+     *
+     * @param refreshPool pool of worker threads
+     * @param connectorHandler connector to refresh
+     * @param connectorSchedule progress of the connector's refreshes
+     * @param now current time
+     * @param actionDescription calling activity
+     * @param firstCall is this the first call to refresh?
+     */
+    private void scheduleRefresh(ExecutorService             refreshPool,
+                                 IntegrationConnectorHandler connectorHandler,
+                                 ConnectorSchedule           connectorSchedule,
+                                 long                        now,
+                                 String                      actionDescription,
+                                 boolean                     firstCall)
+    {
+        connectorSchedule.refreshing       = true;
+        connectorSchedule.refreshStartTime = now;
+        connectorSchedule.overrunReported  = false;
+
+        refreshPool.execute(() ->
+        {
+            try
+            {
+                connectorHandler.refreshConnector(actionDescription, firstCall);
+            }
+            catch (Exception error)
+            {
+                auditLog.logMessage(actionDescription,
+                                    IntegrationDaemonServicesAuditCode.DAEMON_THREAD_CONNECTOR_ERROR.getMessageDefinition(integrationDaemonName,
+                                                                                                                          error.getClass().getName(),
+                                                                                                                          error.getMessage()));
+            }
+            finally
+            {
+                connectorSchedule.jitter     = getRefreshJitter(connectorHandler.getMinMinutesBetweenRefresh() * 60000);
+                connectorSchedule.refreshing = false;
+            }
+        });
+    }
+
+
+    /**
+     * Return a random delay to add to the next refresh of a connector.  It is up to a tenth of the
+     * refresh interval.
+     *
+     * @param refreshInterval time between refreshes in milliseconds
+     * @return delay in milliseconds
+     */
+    private static long getRefreshJitter(long refreshInterval)
+    {
+        long jitterRange = Math.min(refreshInterval / 10, maxRefreshJitter);
+
+        if (jitterRange <= 0)
+        {
+            return 0L;
+        }
+
+        return ThreadLocalRandom.current().nextLong(jitterRange + 1);
+    }
+
+
     /**
      * Wait before retrying ...
      */
@@ -20,12 +20,14 @@ import java.util.List;
 
 /**
  * OMRSAuditLogDestination provides information needed to log records to the configured audit log destinations
- * for a specific server instance.
+ * for a specific server instance.  The records are either passed to each audit log store by the thread that
+ * logged them, or, if a queue size is configured, queued for a writer thread dedicated to each audit log store.
  */
 public class OMRSAuditLogDestination extends AuditLogDestination
 {
-    private final OMRSAuditLogRecordOriginator omrsOriginator = new OMRSAuditLogRecordOriginator();
-    private       List<OMRSAuditLogStore>      auditLogStores = null;
+    private final OMRSAuditLogRecordOriginator      omrsOriginator      = new OMRSAuditLogRecordOriginator();
+    private       List<OMRSAuditLogStore>           auditLogStores      = null;
+    private       List<OMRSAuditLogStoreDispatcher> auditLogDispatchers = null;
 
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogDestination.class);
 
@@ -43,6 +45,30 @@ public class OMRSAuditLogDestination extends AuditLogDestination
                                    String                  localServerType,
                                    String                  localOrganizationName,
                                    List<OMRSAuditLogStore> auditLogStores)
+    {
+        this(localServerName, localServerType, localOrganizationName, auditLogStores, 0, 0, null);
+    }
+
+
+    /**
+     * Initialize the static values used in all log records and, if the queue size is greater than zero,
+     * start a writer thread for each audit log store so that logging a record does not wait for the audit log stores.
+     *
+     * @param localServerName name of the local server
+     * @param localServerType type of the local server
+     * @param localOrganizationName name of the organization that owns the local server
+     * @param auditLogStores list of destinations for the audit log records
+     * @param queueSize maximum number of records waiting for each audit log store; zero means write synchronously
+     * @param batchSize maximum number of records passed to an audit log store in one call
+     * @param queueFullPolicy what to do with a new record when the queue for an audit log store is full
+     */
+    public OMRSAuditLogDestination(String                      localServerName,
+                                   String                      localServerType,
+                                   String                      localOrganizationName,
+                                   List<OMRSAuditLogStore>     auditLogStores,
+                                   int                         queueSize,
+                                   int                         batchSize,
+                                   OMRSAuditLogQueueFullPolicy queueFullPolicy)
     {
         super();
 
@@ -67,6 +93,23 @@ public class OMRSAuditLogDestination extends AuditLogDestination
         if (auditLogStores != null)
         {
             this.auditLogStores = new ArrayList<>(auditLogStores);
+
+            if (queueSize > 0)
+            {
+                this.auditLogDispatchers = new ArrayList<>();
+
+                for (OMRSAuditLogStore auditLogStore : auditLogStores)
+                {
+                    if (auditLogStore != null)
+                    {
+                        this.auditLogDispatchers.add(new OMRSAuditLogStoreDispatcher(localServerName,
+                                                                                     auditLogStore,
+                                                                                     queueSize,
+                                                                                     batchSize,
+                                                                                     queueFullPolicy));
+                    }
+                }
+            }
         }
     }
 
@@ -114,7 +157,14 @@ public class OMRSAuditLogDestination extends AuditLogDestination
      */
     void addLogRecord(OMRSAuditLogRecord logRecord)
     {
-        if (auditLogStores != null)
+        if (auditLogDispatchers != null)
+        {
+            for (OMRSAuditLogStoreDispatcher auditLogDispatcher : auditLogDispatchers)
+            {
+                auditLogDispatcher.addLogRecord(new OMRSAuditLogRecord(logRecord));
+            }
+        }
+        else if (auditLogStores != null)
         {
             for (OMRSAuditLogStore auditLogStore : auditLogStores)
             {
@@ -134,6 +184,24 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     }
 
 
+    /**
+     * Write any queued audit log records and stop the writer threads.  Records logged after this call
+     * are written directly to the audit log stores.
+     *
+     * @param timeout maximum time in milliseconds to wait for each audit log store's queued records to be written
+     */
+    public void disconnect(long timeout)
+    {
+        if (auditLogDispatchers != null)
+        {
+            for (OMRSAuditLogStoreDispatcher auditLogDispatcher : auditLogDispatchers)
+            {
+                auditLogDispatcher.close(timeout);
+            }
+        }
+    }
+
+
     /**
      * Return information about the audit log stores configured for this server.
      *
@@ -159,6 +227,16 @@ public class OMRSAuditLogDestination extends AuditLogDestination
                     auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
                     auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
 
+                    OMRSAuditLogStoreDispatcher auditLogDispatcher = getDispatcher(auditLogStore);
+
+                    if (auditLogDispatcher != null)
+                    {
+                        auditLogStoreReport.setQueueSize(auditLogDispatcher.getQueueSize());
+                        auditLogStoreReport.setQueuedRecords(auditLogDispatcher.getQueuedRecords());
+                        auditLogStoreReport.setDroppedRecords(auditLogDispatcher.getDroppedRecords());
+                        auditLogStoreReport.setFailedRecords(auditLogDispatcher.getFailedRecords());
+                    }
+
                     storeReportList.add(auditLogStoreReport);
                 }
             }
@@ -171,4 +249,27 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
         return report;
     }
+
+
+    /**
+     * Return the dispatcher for an audit log store.
+     *
+     * @param auditLogStore audit log store
+     * @return dispatcher or null if the audit log records are written synchronously
+     */
+    private OMRSAuditLogStoreDispatcher getDispatcher(OMRSAuditLogStore auditLogStore)
+    {
+        if (auditLogDispatchers != null)
+        {
+            for (OMRSAuditLogStoreDispatcher auditLogDispatcher : auditLogDispatchers)
+            {
+                if (auditLogDispatcher.getAuditLogStore() == auditLogStore)
+                {
+                    return auditLogDispatcher;
+                }
+            }
+        }
+
+        return null;
+    }
 }
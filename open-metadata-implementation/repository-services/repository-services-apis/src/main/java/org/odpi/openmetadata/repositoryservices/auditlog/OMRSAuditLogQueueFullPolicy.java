@@ -0,0 +1,99 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * OMRSAuditLogQueueFullPolicy defines what happens to a new audit log record when the audit log records are being
+ * written to the audit log stores asynchronously and the queue for an audit log store is full.
+ * The values are:
+ * <ul>
+ *     <li>
+ *         BLOCK: the thread logging the record waits until there is space in the queue.  No records are lost but
+ *         a slow audit log store slows down the server.
+ *     </li>
+ *     <li>
+ *         DISCARD_NEWEST: the new record is not passed to the audit log store.  This is the default.
+ *     </li>
+ *     <li>
+ *         DISCARD_OLDEST: the oldest queued record is removed to make space for the new record.
+ *     </li>
+ * </ul>
+ * Discarded records are counted in the audit log destinations report.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum OMRSAuditLogQueueFullPolicy implements Serializable
+{
+    BLOCK          (0, "Block",          "Wait for space in the queue."),
+    DISCARD_NEWEST (1, "Discard Newest", "Discard the new log record."),
+    DISCARD_OLDEST (2, "Discard Oldest", "Discard the oldest queued log record.");
+
+    private static final long serialVersionUID = 1L;
+
+    private int     ordinal;
+    private String  name;
+    private String  description;
+
+    /**
+     * Constructor to set up a single instances of the enum.
+     *
+     * @param ordinal numerical representation of the policy
+     * @param name default string name of the policy
+     * @param description default string description of the policy
+     */
+    OMRSAuditLogQueueFullPolicy(int  ordinal, String name, String description)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+    }
+
+    /**
+     * Return the numeric representation of the policy.
+     *
+     * @return int ordinal
+     */
+    public int getOrdinal() { return ordinal; }
+
+
+    /**
+     * Return the default name of the policy.
+     *
+     * @return String name
+     */
+    public String getName() { return name; }
+
+
+    /**
+     * Return the default description of the policy.
+     *
+     * @return String description
+     */
+    public String getDescription() { return description; }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSAuditLogQueueFullPolicy{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                '}';
+    }
+}
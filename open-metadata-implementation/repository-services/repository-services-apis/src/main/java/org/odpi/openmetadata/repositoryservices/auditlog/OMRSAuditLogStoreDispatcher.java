@@ -0,0 +1,284 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSAuditLogStoreDispatcher passes audit log records to a single audit log store from its own writer thread.
+ * The records wait in a bounded queue so that the thread that logged the record does not wait for the audit log
+ * store.  The writer thread passes the records to the store in batches.  When the queue is full, the
+ * queue full policy determines whether the logging thread waits or a record is discarded.
+ * <p>
+ * Errors from the audit log store are logged to the developer log (slf4j) rather than the audit log to
+ * avoid creating more audit log records for a store that is failing.
+ * </p>
+ */
+class OMRSAuditLogStoreDispatcher implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreDispatcher.class);
+
+    private static final long pollInterval = 200;   // milliseconds
+
+    private final OMRSAuditLogStore                 auditLogStore;
+    private final BlockingQueue<OMRSAuditLogRecord> queue;
+    private final int                               queueSize;
+    private final int                               batchSize;
+    private final OMRSAuditLogQueueFullPolicy       queueFullPolicy;
+    private final Thread                            writerThread;
+
+    private final AtomicLong droppedRecords = new AtomicLong(0);
+    private final AtomicLong failedRecords  = new AtomicLong(0);
+
+    private volatile boolean running = true;
+
+
+    /**
+     * Create the queue and start the writer thread for an audit log store.
+     *
+     * @param localServerName name of the local server - used to name the writer thread
+     * @param auditLogStore audit log store to write to
+     * @param queueSize maximum number of records that can wait for the audit log store
+     * @param batchSize maximum number of records passed to the audit log store in one call
+     * @param queueFullPolicy what to do with a new record when the queue is full
+     */
+    OMRSAuditLogStoreDispatcher(String                      localServerName,
+                                OMRSAuditLogStore           auditLogStore,
+                                int                         queueSize,
+                                int                         batchSize,
+                                OMRSAuditLogQueueFullPolicy queueFullPolicy)
+    {
+        this.auditLogStore   = auditLogStore;
+        this.queueSize       = queueSize;
+        this.batchSize       = Math.max(batchSize, 1);
+        this.queue           = new ArrayBlockingQueue<>(queueSize);
+
+        if (queueFullPolicy == null)
+        {
+            this.queueFullPolicy = OMRSAuditLogQueueFullPolicy.DISCARD_NEWEST;
+        }
+        else
+        {
+            this.queueFullPolicy = queueFullPolicy;
+        }
+
+        this.writerThread = new Thread(this, localServerName + "::AuditLogWriter-" + auditLogStore.getDestinationName());
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+
+    /**
+     * Return the audit log store that this dispatcher writes to.
+     *
+     * @return audit log store
+     */
+    OMRSAuditLogStore getAuditLogStore()
+    {
+        return auditLogStore;
+    }
+
+
+    /**
+     * Return the maximum number of records that can wait for the audit log store.
+     *
+     * @return queue size
+     */
+    int getQueueSize()
+    {
+        return queueSize;
+    }
+
+
+    /**
+     * Return the number of records waiting to be written to the audit log store.
+     *
+     * @return count
+     */
+    long getQueuedRecords()
+    {
+        return queue.size();
+    }
+
+
+    /**
+     * Return the number of records discarded because the queue was full.
+     *
+     * @return count
+     */
+    long getDroppedRecords()
+    {
+        return droppedRecords.get();
+    }
+
+
+    /**
+     * Return the number of records that the audit log store failed to write.
+     *
+     * @return count
+     */
+    long getFailedRecords()
+    {
+        return failedRecords.get();
+    }
+
+
+    /**
+     * Queue a log record for the audit log store.  Once the dispatcher is closed, the record is
+     * written directly to the store.
+     *
+     * @param logRecord log record
+     */
+    void addLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        if (! running)
+        {
+            writeLogRecords(Collections.singletonList(logRecord));
+            return;
+        }
+
+        switch (queueFullPolicy)
+        {
+            case BLOCK:
+                try
+                {
+                    queue.put(logRecord);
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                    recordDropped();
+                }
+                break;
+
+            case DISCARD_OLDEST:
+                while (! queue.offer(logRecord))
+                {
+                    if (queue.poll() != null)
+                    {
+                        recordDropped();
+                    }
+                }
+                break;
+
+            default:
+                if (! queue.offer(logRecord))
+                {
+                    recordDropped();
+                }
+                break;
+        }
+    }
+
+
+    /**
+     * Count a discarded record.  The first discarded record is logged so that the operator knows that the
+     * queue size is too small, or the audit log store is too slow, for the number of audit log records.
+     */
+    private void recordDropped()
+    {
+        if (droppedRecords.incrementAndGet() == 1)
+        {
+            log.warn("Audit log queue for destination " + auditLogStore.getDestinationName() + " is full; records are being discarded");
+        }
+    }
+
+
+    /**
+     * Writer thread: pass the queued records to the audit log store in batches until the dispatcher is closed
+     * and the queue is empty.
+     */
+    @Override
+    public void run()
+    {
+        while ((running) || (! queue.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord logRecord = queue.poll(pollInterval, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    List<OMRSAuditLogRecord> batch = new ArrayList<>();
+
+                    batch.add(logRecord);
+                    queue.drainTo(batch, batchSize - 1);
+
+                    writeLogRecords(batch);
+                }
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            catch (Exception error)
+            {
+                log.error("Unexpected error in audit log writer for destination " + auditLogStore.getDestinationName(), error);
+            }
+        }
+    }
+
+
+    /**
+     * Pass a batch of records to the audit log store.
+     *
+     * @param logRecords log records
+     */
+    private void writeLogRecords(List<OMRSAuditLogRecord> logRecords)
+    {
+        try
+        {
+            auditLogStore.storeLogRecords(logRecords);
+        }
+        catch (Exception error)
+        {
+            failedRecords.addAndGet(logRecords.size());
+            log.error("Error: " + error + " writing " + logRecords.size() + " audit log records to destination " + auditLogStore.getClass().getName());
+        }
+    }
+
+
+    /**
+     * Stop accepting records into the queue, wait for the writer thread to write the queued records and then
+     * write any that remain from the calling thread.
+     *
+     * @param timeout maximum time in milliseconds to wait for the writer thread
+     */
+    void close(long timeout)
+    {
+        running = false;
+
+        try
+        {
+            writerThread.join(timeout);
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        if (! writerThread.isAlive())
+        {
+            List<OMRSAuditLogRecord> remaining = new ArrayList<>();
+
+            queue.drainTo(remaining);
+
+            if (! remaining.isEmpty())
+            {
+                writeLogRecords(remaining);
+            }
+        }
+    }
+}
@@ -28,6 +28,10 @@ public class OMRSAuditLogStoreReport implements Serializable
     private String       destinationName     = null;
     private List<String> supportedSeverities = null;
     private String       implementationClass = null;
+    private int          queueSize           = 0;
+    private long         queuedRecords       = 0;
+    private long         droppedRecords      = 0;
+    private long         failedRecords       = 0;
 
 
     /**
@@ -49,6 +53,11 @@ public class OMRSAuditLogStoreReport implements Serializable
         {
             destinationName = template.getDestinationName();
             supportedSeverities = template.getSupportedSeverities();
+            implementationClass = template.getImplementationClass();
+            queueSize = template.getQueueSize();
+            queuedRecords = template.getQueuedRecords();
+            droppedRecords = template.getDroppedRecords();
+            failedRecords = template.getFailedRecords();
         }
     }
 
@@ -128,6 +137,96 @@ public class OMRSAuditLogStoreReport implements Serializable
     }
 
 
+    /**
+     * Return the maximum number of log records that can wait to be written to this audit log store.
+     * Zero means the log records are written synchronously.
+     *
+     * @return queue size
+     */
+    public int getQueueSize()
+    {
+        return queueSize;
+    }
+
+
+    /**
+     * Set up the maximum number of log records that can wait to be written to this audit log store.
+     * Zero means the log records are written synchronously.
+     *
+     * @param queueSize queue size
+     */
+    public void setQueueSize(int queueSize)
+    {
+        this.queueSize = queueSize;
+    }
+
+
+    /**
+     * Return the number of log records waiting to be written to this audit log store.
+     *
+     * @return count
+     */
+    public long getQueuedRecords()
+    {
+        return queuedRecords;
+    }
+
+
+    /**
+     * Set up the number of log records waiting to be written to this audit log store.
+     *
+     * @param queuedRecords count
+     */
+    public void setQueuedRecords(long queuedRecords)
+    {
+        this.queuedRecords = queuedRecords;
+    }
+
+
+    /**
+     * Return the number of log records discarded because the queue for this audit log store was full.
+     *
+     * @return count
+     */
+    public long getDroppedRecords()
+    {
+        return droppedRecords;
+    }
+
+
+    /**
+     * Set up the number of log records discarded because the queue for this audit log store was full.
+     *
+     * @param droppedRecords count
+     */
+    public void setDroppedRecords(long droppedRecords)
+    {
+        this.droppedRecords = droppedRecords;
+    }
+
+
+    /**
+     * Return the number of queued log records that this audit log store failed to write.
+     *
+     * @return count
+     */
+    public long getFailedRecords()
+    {
+        return failedRecords;
+    }
+
+
+    /**
+     * Set up the number of queued log records that this audit log store failed to write.
+     *
+     * @param failedRecords count
+     */
+    public void setFailedRecords(long failedRecords)
+    {
+        this.failedRecords = failedRecords;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -140,6 +239,10 @@ public class OMRSAuditLogStoreReport implements Serializable
                 "destinationName='" + destinationName + '\'' +
                 ", supportedSeverities=" + supportedSeverities +
                 ", implementationClass='" + implementationClass + '\'' +
+                ", queueSize=" + queueSize +
+                ", queuedRecords=" + queuedRecords +
+                ", droppedRecords=" + droppedRecords +
+                ", failedRecords=" + failedRecords +
                 '}';
     }
 
@@ -162,7 +265,11 @@ public class OMRSAuditLogStoreReport implements Serializable
             return false;
         }
         OMRSAuditLogStoreReport that = (OMRSAuditLogStoreReport) objectToCompare;
-        return Objects.equals(destinationName, that.destinationName) &&
+        return queueSize == that.queueSize &&
+                queuedRecords == that.queuedRecords &&
+                droppedRecords == that.droppedRecords &&
+                failedRecords == that.failedRecords &&
+                Objects.equals(destinationName, that.destinationName) &&
                 Objects.equals(supportedSeverities, that.supportedSeverities) &&
                 Objects.equals(implementationClass, that.implementationClass);
     }
@@ -176,6 +283,7 @@ public class OMRSAuditLogStoreReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(destinationName, supportedSeverities, implementationClass);
+        return Objects.hash(destinationName, supportedSeverities, implementationClass, queueSize, queuedRecords, droppedRecords,
+                            failedRecords);
     }
 }
@@ -0,0 +1,184 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+
+import java.io.IOException;
+
+
+/**
+ * OMRSEventHeader holds the properties of an OMRS event that are used to decide which listeners want it.
+ * The header can be extracted from the JSON payload without building the rest of the event, which
+ * allows the OMRSTopicConnector to skip the full parsing of events that no listener wants.
+ */
+class OMRSEventHeader
+{
+    private static final String EVENT_CATEGORY_PROPERTY         = "eventCategory";
+    private static final String INSTANCE_EVENT_SECTION_PROPERTY = "instanceEventSection";
+    private static final String EVENT_TYPE_PROPERTY             = "eventType";
+    private static final String TYPE_DEF_NAME_PROPERTY          = "typeDefName";
+
+    private OMRSEventCategory     eventCategory     = null;
+    private OMRSInstanceEventType instanceEventType = null;
+    private String                typeDefName       = null;
+
+
+    /**
+     * Default constructor used when parsing the JSON payload.
+     */
+    private OMRSEventHeader()
+    {
+    }
+
+
+    /**
+     * Extract the header from a parsed event.
+     *
+     * @param event parsed event
+     */
+    OMRSEventHeader(OMRSEventV1 event)
+    {
+        this.eventCategory = event.getEventCategory();
+
+        OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+
+        if (instanceSection != null)
+        {
+            this.instanceEventType = instanceSection.getEventType();
+            this.typeDefName       = instanceSection.getTypeDefName();
+        }
+    }
+
+
+    /**
+     * Extract the header from the JSON payload of an event.  Only the properties needed for the header are read;
+     * the other properties are skipped without being converted into objects.
+     *
+     * @param jsonFactory factory for the parser
+     * @param event JSON payload
+     * @return header or null if the payload does not have a recognizable header
+     */
+    static OMRSEventHeader getHeader(JsonFactory jsonFactory,
+                                     String      event)
+    {
+        try (JsonParser parser = jsonFactory.createParser(event))
+        {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+            {
+                return null;
+            }
+
+            OMRSEventHeader header               = new OMRSEventHeader();
+            boolean         instanceSectionFound = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String    propertyName = parser.getCurrentName();
+                JsonToken token        = parser.nextToken();
+
+                if ((EVENT_CATEGORY_PROPERTY.equals(propertyName)) && (token == JsonToken.VALUE_STRING))
+                {
+                    header.eventCategory = OMRSEventCategory.valueOf(parser.getText());
+                }
+                else if ((INSTANCE_EVENT_SECTION_PROPERTY.equals(propertyName)) && (token == JsonToken.START_OBJECT))
+                {
+                    header.readInstanceSection(parser);
+                    instanceSectionFound = true;
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+
+                if ((header.eventCategory != null) &&
+                    ((header.eventCategory != OMRSEventCategory.INSTANCE) || (instanceSectionFound)))
+                {
+                    return header;
+                }
+            }
+
+            return null;
+        }
+        catch (IOException | IllegalArgumentException error)
+        {
+            /*
+             * The event is not understood - the full parse will report the problem.
+             */
+            return null;
+        }
+    }
+
+
+    /**
+     * Read the event type and type name from the instance section.  The parser is left at the end of the section.
+     *
+     * @param parser parser positioned at the start of the section
+     * @throws IOException the payload is not valid JSON
+     */
+    private void readInstanceSection(JsonParser parser) throws IOException
+    {
+        while (parser.nextToken() == JsonToken.FIELD_NAME)
+        {
+            String    propertyName = parser.getCurrentName();
+            JsonToken token        = parser.nextToken();
+
+            if ((EVENT_TYPE_PROPERTY.equals(propertyName)) && (token == JsonToken.VALUE_STRING))
+            {
+                instanceEventType = OMRSInstanceEventType.valueOf(parser.getText());
+            }
+            else if ((TYPE_DEF_NAME_PROPERTY.equals(propertyName)) && (token == JsonToken.VALUE_STRING))
+            {
+                typeDefName = parser.getText();
+            }
+            else
+            {
+                parser.skipChildren();
+            }
+
+            if ((instanceEventType != null) && (typeDefName != null))
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Return the category of the event.
+     *
+     * @return category enum
+     */
+    OMRSEventCategory getEventCategory()
+    {
+        return eventCategory;
+    }
+
+
+    /**
+     * Return the type of instance event.
+     *
+     * @return event type enum or null
+     */
+    OMRSInstanceEventType getInstanceEventType()
+    {
+        return instanceEventType;
+    }
+
+
+    /**
+     * Return the name of the type of the instance that the event is about.
+     *
+     * @return type name or null
+     */
+    String getTypeDefName()
+    {
+        return typeDefName;
+    }
+}
@@ -2,7 +2,10 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
@@ -14,12 +17,14 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.slf4j.Logger;
@@ -27,6 +32,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -54,6 +61,21 @@ import java.util.List;
  *         connectors that implement OpenMetadataTopic.
  *     </li>
  * </ul>
+ * <p>
+ *     Each registered listener receives the events on its own threads so that a slow listener does not hold up
+ *     the others.  The number of threads, the size of each thread's queue, the action to take when a queue is full
+ *     and the interval between reports of the listeners' activity are set with the listenerThreadCount,
+ *     listenerQueueSize, listenerOverflowPolicy (BLOCK or DISCARD) and listenerMetricsInterval (seconds)
+ *     configuration properties of the connection.  Events about the same instance or type are always processed
+ *     by a listener in the order they were received.
+ * </p>
+ * <p>
+ *     The order is only kept for each GUID.  When listenerThreadCount is greater than 1, events about different
+ *     instances may be processed out of order.  For example, a relationship event is keyed on the relationship's
+ *     GUID so it may be processed before the event that created one of its entities.  Registry events are
+ *     always processed in order.  A listener that depends on the order of events about different instances
+ *     should use a listenerThreadCount of 1 (the default).
+ * </p>
  */
 public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                                                  VirtualConnectorExtension,
@@ -62,10 +84,28 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 {
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
+    public static final String LISTENER_THREAD_COUNT_PROPERTY     = "listenerThreadCount";
+    public static final String LISTENER_QUEUE_SIZE_PROPERTY       = "listenerQueueSize";
+    public static final String LISTENER_OVERFLOW_POLICY_PROPERTY  = "listenerOverflowPolicy";
+    public static final String LISTENER_METRICS_INTERVAL_PROPERTY = "listenerMetricsInterval";
+
+    private static final int    DEFAULT_LISTENER_THREAD_COUNT     = 1;
+    private static final int    DEFAULT_LISTENER_QUEUE_SIZE       = 1000;
+    private static final int    DEFAULT_LISTENER_METRICS_INTERVAL = 300;
+    private static final String UNKNOWN_SERVICE_NAME              = "<Unknown Service>";
+
+    /*
+     * The readers and writers are immutable and thread-safe.  They are shared by all of the topic connectors so
+     * that the serializers and deserializers for the event beans are only built once.
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader EVENT_READER  = OBJECT_MAPPER.readerFor(OMRSEventBean.class);
+    private static final ObjectWriter EVENT_WRITER  = OBJECT_MAPPER.writer();
+
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
-    private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
+    private List<OMRSTopicListenerExecutor>  listenerExecutors  = new CopyOnWriteArrayList<>();
+    private List<OpenMetadataTopicConnector> eventBusConnectors = new ArrayList<>();
 
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
@@ -153,7 +193,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            this.addListenerExecutor(new OMRSTopicListenerWrapper(topicListener, auditLog), UNKNOWN_SERVICE_NAME, null);
         }
         else
         {
@@ -176,12 +216,31 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     @Override
     public void registerListener(OMRSTopicListener topicListener,
                                  String            serviceName)
+    {
+        this.registerListener(topicListener, serviceName, null);
+    }
+
+
+    /**
+     * Register a listener object.  This object will be supplied with the events received on the topic
+     * that match its subscription.
+     *
+     * @param topicListener object implementing the OMRSTopicListener interface
+     * @param serviceName name of the service that the listener is from
+     * @param subscription description of the instance events that the listener wants - null for all events
+     */
+    @Override
+    public void registerListener(OMRSTopicListener             topicListener,
+                                 String                        serviceName,
+                                 OMRSTopicListenerSubscription subscription)
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addListenerExecutor(new OMRSTopicListenerWrapper(topicListener,
+                                                                  serviceName,
+                                                                  auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)),
+                                     serviceName,
+                                     subscription);
         }
         else
         {
@@ -204,12 +263,31 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     @Override
     public void registerListener(OMRSTopicRepositoryEventListener topicListener,
                                  String                           serviceName)
+    {
+        this.registerListener(topicListener, serviceName, null);
+    }
+
+
+    /**
+     * Register a listener object.  This object will be supplied with the events received on the topic
+     * that match its subscription.
+     *
+     * @param topicListener object implementing the OMRSTopicRepositoryEventListener interface
+     * @param serviceName name of the service that the listener is from
+     * @param subscription description of the instance events that the listener wants - null for all events
+     */
+    @Override
+    public void registerListener(OMRSTopicRepositoryEventListener topicListener,
+                                 String                           serviceName,
+                                 OMRSTopicListenerSubscription    subscription)
     {
         if (topicListener != null)
         {
-            internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
-                                                                    serviceName,
-                                                                    auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.addListenerExecutor(new OMRSTopicListenerWrapper(topicListener,
+                                                                  serviceName,
+                                                                  auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)),
+                                     serviceName,
+                                     subscription);
         }
         else
         {
@@ -222,6 +300,94 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Create the executor that passes events to a newly registered listener.  The settings for the executor
+     * are taken from the configuration properties of the connection.
+     *
+     * @param topicListener wrapped listener
+     * @param serviceName name of the service that the listener is from
+     * @param subscription description of the instance events that the listener wants - null for all events
+     */
+    private void addListenerExecutor(OMRSTopicListener             topicListener,
+                                     String                        serviceName,
+                                     OMRSTopicListenerSubscription subscription)
+    {
+        int                                      threadCount     = DEFAULT_LISTENER_THREAD_COUNT;
+        int                                      queueSize       = DEFAULT_LISTENER_QUEUE_SIZE;
+        int                                      metricsInterval = DEFAULT_LISTENER_METRICS_INTERVAL;
+        OMRSTopicListenerExecutor.OverflowPolicy overflowPolicy  = OMRSTopicListenerExecutor.OverflowPolicy.BLOCK;
+
+        if ((connectionProperties != null) && (connectionProperties.getConfigurationProperties() != null))
+        {
+            Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+            threadCount     = getIntProperty(configurationProperties, LISTENER_THREAD_COUNT_PROPERTY, threadCount);
+            queueSize       = getIntProperty(configurationProperties, LISTENER_QUEUE_SIZE_PROPERTY, queueSize);
+            metricsInterval = getIntProperty(configurationProperties, LISTENER_METRICS_INTERVAL_PROPERTY, metricsInterval);
+
+            Object policy = configurationProperties.get(LISTENER_OVERFLOW_POLICY_PROPERTY);
+
+            if (policy != null)
+            {
+                try
+                {
+                    overflowPolicy = OMRSTopicListenerExecutor.OverflowPolicy.valueOf(policy.toString().trim().toUpperCase());
+                }
+                catch (IllegalArgumentException error)
+                {
+                    log.debug("Ignoring unknown listener overflow policy: " + policy);
+                }
+            }
+        }
+
+        OMRSTopicListenerExecutor listenerExecutor = new OMRSTopicListenerExecutor(topicListener,
+                                                                                   subscription,
+                                                                                   serviceName == null ? UNKNOWN_SERVICE_NAME : serviceName,
+                                                                                   auditLog,
+                                                                                   threadCount,
+                                                                                   queueSize,
+                                                                                   overflowPolicy,
+                                                                                   metricsInterval);
+
+        listenerExecutor.setTopicName(topicName);
+        listenerExecutors.add(listenerExecutor);
+    }
+
+
+    /**
+     * Return an integer configuration property.  The value may be supplied as a number or a string.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set or is not a number
+     * @return property value
+     */
+    private int getIntProperty(Map<String, Object> configurationProperties,
+                               String              propertyName,
+                               int                 defaultValue)
+    {
+        Object value = configurationProperties.get(propertyName);
+
+        if (value instanceof Number)
+        {
+            return ((Number)value).intValue();
+        }
+        else if (value != null)
+        {
+            try
+            {
+                return Integer.parseInt(value.toString().trim());
+            }
+            catch (NumberFormatException error)
+            {
+                log.debug("Ignoring invalid value for " + propertyName + ": " + value);
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      * OMRSTopicConnector needs to pass on the start() to its embedded connectors.
@@ -268,6 +434,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
                         topicName = realTopicConnector.registerListener(this);
 
+                        for (OMRSTopicListenerExecutor listenerExecutor : listenerExecutors)
+                        {
+                            listenerExecutor.setTopicName(topicName);
+                        }
+
                         this.eventBusConnectors.add(realTopicConnector);
 
                         if (auditLog != null)
@@ -415,9 +586,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                String eventString = objectMapper.writeValueAsString(event);
+                String eventString = getEventJSON(event);
 
                 if ((auditLog != null) && (logEvent))
                 {
@@ -465,8 +634,37 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
 
     /**
-     * Receives events from the real topic, parses them into event objects and passes them on to
-     * the OMRSTopicListeners registered with this connector.
+     * Convert an event bean into the JSON format that is sent on the event bus.
+     *
+     * @param event event bean
+     * @return JSON string
+     * @throws JsonProcessingException the event could not be serialized
+     */
+    public static String getEventJSON(OMRSEventBean event) throws JsonProcessingException
+    {
+        return EVENT_WRITER.writeValueAsString(event);
+    }
+
+
+    /**
+     * Parse an event received from the event bus into an event bean.
+     *
+     * @param event JSON string
+     * @return event bean
+     * @throws JsonProcessingException the event could not be parsed
+     */
+    public static OMRSEventBean getEventBean(String event) throws JsonProcessingException
+    {
+        return EVENT_READER.readValue(event);
+    }
+
+
+    /**
+     * Receives events from the real topic, parses them into event objects and queues them for
+     * the OMRSTopicListeners registered with this connector.  Each listener processes the event on its own thread.
+     * Listeners are only passed the instance events that match their subscription.  When every listener has a
+     * subscription, the header of the event is checked first so that events that no listener wants are not
+     * fully parsed.
      *
      * @param event inbound event
      */
@@ -478,6 +676,17 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
         if (event != null)
         {
+            if ((! listenerExecutors.isEmpty()) && (this.allListenersSubscribed()))
+            {
+                OMRSEventHeader eventHeader = OMRSEventHeader.getHeader(OBJECT_MAPPER.getFactory(), event);
+
+                if ((eventHeader != null) && (! this.isEventWanted(eventHeader)))
+                {
+                    log.debug("Skipping event that no listener has subscribed to");
+                    return;
+                }
+            }
+
             OMRSEventBean   eventBean = null;
 
             /*
@@ -485,9 +694,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                eventBean = getEventBean(event);
             }
             catch (Exception   exception)
             {
@@ -505,28 +712,41 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
              */
             if (eventBean instanceof OMRSEventV1)
             {
-                OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
+                OMRSEventV1     eventV1     = (OMRSEventV1) eventBean;
+                OMRSEventHeader eventHeader = new OMRSEventHeader(eventV1);
+                String          orderingKey = this.getOrderingKey(eventV1);
+
+                for (OMRSTopicListenerExecutor listenerExecutor : listenerExecutors)
                 {
-                    try
+                    if (! listenerExecutor.isEventWanted(eventHeader))
                     {
-                        this.processOMRSEvent((OMRSEventV1) finalEventBean, topicListener);
+                        continue;
                     }
-                    catch (Throwable  error)
-                    {
-                        log.debug("Unable to pass event to one of the topic listeners");
 
-                        if (auditLog != null)
+                    OMRSTopicListener topicListener = listenerExecutor.getTopicListener();
+
+                    listenerExecutor.submit(orderingKey, () ->
+                    {
+                        try
                         {
-                            auditLog.logException(methodName,
-                                                  OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
-                                                                                                            error.toString(),
-                                                                                                            topicListener.toString()),
-                                                  event,
-                                                  error);
+                            this.processOMRSEvent(eventV1, topicListener);
                         }
-                    }
-                });
+                        catch (Throwable  error)
+                        {
+                            log.debug("Unable to pass event to one of the topic listeners");
+
+                            if (auditLog != null)
+                            {
+                                auditLog.logException(methodName,
+                                                      OMRSAuditCode.EVENT_PROCESSING_ERROR.getMessageDefinition(event,
+                                                                                                                error.toString(),
+                                                                                                                topicListener.toString()),
+                                                      event,
+                                                      error);
+                            }
+                        }
+                    });
+                }
             }
         }
         else
@@ -541,6 +761,91 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return whether every registered listener has described the events it wants.
+     *
+     * @return boolean flag
+     */
+    private boolean allListenersSubscribed()
+    {
+        for (OMRSTopicListenerExecutor listenerExecutor : listenerExecutors)
+        {
+            if (! listenerExecutor.hasSubscription())
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return whether any registered listener wants an event.
+     *
+     * @param eventHeader properties of the event used for routing
+     * @return boolean flag
+     */
+    private boolean isEventWanted(OMRSEventHeader eventHeader)
+    {
+        for (OMRSTopicListenerExecutor listenerExecutor : listenerExecutors)
+        {
+            if (listenerExecutor.isEventWanted(eventHeader))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the key that determines the order that a listener processes an event in.  Instance events
+     * are keyed on the instance's GUID and TypeDef events on the type's GUID.  Registry events (and
+     * events with no identifier) are all processed in order on the same thread.
+     * <p>
+     * Relationship events are keyed on the relationship's GUID rather than on one of its entities because
+     * some of them (such as purge events) only carry the relationship's GUID.  Keying on an end would lose
+     * the order between these events and the other events about the relationship.  As a result, there is no
+     * ordering between an entity and its relationships when there is more than one listener thread.
+     * </p>
+     *
+     * @param event inbound event
+     * @return ordering key or null
+     */
+    private String getOrderingKey(OMRSEventV1 event)
+    {
+        if ((event.getEventCategory() == OMRSEventCategory.INSTANCE) && (event.getInstanceEventSection() != null))
+        {
+            OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+
+            if (instanceSection.getInstanceGUID() != null)
+            {
+                return instanceSection.getInstanceGUID();
+            }
+            else if (instanceSection.getEntity() != null)
+            {
+                return instanceSection.getEntity().getGUID();
+            }
+            else if (instanceSection.getRelationship() != null)
+            {
+                return instanceSection.getRelationship().getGUID();
+            }
+            else if (instanceSection.getEntityProxy() != null)
+            {
+                return instanceSection.getEntityProxy().getGUID();
+            }
+        }
+        else if ((event.getEventCategory() == OMRSEventCategory.TYPEDEF) && (event.getTypeDefEventSection() != null))
+        {
+            return event.getTypeDefEventSection().getTypeDefGUID();
+        }
+
+        return null;
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
@@ -623,6 +928,11 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             eventBusConnector.disconnect();
         }
 
+        for (OMRSTopicListenerExecutor listenerExecutor : listenerExecutors)
+        {
+            listenerExecutor.shutdown();
+        }
+
         if (auditLog != null)
         {
             auditLog.logMessage(actionDescription,
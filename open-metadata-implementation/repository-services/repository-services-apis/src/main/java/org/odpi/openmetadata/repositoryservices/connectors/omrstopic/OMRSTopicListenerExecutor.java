@@ -0,0 +1,497 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.future.CompletedFuture;
+import org.odpi.openmetadata.repositoryservices.events.future.DelegatableFuture;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * OMRSTopicListenerExecutor passes events to a single registered OMRSTopicListener on its own threads.  Each thread
+ * (lane) has a bounded queue.  Events are assigned to a lane using an ordering key (such as the GUID of the instance
+ * or type that the event is about) so that events with the same key are processed in the order they were received.
+ * The executor also measures the lag between an event being queued and the listener starting to process it.
+ * <p>
+ * The executor takes part in the asynchronous processing context of the event bus connector so that an event
+ * is only marked as completely processed once the listener has finished with it.
+ */
+class OMRSTopicListenerExecutor
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSTopicListenerExecutor.class);
+
+    private static final String THREAD_NAME_DESCRIPTION = " OMRSTopicListener Lane ";
+
+    /**
+     * OverflowPolicy defines what happens to a new event when the lane it is assigned to is full.
+     */
+    enum OverflowPolicy
+    {
+        /**
+         * The thread delivering the event waits until there is space in the queue.  This slows down the reading of
+         * the topic so that no events are lost.
+         */
+        BLOCK,
+
+        /**
+         * The new event is not passed to this listener.
+         */
+        DISCARD
+    }
+
+    private final OMRSTopicListener             topicListener;
+    private final OMRSTopicListenerSubscription subscription;
+    private final String                        serviceName;
+    private final AuditLog                      auditLog;
+    private final int                           queueSize;
+    private final OverflowPolicy                overflowPolicy;
+    private final long                          metricsInterval;
+    private final ThreadPoolExecutor[]          lanes;
+
+    private final AtomicLong processedCount    = new AtomicLong(0);
+    private final AtomicLong discardedCount    = new AtomicLong(0);
+    private final AtomicLong totalLag          = new AtomicLong(0);
+    private final AtomicLong maxLag            = new AtomicLong(0);
+    private final AtomicLong lastMetricsReport = new AtomicLong(System.currentTimeMillis());
+
+    private volatile String  topicName = "<Unknown>";
+    private volatile boolean queueFull = false;
+
+
+    /**
+     * Constructor creates the threads for the listener.
+     *
+     * @param topicListener listener to call
+     * @param subscription description of the instance events the listener wants - null for all events
+     * @param serviceName name of the service that owns the listener
+     * @param auditLog logging destination
+     * @param threadCount number of lanes
+     * @param queueSize maximum number of events waiting in each lane
+     * @param overflowPolicy action to take when a lane is full
+     * @param metricsInterval number of seconds between reports of the listener's activity (0 to disable)
+     */
+    OMRSTopicListenerExecutor(OMRSTopicListener             topicListener,
+                              OMRSTopicListenerSubscription subscription,
+                              String                        serviceName,
+                              AuditLog                      auditLog,
+                              int                           threadCount,
+                              int                           queueSize,
+                              OverflowPolicy                overflowPolicy,
+                              int                           metricsInterval)
+    {
+        this.topicListener   = topicListener;
+        this.subscription    = subscription;
+        this.serviceName     = serviceName;
+        this.auditLog        = auditLog;
+        this.queueSize       = Math.max(1, queueSize);
+        this.overflowPolicy  = overflowPolicy;
+        this.metricsInterval = TimeUnit.SECONDS.toMillis(Math.max(0, metricsInterval));
+        this.lanes           = new ThreadPoolExecutor[Math.max(1, threadCount)];
+
+        RejectedExecutionHandler overflowHandler = this::handleOverflow;
+
+        for (int lane = 0; lane < lanes.length; lane++)
+        {
+            final String threadName = serviceName + THREAD_NAME_DESCRIPTION + lane;
+
+            lanes[lane] = new ThreadPoolExecutor(1,
+                                                 1,
+                                                 0L,
+                                                 TimeUnit.MILLISECONDS,
+                                                 new ArrayBlockingQueue<>(this.queueSize),
+                                                 (runnable) ->
+                                                 {
+                                                     Thread thread = new Thread(runnable, threadName);
+
+                                                     thread.setDaemon(true);
+                                                     return thread;
+                                                 },
+                                                 overflowHandler);
+        }
+
+        if (auditLog != null)
+        {
+            final String methodName = "OMRSTopicListenerExecutor";
+
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.OMRS_TOPIC_LISTENER_EXECUTOR_START.getMessageDefinition(serviceName,
+                                                                                                     Integer.toString(lanes.length),
+                                                                                                     Integer.toString(this.queueSize),
+                                                                                                     overflowPolicy.name()));
+        }
+    }
+
+
+    /**
+     * Return the listener that this executor calls.
+     *
+     * @return listener
+     */
+    OMRSTopicListener getTopicListener()
+    {
+        return topicListener;
+    }
+
+
+    /**
+     * Return whether the listener has described the events it wants.
+     *
+     * @return boolean flag
+     */
+    boolean hasSubscription()
+    {
+        return subscription != null;
+    }
+
+
+    /**
+     * Determine whether the listener wants an event.  Registry and TypeDef events are passed to all listeners.
+     *
+     * @param eventHeader properties of the event used for routing
+     * @return boolean flag
+     */
+    boolean isEventWanted(OMRSEventHeader eventHeader)
+    {
+        if ((subscription == null) || (eventHeader.getEventCategory() != OMRSEventCategory.INSTANCE))
+        {
+            return true;
+        }
+
+        return subscription.isInstanceEventWanted(eventHeader.getInstanceEventType(), eventHeader.getTypeDefName());
+    }
+
+
+    /**
+     * Set up the name of the topic for diagnostics.  It is not known until the topic connector starts.
+     *
+     * @param topicName name of the topic that the events are received from
+     */
+    void setTopicName(String topicName)
+    {
+        this.topicName = topicName;
+    }
+
+
+    /**
+     * Queue the processing of an event by the listener.  The call blocks if the lane is full and the overflow
+     * policy is BLOCK.  The outcome of the processing is registered with the asynchronous processing context
+     * of the calling thread.
+     *
+     * @param orderingKey key used to select the lane - null for events that have no natural key
+     * @param eventProcessor logic that passes the event to the listener
+     */
+    void submit(String   orderingKey,
+                Runnable eventProcessor)
+    {
+        DelegatableFuture processingResult = new DelegatableFuture();
+        String            messageId        = InternalOMRSEventProcessingContext.getInstance().getCurrentMessageId();
+
+        InternalOMRSEventProcessingContext.getInstance().addAsyncProcessingResult(processingResult);
+
+        ListenerTask task = new ListenerTask(eventProcessor, messageId, processingResult);
+
+        try
+        {
+            lanes[getLane(orderingKey)].execute(task);
+        }
+        catch (RejectedExecutionException error)
+        {
+            /*
+             * The executor is shutting down.  The processing result is not completed so that the event is not
+             * recorded as processed.
+             */
+            log.debug("Event not passed to listener from " + serviceName + " because the executor is shut down");
+        }
+
+        this.reportMetricsIfDue();
+    }
+
+
+    /**
+     * Return the number of events waiting to be processed by the listener.
+     *
+     * @return count
+     */
+    int getQueuedEventCount()
+    {
+        int count = 0;
+
+        for (ThreadPoolExecutor lane : lanes)
+        {
+            count += lane.getQueue().size();
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return the number of events that have been processed since the last metrics report.
+     *
+     * @return count
+     */
+    long getProcessedEventCount()
+    {
+        return processedCount.get();
+    }
+
+
+    /**
+     * Return the number of events discarded because the queue was full since the last metrics report.
+     *
+     * @return count
+     */
+    long getDiscardedEventCount()
+    {
+        return discardedCount.get();
+    }
+
+
+    /**
+     * Return the average time in milliseconds that events waited in the queue since the last metrics report.
+     *
+     * @return lag in milliseconds
+     */
+    long getAverageLag()
+    {
+        long count = processedCount.get();
+
+        if (count == 0)
+        {
+            return 0;
+        }
+
+        return TimeUnit.NANOSECONDS.toMillis(totalLag.get() / count);
+    }
+
+
+    /**
+     * Return the longest time in milliseconds that an event waited in the queue since the last metrics report.
+     *
+     * @return lag in milliseconds
+     */
+    long getMaxLag()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(maxLag.get());
+    }
+
+
+    /**
+     * Stop the threads.  Events that are still queued are not processed and so are not recorded
+     * as processed by the event bus connector.
+     */
+    void shutdown()
+    {
+        for (ThreadPoolExecutor lane : lanes)
+        {
+            lane.shutdownNow();
+        }
+
+        this.reportMetrics();
+    }
+
+
+    /**
+     * Select the lane for an event.
+     *
+     * @param orderingKey key for the event
+     * @return lane number
+     */
+    private int getLane(String orderingKey)
+    {
+        if (orderingKey == null)
+        {
+            return 0;
+        }
+
+        return Math.floorMod(orderingKey.hashCode(), lanes.length);
+    }
+
+
+    /**
+     * Apply the overflow policy to an event that does not fit in its lane's queue.
+     *
+     * @param runnable rejected task
+     * @param lane lane that rejected the task
+     */
+    private void handleOverflow(Runnable           runnable,
+                                ThreadPoolExecutor lane)
+    {
+        if (lane.isShutdown())
+        {
+            throw new RejectedExecutionException("Listener executor for " + serviceName + " is shut down");
+        }
+
+        this.reportQueueFull();
+
+        if (overflowPolicy == OverflowPolicy.BLOCK)
+        {
+            try
+            {
+                while (! lane.getQueue().offer(runnable, 1, TimeUnit.SECONDS))
+                {
+                    if (lane.isShutdown())
+                    {
+                        throw new RejectedExecutionException("Listener executor for " + serviceName + " is shut down");
+                    }
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+
+                throw new RejectedExecutionException("Interrupted waiting for space in the queue", error);
+            }
+        }
+        else
+        {
+            discardedCount.incrementAndGet();
+
+            if (runnable instanceof ListenerTask)
+            {
+                /*
+                 * The listener will never see the event so it does not hold up the recording of the event as processed.
+                 */
+                ((ListenerTask)runnable).processingResult.setDelegate(CompletedFuture.INSTANCE);
+            }
+        }
+    }
+
+
+    /**
+     * Log that a queue is full.  The message is logged once each time the listener falls behind.
+     */
+    private void reportQueueFull()
+    {
+        if (! queueFull)
+        {
+            queueFull = true;
+
+            if (auditLog != null)
+            {
+                final String methodName = "submit";
+
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.OMRS_TOPIC_LISTENER_QUEUE_FULL.getMessageDefinition(serviceName,
+                                                                                                     topicName,
+                                                                                                     Integer.toString(getQueuedEventCount()),
+                                                                                                     overflowPolicy.name()));
+            }
+        }
+    }
+
+
+    /**
+     * Report the activity of the listener if the metrics interval has passed.
+     */
+    private void reportMetricsIfDue()
+    {
+        if (metricsInterval > 0)
+        {
+            long lastReport = lastMetricsReport.get();
+            long now        = System.currentTimeMillis();
+
+            if ((now - lastReport >= metricsInterval) && (lastMetricsReport.compareAndSet(lastReport, now)))
+            {
+                this.reportMetrics();
+            }
+        }
+    }
+
+
+    /**
+     * Log the activity of the listener since the last report and reset the counters.
+     */
+    private void reportMetrics()
+    {
+        long processed = processedCount.get();
+
+        if (auditLog != null)
+        {
+            final String methodName = "reportMetrics";
+
+            auditLog.logMessage(methodName,
+                                OMRSAuditCode.OMRS_TOPIC_LISTENER_METRICS.getMessageDefinition(serviceName,
+                                                                                              topicName,
+                                                                                              Integer.toString(getQueuedEventCount()),
+                                                                                              Long.toString(processed),
+                                                                                              Long.toString(getAverageLag()),
+                                                                                              Long.toString(getMaxLag()),
+                                                                                              Long.toString(discardedCount.get())));
+        }
+
+        processedCount.set(0);
+        discardedCount.set(0);
+        totalLag.set(0);
+        maxLag.set(0);
+    }
+
+
+    /**
+     * ListenerTask runs the processing of one event on a lane's thread.
+     */
+    private class ListenerTask implements Runnable
+    {
+        private final Runnable          eventProcessor;
+        private final String            messageId;
+        private final DelegatableFuture processingResult;
+        private final long              queuedTime = System.nanoTime();
+
+
+        /**
+         * Constructor
+         *
+         * @param eventProcessor logic that passes the event to the listener
+         * @param messageId identifier of the event on the event bus
+         * @param processingResult future to complete once the processing is done
+         */
+        ListenerTask(Runnable          eventProcessor,
+                     String            messageId,
+                     DelegatableFuture processingResult)
+        {
+            this.eventProcessor   = eventProcessor;
+            this.messageId        = messageId;
+            this.processingResult = processingResult;
+        }
+
+
+        /**
+         * Pass the event to the listener within a fresh processing context so that any asynchronous
+         * processing started by the listener is added to the event's result.
+         */
+        @Override
+        public void run()
+        {
+            long lag = System.nanoTime() - queuedTime;
+
+            totalLag.addAndGet(lag);
+            maxLag.accumulateAndGet(lag, Math::max);
+            processedCount.incrementAndGet();
+            queueFull = false;
+
+            InternalOMRSEventProcessingContext.clear();
+            InternalOMRSEventProcessingContext.getInstance().setCurrentMessageId(messageId);
+
+            try
+            {
+                eventProcessor.run();
+            }
+            finally
+            {
+                processingResult.setDelegate(InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult());
+                InternalOMRSEventProcessingContext.clear();
+            }
+        }
+    }
+}
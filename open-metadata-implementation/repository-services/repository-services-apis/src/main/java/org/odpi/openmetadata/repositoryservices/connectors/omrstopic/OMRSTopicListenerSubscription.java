@@ -0,0 +1,198 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * OMRSTopicListenerSubscription describes the instance events that a listener wants to receive from the
+ * OMRSTopicConnector.  It is supplied when the listener registers.  The OMRSTopicConnector uses it to avoid
+ * passing (and, where possible, parsing) instance events that the listener would ignore.
+ * <p>
+ * An instance event is passed to the listener if its event type is one of the requested instance event types and
+ * the type of the instance is one of the requested types or a subtype of one of them.  The subtypes are resolved
+ * through the repository helper (and hence the repository content manager) supplied with the subscription.
+ * An empty set of event types or type names means that all event types or all types are wanted.
+ * Registry and TypeDef events are always passed to the listener.
+ * </p>
+ */
+public class OMRSTopicListenerSubscription
+{
+    private final String                     sourceName;
+    private final OMRSRepositoryHelper       repositoryHelper;
+    private final Set<String>                typeNames;
+    private final Set<OMRSInstanceEventType> instanceEventTypes;
+
+    /*
+     * Results of checking the type of an instance against the requested types.  Only the results for
+     * types known to the repository helper are saved since the super types of a type never change.
+     */
+    private final Map<String, Boolean>       typeMatches = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param sourceName name of the service that owns the listener (used for logging)
+     * @param repositoryHelper helper used to resolve the subtypes of the requested types - if null, only exact
+     *                         matches on the type names are made
+     * @param typeNames names of the types of instance that the listener wants - null or empty for all types
+     * @param instanceEventTypes types of instance event that the listener wants - null or empty for all events
+     */
+    public OMRSTopicListenerSubscription(String                            sourceName,
+                                         OMRSRepositoryHelper              repositoryHelper,
+                                         Collection<String>                typeNames,
+                                         Collection<OMRSInstanceEventType> instanceEventTypes)
+    {
+        this.sourceName       = sourceName;
+        this.repositoryHelper = repositoryHelper;
+
+        if (typeNames == null)
+        {
+            this.typeNames = Collections.emptySet();
+        }
+        else
+        {
+            this.typeNames = Collections.unmodifiableSet(new HashSet<>(typeNames));
+        }
+
+        if ((instanceEventTypes == null) || (instanceEventTypes.isEmpty()))
+        {
+            this.instanceEventTypes = Collections.emptySet();
+        }
+        else
+        {
+            this.instanceEventTypes = Collections.unmodifiableSet(EnumSet.copyOf(instanceEventTypes));
+        }
+    }
+
+
+    /**
+     * Return the names of the types of instance that the listener wants.
+     *
+     * @return set of type names - empty for all types
+     */
+    public Set<String> getTypeNames()
+    {
+        return typeNames;
+    }
+
+
+    /**
+     * Return the types of instance event that the listener wants.
+     *
+     * @return set of event types - empty for all events
+     */
+    public Set<OMRSInstanceEventType> getInstanceEventTypes()
+    {
+        return instanceEventTypes;
+    }
+
+
+    /**
+     * Determine whether the listener wants an instance event.  If any of the information needed to decide is
+     * missing, the event is wanted.
+     *
+     * @param instanceEventType type of the event
+     * @param typeDefName name of the type of the instance the event is about
+     * @return boolean flag
+     */
+    public boolean isInstanceEventWanted(OMRSInstanceEventType instanceEventType,
+                                         String                typeDefName)
+    {
+        if ((instanceEventType != null) && (! instanceEventTypes.isEmpty()) && (! instanceEventTypes.contains(instanceEventType)))
+        {
+            return false;
+        }
+
+        return this.isTypeWanted(typeDefName);
+    }
+
+
+    /**
+     * Determine whether the type of an instance is one of the requested types or one of their subtypes.
+     *
+     * @param typeDefName name of the type of the instance
+     * @return boolean flag
+     */
+    private boolean isTypeWanted(String typeDefName)
+    {
+        if ((typeDefName == null) || (typeNames.isEmpty()) || (typeNames.contains(typeDefName)))
+        {
+            return true;
+        }
+
+        Boolean typeMatch = typeMatches.get(typeDefName);
+
+        if (typeMatch != null)
+        {
+            return typeMatch;
+        }
+
+        if (repositoryHelper == null)
+        {
+            typeMatches.put(typeDefName, false);
+
+            return false;
+        }
+
+        try
+        {
+            TypeDef typeDef = repositoryHelper.getTypeDefByName(sourceName, typeDefName);
+
+            if (typeDef == null)
+            {
+                /*
+                 * The type is not known yet so the event is passed on in case it is of interest.
+                 */
+                return true;
+            }
+
+            boolean isWanted = false;
+
+            for (String typeName : typeNames)
+            {
+                if (repositoryHelper.isTypeOf(sourceName, typeDefName, typeName))
+                {
+                    isWanted = true;
+                    break;
+                }
+            }
+
+            typeMatches.put(typeDefName, isWanted);
+
+            return isWanted;
+        }
+        catch (Exception error)
+        {
+            return true;
+        }
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicListenerSubscription{" +
+                       "sourceName='" + sourceName + '\'' +
+                       ", typeNames=" + typeNames +
+                       ", instanceEventTypes=" + instanceEventTypes +
+                       '}';
+    }
+}
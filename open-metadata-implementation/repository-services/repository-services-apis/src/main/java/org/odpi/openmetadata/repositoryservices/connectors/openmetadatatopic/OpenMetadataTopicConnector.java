@@ -146,11 +146,13 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
 
     /**
-     * Pass an event that has been received on the topic to each of the registered listeners.
+     * Pass an event that has been received on the topic to each of the registered listeners.  This is normally
+     * called by the listener thread.  Implementations that process events on their own threads may call it
+     * directly, in which case they are responsible for the order that the events are distributed in.
      *
      * @param event OMRSEvent to distribute
      */
-    private void distributeEvent(IncomingEvent event)
+    protected void distributeEvent(IncomingEvent event)
     {
         //Initially clear the async event processing context to ensure that it will only
         //have results from processing this event
@@ -4,11 +4,14 @@
 package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.odpi.openmetadata.frameworks.connectors.Connector;
 import org.odpi.openmetadata.frameworks.connectors.VirtualConnectorExtension;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * OpenMetadataTopicListenerConnectorBase is a base class for a connector that is going to embed the OpenMetadataTopicConnector
@@ -20,6 +23,13 @@ import java.util.List;
 public abstract class OpenMetadataTopicListenerConnectorBase extends OpenMetadataTopicConsumerBase implements OpenMetadataTopicListener,
                                                                                                               VirtualConnectorExtension
 {
+    /*
+     * One reader is built for each event class.  Readers are immutable and thread-safe so they are shared
+     * by all of the listener connectors.
+     */
+    private static final ObjectMapper                OBJECT_MAPPER = new ObjectMapper();
+    private static final Map<Class<?>, ObjectReader> EVENT_READERS = new ConcurrentHashMap<>();
+
 
     /**
      * Set up the list of connectors that this virtual connector will use to support its interface.
@@ -72,9 +82,9 @@ public abstract class OpenMetadataTopicListenerConnectorBase extends OpenMetadat
         /*
          * Parse the string (JSON) event into a bean.
          */
-        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectReader eventReader = EVENT_READERS.computeIfAbsent(eventClass, OBJECT_MAPPER::readerFor);
 
-        return objectMapper.readValue(event, eventClass);
+        return eventReader.readValue(event);
     }
 
 
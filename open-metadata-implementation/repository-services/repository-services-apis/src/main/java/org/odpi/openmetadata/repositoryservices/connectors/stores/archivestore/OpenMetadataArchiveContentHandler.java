@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+/**
+ * <p>
+ * OpenMetadataArchiveContentHandler receives the content of an open metadata archive one piece at a time.
+ * It allows an archive to be processed without holding all of its content in memory.
+ * </p>
+ * <p>
+ *     The content is passed in the following order:
+ * </p>
+ * <ul>
+ *     <li>
+ *         Archive header properties - null if the archive does not have any.  If the properties are null,
+ *         no further content is passed.
+ *     </li>
+ *     <li>
+ *         Type store (if present)
+ *     </li>
+ *     <li>
+ *         Entities from the instance store, followed by the relationships and then the classifications
+ *     </li>
+ * </ul>
+ */
+public interface OpenMetadataArchiveContentHandler
+{
+    /**
+     * Receive the header properties of the archive.
+     *
+     * @param archiveProperties properties of the archive or null if they are missing
+     */
+    void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties);
+
+
+    /**
+     * Receive the type store of the archive.
+     *
+     * @param archiveTypeStore type definitions and patches from the archive
+     */
+    void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore);
+
+
+    /**
+     * Receive an entity from the instance store of the archive.
+     *
+     * @param entity entity
+     */
+    void processEntity(EntityDetail entity);
+
+
+    /**
+     * Receive a relationship from the instance store of the archive.
+     *
+     * @param relationship relationship
+     */
+    void processRelationship(Relationship relationship);
+
+
+    /**
+     * Receive a classification from the instance store of the archive.
+     *
+     * @param classification classification and the entity it is attached to
+     */
+    void processClassification(ClassificationEntityExtension classification);
+}
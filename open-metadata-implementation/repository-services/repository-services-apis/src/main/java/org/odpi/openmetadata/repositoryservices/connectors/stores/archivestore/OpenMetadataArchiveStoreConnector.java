@@ -6,6 +6,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
 
 
 /**
@@ -30,6 +31,29 @@ public abstract class OpenMetadataArchiveStoreConnector extends ConnectorBase im
     }
 
 
+    /**
+     * Pass the contents of the archive to a handler one piece at a time.  This implementation retrieves the
+     * whole archive with getArchiveContents().  Connectors that are able to read their archive incrementally
+     * override it so the archive is not held in memory.
+     *
+     * @param contentHandler receiver of the archive contents
+     * @return false if the archive has no content
+     */
+    public boolean processArchiveContents(OpenMetadataArchiveContentHandler contentHandler)
+    {
+        OpenMetadataArchive archiveContents = this.getArchiveContents();
+
+        if (archiveContents == null)
+        {
+            return false;
+        }
+
+        OpenMetadataArchiveStreamReader.readArchive(archiveContents, contentHandler);
+
+        return true;
+    }
+
+
     /**
      * Return the component description that is used by this connector in the audit log.
      *
@@ -0,0 +1,398 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>
+ * OpenMetadataArchiveStreamReader passes the content of an open metadata archive to an
+ * OpenMetadataArchiveContentHandler.  When the archive is a JSON document, it is read with the Jackson
+ * token stream so that only one entity, relationship or classification is in memory at a time.
+ * </p>
+ * <p>
+ *     The handler receives the sections of the archive in the order described on OpenMetadataArchiveContentHandler,
+ *     whatever their order in the document.  An archive written from an OpenMetadataArchive object has its sections
+ *     in this order already and is read in a single pass.  Otherwise, a section that is found before the sections that
+ *     precede it is skipped and the archive is read again to pick it up.
+ * </p>
+ */
+public class OpenMetadataArchiveStreamReader
+{
+    /**
+     * ArchiveSource opens a new stream over the JSON document of an archive each time it is called.
+     */
+    public interface ArchiveSource
+    {
+        /**
+         * Open a stream positioned at the start of the archive.  The reader closes the stream.
+         *
+         * @return input stream
+         * @throws IOException the archive can not be opened
+         */
+        InputStream openArchive() throws IOException;
+    }
+
+
+    /*
+     * Property names of the sections in the JSON document.
+     */
+    private static final String archivePropertiesName    = "archiveProperties";
+    private static final String archiveTypeStoreName     = "archiveTypeStore";
+    private static final String archiveInstanceStoreName = "archiveInstanceStore";
+    private static final String entitiesName             = "entities";
+    private static final String relationshipsName        = "relationships";
+    private static final String classificationsName      = "classifications";
+
+    /*
+     * Sections in the order they are passed to the handler.
+     */
+    private static final int properties      = 0;
+    private static final int typeStore       = 1;
+    private static final int entities        = 2;
+    private static final int relationships   = 3;
+    private static final int classifications = 4;
+    private static final int sectionCount    = 5;
+
+    private static final ObjectMapper objectMapper         = new ObjectMapper();
+    private static final ObjectReader propertiesReader     = objectMapper.readerFor(OpenMetadataArchiveProperties.class);
+    private static final ObjectReader typeStoreReader      = objectMapper.readerFor(OpenMetadataArchiveTypeStore.class);
+    private static final ObjectReader entityReader         = objectMapper.readerFor(EntityDetail.class);
+    private static final ObjectReader relationshipReader   = objectMapper.readerFor(Relationship.class);
+    private static final ObjectReader classificationReader = objectMapper.readerFor(ClassificationEntityExtension.class);
+
+    private final ArchiveSource                     archiveSource;
+    private final OpenMetadataArchiveContentHandler contentHandler;
+
+    /*
+     * Sections with content found in the archive.  They are known once the first pass is complete.
+     */
+    private final boolean[] sectionPresent   = new boolean[sectionCount];
+    private       boolean   sectionsKnown    = false;
+    private       int       nextSection      = properties;
+
+
+    /**
+     * Constructor is private - use readArchive().
+     *
+     * @param archiveSource source of the archive
+     * @param contentHandler receiver of the content
+     */
+    private OpenMetadataArchiveStreamReader(ArchiveSource                     archiveSource,
+                                            OpenMetadataArchiveContentHandler contentHandler)
+    {
+        this.archiveSource  = archiveSource;
+        this.contentHandler = contentHandler;
+    }
+
+
+    /**
+     * Stream the content of a JSON encoded open metadata archive to the handler.
+     *
+     * @param archiveSource source of the JSON document
+     * @param contentHandler receiver of the content
+     * @return false if the archive is a JSON null - that is, it has no content
+     * @throws IOException the archive can not be read or is not a valid open metadata archive
+     */
+    public static boolean readArchive(ArchiveSource                     archiveSource,
+                                      OpenMetadataArchiveContentHandler contentHandler) throws IOException
+    {
+        OpenMetadataArchiveStreamReader reader = new OpenMetadataArchiveStreamReader(archiveSource, contentHandler);
+
+        return reader.readArchive();
+    }
+
+
+    /**
+     * Pass the content of an archive that is already in memory to the handler.
+     *
+     * @param archiveContents archive
+     * @param contentHandler receiver of the content
+     */
+    public static void readArchive(OpenMetadataArchive               archiveContents,
+                                   OpenMetadataArchiveContentHandler contentHandler)
+    {
+        OpenMetadataArchiveProperties archiveProperties = archiveContents.getArchiveProperties();
+
+        contentHandler.processArchiveProperties(archiveProperties);
+
+        if (archiveProperties != null)
+        {
+            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContents.getArchiveTypeStore();
+            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContents.getArchiveInstanceStore();
+
+            if (archiveTypeStore != null)
+            {
+                contentHandler.processTypeStore(archiveTypeStore);
+            }
+
+            if (archiveInstanceStore != null)
+            {
+                if (archiveInstanceStore.getEntities() != null)
+                {
+                    for (EntityDetail entity : archiveInstanceStore.getEntities())
+                    {
+                        if (entity != null)
+                        {
+                            contentHandler.processEntity(entity);
+                        }
+                    }
+                }
+
+                if (archiveInstanceStore.getRelationships() != null)
+                {
+                    for (Relationship relationship : archiveInstanceStore.getRelationships())
+                    {
+                        if (relationship != null)
+                        {
+                            contentHandler.processRelationship(relationship);
+                        }
+                    }
+                }
+
+                if (archiveInstanceStore.getClassifications() != null)
+                {
+                    for (ClassificationEntityExtension classification : archiveInstanceStore.getClassifications())
+                    {
+                        if (classification != null)
+                        {
+                            contentHandler.processClassification(classification);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Read the archive as many times as needed to pass every section to the handler in order.
+     *
+     * @return false if the archive has no content
+     * @throws IOException the archive can not be read
+     */
+    private boolean readArchive() throws IOException
+    {
+        while (nextSection < sectionCount)
+        {
+            if (! this.readPass())
+            {
+                return false;
+            }
+
+            sectionsKnown = true;
+
+            if ((nextSection == properties) && (! sectionPresent[properties]))
+            {
+                /*
+                 * Without properties, the rest of the archive is not processed.
+                 */
+                contentHandler.processArchiveProperties(null);
+                return true;
+            }
+
+            this.skipAbsentSections();
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Read through the archive once, passing each section that is next in order to the handler and
+     * skipping the rest.
+     *
+     * @return false if the archive is a JSON null
+     * @throws IOException the archive can not be read
+     */
+    private boolean readPass() throws IOException
+    {
+        try (InputStream inputStream = archiveSource.openArchive();
+             JsonParser  parser      = objectMapper.getFactory().createParser(inputStream))
+        {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.VALUE_NULL)
+            {
+                return false;
+            }
+
+            if (token != JsonToken.START_OBJECT)
+            {
+                throw new JsonParseException(parser, "Open metadata archive is not a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME)
+            {
+                String fieldName = parser.getCurrentName();
+
+                token = parser.nextToken();
+
+                if (archivePropertiesName.equals(fieldName))
+                {
+                    this.readSection(parser, properties);
+                }
+                else if (archiveTypeStoreName.equals(fieldName))
+                {
+                    this.readSection(parser, typeStore);
+                }
+                else if ((archiveInstanceStoreName.equals(fieldName)) && (token == JsonToken.START_OBJECT))
+                {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME)
+                    {
+                        fieldName = parser.getCurrentName();
+
+                        parser.nextToken();
+
+                        if (entitiesName.equals(fieldName))
+                        {
+                            this.readSection(parser, entities);
+                        }
+                        else if (relationshipsName.equals(fieldName))
+                        {
+                            this.readSection(parser, relationships);
+                        }
+                        else if (classificationsName.equals(fieldName))
+                        {
+                            this.readSection(parser, classifications);
+                        }
+                        else
+                        {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+                else
+                {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Process the section at the current position of the parser.  It is passed to the handler if all the
+     * sections before it have been passed.  Otherwise, it is skipped.
+     *
+     * @param parser parser positioned at the start of the section's value
+     * @param section section found
+     * @throws IOException the section can not be read
+     */
+    private void readSection(JsonParser parser,
+                             int        section) throws IOException
+    {
+        if (parser.currentToken() == JsonToken.VALUE_NULL)
+        {
+            return;
+        }
+
+        sectionPresent[section] = true;
+
+        if (section != nextSection)
+        {
+            parser.skipChildren();
+            return;
+        }
+
+        if ((section >= entities) && (parser.currentToken() != JsonToken.START_ARRAY))
+        {
+            throw new JsonParseException(parser, "Open metadata archive instance list is not a JSON array");
+        }
+
+        switch (section)
+        {
+            case properties:
+                contentHandler.processArchiveProperties(propertiesReader.readValue(parser));
+                break;
+
+            case typeStore:
+                contentHandler.processTypeStore(typeStoreReader.readValue(parser));
+                break;
+
+            case entities:
+                for (EntityDetail entity = readElement(parser, entityReader); entity != null; entity = readElement(parser, entityReader))
+                {
+                    contentHandler.processEntity(entity);
+                }
+                break;
+
+            case relationships:
+                for (Relationship relationship = readElement(parser, relationshipReader); relationship != null; relationship = readElement(parser, relationshipReader))
+                {
+                    contentHandler.processRelationship(relationship);
+                }
+                break;
+
+            case classifications:
+                for (ClassificationEntityExtension classification = readElement(parser, classificationReader); classification != null; classification = readElement(parser, classificationReader))
+                {
+                    contentHandler.processClassification(classification);
+                }
+                break;
+        }
+
+        nextSection = section + 1;
+
+        if (sectionsKnown)
+        {
+            this.skipAbsentSections();
+        }
+    }
+
+
+    /**
+     * Read the next element of an array.  Null elements are skipped.
+     *
+     * @param parser parser positioned at the start of the array or at the end of the previous element
+     * @param reader reader for the type of element
+     * @param <T> type of element
+     * @return next element or null if the end of the array is reached
+     * @throws IOException the element can not be read
+     */
+    private static <T> T readElement(JsonParser   parser,
+                                     ObjectReader reader) throws IOException
+    {
+        JsonToken token = parser.nextToken();
+
+        while (token == JsonToken.VALUE_NULL)
+        {
+            token = parser.nextToken();
+        }
+
+        if ((token == null) || (token == JsonToken.END_ARRAY))
+        {
+            return null;
+        }
+
+        return reader.readValue(parser);
+    }
+
+
+    /**
+     * Move past the sections that are not in the archive.
+     */
+    private void skipAbsentSections()
+    {
+        while ((nextSection < sectionCount) && (nextSection != properties) && (! sectionPresent[nextSection]))
+        {
+            nextSection++;
+        }
+    }
+}
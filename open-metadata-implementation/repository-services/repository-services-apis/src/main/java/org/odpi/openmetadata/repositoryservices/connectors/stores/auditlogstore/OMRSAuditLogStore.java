@@ -8,6 +8,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterE
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -44,6 +45,33 @@ public interface OMRSAuditLogStore
                                                                RepositoryErrorException;
 
 
+    /**
+     * Store a batch of audit log records in the audit log store.  This is used when the audit log
+     * records are written asynchronously.  The default implementation stores each record in turn -
+     * stores that can write a batch of records in one operation should override it.
+     *
+     * @param logRecords  log records to store
+     * @return unique identifiers assigned to the log records
+     * @throws InvalidParameterException indicates that one of the logRecords is invalid.
+     * @throws RepositoryErrorException indicates that the audit log store is not available or has an error.
+     */
+    default List<String> storeLogRecords(List<OMRSAuditLogRecord> logRecords) throws InvalidParameterException,
+                                                                                     RepositoryErrorException
+    {
+        List<String> logRecordIds = new ArrayList<>();
+
+        if (logRecords != null)
+        {
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                logRecordIds.add(storeLogRecord(logRecord));
+            }
+        }
+
+        return logRecordIds;
+    }
+
+
     /**
      * Retrieve a specific audit log record.
      *
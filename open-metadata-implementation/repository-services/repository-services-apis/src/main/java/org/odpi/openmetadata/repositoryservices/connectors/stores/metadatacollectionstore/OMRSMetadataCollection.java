@@ -9,6 +9,7 @@ import java.util.concurrent.Future;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.frameworks.auditlog.ComponentDescription;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.ContinuationToken;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
@@ -944,6 +945,74 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                              FunctionNotSupportedException,
                                                                                                              UserNotAuthorizedException;
 
+    /**
+     * Return a page of the relationships for a specific entity.  The continuation token returned with each page
+     * is passed on the request for the next page, allowing the repository to resume from the last relationship
+     * returned rather than counting through the earlier pages.  The default implementation calls
+     * getRelationshipsForEntity with the number of relationships already returned - repositories that can resume
+     * from a sort key should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param continuationToken token returned with the previous page; null means start from the first relationship.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships and the token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the retrieved relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipPage getRelationshipsForEntityPage(String                     userId,
+                                                          String                     entityGUID,
+                                                          String                     relationshipTypeGUID,
+                                                          String                     continuationToken,
+                                                          List<InstanceStatus>       limitResultsByStatus,
+                                                          Date                       asOfTime,
+                                                          String                     sequencingProperty,
+                                                          SequencingOrder            sequencingOrder,
+                                                          int                        pageSize) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      EntityNotKnownException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        final String methodName = "getRelationshipsForEntityPage";
+
+        ContinuationToken token = ContinuationToken.decode(continuationToken, sequencingOrder, sequencingProperty, repositoryName, methodName);
+        int               offset = this.getContinuationOffset(token);
+
+        List<Relationship> relationships = this.getRelationshipsForEntity(userId,
+                                                                          entityGUID,
+                                                                          relationshipTypeGUID,
+                                                                          offset,
+                                                                          limitResultsByStatus,
+                                                                          asOfTime,
+                                                                          sequencingProperty,
+                                                                          sequencingOrder,
+                                                                          pageSize);
+
+        return new RelationshipPage(relationships,
+                                    this.getOffsetContinuationToken(relationships, offset, sequencingProperty, sequencingOrder, pageSize));
+    }
+
 
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
@@ -997,6 +1066,80 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                 FunctionNotSupportedException,
                                                                                                 UserNotAuthorizedException;
 
+    /**
+     * Return a page of the entities that match the supplied criteria.  The continuation token returned with each page
+     * is passed on the request for the next page, allowing the repository to resume from the last entity
+     * returned rather than counting through the earlier pages.  The default implementation calls
+     * findEntities with the number of entities already returned - repositories that can resume
+     * from a sort key should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param continuationToken token returned with the previous page; null means start from the first entity.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities and the token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String methodName = "findEntitiesPage";
+
+        ContinuationToken token = ContinuationToken.decode(continuationToken, sequencingOrder, sequencingProperty, repositoryName, methodName);
+        int               offset = this.getContinuationOffset(token);
+
+        List<EntityDetail> entities = this.findEntities(userId,
+                                                        entityTypeGUID,
+                                                        entitySubtypeGUIDs,
+                                                        matchProperties,
+                                                        offset,
+                                                        limitResultsByStatus,
+                                                        matchClassifications,
+                                                        asOfTime,
+                                                        sequencingProperty,
+                                                        sequencingOrder,
+                                                        pageSize);
+
+        return new EntityDetailPage(entities,
+                                    this.getOffsetContinuationToken(entities, offset, sequencingProperty, sequencingOrder, pageSize));
+    }
+
 
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
@@ -1315,6 +1458,127 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                      FunctionNotSupportedException,
                                                                                                      UserNotAuthorizedException;
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token returned with
+     * each page is passed on the request for the next page, allowing the repository to resume from the last
+     * relationship returned rather than counting through the earlier pages.  The default implementation calls
+     * findRelationships with the number of relationships already returned - repositories that can resume
+     * from a sort key should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param continuationToken token returned with the previous page; null means start from the first relationship.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships and the token for the next page.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipPage findRelationshipsPage(String                    userId,
+                                                  String                    relationshipTypeGUID,
+                                                  List<String>              relationshipSubtypeGUIDs,
+                                                  SearchProperties          matchProperties,
+                                                  String                    continuationToken,
+                                                  List<InstanceStatus>      limitResultsByStatus,
+                                                  Date                      asOfTime,
+                                                  String                    sequencingProperty,
+                                                  SequencingOrder           sequencingOrder,
+                                                  int                       pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String methodName = "findRelationshipsPage";
+
+        ContinuationToken token = ContinuationToken.decode(continuationToken, sequencingOrder, sequencingProperty, repositoryName, methodName);
+        int               offset = this.getContinuationOffset(token);
+
+        List<Relationship> relationships = this.findRelationships(userId,
+                                                                  relationshipTypeGUID,
+                                                                  relationshipSubtypeGUIDs,
+                                                                  matchProperties,
+                                                                  offset,
+                                                                  limitResultsByStatus,
+                                                                  asOfTime,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize);
+
+        return new RelationshipPage(relationships,
+                                    this.getOffsetContinuationToken(relationships, offset, sequencingProperty, sequencingOrder, pageSize));
+    }
+
+
+    /**
+     * Return the number of elements already returned from a decoded continuation token.
+     *
+     * @param token decoded token or null for the first page
+     * @return offset of the next element
+     */
+    protected int getContinuationOffset(ContinuationToken token)
+    {
+        if (token == null)
+        {
+            return 0;
+        }
+
+        return token.getOffset();
+    }
+
+
+    /**
+     * Build the continuation token for the next page of an offset-based search.  If the page is not full, there
+     * are no more results and no token is returned.
+     *
+     * @param page elements returned in this page
+     * @param offset number of elements returned before this page
+     * @param sequencingProperty sequencing property of the request
+     * @param sequencingOrder sequencing order of the request
+     * @param pageSize maximum number of elements in a page
+     * @return encoded token or null if there are no more results
+     */
+    protected String getOffsetContinuationToken(List<? extends InstanceHeader> page,
+                                                int                            offset,
+                                                String                         sequencingProperty,
+                                                SequencingOrder                sequencingOrder,
+                                                int                            pageSize)
+    {
+        if ((page == null) || (pageSize <= 0) || (page.size() < pageSize))
+        {
+            return null;
+        }
+
+        ContinuationToken token = new ContinuationToken(offset + page.size(),
+                                                        page.get(page.size() - 1).getGUID(),
+                                                        sequencingOrder,
+                                                        sequencingProperty);
+
+        return token.encode();
+    }
+
 
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
@@ -0,0 +1,362 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ContinuationToken records where a page of search results ended so that the next page can be retrieved without
+ * the repository having to count through the results that have already been returned.  It is passed to the
+ * caller as an opaque string and returned unchanged on the request for the next page.
+ * <p>
+ * The token holds the unique identifier (guid) of the last element returned, the number of elements returned so far
+ * (used if the last element has since been removed from the results) and the sequencing parameters of the request.
+ * When the token is created by the enterprise repository services, it holds the token of each
+ * member repository, keyed by metadata collection id.  An empty member token means that member has no more results.
+ * </p>
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ContinuationToken implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private int                 offset             = 0;
+    private String              lastGUID           = null;
+    private SequencingOrder     sequencingOrder    = null;
+    private String              sequencingProperty = null;
+    private Map<String, String> repositoryTokens   = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ContinuationToken()
+    {
+    }
+
+
+    /**
+     * Typical constructor for a token from a single repository.
+     *
+     * @param offset number of elements returned so far
+     * @param lastGUID unique identifier of the last element returned
+     * @param sequencingOrder sequencing order of the request
+     * @param sequencingProperty sequencing property of the request
+     */
+    public ContinuationToken(int             offset,
+                             String          lastGUID,
+                             SequencingOrder sequencingOrder,
+                             String          sequencingProperty)
+    {
+        this.offset             = offset;
+        this.lastGUID           = lastGUID;
+        this.sequencingOrder    = sequencingOrder;
+        this.sequencingProperty = sequencingProperty;
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    public ContinuationToken(ContinuationToken template)
+    {
+        if (template != null)
+        {
+            offset             = template.getOffset();
+            lastGUID           = template.getLastGUID();
+            sequencingOrder    = template.getSequencingOrder();
+            sequencingProperty = template.getSequencingProperty();
+            repositoryTokens   = template.getRepositoryTokens();
+        }
+    }
+
+
+    /**
+     * Return the number of elements returned so far.
+     *
+     * @return int
+     */
+    public int getOffset()
+    {
+        return offset;
+    }
+
+
+    /**
+     * Set up the number of elements returned so far.
+     *
+     * @param offset int
+     */
+    public void setOffset(int offset)
+    {
+        this.offset = offset;
+    }
+
+
+    /**
+     * Return the unique identifier of the last element returned.
+     *
+     * @return guid
+     */
+    public String getLastGUID()
+    {
+        return lastGUID;
+    }
+
+
+    /**
+     * Set up the unique identifier of the last element returned.
+     *
+     * @param lastGUID guid
+     */
+    public void setLastGUID(String lastGUID)
+    {
+        this.lastGUID = lastGUID;
+    }
+
+
+    /**
+     * Return the sequencing order of the request that created the token.
+     *
+     * @return enum
+     */
+    public SequencingOrder getSequencingOrder()
+    {
+        return sequencingOrder;
+    }
+
+
+    /**
+     * Set up the sequencing order of the request that created the token.
+     *
+     * @param sequencingOrder enum
+     */
+    public void setSequencingOrder(SequencingOrder sequencingOrder)
+    {
+        this.sequencingOrder = sequencingOrder;
+    }
+
+
+    /**
+     * Return the sequencing property of the request that created the token.
+     *
+     * @return property name
+     */
+    public String getSequencingProperty()
+    {
+        return sequencingProperty;
+    }
+
+
+    /**
+     * Set up the sequencing property of the request that created the token.
+     *
+     * @param sequencingProperty property name
+     */
+    public void setSequencingProperty(String sequencingProperty)
+    {
+        this.sequencingProperty = sequencingProperty;
+    }
+
+
+    /**
+     * Return the continuation tokens of the member repositories, keyed by metadata collection id.
+     *
+     * @return map of metadata collection id to token
+     */
+    public Map<String, String> getRepositoryTokens()
+    {
+        if (repositoryTokens == null)
+        {
+            return null;
+        }
+        else if (repositoryTokens.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new HashMap<>(repositoryTokens);
+        }
+    }
+
+
+    /**
+     * Set up the continuation tokens of the member repositories, keyed by metadata collection id.
+     *
+     * @param repositoryTokens map of metadata collection id to token
+     */
+    public void setRepositoryTokens(Map<String, String> repositoryTokens)
+    {
+        this.repositoryTokens = repositoryTokens;
+    }
+
+
+    /**
+     * Return the opaque string form of the token that is passed to the caller.
+     *
+     * @return encoded token
+     */
+    public String encode()
+    {
+        try
+        {
+            byte[] json = objectMapper.writeValueAsBytes(this);
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        }
+        catch (Exception error)
+        {
+            /*
+             * The token only contains simple values so this is not expected.
+             */
+            throw new IllegalStateException(error);
+        }
+    }
+
+
+    /**
+     * Decode the string form of a token that has been passed back from the caller and check that it
+     * came from a request with the same sequencing.
+     *
+     * @param continuationToken token from the caller; null means start from the first page
+     * @param sequencingOrder sequencing order of this request
+     * @param sequencingProperty sequencing property of this request
+     * @param repositoryName name of the repository - used for messages
+     * @param methodName calling method
+     * @return decoded token or null if this is the first page
+     * @throws PagingErrorException the token is not valid
+     */
+    public static ContinuationToken decode(String          continuationToken,
+                                           SequencingOrder sequencingOrder,
+                                           String          sequencingProperty,
+                                           String          repositoryName,
+                                           String          methodName) throws PagingErrorException
+    {
+        if ((continuationToken == null) || (continuationToken.isEmpty()))
+        {
+            return null;
+        }
+
+        ContinuationToken token;
+
+        try
+        {
+            byte[] json = Base64.getUrlDecoder().decode(continuationToken.getBytes(StandardCharsets.UTF_8));
+
+            token = objectMapper.readValue(json, ContinuationToken.class);
+        }
+        catch (Exception error)
+        {
+            throw new PagingErrorException(OMRSErrorCode.INVALID_CONTINUATION_TOKEN.getMessageDefinition(methodName, repositoryName),
+                                           ContinuationToken.class.getName(),
+                                           methodName,
+                                           error);
+        }
+
+        if ((token.getOffset() < 0) ||
+            (! Objects.equals(normalize(token.getSequencingOrder()), normalize(sequencingOrder))) ||
+            (! Objects.equals(token.getSequencingProperty(), sequencingProperty)))
+        {
+            throw new PagingErrorException(OMRSErrorCode.INVALID_CONTINUATION_TOKEN.getMessageDefinition(methodName, repositoryName),
+                                           ContinuationToken.class.getName(),
+                                           methodName);
+        }
+
+        return token;
+    }
+
+
+    /**
+     * A null sequencing order is the same as ANY.
+     *
+     * @param sequencingOrder requested sequencing order
+     * @return sequencing order
+     */
+    private static SequencingOrder normalize(SequencingOrder sequencingOrder)
+    {
+        if (sequencingOrder == null)
+        {
+            return SequencingOrder.ANY;
+        }
+
+        return sequencingOrder;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "ContinuationToken{" +
+                "offset=" + offset +
+                ", lastGUID='" + lastGUID + '\'' +
+                ", sequencingOrder=" + sequencingOrder +
+                ", sequencingProperty='" + sequencingProperty + '\'' +
+                ", repositoryTokens=" + repositoryTokens +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ContinuationToken that = (ContinuationToken) objectToCompare;
+        return offset == that.offset &&
+                Objects.equals(lastGUID, that.lastGUID) &&
+                sequencingOrder == that.sequencingOrder &&
+                Objects.equals(sequencingProperty, that.sequencingProperty) &&
+                Objects.equals(repositoryTokens, that.repositoryTokens);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(offset, lastGUID, sequencingOrder, sequencingProperty, repositoryTokens);
+    }
+}
@@ -22,9 +22,11 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
         property = "class")
 @JsonSubTypes({
         @JsonSubTypes.Type(value = ClassificationEntityExtension.class, name = "ClassificationEntityExtension"),
+        @JsonSubTypes.Type(value = EntityDetailPage.class, name = "EntityDetailPage"),
         @JsonSubTypes.Type(value = InstanceAuditHeader.class, name = "InstanceAuditHeader"),
         @JsonSubTypes.Type(value = InstanceGraph.class, name = "InstanceGraph"),
         @JsonSubTypes.Type(value = InstanceType.class, name = "InstanceType"),
+        @JsonSubTypes.Type(value = RelationshipPage.class, name = "RelationshipPage"),
         @JsonSubTypes.Type(value = InstancePropertyValue.class, name = "InstancePropertyValue")
 })
 public abstract class InstanceElementHeader extends RepositoryElementHeader
@@ -1019,6 +1019,66 @@ public interface OMRSRepositoryHelper extends OMRSRepositoryPropertiesHelper
                                                                                        PropertyErrorException;
 
 
+    /**
+     * Use the continuation token and sequencing parameters to select the next page of results for a repository
+     * call that returns a list of entity instances.  Elements are ordered by the sequencing order with ties
+     * (and the ANY order) broken by guid, so the page can resume after the last element returned
+     * without sorting the full list of results.
+     *
+     * @param sourceName name of the calling repository
+     * @param methodName calling method
+     * @param fullResults - the full list of results in an arbitrary order
+     * @param continuationToken - token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results and the token for the next page
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     */
+    EntityDetailPage  formatEntityPage(String             sourceName,
+                                       String             methodName,
+                                       List<EntityDetail> fullResults,
+                                       String             continuationToken,
+                                       String             sequencingProperty,
+                                       SequencingOrder    sequencingOrder,
+                                       int                pageSize) throws PagingErrorException,
+                                                                           PropertyErrorException;
+
+
+    /**
+     * Use the continuation token and sequencing parameters to select the next page of results for a repository
+     * call that returns a list of relationship instances.  Elements are ordered by the sequencing order with ties
+     * (and the ANY order) broken by guid, so the page can resume after the last element returned
+     * without sorting the full list of results.
+     *
+     * @param sourceName name of the calling repository
+     * @param methodName calling method
+     * @param fullResults - the full list of results in an arbitrary order
+     * @param continuationToken - token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results and the token for the next page
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  relationship.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     */
+    RelationshipPage  formatRelationshipPage(String             sourceName,
+                                             String             methodName,
+                                             List<Relationship> fullResults,
+                                             String             continuationToken,
+                                             String             sequencingProperty,
+                                             SequencingOrder    sequencingOrder,
+                                             int                pageSize) throws PagingErrorException,
+                                                                                 PropertyErrorException;
+
+
     /**
      * Retrieve an escaped version of the provided string that can be passed to methods that expect regular expressions,
      * without being interpreted as a regular expression (i.e. the returned string will be interpreted as a literal --
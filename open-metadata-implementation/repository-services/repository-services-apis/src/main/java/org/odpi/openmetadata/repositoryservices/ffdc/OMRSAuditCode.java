@@ -237,6 +237,24 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                "Verify that the local repository is receiving inbound events - or at least there are no errors reported " +
                                        "related to incoming events"),
 
+    OMRS_TOPIC_LISTENER_EXECUTOR_START("OMRS-AUDIT-0027",
+                                       OMRSAuditLogRecordSeverity.STARTUP,
+                                       "An OMRS Topic Connector is passing events to the listener from {0} using {1} threads, each with a queue of {2} events and the {3} overflow policy",
+                                       "Events for the same instance or type are always passed to the listener on the same thread so that " +
+                                               "they are processed in the order they were received.  A slow listener does not delay the other listeners.",
+                                       "No action is required.  The number of threads, queue size and overflow policy are set in the configuration " +
+                                               "properties of the cohort topic connection."),
+
+    OMRS_TOPIC_LISTENER_QUEUE_FULL("OMRS-AUDIT-0028",
+                                   OMRSAuditLogRecordSeverity.ERROR,
+                                   "The event queue for the listener from {0} on topic {1} is full with {2} events waiting.  New events are being handled with the {3} overflow policy",
+                                   "The listener is processing events more slowly than they are arriving on the topic.  With the BLOCK policy " +
+                                           "no more events are read from the topic until the listener catches up.  With the DISCARD policy " +
+                                           "the listener does not see the new events.",
+                                   "Review the processing lag reported for this listener and the operational status of the service " +
+                                           "that owns it.  Consider increasing the listenerThreadCount or listenerQueueSize configuration properties " +
+                                           "of the cohort topic connection."),
+
     INITIALIZING_EVENT_MANAGER("OMRS-AUDIT-0029",
                                OMRSAuditLogRecordSeverity.STARTUP,
                                "The {0} event manager is initializing",
@@ -305,6 +323,13 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                          "The server fails to start since it is not able to operate without an audit log.",
                          "Correct the configuration to ensure that the cohort's topic connection is valid."),
 
+    OMRS_TOPIC_LISTENER_METRICS("OMRS-AUDIT-0039",
+                                OMRSAuditLogRecordSeverity.INFO,
+                                "The listener from {0} on topic {1} has {2} events waiting.  {3} events were processed since the last report with an average lag of {4} ms and a maximum lag of {5} ms; {6} events were discarded",
+                                "The local server is reporting the activity of a listener to the cohort topic.  The lag is measured from " +
+                                        "when the event is queued for the listener to when the listener starts to process it.",
+                                "No action is required.  This is part of the normal operation of the server."),
+
     NEW_ENTERPRISE_CONNECTOR("OMRS-AUDIT-0040",
                              OMRSAuditLogRecordSeverity.STARTUP,
                              "An enterprise OMRS connector has been created for the {0}",
@@ -920,6 +945,18 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                        "The local server is processing a federated query to all members of the connected cohorts.  However one of the members is not responding correctly and so it has been skipped from the call. The remote server is probably not running, or has been incorrectly configured.",
                                        "Validate the availability and configuration of the remote server.  It may be a temporary failure due to an outage in the network or the server itself.  However, if the remote server is not configured correctly, or has changed its metadata collection id, then this wil lbe a permanent error and this server will not be included in the federated query until it is fixed."),
 
+    FEDERATED_REPOSITORY_TIMEOUT("OMRS-AUDIT-0402",
+                                       OMRSAuditLogRecordSeverity.ACTION,
+                                       "Abandoning call to repository {0} for federated request {1} since it did not respond within {2} milliseconds",
+                                       "The local server is processing a federated query to all members of the connected cohorts in parallel.  However one of the members has not responded within the configured time limit and so its results are not included in the response.",
+                                       "Validate the availability and performance of the remote server.  It may be a temporary failure due to load on the network or the server itself.  If the remote server is routinely slow, consider increasing the federationMemberTimeout in the enterprise access configuration."),
+
+    FEDERATION_WORKERS_BUSY("OMRS-AUDIT-0403",
+                                       OMRSAuditLogRecordSeverity.ACTION,
+                                       "Skipping call to repository {0} for federated request {1} since no federation worker thread was free within {2} milliseconds",
+                                       "The local server is processing a federated query to all members of the connected cohorts in parallel.  However all of the federation worker threads were busy and the queue of waiting requests was full, so this member has not been called and its results are not included in the response.",
+                                       "Review the load on the server.  If it routinely processes many federated queries at once, consider increasing the maxFederationThreads in the enterprise access configuration."),
+
     PROCESS_UNKNOWN_EVENT("OMRS-AUDIT-8001",
                           OMRSAuditLogRecordSeverity.ERROR,
                           "Received unknown event: {0}",
@@ -389,6 +389,11 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The OMRS repository connector operation {0} does not allow a time range from {1} to {2}",
             "The system is unable continue processing the request because the time range provided does not overlap.",
             "Correct the code in the caller's method (potentially just reverse the times) and retry the request."),
+    INVALID_CONTINUATION_TOKEN(400, "OMRS-REPOSITORY-400-084",
+            "The continuation token passed on the {0} operation of repository {1} is not valid or was returned from a request with a different sequencing order",
+            "The system is unable to locate the next page of results because it can not decode the continuation token.",
+            "The continuation token must be passed unchanged from the previous page returned by the same request.  " +
+                                       "Either correct the caller's code or restart the request from the first page with a null continuation token."),
 
     NULL_USER_NAME(400, "OMRS-REST-API-400-001",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
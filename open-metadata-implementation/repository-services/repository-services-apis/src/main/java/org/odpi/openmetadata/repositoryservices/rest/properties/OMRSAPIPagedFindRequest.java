@@ -33,6 +33,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
     private SequencingOrder      sequencingOrder      = null;
     private int                  offset               = 0;
     private int                  pageSize             = 0;
+    private String               continuationToken    = null;
 
     /**
      * Default constructor
@@ -57,7 +58,8 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
             this.sequencingProperty = template.getSequencingProperty();
             this.sequencingOrder = template.getSequencingOrder();
             this.offset = template.getOffset();
-            this.pageSize = getPageSize();
+            this.pageSize = template.getPageSize();
+            this.continuationToken = template.getContinuationToken();
         }
     }
 
@@ -152,6 +154,29 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
     }
 
 
+    /**
+     * Return the continuation token returned with the previous page of results.  This is used in place of the offset
+     * by the page requests.  Null means start from the first element.
+     *
+     * @return opaque token
+     */
+    public String getContinuationToken()
+    {
+        return continuationToken;
+    }
+
+
+    /**
+     * Set up the continuation token returned with the previous page of results.  This is used in place of the offset
+     * by the page requests.  Null means start from the first element.
+     *
+     * @param continuationToken opaque token
+     */
+    public void setContinuationToken(String continuationToken)
+    {
+        this.continuationToken = continuationToken;
+    }
+
 
     /**
      * Standard toString method.
@@ -166,6 +191,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
                 ", sequencingOrder=" + sequencingOrder +
                 ", offset=" + offset +
                 ", pageSize=" + pageSize +
+                ", continuationToken='" + continuationToken + '\'' +
                 ", limitResultsByStatus=" + getLimitResultsByStatus() +
                 '}';
     }
@@ -197,7 +223,8 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
         return getOffset() == that.getOffset() &&
                 getPageSize() == that.getPageSize() &&
                 Objects.equals(getSequencingProperty(), that.getSequencingProperty()) &&
-                getSequencingOrder() == that.getSequencingOrder();
+                getSequencingOrder() == that.getSequencingOrder() &&
+                Objects.equals(getContinuationToken(), that.getContinuationToken());
     }
 
 
@@ -214,6 +241,7 @@ public class OMRSAPIPagedFindRequest extends OMRSAPIFindRequest
                             getSequencingProperty(),
                             getSequencingOrder(),
                             getOffset(),
-                            getPageSize());
+                            getPageSize(),
+                            getContinuationToken());
     }
 }
@@ -30,8 +30,9 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
 {
     private static final long    serialVersionUID = 1L;
 
-    protected int     offset      = 0;
-    protected int     pageSize    = 0;
+    protected int     offset            = 0;
+    protected int     pageSize          = 0;
+    protected String  continuationToken = null;
 
 
     /**
@@ -56,6 +57,7 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
         {
             offset = template.getOffset();
             pageSize = template.getPageSize();
+            continuationToken = template.getContinuationToken();
         }
     }
 
@@ -105,6 +107,29 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
     }
 
 
+    /**
+     * Return the token to pass on the request for the next page of results.  This is only set by the page requests.
+     * Null means there are no more results.
+     *
+     * @return opaque token
+     */
+    public String getContinuationToken()
+    {
+        return continuationToken;
+    }
+
+
+    /**
+     * Set up the token to pass on the request for the next page of results.
+     *
+     * @param continuationToken opaque token
+     */
+    public void setContinuationToken(String continuationToken)
+    {
+        this.continuationToken = continuationToken;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -116,6 +141,7 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
         return "OMRSRESTAPIPagedResponse{" +
                 "offset=" + offset +
                 ", pageSize=" + pageSize +
+                ", continuationToken='" + continuationToken + '\'' +
                 ", relatedHTTPCode=" + relatedHTTPCode +
                 ", actionDescription='" + actionDescription + '\'' +
                 ", exceptionClassName='" + exceptionClassName + '\'' +
@@ -154,7 +180,8 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
         OMRSAPIPagedResponse
                 that = (OMRSAPIPagedResponse) objectToCompare;
         return getOffset() == that.getOffset() &&
-                getPageSize() == that.getPageSize();
+                getPageSize() == that.getPageSize() &&
+                Objects.equals(getContinuationToken(), that.getContinuationToken());
     }
 
 
@@ -166,6 +193,6 @@ public abstract class OMRSAPIPagedResponse extends OMRSAPIResponse
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), getOffset(), getPageSize());
+        return Objects.hash(super.hashCode(), getOffset(), getPageSize(), getContinuationToken());
     }
 }
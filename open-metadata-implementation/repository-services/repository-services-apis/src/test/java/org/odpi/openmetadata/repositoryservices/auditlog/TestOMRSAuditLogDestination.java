@@ -0,0 +1,217 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.MockOMRSAuditLogStoreConnectorBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that OMRSAuditLogDestination delivers log records to the audit log stores both synchronously and
+ * through the per-store queues, and that the queue full policies discard the expected records.
+ */
+public class TestOMRSAuditLogDestination
+{
+    /**
+     * Audit log store that records the log records it receives.  The first call can be held until the test
+     * releases it so that the queue fills up.
+     */
+    private static class RecordingAuditLogStore extends MockOMRSAuditLogStoreConnectorBase
+    {
+        private final List<String>   receivedGUIDs = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch firstCall     = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+
+        RecordingAuditLogStore(boolean holdFirstCall)
+        {
+            release = new CountDownLatch(holdFirstCall ? 1 : 0);
+        }
+
+
+        @Override
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            receivedGUIDs.add(logRecord.getGUID());
+            return logRecord.getGUID();
+        }
+
+
+        @Override
+        public List<String> storeLogRecords(List<OMRSAuditLogRecord> logRecords)
+        {
+            firstCall.countDown();
+
+            try
+            {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            List<String> results = new ArrayList<>();
+
+            for (OMRSAuditLogRecord logRecord : logRecords)
+            {
+                results.add(storeLogRecord(logRecord));
+            }
+
+            return results;
+        }
+    }
+
+
+    private OMRSAuditLogRecord getLogRecord(int  recordNumber)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setGUID("record-" + recordNumber);
+
+        return logRecord;
+    }
+
+
+    private OMRSAuditLogDestination getDestination(OMRSAuditLogStore           auditLogStore,
+                                                   int                         queueSize,
+                                                   OMRSAuditLogQueueFullPolicy queueFullPolicy)
+    {
+        List<OMRSAuditLogStore> auditLogStores = new ArrayList<>();
+
+        auditLogStores.add(auditLogStore);
+
+        return new OMRSAuditLogDestination("TestServer", "TestServerType", "TestOrganization", auditLogStores, queueSize, 10, queueFullPolicy);
+    }
+
+
+    private OMRSAuditLogStoreReport getStoreReport(OMRSAuditLogDestination destination)
+    {
+        return destination.getDestinationsReport().getLogStoreReports().get(0);
+    }
+
+
+    /**
+     * Records are passed straight to the store when there is no queue.
+     */
+    @Test public void testSynchronousDelivery()
+    {
+        RecordingAuditLogStore  auditLogStore = new RecordingAuditLogStore(false);
+        OMRSAuditLogDestination destination   = getDestination(auditLogStore, 0, null);
+
+        destination.addLogRecord(getLogRecord(1));
+
+        assertEquals(auditLogStore.receivedGUIDs.size(), 1);
+        assertEquals(getStoreReport(destination).getQueueSize(), 0);
+    }
+
+
+    /**
+     * Queued records are all delivered, in order, by the time the destination is disconnected.
+     */
+    @Test public void testAsynchronousDelivery()
+    {
+        RecordingAuditLogStore  auditLogStore = new RecordingAuditLogStore(false);
+        OMRSAuditLogDestination destination   = getDestination(auditLogStore, 100, OMRSAuditLogQueueFullPolicy.BLOCK);
+
+        for (int i = 0; i < 50; i++)
+        {
+            destination.addLogRecord(getLogRecord(i));
+        }
+
+        destination.disconnect(5000);
+
+        assertEquals(auditLogStore.receivedGUIDs.size(), 50);
+
+        for (int i = 0; i < 50; i++)
+        {
+            assertEquals(auditLogStore.receivedGUIDs.get(i), "record-" + i);
+        }
+
+        OMRSAuditLogStoreReport storeReport = getStoreReport(destination);
+
+        assertEquals(storeReport.getQueueSize(), 100);
+        assertEquals(storeReport.getQueuedRecords(), 0);
+        assertEquals(storeReport.getDroppedRecords(), 0);
+
+        /*
+         * Once disconnected, records are written synchronously.
+         */
+        destination.addLogRecord(getLogRecord(50));
+        assertEquals(auditLogStore.receivedGUIDs.size(), 51);
+    }
+
+
+    /**
+     * New records are discarded when the queue is full.
+     *
+     * @throws InterruptedException interrupted waiting for the store
+     */
+    @Test public void testDiscardNewest() throws InterruptedException
+    {
+        RecordingAuditLogStore  auditLogStore = new RecordingAuditLogStore(true);
+        OMRSAuditLogDestination destination   = getDestination(auditLogStore, 2, OMRSAuditLogQueueFullPolicy.DISCARD_NEWEST);
+
+        destination.addLogRecord(getLogRecord(0));
+        assertTrue(auditLogStore.firstCall.await(10, TimeUnit.SECONDS));
+
+        for (int i = 1; i <= 5; i++)
+        {
+            destination.addLogRecord(getLogRecord(i));
+        }
+
+        OMRSAuditLogStoreReport storeReport = getStoreReport(destination);
+
+        assertEquals(storeReport.getQueuedRecords(), 2);
+        assertEquals(storeReport.getDroppedRecords(), 3);
+
+        auditLogStore.release.countDown();
+        destination.disconnect(5000);
+
+        assertEquals(auditLogStore.receivedGUIDs.size(), 3);
+        assertEquals(auditLogStore.receivedGUIDs.get(0), "record-0");
+        assertEquals(auditLogStore.receivedGUIDs.get(1), "record-1");
+        assertEquals(auditLogStore.receivedGUIDs.get(2), "record-2");
+    }
+
+
+    /**
+     * The oldest queued records are discarded when the queue is full.
+     *
+     * @throws InterruptedException interrupted waiting for the store
+     */
+    @Test public void testDiscardOldest() throws InterruptedException
+    {
+        RecordingAuditLogStore  auditLogStore = new RecordingAuditLogStore(true);
+        OMRSAuditLogDestination destination   = getDestination(auditLogStore, 2, OMRSAuditLogQueueFullPolicy.DISCARD_OLDEST);
+
+        destination.addLogRecord(getLogRecord(0));
+        assertTrue(auditLogStore.firstCall.await(10, TimeUnit.SECONDS));
+
+        for (int i = 1; i <= 5; i++)
+        {
+            destination.addLogRecord(getLogRecord(i));
+        }
+
+        assertEquals(getStoreReport(destination).getDroppedRecords(), 3);
+
+        auditLogStore.release.countDown();
+        destination.disconnect(5000);
+
+        assertEquals(auditLogStore.receivedGUIDs.size(), 3);
+        assertEquals(auditLogStore.receivedGUIDs.get(0), "record-0");
+        assertEquals(auditLogStore.receivedGUIDs.get(1), "record-4");
+        assertEquals(auditLogStore.receivedGUIDs.get(2), "record-5");
+    }
+}
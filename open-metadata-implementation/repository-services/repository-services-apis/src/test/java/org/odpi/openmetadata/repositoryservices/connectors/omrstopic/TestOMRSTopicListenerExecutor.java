@@ -0,0 +1,166 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.future.OMRSFuture;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that OMRSTopicListenerExecutor keeps the order of events with the same key, applies its overflow
+ * policy and only completes the processing result of an event once the listener has finished with it.
+ */
+public class TestOMRSTopicListenerExecutor
+{
+    @Test
+    public void testOrderingByKey() throws Exception
+    {
+        OMRSTopicListenerExecutor executor = new OMRSTopicListenerExecutor(null,
+                                                                           null,
+                                                                           "TestService",
+                                                                           null,
+                                                                           4,
+                                                                           100,
+                                                                           OMRSTopicListenerExecutor.OverflowPolicy.BLOCK,
+                                                                           0);
+
+        Map<String, List<Integer>> receivedEvents = new ConcurrentHashMap<>();
+        CountDownLatch             allProcessed   = new CountDownLatch(400);
+
+        for (int event = 0; event < 100; event++)
+        {
+            for (int key = 0; key < 4; key++)
+            {
+                final String guid     = "guid-" + key;
+                final int    sequence = event;
+
+                executor.submit(guid, () ->
+                {
+                    receivedEvents.computeIfAbsent(guid, (k) -> Collections.synchronizedList(new ArrayList<>())).add(sequence);
+                    allProcessed.countDown();
+                });
+            }
+        }
+
+        assertTrue(allProcessed.await(10, TimeUnit.SECONDS));
+
+        for (List<Integer> sequences : receivedEvents.values())
+        {
+            assertEquals(sequences.size(), 100);
+
+            for (int event = 0; event < 100; event++)
+            {
+                assertEquals(sequences.get(event).intValue(), event);
+            }
+        }
+
+        executor.shutdown();
+    }
+
+
+    @Test
+    public void testDiscardPolicy() throws Exception
+    {
+        OMRSTopicListenerExecutor executor = new OMRSTopicListenerExecutor(null,
+                                                                           null,
+                                                                           "TestService",
+                                                                           null,
+                                                                           1,
+                                                                           1,
+                                                                           OMRSTopicListenerExecutor.OverflowPolicy.DISCARD,
+                                                                           0);
+
+        CountDownLatch listenerStarted = new CountDownLatch(1);
+        CountDownLatch releaseListener = new CountDownLatch(1);
+
+        executor.submit("guid", () ->
+        {
+            listenerStarted.countDown();
+
+            try
+            {
+                releaseListener.await();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(listenerStarted.await(10, TimeUnit.SECONDS));
+
+        /*
+         * The first event fills the queue and the second is discarded.
+         */
+        executor.submit("guid", () -> {});
+        executor.submit("guid", () -> {});
+
+        assertEquals(executor.getQueuedEventCount(), 1);
+        assertEquals(executor.getDiscardedEventCount(), 1L);
+
+        releaseListener.countDown();
+        executor.shutdown();
+    }
+
+
+    @Test
+    public void testProcessingResult() throws Exception
+    {
+        OMRSTopicListenerExecutor executor = new OMRSTopicListenerExecutor(null,
+                                                                           null,
+                                                                           "TestService",
+                                                                           null,
+                                                                           1,
+                                                                           10,
+                                                                           OMRSTopicListenerExecutor.OverflowPolicy.BLOCK,
+                                                                           0);
+
+        CountDownLatch releaseListener = new CountDownLatch(1);
+
+        InternalOMRSEventProcessingContext.clear();
+
+        executor.submit(null, () ->
+        {
+            try
+            {
+                releaseListener.await();
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        OMRSFuture processingResult = InternalOMRSEventProcessingContext.getInstance().getOverallAsyncProcessingResult();
+
+        InternalOMRSEventProcessingContext.clear();
+
+        assertFalse(processingResult.isDone());
+
+        releaseListener.countDown();
+
+        long timeout = System.currentTimeMillis() + 10000;
+
+        while ((! processingResult.isDone()) && (System.currentTimeMillis() < timeout))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(processingResult.isDone());
+        assertEquals(executor.getProcessedEventCount(), 1L);
+
+        executor.shutdown();
+    }
+}
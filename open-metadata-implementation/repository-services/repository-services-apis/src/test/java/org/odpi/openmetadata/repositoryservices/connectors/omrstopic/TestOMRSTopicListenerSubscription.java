@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the header of an OMRS event is extracted from its JSON payload and that
+ * OMRSTopicListenerSubscription selects the requested instance events.
+ */
+public class TestOMRSTopicListenerSubscription
+{
+    @Test
+    public void testEventHeader() throws Exception
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefName("GlossaryTerm");
+        entity.setType(type);
+        entity.setGUID("guid");
+
+        String event = OMRSTopicConnector.getEventJSON(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity).getOMRSEventV1());
+
+        OMRSEventHeader eventHeader = OMRSEventHeader.getHeader(new JsonFactory(), event);
+
+        assertEquals(eventHeader.getEventCategory(), OMRSEventCategory.INSTANCE);
+        assertEquals(eventHeader.getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(eventHeader.getTypeDefName(), "GlossaryTerm");
+
+        assertNull(OMRSEventHeader.getHeader(new JsonFactory(), "not an event"));
+        assertNull(OMRSEventHeader.getHeader(new JsonFactory(), "{\"eventCategory\":\"UNKNOWN_CATEGORY\"}"));
+    }
+
+
+    @Test
+    public void testSubscription()
+    {
+        OMRSTopicListenerSubscription subscription = new OMRSTopicListenerSubscription("TestService",
+                                                                                       null,
+                                                                                       Collections.singletonList("GlossaryTerm"),
+                                                                                       EnumSet.of(OMRSInstanceEventType.NEW_ENTITY_EVENT));
+
+        assertTrue(subscription.isInstanceEventWanted(OMRSInstanceEventType.NEW_ENTITY_EVENT, "GlossaryTerm"));
+        assertFalse(subscription.isInstanceEventWanted(OMRSInstanceEventType.DELETED_ENTITY_EVENT, "GlossaryTerm"));
+        assertFalse(subscription.isInstanceEventWanted(OMRSInstanceEventType.NEW_ENTITY_EVENT, "Asset"));
+
+        /*
+         * Events that are missing the information needed to decide are always passed on.
+         */
+        assertTrue(subscription.isInstanceEventWanted(null, "GlossaryTerm"));
+        assertTrue(subscription.isInstanceEventWanted(OMRSInstanceEventType.NEW_ENTITY_EVENT, null));
+
+        OMRSTopicListenerSubscription allTypes = new OMRSTopicListenerSubscription("TestService", null, null, null);
+
+        assertTrue(allTypes.isInstanceEventWanted(OMRSInstanceEventType.DELETED_ENTITY_EVENT, "Asset"));
+    }
+}
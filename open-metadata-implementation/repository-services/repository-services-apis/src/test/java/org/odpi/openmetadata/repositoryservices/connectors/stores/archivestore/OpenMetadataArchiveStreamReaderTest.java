@@ -0,0 +1,233 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveInstanceStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationEntityExtension;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Validate that OpenMetadataArchiveStreamReader passes the content of an archive to the handler in order,
+ * whatever the order of the sections in the JSON document.
+ */
+public class OpenMetadataArchiveStreamReaderTest
+{
+    /**
+     * Handler that records the content it receives.
+     */
+    private static class RecordingHandler implements OpenMetadataArchiveContentHandler
+    {
+        List<String> received = new ArrayList<>();
+
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            received.add(archiveProperties == null ? "properties:null" : "properties:" + archiveProperties.getArchiveName());
+        }
+
+        public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+        {
+            received.add("types");
+        }
+
+        public void processEntity(EntityDetail entity)
+        {
+            received.add("entity:" + entity.getGUID());
+        }
+
+        public void processRelationship(Relationship relationship)
+        {
+            received.add("relationship:" + relationship.getGUID());
+        }
+
+        public void processClassification(ClassificationEntityExtension classification)
+        {
+            received.add("classification:" + classification.getClassification().getName());
+        }
+    }
+
+
+    private static final List<String> expectedContent = Arrays.asList("properties:TestArchive",
+                                                                       "types",
+                                                                       "entity:e1",
+                                                                       "entity:e2",
+                                                                       "relationship:r1",
+                                                                       "classification:c1");
+
+
+    /**
+     * Return a filled in archive.
+     *
+     * @return test archive
+     */
+    private OpenMetadataArchive getTestArchive()
+    {
+        OpenMetadataArchiveProperties    archiveProperties    = new OpenMetadataArchiveProperties();
+        OpenMetadataArchiveInstanceStore archiveInstanceStore = new OpenMetadataArchiveInstanceStore();
+        EntityDetail                     entity1              = new EntityDetail();
+        EntityDetail                     entity2              = new EntityDetail();
+        Relationship                     relationship         = new Relationship();
+        Classification                   classification       = new Classification();
+        ClassificationEntityExtension    classificationEntity = new ClassificationEntityExtension();
+
+        archiveProperties.setArchiveName("TestArchive");
+        entity1.setGUID("e1");
+        entity2.setGUID("e2");
+        relationship.setGUID("r1");
+        classification.setName("c1");
+        classificationEntity.setClassification(classification);
+
+        archiveInstanceStore.setEntities(Arrays.asList(entity1, entity2));
+        archiveInstanceStore.setRelationships(Arrays.asList(relationship));
+        archiveInstanceStore.setClassifications(Arrays.asList(classificationEntity));
+
+        OpenMetadataArchive archive = new OpenMetadataArchive();
+
+        archive.setArchiveProperties(archiveProperties);
+        archive.setArchiveTypeStore(new OpenMetadataArchiveTypeStore());
+        archive.setArchiveInstanceStore(archiveInstanceStore);
+
+        return archive;
+    }
+
+
+    /**
+     * Read a JSON document with the stream reader.  Single quotes in the document are replaced by double quotes.
+     *
+     * @param json document
+     * @param handler receiver of the content
+     * @return result from the reader
+     * @throws IOException problem reading the document
+     */
+    private boolean readJSON(String           json,
+                             RecordingHandler handler) throws IOException
+    {
+        byte[] jsonBytes = json.replace('\'', '"').getBytes(StandardCharsets.UTF_8);
+
+        return OpenMetadataArchiveStreamReader.readArchive(() -> new ByteArrayInputStream(jsonBytes), handler);
+    }
+
+
+    /**
+     * Validate that an archive written from an OpenMetadataArchive object is streamed in order.
+     *
+     * @throws IOException problem reading the document
+     */
+    @Test public void testSerializedArchive() throws IOException
+    {
+        RecordingHandler handler = new RecordingHandler();
+        String           json    = new ObjectMapper().writeValueAsString(getTestArchive());
+
+        assertTrue(readJSON(json, handler));
+        assertEquals(handler.received, expectedContent);
+    }
+
+
+    /**
+     * Validate that the in-memory archive produces the same content as the JSON document.
+     */
+    @Test public void testInMemoryArchive()
+    {
+        RecordingHandler handler = new RecordingHandler();
+
+        OpenMetadataArchiveStreamReader.readArchive(getTestArchive(), handler);
+
+        assertEquals(handler.received, expectedContent);
+    }
+
+
+    /**
+     * Validate that sections out of order are delivered in order.
+     *
+     * @throws IOException problem reading the document
+     */
+    @Test public void testReorderedArchive() throws IOException
+    {
+        RecordingHandler handler = new RecordingHandler();
+        String           json    = "{'unknown':[1,2,{'a':3}]," +
+                                   "'archiveInstanceStore':{'classifications':[{'class':'ClassificationEntityExtension'," +
+                                                                                "'classification':{'class':'Classification','name':'c1'}}]," +
+                                                           "'relationships':[{'class':'Relationship','guid':'r1'}]," +
+                                                           "'entities':[{'class':'EntityDetail','guid':'e1'},null,{'class':'EntityDetail','guid':'e2'}]}," +
+                                   "'archiveTypeStore':{'class':'OpenMetadataArchiveTypeStore'}," +
+                                   "'archiveProperties':{'class':'OpenMetadataArchiveProperties','archiveName':'TestArchive'}}";
+
+        assertTrue(readJSON(json, handler));
+        assertEquals(handler.received, expectedContent);
+    }
+
+
+    /**
+     * Validate that missing sections are skipped and missing properties stop the processing.
+     *
+     * @throws IOException problem reading the document
+     */
+    @Test public void testMissingSections() throws IOException
+    {
+        RecordingHandler handler = new RecordingHandler();
+
+        assertTrue(readJSON("{'archiveInstanceStore':{'relationships':[{'class':'Relationship','guid':'r1'}]}," +
+                             "'archiveProperties':{'class':'OpenMetadataArchiveProperties','archiveName':'A'}}", handler));
+        assertEquals(handler.received, Arrays.asList("properties:A", "relationship:r1"));
+
+        handler = new RecordingHandler();
+
+        assertTrue(readJSON("{'archiveProperties':null,'archiveInstanceStore':{'entities':[{'class':'EntityDetail','guid':'e1'}]}}", handler));
+        assertEquals(handler.received, Arrays.asList("properties:null"));
+
+        handler = new RecordingHandler();
+
+        assertFalse(readJSON("null", handler));
+        assertTrue(handler.received.isEmpty());
+    }
+
+
+    /**
+     * Validate that a document that is not an archive is rejected.
+     */
+    @Test public void testBadArchive()
+    {
+        try
+        {
+            readJSON("{'archiveProperties':{'class':'OpenMetadataArchiveProperties','archiveName':'A'},'archiveInstanceStore':{'entities':{}}}",
+                     new RecordingHandler());
+            fail();
+        }
+        catch (IOException expectedException)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        try
+        {
+            readJSON("[]", new RecordingHandler());
+            fail();
+        }
+        catch (IOException expectedException)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
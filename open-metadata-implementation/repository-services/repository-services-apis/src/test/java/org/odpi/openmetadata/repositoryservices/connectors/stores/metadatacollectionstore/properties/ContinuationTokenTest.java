@@ -0,0 +1,173 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties;
+
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * ContinuationTokenTest provides test of the encoding and validation of ContinuationToken
+ */
+public class ContinuationTokenTest
+{
+    private String repositoryName = "TestRepository";
+    private String methodName     = "TestMethod";
+
+
+    /**
+     * Return a filled in test object
+     *
+     * @return test object
+     */
+    private ContinuationToken getTestObject()
+    {
+        return new ContinuationToken(20, "TestGUID", SequencingOrder.PROPERTY_ASCENDING, "qualifiedName");
+    }
+
+
+    /**
+     * Validate that a token survives encoding and decoding.
+     */
+    @Test public void testRoundTrip()
+    {
+        ContinuationToken testObject = getTestObject();
+
+        try
+        {
+            ContinuationToken resultObject = ContinuationToken.decode(testObject.encode(),
+                                                                      SequencingOrder.PROPERTY_ASCENDING,
+                                                                      "qualifiedName",
+                                                                      repositoryName,
+                                                                      methodName);
+
+            assertEquals(resultObject, testObject);
+            assertEquals(resultObject.getOffset(), 20);
+            assertEquals(resultObject.getLastGUID(), "TestGUID");
+        }
+        catch (PagingErrorException error)
+        {
+            fail("Valid token rejected: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that the member repository tokens of a composite token survive encoding and decoding.
+     */
+    @Test public void testCompositeRoundTrip()
+    {
+        Map<String, String> repositoryTokens = new HashMap<>();
+
+        repositoryTokens.put("TestMetadataCollection1", "");
+        repositoryTokens.put("TestMetadataCollection2", getTestObject().encode());
+
+        ContinuationToken testObject = new ContinuationToken(5, null, SequencingOrder.ANY, null);
+
+        testObject.setRepositoryTokens(repositoryTokens);
+
+        try
+        {
+            ContinuationToken resultObject = ContinuationToken.decode(testObject.encode(),
+                                                                      SequencingOrder.ANY,
+                                                                      null,
+                                                                      repositoryName,
+                                                                      methodName);
+
+            assertEquals(resultObject.getRepositoryTokens(), repositoryTokens);
+        }
+        catch (PagingErrorException error)
+        {
+            fail("Valid token rejected: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that a null or empty token means the first page and that a null sequencing order matches ANY.
+     */
+    @Test public void testFirstPageAndDefaultOrder()
+    {
+        try
+        {
+            assertNull(ContinuationToken.decode(null, SequencingOrder.ANY, null, repositoryName, methodName));
+            assertNull(ContinuationToken.decode("", SequencingOrder.ANY, null, repositoryName, methodName));
+
+            String token = new ContinuationToken(1, "TestGUID", null, null).encode();
+
+            assertEquals(ContinuationToken.decode(token, SequencingOrder.ANY, null, repositoryName, methodName).getLastGUID(), "TestGUID");
+        }
+        catch (PagingErrorException error)
+        {
+            fail("Valid token rejected: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that a token is rejected if the request has different sequencing.
+     */
+    @Test public void testDifferentSequencing()
+    {
+        String token = getTestObject().encode();
+
+        try
+        {
+            ContinuationToken.decode(token, SequencingOrder.PROPERTY_DESCENDING, "qualifiedName", repositoryName, methodName);
+            fail("Token accepted with a different sequencing order");
+        }
+        catch (PagingErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().equals("OMRS-REPOSITORY-400-084"));
+        }
+
+        try
+        {
+            ContinuationToken.decode(token, SequencingOrder.PROPERTY_ASCENDING, "displayName", repositoryName, methodName);
+            fail("Token accepted with a different sequencing property");
+        }
+        catch (PagingErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().equals("OMRS-REPOSITORY-400-084"));
+        }
+    }
+
+
+    /**
+     * Validate that a token that was not produced by encode is rejected.
+     */
+    @Test public void testCorruptToken()
+    {
+        try
+        {
+            ContinuationToken.decode("not-a-token", SequencingOrder.ANY, null, repositoryName, methodName);
+            fail("Corrupt token accepted");
+        }
+        catch (PagingErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().equals("OMRS-REPOSITORY-400-084"));
+        }
+
+        try
+        {
+            ContinuationToken.decode(new ContinuationToken(-1, null, SequencingOrder.ANY, null).encode(),
+                                     SequencingOrder.ANY,
+                                     null,
+                                     repositoryName,
+                                     methodName);
+            fail("Negative offset accepted");
+        }
+        catch (PagingErrorException error)
+        {
+            assertTrue(error.getReportedErrorMessageId().equals("OMRS-REPOSITORY-400-084"));
+        }
+    }
+}
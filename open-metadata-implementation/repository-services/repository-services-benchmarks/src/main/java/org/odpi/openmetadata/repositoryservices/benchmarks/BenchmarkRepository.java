@@ -0,0 +1,211 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.benchmarks;
+
+import org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector.InMemoryOMRSRepositoryConnectorProvider;
+import org.odpi.openmetadata.frameworks.connectors.ConnectorBroker;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveManager;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * BenchmarkRepository sets up the repository services content manager with the open metadata types and an
+ * in-memory repository seeded with glossary terms.  It gives the benchmarks the same type definitions and
+ * instances that a metadata server would use without needing a running OMAG Server Platform.
+ * The glossary terms are stored as reference copies from another member of the cohort because the in-memory
+ * repository relies on the local repository connector to fill in the instance headers of the instances it creates.
+ * The benchmarks create it in their setup methods so that building it is not measured.
+ */
+public class BenchmarkRepository
+{
+    static final String userId               = "benchmarkUser";
+    static final String sourceName           = "Repository Services Benchmarks";
+    static final String metadataCollectionId = "benchmark-metadata-collection-id";
+    static final String homeCollectionId     = "benchmark-home-metadata-collection-id";
+    static final String entityTypeName       = "GlossaryTerm";
+
+    private final OMRSRepositoryContentHelper    repositoryHelper;
+    private final OMRSRepositoryContentValidator repositoryValidator;
+    private final OMRSRepositoryConnector        repositoryConnector;
+    private final List<EntityDetail>             entities = new ArrayList<>();
+
+
+    /**
+     * Load the open metadata types and create the seeded in-memory repository.
+     *
+     * @param entityCount number of glossary terms to add to the repository
+     * @throws Exception the repository could not be set up
+     */
+    public BenchmarkRepository(int entityCount) throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(sourceName,
+                                                                             "Benchmark",
+                                                                             null,
+                                                                             new ArrayList<>()),
+                                                 OMRSAuditingComponent.REPOSITORY_CONTENT_MANAGER);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, auditLog);
+
+        repositoryHelper = new OMRSRepositoryContentHelper(contentManager);
+        repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        /*
+         * The archive manager loads the open metadata types into the content manager.  There is no local
+         * repository connector to pass them to, so they are then made active for the in-memory repository.
+         */
+        new OMRSArchiveManager(null, auditLog).setLocalRepository(metadataCollectionId, contentManager, null);
+
+        TypeDefGallery knownTypes = repositoryHelper.getKnownTypeDefGallery();
+
+        for (AttributeTypeDef attributeTypeDef : knownTypes.getAttributeTypeDefs())
+        {
+            contentManager.addAttributeTypeDef(sourceName, attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : knownTypes.getTypeDefs())
+        {
+            contentManager.addTypeDef(sourceName, typeDef);
+        }
+
+        Connection    connection    = new Connection();
+        ConnectorType connectorType = new ConnectorType();
+
+        connectorType.setConnectorProviderClassName(InMemoryOMRSRepositoryConnectorProvider.class.getName());
+        connection.setConnectorType(connectorType);
+
+        repositoryConnector = (OMRSRepositoryConnector) new ConnectorBroker().getConnector(connection);
+
+        repositoryConnector.setAuditLog(auditLog);
+        repositoryConnector.setRepositoryHelper(repositoryHelper);
+        repositoryConnector.setRepositoryValidator(repositoryValidator);
+        repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+        repositoryConnector.setServerUserId(userId);
+        repositoryConnector.start();
+
+        OMRSMetadataCollection metadataCollection = repositoryConnector.getMetadataCollection();
+
+        for (int i = 0; i < entityCount; i++)
+        {
+            EntityDetail entity = repositoryHelper.getNewEntity(sourceName,
+                                                                homeCollectionId,
+                                                                InstanceProvenanceType.LOCAL_COHORT,
+                                                                userId,
+                                                                entityTypeName,
+                                                                getTermProperties(i),
+                                                                null);
+
+            metadataCollection.saveEntityReferenceCopy(userId, entity);
+            entities.add(entity);
+        }
+    }
+
+
+    /**
+     * Return the properties for a glossary term.
+     *
+     * @param termNumber number of the term
+     * @return properties
+     */
+    private InstanceProperties getTermProperties(int termNumber)
+    {
+        final String methodName = "getTermProperties";
+
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                                     null,
+                                                                                     "qualifiedName",
+                                                                                     "Glossary::Benchmark::Term-" + termNumber,
+                                                                                     methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "displayName",
+                                                                  String.format("Term %08d", termNumber),
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "summary",
+                                                                  "Term number " + termNumber + " created by the benchmarks.",
+                                                                  methodName);
+        properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                  properties,
+                                                                  "description",
+                                                                  "A longer description of the term that is typical of the text stored in " +
+                                                                          "glossary terms.  Category " + (termNumber % 10) + ".",
+                                                                  methodName);
+
+        return properties;
+    }
+
+
+    /**
+     * Return the repository helper that uses the loaded types.
+     *
+     * @return repository helper
+     */
+    public OMRSRepositoryContentHelper getRepositoryHelper()
+    {
+        return repositoryHelper;
+    }
+
+
+    /**
+     * Return the repository validator that uses the loaded types.
+     *
+     * @return repository validator
+     */
+    public OMRSRepositoryContentValidator getRepositoryValidator()
+    {
+        return repositoryValidator;
+    }
+
+
+    /**
+     * Return the metadata collection of the seeded in-memory repository.
+     *
+     * @return metadata collection
+     * @throws Exception the repository is not available
+     */
+    public OMRSMetadataCollection getMetadataCollection() throws Exception
+    {
+        return repositoryConnector.getMetadataCollection();
+    }
+
+
+    /**
+     * Return the entities that were added to the repository, in the order they were added.
+     *
+     * @return list of entities
+     */
+    public List<EntityDetail> getEntities()
+    {
+        return new ArrayList<>(entities);
+    }
+
+
+    /**
+     * Shut down the in-memory repository.
+     *
+     * @throws Exception the repository did not shut down cleanly
+     */
+    public void disconnect() throws Exception
+    {
+        repositoryConnector.disconnect();
+    }
+}
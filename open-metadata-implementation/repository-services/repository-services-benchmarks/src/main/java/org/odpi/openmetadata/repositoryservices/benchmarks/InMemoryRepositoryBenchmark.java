@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * InMemoryRepositoryBenchmark measures complete requests to the seeded in-memory repository.  The searches
+ * combine the property matching of the repository validator with the sorting and paging of the repository helper,
+ * so they show how the costs measured by OMRSRepositoryValidatorBenchmark and OMRSRepositoryHelperBenchmark add
+ * up for a whole request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryRepositoryBenchmark
+{
+    @Param({"1000"})
+    private int entityCount;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private BenchmarkRepository    repository;
+    private OMRSMetadataCollection metadataCollection;
+    private String                 entityTypeGUID;
+    private String                 entityGUID;
+    private InstanceProperties     exactMatchProperties;
+    private String                 searchCriteria;
+
+
+    /**
+     * Seed the repository and build the search criteria.
+     *
+     * @throws Exception the repository could not be set up
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        final String methodName = "setUp";
+
+        repository         = new BenchmarkRepository(entityCount);
+        metadataCollection = repository.getMetadataCollection();
+
+        OMRSRepositoryContentHelper repositoryHelper = repository.getRepositoryHelper();
+        EntityDetail                entity           = repository.getEntities().get(entityCount / 2);
+
+        entityTypeGUID = entity.getType().getTypeDefGUID();
+        entityGUID     = entity.getGUID();
+
+        String qualifiedName = repositoryHelper.getStringProperty(BenchmarkRepository.sourceName,
+                                                                  "qualifiedName",
+                                                                  entity.getProperties(),
+                                                                  methodName);
+
+        exactMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.sourceName,
+                                                                            null,
+                                                                            "qualifiedName",
+                                                                            repositoryHelper.getExactMatchRegex(qualifiedName),
+                                                                            methodName);
+        searchCriteria = repositoryHelper.getContainsRegex("Category 5");
+    }
+
+
+    /**
+     * Shut down the repository.
+     *
+     * @throws Exception the repository did not shut down cleanly
+     */
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        repository.disconnect();
+    }
+
+
+    /**
+     * Retrieve an entity by its unique identifier.
+     *
+     * @return entity
+     * @throws Exception the entity could not be retrieved
+     */
+    @Benchmark
+    public EntityDetail getEntityDetail() throws Exception
+    {
+        return metadataCollection.getEntityDetail(BenchmarkRepository.userId, entityGUID);
+    }
+
+
+    /**
+     * Find the entity with a unique qualified name.
+     *
+     * @return matching entities
+     * @throws Exception the search failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByExactProperty() throws Exception
+    {
+        return metadataCollection.findEntitiesByProperty(BenchmarkRepository.userId,
+                                                         entityTypeGUID,
+                                                         exactMatchProperties,
+                                                         MatchCriteria.ALL,
+                                                         0,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         null,
+                                                         pageSize);
+    }
+
+
+    /**
+     * Find the entities with a string property that contains a value, sorted by display name.
+     *
+     * @return first page of matching entities
+     * @throws Exception the search failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesByPropertyValueSorted() throws Exception
+    {
+        return metadataCollection.findEntitiesByPropertyValue(BenchmarkRepository.userId,
+                                                              entityTypeGUID,
+                                                              searchCriteria,
+                                                              0,
+                                                              null,
+                                                              null,
+                                                              null,
+                                                              "displayName",
+                                                              SequencingOrder.PROPERTY_ASCENDING,
+                                                              pageSize);
+    }
+
+
+    /**
+     * Return the first page of all the entities of the type, sorted by display name.
+     *
+     * @return first page of entities
+     * @throws Exception the search failed
+     */
+    @Benchmark
+    public List<EntityDetail> findEntitiesSorted() throws Exception
+    {
+        return metadataCollection.findEntities(BenchmarkRepository.userId,
+                                               entityTypeGUID,
+                                               null,
+                                               null,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               "displayName",
+                                               SequencingOrder.PROPERTY_ASCENDING,
+                                               pageSize);
+    }
+}
@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.benchmarks;
+
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerPlatformInstanceMap;
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerServiceInstance;
+import org.odpi.openmetadata.commonservices.multitenant.OMAGServerServiceInstanceHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OMAGServerPlatformInstanceMapBenchmark measures the look up of a server's service instance that is made at
+ * the start of every REST request to the OMAG Server Platform.  The benchmarks run on all available processors
+ * so that they show any contention between requests that are looking up the same or different servers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class OMAGServerPlatformInstanceMapBenchmark
+{
+    private static final String userId               = "benchmarkUser";
+    private static final String benchmarkServerType  = "Benchmark Server";
+    private static final String benchmarkServiceName = "Benchmark Service";
+    private static final int    serverCount          = 10;
+
+    private final OMAGServerPlatformInstanceMap platformInstanceMap = new OMAGServerPlatformInstanceMap();
+    private final BenchmarkServiceHandler       serviceHandler      = new BenchmarkServiceHandler();
+    private final String[]                      serverNames         = new String[serverCount];
+
+
+    /**
+     * Service instance registered with each server.
+     */
+    private static class BenchmarkServiceInstance extends OMAGServerServiceInstance
+    {
+        /**
+         * Constructor registers the instance with the platform.
+         *
+         * @param serverName name of the server
+         */
+        BenchmarkServiceInstance(String serverName)
+        {
+            super(serverName, benchmarkServerType, benchmarkServiceName, 100);
+        }
+    }
+
+
+    /**
+     * Handler that gives the benchmarks access to the look up used by the REST services.
+     */
+    private static class BenchmarkServiceHandler extends OMAGServerServiceInstanceHandler
+    {
+        /**
+         * Constructor sets up the service name.
+         */
+        BenchmarkServiceHandler()
+        {
+            super(benchmarkServiceName);
+        }
+
+
+        /**
+         * Look up the service instance for a server.
+         *
+         * @param serverName name of the server
+         * @param serviceOperationName calling method
+         * @return service instance
+         * @throws Exception the server or service is not running
+         */
+        OMAGServerServiceInstance getServiceInstance(String serverName,
+                                                     String serviceOperationName) throws Exception
+        {
+            return super.getServerServiceInstance(userId, serverName, serviceOperationName);
+        }
+    }
+
+
+    /**
+     * Start the servers and register a service instance with each of them.
+     *
+     * @throws Exception a server could not be started
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        for (int i = 0; i < serverCount; i++)
+        {
+            serverNames[i] = "benchmarkServer" + i;
+
+            platformInstanceMap.startUpServerInstance(userId, serverNames[i], null, null);
+            new BenchmarkServiceInstance(serverNames[i]);
+        }
+    }
+
+
+    /**
+     * Shutdown the servers.
+     *
+     * @throws Exception a server could not be shutdown
+     */
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        for (String serverName : serverNames)
+        {
+            serviceHandler.removeServerServiceInstance(serverName);
+            platformInstanceMap.shutdownServerInstance(userId, serverName, "tearDown");
+        }
+    }
+
+
+    /**
+     * Every thread looks up the service instance for the same server.
+     *
+     * @return service instance
+     * @throws Exception the server or service is not running
+     */
+    @Benchmark
+    public OMAGServerServiceInstance getServiceInstanceSameServer() throws Exception
+    {
+        return serviceHandler.getServiceInstance(serverNames[0], "getServiceInstanceSameServer");
+    }
+
+
+    /**
+     * Each look up is for a server chosen at random.
+     *
+     * @return service instance
+     * @throws Exception the server or service is not running
+     */
+    @Benchmark
+    public OMAGServerServiceInstance getServiceInstanceRandomServer() throws Exception
+    {
+        return serviceHandler.getServiceInstance(serverNames[ThreadLocalRandom.current().nextInt(serverCount)],
+                                                 "getServiceInstanceRandomServer");
+    }
+
+
+    /**
+     * Check whether a server is active - this is called by the admin services.
+     *
+     * @return boolean flag
+     * @throws Exception the user is not authorized
+     */
+    @Benchmark
+    public boolean isServerActive() throws Exception
+    {
+        return platformInstanceMap.isServerActive(userId, serverNames[ThreadLocalRandom.current().nextInt(serverCount)]);
+    }
+}
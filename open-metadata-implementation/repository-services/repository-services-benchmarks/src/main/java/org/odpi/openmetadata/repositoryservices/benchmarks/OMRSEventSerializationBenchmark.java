@@ -0,0 +1,213 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OMRSEventSerializationBenchmark measures the conversion of OMRS instance events to and from the JSON
+ * payloads that are exchanged on the cohort topic.  The mapperPerEvent benchmarks reproduce the original
+ * approach of creating an ObjectMapper for each event so the cost of the shared readers and writers used by
+ * the OMRSTopicConnector can be compared with it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OMRSEventSerializationBenchmark
+{
+    private OMRSEventV1 instanceEvent;
+    private String      instanceEventJSON;
+
+
+    /**
+     * Build a new entity event with a typical number of properties and classifications.
+     *
+     * @throws Exception the event could not be serialized
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        instanceEvent     = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity()).getOMRSEventV1();
+        instanceEventJSON = OMRSTopicConnector.getEventJSON(instanceEvent);
+    }
+
+
+    /**
+     * Serialize an instance event with the shared writer.
+     *
+     * @return JSON payload
+     * @throws Exception the event could not be serialized
+     */
+    @Benchmark
+    public String serializeInstanceEvent() throws Exception
+    {
+        return OMRSTopicConnector.getEventJSON(instanceEvent);
+    }
+
+
+    /**
+     * Parse an instance event with the shared reader.
+     *
+     * @return event bean
+     * @throws Exception the event could not be parsed
+     */
+    @Benchmark
+    public OMRSEventBean parseInstanceEvent() throws Exception
+    {
+        return OMRSTopicConnector.getEventBean(instanceEventJSON);
+    }
+
+
+    /**
+     * Serialize and parse an instance event with the shared writer and reader.
+     *
+     * @return event bean
+     * @throws Exception the event could not be converted
+     */
+    @Benchmark
+    public OMRSEventBean roundTripInstanceEvent() throws Exception
+    {
+        return OMRSTopicConnector.getEventBean(OMRSTopicConnector.getEventJSON(instanceEvent));
+    }
+
+
+    /**
+     * Serialize and parse an instance event with a new ObjectMapper for each conversion.
+     *
+     * @return event bean
+     * @throws Exception the event could not be converted
+     */
+    @Benchmark
+    public OMRSEventBean mapperPerEventRoundTripInstanceEvent() throws Exception
+    {
+        String json = new ObjectMapper().writeValueAsString(instanceEvent);
+
+        return new ObjectMapper().readValue(json, OMRSEventBean.class);
+    }
+
+
+    /**
+     * Build an entity for the event.
+     *
+     * @return entity
+     */
+    private EntityDetail getEntity()
+    {
+        EntityDetail entity = new EntityDetail();
+        InstanceType type   = new InstanceType();
+
+        type.setTypeDefCategory(TypeDefCategory.ENTITY_DEF);
+        type.setTypeDefGUID(UUID.randomUUID().toString());
+        type.setTypeDefName("GlossaryTerm");
+        type.setTypeDefVersion(1L);
+
+        List<String> superTypes = new ArrayList<>();
+
+        superTypes.add("Referenceable");
+        superTypes.add("OpenMetadataRoot");
+
+        entity.setType(type);
+        entity.setGUID(UUID.randomUUID().toString());
+        entity.setMetadataCollectionId(UUID.randomUUID().toString());
+        entity.setMetadataCollectionName("BenchmarkRepository");
+        entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        entity.setStatus(InstanceStatus.ACTIVE);
+        entity.setVersion(3L);
+        entity.setCreatedBy("benchmark");
+        entity.setCreateTime(new Date());
+        entity.setUpdatedBy("benchmark");
+        entity.setUpdateTime(new Date());
+
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", getStringValue("Glossary::Benchmark::Term"));
+        properties.setProperty("displayName", getStringValue("Benchmark Term"));
+        properties.setProperty("summary", getStringValue("A term used to measure event serialization."));
+        properties.setProperty("description", getStringValue("A longer description of the term that is typical of the " +
+                                                                     "text stored in glossary terms exchanged between cohort members."));
+        properties.setProperty("examples", getStringValue("Example usage of the benchmark term."));
+        properties.setProperty("abbreviation", getStringValue("BT"));
+
+        entity.setProperties(properties);
+
+        List<Classification> classifications = new ArrayList<>();
+
+        for (String classificationName : new String[]{ "Confidentiality", "Criticality", "Retention" })
+        {
+            Classification     classification           = new Classification();
+            InstanceProperties classificationProperties = new InstanceProperties();
+            InstanceType       classificationType       = new InstanceType();
+
+            classificationType.setTypeDefCategory(TypeDefCategory.CLASSIFICATION_DEF);
+            classificationType.setTypeDefGUID(UUID.randomUUID().toString());
+            classificationType.setTypeDefName(classificationName);
+
+            classificationProperties.setProperty("notes", getStringValue("Set by the benchmark"));
+            classificationProperties.setProperty("steward", getStringValue("benchmark"));
+
+            classification.setName(classificationName);
+            classification.setType(classificationType);
+            classification.setStatus(InstanceStatus.ACTIVE);
+            classification.setVersion(1L);
+            classification.setProperties(classificationProperties);
+
+            classifications.add(classification);
+        }
+
+        entity.setClassifications(classifications);
+
+        return entity;
+    }
+
+
+    /**
+     * Build a string property value.
+     *
+     * @param value string
+     * @return property value
+     */
+    private PrimitivePropertyValue getStringValue(String value)
+    {
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setTypeName(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING.getName());
+        propertyValue.setPrimitiveValue(value);
+
+        return propertyValue;
+    }
+}
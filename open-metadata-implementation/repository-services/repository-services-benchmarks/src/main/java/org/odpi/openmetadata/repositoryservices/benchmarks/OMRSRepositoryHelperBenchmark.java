@@ -0,0 +1,218 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OMRSRepositoryHelperBenchmark measures the OMRSRepositoryContentHelper methods that repositories call on every
+ * request: the sorting and paging of search results (formatEntityResults), the type hierarchy checks (isTypeOf,
+ * which is answered by the OMRSRepositoryContentManager) and the copying of instances.
+ * <p>
+ * formatEntityResults sorts the list it is passed so each call is given a new copy of the shuffled results.
+ * The copyResults benchmark measures the copy on its own so that it can be subtracted.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OMRSRepositoryHelperBenchmark
+{
+    @Param({"100", "1000"})
+    private int entityCount;
+
+    @Param({"100"})
+    private int pageSize;
+
+    private BenchmarkRepository         repository;
+    private OMRSRepositoryContentHelper repositoryHelper;
+    private List<EntityDetail>          shuffledResults;
+    private EntityDetail                entity;
+    private Classification              classification;
+
+
+    /**
+     * Seed the repository and shuffle its entities into a fixed random order.
+     *
+     * @throws Exception the repository could not be set up
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        repository       = new BenchmarkRepository(entityCount);
+        repositoryHelper = repository.getRepositoryHelper();
+        shuffledResults  = repository.getEntities();
+        entity           = shuffledResults.get(0);
+
+        Collections.shuffle(shuffledResults, new Random(42));
+
+        classification = repositoryHelper.getNewClassification(BenchmarkRepository.sourceName,
+                                                               BenchmarkRepository.userId,
+                                                               "Confidentiality",
+                                                               BenchmarkRepository.entityTypeName,
+                                                               ClassificationOrigin.ASSIGNED,
+                                                               null,
+                                                               null);
+    }
+
+
+    /**
+     * Shut down the repository.
+     *
+     * @throws Exception the repository did not shut down cleanly
+     */
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        repository.disconnect();
+    }
+
+
+    /**
+     * Copy the search results - the baseline for the formatEntityResults benchmarks.
+     *
+     * @return copy of the results
+     */
+    @Benchmark
+    public List<EntityDetail> copyResults()
+    {
+        return new ArrayList<>(shuffledResults);
+    }
+
+
+    /**
+     * Sort the search results by a string property and return the first page.
+     *
+     * @return first page of results
+     * @throws Exception invalid paging or sequencing parameters
+     */
+    @Benchmark
+    public List<EntityDetail> formatEntityResultsByProperty() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(shuffledResults),
+                                                    0,
+                                                    "displayName",
+                                                    SequencingOrder.PROPERTY_ASCENDING,
+                                                    pageSize);
+    }
+
+
+    /**
+     * Sort the search results by their creation time and return the first page.
+     *
+     * @return first page of results
+     * @throws Exception invalid paging or sequencing parameters
+     */
+    @Benchmark
+    public List<EntityDetail> formatEntityResultsByCreationDate() throws Exception
+    {
+        return repositoryHelper.formatEntityResults(new ArrayList<>(shuffledResults),
+                                                    0,
+                                                    null,
+                                                    SequencingOrder.CREATION_DATE_RECENT,
+                                                    pageSize);
+    }
+
+
+    /**
+     * Check a type against itself.
+     *
+     * @return true
+     */
+    @Benchmark
+    public boolean isTypeOfSameType()
+    {
+        return repositoryHelper.isTypeOf(BenchmarkRepository.sourceName, "GlossaryTerm", "GlossaryTerm");
+    }
+
+
+    /**
+     * Check a type against the root of its supertype hierarchy.
+     *
+     * @return true
+     */
+    @Benchmark
+    public boolean isTypeOfSuperType()
+    {
+        return repositoryHelper.isTypeOf(BenchmarkRepository.sourceName, "GlossaryTerm", "OpenMetadataRoot");
+    }
+
+
+    /**
+     * Check a type against a type that is not in its supertype hierarchy.
+     *
+     * @return false
+     */
+    @Benchmark
+    public boolean isTypeOfUnrelatedType()
+    {
+        return repositoryHelper.isTypeOf(BenchmarkRepository.sourceName, "GlossaryTerm", "Asset");
+    }
+
+
+    /**
+     * Copy an entity with its copy constructor, as repositories do before returning a stored instance.
+     *
+     * @return copy of the entity
+     */
+    @Benchmark
+    public EntityDetail cloneEntity()
+    {
+        return new EntityDetail(entity);
+    }
+
+
+    /**
+     * Create a proxy for an entity.
+     *
+     * @return entity proxy
+     * @throws Exception the entity is not valid
+     */
+    @Benchmark
+    public EntityProxy getNewEntityProxy() throws Exception
+    {
+        return repositoryHelper.getNewEntityProxy(BenchmarkRepository.sourceName, entity);
+    }
+
+
+    /**
+     * Return a copy of an entity with a classification added.
+     *
+     * @return classified copy of the entity
+     */
+    @Benchmark
+    public EntityDetail addClassificationToEntity()
+    {
+        return repositoryHelper.addClassificationToEntity(BenchmarkRepository.sourceName,
+                                                          entity,
+                                                          classification,
+                                                          "addClassificationToEntity");
+    }
+}
@@ -0,0 +1,212 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.benchmarks;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyComparisonOperator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.PropertyCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * OMRSRepositoryValidatorBenchmark measures OMRSRepositoryContentValidator.verifyMatchingInstancePropertyValues,
+ * which repositories that search in memory call for every candidate instance.  The single instance benchmarks show
+ * the cost of each kind of match; the scan benchmarks match the same criteria against all of the seeded
+ * glossary terms as a search of the repository would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OMRSRepositoryValidatorBenchmark
+{
+    @Param({"1000"})
+    private int entityCount;
+
+    private BenchmarkRepository            repository;
+    private OMRSRepositoryContentValidator repositoryValidator;
+    private List<EntityDetail>             entities;
+    private EntityDetail                   entity;
+    private InstanceProperties             exactMatchProperties;
+    private InstanceProperties             regexMatchProperties;
+    private SearchProperties               searchProperties;
+
+
+    /**
+     * Seed the repository and build the match criteria.  The exact match selects a single term and the
+     * regular expression matches one term in ten.
+     *
+     * @throws Exception the repository could not be set up
+     */
+    @Setup
+    public void setUp() throws Exception
+    {
+        final String methodName = "setUp";
+
+        repository          = new BenchmarkRepository(entityCount);
+        repositoryValidator = repository.getRepositoryValidator();
+        entities            = repository.getEntities();
+        entity              = entities.get(entities.size() / 2);
+
+        OMRSRepositoryContentHelper repositoryHelper = repository.getRepositoryHelper();
+        String qualifiedName = repositoryHelper.getStringProperty(BenchmarkRepository.sourceName,
+                                                                  "qualifiedName",
+                                                                  entity.getProperties(),
+                                                                  methodName);
+
+        exactMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.sourceName,
+                                                                            null,
+                                                                            "qualifiedName",
+                                                                            repositoryHelper.getExactMatchRegex(qualifiedName),
+                                                                            methodName);
+
+        regexMatchProperties = repositoryHelper.addStringPropertyToInstance(BenchmarkRepository.sourceName,
+                                                                            null,
+                                                                            "description",
+                                                                            ".*Category 5.*",
+                                                                            methodName);
+
+        PropertyCondition condition = new PropertyCondition();
+
+        condition.setProperty("qualifiedName");
+        condition.setOperator(PropertyComparisonOperator.EQ);
+        condition.setValue(entity.getProperties().getPropertyValue("qualifiedName"));
+
+        searchProperties = new SearchProperties();
+        searchProperties.setConditions(Collections.singletonList(condition));
+        searchProperties.setMatchCriteria(MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Shut down the repository.
+     *
+     * @throws Exception the repository did not shut down cleanly
+     */
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        repository.disconnect();
+    }
+
+
+    /**
+     * Match an exact value regular expression against one instance.
+     *
+     * @return whether the instance matches
+     * @throws Exception invalid match criteria
+     */
+    @Benchmark
+    public boolean matchExactValue() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(exactMatchProperties,
+                                                                        entity,
+                                                                        entity.getProperties(),
+                                                                        MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match a contains regular expression against one instance.
+     *
+     * @return whether the instance matches
+     * @throws Exception invalid match criteria
+     */
+    @Benchmark
+    public boolean matchRegexValue() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(regexMatchProperties,
+                                                                        entity,
+                                                                        entity.getProperties(),
+                                                                        MatchCriteria.ALL);
+    }
+
+
+    /**
+     * Match search properties with an equals condition against one instance.
+     *
+     * @return whether the instance matches
+     * @throws Exception invalid match criteria
+     */
+    @Benchmark
+    public boolean matchSearchProperties() throws Exception
+    {
+        return repositoryValidator.verifyMatchingInstancePropertyValues(searchProperties,
+                                                                        entity,
+                                                                        entity.getProperties());
+    }
+
+
+    /**
+     * Match an exact value regular expression against every seeded instance.
+     *
+     * @return number of matching instances
+     * @throws Exception invalid match criteria
+     */
+    @Benchmark
+    public int scanExactValue() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail candidate : entities)
+        {
+            if (repositoryValidator.verifyMatchingInstancePropertyValues(exactMatchProperties,
+                                                                         candidate,
+                                                                         candidate.getProperties(),
+                                                                         MatchCriteria.ALL))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+
+    /**
+     * Match a contains regular expression against every seeded instance.
+     *
+     * @return number of matching instances
+     * @throws Exception invalid match criteria
+     */
+    @Benchmark
+    public int scanRegexValue() throws Exception
+    {
+        int matches = 0;
+
+        for (EntityDetail candidate : entities)
+        {
+            if (repositoryValidator.verifyMatchingInstancePropertyValues(regexMatchProperties,
+                                                                         candidate,
+                                                                         candidate.getProperties(),
+                                                                         MatchCriteria.ALL))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+}
@@ -1418,6 +1418,83 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return a page of the relationships for a specific entity.  The continuation token returned with the page
+     * is passed on the request for the next page.  A null continuation token means there are no more results.
+     *
+     * @param userId                  unique identifier for requesting user.
+     * @param entityGUID              String unique identifier for the entity.
+     * @param relationshipTypeGUID    String GUID of the the type of relationship required (null for all).
+     * @param continuationToken       token returned with the previous page - null for the first page.
+     * @param limitResultsByStatus    By default, relationships in all statuses are returned.  However, it is possible
+     *                                to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                                status values.
+     * @param asOfTime                Requests a historical query of the relationships for the entity.  Null means return the
+     *                                present values.
+     * @param sequencingProperty      String name of the property that is to be used to sequence the results.
+     *                                Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder         Enum defining how the results should be ordered.
+     * @param pageSize                the maximum number of result relationships that can be returned on this request.
+     * @return page of relationships and the continuation token for the next page.
+     * @throws InvalidParameterException     a parameter is invalid or null.
+     * @throws TypeErrorException            the type guid passed on the request is not known by the
+     *                                       metadata collection.
+     * @throws RepositoryErrorException      there is a problem communicating with the metadata repository where
+     *                                       the metadata collection is stored.
+     * @throws EntityNotKnownException       the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException        the sequencing property is not valid for the attached classifications.
+     * @throws PagingErrorException          the paging/sequencing parameters or continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException    the userId is not permitted to perform this operation.
+     */
+    public RelationshipPage getRelationshipsForEntityPage(String               userId,
+                                                          String               entityGUID,
+                                                          String               relationshipTypeGUID,
+                                                          String               continuationToken,
+                                                          List<InstanceStatus> limitResultsByStatus,
+                                                          Date                 asOfTime,
+                                                          String               sequencingProperty,
+                                                          SequencingOrder      sequencingOrder,
+                                                          int                  pageSize) throws InvalidParameterException,
+                                                                                                TypeErrorException,
+                                                                                                RepositoryErrorException,
+                                                                                                EntityNotKnownException,
+                                                                                                PropertyErrorException,
+                                                                                                PagingErrorException,
+                                                                                                FunctionNotSupportedException,
+                                                                                                UserNotAuthorizedException
+    {
+        final String                     methodName            = "getRelationshipsForEntityPage";
+        final String                     operationSpecificURL  = "instances/entity/{1}/relationships/page";
+        TypeLimitedHistoricalFindRequest findRequestParameters = new TypeLimitedHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setContinuationToken(continuationToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                    findRequestParameters,
+                                                                                    userId,
+                                                                                    entityGUID);
+
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowEntityNotKnownException(methodName, restResult);
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return new RelationshipPage(restResult.getRelationships(), restResult.getContinuationToken());
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -1528,6 +1605,87 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied criteria.  The continuation token returned with the page
+     * is passed on the request for the next page.  A null continuation token means there are no more results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param continuationToken token returned with the previous page - null for the first page.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.
+     * @return page of entities and the continuation token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String                methodName            = "findEntitiesPage";
+        final String                operationSpecificURL  = "instances/entities/page";
+        EntityHistoricalFindRequest findRequestParameters = new EntityHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(entityTypeGUID);
+        findRequestParameters.setSubtypeGUIDs(entitySubtypeGUIDs);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setContinuationToken(continuationToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setMatchClassifications(matchClassifications);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        EntityListResponse restResult = this.callEntityListPostRESTCall(methodName,
+                                                                        restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                        findRequestParameters,
+                                                                        userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return new EntityDetailPage(restResult.getEntities(), restResult.getContinuationToken());
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -2142,6 +2300,87 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token returned
+     * with the page is passed on the request for the next page.  A null continuation token means there are no
+     * more results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the new relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param continuationToken token returned with the previous page - null for the first page.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.
+     * @return page of relationships and the continuation token for the next page.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  RelationshipPage findRelationshipsPage(String                    userId,
+                                                   String                    relationshipTypeGUID,
+                                                   List<String>              relationshipSubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   String                    continuationToken,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   Date                      asOfTime,
+                                                   String                    sequencingProperty,
+                                                   SequencingOrder           sequencingOrder,
+                                                   int                       pageSize) throws InvalidParameterException,
+                                                                                              TypeErrorException,
+                                                                                              RepositoryErrorException,
+                                                                                              PropertyErrorException,
+                                                                                              PagingErrorException,
+                                                                                              FunctionNotSupportedException,
+                                                                                              UserNotAuthorizedException
+    {
+        final String                  methodName            = "findRelationshipsPage";
+        final String                  operationSpecificURL  = "instances/relationships/page";
+        InstanceHistoricalFindRequest findRequestParameters = new InstanceHistoricalFindRequest();
+
+        findRequestParameters.setTypeGUID(relationshipTypeGUID);
+        findRequestParameters.setSubtypeGUIDs(relationshipSubtypeGUIDs);
+        findRequestParameters.setMatchProperties(matchProperties);
+        findRequestParameters.setAsOfTime(asOfTime);
+        findRequestParameters.setContinuationToken(continuationToken);
+        findRequestParameters.setLimitResultsByStatus(limitResultsByStatus);
+        findRequestParameters.setSequencingOrder(sequencingOrder);
+        findRequestParameters.setSequencingProperty(sequencingProperty);
+        findRequestParameters.setPageSize(pageSize);
+
+        RelationshipListResponse restResult = this.callRelationshipListPostRESTCall(methodName,
+                                                                                    restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                                    findRequestParameters,
+                                                                                    userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowTypeErrorException(methodName, restResult);
+        this.detectAndThrowPropertyErrorException(methodName, restResult);
+        this.detectAndThrowPagingErrorException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return new RelationshipPage(restResult.getRelationships(), restResult.getContinuationToken());
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -70,6 +70,8 @@ public class OMRSOperationalServices
      */
     private static final Logger       log      = LoggerFactory.getLogger(OMRSOperationalServices.class);
 
+    private static final long         auditLogFlushTimeout = 5000;   /* milliseconds to wait for queued audit log records */
+
     private String                         localServerName;               /* Initialized in constructor */
     private String                         localServerType;               /* Initialized in constructor */
     private String                         localMetadataCollectionName;   /* Initialized in constructor */
@@ -269,7 +271,10 @@ public class OMRSOperationalServices
         auditLogDestination = new OMRSAuditLogDestination(localServerName,
                                                           localServerType,
                                                           localOrganizationName,
-                                                          getAuditLogStores(repositoryServicesConfig.getAuditLogConnections()));
+                                                          getAuditLogStores(repositoryServicesConfig.getAuditLogConnections()),
+                                                          repositoryServicesConfig.getAuditLogQueueSize(),
+                                                          repositoryServicesConfig.getAuditLogBatchSize(),
+                                                          repositoryServicesConfig.getAuditLogQueueFullPolicy());
 
         auditLog = new OMRSAuditLog(auditLogDestination, OMRSAuditingComponent.OPERATIONAL_SERVICES);
 
@@ -736,8 +741,11 @@ public class OMRSOperationalServices
                                                                             maxPageSize,
                                                                             repositoryContentManager,
                                                                             auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_CONNECTOR_MANAGER),
+                                                                            localServerName,
                                                                             localServerUserId,
-                                                                            localServerPassword);
+                                                                            localServerPassword,
+                                                                            enterpriseAccessConfig.getMaxFederationThreads(),
+                                                                            enterpriseAccessConfig.getFederationMemberTimeout());
 
             /*
              * Save information about the enterprise metadata collection for the OMRSEnterpriseConnectorProvider class as
@@ -1014,6 +1022,14 @@ public class OMRSOperationalServices
 
         auditLog.logMessage(actionDescription, OMRSAuditCode.OMRS_DISCONNECTED.getMessageDefinition());
 
+        /*
+         * Write out any audit log records that are queued for the audit log destinations.
+         */
+        if (auditLogDestination != null)
+        {
+            auditLogDestination.disconnect(auditLogFlushTimeout);
+        }
+
         return true;
     }
 
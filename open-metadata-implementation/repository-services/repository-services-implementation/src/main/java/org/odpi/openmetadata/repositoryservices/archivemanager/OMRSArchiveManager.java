@@ -12,7 +12,9 @@ import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventProcessorInterface;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveContentHandler;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStoreConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.OpenMetadataArchiveStreamReader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefPatch;
@@ -30,6 +32,11 @@ import java.util.List;
  */
 public class OMRSArchiveManager
 {
+    /*
+     * Maximum number of instances passed to the local repository in each batch when loading an archive.
+     */
+    private static final int                        instanceBatchSize           = 1000;
+
     private String                                  localMetadataCollectionId   = null;
     private List<OpenMetadataArchiveStoreConnector> openMetadataArchiveStores   = new ArrayList<>();
     private OMRSRepositoryContentManager            repositoryContentManager    = null;
@@ -139,15 +146,19 @@ public class OMRSArchiveManager
     {
         OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
         OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+        ArchiveLoader            archiveLoader            = new ArchiveLoader("Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
 
         repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
-        processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
+
+        OpenMetadataArchiveStreamReader.readArchive(openMetadataTypes, archiveLoader);
+        archiveLoader.complete();
     }
 
 
     /**
      * Unpack and process the contents an open metadata archive , passing its contents to the local
-     * repository (if it exists).
+     * repository (if it exists).  The archive store passes its contents one piece at a time so that
+     * large archives do not need to be held in memory.
      *
      * @param archiveStore open metadata archive  to process
      * @param archiveSource source of the archive - such as file name
@@ -165,70 +176,20 @@ public class OMRSArchiveManager
              * Each archive store has a header, a section of new type definitions (TypeDefs) and a section of
              * metadata instances.
              */
-            OpenMetadataArchive archiveContent = archiveStore.getArchiveContents();
+            ArchiveLoader archiveLoader = new ArchiveLoader(archiveSource, typeDefProcessor, instanceProcessor);
 
-            if (archiveContent == null)
-            {
-                final String     actionDescription = "Process Open Metadata Archive";
+            boolean       hasContent    = archiveStore.processArchiveContents(archiveLoader);
 
-                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
-            }
-            else
+            if ((hasContent) || (archiveLoader.isStarted()))
             {
-                processOpenMetadataArchive(archiveContent, archiveSource, typeDefProcessor, instanceProcessor);
+                archiveLoader.complete();
             }
-        }
-    }
-
-
-    /**
-     * Step through the content of an open metadata archive, passing its contents to the local repository (if it
-     * exists).
-     *
-     * @param archiveContent open metadata archive to process
-     * @param archiveSource source of the archive - such as file name
-     * @param typeDefProcessor processor of type definitions found in the archive
-     * @param instanceProcessor processor of instances found in the archive
-     */
-    private void processOpenMetadataArchive(OpenMetadataArchive                   archiveContent,
-                                            String                                archiveSource,
-                                            OMRSTypeDefEventProcessorInterface    typeDefProcessor,
-                                            OMRSInstanceEventProcessorInterface   instanceProcessor)
-    {
-        final String     actionDescription = "Process Open Metadata Archive";
-
-        OpenMetadataArchiveProperties archiveProperties = archiveContent.getArchiveProperties();
-
-        if (archiveProperties != null)
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
-
-
-            OpenMetadataArchiveTypeStore     archiveTypeStore     = archiveContent.getArchiveTypeStore();
-            OpenMetadataArchiveInstanceStore archiveInstanceStore = archiveContent.getArchiveInstanceStore();
-
-            int                              typeCount            = 0;
-            int                              instanceCount        = 0;
-
-
-            if (archiveTypeStore != null)
+            else
             {
-                typeCount = this.processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
-            }
+                final String     actionDescription = "Process Open Metadata Archive";
 
-            if (archiveInstanceStore != null)
-            {
-                instanceCount = this.processInstanceStore(archiveProperties, archiveInstanceStore, instanceProcessor);
+                auditLog.logMessage(actionDescription, OMRSAuditCode.EMPTY_ARCHIVE.getMessageDefinition(archiveSource));
             }
-
-            auditLog.logMessage(actionDescription,
-                                OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
-                                                                                     Integer.toString(instanceCount),
-                                                                                     archiveProperties.getArchiveName()));
-        }
-        else
-        {
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
         }
     }
 
@@ -342,200 +303,411 @@ public class OMRSArchiveManager
 
 
     /**
-     * The InstanceStore is in three parts: an optional list of entities followed by an optional list
-     * of relationships followed by an optional list of classifications.
+     * ArchiveLoader receives the contents of an open metadata archive one piece at a time and passes them to the
+     * local repository (if it exists).  TypeDefs are passed as soon as the type store is received.
+     * The instance store is in three parts: a list of entities followed by a list of relationships followed by a
+     * list of classifications.
      *
      * It is possible that this archive has been processed before
      * and so any duplicates detected are ignored.  However, conflicting instances are detected.
      * Any problems found in applying the archive contents are recorded on the audit log.
-     *
-     * @param archiveProperties properties describing the archive used in logging
-     * @param archiveInstanceStore the instance store to process
-     * @param instanceProcessor the processor to add the instances to the local repository.  It may be null
-     *                          if there is no local repository configured for this server.
-     * @return instance count
      */
-    private int  processInstanceStore(OpenMetadataArchiveProperties             archiveProperties,
-                                      OpenMetadataArchiveInstanceStore          archiveInstanceStore,
-                                      OMRSInstanceEventProcessorInterface       instanceProcessor)
+    private class ArchiveLoader implements OpenMetadataArchiveContentHandler
     {
-        List<EntityDetail>                  entities        = archiveInstanceStore.getEntities();
-        List<Relationship>                  relationships   = archiveInstanceStore.getRelationships();
-        List<ClassificationEntityExtension> classifications = archiveInstanceStore.getClassifications();
-        int                                 instanceCount   = 0;
+        private final String                              archiveSource;
+        private final OMRSTypeDefEventProcessorInterface  typeDefProcessor;
+        private final OMRSInstanceEventProcessorInterface instanceProcessor;
 
-        if (instanceProcessor != null)
+        /*
+         * The local repository can save the entities and relationships in batches.  Other processors receive
+         * an event for each instance.
+         */
+        private LocalOMRSInstanceEventProcessor batchProcessor    = null;
+        private final List<EntityDetail>        entityBatch       = new ArrayList<>();
+        private final List<Relationship>        relationshipBatch = new ArrayList<>();
+
+        private boolean                       started                    = false;
+        private boolean                       instanceProcessorChecked   = false;
+        private OpenMetadataArchiveProperties archiveProperties          = null;
+        private String                        archiveId                  = null;
+        private String                        homeMetadataCollectionId   = null;
+        private String                        archiveName                = null;
+        private String                        originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
+        private InstanceProvenanceType        provenanceType             = InstanceProvenanceType.CONTENT_PACK;
+        private Date                          archiveCreationTime        = null;
+        private String                        originatorName             = null;
+        private String                        originatorOrganizationName = null;
+        private String                        originatorLicense          = null;
+        private int                           typeCount                  = 0;
+        private int                           instanceCount              = 0;
+
+
+        /**
+         * Constructor takes the destinations of the archive content.
+         *
+         * @param archiveSource source of the archive - such as file name
+         * @param typeDefProcessor processor of type definitions found in the archive
+         * @param instanceProcessor processor of instances found in the archive.  It may be null
+         *                          if there is no local repository configured for this server.
+         */
+        ArchiveLoader(String                              archiveSource,
+                      OMRSTypeDefEventProcessorInterface  typeDefProcessor,
+                      OMRSInstanceEventProcessorInterface instanceProcessor)
         {
-            String                 homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
-            String                 archiveName                = archiveProperties.getArchiveName();
-            String                 originatorServerType       = OpenMetadataArchiveType.CONTENT_PACK.getName();
-            InstanceProvenanceType provenanceType             = InstanceProvenanceType.CONTENT_PACK;
-            Date                   archiveCreationTime        = archiveProperties.getCreationDate();
-            String                 originatorName             = archiveProperties.getOriginatorName();
-            String                 archiveVersion             = archiveProperties.getArchiveVersion();
-            String                 originatorOrganizationName = archiveProperties.getOriginatorOrganization();
-            String                 originatorLicense          = archiveProperties.getOriginatorLicense();
+            this.archiveSource     = archiveSource;
+            this.typeDefProcessor  = typeDefProcessor;
+            this.instanceProcessor = instanceProcessor;
 
-            String archiveId = originatorName + " (" + archiveVersion + ")";
+            if (instanceProcessor instanceof LocalOMRSInstanceEventProcessor)
+            {
+                this.batchProcessor = (LocalOMRSInstanceEventProcessor)instanceProcessor;
+            }
+        }
+
+
+        /**
+         * Return whether any of the archive has been received.
+         *
+         * @return boolean flag
+         */
+        boolean isStarted()
+        {
+            return started;
+        }
+
+
+        /**
+         * Set up the values used to describe the origin of the archive's content.
+         *
+         * @param archiveProperties properties of the archive or null if they are missing
+         */
+        @Override
+        public void processArchiveProperties(OpenMetadataArchiveProperties archiveProperties)
+        {
+            final String     actionDescription = "Process Open Metadata Archive";
 
-            if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+            this.started           = true;
+            this.archiveProperties = archiveProperties;
+
+            if (archiveProperties != null)
             {
-                provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
-                originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+                auditLog.logMessage(actionDescription, OMRSAuditCode.PROCESSING_ARCHIVE.getMessageDefinition(archiveProperties.getArchiveName()));
+
+                homeMetadataCollectionId   = archiveProperties.getArchiveGUID();
+                archiveName                = archiveProperties.getArchiveName();
+                archiveCreationTime        = archiveProperties.getCreationDate();
+                originatorName             = archiveProperties.getOriginatorName();
+                originatorOrganizationName = archiveProperties.getOriginatorOrganization();
+                originatorLicense          = archiveProperties.getOriginatorLicense();
+                archiveId                  = originatorName + " (" + archiveProperties.getArchiveVersion() + ")";
+
+                if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.METADATA_EXPORT)
+                {
+                    provenanceType       = InstanceProvenanceType.EXPORT_ARCHIVE;
+                    originatorServerType = OpenMetadataArchiveType.METADATA_EXPORT.getName();
+                }
+                else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
+                {
+                    provenanceType       = InstanceProvenanceType.LOCAL_COHORT;
+                    originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
+                }
             }
-            else if (archiveProperties.getArchiveType() == OpenMetadataArchiveType.REPOSITORY_BACKUP)
+        }
+
+
+        /**
+         * Pass the type definitions to the TypeDef processor.
+         *
+         * @param archiveTypeStore type definitions and patches from the archive
+         */
+        @Override
+        public void processTypeStore(OpenMetadataArchiveTypeStore archiveTypeStore)
+        {
+            if ((archiveProperties != null) && (archiveTypeStore != null))
             {
-                provenanceType       = InstanceProvenanceType.LOCAL_COHORT;
-                originatorServerType = OpenMetadataArchiveType.REPOSITORY_BACKUP.getName();
+                typeCount = typeCount + processTypeDefStore(archiveProperties, archiveTypeStore, typeDefProcessor);
             }
+        }
 
-            if (entities != null)
+
+        /**
+         * Pass an entity to the instance processor.
+         *
+         * @param entity entity
+         */
+        @Override
+        public void processEntity(EntityDetail entity)
+        {
+            if ((entity != null) && (this.isReadyForInstances()))
             {
-                for (EntityDetail entity : entities)
+                setInstanceAuditHeader(localMetadataCollectionId,
+                                       homeMetadataCollectionId,
+                                       archiveName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       entity);
+
+                /*
+                 * There is no need to support delete in archive because the elements are
+                 * reference copies and can be deleted from the receiving repositories.
+                 * Only new instances are batched - later versions go through the update processing.
+                 */
+                if ((batchProcessor != null) && (entity.getVersion() == 1L))
                 {
-                    if (entity != null)
+                    entityBatch.add(entity);
+
+                    if (entityBatch.size() >= instanceBatchSize)
                     {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    entity);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (entity.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewEntityEvent(archiveId,
-                                                                    homeMetadataCollectionId,
-                                                                    archiveName,
-                                                                    originatorServerType,
-                                                                    originatorOrganizationName,
-                                                                    entity);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedEntityEvent(archiveId,
-                                                                        homeMetadataCollectionId,
-                                                                        archiveName,
-                                                                        originatorServerType,
-                                                                        originatorOrganizationName,
-                                                                        null,
-                                                                        entity);
-                        }
-
-                        instanceCount++;
+                        this.saveEntityBatch();
                     }
                 }
+                else if (entity.getVersion() == 1L)
+                {
+                    instanceProcessor.processNewEntityEvent(archiveId,
+                                                            homeMetadataCollectionId,
+                                                            archiveName,
+                                                            originatorServerType,
+                                                            originatorOrganizationName,
+                                                            entity);
+                }
+                else
+                {
+                    /*
+                     * The earlier versions of this entity may still be waiting in the batch.
+                     */
+                    this.saveEntityBatch();
+
+                    instanceProcessor.processUpdatedEntityEvent(archiveId,
+                                                                homeMetadataCollectionId,
+                                                                archiveName,
+                                                                originatorServerType,
+                                                                originatorOrganizationName,
+                                                                null,
+                                                                entity);
+                }
+
+                instanceCount++;
             }
+        }
+
 
-            if (relationships != null)
+        /**
+         * Pass a relationship to the instance processor.
+         *
+         * @param relationship relationship
+         */
+        @Override
+        public void processRelationship(Relationship relationship)
+        {
+            if ((relationship != null) && (this.isReadyForInstances()))
             {
-                for (Relationship relationship : relationships)
+                /*
+                 * The entities are saved before the relationships so that the relationships can link to them.
+                 */
+                this.saveEntityBatch();
+
+                setInstanceAuditHeader(localMetadataCollectionId,
+                                       homeMetadataCollectionId,
+                                       archiveName,
+                                       originatorName,
+                                       archiveCreationTime,
+                                       provenanceType,
+                                       originatorLicense,
+                                       relationship);
+
+                /*
+                 * There is no need to support delete in archive because the elements are
+                 * reference copies and can be deleted from the receiving repositories.
+                 * Only new instances are batched - later versions go through the update processing.
+                 */
+                if ((batchProcessor != null) && (relationship.getVersion() == 1L))
                 {
-                    if (relationship != null)
+                    relationshipBatch.add(relationship);
+
+                    if (relationshipBatch.size() >= instanceBatchSize)
                     {
-                        this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                    homeMetadataCollectionId,
-                                                    archiveName,
-                                                    originatorName,
-                                                    archiveCreationTime,
-                                                    provenanceType,
-                                                    originatorLicense,
-                                                    relationship);
-
-                        /*
-                         * There is no need to support delete in archive because the elements are
-                         * reference copies and can be deleted from the receiving repositories.
-                         */
-                        if (relationship.getVersion() == 1L)
-                        {
-                            instanceProcessor.processNewRelationshipEvent(archiveId,
-                                                                          homeMetadataCollectionId,
-                                                                          archiveName,
-                                                                          originatorServerType,
-                                                                          originatorOrganizationName,
-                                                                          relationship);
-                        }
-                        else
-                        {
-                            instanceProcessor.processUpdatedRelationshipEvent(archiveId,
-                                                                              homeMetadataCollectionId,
-                                                                              archiveName,
-                                                                              originatorServerType,
-                                                                              originatorOrganizationName,
-                                                                              null,
-                                                                              relationship);
-                        }
-
-                        instanceCount ++;
+                        this.saveRelationshipBatch();
                     }
                 }
+                else if (relationship.getVersion() == 1L)
+                {
+                    instanceProcessor.processNewRelationshipEvent(archiveId,
+                                                                  homeMetadataCollectionId,
+                                                                  archiveName,
+                                                                  originatorServerType,
+                                                                  originatorOrganizationName,
+                                                                  relationship);
+                }
+                else
+                {
+                    /*
+                     * The earlier versions of this relationship may still be waiting in the batch.
+                     */
+                    this.saveRelationshipBatch();
+
+                    instanceProcessor.processUpdatedRelationshipEvent(archiveId,
+                                                                      homeMetadataCollectionId,
+                                                                      archiveName,
+                                                                      originatorServerType,
+                                                                      originatorOrganizationName,
+                                                                      null,
+                                                                      relationship);
+                }
+
+                instanceCount ++;
             }
+        }
 
-            if (instanceProcessor instanceof OMRSInstanceEventProcessorClassificationExtension)
+
+        /**
+         * Pass a classification to the instance processor if it supports classification events.
+         *
+         * @param classificationEntityExtension classification and the entity it is attached to
+         */
+        @Override
+        public void processClassification(ClassificationEntityExtension classificationEntityExtension)
+        {
+            if ((classificationEntityExtension != null) && (this.isReadyForInstances()))
             {
-                OMRSInstanceEventProcessorClassificationExtension classificationInstanceProcessor = (OMRSInstanceEventProcessorClassificationExtension)instanceProcessor;
+                /*
+                 * The entities and relationships are saved before the classifications.
+                 */
+                this.saveEntityBatch();
+                this.saveRelationshipBatch();
 
-                if (classifications != null)
+                if (instanceProcessor instanceof OMRSInstanceEventProcessorClassificationExtension)
                 {
-                    for (ClassificationEntityExtension classificationEntityExtension : classifications)
+                    OMRSInstanceEventProcessorClassificationExtension classificationInstanceProcessor = (OMRSInstanceEventProcessorClassificationExtension)instanceProcessor;
+
+                    Classification classification = classificationEntityExtension.getClassification();
+
+                    setInstanceAuditHeader(localMetadataCollectionId,
+                                           homeMetadataCollectionId,
+                                           archiveName,
+                                           originatorName,
+                                           archiveCreationTime,
+                                           provenanceType,
+                                           originatorLicense,
+                                           classification);
+
+                    classificationEntityExtension.setClassification(classification);
+
+                    if (classification.getVersion() == 1L)
                     {
-                        if (classificationEntityExtension != null)
-                        {
-                            Classification classification = classificationEntityExtension.getClassification();
-
-                            this.setInstanceAuditHeader(localMetadataCollectionId,
-                                                        homeMetadataCollectionId,
-                                                        archiveName,
-                                                        originatorName,
-                                                        archiveCreationTime,
-                                                        provenanceType,
-                                                        originatorLicense,
-                                                        classification);
-
-                            classificationEntityExtension.setClassification(classification);
-
-                            if (classification.getVersion() == 1L)
-                            {
-                                classificationInstanceProcessor.processClassifiedEntityEvent(archiveId,
-                                                                                             homeMetadataCollectionId,
-                                                                                             archiveName,
-                                                                                             originatorServerType,
-                                                                                             originatorOrganizationName,
-                                                                                             classificationEntityExtension.getEntityToClassify(),
-                                                                                             classification);
-                            }
-                            else
-                            {
-                                classificationInstanceProcessor.processReclassifiedEntityEvent(archiveId,
-                                                                                               homeMetadataCollectionId,
-                                                                                               archiveName,
-                                                                                               originatorServerType,
-                                                                                               originatorOrganizationName,
-                                                                                               classificationEntityExtension.getEntityToClassify(),
-                                                                                               null,
-                                                                                               classification);
-                            }
-
-                            instanceCount ++;
-                        }
+                        classificationInstanceProcessor.processClassifiedEntityEvent(archiveId,
+                                                                                     homeMetadataCollectionId,
+                                                                                     archiveName,
+                                                                                     originatorServerType,
+                                                                                     originatorOrganizationName,
+                                                                                     classificationEntityExtension.getEntityToClassify(),
+                                                                                     classification);
                     }
+                    else
+                    {
+                        classificationInstanceProcessor.processReclassifiedEntityEvent(archiveId,
+                                                                                       homeMetadataCollectionId,
+                                                                                       archiveName,
+                                                                                       originatorServerType,
+                                                                                       originatorOrganizationName,
+                                                                                       classificationEntityExtension.getEntityToClassify(),
+                                                                                       null,
+                                                                                       classification);
+                    }
+
+                    instanceCount ++;
                 }
             }
         }
-        else
+
+
+        /**
+         * Save any instances still waiting in the batches and record the end of the archive.
+         */
+        void complete()
         {
-            final String actionDescription = "Processing instances from archive";
+            final String     actionDescription = "Process Open Metadata Archive";
+
+            if (archiveProperties != null)
+            {
+                this.saveEntityBatch();
+                this.saveRelationshipBatch();
 
-            auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+                auditLog.logMessage(actionDescription,
+                                    OMRSAuditCode.COMPLETED_ARCHIVE.getMessageDefinition(Integer.toString(typeCount),
+                                                                                         Integer.toString(instanceCount),
+                                                                                         archiveProperties.getArchiveName()));
+            }
+            else
+            {
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NULL_PROPERTIES_IN_ARCHIVE.getMessageDefinition(archiveSource));
+            }
         }
 
-        return instanceCount;
+
+        /**
+         * Determine whether instances can be processed.  The absence of an instance processor is logged
+         * the first time an instance is received.
+         *
+         * @return boolean flag
+         */
+        private boolean isReadyForInstances()
+        {
+            if (archiveProperties == null)
+            {
+                return false;
+            }
+
+            if ((instanceProcessor == null) && (! instanceProcessorChecked))
+            {
+                final String actionDescription = "Processing instances from archive";
+
+                auditLog.logMessage(actionDescription, OMRSAuditCode.NO_INSTANCE_PROCESSOR.getMessageDefinition());
+            }
+
+            instanceProcessorChecked = true;
+
+            return (instanceProcessor != null);
+        }
+
+
+        /**
+         * Pass the waiting entities to the local repository.
+         */
+        private void saveEntityBatch()
+        {
+            if ((batchProcessor != null) && (! entityBatch.isEmpty()))
+            {
+                batchProcessor.processArchiveInstanceBatch(archiveId,
+                                                           homeMetadataCollectionId,
+                                                           archiveName,
+                                                           originatorServerType,
+                                                           originatorOrganizationName,
+                                                           new ArrayList<>(entityBatch),
+                                                           null);
+                entityBatch.clear();
+            }
+        }
+
+
+        /**
+         * Pass the waiting relationships to the local repository.
+         */
+        private void saveRelationshipBatch()
+        {
+            if ((batchProcessor != null) && (! relationshipBatch.isEmpty()))
+            {
+                batchProcessor.processArchiveInstanceBatch(archiveId,
+                                                           homeMetadataCollectionId,
+                                                           archiveName,
+                                                           originatorServerType,
+                                                           originatorOrganizationName,
+                                                           null,
+                                                           new ArrayList<>(relationshipBatch));
+                relationshipBatch.clear();
+            }
+        }
     }
 
 
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.enterprise.connectormanager;
 
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationWorkerPool;
 
 /**
  * OMRSConnectorManager provides the methods for connector consumers to register with the connector manager.
@@ -30,4 +31,13 @@ public interface OMRSConnectorManager
      *                             registerConnectorConsumer.
      */
     void unregisterConnectorConsumer(String   connectorConsumerId);
+
+
+    /**
+     * Return the pool of worker threads that the connector consumers use to issue federated requests to the
+     * members of the cohort in parallel.
+     *
+     * @return worker pool or null if requests are to be issued sequentially
+     */
+    FederationWorkerPool getFederationWorkerPool();
 }
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedExceptio
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationWorkerPool;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector.LocalOMRSRepositoryConnector;
@@ -84,6 +85,7 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     private AuditLog                          auditLog;
     private String                            localServerUserId;
     private String                            localServerPassword;
+    private FederationWorkerPool              federationWorkerPool         = null;
 
     /**
      * Constructor for the enterprise connector manager.
@@ -114,6 +116,37 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
     }
 
 
+    /**
+     * Constructor for the enterprise connector manager when federated queries are to be issued to the members
+     * of the cohort in parallel.
+     *
+     * @param enterpriseAccessEnabled boolean indicating whether the connector consumers should be
+     *                                 informed of remote connectors.
+     * @param maxPageSize the maximum number of elements that can be requested on a page.
+     * @param repositoryContentManager repository content manager used by the connectors.
+     * @param auditLog audit log to act as a factory for connector audit logs.
+     * @param localServerName name of the local server
+     * @param localServerUserId userId for the local server
+     * @param localServerPassword password for the local server
+     * @param maxFederationThreads maximum number of concurrent calls to cohort members (zero means use the default)
+     * @param federationMemberTimeout number of milliseconds to wait for a cohort member to respond (zero means use the default)
+     */
+    public OMRSEnterpriseConnectorManager(boolean                      enterpriseAccessEnabled,
+                                          int                          maxPageSize,
+                                          OMRSRepositoryContentManager repositoryContentManager,
+                                          AuditLog                     auditLog,
+                                          String                       localServerName,
+                                          String                       localServerUserId,
+                                          String                       localServerPassword,
+                                          int                          maxFederationThreads,
+                                          long                         federationMemberTimeout)
+    {
+        this(enterpriseAccessEnabled, maxPageSize, repositoryContentManager, auditLog, localServerUserId, localServerPassword);
+
+        this.federationWorkerPool = new FederationWorkerPool(localServerName, maxFederationThreads, federationMemberTimeout);
+    }
+
+
     /**
      * Returns boolean indicating whether the enterprise connector manager should pass on details about remote
      * members of the cohort to the connector consumers or not.  (This capability allows the OMASs to be configured
@@ -163,6 +196,26 @@ public class OMRSEnterpriseConnectorManager implements OMRSConnectionConsumer, O
         {
             registeredConnectorConsumer.getConnectorConsumer().disconnectAllConnectors();
         }
+
+        /*
+         * Federated queries are no longer possible so the worker threads can be released.
+         */
+        if (federationWorkerPool != null)
+        {
+            federationWorkerPool.shutdown();
+        }
+    }
+
+
+    /**
+     * Return the pool of worker threads used to issue federated requests to the members of the cohort in parallel.
+     *
+     * @return worker pool or null if requests are to be issued sequentially
+     */
+    @Override
+    public FederationWorkerPool getFederationWorkerPool()
+    {
+        return federationWorkerPool;
     }
 
 
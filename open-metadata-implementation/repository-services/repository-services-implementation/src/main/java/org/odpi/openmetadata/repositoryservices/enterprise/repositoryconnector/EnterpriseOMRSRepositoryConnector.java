@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationWorkerPool;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
@@ -106,6 +107,22 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Return the pool of worker threads used to issue federated requests to the members of the cohort in parallel.
+     *
+     * @return worker pool or null if requests are to be issued sequentially
+     */
+    FederationWorkerPool getFederationWorkerPool()
+    {
+        if (connectorManager != null)
+        {
+            return connectorManager.getFederationWorkerPool();
+        }
+
+        return null;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
@@ -76,7 +76,7 @@ public abstract class ClassificationAccumulator extends MaintenanceAccumulator
      */
     public synchronized List<String> getContributingMetadataCollections()
     {
-        return contributingMetadataCollections;
+        return new ArrayList<>(contributingMetadataCollections);
     }
 
 
@@ -93,7 +93,7 @@ public abstract class ClassificationAccumulator extends MaintenanceAccumulator
      *
      * @param retrievedClassifications classifications from a repository
      */
-    public void saveClassifications(List<Classification> retrievedClassifications)
+    public synchronized void saveClassifications(List<Classification> retrievedClassifications)
     {
         if (retrievedClassifications != null)
         {
@@ -122,7 +122,7 @@ public abstract class ClassificationAccumulator extends MaintenanceAccumulator
      *
      * @return null or list of classifications
      */
-    List<Classification> getClassifications()
+    synchronized List<Classification> getClassifications()
     {
         if (allClassifications.isEmpty())
         {
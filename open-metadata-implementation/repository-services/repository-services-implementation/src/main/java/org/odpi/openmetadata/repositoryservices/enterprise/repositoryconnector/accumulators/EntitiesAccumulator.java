@@ -215,9 +215,16 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
      * @param entityGUID unique identifier for entity of interest
      * @return null or list of metadata collection ids
      */
-    public List<String> getContributingMetadataCollections(String entityGUID)
+    public synchronized List<String> getContributingMetadataCollections(String entityGUID)
     {
-        return accumulatedEntitySources.get(entityGUID);
+        List<String> contributingMetadataCollections = accumulatedEntitySources.get(entityGUID);
+
+        if (contributingMetadataCollections == null)
+        {
+            return null;
+        }
+
+        return new ArrayList<>(contributingMetadataCollections);
     }
 
 
@@ -226,7 +233,7 @@ public class EntitiesAccumulator extends QueryInstanceAccumulatorBase
      *
      * @return null or list of GUIDs
      */
-    public List<String> getResultsForAugmentation()
+    public synchronized List<String> getResultsForAugmentation()
     {
         if (! accumulatedEntities.isEmpty())
         {
@@ -81,7 +81,7 @@ public class EntityDetailAccumulator extends ClassificationAccumulator
      *
      * @return null or list of GUIDs
      */
-    public List<String> getResultsForAugmentation()
+    public synchronized List<String> getResultsForAugmentation()
     {
         if (currentSavedEntity != null)
         {
@@ -101,7 +101,7 @@ public class EntityDetailAccumulator extends ClassificationAccumulator
      *
      * @return list of entities
      */
-    public  EntityDetail getResult()
+    public synchronized EntityDetail getResult()
     {
         if (currentSavedEntity != null)
         {
@@ -0,0 +1,206 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FederationWorkerPool manages the worker threads used by the ParallelFederationControl to issue requests to the
+ * members of the connected cohorts in parallel.  There is one pool for each server, shared by all of the
+ * enterprise repository connectors that it creates for its access services.
+ *
+ * The pool is bounded both in the number of threads and in the number of requests that can be queued.  When the
+ * pool is saturated, the caller waits (up to the member timeout) for space in the queue.  If there is still no space,
+ * or the pool is shutting down, the request is cancelled so that the caller never waits longer than the member
+ * timeout for a cohort member.
+ */
+public class FederationWorkerPool
+{
+    /**
+     * Default maximum number of worker threads if not set in the configuration.
+     */
+    public static final int  DEFAULT_MAX_FEDERATION_THREADS    = 20;
+
+    /**
+     * Default time (in milliseconds) to wait for a cohort member to respond if not set in the configuration.
+     */
+    public static final long DEFAULT_FEDERATION_MEMBER_TIMEOUT = 60000L;
+
+    private static final int QUEUE_DEPTH_PER_THREAD = 10;
+
+    private final ThreadPoolExecutor workerThreads;
+    private final long               memberTimeout;
+
+
+    /**
+     * Constructor for the worker pool.
+     *
+     * @param serverName name of the local server - used to name the threads
+     * @param maxFederationThreads maximum number of concurrent calls to cohort members - zero or less means use the default
+     * @param federationMemberTimeout number of milliseconds to wait for a cohort member to respond - zero or less means use the default
+     */
+    public FederationWorkerPool(String serverName,
+                                int    maxFederationThreads,
+                                long   federationMemberTimeout)
+    {
+        int threadCount = maxFederationThreads > 0 ? maxFederationThreads : DEFAULT_MAX_FEDERATION_THREADS;
+
+        this.memberTimeout = federationMemberTimeout > 0 ? federationMemberTimeout : DEFAULT_FEDERATION_MEMBER_TIMEOUT;
+        this.workerThreads = new ThreadPoolExecutor(threadCount,
+                                                    threadCount,
+                                                    60L,
+                                                    TimeUnit.SECONDS,
+                                                    new ArrayBlockingQueue<>(threadCount * QUEUE_DEPTH_PER_THREAD),
+                                                    new WorkerThreadFactory(serverName),
+                                                    new WaitForQueueSpacePolicy(memberTimeout));
+
+        this.workerThreads.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * Return a new completion service for a single federated request.  The results of the calls to each cohort
+     * member are returned through the completion service in the order they complete.
+     *
+     * @param <T> type of the result
+     * @return completion service that runs its requests on the worker threads
+     */
+    <T> CompletionService<T> getCompletionService()
+    {
+        return new ExecutorCompletionService<>(workerThreads);
+    }
+
+
+    /**
+     * Return the number of milliseconds to wait for a cohort member to respond before abandoning the request.
+     *
+     * @return timeout in milliseconds
+     */
+    public long getMemberTimeout()
+    {
+        return memberTimeout;
+    }
+
+
+    /**
+     * Return whether the pool has been shutdown.
+     *
+     * @return boolean flag
+     */
+    public boolean isShutdown()
+    {
+        return workerThreads.isShutdown();
+    }
+
+
+    /**
+     * Stop accepting new requests and interrupt any in-flight calls.  This is called when the server is shutting down.
+     */
+    public void shutdown()
+    {
+        workerThreads.shutdownNow();
+    }
+
+
+    /**
+     * WorkerThreadFactory creates daemon threads with a name that identifies the server they belong to.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory
+    {
+        private final String        threadNamePrefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        /**
+         * Constructor for the thread factory.
+         *
+         * @param serverName name of the local server
+         */
+        WorkerThreadFactory(String serverName)
+        {
+            this.threadNamePrefix = serverName + "-FederationWorker-";
+        }
+
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
+
+    /**
+     * WaitForQueueSpacePolicy waits for space in the queue for a rejected request.  If no space becomes free within
+     * the member timeout, or the pool is shutdown, the request is cancelled.  The request is a future from the
+     * completion service, so cancelling it passes it back to the caller who reports that the cohort member was skipped.
+     */
+    private static class WaitForQueueSpacePolicy implements RejectedExecutionHandler
+    {
+        private final long memberTimeout;
+
+
+        /**
+         * Constructor for the policy.
+         *
+         * @param memberTimeout number of milliseconds to wait for space in the queue
+         */
+        WaitForQueueSpacePolicy(long memberTimeout)
+        {
+            this.memberTimeout = memberTimeout;
+        }
+
+
+        /**
+         * Wait for space in the queue for the rejected request.
+         *
+         * @param request rejected request
+         * @param executor pool that rejected the request
+         */
+        @Override
+        public void rejectedExecution(Runnable           request,
+                                      ThreadPoolExecutor executor)
+        {
+            try
+            {
+                if ((! executor.isShutdown()) && (executor.getQueue().offer(request, memberTimeout, TimeUnit.MILLISECONDS)))
+                {
+                    /*
+                     * The pool may have been shutdown while waiting.  In which case the request will not run.
+                     */
+                    if ((! executor.isShutdown()) || (! executor.remove(request)))
+                    {
+                        return;
+                    }
+                }
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            if (request instanceof Future)
+            {
+                ((Future<?>) request).cancel(false);
+            }
+        }
+    }
+}
@@ -6,34 +6,77 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * The worker threads come from the server's FederationWorkerPool.  The request is issued to every cohort member at once and
+ * the results are merged by the executor's accumulator (which is thread-safe).  Responses are processed in the order
+ * they arrive.  If the executor reports that it has all of the results it needs (for example, the home copy of an
+ * instance has been retrieved) then the outstanding requests are abandoned: queued requests are skipped and in-flight
+ * requests are interrupted.  The caller waits (up to the member timeout) for the interrupted requests to finish so that
+ * they do not update the executor after the request has returned.  Any cohort member that does not respond within
+ * the pool's member timeout is abandoned and its results are not included in the response.  Its request is
+ * interrupted but the caller does not wait for it - the accumulators are synchronized so a late response from a
+ * repository that ignores the interrupt can not corrupt the results.
+ *
+ * If no worker pool is available, the requests are issued sequentially.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses the sequential federation control since the worker threads are not implemented.
+    private FederationWorkerPool        workerPool;
     private SequentialFederationControl sequentialFederationControl;
 
+
+    /**
+     * Constructor for a federated query that has no worker pool.  The requests are issued sequentially.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param auditLog logging destination
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     AuditLog                      auditLog,
+                                     String                        methodName)
+    {
+        this(userId, cohortConnectors, null, auditLog, methodName);
+    }
+
+
     /**
      * Constructor for a federated query
      *
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
+     * @param workerPool pool of worker threads used to call the cohort members
      * @param auditLog logging destination
      * @param methodName calling method
      */
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
+                                     FederationWorkerPool          workerPool,
                                      AuditLog                      auditLog,
                                      String                        methodName)
     {
         super(userId, cohortConnectors, auditLog, methodName);
 
-        sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
+        this.workerPool = workerPool;
+        this.sequentialFederationControl = new SequentialFederationControl(userId, cohortConnectors, auditLog, methodName);
     }
 
 
@@ -46,6 +89,371 @@ public class ParallelFederationControl extends FederationControlBase
      */
     public void executeCommand(RepositoryExecutor executor) throws RepositoryErrorException
     {
-        sequentialFederationControl.executeCommand(executor);
+        if ((workerPool == null) || (workerPool.isShutdown()) || (cohortConnectors == null) || (cohortConnectors.size() < 2))
+        {
+            /*
+             * There is nothing to gain from using the worker threads.
+             */
+            sequentialFederationControl.executeCommand(executor);
+            return;
+        }
+
+        /*
+         * This is the first sweep of the repositories - used to gather the results.  The request is passed to
+         * every repository at once.  The metadata collection id is retrieved on the worker thread since, for a remote
+         * repository, this may also involve a call to the remote server.
+         */
+        long                                          deadline       = System.currentTimeMillis() + workerPool.getMemberTimeout();
+        CompletionService<Boolean>                    responses      = workerPool.getCompletionService();
+        Map<Future<Boolean>, OMRSRepositoryConnector> memberRequests = new HashMap<>();
+        MemberRequestTracker                          tracker        = new MemberRequestTracker();
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                memberRequests.put(responses.submit(() -> this.issueRequest(executor, cohortConnector, metadataCollection, tracker)),
+                                   cohortConnector);
+            }
+        }
+
+        this.waitForResponses(responses, memberRequests, tracker, deadline, true);
+
+        /*
+         * All repositories have been called.
+         * The executor may choose to augment each result element by making another sweep of the repositories.
+         */
+        List<String> resultGUIDs = executor.getResultsForAugmentation();
+
+        if (resultGUIDs != null)
+        {
+            long                                          augmentationDeadline  = System.currentTimeMillis() + workerPool.getMemberTimeout();
+            CompletionService<Boolean>                    augmentationResponses = workerPool.getCompletionService();
+            Map<Future<Boolean>, OMRSRepositoryConnector> augmentationRequests  = new HashMap<>();
+            MemberRequestTracker                          augmentationTracker   = new MemberRequestTracker();
+
+            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            {
+                if (cohortConnector != null)
+                {
+                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                    augmentationRequests.put(augmentationResponses.submit(() -> this.augmentResults(executor,
+                                                                                                    resultGUIDs,
+                                                                                                    cohortConnector,
+                                                                                                    metadataCollection,
+                                                                                                    augmentationTracker)),
+                                             cohortConnector);
+                }
+            }
+
+            this.waitForResponses(augmentationResponses, augmentationRequests, augmentationTracker, augmentationDeadline, false);
+        }
+    }
+
+
+    /**
+     * Issue the request to a single cohort member.  This runs on a worker thread.
+     *
+     * @param executor command to execute
+     * @param cohortConnector connector to the cohort member
+     * @param metadataCollection metadata collection for the cohort member
+     * @param tracker tracker for the requests of this federated request
+     * @return boolean true means that the executor has all of the results it needs
+     * @throws RepositoryErrorException null metadata collection
+     */
+    private Boolean issueRequest(RepositoryExecutor      executor,
+                                 OMRSRepositoryConnector cohortConnector,
+                                 OMRSMetadataCollection  metadataCollection,
+                                 MemberRequestTracker    tracker) throws RepositoryErrorException
+    {
+        if (! tracker.startRequest(cohortConnector))
+        {
+            return false;
+        }
+
+        try
+        {
+            String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+            if (metadataCollectionId != null)
+            {
+                return executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+            }
+
+            return false;
+        }
+        finally
+        {
+            tracker.endRequest(cohortConnector);
+        }
+    }
+
+
+    /**
+     * Augment each of the results from a single cohort member.  This runs on a worker thread.
+     *
+     * @param executor command to execute
+     * @param resultGUIDs unique identifiers of the results to augment
+     * @param cohortConnector connector to the cohort member
+     * @param metadataCollection metadata collection for the cohort member
+     * @param tracker tracker for the requests of this federated request
+     * @return false since augmentation never completes a request early
+     * @throws RepositoryErrorException null metadata collection
+     */
+    private Boolean augmentResults(RepositoryExecutor      executor,
+                                   List<String>            resultGUIDs,
+                                   OMRSRepositoryConnector cohortConnector,
+                                   OMRSMetadataCollection  metadataCollection,
+                                   MemberRequestTracker    tracker) throws RepositoryErrorException
+    {
+        if (! tracker.startRequest(cohortConnector))
+        {
+            return false;
+        }
+
+        try
+        {
+            String metadataCollectionId = this.validateMetadataCollection(cohortConnector, metadataCollection, methodName);
+
+            if (metadataCollectionId != null)
+            {
+                for (String resultGUID : resultGUIDs)
+                {
+                    executor.augmentResultFromRepository(resultGUID, metadataCollectionId, metadataCollection);
+                }
+            }
+
+            return false;
+        }
+        finally
+        {
+            tracker.endRequest(cohortConnector);
+        }
+    }
+
+
+    /**
+     * Wait for the cohort members to respond.  Responses are processed in the order they arrive and the wait is
+     * limited by the member timeout of the worker pool.  Requests that do not complete in time are abandoned and logged.
+     *
+     * @param responses completion service that the requests were issued through
+     * @param memberRequests requests that have been issued mapped to the cohort member they were sent to
+     * @param tracker tracker for the requests of this federated request
+     * @param deadline time (in milliseconds) by which the cohort members must respond
+     * @param stopOnComplete should the remaining requests be abandoned if one of the requests reports it has all of the results
+     * @throws RepositoryErrorException problem with the state of one of the repositories
+     */
+    private void waitForResponses(CompletionService<Boolean>                    responses,
+                                  Map<Future<Boolean>, OMRSRepositoryConnector> memberRequests,
+                                  MemberRequestTracker                          tracker,
+                                  long                                          deadline,
+                                  boolean                                       stopOnComplete) throws RepositoryErrorException
+    {
+        try
+        {
+            while (! memberRequests.isEmpty())
+            {
+                Future<Boolean> response = responses.poll(Math.max(deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+
+                if (response == null)
+                {
+                    /*
+                     * The remaining cohort members have not responded in time.
+                     */
+                    for (OMRSRepositoryConnector cohortConnector : memberRequests.values())
+                    {
+                        auditLog.logMessage(methodName,
+                                            OMRSAuditCode.FEDERATED_REPOSITORY_TIMEOUT.getMessageDefinition(cohortConnector.getRepositoryName(),
+                                                                                                            methodName,
+                                                                                                            Long.toString(workerPool.getMemberTimeout())));
+                    }
+
+                    this.cancelAll(memberRequests, tracker);
+                    return;
+                }
+
+                OMRSRepositoryConnector cohortConnector = memberRequests.remove(response);
+
+                try
+                {
+                    if (! response.isDone())
+                    {
+                        /*
+                         * The worker pool cancelled the request without running it.  The completion service
+                         * reports the request but it is not marked as complete.
+                         */
+                        response.cancel(false);
+                    }
+
+                    if ((response.get()) && (stopOnComplete))
+                    {
+                        /*
+                         * The executor returns true if it has all of the results it needs.  The other requests are not
+                         * needed.  In-flight requests are interrupted and the caller waits for them to stop so they
+                         * do not update the executor once this request has returned.
+                         */
+                        this.cancelAll(memberRequests, tracker);
+                        this.waitForCancelledRequests(tracker, deadline);
+                        return;
+                    }
+                }
+                catch (ExecutionException error)
+                {
+                    if (error.getCause() instanceof RepositoryErrorException)
+                    {
+                        this.cancelAll(memberRequests, tracker);
+                        throw (RepositoryErrorException) error.getCause();
+                    }
+
+                    auditLog.logException(methodName,
+                                          OMRSAuditCode.SKIPPING_METADATA_COLLECTION.getMessageDefinition(cohortConnector.getRepositoryName(),
+                                                                                                          error.getCause().getClass().getName(),
+                                                                                                          error.getCause().getMessage()),
+                                          error.getCause());
+                }
+                catch (CancellationException error)
+                {
+                    /*
+                     * The worker pool was too busy to accept the request, or was shutdown while the request was queued.
+                     */
+                    auditLog.logMessage(methodName,
+                                        OMRSAuditCode.FEDERATION_WORKERS_BUSY.getMessageDefinition(cohortConnector.getRepositoryName(),
+                                                                                                   methodName,
+                                                                                                   Long.toString(workerPool.getMemberTimeout())));
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            this.cancelAll(memberRequests, tracker);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Abandon all of the outstanding requests.  Requests that have not started are skipped and requests that are
+     * already running are interrupted.
+     *
+     * @param memberRequests requests that have been issued
+     * @param tracker tracker for the requests of this federated request
+     */
+    private void cancelAll(Map<Future<Boolean>, OMRSRepositoryConnector> memberRequests,
+                           MemberRequestTracker                          tracker)
+    {
+        tracker.close();
+
+        for (Future<Boolean> response : memberRequests.keySet())
+        {
+            response.cancel(true);
+        }
+    }
+
+
+    /**
+     * Wait for the requests that were interrupted to stop running.  The wait is limited by the deadline for the
+     * federated request.  Any cohort member that is still running at the deadline is logged.
+     *
+     * @param tracker tracker for the requests of this federated request
+     * @param deadline time (in milliseconds) by which the cohort members must respond
+     */
+    private void waitForCancelledRequests(MemberRequestTracker tracker,
+                                          long                 deadline)
+    {
+        try
+        {
+            for (String repositoryName : tracker.waitForRunningRequests(deadline))
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.FEDERATED_REPOSITORY_TIMEOUT.getMessageDefinition(repositoryName,
+                                                                                                    methodName,
+                                                                                                    Long.toString(workerPool.getMemberTimeout())));
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * MemberRequestTracker records which of the requests for a single federated request are running on the
+     * worker threads.  Once the request is closed, requests that have not yet started are skipped.
+     */
+    private static class MemberRequestTracker
+    {
+        private final Set<OMRSRepositoryConnector> runningRequests = new HashSet<>();
+        private       boolean                      closed          = false;
+
+
+        /**
+         * Record that a request is starting.
+         *
+         * @param cohortConnector connector to the cohort member
+         * @return false if the request is closed and the request should be skipped
+         */
+        synchronized boolean startRequest(OMRSRepositoryConnector cohortConnector)
+        {
+            if (closed)
+            {
+                return false;
+            }
+
+            runningRequests.add(cohortConnector);
+            return true;
+        }
+
+
+        /**
+         * Record that a request has finished.
+         *
+         * @param cohortConnector connector to the cohort member
+         */
+        synchronized void endRequest(OMRSRepositoryConnector cohortConnector)
+        {
+            runningRequests.remove(cohortConnector);
+            notifyAll();
+        }
+
+
+        /**
+         * Stop any further requests from starting.
+         */
+        synchronized void close()
+        {
+            closed = true;
+        }
+
+
+        /**
+         * Wait for the running requests to finish.
+         *
+         * @param deadline time (in milliseconds) to stop waiting
+         * @return names of the repositories whose requests are still running at the deadline
+         * @throws InterruptedException the calling thread was interrupted
+         */
+        synchronized List<String> waitForRunningRequests(long deadline) throws InterruptedException
+        {
+            long remainingTime = deadline - System.currentTimeMillis();
+
+            while ((! runningRequests.isEmpty()) && (remainingTime > 0))
+            {
+                wait(remainingTime);
+                remainingTime = deadline - System.currentTimeMillis();
+            }
+
+            List<String> repositoryNames = new ArrayList<>();
+
+            for (OMRSRepositoryConnector cohortConnector : runningRequests)
+            {
+                repositoryNames.add(cohortConnector.getRepositoryName());
+            }
+
+            return repositoryNames;
+        }
     }
 }
@@ -6,6 +6,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetailPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
@@ -152,19 +153,19 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindEntitiesExecutor(userId,
-                                        instanceTypeGUID,
-                                        instanceSubtypeGUIDs,
-                                        matchProperties,
-                                        startingElement,
-                                        limitResultsByStatus,
-                                        matchClassifications,
-                                        asOfTime,
-                                        sequencingProperty,
-                                        sequencingOrder,
-                                        pageSize,
-                                        accumulator,
-                                        methodName);
+        return copyContinuationState(new FindEntitiesExecutor(userId,
+                                                              instanceTypeGUID,
+                                                              instanceSubtypeGUIDs,
+                                                              matchProperties,
+                                                              startingElement,
+                                                              limitResultsByStatus,
+                                                              matchClassifications,
+                                                              asOfTime,
+                                                              sequencingProperty,
+                                                              sequencingOrder,
+                                                              pageSize,
+                                                              accumulator,
+                                                              methodName));
     }
 
 
@@ -183,19 +184,56 @@ public class FindEntitiesExecutor extends PageableEntityRepositoryExecutorBase
             /*
              * Issue the request
              */
-            List<EntityDetail> results = metadataCollection.findEntities(userId,
-                                                                         instanceTypeGUID,
-                                                                         instanceSubtypeGUIDs,
-                                                                         matchProperties,
-                                                                         startingElement,
-                                                                         limitResultsByStatus,
-                                                                         matchClassifications,
-                                                                         asOfTime,
-                                                                         sequencingProperty,
-                                                                         sequencingOrder,
-                                                                         pageSize);
-
-            accumulator.addEntities(results, metadataCollectionId);
+            if (isContinuationRequest())
+            {
+                retainRepositoryContinuationToken(metadataCollectionId);
+
+                if (isRepositoryExhausted(metadataCollectionId))
+                {
+                    accumulator.addEntities(null, metadataCollectionId);
+                }
+                else
+                {
+                    EntityDetailPage page = metadataCollection.findEntitiesPage(userId,
+                                                                                instanceTypeGUID,
+                                                                                instanceSubtypeGUIDs,
+                                                                                matchProperties,
+                                                                                getRepositoryContinuationToken(metadataCollectionId),
+                                                                                limitResultsByStatus,
+                                                                                matchClassifications,
+                                                                                asOfTime,
+                                                                                sequencingProperty,
+                                                                                sequencingOrder,
+                                                                                pageSize);
+
+                    if (page == null)
+                    {
+                        saveRepositoryContinuationToken(metadataCollectionId, null);
+                        accumulator.addEntities(null, metadataCollectionId);
+                    }
+                    else
+                    {
+                        saveRepositoryContinuationToken(metadataCollectionId, page.getContinuationToken());
+                        accumulator.addEntities(page.getEntities(), metadataCollectionId);
+                    }
+                }
+            }
+            else
+            {
+                List<EntityDetail> results = metadataCollection.findEntities(userId,
+                                                                             instanceTypeGUID,
+                                                                             instanceSubtypeGUIDs,
+                                                                             matchProperties,
+                                                                             startingElement,
+                                                                             limitResultsByStatus,
+                                                                             matchClassifications,
+                                                                             asOfTime,
+                                                                             sequencingProperty,
+                                                                             sequencingOrder,
+                                                                             pageSize);
+
+                accumulator.addEntities(results, metadataCollectionId);
+            }
         }
         catch (InvalidParameterException error)
         {
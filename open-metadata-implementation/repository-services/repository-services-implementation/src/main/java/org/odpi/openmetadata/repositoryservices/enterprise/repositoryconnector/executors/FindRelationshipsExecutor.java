@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
@@ -152,18 +153,18 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new FindRelationshipsExecutor(userId,
-                                             instanceTypeGUID,
-                                             instanceSubtypeGUIDs,
-                                             matchProperties,
-                                             startingElement,
-                                             limitResultsByStatus,
-                                             asOfTime,
-                                             sequencingProperty,
-                                             sequencingOrder,
-                                             pageSize,
-                                             accumulator,
-                                             methodName);
+        return copyContinuationState(new FindRelationshipsExecutor(userId,
+                                                                   instanceTypeGUID,
+                                                                   instanceSubtypeGUIDs,
+                                                                   matchProperties,
+                                                                   startingElement,
+                                                                   limitResultsByStatus,
+                                                                   asOfTime,
+                                                                   sequencingProperty,
+                                                                   sequencingOrder,
+                                                                   pageSize,
+                                                                   accumulator,
+                                                                   methodName));
     }
 
 
@@ -182,18 +183,54 @@ public class FindRelationshipsExecutor extends PageableRepositoryExecutorBase
             /*
              * Issue the request
              */
-            List<Relationship> results = metadataCollection.findRelationships(userId,
-                                                                              instanceTypeGUID,
-                                                                              instanceSubtypeGUIDs,
-                                                                              matchProperties,
-                                                                              startingElement,
-                                                                              limitResultsByStatus,
-                                                                              asOfTime,
-                                                                              sequencingProperty,
-                                                                              sequencingOrder,
-                                                                              pageSize);
+            if (isContinuationRequest())
+            {
+                retainRepositoryContinuationToken(metadataCollectionId);
 
-            accumulator.addRelationships(results, metadataCollectionId);
+                if (isRepositoryExhausted(metadataCollectionId))
+                {
+                    accumulator.addRelationships(null, metadataCollectionId);
+                }
+                else
+                {
+                    RelationshipPage page = metadataCollection.findRelationshipsPage(userId,
+                                                                                     instanceTypeGUID,
+                                                                                     instanceSubtypeGUIDs,
+                                                                                     matchProperties,
+                                                                                     getRepositoryContinuationToken(metadataCollectionId),
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+
+                    if (page == null)
+                    {
+                        saveRepositoryContinuationToken(metadataCollectionId, null);
+                        accumulator.addRelationships(null, metadataCollectionId);
+                    }
+                    else
+                    {
+                        saveRepositoryContinuationToken(metadataCollectionId, page.getContinuationToken());
+                        accumulator.addRelationships(page.getRelationships(), metadataCollectionId);
+                    }
+                }
+            }
+            else
+            {
+                List<Relationship> results = metadataCollection.findRelationships(userId,
+                                                                                  instanceTypeGUID,
+                                                                                  instanceSubtypeGUIDs,
+                                                                                  matchProperties,
+                                                                                  startingElement,
+                                                                                  limitResultsByStatus,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  pageSize);
+
+                accumulator.addRelationships(results, metadataCollectionId);
+            }
         }
         catch (InvalidParameterException error)
         {
@@ -130,15 +130,10 @@ public class GetEntityDetailExecutor extends GetEntityExecutor
     public boolean issueRequestToRepository(String                 metadataCollectionId,
                                             OMRSMetadataCollection metadataCollection)
     {
+        boolean homeEntityRetrieved = false;
+
         try
         {
-            /*
-             * Mark that this metadata collection has been visited.  It does not matter if the request fails or not since
-             * it immediately calls for the home classifications if EntityProxyOnlyException is returned.  This means all information
-             * from the repository is gathered in one go.
-             */
-            accumulator.addContributingMetadataCollection(metadataCollectionId);
-
             /*
              * Issue the request and return if it succeeds.
              */
@@ -167,6 +162,12 @@ public class GetEntityDetailExecutor extends GetEntityExecutor
                      * The classifications from every retrieved entity are also harvested.
                      */
                     accumulator.addEntity(retrievedEntity, metadataCollectionId);
+
+                    /*
+                     * Once the home repository's copy is received, the remaining repositories are only needed for
+                     * their home classifications.  These are picked up during augmentation.
+                     */
+                    homeEntityRetrieved = metadataCollectionId.equals(retrievedEntity.getMetadataCollectionId());
                 }
                 else /* retrieving additional classifications */
                 {
@@ -203,8 +204,18 @@ public class GetEntityDetailExecutor extends GetEntityExecutor
         {
             accumulator.captureGenericException(methodName, metadataCollectionId, error);
         }
+        finally
+        {
+            /*
+             * Mark that this metadata collection has been visited.  It does not matter if the request failed or not since
+             * it immediately calls for the home classifications if EntityProxyOnlyException is returned.  This means all information
+             * from the repository is gathered in one go.  The mark is only made once the request is complete so that
+             * repositories that were not called (or were abandoned by a parallel federation control) are picked up by augmentation.
+             */
+            accumulator.addContributingMetadataCollection(metadataCollectionId);
+        }
 
-        return false;
+        return homeEntityRetrieved;
     }
 
 
@@ -20,7 +20,7 @@ public class GetRelationshipExecutor extends RepositoryExecutorBase
     private String                 relationshipGUID;
     private boolean                allExceptions         = true;
     private Date                   asOfTime              = null;
-    private Relationship           retrievedRelationship = null;
+    private volatile Relationship  retrievedRelationship = null;
 
 
 
@@ -90,6 +90,8 @@ public class GetRelationshipExecutor extends RepositoryExecutorBase
 
         try
         {
+            Relationship relationship;
+
             /*
              * Issue the request and return if it succeeds
              */
@@ -97,23 +99,24 @@ public class GetRelationshipExecutor extends RepositoryExecutorBase
             {
                 if (allExceptions)
                 {
-                    retrievedRelationship = metadataCollection.getRelationship(userId,
-                                                                               relationshipGUID);
+                    relationship = metadataCollection.getRelationship(userId,
+                                                                      relationshipGUID);
                 }
                 else
                 {
-                    retrievedRelationship = metadataCollection.isRelationshipKnown(userId,
-                                                                                   relationshipGUID);
+                    relationship = metadataCollection.isRelationshipKnown(userId,
+                                                                          relationshipGUID);
                 }
             }
             else
             {
-                retrievedRelationship = metadataCollection.getRelationship(userId,
-                                                                           relationshipGUID,
-                                                                           asOfTime);
+                relationship = metadataCollection.getRelationship(userId,
+                                                                  relationshipGUID,
+                                                                  asOfTime);
             }
-            if (retrievedRelationship != null)
+            if (relationship != null)
             {
+                saveRelationship(relationship);
                 result = true;
             }
         }
@@ -144,6 +147,20 @@ public class GetRelationshipExecutor extends RepositoryExecutorBase
     }
 
 
+    /**
+     * Save the first relationship returned.  When requests are issued in parallel, any later responses are ignored.
+     *
+     * @param relationship relationship returned from a repository
+     */
+    private synchronized void saveRelationship(Relationship relationship)
+    {
+        if (retrievedRelationship == null)
+        {
+            retrievedRelationship = relationship;
+        }
+    }
+
+
     /**
      * Returns a boolean indicating if the relationship is stored in the metadata collection.
      *
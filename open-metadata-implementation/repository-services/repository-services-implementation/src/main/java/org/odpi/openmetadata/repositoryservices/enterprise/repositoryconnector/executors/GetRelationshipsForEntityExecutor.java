@@ -7,6 +7,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.EnterpriseOMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.RelationshipsAccumulator;
@@ -139,17 +140,17 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
      */
     public CloneableRepositoryExecutor getClone()
     {
-        return new GetRelationshipsForEntityExecutor(userId,
-                                                     entityGUID,
-                                                     instanceTypeGUID,
-                                                     startingElement,
-                                                     limitResultsByStatus,
-                                                     asOfTime,
-                                                     sequencingProperty,
-                                                     sequencingOrder,
-                                                     pageSize,
-                                                     accumulator,
-                                                     methodName);
+        return copyContinuationState(new GetRelationshipsForEntityExecutor(userId,
+                                                                           entityGUID,
+                                                                           instanceTypeGUID,
+                                                                           startingElement,
+                                                                           limitResultsByStatus,
+                                                                           asOfTime,
+                                                                           sequencingProperty,
+                                                                           sequencingOrder,
+                                                                           pageSize,
+                                                                           accumulator,
+                                                                           methodName));
     }
 
 
@@ -168,17 +169,52 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
             /*
              * Issue the request
              */
-            List<Relationship> results = metadataCollection.getRelationshipsForEntity(userId,
-                                                                                      entityGUID,
-                                                                                      instanceTypeGUID,
-                                                                                      startingElement,
-                                                                                      limitResultsByStatus,
-                                                                                      asOfTime,
-                                                                                      sequencingProperty,
-                                                                                      sequencingOrder,
-                                                                                      pageSize);
+            if (isContinuationRequest())
+            {
+                retainRepositoryContinuationToken(metadataCollectionId);
 
-            accumulator.addRelationships(results, metadataCollectionId);
+                if (isRepositoryExhausted(metadataCollectionId))
+                {
+                    accumulator.addRelationships(null, metadataCollectionId);
+                }
+                else
+                {
+                    RelationshipPage page = metadataCollection.getRelationshipsForEntityPage(userId,
+                                                                                             entityGUID,
+                                                                                             instanceTypeGUID,
+                                                                                             getRepositoryContinuationToken(metadataCollectionId),
+                                                                                             limitResultsByStatus,
+                                                                                             asOfTime,
+                                                                                             sequencingProperty,
+                                                                                             sequencingOrder,
+                                                                                             pageSize);
+
+                    if (page == null)
+                    {
+                        saveRepositoryContinuationToken(metadataCollectionId, null);
+                        accumulator.addRelationships(null, metadataCollectionId);
+                    }
+                    else
+                    {
+                        saveRepositoryContinuationToken(metadataCollectionId, page.getContinuationToken());
+                        accumulator.addRelationships(page.getRelationships(), metadataCollectionId);
+                    }
+                }
+            }
+            else
+            {
+                List<Relationship> results = metadataCollection.getRelationshipsForEntity(userId,
+                                                                                          entityGUID,
+                                                                                          instanceTypeGUID,
+                                                                                          startingElement,
+                                                                                          limitResultsByStatus,
+                                                                                          asOfTime,
+                                                                                          sequencingProperty,
+                                                                                          sequencingOrder,
+                                                                                          pageSize);
+
+                accumulator.addRelationships(results, metadataCollectionId);
+            }
         }
         catch (InvalidParameterException error)
         {
@@ -189,6 +225,11 @@ public class GetRelationshipsForEntityExecutor extends PageableRepositoryExecuto
             /*
              * The entity is not known in the remote system so convert this to a null response.
              */
+            if (isContinuationRequest())
+            {
+                saveRepositoryContinuationToken(metadataCollectionId, null);
+            }
+
             accumulator.addRelationships(null, metadataCollectionId);
         }
         catch (FunctionNotSupportedException error)
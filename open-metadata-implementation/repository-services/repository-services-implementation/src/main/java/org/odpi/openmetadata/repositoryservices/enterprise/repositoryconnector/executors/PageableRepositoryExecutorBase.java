@@ -3,13 +3,17 @@
 package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.ContinuationToken;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators.QueryInstanceAccumulatorBase;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CloneableRepositoryExecutorBase provides a base class for executors that can be cloned and run in
@@ -28,6 +32,15 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
 
     private QueryInstanceAccumulatorBase queryInstanceAccumulator;
 
+    /*
+     * These values are only set when the request uses a continuation token rather than a starting element.
+     * The map of next tokens is shared by all of the clones of the executor.  An empty token means the
+     * repository has no more results.
+     */
+    private ContinuationToken   continuationToken                = null;
+    private Map<String, String> repositoryContinuationTokens     = null;
+    private Map<String, String> nextRepositoryContinuationTokens = null;
+
     /**
      * Create the executor.  The parameters provide the parameters for issuing the requests and
      * combining the results.
@@ -100,4 +113,173 @@ abstract class PageableRepositoryExecutorBase extends CloneableRepositoryExecuto
         queryInstanceAccumulator.throwCapturedTypeErrorException();
         queryInstanceAccumulator.throwCapturedPagingErrorException();
     }
+
+
+    /**
+     * Request that the repositories are called with their continuation tokens rather than a starting element.
+     *
+     * @param continuationToken decoded token from the caller; null means the first page
+     */
+    public void setContinuationToken(ContinuationToken continuationToken)
+    {
+        this.continuationToken                = continuationToken;
+        this.nextRepositoryContinuationTokens = new ConcurrentHashMap<>();
+
+        if ((continuationToken != null) && (continuationToken.getRepositoryTokens() != null))
+        {
+            this.repositoryContinuationTokens = continuationToken.getRepositoryTokens();
+        }
+        else
+        {
+            this.repositoryContinuationTokens = new HashMap<>();
+        }
+    }
+
+
+    /**
+     * Copy the continuation token state into a clone of this executor.
+     *
+     * @param clone new executor
+     * @param <T> type of executor
+     * @return clone
+     */
+    <T extends PageableRepositoryExecutorBase> T copyContinuationState(T clone)
+    {
+        PageableRepositoryExecutorBase cloneBase = clone;
+
+        cloneBase.continuationToken                = this.continuationToken;
+        cloneBase.repositoryContinuationTokens     = this.repositoryContinuationTokens;
+        cloneBase.nextRepositoryContinuationTokens = this.nextRepositoryContinuationTokens;
+
+        return clone;
+    }
+
+
+    /**
+     * Is this request using continuation tokens?
+     *
+     * @return boolean
+     */
+    boolean isContinuationRequest()
+    {
+        return nextRepositoryContinuationTokens != null;
+    }
+
+
+    /**
+     * Has the repository already returned all of its results?  If so, its empty token is passed on to the next page.
+     *
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @return boolean
+     */
+    boolean isRepositoryExhausted(String metadataCollectionId)
+    {
+        if ("".equals(repositoryContinuationTokens.get(metadataCollectionId)))
+        {
+            nextRepositoryContinuationTokens.put(metadataCollectionId, "");
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the continuation token to pass to a repository.  Null means the repository is called for its first
+     * page - for example, it has joined the cohort since the previous page.
+     *
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @return token or null
+     */
+    String getRepositoryContinuationToken(String metadataCollectionId)
+    {
+        return repositoryContinuationTokens.get(metadataCollectionId);
+    }
+
+
+    /**
+     * Save the token returned by a repository for its next page.
+     *
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @param nextToken token returned by the repository; null means it has no more results
+     */
+    void saveRepositoryContinuationToken(String metadataCollectionId,
+                                         String nextToken)
+    {
+        if (nextToken == null)
+        {
+            nextRepositoryContinuationTokens.put(metadataCollectionId, "");
+        }
+        else
+        {
+            nextRepositoryContinuationTokens.put(metadataCollectionId, nextToken);
+        }
+    }
+
+
+    /**
+     * Keep the repository's current token for the next request.  This is called before the repository is called
+     * so that if the call fails, the repository is asked for the same page again on the next request.
+     *
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     */
+    void retainRepositoryContinuationToken(String metadataCollectionId)
+    {
+        String currentToken = repositoryContinuationTokens.get(metadataCollectionId);
+
+        if (currentToken != null)
+        {
+            nextRepositoryContinuationTokens.put(metadataCollectionId, currentToken);
+        }
+    }
+
+
+    /**
+     * Return the continuation token for the next page of the combined results.
+     *
+     * @param results results returned in this page
+     * @return encoded token or null if none of the repositories has more results
+     */
+    public String getNextContinuationToken(List<?> results)
+    {
+        if (! isContinuationRequest())
+        {
+            return null;
+        }
+
+        boolean moreResults = false;
+
+        for (String repositoryToken : nextRepositoryContinuationTokens.values())
+        {
+            if (! repositoryToken.isEmpty())
+            {
+                moreResults = true;
+                break;
+            }
+        }
+
+        if (! moreResults)
+        {
+            return null;
+        }
+
+        int offset = 0;
+
+        if (results != null)
+        {
+            offset = results.size();
+        }
+
+        if (continuationToken != null)
+        {
+            offset = offset + continuationToken.getOffset();
+        }
+
+        ContinuationToken nextToken = new ContinuationToken(offset, null, sequencingOrder, sequencingProperty);
+
+        nextToken.setRepositoryTokens(new HashMap<>(nextRepositoryContinuationTokens));
+
+        return nextToken.encode();
+    }
+
 }
@@ -24,6 +24,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -2001,6 +2005,144 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * A set of entities and relationships has been loaded from an open metadata archive.  Each instance is
+     * validated in the same way as the instance in a new entity or new relationship event.  The valid instances
+     * are then saved together so that repositories that support batched writes can store them efficiently.
+     * If the batch is rejected, the instances are saved one at a time so that one bad instance does not
+     * prevent the rest of the batch from being stored.  Instances that this repository replicates are sent to the
+     * rest of the cohort unless they could not be saved.
+     *
+     * @param sourceName name of the source of the instances.
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection of the archive.
+     * @param originatorServerName name of the archive.
+     * @param originatorServerType type of archive.
+     * @param originatorOrganizationName name of the organization that produced the archive.
+     * @param entities entities to save - may be null
+     * @param relationships relationships to save - may be null
+     */
+    public void processArchiveInstanceBatch(String             sourceName,
+                                            String             originatorMetadataCollectionId,
+                                            String             originatorServerName,
+                                            String             originatorServerType,
+                                            String             originatorOrganizationName,
+                                            List<EntityDetail> entities,
+                                            List<Relationship> relationships)
+    {
+        final String methodName = "processArchiveInstanceBatch";
+
+        List<EntityDetail> validEntities       = new ArrayList<>();
+        List<Relationship> validRelationships  = new ArrayList<>();
+        List<EntityDetail> entitiesToSave      = new ArrayList<>();
+        List<Relationship> relationshipsToSave = new ArrayList<>();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                if ((entity != null) && (updateReferenceEntity(sourceName,
+                                                               methodName,
+                                                               originatorMetadataCollectionId,
+                                                               originatorServerName,
+                                                               entity,
+                                                               OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                               entitiesToSave)))
+                {
+                    validEntities.add(entity);
+                }
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                if ((relationship != null) && (updateReferenceRelationship(sourceName,
+                                                                           methodName,
+                                                                           originatorMetadataCollectionId,
+                                                                           originatorServerName,
+                                                                           relationship,
+                                                                           OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                           relationshipsToSave)))
+                {
+                    validRelationships.add(relationship);
+                }
+            }
+        }
+
+        Set<String> unsavedInstanceGUIDs = new HashSet<>();
+
+        if ((! entitiesToSave.isEmpty()) || (! relationshipsToSave.isEmpty()))
+        {
+            try
+            {
+                localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                    new InstanceGraph(entitiesToSave, relationshipsToSave));
+            }
+            catch (Exception batchError)
+            {
+                /*
+                 * Most repositories stop saving the batch at the first instance they reject, so it is not known
+                 * which instances were stored.  Each instance is saved again on its own.
+                 */
+                for (EntityDetail entity : entitiesToSave)
+                {
+                    try
+                    {
+                        localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+                    }
+                    catch (Exception error)
+                    {
+                        unsavedInstanceGUIDs.add(entity.getGUID());
+
+                        handleUnexpectedErrorFromEvent(error,
+                                                       methodName,
+                                                       originatorServerName,
+                                                       originatorMetadataCollectionId);
+                    }
+                }
+
+                for (Relationship relationship : relationshipsToSave)
+                {
+                    try
+                    {
+                        localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(), relationship);
+                    }
+                    catch (Exception error)
+                    {
+                        unsavedInstanceGUIDs.add(relationship.getGUID());
+
+                        handleUnexpectedErrorFromEvent(error,
+                                                       methodName,
+                                                       originatorServerName,
+                                                       originatorMetadataCollectionId);
+                    }
+                }
+            }
+        }
+
+        for (EntityDetail entity : validEntities)
+        {
+            if ((entity.getReplicatedBy() != null) &&
+                (entity.getReplicatedBy().equals(localMetadataCollectionId)) &&
+                (! unsavedInstanceGUIDs.contains(entity.getGUID())))
+            {
+                outboundRepositoryEventProcessor.processNewEntityEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, entity);
+            }
+        }
+
+        for (Relationship relationship : validRelationships)
+        {
+            if ((relationship.getReplicatedBy() != null) &&
+                (relationship.getReplicatedBy().equals(localMetadataCollectionId)) &&
+                (! unsavedInstanceGUIDs.contains(relationship.getGUID())))
+            {
+                outboundRepositoryEventProcessor.processNewRelationshipEvent(sourceName, originatorMetadataCollectionId, originatorServerName, originatorServerType, originatorOrganizationName, relationship);
+            }
+        }
+    }
+
+
     /**
      * An open metadata repository has detected two metadata instances with the same identifier (guid).
      * This is a serious error because it could lead to corruption of the metadata collections within the cohort.
@@ -2448,6 +2590,39 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                           String                originatorServerName,
                                           EntityDetail          entity,
                                           OMRSInstanceEventType eventType)
+    {
+        return updateReferenceEntity(sourceName,
+                                     methodName,
+                                     originatorMetadataCollectionId,
+                                     originatorServerName,
+                                     entity,
+                                     eventType,
+                                     null);
+    }
+
+
+    /**
+     * Update the reference entity in the local repository if all checks permit.  If a list of reference
+     * copies is supplied, the entity is added to it to be saved by the caller rather than saved immediately.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entity                         details of the new entity
+     * @param eventType                      the type of event that triggered this update
+     * @param referenceCopies                entities to save later - or null to save the entity now
+     * @return boolean flag to say whether the entity is valid
+     */
+    private boolean updateReferenceEntity(String                sourceName,
+                                          String                methodName,
+                                          String                originatorMetadataCollectionId,
+                                          String                originatorServerName,
+                                          EntityDetail          entity,
+                                          OMRSInstanceEventType eventType,
+                                          List<EntityDetail>    referenceCopies)
     {
         boolean validEntity = false;
 
@@ -2481,7 +2656,14 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                  */
                 if ((verifyEventToSave(sourceName, entity)) || (verifyEventToLearn(sourceName, entity)))
                 {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+                    if (referenceCopies != null)
+                    {
+                        referenceCopies.add(entity);
+                    }
+                    else
+                    {
+                        localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+                    }
                 }
             }
         }
@@ -2753,6 +2935,39 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                 String                originatorServerName,
                                                 Relationship          relationship,
                                                 OMRSInstanceEventType eventType)
+    {
+        return updateReferenceRelationship(sourceName,
+                                           methodName,
+                                           originatorMetadataCollectionId,
+                                           originatorServerName,
+                                           relationship,
+                                           eventType,
+                                           null);
+    }
+
+
+    /**
+     * Update the reference relationship in the local repository.  If a list of reference copies is supplied,
+     * the relationship is added to it to be saved by the caller rather than saved immediately.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationship                   details of the relationship
+     * @param eventType                      the type of event that triggered this update
+     * @param referenceCopies                relationships to save later - or null to save the relationship now
+     * @return boolean flag to say whether the relationship is valid
+     */
+    private boolean updateReferenceRelationship(String                sourceName,
+                                                String                methodName,
+                                                String                originatorMetadataCollectionId,
+                                                String                originatorServerName,
+                                                Relationship          relationship,
+                                                OMRSInstanceEventType eventType,
+                                                List<Relationship>    referenceCopies)
     {
         boolean validRelationship = false;
 
@@ -2785,8 +3000,15 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                  */
                 if ((verifyEventToSave(sourceName, relationship)) || (verifyEventToLearn(sourceName, relationship)))
                 {
-                    localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
-                                                                          relationship);
+                    if (referenceCopies != null)
+                    {
+                        referenceCopies.add(relationship);
+                    }
+                    else
+                    {
+                        localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                              relationship);
+                    }
                 }
             }
         }
@@ -1568,6 +1568,50 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Review a page of results with the security verifier.  The continuation token is kept even if elements are
+     * removed from the page so that the caller can move on to the next page.
+     *
+     * @param userId calling user
+     * @param page page returned from the real repository.
+     * @return validated page (or null)
+     * @throws UserNotAuthorizedException use can nt read this instance
+     */
+    private EntityDetailPage securityVerifyReadEntityPage(String           userId,
+                                                          EntityDetailPage page) throws UserNotAuthorizedException
+    {
+        if (page == null)
+        {
+            return null;
+        }
+
+        return new EntityDetailPage(this.securityVerifyReadEntityList(userId, setLocalProvenanceInEntityList(page.getEntities())),
+                                    page.getContinuationToken());
+    }
+
+
+    /**
+     * Review a page of results with the security verifier.  The continuation token is kept even if elements are
+     * removed from the page so that the caller can move on to the next page.
+     *
+     * @param userId calling user
+     * @param page page returned from the real repository.
+     * @return validated page (or null)
+     * @throws UserNotAuthorizedException use can nt read this instance
+     */
+    private RelationshipPage securityVerifyReadRelationshipPage(String           userId,
+                                                                RelationshipPage page) throws UserNotAuthorizedException
+    {
+        if (page == null)
+        {
+            return null;
+        }
+
+        return new RelationshipPage(this.securityVerifyReadRelationshipList(userId, setLocalProvenanceInRelationshipList(page.getRelationships())),
+                                    page.getContinuationToken());
+    }
+
+
     /**
      * Set up the local provenance for an element retrieved from the local repository and call the security verifier
      * to determine if the relationship should be retrieved.
@@ -2008,6 +2052,83 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships for a specific entity.  The continuation token is passed through to
+     * the real repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param relationshipTypeGUID String GUID of the the type of relationship required (null for all).
+     * @param continuationToken token returned with the previous page; null means start from the first relationship.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize -- the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships and the token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws EntityNotKnownException the requested entity instance is not known in the metadata collection.
+     * @throws PropertyErrorException the sequencing property is not valid for the retrieved relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support the asOfTime parameter.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public RelationshipPage getRelationshipsForEntityPage(String                     userId,
+                                                          String                     entityGUID,
+                                                          String                     relationshipTypeGUID,
+                                                          String                     continuationToken,
+                                                          List<InstanceStatus>       limitResultsByStatus,
+                                                          Date                       asOfTime,
+                                                          String                     sequencingProperty,
+                                                          SequencingOrder            sequencingOrder,
+                                                          int                        pageSize) throws InvalidParameterException,
+                                                                                                      TypeErrorException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      EntityNotKnownException,
+                                                                                                      PropertyErrorException,
+                                                                                                      PagingErrorException,
+                                                                                                      FunctionNotSupportedException,
+                                                                                                      UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.getRelationshipsForEntityParameterValidation(userId,
+                                                           entityGUID,
+                                                           relationshipTypeGUID,
+                                                           0,
+                                                           limitResultsByStatus,
+                                                           asOfTime,
+                                                           sequencingProperty,
+                                                           sequencingOrder,
+                                                           pageSize);
+
+        /*
+         * Perform operation
+         */
+        RelationshipPage page = realMetadataCollection.getRelationshipsForEntityPage(userId,
+                                                                                     entityGUID,
+                                                                                     relationshipTypeGUID,
+                                                                                     continuationToken,
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+
+        return this.securityVerifyReadRelationshipPage(userId, page);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -2192,6 +2313,91 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied criteria.  The continuation token is passed through to
+     * the real repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param continuationToken token returned with the previous page; null means start from the first entity.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of entities and the token for the next page.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesParameterValidation(userId,
+                                              entityTypeGUID,
+                                              entitySubtypeGUIDs,
+                                              matchProperties,
+                                              0,
+                                              limitResultsByStatus,
+                                              matchClassifications,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder,
+                                              pageSize);
+
+        /*
+         * Perform operation
+         */
+        EntityDetailPage page = realMetadataCollection.findEntitiesPage(userId,
+                                                                        entityTypeGUID,
+                                                                        entitySubtypeGUIDs,
+                                                                        matchProperties,
+                                                                        continuationToken,
+                                                                        limitResultsByStatus,
+                                                                        matchClassifications,
+                                                                        asOfTime,
+                                                                        sequencingProperty,
+                                                                        sequencingOrder,
+                                                                        pageSize);
+
+        return this.securityVerifyReadEntityPage(userId, page);
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -2628,6 +2834,89 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token is passed
+     * through to the real repository.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param continuationToken token returned with the previous page; null means start from the first relationship.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of relationships and the token for the next page.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public RelationshipPage findRelationshipsPage(String                    userId,
+                                                  String                    relationshipTypeGUID,
+                                                  List<String>              relationshipSubtypeGUIDs,
+                                                  SearchProperties          matchProperties,
+                                                  String                    continuationToken,
+                                                  List<InstanceStatus>      limitResultsByStatus,
+                                                  Date                      asOfTime,
+                                                  String                    sequencingProperty,
+                                                  SequencingOrder           sequencingOrder,
+                                                  int                       pageSize) throws InvalidParameterException,
+                                                                                             TypeErrorException,
+                                                                                             RepositoryErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             PagingErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsParameterValidation(userId,
+                                                   relationshipTypeGUID,
+                                                   relationshipSubtypeGUIDs,
+                                                   matchProperties,
+                                                   0,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+
+        /*
+         * Perform operation
+         */
+        RelationshipPage page = realMetadataCollection.findRelationshipsPage(userId,
+                                                                             relationshipTypeGUID,
+                                                                             relationshipSubtypeGUIDs,
+                                                                             matchProperties,
+                                                                             continuationToken,
+                                                                             limitResultsByStatus,
+                                                                             asOfTime,
+                                                                             sequencingProperty,
+                                                                             sequencingOrder,
+                                                                             pageSize);
+
+        return this.securityVerifyReadRelationshipPage(userId, page);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.ContinuationToken;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
@@ -18,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -2416,6 +2418,281 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
     }
 
 
+    /**
+     * Use the continuation token and sequencing parameters to select the next page of results for a repository
+     * call that returns a list of entity instances.
+     *
+     * @param sourceName name of the calling repository
+     * @param methodName calling method
+     * @param fullResults - the full list of results in an arbitrary order
+     * @param continuationToken - token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results and the token for the next page
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     */
+    @Override
+    public EntityDetailPage  formatEntityPage(String             sourceName,
+                                              String             methodName,
+                                              List<EntityDetail> fullResults,
+                                              String             continuationToken,
+                                              String             sequencingProperty,
+                                              SequencingOrder    sequencingOrder,
+                                              int                pageSize) throws PagingErrorException,
+                                                                                  PropertyErrorException
+    {
+        ContinuationToken token = ContinuationToken.decode(continuationToken, sequencingOrder, sequencingProperty, sourceName, methodName);
+
+        Comparator<EntityDetail> comparator = getPageComparator(EntityDetail::getProperties, sequencingProperty, sequencingOrder);
+
+        List<EntityDetail> page = selectPage(fullResults, token, comparator, pageSize);
+
+        return new EntityDetailPage(page, getNextContinuationToken(page, token, sequencingProperty, sequencingOrder, pageSize));
+    }
+
+
+    /**
+     * Use the continuation token and sequencing parameters to select the next page of results for a repository
+     * call that returns a list of relationship instances.
+     *
+     * @param sourceName name of the calling repository
+     * @param methodName calling method
+     * @param fullResults - the full list of results in an arbitrary order
+     * @param continuationToken - token returned with the previous page.  Null means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return page of results and the token for the next page
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  relationship.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     */
+    @Override
+    public RelationshipPage  formatRelationshipPage(String             sourceName,
+                                                    String             methodName,
+                                                    List<Relationship> fullResults,
+                                                    String             continuationToken,
+                                                    String             sequencingProperty,
+                                                    SequencingOrder    sequencingOrder,
+                                                    int                pageSize) throws PagingErrorException,
+                                                                                        PropertyErrorException
+    {
+        ContinuationToken token = ContinuationToken.decode(continuationToken, sequencingOrder, sequencingProperty, sourceName, methodName);
+
+        Comparator<Relationship> comparator = getPageComparator(Relationship::getProperties, sequencingProperty, sequencingOrder);
+
+        List<Relationship> page = selectPage(fullResults, token, comparator, pageSize);
+
+        return new RelationshipPage(page, getNextContinuationToken(page, token, sequencingProperty, sequencingOrder, pageSize));
+    }
+
+
+    /**
+     * Build the comparator used to order the results for a page.  The requested sequencing is followed by the
+     * guid so that every element has a unique position that a continuation token can resume from.
+     *
+     * @param propertiesAccessor function returning the properties of an instance
+     * @param sequencingProperty name of the sequencing property
+     * @param sequencingOrder requested sequencing order
+     * @param <T> type of instance
+     * @return comparator
+     */
+    private static <T extends InstanceHeader> Comparator<T> getPageComparator(Function<T, InstanceProperties> propertiesAccessor,
+                                                                              String                          sequencingProperty,
+                                                                              SequencingOrder                 sequencingOrder)
+    {
+        Comparator<T> guidComparator = (one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, SequencingOrder.GUID);
+
+        if ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY) || (sequencingOrder == SequencingOrder.GUID))
+        {
+            return guidComparator;
+        }
+        else if ((sequencingOrder == SequencingOrder.PROPERTY_ASCENDING) || (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING))
+        {
+            Comparator<T> propertyComparator = (one, two) -> OMRSRepositoryContentHelper.compareProperties(propertiesAccessor.apply(one),
+                                                                                                           propertiesAccessor.apply(two),
+                                                                                                           sequencingProperty,
+                                                                                                           sequencingOrder);
+            return propertyComparator.thenComparing(guidComparator);
+        }
+        else
+        {
+            Comparator<T> instanceComparator = (one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder);
+
+            return instanceComparator.thenComparing(guidComparator);
+        }
+    }
+
+
+    /**
+     * Select the elements that follow the position in the continuation token.  Only the elements in the page are
+     * kept in sorted order (in a bounded heap) so the cost of each page is proportional to the size of the
+     * full results rather than the cost of sorting them.  One element more than the page size is returned
+     * to show whether there are more results.
+     * <p>
+     * If the last element returned has been removed from the results since the previous page, the number of
+     * elements already returned, less the removed element, is used to locate the page.  When the results are in
+     * guid order, the last guid is used directly.
+     * </p>
+     *
+     * @param fullResults full list of results in an arbitrary order
+     * @param token decoded continuation token or null for the first page
+     * @param comparator order of the results
+     * @param pageSize maximum number of results to return; zero means unlimited
+     * @param <T> type of instance
+     * @return page of elements plus one following element if it exists; null if no elements
+     */
+    private static <T extends InstanceHeader> List<T> selectPage(List<T>           fullResults,
+                                                                 ContinuationToken token,
+                                                                 Comparator<T>     comparator,
+                                                                 int               pageSize)
+    {
+        if ((fullResults == null) || (fullResults.isEmpty()))
+        {
+            return null;
+        }
+
+        List<T> candidates = fullResults;
+
+        if ((token != null) && (token.getLastGUID() != null))
+        {
+            T lastElement = null;
+
+            for (T element : fullResults)
+            {
+                if ((element != null) && (token.getLastGUID().equals(element.getGUID())))
+                {
+                    lastElement = element;
+                    break;
+                }
+            }
+
+            candidates = new ArrayList<>();
+
+            if (lastElement != null)
+            {
+                for (T element : fullResults)
+                {
+                    if (comparator.compare(element, lastElement) > 0)
+                    {
+                        candidates.add(element);
+                    }
+                }
+            }
+            else if ((token.getSequencingOrder() == null) ||
+                     (token.getSequencingOrder() == SequencingOrder.ANY) ||
+                     (token.getSequencingOrder() == SequencingOrder.GUID))
+            {
+                for (T element : fullResults)
+                {
+                    if ((element != null) && (element.getGUID() != null) && (element.getGUID().compareTo(token.getLastGUID()) > 0))
+                    {
+                        candidates.add(element);
+                    }
+                }
+            }
+            else
+            {
+                List<T> sortedResults = new ArrayList<>(fullResults);
+
+                sortedResults.sort(comparator);
+
+                int remainingOffset = Math.max(token.getOffset() - 1, 0);
+
+                if (remainingOffset < sortedResults.size())
+                {
+                    candidates.addAll(sortedResults.subList(remainingOffset, sortedResults.size()));
+                }
+            }
+        }
+
+        if (candidates.isEmpty())
+        {
+            return null;
+        }
+
+        if ((pageSize <= 0) || (candidates.size() <= pageSize))
+        {
+            List<T> page = new ArrayList<>(candidates);
+
+            page.sort(comparator);
+
+            return page;
+        }
+
+        /*
+         * Keep the pageSize + 1 smallest elements.  The head of the heap is the largest element kept.
+         */
+        int              keep = pageSize + 1;
+        PriorityQueue<T> heap = new PriorityQueue<>(keep, comparator.reversed());
+
+        for (T element : candidates)
+        {
+            if (heap.size() < keep)
+            {
+                heap.add(element);
+            }
+            else if (comparator.compare(element, heap.peek()) < 0)
+            {
+                heap.poll();
+                heap.add(element);
+            }
+        }
+
+        List<T> page = new ArrayList<>(heap);
+
+        page.sort(comparator);
+
+        return page;
+    }
+
+
+    /**
+     * Remove the extra element returned by selectPage and build the continuation token for the next page.
+     *
+     * @param page page of elements plus one following element if there are more results; this is updated
+     * @param token continuation token from the request or null for the first page
+     * @param sequencingProperty sequencing property of the request
+     * @param sequencingOrder sequencing order of the request
+     * @param pageSize maximum number of results to return; zero means unlimited
+     * @return encoded token or null if there are no more results
+     */
+    private static String getNextContinuationToken(List<? extends InstanceHeader> page,
+                                                   ContinuationToken              token,
+                                                   String                         sequencingProperty,
+                                                   SequencingOrder                sequencingOrder,
+                                                   int                            pageSize)
+    {
+        if ((page == null) || (pageSize <= 0) || (page.size() <= pageSize))
+        {
+            return null;
+        }
+
+        page.remove(pageSize);
+
+        int offset = pageSize;
+
+        if (token != null)
+        {
+            offset = offset + token.getOffset();
+        }
+
+        ContinuationToken nextToken = new ContinuationToken(offset,
+                                                            page.get(pageSize - 1).getGUID(),
+                                                            sequencingOrder,
+                                                            sequencingProperty);
+
+        return nextToken.encode();
+    }
+
+
     /**
      * Compare the two instances and determine the sort order based on the nominated non-property sort order.
      *
@@ -2317,6 +2317,121 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return a page of the relationships for a specific entity.  The continuation token returned with a page
+     * is passed on the request for the next page.  A null continuation token in the response means there are
+     * no more results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * Relationships list and continuation token.  Null means no relationships associated with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException the sequencing property is not valid for the attached classifications or
+     * PagingErrorException the paging/sequencing parameters or continuation token are not valid or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public RelationshipListResponse getRelationshipsForEntityPage(String                               serverName,
+                                                                  String                               userId,
+                                                                  String                               entityGUID,
+                                                                  TypeLimitedHistoricalFindRequest     findRequestParameters)
+    {
+        final  String   methodName = "getRelationshipsForEntityPage";
+
+        log.debug("Calling method: " + methodName);
+
+        String               relationshipTypeGUID    = null;
+        String               continuationToken       = null;
+        List<InstanceStatus> limitResultsByStatus    = null;
+        Date                 asOfTime                = null;
+        String               sequencingProperty      = null;
+        SequencingOrder      sequencingOrder         = null;
+        int                  pageSize                = 0;
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        if (findRequestParameters != null)
+        {
+            relationshipTypeGUID    = findRequestParameters.getTypeGUID();
+            continuationToken       = findRequestParameters.getContinuationToken();
+            limitResultsByStatus    = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                = findRequestParameters.getAsOfTime();
+            sequencingProperty      = findRequestParameters.getSequencingProperty();
+            sequencingOrder         = findRequestParameters.getSequencingOrder();
+            pageSize                = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            RelationshipPage page = metadataCollection.getRelationshipsForEntityPage(userId,
+                                                                                     entityGUID,
+                                                                                     relationshipTypeGUID,
+                                                                                     continuationToken,
+                                                                                     limitResultsByStatus,
+                                                                                     asOfTime,
+                                                                                     sequencingProperty,
+                                                                                     sequencingOrder,
+                                                                                     pageSize);
+            if (page != null)
+            {
+                response.setRelationships(page.getRelationships());
+                response.setPageSize(pageSize);
+                response.setContinuationToken(page.getContinuationToken());
+            }
+
+        }
+        catch (RepositoryErrorException error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (EntityNotKnownException error)
+        {
+            captureEntityNotKnownException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return a list of entities that match the supplied conditions.  The results can be returned over many pages.
      *
@@ -2547,6 +2662,124 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied conditions.  The continuation token returned with a page
+     * is passed on the request for the next page.  A null continuation token in the response means there are
+     * no more results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria and continuation token where null means no matching
+     * entities in the metadata collection or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException the paging/sequencing parameters or continuation token are not valid or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  EntityListResponse findEntitiesPage(String                      serverName,
+                                                String                      userId,
+                                                EntityHistoricalFindRequest findRequestParameters)
+    {
+        final  String   methodName = "findEntitiesPage";
+
+        log.debug("Calling method: " + methodName);
+
+        String                entityTypeGUID               = null;
+        List<String>          entitySubtypeGUIDs           = null;
+        SearchProperties      matchProperties              = null;
+        String                continuationToken            = null;
+        List<InstanceStatus>  limitResultsByStatus         = null;
+        SearchClassifications matchClassifications         = null;
+        Date                  asOfTime                     = null;
+        String                sequencingProperty           = null;
+        SequencingOrder       sequencingOrder              = null;
+        int                   pageSize                     = 0;
+
+        EntityListResponse response = new EntityListResponse();
+
+        if (findRequestParameters != null)
+        {
+            entityTypeGUID                    = findRequestParameters.getTypeGUID();
+            entitySubtypeGUIDs                = findRequestParameters.getSubtypeGUIDs();
+            matchProperties                   = findRequestParameters.getMatchProperties();
+            continuationToken                 = findRequestParameters.getContinuationToken();
+            limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            matchClassifications              = findRequestParameters.getMatchClassifications();
+            asOfTime                          = findRequestParameters.getAsOfTime();
+            sequencingProperty                = findRequestParameters.getSequencingProperty();
+            sequencingOrder                   = findRequestParameters.getSequencingOrder();
+            pageSize                          = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            EntityDetailPage page = metadataCollection.findEntitiesPage(userId,
+                                                                        entityTypeGUID,
+                                                                        entitySubtypeGUIDs,
+                                                                        matchProperties,
+                                                                        continuationToken,
+                                                                        limitResultsByStatus,
+                                                                        matchClassifications,
+                                                                        asOfTime,
+                                                                        sequencingProperty,
+                                                                        sequencingOrder,
+                                                                        pageSize);
+            if (page != null)
+            {
+                response.setEntities(page.getEntities());
+                response.setPageSize(pageSize);
+                response.setContinuationToken(page.getContinuationToken());
+            }
+
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -3752,6 +3985,120 @@ public class OMRSRepositoryRESTServices
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token returned
+     * with a page is passed on the request for the next page.  A null continuation token in the response means
+     * there are no more results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * a list of relationships and continuation token.  Null means no matching relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships or
+     * PagingErrorException the paging/sequencing parameters or continuation token are not valid or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  RelationshipListResponse findRelationshipsPage(String                         serverName,
+                                                           String                         userId,
+                                                           InstanceHistoricalFindRequest  findRequestParameters)
+    {
+        final  String   methodName = "findRelationshipsPage";
+
+        log.debug("Calling method: " + methodName);
+
+        String                    relationshipTypeGUID     = null;
+        List<String>              relationshipSubtypeGUIDs = null;
+        SearchProperties          matchProperties          = null;
+        String                    continuationToken        = null;
+        List<InstanceStatus>      limitResultsByStatus     = null;
+        Date                      asOfTime                 = null;
+        String                    sequencingProperty       = null;
+        SequencingOrder           sequencingOrder          = null;
+        int                       pageSize                 = 0;
+
+        RelationshipListResponse response = new RelationshipListResponse();
+
+        if (findRequestParameters != null)
+        {
+            relationshipTypeGUID              = findRequestParameters.getTypeGUID();
+            relationshipSubtypeGUIDs          = findRequestParameters.getSubtypeGUIDs();
+            matchProperties                   = findRequestParameters.getMatchProperties();
+            continuationToken                 = findRequestParameters.getContinuationToken();
+            limitResultsByStatus              = findRequestParameters.getLimitResultsByStatus();
+            asOfTime                          = findRequestParameters.getAsOfTime();
+            sequencingProperty                = findRequestParameters.getSequencingProperty();
+            sequencingOrder                   = findRequestParameters.getSequencingOrder();
+            pageSize                          = findRequestParameters.getPageSize();
+        }
+
+        try
+        {
+            OMRSMetadataCollection metadataCollection = validateRepository(userId, serverName, methodName);
+
+            RelationshipPage page = metadataCollection.findRelationshipsPage(userId,
+                                                                             relationshipTypeGUID,
+                                                                             relationshipSubtypeGUIDs,
+                                                                             matchProperties,
+                                                                             continuationToken,
+                                                                             limitResultsByStatus,
+                                                                             asOfTime,
+                                                                             sequencingProperty,
+                                                                             sequencingOrder,
+                                                                             pageSize);
+            if (page != null)
+            {
+                response.setRelationships(page.getRelationships());
+                response.setPageSize(pageSize);
+                response.setContinuationToken(page.getContinuationToken());
+            }
+
+        }
+        catch (RepositoryErrorException  error)
+        {
+            captureRepositoryErrorException(response, error);
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            captureFunctionNotSupportedException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            captureUserNotAuthorizedException(response, error);
+        }
+        catch (InvalidParameterException error)
+        {
+            captureInvalidParameterException(response, error);
+        }
+        catch (TypeErrorException error)
+        {
+            captureTypeErrorException(response, error);
+        }
+        catch (PropertyErrorException error)
+        {
+            capturePropertyErrorException(response, error);
+        }
+        catch (PagingErrorException error)
+        {
+            capturePagingErrorException(response, error);
+        }
+        catch (Exception error)
+        {
+            captureGenericException(response, error, userId, serverName, methodName);
+        }
+
+        log.debug("Returning from method: " + methodName + " with response: " + response.toString());
+
+        return response;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
@@ -0,0 +1,424 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.ComponentDevelopmentStatus;
+import org.odpi.openmetadata.frameworks.auditlog.messagesets.AuditLogMessageDefinition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSDynamicTypeMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the parallel issuing of federated requests by the ParallelFederationControl.
+ */
+public class ParallelFederationControlTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "testMethod";
+
+    private FederationWorkerPool workerPool = null;
+
+
+    @AfterMethod
+    void tearDown()
+    {
+        if (workerPool != null)
+        {
+            workerPool.shutdown();
+            workerPool = null;
+        }
+    }
+
+
+    @Test
+    void testRequestsRunInParallel() throws Exception
+    {
+        workerPool = new FederationWorkerPool("testServer", 3, 10000L);
+
+        TestExecutor executor = new TestExecutor();
+
+        executor.addMember("member-1", () -> sleep(300, false));
+        executor.addMember("member-2", () -> sleep(300, false));
+        executor.addMember("member-3", () -> sleep(300, false));
+
+        long startTime = System.currentTimeMillis();
+
+        getControl(executor, new TestAuditLog()).executeCommand(executor);
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        assertEquals(executor.getResults().size(), 3);
+        assertTrue(elapsedTime < 800, "Requests did not run in parallel: " + elapsedTime + "ms");
+
+        for (String threadName : executor.threadNames)
+        {
+            assertTrue(threadName.startsWith("testServer-FederationWorker-"), threadName);
+        }
+    }
+
+
+    @Test
+    void testMemberTimeout() throws Exception
+    {
+        workerPool = new FederationWorkerPool("testServer", 3, 300L);
+
+        TestExecutor executor = new TestExecutor();
+        TestAuditLog auditLog = new TestAuditLog();
+
+        executor.addMember("member-1", () -> sleep(10, false));
+        executor.addMember("slow-member", () -> sleep(5000, false));
+        executor.addMember("member-3", () -> sleep(10, false));
+
+        long startTime = System.currentTimeMillis();
+
+        getControl(executor, auditLog).executeCommand(executor);
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        assertTrue(elapsedTime < 2000, "Caller waited for slow member: " + elapsedTime + "ms");
+        assertEquals(executor.getResults().size(), 2);
+        assertFalse(executor.getResults().contains("slow-member"));
+        assertEquals(auditLog.getMessageIds(), Collections.singletonList("OMRS-AUDIT-0402"));
+
+        /*
+         * The slow member is interrupted.
+         */
+        Thread.sleep(200);
+        assertTrue(executor.interruptedMembers.contains("slow-member"));
+    }
+
+
+    @Test
+    void testStopOnCompleteInterruptsInFlightRequests() throws Exception
+    {
+        workerPool = new FederationWorkerPool("testServer", 3, 10000L);
+
+        TestExecutor executor = new TestExecutor();
+
+        executor.addMember("home-member", () -> sleep(50, true));
+        executor.addMember("slow-member-1", () -> sleep(3000, false));
+        executor.addMember("slow-member-2", () -> sleep(3000, false));
+
+        long startTime = System.currentTimeMillis();
+
+        getControl(executor, new TestAuditLog()).executeCommand(executor);
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        executor.callerReturned = true;
+
+        assertTrue(elapsedTime < 2000, "Caller waited for the slow members to complete: " + elapsedTime + "ms");
+        assertEquals(executor.getResults(), Collections.singletonList("home-member"));
+
+        /*
+         * The in-flight requests were stopped before the caller returned.
+         */
+        assertTrue(executor.interruptedMembers.contains("slow-member-1"));
+        assertTrue(executor.interruptedMembers.contains("slow-member-2"));
+        assertEquals(executor.runningRequests.get(), 0);
+
+        Thread.sleep(200);
+        assertEquals(executor.lateResults.get(), 0);
+    }
+
+
+    @Test
+    void testStopOnCompleteWaitsForUninterruptibleRequests() throws Exception
+    {
+        workerPool = new FederationWorkerPool("testServer", 2, 10000L);
+
+        TestExecutor executor = new TestExecutor();
+
+        executor.addMember("home-member", () -> sleep(50, true));
+        executor.addMember("busy-member", () -> busyWait(500));
+
+        getControl(executor, new TestAuditLog()).executeCommand(executor);
+
+        executor.callerReturned = true;
+
+        /*
+         * The busy member ignores the interrupt so the caller waits for it to finish rather than returning
+         * while it can still update the results.
+         */
+        assertEquals(executor.runningRequests.get(), 0);
+
+        Thread.sleep(200);
+        assertEquals(executor.lateResults.get(), 0);
+    }
+
+
+    @Test
+    void testStopOnCompleteSkipsQueuedRequests() throws Exception
+    {
+        workerPool = new FederationWorkerPool("testServer", 1, 10000L);
+
+        TestExecutor executor = new TestExecutor();
+
+        executor.addMember("home-member", () -> sleep(50, true));
+        executor.addMember("queued-member-1", () -> sleep(500, false));
+        executor.addMember("queued-member-2", () -> sleep(500, false));
+
+        getControl(executor, new TestAuditLog()).executeCommand(executor);
+
+        Thread.sleep(300);
+
+        /*
+         * The worker thread may pick up the first queued request before the caller sees the home member's
+         * response.  If so, it is interrupted.  The last request is never started.
+         */
+        assertEquals(executor.getResults(), Collections.singletonList("home-member"));
+        assertEquals(executor.interruptedMembers, executor.calledMembers.contains("queued-member-1") ? Collections.singleton("queued-member-1") : Collections.emptySet());
+        assertFalse(executor.calledMembers.contains("queued-member-2"));
+    }
+
+
+    @Test
+    void testSaturatedPoolDoesNotRunOnCaller() throws Exception
+    {
+        workerPool = new FederationWorkerPool("testServer", 1, 300L);
+
+        TestExecutor executor = new TestExecutor();
+        TestAuditLog auditLog = new TestAuditLog();
+
+        /*
+         * One request runs and ten are queued.  The others are rejected by the pool.
+         */
+        for (int i = 0; i < 13; i++)
+        {
+            executor.addMember("member-" + i, () -> sleep(2000, false));
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        getControl(executor, auditLog).executeCommand(executor);
+
+        long elapsedTime = System.currentTimeMillis() - startTime;
+
+        assertTrue(elapsedTime < 1500, "Caller ran a rejected request: " + elapsedTime + "ms");
+        assertFalse(executor.threadNames.contains(Thread.currentThread().getName()));
+        assertTrue(auditLog.getMessageIds().contains("OMRS-AUDIT-0403"));
+    }
+
+
+    /**
+     * Create the federation control for the members of the executor.
+     *
+     * @param executor test executor
+     * @param auditLog audit log
+     * @return federation control
+     */
+    private ParallelFederationControl getControl(TestExecutor executor,
+                                                 AuditLog     auditLog)
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        for (String memberName : executor.memberCalls.keySet())
+        {
+            cohortConnectors.add(new TestRepositoryConnector(memberName));
+        }
+
+        return new ParallelFederationControl(userId, cohortConnectors, workerPool, auditLog, methodName);
+    }
+
+
+    /**
+     * Wait for a time.
+     *
+     * @param milliseconds time to wait
+     * @param result result of the call
+     * @return result
+     * @throws InterruptedException the request was cancelled
+     */
+    private static boolean sleep(long    milliseconds,
+                                 boolean result) throws InterruptedException
+    {
+        Thread.sleep(milliseconds);
+
+        return result;
+    }
+
+
+    /**
+     * Keep the thread busy for a time ignoring any interrupts.
+     *
+     * @param milliseconds time to run
+     * @return false
+     */
+    private static boolean busyWait(long milliseconds)
+    {
+        long endTime = System.currentTimeMillis() + milliseconds;
+
+        while (System.currentTimeMillis() < endTime)
+        {
+            Thread.yield();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Call to a cohort member.
+     */
+    private interface MemberCall
+    {
+        boolean call() throws InterruptedException;
+    }
+
+
+    /**
+     * Executor that runs the member calls and records the results.
+     */
+    private static class TestExecutor implements RepositoryExecutor
+    {
+        final Map<String, MemberCall> memberCalls        = new LinkedHashMap<>();
+        final List<String>            results            = new ArrayList<>();
+        final Set<String>             calledMembers      = ConcurrentHashMap.newKeySet();
+        final Set<String>             interruptedMembers = ConcurrentHashMap.newKeySet();
+        final Set<String>             threadNames        = ConcurrentHashMap.newKeySet();
+        final AtomicInteger           runningRequests    = new AtomicInteger(0);
+        final AtomicInteger           lateResults        = new AtomicInteger(0);
+        volatile boolean              callerReturned     = false;
+
+
+        void addMember(String     memberName,
+                       MemberCall memberCall)
+        {
+            memberCalls.put(memberName, memberCall);
+        }
+
+
+        synchronized List<String> getResults()
+        {
+            return new ArrayList<>(results);
+        }
+
+
+        @Override
+        public boolean issueRequestToRepository(String                 metadataCollectionId,
+                                                OMRSMetadataCollection metadataCollection)
+        {
+            runningRequests.incrementAndGet();
+            calledMembers.add(metadataCollectionId);
+            threadNames.add(Thread.currentThread().getName());
+
+            try
+            {
+                boolean complete = memberCalls.get(metadataCollectionId).call();
+
+                synchronized (this)
+                {
+                    if (callerReturned)
+                    {
+                        lateResults.incrementAndGet();
+                    }
+
+                    results.add(metadataCollectionId);
+                }
+
+                return complete;
+            }
+            catch (InterruptedException error)
+            {
+                interruptedMembers.add(metadataCollectionId);
+                return false;
+            }
+            finally
+            {
+                runningRequests.decrementAndGet();
+            }
+        }
+    }
+
+
+    /**
+     * Repository connector for a cohort member.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        TestRepositoryConnector(String memberName)
+        {
+            super.repositoryName = memberName;
+            super.metadataCollectionId = memberName;
+            super.metadataCollection = new TestMetadataCollection(this, memberName);
+        }
+    }
+
+
+    /**
+     * Metadata collection for a cohort member.
+     */
+    private static class TestMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
+    {
+        private final String memberName;
+
+
+        TestMetadataCollection(TestRepositoryConnector parentConnector,
+                               String                  memberName)
+        {
+            super(parentConnector, memberName, null, null, memberName);
+
+            this.memberName = memberName;
+        }
+
+
+        @Override
+        public String getMetadataCollectionId(String userId)
+        {
+            return memberName;
+        }
+    }
+
+
+    /**
+     * Audit log that records the identifiers of the messages logged.
+     */
+    private static class TestAuditLog extends AuditLog
+    {
+        private final List<String> messageIds = new ArrayList<>();
+
+
+        TestAuditLog()
+        {
+            super(null, 0, ComponentDevelopmentStatus.STABLE, "Test", "Test", null);
+        }
+
+
+        synchronized List<String> getMessageIds()
+        {
+            return new ArrayList<>(messageIds);
+        }
+
+
+        @Override
+        public synchronized void logMessage(String                    actionDescription,
+                                            AuditLogMessageDefinition messageDefinition)
+        {
+            messageIds.add(messageDefinition.getMessageId());
+        }
+
+
+        @Override
+        public synchronized void logException(String                    actionDescription,
+                                              AuditLogMessageDefinition messageDefinition,
+                                              Throwable                 caughtException)
+        {
+            messageIds.add(messageDefinition.getMessageId());
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSDynamicTypeMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.ContinuationToken;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the composite continuation token built by the enterprise executors from the tokens of the member repositories.
+ */
+public class FindEntitiesExecutorTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "findEntitiesPage";
+
+
+    @Test
+    void testOneMemberExhausted() throws PagingErrorException
+    {
+        TestMetadataCollection smallRepository = new TestMetadataCollection("small-collection-id", 2);
+        TestMetadataCollection largeRepository = new TestMetadataCollection("large-collection-id", 5);
+
+        /*
+         * First page - both repositories are called.  The small repository returns all of its results.
+         */
+        String continuationToken = getPage(null, smallRepository, largeRepository, 4);
+
+        assertNotNull(continuationToken);
+        assertEquals(smallRepository.callCount, 1);
+        assertEquals(largeRepository.callCount, 1);
+
+        ContinuationToken token = ContinuationToken.decode(continuationToken, SequencingOrder.ANY, null, methodName, methodName);
+
+        assertEquals(token.getOffset(), 4);
+        assertEquals(token.getRepositoryTokens().get("small-collection-id"), "");
+        assertFalse(token.getRepositoryTokens().get("large-collection-id").isEmpty());
+
+        /*
+         * Second page - the small repository is not called again and stays exhausted in the next token.
+         */
+        continuationToken = getPage(continuationToken, smallRepository, largeRepository, 2);
+
+        assertNotNull(continuationToken);
+        assertEquals(smallRepository.callCount, 1);
+        assertEquals(largeRepository.callCount, 2);
+
+        token = ContinuationToken.decode(continuationToken, SequencingOrder.ANY, null, methodName, methodName);
+
+        assertEquals(token.getOffset(), 6);
+        assertEquals(token.getRepositoryTokens().get("small-collection-id"), "");
+
+        /*
+         * Last page - both repositories are exhausted so there is no token.
+         */
+        continuationToken = getPage(continuationToken, smallRepository, largeRepository, 1);
+
+        assertNull(continuationToken);
+        assertEquals(smallRepository.callCount, 1);
+        assertEquals(largeRepository.callCount, 3);
+    }
+
+
+    @Test
+    void testMemberWithNoResults() throws PagingErrorException
+    {
+        TestMetadataCollection emptyRepository = new TestMetadataCollection("empty-collection-id", 0);
+        TestMetadataCollection largeRepository = new TestMetadataCollection("large-collection-id", 3);
+
+        String continuationToken = getPage(null, emptyRepository, largeRepository, 2);
+
+        ContinuationToken token = ContinuationToken.decode(continuationToken, SequencingOrder.ANY, null, methodName, methodName);
+
+        assertEquals(token.getRepositoryTokens().get("empty-collection-id"), "");
+
+        assertNull(getPage(continuationToken, emptyRepository, largeRepository, 1));
+        assertEquals(emptyRepository.callCount, 1);
+    }
+
+
+    /**
+     * Issue one page request to the two repositories.
+     *
+     * @param continuationToken token from the previous page
+     * @param repositoryOne first repository
+     * @param repositoryTwo second repository
+     * @param expectedResults number of results expected in the page
+     * @return token for the next page
+     * @throws PagingErrorException the token is not valid
+     */
+    private String getPage(String                 continuationToken,
+                           TestMetadataCollection repositoryOne,
+                           TestMetadataCollection repositoryTwo,
+                           int                    expectedResults) throws PagingErrorException
+    {
+        FindEntitiesExecutor executor = new FindEntitiesExecutor(userId,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 0,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 null,
+                                                                 SequencingOrder.ANY,
+                                                                 2,
+                                                                 "local-collection-id",
+                                                                 null,
+                                                                 null,
+                                                                 methodName);
+
+        executor.setContinuationToken(ContinuationToken.decode(continuationToken, SequencingOrder.ANY, null, methodName, methodName));
+
+        List<EntityDetail> results = new ArrayList<>();
+
+        for (TestMetadataCollection repository : new TestMetadataCollection[]{repositoryOne, repositoryTwo})
+        {
+            executor.issueRequestToRepository(repository.collectionId, repository);
+
+            if (repository.lastPage != null)
+            {
+                results.addAll(repository.lastPage);
+                repository.lastPage = null;
+            }
+        }
+
+        assertEquals(results.size(), expectedResults);
+
+        return executor.getNextContinuationToken(results);
+    }
+
+
+    /**
+     * Member repository that pages through a fixed list of entities.
+     */
+    private static class TestMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
+    {
+        private final String                      collectionId;
+        private final List<EntityDetail>          entities   = new ArrayList<>();
+        private final OMRSRepositoryContentHelper helper     = new OMRSRepositoryContentHelper(null);
+        int                                       callCount  = 0;
+        List<EntityDetail>                        lastPage   = null;
+
+
+        TestMetadataCollection(String metadataCollectionId,
+                               int    entityCount)
+        {
+            super(null, metadataCollectionId, null, null, metadataCollectionId);
+
+            this.collectionId = metadataCollectionId;
+
+            for (int i = 0; i < entityCount; i++)
+            {
+                EntityDetail entity = new EntityDetail();
+
+                entity.setGUID(metadataCollectionId + "-" + i);
+                entity.setMetadataCollectionId(metadataCollectionId);
+                entities.add(entity);
+            }
+        }
+
+
+        @Override
+        public EntityDetailPage findEntitiesPage(String                userId,
+                                                 String                entityTypeGUID,
+                                                 List<String>          entitySubtypeGUIDs,
+                                                 SearchProperties      matchProperties,
+                                                 String                continuationToken,
+                                                 List<InstanceStatus>  limitResultsByStatus,
+                                                 SearchClassifications matchClassifications,
+                                                 Date                  asOfTime,
+                                                 String                sequencingProperty,
+                                                 SequencingOrder       sequencingOrder,
+                                                 int                   pageSize) throws PagingErrorException,
+                                                                                        PropertyErrorException
+        {
+            callCount++;
+
+            EntityDetailPage page = helper.formatEntityPage(collectionId,
+                                                            methodName,
+                                                            entities,
+                                                            continuationToken,
+                                                            sequencingProperty,
+                                                            sequencingOrder,
+                                                            pageSize);
+
+            lastPage = page.getEntities();
+
+            return page;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.OpenMetadataExchangeRule;
+import org.odpi.openmetadata.repositoryservices.archivemanager.OMRSArchiveManager;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogDestination;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSDynamicTypeMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventManager;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidEntityException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidRelationshipException;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the batch processing of archive instances by the LocalOMRSInstanceEventProcessor.
+ */
+public class LocalOMRSInstanceEventProcessorTest
+{
+    private static final String userId               = "testUser";
+    private static final String sourceName           = "LocalOMRSInstanceEventProcessorTest";
+    private static final String localCollectionId    = "local-metadata-collection-id";
+    private static final String archiveCollectionId  = "archive-metadata-collection-id";
+    private static final String serverName           = "testServer";
+
+    private OMRSRepositoryContentHelper     repositoryHelper;
+    private TestMetadataCollection          metadataCollection;
+    private List<String>                    sentGUIDs;
+    private LocalOMRSInstanceEventProcessor eventProcessor;
+
+
+    @BeforeMethod
+    void setUp() throws Exception
+    {
+        OMRSAuditLog auditLog = new OMRSAuditLog(new OMRSAuditLogDestination(serverName,
+                                                                             "Test",
+                                                                             null,
+                                                                             new ArrayList<>()),
+                                                 OMRSAuditingComponent.REPOSITORY_CONTENT_MANAGER);
+
+        OMRSRepositoryContentManager contentManager = new OMRSRepositoryContentManager(userId, auditLog);
+
+        repositoryHelper = new OMRSRepositoryContentHelper(contentManager);
+
+        OMRSRepositoryContentValidator repositoryValidator = new OMRSRepositoryContentValidator(contentManager);
+
+        new OMRSArchiveManager(null, auditLog).setLocalRepository(localCollectionId, contentManager, null);
+
+        TypeDefGallery knownTypes = repositoryHelper.getKnownTypeDefGallery();
+
+        for (AttributeTypeDef attributeTypeDef : knownTypes.getAttributeTypeDefs())
+        {
+            contentManager.addAttributeTypeDef(sourceName, attributeTypeDef);
+        }
+
+        for (TypeDef typeDef : knownTypes.getTypeDefs())
+        {
+            contentManager.addTypeDef(sourceName, typeDef);
+        }
+
+        TestRepositoryConnector repositoryConnector = new TestRepositoryConnector();
+
+        repositoryConnector.setServerUserId(userId);
+        repositoryConnector.setMetadataCollectionId(localCollectionId);
+
+        metadataCollection = new TestMetadataCollection(repositoryConnector, repositoryHelper, repositoryValidator);
+        repositoryConnector.setTestMetadataCollection(metadataCollection);
+
+        sentGUIDs = new ArrayList<>();
+
+        OMRSRepositoryEventExchangeRule exchangeRule = new OMRSRepositoryEventExchangeRule(OpenMetadataExchangeRule.ALL, null);
+
+        OMRSRepositoryEventManager outboundEventManager = new OMRSRepositoryEventManager("Test outbound",
+                                                                                         exchangeRule,
+                                                                                         repositoryValidator,
+                                                                                         auditLog)
+        {
+            @Override
+            public void processNewEntityEvent(String       sourceName,
+                                              String       originatorMetadataCollectionId,
+                                              String       originatorServerName,
+                                              String       originatorServerType,
+                                              String       originatorOrganizationName,
+                                              EntityDetail entity)
+            {
+                sentGUIDs.add(entity.getGUID());
+            }
+
+            @Override
+            public void processNewRelationshipEvent(String       sourceName,
+                                                    String       originatorMetadataCollectionId,
+                                                    String       originatorServerName,
+                                                    String       originatorServerType,
+                                                    String       originatorOrganizationName,
+                                                    Relationship relationship)
+            {
+                sentGUIDs.add(relationship.getGUID());
+            }
+        };
+
+        eventProcessor = new LocalOMRSInstanceEventProcessor(localCollectionId,
+                                                             serverName,
+                                                             repositoryConnector,
+                                                             repositoryHelper,
+                                                             repositoryValidator,
+                                                             exchangeRule,
+                                                             false,
+                                                             outboundEventManager,
+                                                             auditLog);
+    }
+
+
+    @Test
+    void testBadEntityInMiddleOfBatch() throws Exception
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++)
+        {
+            entities.add(getNewTerm(i));
+        }
+
+        EntityDetail badEntity = entities.get(2);
+
+        metadataCollection.rejectedGUID = badEntity.getGUID();
+
+        eventProcessor.processArchiveInstanceBatch(sourceName, archiveCollectionId, serverName, null, null, entities, null);
+
+        List<String> expectedGUIDs = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            if (entity != badEntity)
+            {
+                expectedGUIDs.add(entity.getGUID());
+            }
+        }
+
+        assertEquals(metadataCollection.savedGUIDs, expectedGUIDs);
+        assertEquals(sentGUIDs, expectedGUIDs);
+    }
+
+
+    @Test
+    void testBadRelationshipInMiddleOfBatch() throws Exception
+    {
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++)
+        {
+            entities.add(getNewTerm(i));
+        }
+
+        for (int i = 0; i < 3; i++)
+        {
+            Relationship relationship = repositoryHelper.getNewRelationship(sourceName,
+                                                                            archiveCollectionId,
+                                                                            InstanceProvenanceType.CONTENT_PACK,
+                                                                            userId,
+                                                                            "RelatedTerm",
+                                                                            null);
+
+            relationship.setEntityOneProxy(repositoryHelper.getNewEntityProxy(sourceName, entities.get(i)));
+            relationship.setEntityTwoProxy(repositoryHelper.getNewEntityProxy(sourceName, entities.get(i + 1)));
+            relationship.setReplicatedBy(localCollectionId);
+            relationships.add(relationship);
+        }
+
+        Relationship badRelationship = relationships.get(1);
+
+        metadataCollection.rejectedGUID = badRelationship.getGUID();
+
+        eventProcessor.processArchiveInstanceBatch(sourceName, archiveCollectionId, serverName, null, null, entities, relationships);
+
+        List<String> expectedGUIDs = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            expectedGUIDs.add(entity.getGUID());
+        }
+
+        for (Relationship relationship : relationships)
+        {
+            if (relationship != badRelationship)
+            {
+                expectedGUIDs.add(relationship.getGUID());
+            }
+        }
+
+        assertEquals(metadataCollection.savedGUIDs, expectedGUIDs);
+        assertEquals(sentGUIDs, expectedGUIDs);
+    }
+
+
+    @Test
+    void testBatchSavedInOneRequest() throws Exception
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            entities.add(getNewTerm(i));
+        }
+
+        eventProcessor.processArchiveInstanceBatch(sourceName, archiveCollectionId, serverName, null, null, entities, null);
+
+        assertEquals(metadataCollection.savedGUIDs.size(), 3);
+        assertEquals(sentGUIDs.size(), 3);
+    }
+
+
+    private EntityDetail getNewTerm(int termNumber) throws Exception
+    {
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(sourceName,
+                                                                                     null,
+                                                                                     "qualifiedName",
+                                                                                     "Glossary::Test::Term-" + termNumber,
+                                                                                     "getNewTerm");
+        EntityDetail entity = repositoryHelper.getNewEntity(sourceName,
+                                                            archiveCollectionId,
+                                                            InstanceProvenanceType.CONTENT_PACK,
+                                                            userId,
+                                                            "GlossaryTerm",
+                                                            properties,
+                                                            null);
+
+        entity.setReplicatedBy(localCollectionId);
+
+        return entity;
+    }
+
+
+    /**
+     * Repository connector that returns the test metadata collection.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        void setTestMetadataCollection(TestMetadataCollection metadataCollection)
+        {
+            super.metadataCollection = metadataCollection;
+        }
+    }
+
+
+    /**
+     * Metadata collection that records the instances it saves and rejects one instance.  It relies on the
+     * default saveInstanceReferenceCopies that stops at the first instance that is rejected.
+     */
+    private static class TestMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
+    {
+        final List<String> savedGUIDs   = new ArrayList<>();
+        String             rejectedGUID = null;
+
+
+        TestMetadataCollection(TestRepositoryConnector        parentConnector,
+                               OMRSRepositoryContentHelper    repositoryHelper,
+                               OMRSRepositoryContentValidator repositoryValidator)
+        {
+            super(parentConnector, sourceName, repositoryHelper, repositoryValidator, localCollectionId);
+        }
+
+
+        @Override
+        public EntityDetail isEntityKnown(String userId,
+                                          String guid)
+        {
+            return null;
+        }
+
+
+        @Override
+        public Relationship isRelationshipKnown(String userId,
+                                                String guid)
+        {
+            return null;
+        }
+
+
+        @Override
+        public void saveEntityReferenceCopy(String       userId,
+                                            EntityDetail entity) throws InvalidEntityException
+        {
+            final String methodName = "saveEntityReferenceCopy";
+
+            if (entity.getGUID().equals(rejectedGUID))
+            {
+                throw new InvalidEntityException(OMRSErrorCode.INVALID_ENTITY_FROM_STORE.getMessageDefinition(entity.getGUID(),
+                                                                                                              sourceName,
+                                                                                                              methodName,
+                                                                                                              "rejected by test"),
+                                                 this.getClass().getName(),
+                                                 methodName);
+            }
+
+            if (! savedGUIDs.contains(entity.getGUID()))
+            {
+                savedGUIDs.add(entity.getGUID());
+            }
+        }
+
+
+        @Override
+        public void saveRelationshipReferenceCopy(String       userId,
+                                                  Relationship relationship) throws InvalidRelationshipException
+        {
+            final String methodName = "saveRelationshipReferenceCopy";
+
+            if (relationship.getGUID().equals(rejectedGUID))
+            {
+                throw new InvalidRelationshipException(OMRSErrorCode.INVALID_RELATIONSHIP_FROM_STORE.getMessageDefinition(relationship.getGUID(),
+                                                                                                                          sourceName,
+                                                                                                                          methodName,
+                                                                                                                          "rejected by test"),
+                                                       this.getClass().getName(),
+                                                       methodName);
+            }
+
+            if (! savedGUIDs.contains(relationship.getGUID()))
+            {
+                savedGUIDs.add(relationship.getGUID());
+            }
+        }
+    }
+}
@@ -0,0 +1,387 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+/**
+ * Test the continuation token paging of formatEntityPage and formatRelationshipPage.
+ */
+public class OMRSRepositoryHelperPagingTest
+{
+    private static final String sourceName = "OMRSRepositoryHelperPagingTest";
+    private static final String methodName = "testPaging";
+
+
+    @Test
+    void testPagesInGUIDOrder() throws PropertyErrorException, PagingErrorException
+    {
+        List<EntityDetail> fullResults = getEntities(7);
+
+        Collections.shuffle(fullResults, new Random(42));
+
+        List<List<String>> pages = getAllPages(fullResults, null, SequencingOrder.ANY, 3);
+
+        assertEquals(pages.size(), 3);
+        assertEquals(pages.get(0), Arrays.asList("guid-0", "guid-1", "guid-2"));
+        assertEquals(pages.get(1), Arrays.asList("guid-3", "guid-4", "guid-5"));
+        assertEquals(pages.get(2), Collections.singletonList("guid-6"));
+    }
+
+
+    @Test
+    void testLastPageIsFull() throws PropertyErrorException, PagingErrorException
+    {
+        List<List<String>> pages = getAllPages(getEntities(6), null, SequencingOrder.GUID, 3);
+
+        assertEquals(pages.size(), 2);
+        assertEquals(pages.get(1), Arrays.asList("guid-3", "guid-4", "guid-5"));
+    }
+
+
+    @Test
+    void testPageSizeOne() throws PropertyErrorException, PagingErrorException
+    {
+        List<List<String>> pages = getAllPages(getEntities(4), null, SequencingOrder.ANY, 1);
+
+        assertEquals(pages.size(), 4);
+
+        for (int i = 0; i < 4; i++)
+        {
+            assertEquals(pages.get(i), Collections.singletonList("guid-" + i));
+        }
+    }
+
+
+    @Test
+    void testPageSizeZero() throws PropertyErrorException, PagingErrorException
+    {
+        List<EntityDetail> fullResults = getEntities(5);
+
+        Collections.reverse(fullResults);
+
+        EntityDetailPage page = createHelper().formatEntityPage(sourceName, methodName, fullResults, null, null, SequencingOrder.ANY, 0);
+
+        assertEquals(getGUIDs(page.getEntities()), Arrays.asList("guid-0", "guid-1", "guid-2", "guid-3", "guid-4"));
+        assertNull(page.getContinuationToken());
+    }
+
+
+    @Test
+    void testNoResults() throws PropertyErrorException, PagingErrorException
+    {
+        EntityDetailPage page = createHelper().formatEntityPage(sourceName, methodName, null, null, null, SequencingOrder.ANY, 10);
+
+        assertNull(page.getEntities());
+        assertNull(page.getContinuationToken());
+
+        page = createHelper().formatEntityPage(sourceName, methodName, new ArrayList<>(), null, null, SequencingOrder.ANY, 10);
+
+        assertNull(page.getEntities());
+        assertNull(page.getContinuationToken());
+    }
+
+
+    @Test
+    void testPropertyOrder() throws PropertyErrorException, PagingErrorException
+    {
+        List<EntityDetail> fullResults = new ArrayList<>();
+
+        fullResults.add(getEntity("guid-0", "Charlie"));
+        fullResults.add(getEntity("guid-1", "Alpha"));
+        fullResults.add(getEntity("guid-2", "Bravo"));
+        fullResults.add(getEntity("guid-3", "Alpha"));
+        fullResults.add(getEntity("guid-4", "Delta"));
+
+        List<List<String>> pages = getAllPages(fullResults, "displayName", SequencingOrder.PROPERTY_ASCENDING, 2);
+
+        assertEquals(pages.size(), 3);
+        assertEquals(pages.get(0), Arrays.asList("guid-1", "guid-3"));
+        assertEquals(pages.get(1), Arrays.asList("guid-2", "guid-0"));
+        assertEquals(pages.get(2), Collections.singletonList("guid-4"));
+
+        pages = getAllPages(fullResults, "displayName", SequencingOrder.PROPERTY_DESCENDING, 2);
+
+        assertEquals(pages.size(), 3);
+        assertEquals(pages.get(0), Arrays.asList("guid-4", "guid-0"));
+        assertEquals(pages.get(1), Arrays.asList("guid-2", "guid-1"));
+        assertEquals(pages.get(2), Collections.singletonList("guid-3"));
+    }
+
+
+    @Test
+    void testResumeAfterLastGUID() throws PropertyErrorException, PagingErrorException
+    {
+        OMRSRepositoryHelper helper      = createHelper();
+        List<EntityDetail>   fullResults = getEntities(6);
+
+        EntityDetailPage firstPage = helper.formatEntityPage(sourceName, methodName, fullResults, null, null, SequencingOrder.ANY, 3);
+
+        assertEquals(getGUIDs(firstPage.getEntities()), Arrays.asList("guid-0", "guid-1", "guid-2"));
+        assertNotNull(firstPage.getContinuationToken());
+
+        /*
+         * Elements added before the last element returned are not returned again or counted in the offset.
+         */
+        fullResults.add(0, getEntity("guid-00", null));
+        fullResults.add(getEntity("guid-35", null));
+
+        EntityDetailPage secondPage = helper.formatEntityPage(sourceName,
+                                                              methodName,
+                                                              fullResults,
+                                                              firstPage.getContinuationToken(),
+                                                              null,
+                                                              SequencingOrder.ANY,
+                                                              3);
+
+        assertEquals(getGUIDs(secondPage.getEntities()), Arrays.asList("guid-3", "guid-35", "guid-4"));
+        assertNotNull(secondPage.getContinuationToken());
+    }
+
+
+    @Test
+    void testResumeAfterDeletedElementInGUIDOrder() throws PropertyErrorException, PagingErrorException
+    {
+        OMRSRepositoryHelper helper      = createHelper();
+        List<EntityDetail>   fullResults = getEntities(6);
+
+        EntityDetailPage firstPage = helper.formatEntityPage(sourceName, methodName, fullResults, null, null, SequencingOrder.GUID, 3);
+
+        fullResults.remove(2);
+
+        EntityDetailPage secondPage = helper.formatEntityPage(sourceName,
+                                                              methodName,
+                                                              fullResults,
+                                                              firstPage.getContinuationToken(),
+                                                              null,
+                                                              SequencingOrder.GUID,
+                                                              3);
+
+        assertEquals(getGUIDs(secondPage.getEntities()), Arrays.asList("guid-3", "guid-4", "guid-5"));
+        assertNull(secondPage.getContinuationToken());
+    }
+
+
+    @Test
+    void testResumeAfterDeletedElementInPropertyOrder() throws PropertyErrorException, PagingErrorException
+    {
+        OMRSRepositoryHelper helper      = createHelper();
+        List<EntityDetail>   fullResults = new ArrayList<>();
+
+        fullResults.add(getEntity("guid-a", "Echo"));
+        fullResults.add(getEntity("guid-b", "Delta"));
+        fullResults.add(getEntity("guid-c", "Charlie"));
+        fullResults.add(getEntity("guid-d", "Bravo"));
+        fullResults.add(getEntity("guid-e", "Alpha"));
+
+        EntityDetailPage firstPage = helper.formatEntityPage(sourceName,
+                                                             methodName,
+                                                             fullResults,
+                                                             null,
+                                                             "displayName",
+                                                             SequencingOrder.PROPERTY_ASCENDING,
+                                                             2);
+
+        assertEquals(getGUIDs(firstPage.getEntities()), Arrays.asList("guid-e", "guid-d"));
+
+        /*
+         * The last element returned is deleted so the offset in the token is used to find the next page.
+         */
+        fullResults.remove(3);
+
+        EntityDetailPage secondPage = helper.formatEntityPage(sourceName,
+                                                              methodName,
+                                                              fullResults,
+                                                              firstPage.getContinuationToken(),
+                                                              "displayName",
+                                                              SequencingOrder.PROPERTY_ASCENDING,
+                                                              2);
+
+        assertEquals(getGUIDs(secondPage.getEntities()), Arrays.asList("guid-c", "guid-b"));
+        assertNotNull(secondPage.getContinuationToken());
+
+        EntityDetailPage thirdPage = helper.formatEntityPage(sourceName,
+                                                             methodName,
+                                                             fullResults,
+                                                             secondPage.getContinuationToken(),
+                                                             "displayName",
+                                                             SequencingOrder.PROPERTY_ASCENDING,
+                                                             2);
+
+        assertEquals(getGUIDs(thirdPage.getEntities()), Collections.singletonList("guid-a"));
+        assertNull(thirdPage.getContinuationToken());
+    }
+
+
+    @Test
+    void testDifferentSequencing() throws PropertyErrorException, PagingErrorException
+    {
+        OMRSRepositoryHelper helper      = createHelper();
+        List<EntityDetail>   fullResults = getEntities(4);
+
+        EntityDetailPage firstPage = helper.formatEntityPage(sourceName, methodName, fullResults, null, null, SequencingOrder.ANY, 2);
+
+        try
+        {
+            helper.formatEntityPage(sourceName,
+                                    methodName,
+                                    fullResults,
+                                    firstPage.getContinuationToken(),
+                                    "displayName",
+                                    SequencingOrder.PROPERTY_ASCENDING,
+                                    2);
+            fail("Token accepted with different sequencing");
+        }
+        catch (PagingErrorException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), "OMRS-REPOSITORY-400-084");
+        }
+    }
+
+
+    @Test
+    void testRelationshipPages() throws PropertyErrorException, PagingErrorException
+    {
+        OMRSRepositoryHelper helper      = createHelper();
+        List<Relationship>   fullResults = new ArrayList<>();
+
+        for (int i = 2; i >= 0; i--)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("guid-" + i);
+            fullResults.add(relationship);
+        }
+
+        List<String> guids             = new ArrayList<>();
+        String       continuationToken = null;
+        int          pageCount         = 0;
+
+        do
+        {
+            RelationshipPage page = helper.formatRelationshipPage(sourceName,
+                                                                  methodName,
+                                                                  fullResults,
+                                                                  continuationToken,
+                                                                  null,
+                                                                  SequencingOrder.ANY,
+                                                                  1);
+
+            assertEquals(page.getRelationships().size(), 1);
+            guids.add(page.getRelationships().get(0).getGUID());
+            continuationToken = page.getContinuationToken();
+            pageCount++;
+        }
+        while (continuationToken != null);
+
+        assertEquals(pageCount, 3);
+        assertEquals(guids, Arrays.asList("guid-0", "guid-1", "guid-2"));
+    }
+
+
+    /**
+     * Request pages until the continuation token is null.
+     *
+     * @param fullResults all of the results
+     * @param sequencingProperty sequencing property
+     * @param sequencingOrder sequencing order
+     * @param pageSize page size
+     * @return guids of the entities in each page
+     * @throws PropertyErrorException bad sequencing property
+     * @throws PagingErrorException bad token
+     */
+    private List<List<String>> getAllPages(List<EntityDetail> fullResults,
+                                           String             sequencingProperty,
+                                           SequencingOrder    sequencingOrder,
+                                           int                pageSize) throws PropertyErrorException, PagingErrorException
+    {
+        OMRSRepositoryHelper helper            = createHelper();
+        List<List<String>>   pages             = new ArrayList<>();
+        String               continuationToken = null;
+
+        do
+        {
+            EntityDetailPage page = helper.formatEntityPage(sourceName,
+                                                            methodName,
+                                                            fullResults,
+                                                            continuationToken,
+                                                            sequencingProperty,
+                                                            sequencingOrder,
+                                                            pageSize);
+
+            assertTrue(page.getEntities().size() <= pageSize);
+            pages.add(getGUIDs(page.getEntities()));
+            continuationToken = page.getContinuationToken();
+        }
+        while (continuationToken != null);
+
+        return pages;
+    }
+
+
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    private List<EntityDetail> getEntities(int count)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            entities.add(getEntity("guid-" + i, null));
+        }
+
+        return entities;
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   String displayName)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+
+        if (displayName != null)
+        {
+            PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+            propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            propertyValue.setTypeName("string");
+            propertyValue.setPrimitiveValue(displayName);
+
+            InstanceProperties properties = new InstanceProperties();
+
+            properties.setProperty("displayName", propertyValue);
+            entity.setProperties(properties);
+        }
+
+        return entity;
+    }
+
+
+    private OMRSRepositoryHelper createHelper()
+    {
+        return new OMRSRepositoryContentHelper(null);
+    }
+}
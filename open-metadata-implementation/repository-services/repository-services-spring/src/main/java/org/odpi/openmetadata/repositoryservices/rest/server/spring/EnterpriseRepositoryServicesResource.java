@@ -548,6 +548,39 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return a page of the relationships for a specific entity.  The continuation token returned with a page
+     * is passed on the request for the next page.  A null continuation token means there are no more results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param entityGUID String unique identifier for the entity.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * Relationships list and continuation token.  Null means no relationships associated with the entity or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored or
+     * EntityNotKnownException the requested entity instance is not known in the metadata collection or
+     * PropertyErrorException the sequencing property is not valid for the attached classifications or
+     * PagingErrorException the paging/sequencing parameters or continuation token are not valid or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entity/{entityGUID}/relationships/page")
+
+    public RelationshipListResponse getRelationshipsForEntityPage(@PathVariable String                            serverName,
+                                                                  @PathVariable String                            userId,
+                                                                  @PathVariable String                            entityGUID,
+                                                                  @RequestBody  TypeLimitedHistoricalFindRequest  findRequestParameters)
+    {
+        return restAPI.getRelationshipsForEntityPage(serverName, userId,
+                                                     entityGUID,
+                                                     findRequestParameters);
+    }
+
+
     /**
      * Return a list of entities that match the supplied conditions.  The results can be returned over many pages.
      *
@@ -604,6 +637,35 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return a page of the entities that match the supplied conditions.  The continuation token returned with a page
+     * is passed on the request for the next page.  A null continuation token means there are no more results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return EntityListResponse:
+     * a list of entities matching the supplied criteria and continuation token - null means no matching entities
+     * in the metadata collection or
+     * InvalidParameterException a parameter is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity or
+     * PagingErrorException the paging/sequencing parameters or continuation token are not valid or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/page")
+    public  EntityListResponse findEntitiesPage(@PathVariable String                      serverName,
+                                                @PathVariable String                      userId,
+                                                @RequestBody  EntityHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.findEntitiesPage(serverName, userId, findRequestParameters);
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -922,6 +984,35 @@ public class EnterpriseRepositoryServicesResource
     }
 
 
+    /**
+     * Return a page of the relationships that match the requested conditions.  The continuation token returned
+     * with a page is passed on the request for the next page.  A null continuation token means there are no
+     * more results.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user
+     * @param findRequestParameters find parameters used to limit the returned results.
+     * @return RelationshipListResponse:
+     * a list of relationships and continuation token.  Null means no matching relationships or
+     * InvalidParameterException one of the parameters is invalid or null or
+     * TypeErrorException the type guid passed on the request is not known by the metadata collection or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored or
+     * PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships or
+     * PagingErrorException the paging/sequencing parameters or continuation token are not valid or
+     * FunctionNotSupportedException the repository does not support asOfTime parameter or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/page")
+    public  RelationshipListResponse findRelationshipsPage(@PathVariable String                        serverName,
+                                                           @PathVariable String                        userId,
+                                                           @RequestBody  InstanceHistoricalFindRequest findRequestParameters)
+    {
+        return restAPI.findRelationshipsPage(serverName, userId, findRequestParameters);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be broken into pages.
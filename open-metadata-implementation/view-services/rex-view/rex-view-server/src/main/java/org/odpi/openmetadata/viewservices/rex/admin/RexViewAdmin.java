@@ -14,11 +14,13 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexViewAuditCode;
 import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexViewErrorCode;
+import org.odpi.openmetadata.viewservices.rex.handlers.RexViewHandler;
 import org.odpi.openmetadata.viewservices.rex.server.RexViewServicesInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -31,6 +33,7 @@ public class RexViewAdmin extends ViewServiceAdmin {
 
 
     protected String   resourceEndpointsPropertyName       = "resourceEndpoints";      /* Common */
+    protected String   typeExplorerCacheSecondsPropertyName = "typeExplorerCacheSeconds";
 
     private AuditLog                auditLog          = null;
     private String                  serverUserName    = null;
@@ -100,6 +103,9 @@ public class RexViewAdmin extends ViewServiceAdmin {
                                                                                            viewServiceFullName,
                                                                                            auditLog);
 
+            int typeExplorerCacheSeconds = this.extractTypeExplorerCacheSeconds(viewServiceConfig.getViewServiceOptions(),
+                                                                                viewServiceFullName,
+                                                                                auditLog);
 
 
             /*
@@ -110,7 +116,8 @@ public class RexViewAdmin extends ViewServiceAdmin {
                                                         auditLog,
                                                         serverUserName,
                                                         maxPageSize,
-                                                        resourceEndpoints);
+                                                        resourceEndpoints,
+                                                        typeExplorerCacheSeconds);
 
             this.serverUserName    = serverUserName;
             this.serverName        = serverName;
@@ -209,5 +216,49 @@ public class RexViewAdmin extends ViewServiceAdmin {
             return endpointList;
         }
     }
+
+
+    /**
+     * Extract the number of seconds that the type information retrieved from a repository server is reused
+     * from the view service options.
+     *
+     * @param viewServiceOptions options passed to the view service.
+     * @param viewServiceFullName name of calling service
+     * @param auditLog audit log for error messages
+     * @return number of seconds - 0 means the type information is retrieved on every request
+     * @throws OMAGConfigurationErrorException the property is not zero or a positive number
+     */
+    protected int extractTypeExplorerCacheSeconds(Map<String, Object> viewServiceOptions,
+                                                  String              viewServiceFullName,
+                                                  AuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "extractTypeExplorerCacheSeconds";
+
+        if (viewServiceOptions == null)
+        {
+            return RexViewHandler.DEFAULT_TYPE_EXPLORER_CACHE_SECONDS;
+        }
+
+        Object typeExplorerCacheSeconds = viewServiceOptions.get(typeExplorerCacheSecondsPropertyName);
+
+        if (typeExplorerCacheSeconds == null)
+        {
+            return RexViewHandler.DEFAULT_TYPE_EXPLORER_CACHE_SECONDS;
+        }
+
+        if ((typeExplorerCacheSeconds instanceof Number) && (((Number) typeExplorerCacheSeconds).intValue() >= 0))
+        {
+            return ((Number) typeExplorerCacheSeconds).intValue();
+        }
+
+        logBadConfiguration(viewServiceFullName,
+                            typeExplorerCacheSecondsPropertyName,
+                            typeExplorerCacheSeconds.toString(),
+                            auditLog,
+                            methodName);
+
+        // unreachable
+        return RexViewHandler.DEFAULT_TYPE_EXPLORER_CACHE_SECONDS;
+    }
 }
 
@@ -58,6 +58,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -73,6 +74,11 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Default number of seconds that a type explorer is reused before the types are retrieved again.
+     */
+    public static final int DEFAULT_TYPE_EXPLORER_CACHE_SECONDS = 300;
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -116,6 +122,19 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients are reused for all requests to the same server.  They are keyed using the
+     * rest root URL of the server.  The type explorers are keyed using the rest root URL and the enterprise option
+     * because the enterprise option returns the types from the whole cohort.  Retrieving and resolving all of the
+     * types is the most expensive part of a Rex operation so a type explorer is reused until it expires
+     * or the types are explicitly requested again with getTypeExplorer.
+     */
+    private final Map<String, LocalRepositoryServicesClient>      localRepositoryServicesClients      = new ConcurrentHashMap<>();
+    private final Map<String, EnterpriseRepositoryServicesClient> enterpriseRepositoryServicesClients = new ConcurrentHashMap<>();
+    private final Map<String, CachedTypeExplorer>                 cachedTypeExplorers                 = new ConcurrentHashMap<>();
+
+    private long typeExplorerCacheInterval = DEFAULT_TYPE_EXPLORER_CACHE_SECONDS * 1000L;  // milliseconds
+
 
 
 
@@ -133,6 +152,20 @@ public class RexViewHandler
      */
     public RexViewHandler(List<ResourceEndpointConfig>  resourceEndpoints) {
 
+        this(resourceEndpoints, DEFAULT_TYPE_EXPLORER_CACHE_SECONDS);
+    }
+
+
+    /**
+     * Constructor for RexViewHandler with configured resourceEndpoints and type explorer caching
+     * @param resourceEndpoints - list of resource endpoint configuration objects for this view service
+     * @param typeExplorerCacheSeconds - number of seconds that a type explorer is reused - 0 means retrieve the types on every request
+     */
+    public RexViewHandler(List<ResourceEndpointConfig>  resourceEndpoints,
+                          int                           typeExplorerCacheSeconds) {
+
+        this.typeExplorerCacheInterval = typeExplorerCacheSeconds * 1000L;
+
         /*
          * Populate map of resources with their endpoints....
          */
@@ -243,7 +276,8 @@ public class RexViewHandler
     
 
     /**
-     * Retrieve type information from the repository server
+     * Retrieve type information from the repository server.  The types are always retrieved from the
+     * repository server, and the resulting type explorer replaces any cached one for the server.
      * @param userId  userId under which the request is performed
      * @param repositoryServerName The name of the repository server to interrogate
      * @param platformName The name of the platform running the repository server to interrogate
@@ -332,6 +366,13 @@ public class RexViewHandler
             // All typeDefs processed, resolve linkages and return the TEX object
             // The platformRootURL and repositoryName are passed in only for error logging
             tex.resolve(platformRootURL, repositoryServerName);
+
+            if (typeExplorerCacheInterval > 0)
+            {
+                cachedTypeExplorers.put(getTypeExplorerCacheKey(repositoryServerName, platformRootURL, enterpriseOption),
+                                        new CachedTypeExplorer(tex, System.currentTimeMillis() + typeExplorerCacheInterval));
+            }
+
             return tex;
 
         }
@@ -353,6 +394,58 @@ public class RexViewHandler
 
     }
 
+    /**
+     * Return the type explorer for the repository server, reusing the cached one if it has not expired.
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param methodName The name of the method being invoked
+     * @return the TypeExplorer object.
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    private TypeExplorer getCachedTypeExplorer(String    userId,
+                                               String    repositoryServerName,
+                                               String    platformName,
+                                               boolean   enterpriseOption,
+                                               String    methodName)
+    throws
+        RexViewServiceException
+
+    {
+        String platformRootURL = resolvePlatformRootURL(platformName, methodName);
+
+        CachedTypeExplorer cachedTypeExplorer = cachedTypeExplorers.get(getTypeExplorerCacheKey(repositoryServerName,
+                                                                                                 platformRootURL,
+                                                                                                 enterpriseOption));
+
+        if ((cachedTypeExplorer != null) && (cachedTypeExplorer.expiryTime > System.currentTimeMillis()))
+        {
+            return cachedTypeExplorer.typeExplorer;
+        }
+
+        return getTypeExplorer(userId, repositoryServerName, platformName, enterpriseOption, methodName);
+    }
+
+
+    /**
+     * Return the key for the cached type explorer of a repository server.
+     *
+     * @param serverName - name of the repository server
+     * @param serverRootURL - the root URL of the platform running the repository server
+     * @param enterpriseOption - whether the types are for the cohort or the server
+     * @return cache key
+     */
+    private String getTypeExplorerCacheKey(String  serverName,
+                                           String  serverRootURL,
+                                           boolean enterpriseOption)
+    {
+        return serverRootURL + "/servers/" + serverName + (enterpriseOption ? "/enterprise" : "/local");
+    }
+
+
     /**
      * Retrieve entity (by GUID) from the repository server
      * @param userId  userId under which the request is performed
@@ -407,11 +500,11 @@ public class RexViewHandler
 
             EntityDetail entityDetail = repositoryServicesClient.getEntityDetail(userId, entityGUID);
 
-            TypeExplorer typeExplorer = getTypeExplorer(userId,
-                                                        repositoryServerName,
-                                                        platformName,
-                                                        enterpriseOption,
-                                                        methodName);
+            TypeExplorer typeExplorer = getCachedTypeExplorer(userId,
+                                                              repositoryServerName,
+                                                              platformName,
+                                                              enterpriseOption,
+                                                              methodName);
 
             String label = this.chooseLabelForEntity(entityDetail, typeExplorer);
 
@@ -517,11 +610,11 @@ public class RexViewHandler
 
             // Create digests for both ends
 
-            TypeExplorer typeExplorer = getTypeExplorer(userId,
-                                                        repositoryServerName,
-                                                        platformName,
-                                                        enterpriseOption,
-                                                        methodName);
+            TypeExplorer typeExplorer = getCachedTypeExplorer(userId,
+                                                              repositoryServerName,
+                                                              platformName,
+                                                              enterpriseOption,
+                                                              methodName);
 
             EntityProxy entity1 = relationship.getEntityOneProxy();
             EntityProxy entity2 = relationship.getEntityTwoProxy();
@@ -644,11 +737,11 @@ public class RexViewHandler
             String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
 
 
-            TypeExplorer typeExplorer = getTypeExplorer(userId,
-                                                        repositoryServerName,
-                                                        platformName,
-                                                        enterpriseOption,
-                                                        methodName);
+            TypeExplorer typeExplorer = getCachedTypeExplorer(userId,
+                                                              repositoryServerName,
+                                                              platformName,
+                                                              enterpriseOption,
+                                                              methodName);
 
 
             String entityTypeGUID = typeExplorer.getEntityTypeGUID(entityTypeName);
@@ -800,11 +893,11 @@ public class RexViewHandler
             String metadataCollectionId = repositoryServicesClient.getMetadataCollectionId(userId);
 
 
-            TypeExplorer typeExplorer = getTypeExplorer(userId,
-                                                        repositoryServerName,
-                                                        platformName,
-                                                        enterpriseOption,
-                                                        methodName);
+            TypeExplorer typeExplorer = getCachedTypeExplorer(userId,
+                                                              repositoryServerName,
+                                                              platformName,
+                                                              enterpriseOption,
+                                                              methodName);
 
 
             String relationshipTypeGUID = typeExplorer.getRelationshipTypeGUID(relationshipTypeName);
@@ -992,11 +1085,11 @@ public class RexViewHandler
              * Because we will want to extract labels based on type we'll need to know the types supported by the repository...
              */
 
-            TypeExplorer typeExplorer = getTypeExplorer(userId,
-                                                        repositoryServerName,
-                                                        platformName,
-                                                        enterpriseOption,
-                                                        methodName);
+            TypeExplorer typeExplorer = getCachedTypeExplorer(userId,
+                                                              repositoryServerName,
+                                                              platformName,
+                                                              enterpriseOption,
+                                                              methodName);
 
             InstanceGraph instGraph = null;
 
@@ -1256,11 +1349,11 @@ public class RexViewHandler
              * Because we will want to extract labels based on type we'll need to know the types supported by the repository...
              */
 
-            TypeExplorer typeExplorer = getTypeExplorer(userId,
-                                                        repositoryServerName,
-                                                        platformName,
-                                                        enterpriseOption,
-                                                        methodName);
+            TypeExplorer typeExplorer = getCachedTypeExplorer(userId,
+                                                              repositoryServerName,
+                                                              platformName,
+                                                              enterpriseOption,
+                                                              methodName);
 
             InstanceGraph instGraph = null;
 
@@ -1502,7 +1595,7 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository.  The client is created on the first request to the server and then reused.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1525,7 +1618,19 @@ public class RexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        LocalRepositoryServicesClient client = localRepositoryServicesClients.get(restRootURL);
+
+        if (client == null)
+        {
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
+
+            LocalRepositoryServicesClient existingClient = localRepositoryServicesClients.putIfAbsent(restRootURL, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
@@ -1535,7 +1640,7 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation.  The client is created on the first request to the server and then reused.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1558,7 +1663,19 @@ public class RexViewHandler
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
         String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        EnterpriseRepositoryServicesClient client = enterpriseRepositoryServicesClients.get(restRootURL);
+
+        if (client == null)
+        {
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+
+            EnterpriseRepositoryServicesClient existingClient = enterpriseRepositoryServicesClients.putIfAbsent(restRootURL, client);
+
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
 
         return client;
     }
@@ -1896,4 +2013,27 @@ public class RexViewHandler
     }
 
 
+
+    /**
+     * A type explorer and the time when it should no longer be used.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final TypeExplorer typeExplorer;
+        private final long         expiryTime;
+
+
+        /**
+         * Constructor
+         *
+         * @param typeExplorer resolved type explorer
+         * @param expiryTime time in milliseconds when the types should be retrieved again
+         */
+        CachedTypeExplorer(TypeExplorer typeExplorer,
+                           long         expiryTime)
+        {
+            this.typeExplorer = typeExplorer;
+            this.expiryTime   = expiryTime;
+        }
+    }
 }
@@ -34,12 +34,14 @@ public class RexViewServicesInstance extends OMVSServiceInstance
      * @param localServerUserId userId used for server initiated actions
      * @param maxPageSize maximum page size
      * @param resourceEndpoints list of resource endpoint configuration objects
+     * @param typeExplorerCacheSeconds number of seconds that the type information from a repository server is reused
      */
     public RexViewServicesInstance(String                       serverName,
                                    AuditLog                     auditLog,
                                    String                       localServerUserId,
                                    int                          maxPageSize,
-                                   List<ResourceEndpointConfig> resourceEndpoints)
+                                   List<ResourceEndpointConfig> resourceEndpoints,
+                                   int                          typeExplorerCacheSeconds)
     {
 
 
@@ -53,7 +55,7 @@ public class RexViewServicesInstance extends OMVSServiceInstance
               null);  // .... and remoteServerURL.
 
 
-        this.rexViewHandler = new RexViewHandler(resourceEndpoints);
+        this.rexViewHandler = new RexViewHandler(resourceEndpoints, typeExplorerCacheSeconds);
     }
 
 